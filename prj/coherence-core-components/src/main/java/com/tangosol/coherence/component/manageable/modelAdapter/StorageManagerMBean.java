@@ -1,6 +1,6 @@
 
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -433,6 +433,42 @@ public class StorageManagerMBean
                 });
             }
         
+        // property WriteBehindBatchesInFlight
+            {
+            mapInfo.put("WriteBehindBatchesInFlight", new Object[]
+                {
+                "The number of write-behind batches that have been removed from the write-behind queue but not yet written to the CacheStore. This attribute is only applicable if asynchronous writes are enabled.",
+                "getWriteBehindBatchesInFlight",
+                null,
+                "I",
+                "rest.collector=sum,metrics.value=_default",
+                });
+            }
+        
+        // property WriteBehindQueueAgeMillis
+            {
+            mapInfo.put("WriteBehindQueueAgeMillis", new Object[]
+                {
+                "The age in milliseconds of the entry at the front of the write-behind queue. An age that keeps growing beyond the write-behind delay indicates that the CacheStore cannot keep up with the rate of updates. This attribute is only applicable if asynchronous writes are enabled.",
+                "getWriteBehindQueueAgeMillis",
+                null,
+                "J",
+                "rest.collector=max,metrics.value=_default",
+                });
+            }
+        
+        // property WriteBehindRetryRate
+            {
+            mapInfo.put("WriteBehindRetryRate", new Object[]
+                {
+                "The ratio of the number of entries requeued after a failed write-behind operation to the number of entries written to the CacheStore since the CacheStore statistics were last reset. This attribute is only applicable if asynchronous writes are enabled.",
+                "getWriteBehindRetryRate",
+                null,
+                "D",
+                "rest.collector=max,metrics.value=_default",
+                });
+            }
+        
         return mapInfo;
         }
     /**
@@ -858,6 +894,50 @@ public class StorageManagerMBean
         return null;
         }
     
+    // Accessor for the property "WriteBehindBatchesInFlight"
+    /**
+     * Getter for property WriteBehindBatchesInFlight.<p>
+    * The number of write-behind batches that have been removed from the
+    * write-behind queue but not yet written to the CacheStore. This attribute
+    * is only applicable if asynchronous writes are enabled.
+    * 
+    * @descriptor rest.collector=sum,metrics.value=_default
+     */
+    public int getWriteBehindBatchesInFlight()
+        {
+        return 0;
+        }
+    
+    // Accessor for the property "WriteBehindQueueAgeMillis"
+    /**
+     * Getter for property WriteBehindQueueAgeMillis.<p>
+    * The age in milliseconds of the entry at the front of the write-behind
+    * queue. An age that keeps growing beyond the write-behind delay indicates
+    * that the CacheStore cannot keep up with the rate of updates. This
+    * attribute is only applicable if asynchronous writes are enabled.
+    * 
+    * @descriptor rest.collector=max,metrics.value=_default
+     */
+    public long getWriteBehindQueueAgeMillis()
+        {
+        return 0L;
+        }
+    
+    // Accessor for the property "WriteBehindRetryRate"
+    /**
+     * Getter for property WriteBehindRetryRate.<p>
+    * The ratio of the number of entries requeued after a failed write-behind
+    * operation to the number of entries written to the CacheStore since the
+    * CacheStore statistics were last reset. This attribute is only applicable
+    * if asynchronous writes are enabled.
+    * 
+    * @descriptor rest.collector=max,metrics.value=_default
+     */
+    public double getWriteBehindRetryRate()
+        {
+        return 0.0;
+        }
+    
     /**
      * Reset the storage statistics.  This method does not reset the
     * EvictionCount, InsertCount or RemoveCount attributes.
@@ -1,6 +1,6 @@
 
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -16,6 +16,8 @@ import com.tangosol.coherence.component.util.daemon.queueProcessor.service.grid.
 import com.tangosol.internal.util.VersionHelper;
 
 import com.tangosol.net.NamedCache;
+
+import com.tangosol.net.cache.ReadWriteBackingMap;
 import com.tangosol.net.events.internal.StorageDispatcher;
 
 import com.tangosol.net.internal.PartitionSize;
@@ -691,6 +693,56 @@ public class StorageManagerModel
         return asInfo;
         }
     
+    // Accessor for the property "WriteBehindBatchesInFlight"
+    /**
+     * Getter for property WriteBehindBatchesInFlight.<p>
+    * The number of write-behind batches that have not been written to the
+    * CacheStore yet.
+     */
+    public int getWriteBehindBatchesInFlight()
+        {
+        ReadWriteBackingMap map = getReadWriteBackingMap();
+        return map == null ? 0 : map.getWriteBatchesInFlight();
+        }
+    
+    // Accessor for the property "WriteBehindQueueAgeMillis"
+    /**
+     * Getter for property WriteBehindQueueAgeMillis.<p>
+    * The age of the entry at the front of the write-behind queue.
+     */
+    public long getWriteBehindQueueAgeMillis()
+        {
+        ReadWriteBackingMap map = getReadWriteBackingMap();
+        return map == null ? 0L : map.getWriteQueueAgeMillis();
+        }
+    
+    // Accessor for the property "WriteBehindRetryRate"
+    /**
+     * Getter for property WriteBehindRetryRate.<p>
+    * The ratio of requeued entries to the entries written to the CacheStore.
+     */
+    public double getWriteBehindRetryRate()
+        {
+        ReadWriteBackingMap map = getReadWriteBackingMap();
+        return map == null || map.getCacheStore() == null
+               ? 0.0 : map.getCacheStore().getRequeueRate();
+        }
+    
+    /**
+     * Return the write-behind ReadWriteBackingMap of the associated cache.
+     *
+     * @return the ReadWriteBackingMap, or null if the backing map is not a
+     *         write-behind ReadWriteBackingMap
+     */
+    protected ReadWriteBackingMap getReadWriteBackingMap()
+        {
+        Storage storage = get_Storage();
+        Map     map     = storage == null ? null : storage.getBackingMapInternal();
+        
+        return map instanceof ReadWriteBackingMap && ((ReadWriteBackingMap) map).isWriteBehind()
+               ? (ReadWriteBackingMap) map : null;
+        }
+    
     // Declared at the super level
     /**
      * Must be supplemented at each specific Model implementation.
@@ -742,6 +794,14 @@ public class StorageManagerModel
             {
             mapSnapshot.put("ClearCount", ExternalizableHelper.readLong(in));
             }
+
+        // added in 26.04
+        if (ExternalizableHelper.isVersionCompatible(in, VersionHelper.VERSION_26_04))
+            {
+            mapSnapshot.put("WriteBehindBatchesInFlight", Base.makeInteger(ExternalizableHelper.readInt(in)));
+            mapSnapshot.put("WriteBehindQueueAgeMillis", Base.makeLong(ExternalizableHelper.readLong(in)));
+            mapSnapshot.put("WriteBehindRetryRate", Double.valueOf(in.readDouble()));
+            }
         }
     
     public void resetStatistics()
@@ -956,5 +1016,13 @@ public class StorageManagerModel
             {
             ExternalizableHelper.writeLong(out, getClearCount());
             }
+
+        // added in 26.04
+        if (ExternalizableHelper.isVersionCompatible(out, VersionHelper.VERSION_26_04))
+            {
+            ExternalizableHelper.writeInt(out, getWriteBehindBatchesInFlight());
+            ExternalizableHelper.writeLong(out, getWriteBehindQueueAgeMillis());
+            out.writeDouble(getWriteBehindRetryRate());
+            }
         }
     }
@@ -44,9 +44,13 @@ import com.tangosol.util.ThreadGateLite;
 
 import java.lang.reflect.Array;
 
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.Set;
 
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicStampedReference;
 import java.util.concurrent.locks.LockSupport;
@@ -274,6 +278,24 @@ public class DaemonPool
      * Flag indicating whether the pool-wide wake-up nudge is enabled.
      */
     private boolean __m_WakeupNudgeEnabled;
+
+    /**
+     * Property WorkerGroupSize
+     *
+     * The number of consecutive standard daemons that form a worker group.
+     * When work stealing is enabled, an idle daemon steals from the members
+     * of its own group before it steals from any other daemon.
+     */
+    private int __m_WorkerGroupSize;
+
+    /**
+     * Property WorkStealingEnabled
+     *
+     * Flag indicating whether non-associated tasks are placed on per-daemon
+     * deques that idle daemons are allowed to steal from, rather than on the
+     * shared WorkSlot queues.
+     */
+    private boolean __m_WorkStealingEnabled;
     
     /**
      * Property STATS_MONITOR
@@ -661,6 +683,15 @@ public class DaemonPool
             long   cAdded = taskWrapper.isManagementTask()
                 ? getStatsTaskAddCount().get()
                 : getStatsTaskAddCount().getAndIncrement();
+
+            // associated tasks must stay on the AssociationPile of their slot
+            // to preserve the per-association ordering; management tasks are
+            // bound to a specific queue
+            if (oAssoc == null && isWorkStealingEnabled() && !taskWrapper.isManagementTask()
+                && addToDeque(taskWrapper, (int) cAdded))
+                {
+                return;
+                }
         
             DaemonPool.WorkSlot slot = oAssoc == null
                 ? findMinBacklogSlot((int) cAdded)
@@ -678,6 +709,53 @@ public class DaemonPool
             }
         }
     
+    /**
+     * Place a non-associated task on the deque of one of the standard daemons,
+    * selected in a round-robin fashion, and wake up a daemon to process it.
+    * 
+    * @param task   the task to add
+    * @param iSeed  the seed used to select the daemon
+    * 
+    * @return false if the task could not be placed on any deque and should
+    * be added to a WorkSlot instead
+     */
+    protected boolean addToDeque(DaemonPool.WrapperTask task, int iSeed)
+        {
+        // import com.tangosol.util.Base;
+        // import java.util.Deque;
+        
+        DaemonPool.Daemon[] aDaemon  = getDaemons();
+        int                 cDaemons = aDaemon == null ? 0 : aDaemon.length;
+        if (cDaemons == 0)
+            {
+            return false;
+            }
+        
+        DaemonPool.Daemon daemon = aDaemon[Base.mod(iSeed, cDaemons)];
+        Deque             deque  = daemon.getDeque();
+        if (deque == null)
+            {
+            return false;
+            }
+        
+        deque.offerLast(task);
+        if (daemon.getDeque() != deque)
+            {
+            // the daemon has concurrently stopped or has been abandoned;
+            // re-route whatever is left (see #drainDeque)
+            drainDeque(deque);
+            return true;
+            }
+        
+        daemon.getNotifier().signal();
+        if (isWakeupNudgeEnabled() && cDaemons > 1)
+            {
+            // the selected daemon may be busy; let an idle one steal the task
+            nudgeIdleDaemon(daemon.getQueue());
+            }
+        return true;
+        }
+    
     /**
      * Check the running tasks to see if any are "hung", and update the stats
     * accordingly.
@@ -1033,6 +1111,25 @@ public class DaemonPool
         return null;
         }
 
+    /**
+     * Move all the tasks left on the specified (detached) daemon deque to the
+    * deques of the remaining daemons or, if there are none, to the WorkSlot
+    * queues.
+     */
+    protected void drainDeque(Deque deque)
+        {
+        // import java.util.concurrent.ThreadLocalRandom;
+        
+        for (Object oTask = deque.pollFirst(); oTask != null; oTask = deque.pollFirst())
+            {
+            DaemonPool.WrapperTask task = (DaemonPool.WrapperTask) oTask;
+            if (!addToDeque(task, ThreadLocalRandom.current().nextInt()))
+                {
+                findMinBacklogSlot(0).add(task);
+                }
+            }
+        }
+
     /**
      * Pop stale or ineligible idle daemons until one can be nudged or the
      * idle stack is exhausted.
@@ -1283,6 +1380,19 @@ public class DaemonPool
             cBacklog += aQueue[i].size();
             }
         
+        if (isWorkStealingEnabled())
+            {
+            DaemonPool.Daemon[] aDaemon = getDaemons();
+            for (int i = 0, c = aDaemon == null ? 0 : aDaemon.length; i < c; i++)
+                {
+                Deque deque = aDaemon[i].getDeque();
+                if (deque != null)
+                    {
+                    cBacklog += deque.size();
+                    }
+                }
+            }
+        
         synchronized (STATS_MONITOR)
             {
             if (cBacklog > getStatsMaxBacklog())
@@ -1812,6 +1922,11 @@ public class DaemonPool
                 sName = "Dedicated";
             case DAEMON_STANDARD:
                 int iDaemon = getDaemonIndex().getAndIncrement();
+                if (nType == DAEMON_STANDARD && isWorkStealingEnabled())
+                    {
+                    daemon.setDeque(new ConcurrentLinkedDeque());
+                    daemon.setWorkerGroup(iDaemon / Math.max(1, getWorkerGroupSize()));
+                    }
                 // a hex string indicates a dynamic daemon pool
                 sName += ':';
                 sName += isDynamic()
@@ -1975,6 +2090,30 @@ public class DaemonPool
         return __m_WakeupNudgeEnabled;
         }
 
+    // Accessor for the property "WorkerGroupSize"
+    /**
+     * Getter for property WorkerGroupSize.<p>
+    * The number of consecutive standard daemons that form a worker group.
+    * When work stealing is enabled, an idle daemon steals from the members of
+    * its own group before it steals from any other daemon.
+     */
+    public int getWorkerGroupSize()
+        {
+        return __m_WorkerGroupSize;
+        }
+
+    // Accessor for the property "WorkStealingEnabled"
+    /**
+     * Getter for property WorkStealingEnabled.<p>
+    * Flag indicating whether non-associated tasks are placed on per-daemon
+    * deques that idle daemons are allowed to steal from, rather than on the
+    * shared WorkSlot queues.
+     */
+    public boolean isWorkStealingEnabled()
+        {
+        return __m_WorkStealingEnabled;
+        }
+
     // Accessor for the property "Started"
     /**
      * Getter for property Started.<p>
@@ -2110,6 +2249,15 @@ public class DaemonPool
         deregisterIdleDaemon(daemon);
         setDaemons((DaemonPool.Daemon[]) copyOnRemove(getDaemons(), daemon));
         
+        Deque deque = daemon.getDeque();
+        if (deque != null)
+            {
+            // detach the deque first, so that any concurrent addToDeque()
+            // re-routes the task it has just placed
+            daemon.setDeque(null);
+            drainDeque(deque);
+            }
+        
         taskStop.scheduleNext();
         }
     
@@ -2173,6 +2321,9 @@ public class DaemonPool
 
         ensureIdleDaemonStack();
         setWakeupNudgeEnabled(Config.getBoolean("coherence.daemonpool.wakeup.nudge", true));
+        setWorkStealingEnabled(Config.getBoolean("coherence.daemonpool.stealing", false));
+        setWorkerGroupSize(Config.getInteger("coherence.daemonpool.stealing.group.size",
+                Runtime.getRuntime().availableProcessors()));
         
         super.onInit();
         
@@ -2228,6 +2379,12 @@ public class DaemonPool
                     daemonNew.start();
                     aDaemon[i] = daemonNew;
         
+                    Deque deque = daemonAbandon.getDeque();
+                    if (deque != null)
+                        {
+                        daemonAbandon.setDeque(null);
+                        drainDeque(deque);
+                        }
                     return;
                     }
                 }
@@ -2651,6 +2808,30 @@ public class DaemonPool
         {
         __m_WakeupNudgeEnabled = fEnabled;
         }
+
+    // Accessor for the property "WorkerGroupSize"
+    /**
+     * Setter for property WorkerGroupSize.<p>
+    * The number of consecutive standard daemons that form a worker group.
+    * When work stealing is enabled, an idle daemon steals from the members of
+    * its own group before it steals from any other daemon.
+     */
+    protected void setWorkerGroupSize(int cDaemons)
+        {
+        __m_WorkerGroupSize = Math.max(1, cDaemons);
+        }
+
+    // Accessor for the property "WorkStealingEnabled"
+    /**
+     * Setter for property WorkStealingEnabled.<p>
+    * Flag indicating whether non-associated tasks are placed on per-daemon
+    * deques that idle daemons are allowed to steal from, rather than on the
+    * shared WorkSlot queues.
+     */
+    protected void setWorkStealingEnabled(boolean fEnabled)
+        {
+        __m_WorkStealingEnabled = fEnabled;
+        }
     
     // Accessor for the property "StatsAbandonedCount"
     /**
@@ -3309,6 +3490,17 @@ public class DaemonPool
          * One of the $Module.DAEMON_* constants.
          */
         private int __m_DaemonType;
+
+        /**
+         * Property Deque
+         *
+         * The deque of non-associated tasks assigned to this Daemon when the
+         * work stealing is enabled; null otherwise. Other daemons steal from
+         * it when their own work is exhausted.
+         * 
+         * @volatile
+         */
+        private volatile transient java.util.Deque __m_Deque;
         
         /**
          * Property FlushStats
@@ -3364,6 +3556,14 @@ public class DaemonPool
          */
         private volatile transient DaemonPool.WrapperTask __m_WrapperTask;
 
+        /**
+         * Property WorkerGroup
+         *
+         * The worker group this Daemon belongs to; idle daemons steal from
+         * the members of their own group first.
+         */
+        private int __m_WorkerGroup;
+
         /**
          * Wake-up state indicating the daemon is registered with the pool-wide
          * nudge mechanism.
@@ -3619,6 +3819,20 @@ public class DaemonPool
             return __m_DaemonType;
             }
         
+        // Accessor for the property "Deque"
+        /**
+         * Getter for property Deque.<p>
+        * The deque of non-associated tasks assigned to this Daemon when the
+        * work stealing is enabled; null otherwise. Other daemons steal from it
+        * when their own work is exhausted.
+        * 
+        * @volatile
+         */
+        public java.util.Deque getDeque()
+            {
+            return __m_Deque;
+            }
+        
         // Accessor for the property "InterruptCount"
         /**
          * Getter for property InterruptCount.<p>
@@ -3691,6 +3905,17 @@ public class DaemonPool
             {
             return __m_WrapperTask;
             }
+        
+        // Accessor for the property "WorkerGroup"
+        /**
+         * Getter for property WorkerGroup.<p>
+        * The worker group this Daemon belongs to; idle daemons steal from the
+        * members of their own group first.
+         */
+        public int getWorkerGroup()
+            {
+            return __m_WorkerGroup;
+            }
 
         /**
          * Clear this daemon's parked state when leaving {@link #onWait()}.
@@ -4016,7 +4241,9 @@ public class DaemonPool
                     // Note: we don't collect any stats for a "single task" daemon
                     if (!fOnce)
                         {
-                        wrapper = removeFromQueue();
+                        wrapper = getDeque() == null
+                                ? removeFromQueue()
+                                : removeFromLocal((cTasks & 1) == 0);
                         if (wrapper == null)
                             {
                             wrapper = removeFromAnotherQueue();
@@ -4231,6 +4458,74 @@ public class DaemonPool
             return null;
             }
         
+        /**
+         * Check the queue and the deque of this Daemon for any outstanding
+        * jobs and, if there are none, try to steal a job from another daemon's
+        * deque.
+        * 
+        * @param fQueueFirst  true if the queue should be checked before the
+        * deque; alternating the order prevents either of them from being
+        * starved
+         */
+        protected DaemonPool.WrapperTask removeFromLocal(boolean fQueueFirst)
+            {
+            DaemonPool.WrapperTask wrapper = fQueueFirst ? removeFromQueue() : null;
+            if (wrapper == null)
+                {
+                Deque deque = getDeque();
+                if (deque != null)
+                    {
+                    wrapper = (DaemonPool.WrapperTask) deque.pollFirst();
+                    }
+                if (wrapper == null && !fQueueFirst)
+                    {
+                    wrapper = removeFromQueue();
+                    }
+                if (wrapper == null)
+                    {
+                    wrapper = stealFromDeque();
+                    }
+                }
+            return wrapper;
+            }
+        
+        /**
+         * Steal the oldest job from the deque of another daemon, preferring
+        * the daemons of the same worker group.
+         */
+        protected DaemonPool.WrapperTask stealFromDeque()
+            {
+            // import java.util.concurrent.ThreadLocalRandom;
+            
+            DaemonPool          pool     = (DaemonPool) get_Parent();
+            DaemonPool.Daemon[] aDaemon  = pool.getDaemons();
+            int                 cDaemons = aDaemon == null ? 0 : aDaemon.length;
+            int                 iGroup   = getWorkerGroup();
+            int                 iStart   = cDaemons <= 1 ? 0 : ThreadLocalRandom.current().nextInt(cDaemons);
+            
+            // first pass: the same worker group; second pass: everybody else
+            for (int iPass = 0; iPass < 2; iPass++)
+                {
+                for (int i = 0; i < cDaemons; i++)
+                    {
+                    DaemonPool.Daemon daemon = aDaemon[(iStart + i) % cDaemons];
+                    if (daemon != this && (daemon.getWorkerGroup() == iGroup) == (iPass == 0))
+                        {
+                        Deque deque = daemon.getDeque();
+                        if (deque != null)
+                            {
+                            DaemonPool.WrapperTask wrapper = (DaemonPool.WrapperTask) deque.pollFirst();
+                            if (wrapper != null)
+                                {
+                                return wrapper;
+                                }
+                            }
+                        }
+                    }
+                }
+            return null;
+            }
+        
         /**
          * Check the queue handled by this Daemon for any outstanding jobs.
          */
@@ -4259,6 +4554,20 @@ public class DaemonPool
             __m_DaemonType = nType;
             }
         
+        // Accessor for the property "Deque"
+        /**
+         * Setter for property Deque.<p>
+        * The deque of non-associated tasks assigned to this Daemon when the
+        * work stealing is enabled; null otherwise. Other daemons steal from it
+        * when their own work is exhausted.
+        * 
+        * @volatile
+         */
+        public void setDeque(java.util.Deque deque)
+            {
+            __m_Deque = deque;
+            }
+        
         // Accessor for the property "FlushStats"
         /**
          * Setter for property FlushStats.<p>
@@ -4331,6 +4640,17 @@ public class DaemonPool
                }
             }
         
+        // Accessor for the property "WorkerGroup"
+        /**
+         * Setter for property WorkerGroup.<p>
+        * The worker group this Daemon belongs to; idle daemons steal from the
+        * members of their own group first.
+         */
+        public void setWorkerGroup(int iGroup)
+            {
+            __m_WorkerGroup = iGroup;
+            }
+        
         // Accessor for the property "WrapperTask"
         /**
          * Setter for property WrapperTask.<p>
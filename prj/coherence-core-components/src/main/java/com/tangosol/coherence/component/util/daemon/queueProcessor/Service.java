@@ -19,6 +19,7 @@ import com.oracle.coherence.common.base.SingleWaiterCooperativeNotifier;
 import com.tangosol.coherence.config.Config;
 import com.tangosol.internal.net.service.DefaultServiceDependencies;
 import com.tangosol.internal.util.DaemonPoolSizing;
+import com.tangosol.internal.util.VirtualThreadPinningMonitor;
 import com.tangosol.internal.util.VirtualThreads;
 import com.tangosol.internal.tracing.Scope;
 import com.tangosol.internal.tracing.Span;
@@ -3559,10 +3560,17 @@ public abstract class Service
     // ---- class: com.tangosol.coherence.component.util.daemon.queueProcessor.Service$VirtualDaemonPool
 
     /**
-     * A virtual-thread worker-pool prototype. Phase 1 initially uses this
-     * class as the configuration and lifecycle seam before the keyed mailbox
-     * and direct-dispatch execution model fully replaces the inherited
-     * platform-pool behavior.
+     * A virtual-thread worker pool that runs each task on its own virtual
+     * thread. Unassociated tasks are dispatched directly, while associated
+     * tasks are drained in order from a keyed mailbox.
+     * 
+     * When the coherence.daemonpool.virtual.pinned.detection property is
+     * set, tasks that block while pinned to their carrier thread are detected
+     * via the VirtualThreadPinningMonitor. Once a task type has been observed
+     * pinning, the concurrent execution of that type is limited to the
+     * CarrierLimit, so that pinned tasks can never occupy all the carrier
+     * threads and stall the rest of the service. The limit is lifted once the
+     * type has not been observed pinning for the PinnedTaskExpiry.
      */
     @SuppressWarnings({"deprecation", "rawtypes", "unused", "unchecked", "ConstantConditions", "DuplicatedCode", "ForLoopReplaceableByForEach", "IfCanBeSwitch", "RedundantArrayCreation", "RedundantSuppression", "SameParameterValue", "TryFinallyCanBeTryWithResources", "TryWithIdenticalCatches", "UnnecessaryBoxing", "UnnecessaryUnboxing", "UnusedAssignment"})
     public static class VirtualDaemonPool
@@ -3639,6 +3647,61 @@ public abstract class Service
          */
         private transient java.util.concurrent.atomic.AtomicLong __m_MailboxBurstTaskCount;
 
+        /**
+         * Property CarrierLimit
+         *
+         * The maximum number of concurrently executing tasks of a type that
+         * has been observed pinning its carrier thread; zero if unlimited.
+         */
+        private transient int __m_CarrierLimit;
+
+        /**
+         * Property CarrierPermits
+         *
+         * Optional semaphore enforcing the CarrierLimit.
+         */
+        private transient java.util.concurrent.Semaphore __m_CarrierPermits;
+
+        /**
+         * Property PinnedTaskCount
+         *
+         * The number of tasks observed blocking while pinned to their carrier
+         * thread.
+         */
+        private transient java.util.concurrent.atomic.AtomicLong __m_PinnedTaskCount;
+
+        /**
+         * Property PinnedTaskExpiry
+         *
+         * The number of milliseconds after which a task type that has not
+         * been observed pinning again is no longer limited to the
+         * CarrierLimit; zero if the task types never expire.
+         */
+        private transient long __m_PinnedTaskExpiry;
+
+        /**
+         * Property PinnedTaskTimes
+         *
+         * The time a task was last observed pinning, keyed by the request-type
+         * label of the task types limited to the CarrierLimit.
+         */
+        private transient java.util.concurrent.ConcurrentHashMap __m_PinnedTaskTimes;
+
+        /**
+         * Property PinnedTaskTypes
+         *
+         * The number of pinned tasks keyed by the request-type label.
+         */
+        private transient java.util.concurrent.ConcurrentHashMap __m_PinnedTaskTypes;
+
+        /**
+         * Property PinningListener
+         *
+         * The listener registered with the VirtualThreadPinningMonitor, or
+         * null if the pinned-thread detection is disabled.
+         */
+        private transient VirtualThreadPinningMonitor.Listener __m_PinningListener;
+
         /**
          * Property TaskLimit
          *
@@ -3943,6 +4006,65 @@ public abstract class Service
             return __m_MailboxBurstTaskCount;
             }
 
+        /**
+         * Return the maximum number of concurrently executing tasks of a type
+         * that has been observed pinning its carrier thread.
+         */
+        public int getCarrierLimit()
+            {
+            return __m_CarrierLimit;
+            }
+
+        /**
+         * Return the optional semaphore enforcing the CarrierLimit.
+         */
+        protected java.util.concurrent.Semaphore getCarrierPermits()
+            {
+            return __m_CarrierPermits;
+            }
+
+        /**
+         * Return the number of tasks observed blocking while pinned.
+         */
+        protected java.util.concurrent.atomic.AtomicLong getPinnedTaskCount()
+            {
+            return __m_PinnedTaskCount;
+            }
+
+        /**
+         * Return the number of milliseconds after which a pinning task type is
+         * no longer limited to the CarrierLimit.
+         */
+        public long getPinnedTaskExpiry()
+            {
+            return __m_PinnedTaskExpiry;
+            }
+
+        /**
+         * Return the time a task was last observed pinning, keyed by the
+         * request-type label.
+         */
+        protected java.util.concurrent.ConcurrentHashMap getPinnedTaskTimes()
+            {
+            return __m_PinnedTaskTimes;
+            }
+
+        /**
+         * Return the number of pinned tasks keyed by the request-type label.
+         */
+        protected java.util.concurrent.ConcurrentHashMap getPinnedTaskTypes()
+            {
+            return __m_PinnedTaskTypes;
+            }
+
+        /**
+         * Return the listener registered with the VirtualThreadPinningMonitor.
+         */
+        protected VirtualThreadPinningMonitor.Listener getPinningListener()
+            {
+            return __m_PinningListener;
+            }
+
         /**
          * Return the optional execution semaphore.
          */
@@ -4123,6 +4245,158 @@ public abstract class Service
                 }
             }
 
+        /**
+         * Acquire a carrier permit if the type of the specified task has been
+         * observed pinning its carrier thread.
+         * 
+         * The carrier permit is acquired before the task permit, so that the
+         * tasks waiting for a carrier thread do not hold any of the TaskLimit
+         * permits needed by the tasks of the other types.
+         *
+         * @return the semaphore the permit was acquired from, or null if no
+         *         permit was needed
+         */
+        protected java.util.concurrent.Semaphore acquireCarrierPermit(com.tangosol.coherence.component.util.DaemonPool.WrapperTask wrapper)
+                throws InterruptedException
+            {
+            java.util.concurrent.Semaphore permits = getCarrierPermits();
+            if (permits == null
+                    || !isPinnedTaskType(taskTypeOf(wrapper.getTask().getClass()))
+                    || !VirtualThreads.isVirtual(Thread.currentThread()))
+                {
+                return null;
+                }
+
+            permits.acquire();
+            return permits;
+            }
+
+        /**
+         * Return true if the specified task type has been observed pinning its
+         * carrier thread within the PinnedTaskExpiry.
+         */
+        protected boolean isPinnedTaskType(String sType)
+            {
+            java.util.concurrent.ConcurrentHashMap mapTimes = getPinnedTaskTimes();
+            if (mapTimes == null || mapTimes.isEmpty())
+                {
+                return false;
+                }
+
+            Long LdtPinned = (Long) mapTimes.get(sType);
+            if (LdtPinned == null)
+                {
+                return false;
+                }
+
+            long cExpiry = getPinnedTaskExpiry();
+            if (cExpiry > 0L && Base.getSafeTimeMillis() - LdtPinned.longValue() > cExpiry)
+                {
+                if (mapTimes.remove(sType, LdtPinned))
+                    {
+                    _trace("VirtualDaemonPool \"" + getName() + "\": " + sType
+                            + " tasks have not been pinned for " + cExpiry
+                            + "ms; no longer limiting them to the carrier limit", 3);
+                    }
+                return false;
+                }
+            return true;
+            }
+
+        /**
+         * Stop limiting the task types that have been observed pinning their
+         * carrier thread to the CarrierLimit, until they are observed pinning
+         * again.
+         */
+        public void resetPinnedTaskTypes()
+            {
+            java.util.concurrent.ConcurrentHashMap mapTimes = getPinnedTaskTimes();
+            if (mapTimes != null)
+                {
+                mapTimes.clear();
+                }
+            }
+
+        /**
+         * Return the number of carrier threads used by the virtual-thread
+         * scheduler.
+         */
+        protected static int getCarrierParallelism()
+            {
+            return Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+                    Runtime.getRuntime().availableProcessors());
+            }
+
+        /**
+         * Called by the VirtualThreadPinningMonitor when one of this pool's
+         * virtual threads blocked while pinned to its carrier thread.
+         */
+        protected void onTaskPinned(VirtualThreadPinningMonitor.PinnedEvent event)
+            {
+            java.util.concurrent.atomic.AtomicLong cPinned  = getPinnedTaskCount();
+            java.util.concurrent.ConcurrentHashMap mapTypes = getPinnedTaskTypes();
+            java.util.concurrent.ConcurrentHashMap mapTimes = getPinnedTaskTimes();
+            if (cPinned == null || mapTypes == null || mapTimes == null)
+                {
+                return;
+                }
+
+            String sType = parseTaskType(event.getThreadName());
+            cPinned.incrementAndGet();
+
+            java.util.concurrent.atomic.AtomicLong cType = (java.util.concurrent.atomic.AtomicLong)
+                    mapTypes.computeIfAbsent(sType, k -> new java.util.concurrent.atomic.AtomicLong());
+            cType.incrementAndGet();
+
+            if (mapTimes.put(sType, Long.valueOf(Base.getSafeTimeMillis())) == null)
+                {
+                _trace("VirtualDaemonPool \"" + getName() + "\": " + sType
+                        + " task blocked for " + event.getDuration().toMillis()
+                        + "ms while pinned to its carrier thread"
+                        + (getCarrierPermits() == null
+                           ? ""
+                           : "; limiting concurrent " + sType + " tasks to " + getCarrierLimit())
+                        + ": " + event, 2);
+                }
+            else
+                {
+                _trace(event.toString(), 6);
+                }
+            }
+
+        /**
+         * Extract the request-type label from the name of a pool's virtual
+         * thread.
+         */
+        protected String parseTaskType(String sThread)
+            {
+            String sPrefix = formatVirtualThreadName("");
+            if (sThread != null && sThread.startsWith(sPrefix))
+                {
+                // D:<type>:<id>, A:<type>:<id> or M:<id>:<type>:<id>
+                String[] asRole = sThread.substring(sPrefix.length()).split(":");
+                int      iType  = asRole.length > 0 && "M".equals(asRole[0]) ? 2 : 1;
+                if (asRole.length > iType)
+                    {
+                    return asRole[iType];
+                    }
+                }
+            return "Unknown";
+            }
+
+        /**
+         * Log the pinned task statistics, if any task was pinned.
+         */
+        protected void logPinnedTaskStats()
+            {
+            java.util.concurrent.atomic.AtomicLong cPinned = getPinnedTaskCount();
+            if (cPinned != null && cPinned.get() > 0L)
+                {
+                _trace("VirtualDaemonPool \"" + getName() + "\" pinned-thread stats: pinned="
+                        + cPinned.get() + ", types=" + getPinnedTaskTypes(), 2);
+                }
+            }
+
         // Declared at the super level
         /**
          * Factory method: create a new WrapperTask component.
@@ -4453,6 +4727,8 @@ public abstract class Service
             boolean fFlush  = false;
             boolean fLocked = false;
             boolean fPermit = false;
+
+            java.util.concurrent.Semaphore permitsCarrier = null;
             try
                 {
                 if (lock != null)
@@ -4461,6 +4737,8 @@ public abstract class Service
                     fLocked = true;
                     }
 
+                permitsCarrier = acquireCarrierPermit(wrapper);
+
                 if (!acquireTaskPermit())
                     {
                     return;
@@ -4508,6 +4786,11 @@ public abstract class Service
                     releaseTaskPermit();
                     }
 
+                if (permitsCarrier != null)
+                    {
+                    permitsCarrier.release();
+                    }
+
                 if (fLocked)
                     {
                     lock.unlock();
@@ -4642,6 +4925,66 @@ public abstract class Service
             __m_MailboxBurstTaskCount = counter;
             }
 
+        /**
+         * Set the maximum number of concurrently executing tasks of a type
+         * that has been observed pinning its carrier thread.
+         */
+        protected void setCarrierLimit(int cLimit)
+            {
+            __m_CarrierLimit = cLimit;
+            }
+
+        /**
+         * Set the optional semaphore enforcing the CarrierLimit.
+         */
+        protected void setCarrierPermits(java.util.concurrent.Semaphore permits)
+            {
+            __m_CarrierPermits = permits;
+            }
+
+        /**
+         * Set the pinned task counter.
+         */
+        protected void setPinnedTaskCount(java.util.concurrent.atomic.AtomicLong counter)
+            {
+            __m_PinnedTaskCount = counter;
+            }
+
+        /**
+         * Set the number of milliseconds after which a pinning task type is no
+         * longer limited to the CarrierLimit; zero if the task types never
+         * expire.
+         */
+        public void setPinnedTaskExpiry(long cMillis)
+            {
+            __m_PinnedTaskExpiry = cMillis;
+            }
+
+        /**
+         * Set the time a task was last observed pinning keyed by the
+         * request-type label.
+         */
+        protected void setPinnedTaskTimes(java.util.concurrent.ConcurrentHashMap mapTimes)
+            {
+            __m_PinnedTaskTimes = mapTimes;
+            }
+
+        /**
+         * Set the pinned task counters keyed by the request-type label.
+         */
+        protected void setPinnedTaskTypes(java.util.concurrent.ConcurrentHashMap mapTypes)
+            {
+            __m_PinnedTaskTypes = mapTypes;
+            }
+
+        /**
+         * Set the listener registered with the VirtualThreadPinningMonitor.
+         */
+        protected void setPinningListener(VirtualThreadPinningMonitor.Listener listener)
+            {
+            __m_PinningListener = listener;
+            }
+
         /**
          * Set the optional execution semaphore.
          */
@@ -4693,6 +5036,23 @@ public abstract class Service
                     setMailboxBurstTaskCount(new java.util.concurrent.atomic.AtomicLong());
                     }
                 setTaskPermits(getTaskLimit() > 0 ? new ReducibleSemaphore(getTaskLimit()) : null);
+
+                int cCarrierLimit = Config.getInteger("coherence.daemonpool.virtual.carrier.limit",
+                        Math.max(1, getCarrierParallelism() - 1));
+                setCarrierLimit(Math.max(0, cCarrierLimit));
+                setCarrierPermits(cCarrierLimit > 0 ? new java.util.concurrent.Semaphore(cCarrierLimit) : null);
+                setPinnedTaskCount(new java.util.concurrent.atomic.AtomicLong());
+                setPinnedTaskTypes(new java.util.concurrent.ConcurrentHashMap());
+                setPinnedTaskTimes(new java.util.concurrent.ConcurrentHashMap());
+                setPinnedTaskExpiry(Math.max(0L, Config.getDuration("coherence.daemonpool.virtual.pinned.expiry",
+                        new com.oracle.coherence.common.util.Duration(5, com.oracle.coherence.common.util.Duration.Magnitude.MINUTE))
+                        .as(com.oracle.coherence.common.util.Duration.Magnitude.MILLI)));
+                if (Config.getBoolean("coherence.daemonpool.virtual.pinned.detection", false))
+                    {
+                    VirtualThreadPinningMonitor.Listener listener = this::onTaskPinned;
+                    setPinningListener(listener);
+                    VirtualThreadPinningMonitor.register(formatVirtualThreadName(""), listener);
+                    }
                 setThreads(java.util.Collections.newSetFromMap(new java.util.concurrent.ConcurrentHashMap()));
                 setDaemons(new Service.DaemonPool.Daemon[0]);
                 setQueues(null);
@@ -4702,6 +5062,8 @@ public abstract class Service
                 _trace("Started VirtualDaemonPool \"" + getName()
                     + "\": [TaskLimit=" + (getTaskLimit() > 0 ? String.valueOf(getTaskLimit()) : "unlimited")
                     + ", FlushPolicy=" + flushPolicyName(getCooperativeNotifierFlushPolicy())
+                    + ", CarrierLimit=" + (getCarrierLimit() > 0 ? String.valueOf(getCarrierLimit()) : "unlimited")
+                    + ", PinnedDetection=" + VirtualThreadPinningMonitor.isActive()
                     + ']', 4);
                 }
             }
@@ -4982,7 +5344,15 @@ public abstract class Service
                     ((Thread) iter.next()).interrupt();
                     }
 
+                VirtualThreadPinningMonitor.Listener listener = getPinningListener();
+                if (listener != null)
+                    {
+                    VirtualThreadPinningMonitor.unregister(formatVirtualThreadName(""), listener);
+                    setPinningListener(null);
+                    }
+
                 logMailboxBurstStats();
+                logPinnedTaskStats();
                 getThreads().clear();
                 getKeyedMailboxes().clear();
                 getBacklogCount().set(0);
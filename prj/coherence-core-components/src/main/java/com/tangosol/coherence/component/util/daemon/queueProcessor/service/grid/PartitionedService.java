@@ -5552,7 +5552,8 @@ public abstract class PartitionedService
         msgResponse.respondTo(msgRequest);
         msgResponse.setValue(
             isVersionCompatible(msgRequest.getFromMember(), 21, 6, 0)
-                ? new Object[] {partsFailed, partsFailedEvents}
+                ? new Object[] {partsFailed, partsFailedEvents,
+                        new long[] {info.getRecoveredPartitionCount(), info.getRecoveredEntryCount()}}
                 : (Object) partsFailed);
         
         if (mapConfig != null && !mapConfig.isEmpty())
@@ -5576,7 +5577,11 @@ public abstract class PartitionedService
             //       See $PartitionRecoverRequest$Poll#onCompletion
             putPartitionConfig(mapConfig);
         
-            _trace("Recovered " + partsRecovered + " from " + (fSnapshot ? "snapshot" : "active") + " persistent store", 3);
+            long cEntries = info.getRecoveredEntryCount();
+            long cMillis  = Math.max(1L, Base.getSafeTimeMillis() - info.getStartTime());
+            _trace("Recovered " + partsRecovered + " (" + cEntries + " entries in " + cMillis + "ms, "
+                   + (cEntries * 1000L / cMillis) + " entries/sec) from "
+                   + (fSnapshot ? "snapshot" : "active") + " persistent store", 3);
            }
         
         // post any requests created during recovery
@@ -8477,6 +8482,7 @@ public abstract class PartitionedService
         
                         // add the now-recovered partition to the partition-config update
                         partsRecovered.add(nPartition);
+                        info.onPartitionRecovered(getPartitionControl(nPartition).getRecoveredEntries());
         
                         // we shouldn't have any backups yet; but conceptually:
                         // doSyncBackups();
@@ -21300,6 +21306,14 @@ public abstract class PartitionedService
          */
         private boolean __m_Recovered;
         
+        /**
+         * Property RecoveredEntries
+         *
+         * The number of entries recovered from the PersistentStore during the
+         * most recent recovery of this partition.
+         */
+        private long __m_RecoveredEntries;
+        
         /**
          * Property STATE_MASK_LOCK
          *
@@ -22601,6 +22615,17 @@ public abstract class PartitionedService
             return __m_Recovered;
             }
         
+        // Accessor for the property "RecoveredEntries"
+        /**
+         * Getter for property RecoveredEntries.<p>
+        * The number of entries recovered from the PersistentStore during the
+        * most recent recovery of this partition.
+         */
+        public long getRecoveredEntries()
+            {
+            return __m_RecoveredEntries;
+            }
+        
         // Accessor for the property "Recovering"
         /**
          * Getter for property Recovering.<p>
@@ -23166,6 +23191,17 @@ public abstract class PartitionedService
             __m_Recovered = fRecovered;
             }
         
+        // Accessor for the property "RecoveredEntries"
+        /**
+         * Setter for property RecoveredEntries.<p>
+        * The number of entries recovered from the PersistentStore during the
+        * most recent recovery of this partition.
+         */
+        public void setRecoveredEntries(long cEntries)
+            {
+            __m_RecoveredEntries = cEntries;
+            }
+        
         // Accessor for the property "Statistics"
         /**
          * Setter for property Statistics.<p>
@@ -24427,21 +24463,19 @@ public abstract class PartitionedService
             // import com.oracle.coherence.persistence.PersistenceManager;
             // import com.tangosol.coherence.config.Config;
             // import com.tangosol.net.internal.PartitionRecoverInfo;
-            // import com.tangosol.persistence.GUIDHelper;
             // import com.tangosol.util.LongArray;
             // import com.tangosol.util.SparseArray;
             // import java.util.ArrayList;
             // import java.util.Collections;
             // import java.util.concurrent.atomic.AtomicInteger;
             // import java.util.Iterator;
+            // import java.util.List;
             // import java.util.Map;
 
             PartitionedService   service = (PartitionedService) getService();
             String[]  asGUIDs = getGUIDs();
-            int       cGUIDs  = asGUIDs.length;                                    
             int       cFair   = Config.getInteger("coherence.distributed.persistence.recover.threads",
                                        Platform.getPlatform().getFairShareProcessors() + 2).intValue();
-            int       cBatch  = cGUIDs / cFair + 1;
             LongArray laJob   = new SparseArray();
             
             // lock & (locally) own all partitions that will be recovered or assigned
@@ -24456,24 +24490,14 @@ public abstract class PartitionedService
                     service.instantiatePartitionSet(false),
                     service.instantiatePartitionSet(false));
             
-            for (int i = 0; i < cGUIDs; i++)
+            List listStripes = stripeStores(asGUIDs, mapUpdate, cFair);
+            for (int i = 0, c = listStripes.size(); i < c; i++)
                 {
-                String      sGUID      = asGUIDs[i];
-                int         nPartition = GUIDHelper.getPartition(sGUID);
-                if (mapUpdate.containsKey(nPartition))
-                    {
-                    int nBatch = i / cBatch;
-                    PartitionedService.PartitionRecoverRequest.RecoverJob job = (PartitionedService.PartitionRecoverRequest.RecoverJob) laJob.get(nBatch);
-                    if (job == null)
-                        {
-                        job = new PartitionedService.PartitionRecoverRequest.RecoverJob();
-                        job.setListGUID(new ArrayList());
-                        job.setService(service);
-                        job.setRecoverInfo(info);
-                        laJob.set(nBatch, job);
-                        }
-                    job.getListGUID().add(sGUID);
-                    }
+                PartitionedService.PartitionRecoverRequest.RecoverJob job = new PartitionedService.PartitionRecoverRequest.RecoverJob();
+                job.setListGUID((List) listStripes.get(i));
+                job.setService(service);
+                job.setRecoverInfo(info);
+                laJob.set(i, job);
                 }
             
             if (laJob.isEmpty())
@@ -24496,6 +24520,49 @@ public abstract class PartitionedService
                 }
             }
         
+        /**
+         * Stripe the stores to recover across at most the specified number of
+        * jobs, rather than splitting them into contiguous ranges, so that
+        * every worker opens and replays a similar mix of stores and all of
+        * the jobs complete at about the same time.
+        * 
+        * @param asGUIDs    the GUIDs of the stores
+        * @param mapUpdate  the partitions to recover, keyed by partition
+        * @param cMaxJobs   the maximum number of jobs
+        * 
+        * @return a List of the GUID Lists of each job; empty if none of the
+        * stores need to be recovered
+         */
+        protected static java.util.List stripeStores(String[] asGUIDs, java.util.Map mapUpdate, int cMaxJobs)
+            {
+            // import com.tangosol.persistence.GUIDHelper;
+            // import java.util.ArrayList;
+            // import java.util.List;
+            
+            List listStores = new ArrayList();
+            for (int i = 0, c = asGUIDs.length; i < c; i++)
+                {
+                if (mapUpdate.containsKey(GUIDHelper.getPartition(asGUIDs[i])))
+                    {
+                    listStores.add(asGUIDs[i]);
+                    }
+                }
+            
+            int  cStores     = listStores.size();
+            int  cJobs       = Math.max(1, Math.min(cMaxJobs, cStores));
+            List listStripes = new ArrayList(cJobs);
+            for (int i = 0; i < cStores; i++)
+                {
+                int nJob = i % cJobs;
+                if (nJob == listStripes.size())
+                    {
+                    listStripes.add(new ArrayList());
+                    }
+                ((List) listStripes.get(nJob)).add(listStores.get(i));
+                }
+            return listStripes;
+            }
+        
         // Accessor for the property "EventsPartsFailed"
         /**
          * Setter for property EventsPartsFailed.<p>
@@ -24826,6 +24893,9 @@ public abstract class PartitionedService
                 
                     partsRecovered    = (PartitionSet) aoResult[0];
                     partsFailedEvents = (PartitionSet) aoResult[1];
+                
+                    ((PartitionedService) getService()).getPersistenceControl().getSnapshotController()
+                            .onRecoveryResponse(aoResult);
                     }
                 else
                     {
@@ -28413,6 +28483,56 @@ public abstract class PartitionedService
              */
             private volatile long  __m_SnapshotFailuresExpire;
 
+            /**
+             * Property RecoveryPartitionCount
+             *
+             * The number of partitions being recovered by the current (or the
+             * most recent) recovery.
+             * 
+             * @volatile
+             */
+            private volatile int __m_RecoveryPartitionCount;
+
+            /**
+             * Property RecoveredPartitionCount
+             *
+             * The number of partitions recovered by the current (or the most
+             * recent) recovery, as reported by the recovering members.
+             * 
+             * @volatile
+             */
+            private volatile int __m_RecoveredPartitionCount;
+
+            /**
+             * Property RecoveredEntryCount
+             *
+             * The number of entries recovered by the current (or the most
+             * recent) recovery, as reported by the recovering members.
+             * 
+             * @volatile
+             */
+            private volatile long __m_RecoveredEntryCount;
+
+            /**
+             * Property RecoveryStartTime
+             *
+             * The time (in millis) the current (or the most recent) recovery
+             * was started at.
+             * 
+             * @volatile
+             */
+            private volatile long __m_RecoveryStartTime;
+
+            /**
+             * Property RecoveryEndTime
+             *
+             * The time (in millis) the most recent recovery completed at, or
+             * zero if the recovery is in progress.
+             * 
+             * @volatile
+             */
+            private volatile long __m_RecoveryEndTime;
+
             /**
              * Property State
              *
@@ -28959,6 +29079,67 @@ public abstract class PartitionedService
                     }
                 }
             
+            // From interface: com.tangosol.persistence.PersistenceManagerMBean
+            // Accessor for the property "RecoveredEntryCount"
+            /**
+             * Getter for property RecoveredEntryCount.<p>
+            * The number of entries recovered by the current (or the most
+            * recent) recovery, as reported by the recovering members.
+             */
+            public long getRecoveredEntryCount()
+                {
+                return __m_RecoveredEntryCount;
+                }
+            
+            // From interface: com.tangosol.persistence.PersistenceManagerMBean
+            // Accessor for the property "RecoveredPartitionCount"
+            /**
+             * Getter for property RecoveredPartitionCount.<p>
+            * The number of partitions recovered by the current (or the most
+            * recent) recovery, as reported by the recovering members.
+             */
+            public int getRecoveredPartitionCount()
+                {
+                return __m_RecoveredPartitionCount;
+                }
+            
+            // From interface: com.tangosol.persistence.PersistenceManagerMBean
+            /**
+             * Return the elapsed time (in millis) of the current (or the most
+            * recent) recovery.
+             */
+            public long getRecoveryDuration()
+                {
+                long ldtStart = __m_RecoveryStartTime;
+                long ldtEnd   = __m_RecoveryEndTime;
+                
+                return ldtStart == 0L ? 0L : (ldtEnd == 0L ? Base.getSafeTimeMillis() : ldtEnd) - ldtStart;
+                }
+            
+            // From interface: com.tangosol.persistence.PersistenceManagerMBean
+            // Accessor for the property "RecoveryPartitionCount"
+            /**
+             * Getter for property RecoveryPartitionCount.<p>
+            * The number of partitions being recovered by the current (or the
+            * most recent) recovery.
+             */
+            public int getRecoveryPartitionCount()
+                {
+                return __m_RecoveryPartitionCount;
+                }
+            
+            // From interface: com.tangosol.persistence.PersistenceManagerMBean
+            /**
+             * Return the number of entries recovered per second by the current
+            * (or the most recent) recovery.
+             */
+            public long getRecoveryThroughput()
+                {
+                long cMillis = getRecoveryDuration();
+                
+                return cMillis <= 0L ? 0L : getRecoveredEntryCount() * 1000L / cMillis;
+                }
+            
             // Accessor for the property "PersistenceControl"
             /**
              * Getter for property PersistenceControl.<p>
@@ -29401,6 +29582,14 @@ public abstract class PartitionedService
                 {
                 // import com.tangosol.persistence.PersistenceManagerMBean;
                 
+                stopRecoveryStatistics();
+                if (getRecoveredPartitionCount() > 0)
+                    {
+                    _trace("Recovered " + getRecoveredEntryCount() + " entries in "
+                           + getRecoveredPartitionCount() + " partitions in " + getRecoveryDuration()
+                           + "ms (" + getRecoveryThroughput() + " entries/sec)", 3);
+                    }
+                
                 // TODO: add support for active persistence completion (dispatch notification)
                 //       followed by RECOVER_SNAPSHOT_END notification such that a subscriber
                 //       would see: [SNAPSHOT_START, RECOVER_START, RECOVER_END, SNAPSHOT_END]
@@ -29454,6 +29643,39 @@ public abstract class PartitionedService
                 sendMemberRecovered();
                 }
             
+            /**
+             * Called when a recovering member has reported the statistics of
+            * the partitions it recovered.
+            * Called on the service thread only.
+            * 
+            * @param cPartitions  the number of partitions recovered by the
+            * member
+            * @param cEntries     the number of entries recovered by the member
+             */
+            public void onRecoveryProgress(int cPartitions, long cEntries)
+                {
+                __m_RecoveredPartitionCount += cPartitions;
+                __m_RecoveredEntryCount     += cEntries;
+                }
+            
+            /**
+             * Called when a recovering member has responded to the
+            * $PartitionRecoverRequest.
+            * Called on the service thread only.
+            * 
+            * @param aoResult  the response: {partsRecovered, partsFailedEvents}
+            * followed by the recovery statistics {partitions, entries}, which
+            * are not sent by members prior to 26.04
+             */
+            public void onRecoveryResponse(Object[] aoResult)
+                {
+                if (aoResult.length > 2)
+                    {
+                    long[] alStats = (long[]) aoResult[2];
+                    onRecoveryProgress((int) alStats[0], alStats[1]);
+                    }
+                }
+            
             /**
              * Called when recovery has started either as a part of active
             * persistence or snapshot recovery.
@@ -29466,6 +29688,8 @@ public abstract class PartitionedService
                 {
                 // import com.tangosol.persistence.PersistenceManagerMBean;
                 
+                startRecoveryStatistics(partsRecover.cardinality());
+                
                 if (sSnapshot == null)
                     {
                     // only set the state if snapshot is null; if it's not null
@@ -29868,6 +30092,29 @@ public abstract class PartitionedService
             /**
              * Send a Member RECOVERED message to signal that this member's recovery has completed.
              */
+            /**
+             * Reset the recovery statistics and start timing a recovery of the
+            * specified number of partitions.
+            * 
+            * @param cPartitions  the number of partitions to recover
+             */
+            protected void startRecoveryStatistics(int cPartitions)
+                {
+                __m_RecoveryPartitionCount  = cPartitions;
+                __m_RecoveredPartitionCount = 0;
+                __m_RecoveredEntryCount     = 0L;
+                __m_RecoveryStartTime       = Base.getSafeTimeMillis();
+                __m_RecoveryEndTime         = 0L;
+                }
+            
+            /**
+             * Stop timing the current recovery.
+             */
+            protected void stopRecoveryStatistics()
+                {
+                __m_RecoveryEndTime = Base.getSafeTimeMillis();
+                }
+            
             public void sendMemberRecovered()
                 {
                 PartitionedService   service = (PartitionedService) get_Module();
@@ -52,6 +52,7 @@ import com.tangosol.internal.tracing.Span;
 import com.tangosol.internal.tracing.TracingHelper;
 import com.tangosol.internal.util.BMEventFabric;
 import com.tangosol.internal.util.ConversionHelper;
+import com.tangosol.internal.util.Daemons;
 import com.tangosol.internal.util.HeuristicCommitException;
 import com.tangosol.internal.util.LockContentionException;
 import com.tangosol.internal.util.QueryResult;
@@ -432,6 +433,22 @@ public class PartitionedCache
      */
     private transient com.tangosol.util.LongArray __m_ProcessedEvents;
     
+    /**
+     * Property QueryParallelism
+     *
+     * The maximum number of partition groups a single query or aggregation
+     * request is split into on this member. Each group is processed by a
+     * separate task on the Coherence ForkJoinPool, so this value also bounds
+     * the number of cores a single request may use, leaving the remaining ones
+     * for the key-based requests processed by the service worker threads. A
+     * value of one (or less) processes all partitions on the calling thread.
+     * 
+     * Configured via coherence.distributed.<service>.query.parallelism, or
+     * coherence.distributed.query.parallelism for all services, see
+     * onDependencies
+     */
+    private int __m_QueryParallelism;
+    
     /**
      * Property ReferencesBinaryMap
      *
@@ -3097,6 +3114,25 @@ public class PartitionedCache
         return __m_ProcessedEvents;
         }
     
+    // Accessor for the property "QueryParallelism"
+    /**
+     * Getter for property QueryParallelism.<p>
+    * The maximum number of partition groups a single query or aggregation
+    * request is split into on this member. Each group is processed by a
+    * separate task on the Coherence ForkJoinPool, so this value also bounds
+    * the number of cores a single request may use, leaving the remaining ones
+    * for the key-based requests processed by the service worker threads. A
+    * value of one (or less) processes all partitions on the calling thread.
+    * 
+    * Configured via coherence.distributed.<service>.query.parallelism, or
+    * coherence.distributed.query.parallelism for all services, see
+    * onDependencies
+     */
+    public int getQueryParallelism()
+        {
+        return __m_QueryParallelism;
+        }
+    
     // Accessor for the property "ReferencesBinaryMap"
     /**
      * Getter for property ReferencesBinaryMap.<p>
@@ -4660,6 +4696,7 @@ public class PartitionedCache
         // import com.tangosol.coherence.config.Config;
         // import com.tangosol.io.DeltaCompressor;
         // import com.tangosol.internal.net.service.grid.PartitionedCacheDependencies;
+        // import com.tangosol.internal.util.Daemons;
         // import com.tangosol.util.NullImplementation;
         // import com.tangosol.util.SparseArray;
         // import com.oracle.coherence.common.internal.Platform;
@@ -4691,6 +4728,10 @@ public class PartitionedCache
             alaPending[i] = new SparseArray();
             }
         setPendingResultInfo(alaPending);
+        
+        int cGroups = Daemons.isForkJoinPoolEnabled() ? Daemons.forkJoinPool().getParallelism() : 1;
+        cGroups = Config.getInteger("coherence.distributed.query.parallelism", cGroups);
+        setQueryParallelism(Config.getInteger("coherence.distributed." + getServiceName() + ".query.parallelism", cGroups));
         }
     
     // Declared at the super level
@@ -10472,6 +10513,7 @@ public class PartitionedCache
             storeFrom.iterate(com.tangosol.persistence.CachePersistenceHelper.instantiatePersistenceVisitor(visitor));
         
             cRecovered = visitor.getStatsEntriesRecovered();
+            getPartitionControl(iPartition).setRecoveredEntries(cRecovered);
         
             if (storeEvents != null)
                 {
@@ -11723,6 +11765,25 @@ public class PartitionedCache
         __m_ProcessedEvents = map;
         }
     
+    // Accessor for the property "QueryParallelism"
+    /**
+     * Setter for property QueryParallelism.<p>
+    * The maximum number of partition groups a single query or aggregation
+    * request is split into on this member. Each group is processed by a
+    * separate task on the Coherence ForkJoinPool, so this value also bounds
+    * the number of cores a single request may use, leaving the remaining ones
+    * for the key-based requests processed by the service worker threads. A
+    * value of one (or less) processes all partitions on the calling thread.
+    * 
+    * Configured via coherence.distributed.<service>.query.parallelism, or
+    * coherence.distributed.query.parallelism for all services, see
+    * onDependencies
+     */
+    protected void setQueryParallelism(int cGroups)
+        {
+        __m_QueryParallelism = cGroups;
+        }
+    
     // Accessor for the property "ReferencesBinaryMap"
     /**
      * Setter for property ReferencesBinaryMap.<p>
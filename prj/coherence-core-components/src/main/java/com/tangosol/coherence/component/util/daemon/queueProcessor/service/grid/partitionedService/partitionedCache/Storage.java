@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -28,8 +28,10 @@ import com.tangosol.internal.util.PartitionedIndexMap;
 import com.tangosol.internal.util.QueryResult;
 import com.tangosol.internal.util.SimpleBinaryEntry;
 import com.tangosol.internal.util.UnsafeSubSet;
+import com.tangosol.internal.util.extractor.PofPropertyResolver;
 import com.tangosol.io.ReadBuffer;
 import com.tangosol.io.Serializer;
+import com.tangosol.io.pof.PofContext;
 import com.tangosol.io.nio.ByteBufferManager;
 import com.tangosol.io.nio.MappedBufferManager;
 import com.tangosol.net.BackingMapManager;
@@ -60,6 +62,8 @@ import com.tangosol.run.xml.XmlElement;
 import com.tangosol.util.Base;
 import com.tangosol.util.Binary;
 import com.tangosol.util.ClassHelper;
+import com.tangosol.util.ColumnarIndex;
+import com.tangosol.util.CompactMapIndex;
 import com.tangosol.util.ConcurrentMap;
 import com.tangosol.util.Converter;
 import com.tangosol.util.ConverterCollections;
@@ -117,11 +121,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.RecursiveTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.IntPredicate;
 import javax.security.auth.Subject;
 
 
@@ -1339,6 +1347,56 @@ public class Storage
             }
         }
 
+    /**
+     * Aggregate the specified partitions by passing the columns of the
+     * ColumnarIndex created for the aggregator's extractor to a new instance
+     * of the aggregator.
+     *
+     * @return the aggregator that processed the columns, or null if the
+     *         aggregator does not support columnar indexes or any of the
+     *         partitions does not have a valid columnar index
+     */
+    protected InvocableMap.StreamingAggregator aggregateByColumns(InvocableMap.StreamingAggregator agent, com.tangosol.net.partition.PartitionSet partMask)
+        {
+        // import com.tangosol.util.ColumnarIndex;
+
+        if (!(agent instanceof ColumnarIndex.Aggregator) || partMask.isEmpty())
+            {
+            return null;
+            }
+
+        com.tangosol.util.ValueExtractor extractor = ((ColumnarIndex.Aggregator) agent).getValueExtractor();
+        ColumnarIndex[] aIndex = new ColumnarIndex[partMask.cardinality()];
+        int             cIndex = 0;
+        for (int iPart = partMask.next(0); iPart >= 0; iPart = partMask.next(iPart + 1))
+            {
+            ColumnarIndex index = ColumnarIndex.find(getPartitionIndexMap(iPart), extractor);
+            if (index == null)
+                {
+                return null;
+                }
+            aIndex[cIndex++] = index;
+            }
+
+        // accumulate into a new instance, so that the agent is untouched should
+        // an index be invalidated concurrently; the instance must be of the same
+        // class, as a subclass may process the values differently
+        InvocableMap.StreamingAggregator agentColumn = agent.supply();
+        if (agentColumn.getClass() != agent.getClass())
+            {
+            return null;
+            }
+
+        for (int i = 0; i < cIndex; i++)
+            {
+            if (!aIndex[i].aggregate((ColumnarIndex.Aggregator) agentColumn))
+                {
+                return null;
+                }
+            }
+        return agentColumn;
+        }
+
     public Object aggregateByStreaming(com.tangosol.util.Filter filter, InvocableMap.StreamingAggregator agent, com.tangosol.net.partition.PartitionSet partMask, long cTimeoutMillis)
         {
         // import com.tangosol.internal.tracing.Span;
@@ -1360,12 +1418,27 @@ public class Storage
             filter = null;
             }
 
-        Object result = null;
-        if (agent.isByPartition() && agent.isParallel() && Daemons.isForkJoinPoolEnabled())
+        // an unfiltered aggregation over an attribute with a columnar index
+        // scans the index columns instead of the entries
+        if (filter == null)
+            {
+            InvocableMap.StreamingAggregator agentColumn = aggregateByColumns(agent, partMask);
+            if (agentColumn != null)
+                {
+                return agentColumn.getPartialResult();
+                }
+            }
+
+        Object result  = null;
+        int    cGroups = getService().getQueryParallelism();
+        if (agent.isParallel() && cGroups > 1 && partMask.cardinality() > 1
+            && Daemons.isForkJoinPoolEnabled() && !(filter instanceof ScriptFilter))
             {
-            // let's run aggregator in parallel across individual partitions using ForkJoinPool
+            // let's run aggregator in parallel across groups of partitions using ForkJoinPool;
+            // the number of groups is bounded by the service's query parallelism, so that a
+            // single aggregation does not monopolize all cores on this member
 
-            Future<Object> future = Daemons.forkJoinPool().submit(new PartitionedAggregateTask<Object>(this, filter, agent, partMask));
+            Future<Object> future = Daemons.forkJoinPool().submit(new PartitionedAggregateTask<Object>(this, filter, agent, partMask, cGroups));
             try
                 {
                 result = cTimeoutMillis == 0L
@@ -2139,6 +2212,7 @@ public class Storage
      */
     public com.tangosol.util.MapIndex createMapIndex(java.util.Map mapIndex, com.tangosol.util.ValueExtractor extractor, java.util.Comparator comparator)
         {
+        // import com.tangosol.util.CompactMapIndex;
         // import com.tangosol.util.ForwardOnlyMapIndex;
         // import com.tangosol.util.MapIndex;
         // import com.tangosol.util.SimpleMapIndex;
@@ -2167,7 +2241,7 @@ public class Storage
             }
         else
             {
-            index = new SimpleMapIndex(extractor, fOrdered, comparator, this);
+            index = CompactMapIndex.createIndex(extractor, fOrdered, comparator, this);
             mapIndex.put(extractor, index);
             }
 
@@ -8002,13 +8076,18 @@ public class Storage
 
     /**
      * ForkJoinTask that splits the aggregate request targeting multiple partitions into
-     * multiple tasks (one per partition) that can be executed in parallel.
+     * a bounded number of partition groups that can be executed in parallel.
+     * <p>
+     * Aggregators that are {@link InvocableMap.StreamingAggregator#isByPartition() by partition}
+     * use a separate aggregator for each partition, while all others use one aggregator
+     * per partition group; the partial results are then combined into the aggregator the
+     * task was created with.
      */
     public static class PartitionedAggregateTask<P>
             extends RecursiveTask<P>
         {
         /**
-         * Construct {@link PartitionedAggregateTask}.
+         * Construct {@link PartitionedAggregateTask} that uses one task per partition.
          *
          * @param storage      the Storage instance to query
          * @param filter       the Filter to evaluate
@@ -8016,14 +8095,30 @@ public class Storage
          * @param parts        the set of partitions to query
          */
         public PartitionedAggregateTask(Storage storage, Filter filter, InvocableMap.StreamingAggregator<?, ?, P, ?> agent, PartitionSet parts)
+            {
+            this(storage, filter, agent, parts, parts.cardinality());
+            }
+
+        /**
+         * Construct {@link PartitionedAggregateTask}.
+         *
+         * @param storage      the Storage instance to query
+         * @param filter       the Filter to evaluate
+         * @param agent        the agent to use for aggregation
+         * @param parts        the set of partitions to query
+         * @param cGroups      the maximum number of partition groups to split the request into
+         */
+        public PartitionedAggregateTask(Storage storage, Filter filter, InvocableMap.StreamingAggregator<?, ?, P, ?> agent, PartitionSet parts, int cGroups)
             {
             f_storage = storage;
             f_filter  = filter;
             f_agent   = agent;
             f_parts   = parts;
+            f_cGroups = cGroups;
             }
 
         @Override
+        @SuppressWarnings("unchecked")
         protected P compute()
             {
             if (f_parts.cardinality() == 1)
@@ -8033,23 +8128,38 @@ public class Storage
                 }
             else
                 {
-                PartitionSet partMask = f_parts;
+                int[]                                          aiPart       = f_parts.toArray();
+                int                                            cPartitions  = f_parts.getPartitionCount();
+                boolean                                        fByPartition = f_agent.isByPartition();
+                PartitionGroupTask[]                           aTasks       = PartitionGroupTask.createArray(this, aiPart, f_cGroups);
+                InvocableMap.StreamingAggregator<?, ?, P, ?>[] aAgent       = new InvocableMap.StreamingAggregator[fByPartition ? aiPart.length : aTasks.length];
 
-                PartitionedAggregateTask<P>[] aTasks = new PartitionedAggregateTask[partMask.cardinality()];
-                int nPos = 0;
-                for (int nPart : partMask)
+                for (int iGroup = 0; iGroup < aTasks.length; iGroup++)
                     {
-                    PartitionSet part = new PartitionSet(partMask.getPartitionCount(), nPart);
+                    InvocableMap.StreamingAggregator<?, ?, P, ?> agentGroup = fByPartition ? null : (aAgent[iGroup] = f_agent.supply());
 
-                    // create PartitionedAggregateTask for each partition
-                    aTasks[nPos++] = new PartitionedAggregateTask(f_storage, f_filter, f_agent.supply(), part);
+                    aTasks[iGroup].setProcessor(i ->
+                        {
+                        // by-partition aggregators use an aggregator per partition, all
+                        // others accumulate the entries of the whole group
+                        InvocableMap.StreamingAggregator<?, ?, P, ?> agent = agentGroup == null
+                                ? (aAgent[i] = f_agent.supply())
+                                : agentGroup;
+
+                        PartitionSet part = new PartitionSet(cPartitions, aiPart[i]);
+                        return agent.accumulate(f_storage.createStreamer(f_filter, agent, part))
+                               || agentGroup == null;
+                        });
                     }
 
                 invokeAll(aTasks);
 
-                for (int i = 0; i < aTasks.length; i++)
+                for (InvocableMap.StreamingAggregator<?, ?, P, ?> agent : aAgent)
                     {
-                    f_agent.combine(aTasks[i].join());
+                    if (agent != null)
+                        {
+                        f_agent.combine(agent.getPartialResult());
+                        }
                     }
 
                 return f_agent.getPartialResult();
@@ -8062,17 +8172,18 @@ public class Storage
         private final Filter f_filter;
         private final InvocableMap.StreamingAggregator<?, ?, P, ?> f_agent;
         private final PartitionSet f_parts;
+        private final int f_cGroups;
         }
 
     /**
      * ForkJoinTask that splits the query request targeting multiple partitions into
-     * multiple tasks (one per partition) that can be executed in parallel.
+     * a bounded number of partition groups that can be executed in parallel.
      */
     public static class PartitionedQueryTask
             extends RecursiveTask<QueryResult>
         {
         /**
-         * Construct {@link PartitionedQueryTask}.
+         * Construct {@link PartitionedQueryTask} that uses one task per partition.
          *
          * @param storage      the Storage instance to query
          * @param filter       the Filter to evaluate
@@ -8081,52 +8192,63 @@ public class Storage
          * @param lIdxVersion  the index version
          */
         public PartitionedQueryTask(Storage storage, Filter filter, int nQueryType, PartitionSet parts, long lIdxVersion)
+            {
+            this(storage, filter, nQueryType, parts, lIdxVersion, parts.cardinality());
+            }
+
+        /**
+         * Construct {@link PartitionedQueryTask}.
+         *
+         * @param storage      the Storage instance to query
+         * @param filter       the Filter to evaluate
+         * @param nQueryType   the query type; one of QUERY_* constants
+         * @param parts        the set of partitions to query
+         * @param lIdxVersion  the index version
+         * @param cGroups      the maximum number of partition groups to split the request into
+         */
+        public PartitionedQueryTask(Storage storage, Filter filter, int nQueryType, PartitionSet parts, long lIdxVersion, int cGroups)
             {
             f_storage     = storage;
             f_filter      = filter;
             f_nQueryType  = nQueryType;
-            f_parts = parts;
+            f_parts       = parts;
             f_lIdxVersion = lIdxVersion;
+            f_cGroups     = cGroups;
             }
 
         @Override
         protected QueryResult compute()
             {
+            // for QUERY_INVOKE, let's get the candidate keys first without the need
+            // for InvocationContext (so we can do it in parallel), and then we'll
+            // post-process them on this thread, using current InvocationContext
+            int nQueryType = f_nQueryType == QUERY_INVOKE ? QUERY_KEYS : f_nQueryType;
+
             if (f_parts.cardinality() == 1)
                 {
-                return f_storage.queryInternal(f_filter, f_nQueryType == QUERY_INVOKE ? QUERY_KEYS : f_nQueryType, f_parts, f_lIdxVersion);
+                return f_storage.queryInternal(f_filter, nQueryType, f_parts, f_lIdxVersion);
                 }
             else
                 {
-                PartitionSet partMask = f_parts;
+                int[]                aiPart       = f_parts.toArray();
+                int                  cPartitions  = f_parts.getPartitionCount();
+                QueryResult[]        aPartResults = new QueryResult[aiPart.length];
+                PartitionGroupTask[] aTasks       = PartitionGroupTask.createArray(this, aiPart, f_cGroups);
 
-                PartitionedQueryTask[] aTasks = new PartitionedQueryTask[partMask.cardinality()];
-                int nPos = 0;
-                for (int nPart : partMask)
+                for (PartitionGroupTask task : aTasks)
                     {
-                    PartitionSet part = new PartitionSet(partMask.getPartitionCount(), nPart);
-
-                    // query each partition to find the matching entries
-                    //
-                    // for QUERY_INVOKE, let's get the candidate keys first without the need
-                    // for InvocationContext (so we can do it in parallel), and then we'll
-                    // post-process them on this thread, using current InvocationContext
-                    aTasks[nPos++] = new PartitionedQueryTask(f_storage,
-                                                              f_filter,
-                                                              f_nQueryType == QUERY_INVOKE ? QUERY_KEYS : f_nQueryType,
-                                                              part,
-                                                              f_lIdxVersion);
+                    // query each partition to find the matching entries; the results
+                    // are kept per partition, as they would be without the grouping
+                    task.setProcessor(i ->
+                        {
+                        PartitionSet part = new PartitionSet(cPartitions, aiPart[i]);
+                        aPartResults[i] = f_storage.queryInternal(f_filter, nQueryType, part, f_lIdxVersion);
+                        return true;
+                        });
                     }
 
                 invokeAll(aTasks);
 
-                QueryResult[] aPartResults = new QueryResult[aTasks.length];
-                for (int i = 0; i < aTasks.length; i++)
-                    {
-                    QueryResult result = aTasks[i].join();
-                    aPartResults[i] = result;
-                    }
-
                 return new QueryResult(aPartResults);
                 }
             }
@@ -8138,6 +8260,97 @@ public class Storage
         private final int f_nQueryType;
         private final PartitionSet f_parts;
         private final long f_lIdxVersion;
+        private final int f_cGroups;
+        }
+
+    /**
+     * ForkJoinTask that processes a contiguous range of the partitions targeted by
+     * a {@link PartitionedQueryTask} or a {@link PartitionedAggregateTask}, one
+     * partition at a time.
+     * <p>
+     * The task stops as soon as the request it is part of has been cancelled (for
+     * example, because it has timed out), so that a long-running scan that nobody
+     * is waiting for does not keep the shared ForkJoinPool busy.
+     */
+    public static class PartitionGroupTask
+            extends RecursiveAction
+        {
+        /**
+         * Construct {@link PartitionGroupTask}.
+         *
+         * @param taskRequest  the task for the whole request
+         * @param iFrom        the index of the first partition to process (inclusive)
+         * @param iTo          the index of the last partition to process (exclusive)
+         */
+        public PartitionGroupTask(ForkJoinTask<?> taskRequest, int iFrom, int iTo)
+            {
+            f_taskRequest = taskRequest;
+            f_iFrom       = iFrom;
+            f_iTo         = iTo;
+            }
+
+        /**
+         * Create the tasks for the specified partitions, splitting them into at
+         * most the specified number of groups of (nearly) equal size.
+         *
+         * @param taskRequest  the task for the whole request
+         * @param aiPart       the partitions to process
+         * @param cGroups      the maximum number of groups
+         *
+         * @return the group tasks
+         */
+        public static PartitionGroupTask[] createArray(ForkJoinTask<?> taskRequest, int[] aiPart, int cGroups)
+            {
+            int cParts = aiPart.length;
+
+            cGroups = Math.max(1, Math.min(cGroups, cParts));
+
+            PartitionGroupTask[] aTasks = new PartitionGroupTask[cGroups];
+            for (int iGroup = 0, iFrom = 0; iGroup < cGroups; iGroup++)
+                {
+                int iTo = (int) ((long) cParts * (iGroup + 1) / cGroups);
+
+                aTasks[iGroup] = new PartitionGroupTask(taskRequest, iFrom, iTo);
+                iFrom = iTo;
+                }
+            return aTasks;
+            }
+
+        /**
+         * Set the function that processes the partition at the specified index,
+         * and returns false if the remaining partitions of the group should
+         * not be processed.
+         *
+         * @param processor  the partition processor
+         */
+        public void setProcessor(IntPredicate processor)
+            {
+            m_processor = processor;
+            }
+
+        @Override
+        protected void compute()
+            {
+            IntPredicate processor = m_processor;
+            for (int i = f_iFrom; i < f_iTo; i++)
+                {
+                if (f_taskRequest.isCancelled())
+                    {
+                    throw new CancellationException();
+                    }
+                if (!processor.test(i))
+                    {
+                    break;
+                    }
+                }
+            }
+
+        // ---- data members ------------------------------------------------
+
+        private final ForkJoinTask<?> f_taskRequest;
+        private final int f_iFrom;
+        private final int f_iTo;
+        private IntPredicate m_processor;
         }
 
     /**
@@ -8172,12 +8385,13 @@ public class Storage
 
             result = queryInternal(filter, nQueryType == QUERY_INVOKE ? QUERY_KEYS : nQueryType, partMask, lIdxVersion);
             }
-        else if (!Daemons.isForkJoinPoolEnabled() || filter instanceof ScriptFilter)
+        else if (!Daemons.isForkJoinPoolEnabled() || filter instanceof ScriptFilter || getService().getQueryParallelism() <= 1)
             {
             // We have to use single-threaded execution if:
             //
             // 1. Coherence FJP is disabled
             // 2. We are evaluating ScriptFilter using GraalVM integration, as GraalVM doesn't support access to script context from multiple threads
+            // 3. The query parallelism has been disabled for this service
 
             QueryResult[] aResult = new QueryResult[partMask.cardinality()];
             int           nPos    = 0;
@@ -8190,7 +8404,7 @@ public class Storage
             }
         else
             {
-            Future<QueryResult> future = Daemons.forkJoinPool().submit(new PartitionedQueryTask(this, filter, nQueryType, partMask, lIdxVersion));
+            Future<QueryResult> future = Daemons.forkJoinPool().submit(new PartitionedQueryTask(this, filter, nQueryType, partMask, lIdxVersion, getService().getQueryParallelism()));
             try
                 {
                 result = cTimeoutMillis == 0L
@@ -12829,6 +13043,8 @@ public class Storage
         // From interface: com.tangosol.util.MapTrigger$Entry
         public Object extract(com.tangosol.util.ValueExtractor extractor)
             {
+            // import com.tangosol.internal.util.extractor.PofPropertyResolver;
+            // import com.tangosol.io.pof.PofContext;
             // import com.tangosol.util.InvocableMapHelper;
             // import com.tangosol.util.MapIndex;
 
@@ -12856,6 +13072,25 @@ public class Storage
                     }
                 }
 
+            if (PofPropertyResolver.ENABLED && (nState & (VALUE_CONVERTED | VALUE_UPDATED | VALUE_REMOVED)) == 0)
+                {
+                // the value has not been deserialized yet; try to read a property
+                // straight from the POF stream
+                Serializer serializer = getSerializer();
+                if (serializer instanceof PofContext)
+                    {
+                    PofContext ctx    = (PofContext) serializer;
+                    Object     oValue = PofPropertyResolver.getInstance(ctx)
+                            .extract(ctx, extractor, getBinaryValue());
+                    if (oValue != MapIndex.NO_VALUE)
+                        {
+                        checkAccess(ACCESS_READ);
+
+                        return oValue;
+                        }
+                    }
+                }
+
             return InvocableMapHelper.extractFromEntry(extractor, this);
             }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -11,6 +11,10 @@ import com.oracle.coherence.ai.search.BinaryQueryResult;
 import com.tangosol.util.Filter;
 import com.tangosol.util.MapIndex;
 
+import com.tangosol.util.filter.InKeySetFilter;
+
+import java.util.Set;
+
 /**
  * A custom {@link MapIndex} that maintains a vector search index.
  *
@@ -31,4 +35,60 @@ public interface VectorIndex<KeyType, ValueType, VectorType>
      * @return  the search results
      */
     BinaryQueryResult[] query(VectorType vector, int k, Filter<?> filter);
+
+    /**
+     * Return the results of a query restricted to the entries with the
+     * specified keys.
+     * <p/>
+     * The key set is typically the result of resolving a metadata filter
+     * through the regular indexes of the partition, so only the part of the
+     * filter that could not be resolved that way is passed as the
+     * {@code filter} argument. The default implementation evaluates the key
+     * set as part of the filter; implementations should override it to skip
+     * the entries that are not in the key set without evaluating the filter,
+     * or to scan the key set when it is small.
+     *
+     * @param vector   the vector to use to perform the search
+     * @param k        the maximum number of results to return
+     * @param filter   an optional {@link Filter} to filter the returned results
+     * @param setKeys  the binary keys of the entries to search, or {@code null}
+     *                 to search all entries
+     *
+     * @return  the search results
+     */
+    default BinaryQueryResult[] query(VectorType vector, int k, Filter<?> filter, Set<?> setKeys)
+        {
+        return query(vector, k, setKeys == null ? filter : new InKeySetFilter<>(filter, setKeys));
+        }
+
+    /**
+     * Return {@code true} if a {@link #query(Object, int, Filter, Set) query}
+     * restricted to the specified number of keys calculates the distance to
+     * each of them, rather than traversing the index.
+     *
+     * @param k      the maximum number of results to return
+     * @param cKeys  the number of keys the query is restricted to
+     *
+     * @return {@code true} if the query scans the keys
+     */
+    default boolean isScan(int k, int cKeys)
+        {
+        return false;
+        }
+
+    /**
+     * Return {@code true} if the distances returned by {@link #query} are
+     * the distances calculated by the specified algorithm, or {@code false}
+     * if they are approximations (for example, distances between quantized
+     * vectors) that must be recalculated before the results from different
+     * partitions are merged.
+     *
+     * @param algorithm  the {@link DistanceAlgorithm} used by the search
+     *
+     * @return {@code true} if the query results can be used as is
+     */
+    default boolean isExactDistance(DistanceAlgorithm<?> algorithm)
+        {
+        return true;
+        }
     }
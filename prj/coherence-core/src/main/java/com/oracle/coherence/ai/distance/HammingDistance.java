@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.ai.distance;
+
+import com.oracle.coherence.ai.DistanceAlgorithm;
+
+import java.util.BitSet;
+
+import static com.oracle.coherence.ai.util.Vectors.hammingDistance;
+
+/**
+ * A {@link DistanceAlgorithm} that calculates the Hamming distance between two vectors.
+ * <p/>
+ * For bit vectors the distance is the number of differing bits, counted a word at a
+ * time using {@link Long#bitCount(long)}. Int8 and Float32 vectors are compared using
+ * their binary quantization, so the distance is the number of dimensions for which
+ * exactly one of the vectors has a positive value, which makes this algorithm a cheap
+ * first pass for re-ranking.
+ *
+ * @author coh  2026.10.16
+ * @since 15.0.0
+ */
+public class HammingDistance<T>
+        extends AbstractDistance<T>
+    {
+    @Override
+    protected double distance(BitSet v1, BitSet v2)
+        {
+        return hammingDistance(v1, v2);
+        }
+
+    @Override
+    protected double distance(byte[] v1, byte[] v2)
+        {
+        return hammingDistance(v1, v2);
+        }
+
+    @Override
+    protected double distance(float[] v1, float[] v2)
+        {
+        return hammingDistance(v1, v2);
+        }
+    }
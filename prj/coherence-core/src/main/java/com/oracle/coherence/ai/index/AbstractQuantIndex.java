@@ -0,0 +1,1122 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.ai.index;
+
+import com.oracle.coherence.ai.DistanceAlgorithm;
+import com.oracle.coherence.ai.Float32Vector;
+import com.oracle.coherence.ai.Vector;
+import com.oracle.coherence.ai.VectorIndex;
+import com.oracle.coherence.ai.VectorIndexExtractor;
+
+import com.oracle.coherence.ai.distance.CosineDistance;
+
+import com.oracle.coherence.ai.search.BinaryQueryResult;
+
+import com.tangosol.io.AbstractEvolvable;
+import com.tangosol.io.ExternalizableLite;
+import com.tangosol.io.pof.EvolvablePortableObject;
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+
+import com.tangosol.net.BackingMapContext;
+import com.tangosol.net.cache.SimpleMemoryCalculator;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.InvocableMapHelper;
+import com.tangosol.util.MapIndex;
+import com.tangosol.util.NullImplementation;
+import com.tangosol.util.ValueExtractor;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.tangosol.net.cache.SimpleMemoryCalculator.SIZE_BASIC_OBJECT;
+import static com.tangosol.net.cache.SimpleMemoryCalculator.SIZE_OBJECT_REF;
+import static com.tangosol.net.cache.SimpleMemoryCalculator.calculateShallowSize;
+import static com.tangosol.net.cache.SimpleMemoryCalculator.padMemorySize;
+
+/**
+ * A base class for {@link VectorIndexExtractor} implementations that store a
+ * compact code for each {@link Float32Vector} instead of the vector itself.
+ * <p/>
+ * A {@link Quantizer} is trained separately for each partition, using the
+ * first {@link #getTrainingSize() training size} vectors inserted into the
+ * partition. Until then the vectors are kept as they are and searched using
+ * the exact distances. Once trained, the codes of all vectors of a partition
+ * are stored in a single {@code byte[]} and a search scans the codes using the
+ * asymmetric distances between the full precision query vector and the
+ * quantized vectors. As the first vectors may not be representative of the
+ * partition, the next search after the partition grew to
+ * {@link #RETRAIN_FACTOR} times the number of training vectors retrains the
+ * quantizer using a random sample of all vectors of the partition, which are
+ * read back from the cache, and encodes all vectors again.
+ * <p/>
+ * The recall can be tuned with the {@link #oversamplingFactor(int)
+ * oversampling factor}: when it is greater than one, each partition returns
+ * that many more candidates, which are then re-ranked by the
+ * {@link com.oracle.coherence.ai.search.SimilaritySearch SimilaritySearch}
+ * aggregator using the exact distances.
+ *
+ * @param <K>  the type of the cache key
+ * @param <V>  the type of the cache value
+ *
+ * @author coh  2026.10.16
+ * @since 15.0.0
+ */
+public abstract class AbstractQuantIndex<K, V>
+        extends AbstractEvolvable
+        implements VectorIndexExtractor<V, float[]>, ExternalizableLite, EvolvablePortableObject
+    {
+    /**
+     * Default constructor for serialization.
+     */
+    protected AbstractQuantIndex()
+        {
+        }
+
+    /**
+     * Create a {@link AbstractQuantIndex}.
+     *
+     * @param extractor  the {@link ValueExtractor} to use to extract the {@link Vector}
+     * @param algorithm  the {@link DistanceAlgorithm} to use to compare vectors
+     */
+    protected AbstractQuantIndex(ValueExtractor<V, Vector<float[]>> extractor, DistanceAlgorithm<float[]> algorithm)
+        {
+        f_extractor = ValueExtractor.of(Objects.requireNonNull(extractor));
+        m_algorithm = Objects.requireNonNull(algorithm);
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the {@link ValueExtractor} used to extract the {@link Vector}.
+     *
+     * @return the {@link ValueExtractor} used to extract the {@link Vector}
+     */
+    public ValueExtractor<V, Vector<float[]>> getExtractor()
+        {
+        return f_extractor;
+        }
+
+    /**
+     * Return the {@link DistanceAlgorithm} used to compare vectors.
+     *
+     * @return the {@link DistanceAlgorithm} used to compare vectors
+     */
+    public DistanceAlgorithm<float[]> getAlgorithm()
+        {
+        return m_algorithm;
+        }
+
+    /**
+     * Return the oversampling factor.
+     *
+     * @return the oversampling factor
+     */
+    public int getOversamplingFactor()
+        {
+        return m_nOversamplingFactor;
+        }
+
+    /**
+     * Set the oversampling factor; a factor greater than one causes each
+     * partition to return that many more candidates, which are re-ranked
+     * using the exact distances.
+     *
+     * @param nOversamplingFactor  the oversampling factor
+     *
+     * @return this index for fluent API calls
+     */
+    public AbstractQuantIndex<K, V> oversamplingFactor(int nOversamplingFactor)
+        {
+        m_nOversamplingFactor = Math.max(1, nOversamplingFactor);
+        return this;
+        }
+
+    /**
+     * Return the number of vectors used to train the quantizer of a partition.
+     *
+     * @return the number of training vectors
+     */
+    public int getTrainingSize()
+        {
+        return m_cTrainingSize;
+        }
+
+    /**
+     * Set the number of vectors used to train the quantizer of a partition.
+     *
+     * @param cTrainingSize  the number of training vectors
+     *
+     * @return this index for fluent API calls
+     */
+    public AbstractQuantIndex<K, V> trainingSize(int cTrainingSize)
+        {
+        m_cTrainingSize = Math.max(MIN_TRAINING_SIZE, cTrainingSize);
+        return this;
+        }
+
+    // ----- abstract methods -----------------------------------------------
+
+    /**
+     * Train a {@link Quantizer} using the specified vectors.
+     *
+     * @param aflSample  the training vectors
+     *
+     * @return the trained {@link Quantizer}
+     */
+    protected abstract Quantizer train(float[][] aflSample);
+
+    // ----- VectorIndexExtractor interface ---------------------------------
+
+    @Override
+    public Vector<float[]> extract(V v)
+        {
+        // this method is never called
+        throw new UnsupportedOperationException();
+        }
+
+    @Override
+    public MapIndex<K, V, Vector<float[]>> createIndex(boolean b, Comparator comparator, Map<ValueExtractor<V, Vector<float[]>>, MapIndex> map, BackingMapContext backingMapContext)
+        {
+        QuantMapIndex mapIndex = new QuantMapIndex(backingMapContext);
+        map.put(f_extractor, mapIndex);
+        return mapIndex;
+        }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public MapIndex<K, V, Vector<float[]>> destroyIndex(Map<ValueExtractor<V, Vector<float[]>>, MapIndex> map)
+        {
+        return map.remove(f_extractor);
+        }
+
+    // ----- Object methods -------------------------------------------------
+
+    @Override
+    public boolean equals(Object o)
+        {
+        if (this == o)
+            {
+            return true;
+            }
+        if (o == null || getClass() != o.getClass())
+            {
+            return false;
+            }
+        AbstractQuantIndex<?, ?> that = (AbstractQuantIndex<?, ?>) o;
+        return Objects.equals(f_extractor, that.f_extractor);
+        }
+
+    @Override
+    public int hashCode()
+        {
+        return Objects.hash(f_extractor);
+        }
+
+    @Override
+    public String toString()
+        {
+        return getClass().getSimpleName() + "{" +
+               "extractor=" + f_extractor +
+               ", algorithm=" + m_algorithm +
+               ", oversamplingFactor=" + m_nOversamplingFactor +
+               ", trainingSize=" + m_cTrainingSize +
+               '}';
+        }
+
+    // ----- EvolvablePortableObject interface ------------------------------
+
+    @Override
+    public int getImplVersion()
+        {
+        return POF_IMPL_VERSION;
+        }
+
+    @Override
+    public void readExternal(PofReader in) throws IOException
+        {
+        f_extractor           = in.readObject(0);
+        m_algorithm           = in.readObject(1);
+        m_nOversamplingFactor = in.readInt(2);
+        m_cTrainingSize       = in.readInt(3);
+        }
+
+    @Override
+    public void writeExternal(PofWriter out) throws IOException
+        {
+        out.writeObject(0, f_extractor);
+        out.writeObject(1, m_algorithm);
+        out.writeInt(2, m_nOversamplingFactor);
+        out.writeInt(3, m_cTrainingSize);
+        }
+
+    // ----- ExternalizableLite interface -----------------------------------
+
+    @Override
+    public void readExternal(DataInput in) throws IOException
+        {
+        f_extractor           = ExternalizableHelper.readObject(in);
+        m_algorithm           = ExternalizableHelper.readObject(in);
+        m_nOversamplingFactor = in.readInt();
+        m_cTrainingSize       = in.readInt();
+        }
+
+    @Override
+    public void writeExternal(DataOutput out) throws IOException
+        {
+        ExternalizableHelper.writeObject(out, f_extractor);
+        ExternalizableHelper.writeObject(out, m_algorithm);
+        out.writeInt(m_nOversamplingFactor);
+        out.writeInt(m_cTrainingSize);
+        }
+
+    // ----- inner interface: Quantizer -------------------------------------
+
+    /**
+     * A trained vector quantizer.
+     */
+    public interface Quantizer
+        {
+        /**
+         * Return the number of bytes of the code of a single vector.
+         *
+         * @return the code size
+         */
+        int getCodeSize();
+
+        /**
+         * Encode a vector.
+         *
+         * @param vector  the vector to encode
+         * @param abCode  the array to write the code to
+         * @param of      the offset of the code within the array
+         */
+        void encode(float[] vector, byte[] abCode, int of);
+
+        /**
+         * Return a {@link Scorer} that calculates the distances between the
+         * specified query vector and encoded vectors.
+         *
+         * @param vector  the query vector
+         *
+         * @return a {@link Scorer} for the query vector
+         */
+        Scorer scorer(float[] vector);
+
+        /**
+         * Return the number of bytes used by this quantizer.
+         *
+         * @return the number of bytes used by this quantizer
+         */
+        long getUnits();
+        }
+
+    // ----- inner interface: Scorer ----------------------------------------
+
+    /**
+     * Calculates the distance between a query vector and encoded vectors.
+     * <p/>
+     * A scorer is used by a single thread.
+     */
+    public interface Scorer
+        {
+        /**
+         * Return the distance between the query vector and an encoded vector.
+         *
+         * @param abCode  the array holding the code
+         * @param of      the offset of the code within the array
+         *
+         * @return the distance
+         */
+        double distance(byte[] abCode, int of);
+        }
+
+    // ----- inner class: QuantMapIndex -------------------------------------
+
+    /**
+     * A {@link VectorIndex} holding the encoded vectors of a single partition.
+     */
+    @SuppressWarnings("unchecked")
+    public class QuantMapIndex
+            implements VectorIndex<K, V, Vector<float[]>>
+        {
+        /**
+         * Create a {@link QuantMapIndex}.
+         *
+         * @param ctx  the cache {@link BackingMapContext}
+         */
+        protected QuantMapIndex(BackingMapContext ctx)
+            {
+            f_backingMapContext = ctx;
+            f_mapSlots.defaultReturnValue(-1);
+            }
+
+        // ----- accessors --------------------------------------------------
+
+        /**
+         * Return the {@link Quantizer} of this partition.
+         *
+         * @return the {@link Quantizer}, or null if the index has not been trained
+         */
+        public Quantizer getQuantizer()
+            {
+            return m_quantizer;
+            }
+
+        /**
+         * Return the number of vectors in this index.
+         *
+         * @return the number of vectors in this index
+         */
+        public int size()
+            {
+            Lock lock = f_lock.readLock();
+            lock.lock();
+            try
+                {
+                return f_mapSlots.size() + f_mapPending.size();
+                }
+            finally
+                {
+                lock.unlock();
+                }
+            }
+
+        // ----- MapIndex interface -----------------------------------------
+
+        @Override
+        public ValueExtractor<V, Vector<float[]>> getValueExtractor()
+            {
+            return f_extractor;
+            }
+
+        @Override
+        public boolean isOrdered()
+            {
+            return false;
+            }
+
+        @Override
+        public boolean isPartial()
+            {
+            return false;
+            }
+
+        @Override
+        public Map<Vector<float[]>, Set<K>> getIndexContents()
+            {
+            return NullImplementation.getMap();
+            }
+
+        @Override
+        public Object get(K k)
+            {
+            // the original vectors are not retained
+            return NO_VALUE;
+            }
+
+        @Override
+        public Comparator<Vector<float[]>> getComparator()
+            {
+            return null;
+            }
+
+        @Override
+        public long getUnits()
+            {
+            Lock lock = f_lock.readLock();
+            lock.lock();
+            try
+                {
+                int       cEntries  = f_mapSlots.size() + f_mapPending.size();
+                Quantizer quantizer = m_quantizer;
+                long      cUnits    = INDEX_OVERHEAD + m_cbKeys + (long) cEntries * ENTRY_OVERHEAD
+                                      + padMemorySize(SIZE_BASIC_OBJECT + 4 + m_aoKey.length * SIZE_OBJECT_REF)
+                                      + padMemorySize(SIZE_BASIC_OBJECT + 4 + m_abCode.length)
+                                      + padMemorySize(SIZE_BASIC_OBJECT + 4 + 4 * m_anFree.length)
+                                      + m_cbPending;
+
+                return quantizer == null ? cUnits : cUnits + quantizer.getUnits();
+                }
+            finally
+                {
+                lock.unlock();
+                }
+            }
+
+        @Override
+        public void insert(Map.Entry<? extends K, ? extends V> entry)
+            {
+            float[] vector = extractVector(entry);
+            if (vector != null)
+                {
+                Lock lock = f_lock.writeLock();
+                lock.lock();
+                try
+                    {
+                    Object oKey = getKey(entry);
+                    remove(oKey);
+                    add(oKey, vector);
+                    }
+                finally
+                    {
+                    lock.unlock();
+                    }
+                }
+            }
+
+        @Override
+        public void update(Map.Entry<? extends K, ? extends V> entry)
+            {
+            float[] vector = extractVector(entry);
+            Lock    lock   = f_lock.writeLock();
+            lock.lock();
+            try
+                {
+                Object oKey = getKey(entry);
+                remove(oKey);
+                if (vector != null)
+                    {
+                    add(oKey, vector);
+                    }
+                }
+            finally
+                {
+                lock.unlock();
+                }
+            }
+
+        @Override
+        public void delete(Map.Entry<? extends K, ? extends V> entry)
+            {
+            Lock lock = f_lock.writeLock();
+            lock.lock();
+            try
+                {
+                remove(getKey(entry));
+                }
+            finally
+                {
+                lock.unlock();
+                }
+            }
+
+        // ----- VectorIndex interface --------------------------------------
+
+        @Override
+        public boolean isExactDistance(DistanceAlgorithm<?> algorithm)
+            {
+            return false;
+            }
+
+        @Override
+        public BinaryQueryResult[] query(Vector<float[]> vector, int k, Filter<?> filter)
+            {
+            return query(vector, k, filter, null);
+            }
+
+        @Override
+        public boolean isScan(int k, int cKeys)
+            {
+            // the codes are always scanned
+            return true;
+            }
+
+        @Override
+        public BinaryQueryResult[] query(Vector<float[]> vector, int k, Filter<?> filter, Set<?> setKeys)
+            {
+            float[] aflQuery = toFloats(Objects.requireNonNull(vector));
+            if (isRetrainRequired())
+                {
+                // retrain on the search rather than on an update, so that
+                // the vectors are read back from a consistent backing map
+                Lock lock = f_lock.writeLock();
+                lock.lock();
+                try
+                    {
+                    if (isRetrainRequired())
+                        {
+                        retrain();
+                        }
+                    }
+                finally
+                    {
+                    lock.unlock();
+                    }
+                }
+
+            Lock lock = f_lock.readLock();
+            lock.lock();
+            try
+                {
+                int cResults = Math.min(k * m_nOversamplingFactor, f_mapSlots.size() + f_mapPending.size());
+                if (cResults <= 0)
+                    {
+                    return EMPTY_RESULTS;
+                    }
+
+                // without a filter only the closest results need to be kept,
+                // otherwise all candidates are ordered so that the filter can
+                // be evaluated lazily, starting with the closest one
+                boolean   fFilter     = filter != null;
+                boolean   fRestricted = setKeys != null;
+                NodeQueue queue       = fFilter ? new NodeQueue(f_mapSlots.size(), false) : new NodeQueue(cResults + 1, true);
+                Quantizer quantizer   = m_quantizer;
+                Scorer    scorer      = quantizer == null ? null : quantizer.scorer(aflQuery);
+                int       cbCode      = quantizer == null ? 0 : quantizer.getCodeSize();
+                byte[]    abCode      = m_abCode;
+                Object[]  aoKey       = m_aoKey;
+                Object[]  aoPending   = f_mapPending.isEmpty() ? null : f_mapPending.keySet().toArray();
+
+                if (fRestricted && setKeys.size() < f_mapSlots.size())
+                    {
+                    // look up the codes of the candidate keys only
+                    for (Object oKey : setKeys)
+                        {
+                        int nSlot = f_mapSlots.getInt(oKey);
+                        if (nSlot >= 0)
+                            {
+                            offer(queue, nSlot, scorer.distance(abCode, nSlot * cbCode), cResults, fFilter);
+                            }
+                        }
+                    }
+                else if (scorer != null)
+                    {
+                    for (int i = 0, c = m_cSlots; i < c; i++)
+                        {
+                        Object oKey = aoKey[i];
+                        if (oKey != null && (!fRestricted || setKeys.contains(oKey)))
+                            {
+                            offer(queue, i, scorer.distance(abCode, i * cbCode), cResults, fFilter);
+                            }
+                        }
+                    }
+
+                if (aoPending != null)
+                    {
+                    // pending vectors are identified by negative node numbers
+                    Float32Vector vectorQuery = new Float32Vector(aflQuery);
+                    for (int i = 0; i < aoPending.length; i++)
+                        {
+                        Object oKey = aoPending[i];
+                        if (!fRestricted || setKeys.contains(oKey))
+                            {
+                            double d = m_algorithm.distance(vectorQuery, new Float32Vector(f_mapPending.get(oKey)));
+                            offer(queue, -(i + 1), d, cResults, fFilter);
+                            }
+                        }
+                    }
+
+                BinaryQueryResult[] aResults = new BinaryQueryResult[Math.min(cResults, queue.size())];
+                int                 cAdded   = 0;
+
+                if (fFilter)
+                    {
+                    while (!queue.isEmpty() && cAdded < aResults.length)
+                        {
+                        double            dResult = queue.peekDistance();
+                        Binary            binKey  = getNodeKey(queue.poll(), aoPending);
+                        BinaryEntry<K, V> entry   = f_backingMapContext.getReadOnlyEntry(binKey).asBinaryEntry();
+
+                        if (InvocableMapHelper.evaluateEntry(filter, entry))
+                            {
+                            aResults[cAdded++] = new BinaryQueryResult(dResult, binKey, entry.getBinaryValue());
+                            }
+                        }
+                    }
+                else
+                    {
+                    // the queue is a max-heap; fill the results in reverse order
+                    for (int i = aResults.length - 1; i >= 0; i--)
+                        {
+                        double            dResult = queue.peekDistance();
+                        Binary            binKey  = getNodeKey(queue.poll(), aoPending);
+                        BinaryEntry<K, V> entry   = f_backingMapContext.getReadOnlyEntry(binKey).asBinaryEntry();
+
+                        aResults[i] = new BinaryQueryResult(dResult, binKey, entry.getBinaryValue());
+                        }
+                    cAdded = aResults.length;
+                    }
+
+                return cAdded == aResults.length
+                       ? aResults
+                       : Arrays.copyOfRange(aResults, 0, cAdded);
+                }
+            finally
+                {
+                lock.unlock();
+                }
+            }
+
+        // ----- helper methods ---------------------------------------------
+
+        /**
+         * Add a vector to this index.
+         *
+         * @param oKey    the cache key
+         * @param vector  the vector
+         */
+        protected void add(Object oKey, float[] vector)
+            {
+            if (m_cDimensions < 0)
+                {
+                m_cDimensions = vector.length;
+                }
+            else if (vector.length != m_cDimensions)
+                {
+                throw new IllegalArgumentException("Vector of " + vector.length
+                        + " dimensions is not compatible with the indexed vectors of "
+                        + m_cDimensions + " dimensions");
+                }
+
+            m_cbKeys += CALC.sizeOf(oKey);
+
+            Quantizer quantizer = m_quantizer;
+            if (quantizer == null)
+                {
+                f_mapPending.put(oKey, vector);
+                m_cbPending += padMemorySize(SIZE_BASIC_OBJECT + 4 + 4 * vector.length);
+                if (f_mapPending.size() >= m_cTrainingSize)
+                    {
+                    trainAndEncode();
+                    }
+                }
+            else
+                {
+                encode(oKey, vector);
+                }
+            }
+
+        /**
+         * Remove the vector for the specified key from this index.
+         *
+         * @param oKey  the cache key
+         */
+        protected void remove(Object oKey)
+            {
+            int nSlot = f_mapSlots.removeInt(oKey);
+            if (nSlot >= 0)
+                {
+                m_aoKey[nSlot] = null;
+                m_anFree       = ensureCapacity(m_anFree, m_cFree + 1);
+                m_anFree[m_cFree++] = nSlot;
+                m_cbKeys -= CALC.sizeOf(oKey);
+                }
+            else
+                {
+                float[] vector = f_mapPending.remove(oKey);
+                if (vector != null)
+                    {
+                    m_cbPending -= padMemorySize(SIZE_BASIC_OBJECT + 4 + 4 * vector.length);
+                    m_cbKeys    -= CALC.sizeOf(oKey);
+                    }
+                }
+            }
+
+        /**
+         * Train the quantizer using the pending vectors and encode them.
+         */
+        protected void trainAndEncode()
+            {
+            float[][] aflSample = f_mapPending.values().toArray(new float[0][]);
+
+            m_quantizer = train(aflSample);
+            m_cTrained  = aflSample.length;
+            for (Map.Entry<Object, float[]> entry : f_mapPending.entrySet())
+                {
+                encode(entry.getKey(), entry.getValue());
+                }
+            f_mapPending.clear();
+            m_cbPending = 0L;
+            }
+
+        /**
+         * Return {@code true} if the partition has grown enough since the
+         * quantizer was trained for it to be retrained.
+         *
+         * @return {@code true} if the quantizer should be retrained
+         */
+        protected boolean isRetrainRequired()
+            {
+            return m_quantizer != null && f_mapSlots.size() >= (long) m_cTrained * RETRAIN_FACTOR;
+            }
+
+        /**
+         * Retrain the quantizer using a random sample of the vectors of this
+         * partition and encode all vectors again.
+         * <p/>
+         * The original vectors are not retained, so they are read back from the
+         * backing map. If a vector cannot be read, the current quantizer and
+         * codes are kept, and the retraining is attempted again by the next
+         * search.
+         */
+        protected void retrain()
+            {
+            Object[]  aoKey     = m_aoKey;
+            int       cSlots    = m_cSlots;
+            float[][] aflSample = new float[Math.min(m_cTrainingSize, f_mapSlots.size())][];
+            Random    random    = ThreadLocalRandom.current();
+            int       cSeen     = 0;
+
+            // reservoir sample of the vectors
+            for (int i = 0; i < cSlots; i++)
+                {
+                if (aoKey[i] != null)
+                    {
+                    float[] vector = readVector((Binary) aoKey[i]);
+                    if (vector == null)
+                        {
+                        return;
+                        }
+
+                    int nSample = cSeen < aflSample.length ? cSeen : random.nextInt(cSeen + 1);
+                    if (nSample < aflSample.length)
+                        {
+                        aflSample[nSample] = vector;
+                        }
+                    cSeen++;
+                    }
+                }
+
+            Quantizer quantizer = train(aflSample);
+            int       cbCode    = quantizer.getCodeSize();
+            byte[]    abCode    = new byte[aoKey.length * cbCode];
+
+            for (int i = 0; i < cSlots; i++)
+                {
+                if (aoKey[i] != null)
+                    {
+                    float[] vector = readVector((Binary) aoKey[i]);
+                    if (vector == null)
+                        {
+                        return;
+                        }
+                    quantizer.encode(vector, abCode, i * cbCode);
+                    }
+                }
+
+            m_quantizer = quantizer;
+            m_abCode    = abCode;
+            m_cTrained  = cSeen;
+            }
+
+        /**
+         * Read the vector of the specified key from the backing map.
+         *
+         * @param binKey  the binary key
+         *
+         * @return the vector, or null if the entry does not exist or holds no vector
+         */
+        protected float[] readVector(Binary binKey)
+            {
+            InvocableMap.Entry<K, V> entry = f_backingMapContext.getReadOnlyEntry(binKey);
+            return entry == null || !entry.isPresent() ? null : extractVector(entry);
+            }
+
+        /**
+         * Encode a vector into a free slot.
+         *
+         * @param oKey    the cache key
+         * @param vector  the vector
+         */
+        protected void encode(Object oKey, float[] vector)
+            {
+            int cbCode = m_quantizer.getCodeSize();
+            int nSlot;
+
+            if (m_cFree > 0)
+                {
+                nSlot = m_anFree[--m_cFree];
+                }
+            else
+                {
+                nSlot = m_cSlots++;
+                if (nSlot == m_aoKey.length)
+                    {
+                    int cNew = Math.max(INITIAL_CAPACITY, nSlot + (nSlot >> 1));
+                    m_aoKey  = Arrays.copyOf(m_aoKey, cNew);
+                    m_abCode = Arrays.copyOf(m_abCode, cNew * cbCode);
+                    }
+                }
+
+            m_quantizer.encode(vector, m_abCode, nSlot * cbCode);
+            m_aoKey[nSlot] = oKey;
+            f_mapSlots.put(oKey, nSlot);
+            }
+
+        /**
+         * Offer a candidate to the queue.
+         *
+         * @param queue     the queue
+         * @param nNode     the candidate node
+         * @param d         the distance of the candidate
+         * @param cResults  the number of results to keep
+         * @param fAll      {@code true} to keep all candidates
+         */
+        protected void offer(NodeQueue queue, int nNode, double d, int cResults, boolean fAll)
+            {
+            if (fAll || queue.size() < cResults)
+                {
+                queue.add(nNode, d);
+                }
+            else if (d < queue.peekDistance())
+                {
+                queue.poll();
+                queue.add(nNode, d);
+                }
+            }
+
+        /**
+         * Return the key of the specified node.
+         *
+         * @param nNode      the node; negative for the pending vectors
+         * @param aoPending  the keys of the pending vectors
+         *
+         * @return the key of the node
+         */
+        protected Binary getNodeKey(int nNode, Object[] aoPending)
+            {
+            return (Binary) (nNode < 0 ? aoPending[-nNode - 1] : m_aoKey[nNode]);
+            }
+
+        /**
+         * Extract the vector from the specified entry.
+         *
+         * @param entry  the entry
+         *
+         * @return the extracted vector, or null
+         */
+        protected float[] extractVector(Map.Entry<? extends K, ? extends V> entry)
+            {
+            Vector<float[]> vector = InvocableMapHelper.extractFromEntry(f_extractor, entry);
+            return vector == null ? null : toFloats(vector);
+            }
+
+        /**
+         * Return the key of the specified entry.
+         *
+         * @param entry  the entry
+         *
+         * @return the binary key of a {@link BinaryEntry}, or the entry key
+         */
+        protected Object getKey(Map.Entry<? extends K, ? extends V> entry)
+            {
+            return entry instanceof BinaryEntry
+                   ? ((BinaryEntry<?, ?>) entry).getBinaryKey()
+                   : entry.getKey();
+            }
+
+        // ----- constants --------------------------------------------------
+
+        /**
+        * UnitCalculator used to estimate the cost of a key.
+        */
+        protected SimpleMemoryCalculator CALC = new SimpleMemoryCalculator();
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The cache {@link BackingMapContext}.
+         */
+        private final BackingMapContext f_backingMapContext;
+
+        /**
+         * The lock that serializes updates and allows concurrent searches.
+         */
+        private final ReentrantReadWriteLock f_lock = new ReentrantReadWriteLock();
+
+        /**
+         * The map of cache keys to code slots.
+         */
+        private final Object2IntOpenHashMap<Object> f_mapSlots = new Object2IntOpenHashMap<>();
+
+        /**
+         * The vectors inserted before the quantizer was trained.
+         */
+        private final Map<Object, float[]> f_mapPending = new LinkedHashMap<>();
+
+        /**
+         * The trained quantizer, or null.
+         */
+        private volatile Quantizer m_quantizer;
+
+        /**
+         * The number of vectors the quantizer was trained with.
+         */
+        private int m_cTrained;
+
+        /**
+         * The key of each slot, or null for free slots.
+         */
+        private Object[] m_aoKey = new Object[0];
+
+        /**
+         * The codes of all slots.
+         */
+        private byte[] m_abCode = new byte[0];
+
+        /**
+         * The number of allocated slots.
+         */
+        private int m_cSlots;
+
+        /**
+         * The stack of free slots.
+         */
+        private int[] m_anFree = new int[0];
+
+        /**
+         * The number of free slots.
+         */
+        private int m_cFree;
+
+        /**
+         * The number of dimensions of the indexed vectors.
+         */
+        private int m_cDimensions = -1;
+
+        /**
+         * The number of bytes used by the keys.
+         */
+        private long m_cbKeys;
+
+        /**
+         * The number of bytes used by the pending vectors.
+         */
+        private long m_cbPending;
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Return the values of the specified vector.
+     *
+     * @param vector  the vector
+     *
+     * @return the values of the vector
+     *
+     * @throws IllegalArgumentException if the vector is not a {@link Float32Vector}
+     */
+    protected static float[] toFloats(Vector<?> vector)
+        {
+        if (vector instanceof Float32Vector)
+            {
+            return ((Float32Vector) vector).get();
+            }
+        throw new IllegalArgumentException("Quantized indexes support only Float32Vector values, not "
+                                           + vector.getClass().getName());
+        }
+
+    /**
+     * Ensure the specified array can hold the specified number of elements.
+     *
+     * @param an  the array
+     * @param c   the required number of elements
+     *
+     * @return the array, or a larger copy of it
+     */
+    protected static int[] ensureCapacity(int[] an, int c)
+        {
+        return c <= an.length ? an : Arrays.copyOf(an, Math.max(c, Math.max(16, an.length << 1)));
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The POF implementation version.
+     */
+    public static final int POF_IMPL_VERSION = 0;
+
+    /**
+     * The default number of vectors used to train the quantizer of a partition.
+     */
+    public static final int DEFAULT_TRAINING_SIZE = 1024;
+
+    /**
+     * The minimum number of vectors used to train the quantizer of a partition.
+     */
+    public static final int MIN_TRAINING_SIZE = 32;
+
+    /**
+     * The factor a partition must grow by, relative to the number of vectors
+     * its quantizer was trained with, before the quantizer is retrained.
+     */
+    public static final int RETRAIN_FACTOR = 4;
+
+    /**
+     * The initial capacity of the code arrays.
+     */
+    protected static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The memory cost of an entry in the key to slot map.
+     */
+    protected static final int ENTRY_OVERHEAD = SIZE_OBJECT_REF + 4;
+
+    /**
+     * The memory cost of an empty partition index.
+     */
+    protected static final long INDEX_OVERHEAD = calculateShallowSize(AbstractQuantIndex.QuantMapIndex.class)
+                                                 + calculateShallowSize(Object2IntOpenHashMap.class)
+                                                 + calculateShallowSize(LinkedHashMap.class)
+                                                 + calculateShallowSize(ReentrantReadWriteLock.class);
+
+    /**
+     * An empty result array.
+     */
+    protected static final BinaryQueryResult[] EMPTY_RESULTS = new BinaryQueryResult[0];
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The {@link ValueExtractor} to use to extract the {@link Vector}.
+     */
+    @JsonbProperty("extractor")
+    private ValueExtractor<V, Vector<float[]>> f_extractor;
+
+    /**
+     * The {@link DistanceAlgorithm} used to compare vectors.
+     */
+    @JsonbProperty("algorithm")
+    protected DistanceAlgorithm<float[]> m_algorithm = new CosineDistance<>();
+
+    /**
+     * The oversampling factor to use.
+     */
+    @JsonbProperty("oversamplingFactor")
+    private int m_nOversamplingFactor = 1;
+
+    /**
+     * The number of vectors used to train the quantizer of a partition.
+     */
+    @JsonbProperty("trainingSize")
+    private int m_cTrainingSize = DEFAULT_TRAINING_SIZE;
+    }
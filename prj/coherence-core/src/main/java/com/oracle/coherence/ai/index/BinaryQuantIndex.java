@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -7,6 +7,7 @@
 
 package com.oracle.coherence.ai.index;
 
+import com.oracle.coherence.ai.DistanceAlgorithm;
 import com.oracle.coherence.ai.Vector;
 import com.oracle.coherence.ai.VectorIndex;
 import com.oracle.coherence.ai.VectorIndexExtractor;
@@ -301,6 +302,13 @@ public class BinaryQuantIndex<K, V, T>
             m_cUnits.addAndGet(-cUnits);
             }
 
+        @Override
+        public boolean isExactDistance(DistanceAlgorithm<?> algorithm)
+            {
+            // the results contain Hamming distances
+            return false;
+            }
+
         @Override
         public BinaryQueryResult[] query(Vector<T> vector, int k, Filter<?> filter)
             {
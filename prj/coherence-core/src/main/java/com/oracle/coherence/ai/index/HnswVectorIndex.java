@@ -0,0 +1,1328 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.ai.index;
+
+import com.oracle.coherence.ai.DistanceAlgorithm;
+import com.oracle.coherence.ai.Vector;
+import com.oracle.coherence.ai.VectorIndex;
+import com.oracle.coherence.ai.VectorIndexExtractor;
+
+import com.oracle.coherence.ai.distance.CosineDistance;
+
+import com.oracle.coherence.ai.search.BinaryQueryResult;
+
+import com.tangosol.io.AbstractEvolvable;
+import com.tangosol.io.ExternalizableLite;
+import com.tangosol.io.pof.EvolvablePortableObject;
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+
+import com.tangosol.net.BackingMapContext;
+import com.tangosol.net.cache.SimpleMemoryCalculator;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMapHelper;
+import com.tangosol.util.MapIndex;
+import com.tangosol.util.NullImplementation;
+import com.tangosol.util.ValueExtractor;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.tangosol.net.cache.SimpleMemoryCalculator.SIZE_BASIC_OBJECT;
+import static com.tangosol.net.cache.SimpleMemoryCalculator.SIZE_OBJECT_REF;
+import static com.tangosol.net.cache.SimpleMemoryCalculator.calculateShallowSize;
+import static com.tangosol.net.cache.SimpleMemoryCalculator.padMemorySize;
+
+/**
+ * An {@link VectorIndexExtractor} to create a {@link VectorIndex} backed by a
+ * pure Java implementation of a Hierarchical Navigable Small World (HNSW)
+ * graph.
+ * <p/>
+ * Unlike the native {@code HnswIndex} in the {@code coherence-hnsw} module, a
+ * separate graph is built for each partition, so the index is created,
+ * populated and discarded together with the partition it belongs to and
+ * follows primary ownership as partitions are transferred between members.
+ * The distances are calculated by the configured {@link DistanceAlgorithm},
+ * which uses the SIMD kernels of the vectorization provider when they are
+ * available. Both {@link com.oracle.coherence.ai.Float32Vector Float32Vector}
+ * and {@link com.oracle.coherence.ai.Int8Vector Int8Vector} values are
+ * supported, although all vectors within a single index must have the same
+ * type and the same number of dimensions.
+ * <p/>
+ * Removed entries are marked as deleted and continue to be used for graph
+ * navigation until the number of deleted nodes exceeds
+ * {@link #COMPACT_RATIO a fraction} of the live nodes, at which point the
+ * partition graph is rebuilt.
+ *
+ * @param <K>  the type of the cache key
+ * @param <V>  the type of the cache value
+ * @param <T>  the type of the vector
+ *
+ * @author coh  2026.10.16
+ * @since 15.0.0
+ */
+public class HnswVectorIndex<K, V, T>
+        extends AbstractEvolvable
+        implements VectorIndexExtractor<V, T>, ExternalizableLite, EvolvablePortableObject
+    {
+    /**
+     * Default constructor for serialization.
+     */
+    public HnswVectorIndex()
+        {
+        }
+
+    /**
+     * Create a {@link HnswVectorIndex} using {@link CosineDistance}.
+     *
+     * @param extractor  the {@link ValueExtractor} to use to extract the {@link Vector}
+     */
+    public HnswVectorIndex(ValueExtractor<V, Vector<T>> extractor)
+        {
+        this(extractor, new CosineDistance<>());
+        }
+
+    /**
+     * Create a {@link HnswVectorIndex}.
+     *
+     * @param extractor  the {@link ValueExtractor} to use to extract the {@link Vector}
+     * @param algorithm  the {@link DistanceAlgorithm} to use to build and search the graph
+     */
+    public HnswVectorIndex(ValueExtractor<V, Vector<T>> extractor, DistanceAlgorithm<T> algorithm)
+        {
+        f_extractor = ValueExtractor.of(Objects.requireNonNull(extractor));
+        m_algorithm = Objects.requireNonNull(algorithm);
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the {@link ValueExtractor} used to extract the {@link Vector}.
+     *
+     * @return the {@link ValueExtractor} used to extract the {@link Vector}
+     */
+    public ValueExtractor<V, Vector<T>> getExtractor()
+        {
+        return f_extractor;
+        }
+
+    /**
+     * Return the {@link DistanceAlgorithm} used to build and search the graph.
+     *
+     * @return the {@link DistanceAlgorithm} used to build and search the graph
+     */
+    public DistanceAlgorithm<T> getAlgorithm()
+        {
+        return m_algorithm;
+        }
+
+    /**
+     * Return the maximum number of outgoing connections of a node on the
+     * upper layers of the graph; the bottom layer allows twice as many.
+     *
+     * @return the maximum number of outgoing connections
+     */
+    public int getM()
+        {
+        return m_nM;
+        }
+
+    /**
+     * Set the maximum number of outgoing connections of a node on the upper
+     * layers of the graph.
+     *
+     * @param nM  the maximum number of outgoing connections
+     *
+     * @return this {@link HnswVectorIndex} for fluent API calls
+     */
+    public HnswVectorIndex<K, V, T> setM(int nM)
+        {
+        if (nM < 2)
+            {
+            throw new IllegalArgumentException("M must be at least 2");
+            }
+        m_nM = nM;
+        return this;
+        }
+
+    /**
+     * Return the size of the dynamic candidate list used while building the
+     * graph.
+     *
+     * @return the size of the dynamic candidate list used while building the graph
+     */
+    public int getEfConstruction()
+        {
+        return m_nEfConstruction;
+        }
+
+    /**
+     * Set the size of the dynamic candidate list used while building the
+     * graph.
+     *
+     * @param nEfConstruction  the size of the dynamic candidate list
+     *
+     * @return this {@link HnswVectorIndex} for fluent API calls
+     */
+    public HnswVectorIndex<K, V, T> setEfConstruction(int nEfConstruction)
+        {
+        m_nEfConstruction = Math.max(1, nEfConstruction);
+        return this;
+        }
+
+    /**
+     * Return the size of the dynamic candidate list used while searching the
+     * graph.
+     *
+     * @return the size of the dynamic candidate list used while searching the graph
+     */
+    public int getEfSearch()
+        {
+        return m_nEfSearch;
+        }
+
+    /**
+     * Set the size of the dynamic candidate list used while searching the
+     * graph; the effective value is never smaller than the number of
+     * requested results.
+     *
+     * @param nEfSearch  the size of the dynamic candidate list
+     *
+     * @return this {@link HnswVectorIndex} for fluent API calls
+     */
+    public HnswVectorIndex<K, V, T> setEfSearch(int nEfSearch)
+        {
+        m_nEfSearch = Math.max(1, nEfSearch);
+        return this;
+        }
+
+    /**
+     * Return the seed used to assign graph layers to the inserted vectors.
+     *
+     * @return the random seed
+     */
+    public long getRandomSeed()
+        {
+        return m_lRandomSeed;
+        }
+
+    /**
+     * Set the seed used to assign graph layers to the inserted vectors.
+     *
+     * @param lRandomSeed  the random seed
+     *
+     * @return this {@link HnswVectorIndex} for fluent API calls
+     */
+    public HnswVectorIndex<K, V, T> setRandomSeed(long lRandomSeed)
+        {
+        m_lRandomSeed = lRandomSeed;
+        return this;
+        }
+
+    // ----- VectorIndexExtractor interface ---------------------------------
+
+    @Override
+    public Vector<T> extract(V v)
+        {
+        // this method is never called
+        throw new UnsupportedOperationException();
+        }
+
+    @Override
+    public MapIndex<K, V, Vector<T>> createIndex(boolean b, Comparator comparator, Map<ValueExtractor<V, Vector<T>>, MapIndex> map, BackingMapContext backingMapContext)
+        {
+        HnswVectorMapIndex mapIndex = new HnswVectorMapIndex(backingMapContext);
+        map.put(f_extractor, mapIndex);
+        return mapIndex;
+        }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public MapIndex<K, V, Vector<T>> destroyIndex(Map<ValueExtractor<V, Vector<T>>, MapIndex> map)
+        {
+        return map.remove(f_extractor);
+        }
+
+    // ----- Object methods -------------------------------------------------
+
+    @Override
+    public boolean equals(Object o)
+        {
+        if (this == o)
+            {
+            return true;
+            }
+        if (o == null || getClass() != o.getClass())
+            {
+            return false;
+            }
+        HnswVectorIndex<?, ?, ?> that = (HnswVectorIndex<?, ?, ?>) o;
+        return Objects.equals(f_extractor, that.f_extractor);
+        }
+
+    @Override
+    public int hashCode()
+        {
+        return Objects.hash(f_extractor);
+        }
+
+    @Override
+    public String toString()
+        {
+        return "HnswVectorIndex{" +
+               "extractor=" + f_extractor +
+               ", algorithm=" + m_algorithm +
+               ", m=" + m_nM +
+               ", efConstruction=" + m_nEfConstruction +
+               ", efSearch=" + m_nEfSearch +
+               '}';
+        }
+
+    // ----- EvolvablePortableObject interface ------------------------------
+
+    @Override
+    public int getImplVersion()
+        {
+        return POF_IMPL_VERSION;
+        }
+
+    @Override
+    public void readExternal(PofReader in) throws IOException
+        {
+        f_extractor       = in.readObject(0);
+        m_algorithm       = in.readObject(1);
+        m_nM              = in.readInt(2);
+        m_nEfConstruction = in.readInt(3);
+        m_nEfSearch       = in.readInt(4);
+        m_lRandomSeed     = in.readLong(5);
+        }
+
+    @Override
+    public void writeExternal(PofWriter out) throws IOException
+        {
+        out.writeObject(0, f_extractor);
+        out.writeObject(1, m_algorithm);
+        out.writeInt(2, m_nM);
+        out.writeInt(3, m_nEfConstruction);
+        out.writeInt(4, m_nEfSearch);
+        out.writeLong(5, m_lRandomSeed);
+        }
+
+    // ----- ExternalizableLite interface -----------------------------------
+
+    @Override
+    public void readExternal(DataInput in) throws IOException
+        {
+        f_extractor       = ExternalizableHelper.readObject(in);
+        m_algorithm       = ExternalizableHelper.readObject(in);
+        m_nM              = in.readInt();
+        m_nEfConstruction = in.readInt();
+        m_nEfSearch       = in.readInt();
+        m_lRandomSeed     = in.readLong();
+        }
+
+    @Override
+    public void writeExternal(DataOutput out) throws IOException
+        {
+        ExternalizableHelper.writeObject(out, f_extractor);
+        ExternalizableHelper.writeObject(out, m_algorithm);
+        out.writeInt(m_nM);
+        out.writeInt(m_nEfConstruction);
+        out.writeInt(m_nEfSearch);
+        out.writeLong(m_lRandomSeed);
+        }
+
+    // ----- inner class: HnswVectorMapIndex --------------------------------
+
+    /**
+     * A {@link VectorIndex} holding the HNSW graph of a single partition.
+     * <p/>
+     * The graph nodes are identified by their position in a set of parallel
+     * arrays; the neighbours of a node on each layer are stored in an
+     * {@code int[]} whose first element is the number of neighbours. Updates
+     * are serialized by a write lock, while searches share a read lock.
+     */
+    @SuppressWarnings("unchecked")
+    public class HnswVectorMapIndex
+            implements VectorIndex<K, V, Vector<T>>
+        {
+        /**
+         * Create a {@link HnswVectorMapIndex}.
+         *
+         * @param ctx  the cache {@link BackingMapContext}
+         */
+        protected HnswVectorMapIndex(BackingMapContext ctx)
+            {
+            f_backingMapContext = ctx;
+            f_random            = new SplittableRandom(m_lRandomSeed);
+            f_mapNodes.defaultReturnValue(-1);
+            }
+
+        // ----- accessors --------------------------------------------------
+
+        /**
+         * Return the {@link DistanceAlgorithm} used by this index.
+         *
+         * @return the {@link DistanceAlgorithm} used by this index
+         */
+        public DistanceAlgorithm<T> getAlgorithm()
+            {
+            return m_algorithm;
+            }
+
+        /**
+         * Return the number of dimensions of the indexed vectors.
+         *
+         * @return the number of dimensions, or -1 if the index is empty
+         */
+        public int getDimensions()
+            {
+            return m_cDimensions;
+            }
+
+        /**
+         * Return the number of live vectors in this index.
+         *
+         * @return the number of live vectors in this index
+         */
+        public int size()
+            {
+            Lock lock = f_lock.readLock();
+            lock.lock();
+            try
+                {
+                return f_mapNodes.size();
+                }
+            finally
+                {
+                lock.unlock();
+                }
+            }
+
+        // ----- MapIndex interface -----------------------------------------
+
+        @Override
+        public ValueExtractor<V, Vector<T>> getValueExtractor()
+            {
+            return f_extractor;
+            }
+
+        @Override
+        public boolean isOrdered()
+            {
+            return false;
+            }
+
+        @Override
+        public boolean isPartial()
+            {
+            return false;
+            }
+
+        @Override
+        public Map<Vector<T>, Set<K>> getIndexContents()
+            {
+            return NullImplementation.getMap();
+            }
+
+        @Override
+        public Object get(K k)
+            {
+            Lock lock = f_lock.readLock();
+            lock.lock();
+            try
+                {
+                int nNode = f_mapNodes.getInt(k);
+                return nNode < 0 ? null : m_aVector[nNode];
+                }
+            finally
+                {
+                lock.unlock();
+                }
+            }
+
+        @Override
+        public Comparator<Vector<T>> getComparator()
+            {
+            return null;
+            }
+
+        @Override
+        public long getUnits()
+            {
+            return m_cUnits.get();
+            }
+
+        @Override
+        public void insert(Map.Entry<? extends K, ? extends V> entry)
+            {
+            Vector<T> vector = InvocableMapHelper.extractFromEntry(f_extractor, entry);
+            if (vector != null)
+                {
+                Lock lock = f_lock.writeLock();
+                lock.lock();
+                try
+                    {
+                    Object oKey = getKey(entry);
+                    removeNode(oKey);
+                    addNode(oKey, vector);
+                    compactIfNecessary();
+                    }
+                finally
+                    {
+                    lock.unlock();
+                    }
+                }
+            }
+
+        @Override
+        public void update(Map.Entry<? extends K, ? extends V> entry)
+            {
+            Vector<T> vector = InvocableMapHelper.extractFromEntry(f_extractor, entry);
+            if (vector == null)
+                {
+                delete(entry);
+                return;
+                }
+
+            Lock lock = f_lock.writeLock();
+            lock.lock();
+            try
+                {
+                Object oKey  = getKey(entry);
+                int    nNode = f_mapNodes.getInt(oKey);
+                if (nNode < 0 || !vector.equals(m_aVector[nNode]))
+                    {
+                    removeNode(oKey);
+                    addNode(oKey, vector);
+                    compactIfNecessary();
+                    }
+                }
+            finally
+                {
+                lock.unlock();
+                }
+            }
+
+        @Override
+        public void delete(Map.Entry<? extends K, ? extends V> entry)
+            {
+            Lock lock = f_lock.writeLock();
+            lock.lock();
+            try
+                {
+                if (removeNode(getKey(entry)))
+                    {
+                    compactIfNecessary();
+                    }
+                }
+            finally
+                {
+                lock.unlock();
+                }
+            }
+
+        // ----- VectorIndex interface --------------------------------------
+
+        @Override
+        public boolean isExactDistance(DistanceAlgorithm<?> algorithm)
+            {
+            return algorithm != null && algorithm.getClass() == m_algorithm.getClass();
+            }
+
+        @Override
+        public BinaryQueryResult[] query(Vector<T> vector, int k, Filter<?> filter)
+            {
+            return query(vector, k, filter, null);
+            }
+
+        @Override
+        public BinaryQueryResult[] query(Vector<T> vector, int k, Filter<?> filter, Set<?> setKeys)
+            {
+            Objects.requireNonNull(vector);
+
+            Lock lock = f_lock.readLock();
+            lock.lock();
+            try
+                {
+                int nEntry = m_nEntry;
+                if (nEntry < 0 || k <= 0 || f_mapNodes.isEmpty())
+                    {
+                    return EMPTY_RESULTS;
+                    }
+
+                Vector<T> vectorEntry = m_aVector[nEntry];
+                if (vector.getClass() != vectorEntry.getClass() || vector.dimensions() != m_cDimensions)
+                    {
+                    throw new IllegalArgumentException("Query vector " + vector.getClass().getSimpleName()
+                            + '[' + vector.dimensions() + "] is not compatible with the indexed vectors "
+                            + vectorEntry.getClass().getSimpleName() + '[' + m_cDimensions + ']');
+                    }
+
+                NodeQueue results;
+                if (setKeys == null)
+                    {
+                    results = searchGraph(vector, nEntry, Math.max(m_nEfSearch, k), filter, null);
+                    }
+                else
+                    {
+                    BitSet bsAllowed = new BitSet(m_cNodes);
+                    for (Object oKey : setKeys)
+                        {
+                        int nNode = f_mapNodes.getInt(oKey);
+                        if (nNode >= 0)
+                            {
+                            bsAllowed.set(nNode);
+                            }
+                        }
+
+                    int cAllowed = bsAllowed.cardinality();
+                    if (cAllowed == 0)
+                        {
+                        return EMPTY_RESULTS;
+                        }
+
+                    if (isScan(k, cAllowed))
+                        {
+                        results = scan(vector, k, filter, bsAllowed);
+                        }
+                    else
+                        {
+                        // widen the candidate list in proportion to the selectivity,
+                        // so that enough allowed nodes are found during the traversal
+                        int cEf = Math.max(m_nEfSearch, k);
+                        cEf = (int) Math.min((long) cEf * f_mapNodes.size() / cAllowed, cEf * MAX_EF_FACTOR);
+
+                        results = searchGraph(vector, nEntry, cEf, filter, bsAllowed);
+                        }
+                    }
+
+                // the results queue is a max-heap; drain it in reverse order
+                int                 cResults = Math.min(k, results.size());
+                BinaryQueryResult[] aResults = new BinaryQueryResult[cResults];
+                while (results.size() > cResults)
+                    {
+                    results.poll();
+                    }
+                for (int i = cResults - 1; i >= 0; i--)
+                    {
+                    double            dResult = results.peekDistance();
+                    Binary            binKey  = (Binary) m_aoKey[results.poll()];
+                    BinaryEntry<K, V> entry   = f_backingMapContext.getReadOnlyEntry(binKey).asBinaryEntry();
+
+                    aResults[i] = new BinaryQueryResult(dResult, binKey, entry.getBinaryValue());
+                    }
+                return aResults;
+                }
+            finally
+                {
+                lock.unlock();
+                }
+            }
+
+        @Override
+        public boolean isScan(int k, int cKeys)
+            {
+            // a scan calculates one distance per key, while a traversal
+            // calculates up to M distances for each of (efSearch / selectivity)
+            // expanded nodes; the scan also returns exact results
+            return cKeys <= Math.max(m_nEfSearch, k) * m_nM || cKeys <= f_mapNodes.size() * SCAN_RATIO;
+            }
+
+        // ----- graph maintenance ------------------------------------------
+
+        /**
+         * Add a node for the specified key and vector to the graph.
+         *
+         * @param oKey    the cache key
+         * @param vector  the vector
+         */
+        protected void addNode(Object oKey, Vector<T> vector)
+            {
+            int cDimensions = vector.dimensions();
+            if (m_cDimensions < 0)
+                {
+                m_cDimensions = cDimensions;
+                }
+            else if (cDimensions != m_cDimensions
+                     || (m_nEntry >= 0 && vector.getClass() != m_aVector[m_nEntry].getClass()))
+                {
+                throw new IllegalArgumentException("Vector " + vector.getClass().getSimpleName()
+                        + '[' + cDimensions + "] is not compatible with the indexed vectors of "
+                        + m_cDimensions + " dimensions");
+                }
+
+            int nNode = m_cNodes;
+            ensureCapacity(nNode + 1);
+            m_cNodes = nNode + 1;
+
+            int     nLevel      = randomLevel();
+            int[][] aanNeighbor = new int[nLevel + 1][];
+            long    cUnits      = ENTRY_OVERHEAD + CALC.sizeOf(oKey) + CALC.sizeOf(vector)
+                                  + padMemorySize(SIZE_BASIC_OBJECT + 4 + (nLevel + 1) * SIZE_OBJECT_REF);
+
+            for (int i = 0; i <= nLevel; i++)
+                {
+                aanNeighbor[i] = new int[1 + getMaxConnections(i)];
+                cUnits        += padMemorySize(SIZE_BASIC_OBJECT + 4 + 4 * aanNeighbor[i].length);
+                }
+
+            m_aoKey[nNode]       = oKey;
+            m_aVector[nNode]     = vector;
+            m_aaanNeighbor[nNode] = aanNeighbor;
+            f_mapNodes.put(oKey, nNode);
+            m_cUnits.addAndGet(cUnits);
+
+            int nEntry = m_nEntry;
+            if (nEntry < 0)
+                {
+                m_nEntry    = nNode;
+                m_nMaxLevel = nLevel;
+                return;
+                }
+
+            for (int i = m_nMaxLevel; i > nLevel; i--)
+                {
+                nEntry = searchGreedy(vector, nEntry, i);
+                }
+
+            for (int i = Math.min(nLevel, m_nMaxLevel); i >= 0; i--)
+                {
+                NodeQueue candidates = searchLayer(vector, nEntry, m_nEfConstruction, i, false, null, null);
+
+                // the closest candidate is the entry point for the next layer
+                NodeQueue closest = candidates.reverse();
+                nEntry = closest.peekNode();
+
+                int[] anNeighbor = aanNeighbor[i];
+                selectNeighbors(closest, m_nM, anNeighbor);
+                for (int j = 1, c = anNeighbor[0]; j <= c; j++)
+                    {
+                    connect(anNeighbor[j], nNode, i);
+                    }
+                }
+
+            if (nLevel > m_nMaxLevel)
+                {
+                m_nEntry    = nNode;
+                m_nMaxLevel = nLevel;
+                }
+            }
+
+        /**
+         * Mark the node for the specified key as deleted.
+         *
+         * @param oKey  the cache key
+         *
+         * @return {@code true} if a node was deleted
+         */
+        protected boolean removeNode(Object oKey)
+            {
+            int nNode = f_mapNodes.removeInt(oKey);
+            if (nNode < 0)
+                {
+                return false;
+                }
+
+            // the vector and the edges are retained, as they are still used
+            // to navigate the graph until it is compacted
+            m_aoKey[nNode] = null;
+            f_bsDeleted.set(nNode);
+            m_cDeleted++;
+            m_cUnits.addAndGet(-(ENTRY_OVERHEAD + CALC.sizeOf(oKey)));
+            return true;
+            }
+
+        /**
+         * Rebuild the graph if it contains enough deleted nodes to warrant it.
+         */
+        protected void compactIfNecessary()
+            {
+            int cDeleted = m_cDeleted;
+            if (cDeleted >= COMPACT_MIN_DELETED && cDeleted > f_mapNodes.size() * COMPACT_RATIO)
+                {
+                compact();
+                }
+            }
+
+        /**
+         * Rebuild the graph from the live nodes, discarding the deleted ones.
+         */
+        protected void compact()
+            {
+            Object[]    aoKey   = m_aoKey;
+            Vector<T>[] aVector = m_aVector;
+            int         cNodes  = m_cNodes;
+            int         cLive   = f_mapNodes.size();
+
+            m_aoKey        = new Object[0];
+            m_aVector      = new Vector[0];
+            m_aaanNeighbor = new int[0][][];
+            m_cNodes       = 0;
+            m_cDeleted     = 0;
+            m_nEntry       = -1;
+            m_nMaxLevel    = -1;
+            m_cDimensions  = -1;
+            f_bsDeleted.clear();
+            f_mapNodes.clear();
+            m_cUnits.set(INDEX_OVERHEAD);
+
+            ensureCapacity(cLive);
+            for (int i = 0; i < cNodes; i++)
+                {
+                Object oKey = aoKey[i];
+                if (oKey != null)
+                    {
+                    addNode(oKey, aVector[i]);
+                    }
+                }
+            }
+
+        /**
+         * Ensure the node arrays can hold the specified number of nodes.
+         *
+         * @param cNodes  the required number of nodes
+         */
+        protected void ensureCapacity(int cNodes)
+            {
+            int cCapacity = m_aoKey.length;
+            if (cNodes > cCapacity)
+                {
+                int cNew = Math.max(cNodes, Math.max(INITIAL_CAPACITY, cCapacity + (cCapacity >> 1)));
+
+                m_aoKey        = Arrays.copyOf(m_aoKey, cNew);
+                m_aVector      = Arrays.copyOf(m_aVector, cNew);
+                m_aaanNeighbor = Arrays.copyOf(m_aaanNeighbor, cNew);
+                m_cUnits.addAndGet(3L * (cNew - cCapacity) * SIZE_OBJECT_REF);
+                }
+            }
+
+        /**
+         * Add an edge from the specified node to a new neighbour, pruning the
+         * edges of the node if it already has the maximum number of
+         * neighbours.
+         *
+         * @param nNode      the node to add the edge to
+         * @param nNeighbor  the new neighbour
+         * @param nLevel     the graph layer
+         */
+        protected void connect(int nNode, int nNeighbor, int nLevel)
+            {
+            int[] anNeighbor = m_aaanNeighbor[nNode][nLevel];
+            int   cNeighbor  = anNeighbor[0];
+
+            if (cNeighbor < anNeighbor.length - 1)
+                {
+                anNeighbor[++cNeighbor] = nNeighbor;
+                anNeighbor[0]           = cNeighbor;
+                return;
+                }
+
+            Vector<T> vector     = m_aVector[nNode];
+            NodeQueue candidates = new NodeQueue(cNeighbor + 1, false);
+
+            candidates.add(nNeighbor, distance(vector, nNeighbor));
+            for (int i = 1; i <= cNeighbor; i++)
+                {
+                candidates.add(anNeighbor[i], distance(vector, anNeighbor[i]));
+                }
+
+            selectNeighbors(candidates, anNeighbor.length - 1, anNeighbor);
+            }
+
+        /**
+         * Select up to the specified number of neighbours from the candidates
+         * using the HNSW heuristic, which prefers candidates that are closer
+         * to the target than to any previously selected neighbour, so that
+         * the graph remains navigable across clusters.
+         *
+         * @param candidates  a min-heap of candidates ordered by their
+         *                    distance to the target; drained by this method
+         * @param cMax        the maximum number of neighbours to select
+         * @param anResult    the array to store the selected neighbours in,
+         *                    preceded by their count
+         */
+        protected void selectNeighbors(NodeQueue candidates, int cMax, int[] anResult)
+            {
+            int cSelected = 0;
+            while (!candidates.isEmpty() && cSelected < cMax)
+                {
+                double    dCandidate = candidates.peekDistance();
+                int       nCandidate = candidates.poll();
+                Vector<T> vector     = m_aVector[nCandidate];
+                boolean   fSelect    = true;
+
+                for (int i = 1; i <= cSelected; i++)
+                    {
+                    if (distance(vector, anResult[i]) < dCandidate)
+                        {
+                        fSelect = false;
+                        break;
+                        }
+                    }
+
+                if (fSelect)
+                    {
+                    anResult[++cSelected] = nCandidate;
+                    }
+                }
+            anResult[0] = cSelected;
+            }
+
+        // ----- graph search -----------------------------------------------
+
+        /**
+         * Greedily move towards the specified vector on a single layer.
+         *
+         * @param vector  the target vector
+         * @param nNode   the node to start from
+         * @param nLevel  the graph layer
+         *
+         * @return the closest node found
+         */
+        protected int searchGreedy(Vector<T> vector, int nNode, int nLevel)
+            {
+            double  dDistance = distance(vector, nNode);
+            boolean fChanged  = true;
+            while (fChanged)
+                {
+                fChanged = false;
+
+                int[] anNeighbor = m_aaanNeighbor[nNode][nLevel];
+                for (int i = 1, c = anNeighbor[0]; i <= c; i++)
+                    {
+                    int    nNeighbor = anNeighbor[i];
+                    double d         = distance(vector, nNeighbor);
+                    if (d < dDistance)
+                        {
+                        dDistance = d;
+                        nNode     = nNeighbor;
+                        fChanged  = true;
+                        }
+                    }
+                }
+            return nNode;
+            }
+
+        /**
+         * Search the graph for the closest nodes to the specified vector.
+         *
+         * @param vector     the target vector
+         * @param nEntry     the entry node of the top layer
+         * @param cEf        the size of the dynamic candidate list
+         * @param filter     an optional filter the result entries must match
+         * @param bsAllowed  the nodes that can be included in the results, or
+         *                   null to allow all nodes
+         *
+         * @return a max-heap of the closest nodes found
+         */
+        protected NodeQueue searchGraph(Vector<T> vector, int nEntry, int cEf, Filter<?> filter, BitSet bsAllowed)
+            {
+            // descend the upper layers greedily
+            for (int nLevel = m_nMaxLevel; nLevel > 0; nLevel--)
+                {
+                nEntry = searchGreedy(vector, nEntry, nLevel);
+                }
+
+            return searchLayer(vector, nEntry, cEf, 0, true, filter, bsAllowed);
+            }
+
+        /**
+         * Calculate the distance to each of the specified nodes.
+         *
+         * @param vector     the target vector
+         * @param k          the maximum number of results to return
+         * @param filter     an optional filter the result entries must match
+         * @param bsAllowed  the nodes to scan
+         *
+         * @return a max-heap of the closest nodes
+         */
+        protected NodeQueue scan(Vector<T> vector, int k, Filter<?> filter, BitSet bsAllowed)
+            {
+            // order all candidates first, so that the filter is only evaluated
+            // for the closest ones
+            NodeQueue candidates = new NodeQueue(bsAllowed.cardinality(), false);
+            for (int nNode = bsAllowed.nextSetBit(0); nNode >= 0; nNode = bsAllowed.nextSetBit(nNode + 1))
+                {
+                if (!f_bsDeleted.get(nNode))
+                    {
+                    candidates.add(nNode, distance(vector, nNode));
+                    }
+                }
+
+            NodeQueue results = new NodeQueue(k + 1, true);
+            while (!candidates.isEmpty() && results.size() < k)
+                {
+                double d     = candidates.peekDistance();
+                int    nNode = candidates.poll();
+                if (isResult(nNode, true, filter, null))
+                    {
+                    results.add(nNode, d);
+                    }
+                }
+            return results;
+            }
+
+        /**
+         * Search a single layer of the graph.
+         *
+         * @param vector     the target vector
+         * @param nEntry     the entry node
+         * @param cEf        the size of the dynamic candidate list
+         * @param nLevel     the graph layer
+         * @param fLiveOnly  {@code true} to exclude deleted nodes from the results
+         * @param filter     an optional filter the result entries must match
+         * @param bsAllowed  the nodes that can be included in the results, or
+         *                   null to allow all nodes
+         *
+         * @return a max-heap of the closest nodes found
+         */
+        protected NodeQueue searchLayer(Vector<T> vector, int nEntry, int cEf, int nLevel,
+                                        boolean fLiveOnly, Filter<?> filter, BitSet bsAllowed)
+            {
+            double    dEntry     = distance(vector, nEntry);
+            NodeQueue candidates = new NodeQueue(cEf, false);
+            NodeQueue results    = new NodeQueue(cEf + 1, true);
+            BitSet    bsVisited  = new BitSet(m_cNodes);
+
+            bsVisited.set(nEntry);
+            candidates.add(nEntry, dEntry);
+            if (isResult(nEntry, fLiveOnly, filter, bsAllowed))
+                {
+                results.add(nEntry, dEntry);
+                }
+
+            while (!candidates.isEmpty())
+                {
+                double dCandidate = candidates.peekDistance();
+                if (results.size() >= cEf && dCandidate > results.peekDistance())
+                    {
+                    break;
+                    }
+
+                int[] anNeighbor = m_aaanNeighbor[candidates.poll()][nLevel];
+                for (int i = 1, c = anNeighbor[0]; i <= c; i++)
+                    {
+                    int nNeighbor = anNeighbor[i];
+                    if (bsVisited.get(nNeighbor))
+                        {
+                        continue;
+                        }
+                    bsVisited.set(nNeighbor);
+
+                    double d = distance(vector, nNeighbor);
+                    if (results.size() < cEf || d < results.peekDistance())
+                        {
+                        candidates.add(nNeighbor, d);
+                        if (isResult(nNeighbor, fLiveOnly, filter, bsAllowed))
+                            {
+                            results.add(nNeighbor, d);
+                            if (results.size() > cEf)
+                                {
+                                results.poll();
+                                }
+                            }
+                        }
+                    }
+                }
+            return results;
+            }
+
+        /**
+         * Return {@code true} if the specified node can be included in the
+         * results of a layer search.
+         *
+         * @param nNode      the node
+         * @param fLiveOnly  {@code true} to exclude deleted nodes
+         * @param filter     an optional filter the entry must match
+         * @param bsAllowed  the nodes that can be included in the results, or
+         *                   null to allow all nodes
+         *
+         * @return {@code true} if the node can be included in the results
+         */
+        protected boolean isResult(int nNode, boolean fLiveOnly, Filter<?> filter, BitSet bsAllowed)
+            {
+            if (fLiveOnly && f_bsDeleted.get(nNode) || bsAllowed != null && !bsAllowed.get(nNode))
+                {
+                return false;
+                }
+            if (filter == null)
+                {
+                return true;
+                }
+            Binary binKey = (Binary) m_aoKey[nNode];
+            return InvocableMapHelper.evaluateEntry(filter, f_backingMapContext.getReadOnlyEntry(binKey));
+            }
+
+        // ----- helper methods ---------------------------------------------
+
+        /**
+         * Return the distance between the specified vector and the vector of
+         * a node.
+         *
+         * @param vector  the vector
+         * @param nNode   the node
+         *
+         * @return the distance
+         */
+        protected double distance(Vector<T> vector, int nNode)
+            {
+            return m_algorithm.distance(vector, m_aVector[nNode]);
+            }
+
+        /**
+         * Return the maximum number of neighbours of a node on the specified
+         * layer.
+         *
+         * @param nLevel  the graph layer
+         *
+         * @return the maximum number of neighbours
+         */
+        protected int getMaxConnections(int nLevel)
+            {
+            return nLevel == 0 ? 2 * m_nM : m_nM;
+            }
+
+        /**
+         * Return a random layer for a new node, drawn from an exponentially
+         * decaying distribution.
+         *
+         * @return the top layer of a new node
+         */
+        protected int randomLevel()
+            {
+            double dMult = 1.0d / Math.log(m_nM);
+            int    nLevel = (int) (-Math.log(1.0d - f_random.nextDouble()) * dMult);
+            return Math.min(nLevel, MAX_LEVEL);
+            }
+
+        /**
+         * Return the key of the specified entry.
+         *
+         * @param entry  the entry
+         *
+         * @return the binary key of a {@link BinaryEntry}, or the entry key
+         */
+        protected Object getKey(Map.Entry<? extends K, ? extends V> entry)
+            {
+            return entry instanceof BinaryEntry
+                   ? ((BinaryEntry<?, ?>) entry).getBinaryKey()
+                   : entry.getKey();
+            }
+
+        // ----- constants --------------------------------------------------
+
+        /**
+        * UnitCalculator used to estimate the cost of a value.
+        */
+        protected SimpleMemoryCalculator CALC = new SimpleMemoryCalculator();
+
+        /**
+        * The memory cost of an entry in the key to node map.
+        */
+        protected static final int ENTRY_OVERHEAD = SIZE_OBJECT_REF + 4;
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The cache {@link BackingMapContext}.
+         */
+        private final BackingMapContext f_backingMapContext;
+
+        /**
+         * The lock that serializes updates and allows concurrent searches.
+         */
+        private final ReentrantReadWriteLock f_lock = new ReentrantReadWriteLock();
+
+        /**
+         * The random number generator used to assign node layers.
+         */
+        private final SplittableRandom f_random;
+
+        /**
+         * The map of cache keys to live nodes.
+         */
+        private final Object2IntOpenHashMap<Object> f_mapNodes = new Object2IntOpenHashMap<>();
+
+        /**
+         * The set of deleted nodes.
+         */
+        private final BitSet f_bsDeleted = new BitSet();
+
+        /**
+         * The key of each node, or null for deleted nodes.
+         */
+        private Object[] m_aoKey = new Object[0];
+
+        /**
+         * The vector of each node.
+         */
+        private Vector<T>[] m_aVector = new Vector[0];
+
+        /**
+         * The neighbours of each node, per layer.
+         */
+        private int[][][] m_aaanNeighbor = new int[0][][];
+
+        /**
+         * The number of allocated nodes, including the deleted ones.
+         */
+        private int m_cNodes;
+
+        /**
+         * The number of deleted nodes.
+         */
+        private int m_cDeleted;
+
+        /**
+         * The graph entry node, or -1 if the graph is empty.
+         */
+        private int m_nEntry = -1;
+
+        /**
+         * The top layer of the graph.
+         */
+        private int m_nMaxLevel = -1;
+
+        /**
+         * The number of dimensions of the indexed vectors.
+         */
+        private int m_cDimensions = -1;
+
+        /**
+         * The number of units (bytes) used by this index.
+         */
+        private final AtomicLong m_cUnits = new AtomicLong(INDEX_OVERHEAD);
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The POF implementation version.
+     */
+    public static final int POF_IMPL_VERSION = 0;
+
+    /**
+     * The default maximum number of outgoing connections of a node.
+     */
+    public static final int DEFAULT_M = 16;
+
+    /**
+     * The default size of the dynamic candidate list used while building the graph.
+     */
+    public static final int DEFAULT_EF_CONSTRUCTION = 200;
+
+    /**
+     * The default size of the dynamic candidate list used while searching the graph.
+     */
+    public static final int DEFAULT_EF_SEARCH = 50;
+
+    /**
+     * The ratio of deleted to live nodes above which a partition graph is rebuilt.
+     */
+    public static final double COMPACT_RATIO = 0.5d;
+
+    /**
+     * The minimum number of deleted nodes before a partition graph is rebuilt.
+     */
+    protected static final int COMPACT_MIN_DELETED = 64;
+
+    /**
+     * The initial capacity of the node arrays.
+     */
+    protected static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The highest layer a node may be assigned to.
+     */
+    protected static final int MAX_LEVEL = 16;
+
+    /**
+     * The fraction of the indexed vectors below which a search restricted to
+     * a key set scans the keys instead of traversing the graph.
+     */
+    public static final double SCAN_RATIO = 0.05d;
+
+    /**
+     * The maximum factor by which the candidate list of a search restricted
+     * to a key set is widened.
+     */
+    protected static final int MAX_EF_FACTOR = 20;
+
+    /**
+     * The memory cost of an empty partition index.
+     */
+    protected static final long INDEX_OVERHEAD = calculateShallowSize(HnswVectorIndex.HnswVectorMapIndex.class)
+                                                 + calculateShallowSize(Object2IntOpenHashMap.class)
+                                                 + calculateShallowSize(BitSet.class);
+
+    /**
+     * An empty result array.
+     */
+    protected static final BinaryQueryResult[] EMPTY_RESULTS = new BinaryQueryResult[0];
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The {@link ValueExtractor} to use to extract the {@link Vector}.
+     */
+    @JsonbProperty("extractor")
+    private ValueExtractor<V, Vector<T>> f_extractor;
+
+    /**
+     * The {@link DistanceAlgorithm} used to build and search the graph.
+     */
+    @JsonbProperty("algorithm")
+    private DistanceAlgorithm<T> m_algorithm = new CosineDistance<>();
+
+    /**
+     * The maximum number of outgoing connections of a node.
+     */
+    @JsonbProperty("m")
+    private int m_nM = DEFAULT_M;
+
+    /**
+     * The size of the dynamic candidate list used while building the graph.
+     */
+    @JsonbProperty("efConstruction")
+    private int m_nEfConstruction = DEFAULT_EF_CONSTRUCTION;
+
+    /**
+     * The size of the dynamic candidate list used while searching the graph.
+     */
+    @JsonbProperty("efSearch")
+    private int m_nEfSearch = DEFAULT_EF_SEARCH;
+
+    /**
+     * The seed used to assign graph layers.
+     */
+    @JsonbProperty("randomSeed")
+    private long m_lRandomSeed = 100L;
+    }
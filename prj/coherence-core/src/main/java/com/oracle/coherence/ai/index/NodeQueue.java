@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.ai.index;
+
+import java.util.Arrays;
+
+/**
+ * A binary heap of vector index nodes, identified by an {@code int}, ordered
+ * by their distance to a target vector.
+ *
+ * @author coh  2026.10.16
+ * @since 15.0.0
+ */
+final class NodeQueue
+    {
+    /**
+     * Create a {@link NodeQueue}.
+     *
+     * @param cCapacity  the initial capacity
+     * @param fMax       {@code true} for a max-heap, {@code false} for a min-heap
+     */
+    NodeQueue(int cCapacity, boolean fMax)
+        {
+        cCapacity = Math.max(cCapacity, 4);
+        m_anNode  = new int[cCapacity];
+        m_adDist  = new double[cCapacity];
+        f_fMax    = fMax;
+        }
+
+    /**
+     * Return the number of nodes in the queue.
+     *
+     * @return the number of nodes in the queue
+     */
+    int size()
+        {
+        return m_cSize;
+        }
+
+    /**
+     * Return {@code true} if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty
+     */
+    boolean isEmpty()
+        {
+        return m_cSize == 0;
+        }
+
+    /**
+     * Return the node at the head of the queue.
+     *
+     * @return the node at the head of the queue
+     */
+    int peekNode()
+        {
+        return m_anNode[0];
+        }
+
+    /**
+     * Return the distance of the node at the head of the queue.
+     *
+     * @return the distance of the node at the head of the queue
+     */
+    double peekDistance()
+        {
+        return m_adDist[0];
+        }
+
+    /**
+     * Add a node to the queue.
+     *
+     * @param nNode  the node
+     * @param d      the distance of the node
+     */
+    void add(int nNode, double d)
+        {
+        int i = m_cSize++;
+        if (i == m_anNode.length)
+            {
+            m_anNode = Arrays.copyOf(m_anNode, i << 1);
+            m_adDist = Arrays.copyOf(m_adDist, i << 1);
+            }
+
+        // sift up
+        while (i > 0)
+            {
+            int iParent = (i - 1) >>> 1;
+            if (!precedes(d, m_adDist[iParent]))
+                {
+                break;
+                }
+            m_anNode[i] = m_anNode[iParent];
+            m_adDist[i] = m_adDist[iParent];
+            i = iParent;
+            }
+        m_anNode[i] = nNode;
+        m_adDist[i] = d;
+        }
+
+    /**
+     * Remove the node at the head of the queue.
+     *
+     * @return the removed node
+     */
+    int poll()
+        {
+        int    nHead = m_anNode[0];
+        int    cSize = --m_cSize;
+        int    nLast = m_anNode[cSize];
+        double dLast = m_adDist[cSize];
+        int    i     = 0;
+
+        // sift down
+        while (true)
+            {
+            int iChild = (i << 1) + 1;
+            if (iChild >= cSize)
+                {
+                break;
+                }
+            if (iChild + 1 < cSize && precedes(m_adDist[iChild + 1], m_adDist[iChild]))
+                {
+                iChild++;
+                }
+            if (!precedes(m_adDist[iChild], dLast))
+                {
+                break;
+                }
+            m_anNode[i] = m_anNode[iChild];
+            m_adDist[i] = m_adDist[iChild];
+            i = iChild;
+            }
+        m_anNode[i] = nLast;
+        m_adDist[i] = dLast;
+        return nHead;
+        }
+
+    /**
+     * Drain this queue into a new queue with the opposite ordering.
+     *
+     * @return a new queue with the opposite ordering
+     */
+    NodeQueue reverse()
+        {
+        NodeQueue queue = new NodeQueue(m_cSize, !f_fMax);
+        while (!isEmpty())
+            {
+            double d = peekDistance();
+            queue.add(poll(), d);
+            }
+        return queue;
+        }
+
+    /**
+     * Return {@code true} if the first distance should be closer to the
+     * head of the queue than the second one.
+     *
+     * @param d1  the first distance
+     * @param d2  the second distance
+     *
+     * @return {@code true} if the first distance precedes the second one
+     */
+    private boolean precedes(double d1, double d2)
+        {
+        return f_fMax ? d1 > d2 : d1 < d2;
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * {@code true} for a max-heap.
+     */
+    private final boolean f_fMax;
+
+    /**
+     * The queued nodes.
+     */
+    private int[] m_anNode;
+
+    /**
+     * The distances of the queued nodes.
+     */
+    private double[] m_adDist;
+
+    /**
+     * The number of queued nodes.
+     */
+    private int m_cSize;
+    }
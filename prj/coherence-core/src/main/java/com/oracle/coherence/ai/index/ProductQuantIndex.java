@@ -0,0 +1,606 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.ai.index;
+
+import com.oracle.coherence.ai.DistanceAlgorithm;
+import com.oracle.coherence.ai.Vector;
+
+import com.oracle.coherence.ai.distance.CosineDistance;
+import com.oracle.coherence.ai.distance.InnerProductDistance;
+import com.oracle.coherence.ai.distance.L2SquaredDistance;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+
+import com.tangosol.util.ValueExtractor;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.tangosol.net.cache.SimpleMemoryCalculator.SIZE_BASIC_OBJECT;
+import static com.tangosol.net.cache.SimpleMemoryCalculator.padMemorySize;
+
+/**
+ * A {@link com.oracle.coherence.ai.VectorIndexExtractor} that stores each
+ * {@link com.oracle.coherence.ai.Float32Vector} as a product quantization
+ * code.
+ * <p/>
+ * The dimensions are split into a number of subspaces and a codebook of up to
+ * 256 centroids is trained for each subspace using k-means over the training
+ * vectors of a partition. A vector is then stored as the index of the closest
+ * centroid in each subspace, using a single byte per subspace. A search
+ * calculates a table of the distances between each subspace of the query
+ * vector and each centroid once, so the distance to an encoded vector is
+ * a sum of table lookups.
+ * <p/>
+ * Only the {@link CosineDistance}, {@link InnerProductDistance} and
+ * {@link L2SquaredDistance} algorithms are supported.
+ *
+ * @param <K>  the type of the cache key
+ * @param <V>  the type of the cache value
+ *
+ * @author coh  2026.10.16
+ * @since 15.0.0
+ */
+public class ProductQuantIndex<K, V>
+        extends AbstractQuantIndex<K, V>
+    {
+    /**
+     * Default constructor for serialization.
+     */
+    public ProductQuantIndex()
+        {
+        }
+
+    /**
+     * Create a {@link ProductQuantIndex} that uses the {@link CosineDistance}.
+     *
+     * @param extractor  the {@link ValueExtractor} to use to extract the {@link Vector}
+     */
+    public ProductQuantIndex(ValueExtractor<V, Vector<float[]>> extractor)
+        {
+        this(extractor, new CosineDistance<>());
+        }
+
+    /**
+     * Create a {@link ProductQuantIndex}.
+     *
+     * @param extractor  the {@link ValueExtractor} to use to extract the {@link Vector}
+     * @param algorithm  the {@link DistanceAlgorithm} to use to compare vectors
+     *
+     * @throws IllegalArgumentException if the algorithm is not supported
+     */
+    public ProductQuantIndex(ValueExtractor<V, Vector<float[]>> extractor, DistanceAlgorithm<float[]> algorithm)
+        {
+        super(extractor, algorithm);
+        getMetric(algorithm);
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the number of subspaces; zero means one subspace for every
+     * {@link #DEFAULT_SUBSPACE_DIMENSIONS} dimensions.
+     *
+     * @return the number of subspaces
+     */
+    public int getSubspaces()
+        {
+        return m_cSubspaces;
+        }
+
+    /**
+     * Set the number of subspaces, which is also the size of the code of
+     * each vector in bytes.
+     *
+     * @param cSubspaces  the number of subspaces
+     *
+     * @return this index for fluent API calls
+     */
+    public ProductQuantIndex<K, V> subspaces(int cSubspaces)
+        {
+        m_cSubspaces = Math.max(0, cSubspaces);
+        return this;
+        }
+
+    /**
+     * Return the number of k-means iterations used to train the codebooks.
+     *
+     * @return the number of k-means iterations
+     */
+    public int getIterations()
+        {
+        return m_cIterations;
+        }
+
+    /**
+     * Set the number of k-means iterations used to train the codebooks.
+     *
+     * @param cIterations  the number of k-means iterations
+     *
+     * @return this index for fluent API calls
+     */
+    public ProductQuantIndex<K, V> iterations(int cIterations)
+        {
+        m_cIterations = Math.max(1, cIterations);
+        return this;
+        }
+
+    // ----- AbstractQuantIndex methods -------------------------------------
+
+    @Override
+    protected Quantizer train(float[][] aflSample)
+        {
+        int cDimensions = aflSample[0].length;
+        int cSubspaces  = m_cSubspaces == 0
+                          ? Math.max(1, cDimensions / DEFAULT_SUBSPACE_DIMENSIONS)
+                          : Math.min(m_cSubspaces, cDimensions);
+        int cCentroids  = Math.min(MAX_CENTROIDS, aflSample.length);
+
+        int[] anBound = new int[cSubspaces + 1];
+        for (int m = 0; m <= cSubspaces; m++)
+            {
+            anBound[m] = m * cDimensions / cSubspaces;
+            }
+
+        // the codebook holds the centroids of a subspace next to each other
+        float[][] aaflCodebook = new float[cSubspaces][];
+        Random    random       = new Random(cDimensions ^ aflSample.length);
+        for (int m = 0; m < cSubspaces; m++)
+            {
+            aaflCodebook[m] = kmeans(aflSample, anBound[m], anBound[m + 1], cCentroids, random);
+            }
+
+        return new ProductQuantizer(getMetric(m_algorithm), anBound, aaflCodebook, cCentroids);
+        }
+
+    // ----- EvolvablePortableObject interface ------------------------------
+
+    @Override
+    public void readExternal(PofReader in) throws IOException
+        {
+        super.readExternal(in);
+        m_cSubspaces  = in.readInt(4);
+        m_cIterations = in.readInt(5);
+        }
+
+    @Override
+    public void writeExternal(PofWriter out) throws IOException
+        {
+        super.writeExternal(out);
+        out.writeInt(4, m_cSubspaces);
+        out.writeInt(5, m_cIterations);
+        }
+
+    // ----- ExternalizableLite interface -----------------------------------
+
+    @Override
+    public void readExternal(DataInput in) throws IOException
+        {
+        super.readExternal(in);
+        m_cSubspaces  = in.readInt();
+        m_cIterations = in.readInt();
+        }
+
+    @Override
+    public void writeExternal(DataOutput out) throws IOException
+        {
+        super.writeExternal(out);
+        out.writeInt(m_cSubspaces);
+        out.writeInt(m_cIterations);
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Train the centroids of a subspace using k-means.
+     *
+     * @param aflSample   the training vectors
+     * @param ofStart     the first dimension of the subspace
+     * @param ofEnd       the dimension after the last dimension of the subspace
+     * @param cCentroids  the number of centroids
+     * @param random      the random number generator used to pick the initial centroids
+     *
+     * @return the centroids
+     */
+    protected float[] kmeans(float[][] aflSample, int ofStart, int ofEnd, int cCentroids, Random random)
+        {
+        int       cSub       = ofEnd - ofStart;
+        int       cSample    = aflSample.length;
+        float[]   aflCentre  = new float[cCentroids * cSub];
+        double[]  adSum      = new double[cCentroids * cSub];
+        int[]     anCount    = new int[cCentroids];
+        int[]     anAssigned = new int[cSample];
+
+        // initialize the centroids with distinct random samples
+        int[] anSample = new int[cSample];
+        for (int i = 0; i < cSample; i++)
+            {
+            anSample[i] = i;
+            }
+        for (int c = 0; c < cCentroids; c++)
+            {
+            int i = c + random.nextInt(cSample - c);
+            int n = anSample[i];
+
+            anSample[i] = anSample[c];
+            anSample[c] = n;
+            System.arraycopy(aflSample[n], ofStart, aflCentre, c * cSub, cSub);
+            }
+
+        for (int nIter = 0; nIter < m_cIterations; nIter++)
+            {
+            boolean fChanged = false;
+            for (int i = 0; i < cSample; i++)
+                {
+                int nClosest = closest(aflSample[i], ofStart, aflCentre, cSub, cCentroids);
+                if (nIter == 0 || anAssigned[i] != nClosest)
+                    {
+                    anAssigned[i] = nClosest;
+                    fChanged      = true;
+                    }
+                }
+            if (!fChanged)
+                {
+                break;
+                }
+
+            Arrays.fill(adSum, 0.0d);
+            Arrays.fill(anCount, 0);
+            for (int i = 0; i < cSample; i++)
+                {
+                float[] vector = aflSample[i];
+                int     of     = anAssigned[i] * cSub;
+                for (int j = 0; j < cSub; j++)
+                    {
+                    adSum[of + j] += vector[ofStart + j];
+                    }
+                anCount[anAssigned[i]]++;
+                }
+
+            for (int c = 0; c < cCentroids; c++)
+                {
+                int cMembers = anCount[c];
+                if (cMembers == 0)
+                    {
+                    // re-seed an empty cluster with a random sample
+                    System.arraycopy(aflSample[random.nextInt(cSample)], ofStart, aflCentre, c * cSub, cSub);
+                    }
+                else
+                    {
+                    for (int j = 0, of = c * cSub; j < cSub; j++)
+                        {
+                        aflCentre[of + j] = (float) (adSum[of + j] / cMembers);
+                        }
+                    }
+                }
+            }
+
+        return aflCentre;
+        }
+
+    /**
+     * Return the centroid closest to the specified subspace of a vector.
+     *
+     * @param vector      the vector
+     * @param ofStart     the first dimension of the subspace
+     * @param aflCentre   the centroids
+     * @param cSub        the number of dimensions of the subspace
+     * @param cCentroids  the number of centroids
+     *
+     * @return the index of the closest centroid
+     */
+    protected static int closest(float[] vector, int ofStart, float[] aflCentre, int cSub, int cCentroids)
+        {
+        int    nClosest = 0;
+        double dClosest = Double.MAX_VALUE;
+        for (int c = 0, of = 0; c < cCentroids; c++, of += cSub)
+            {
+            double d = 0.0d;
+            for (int j = 0; j < cSub; j++)
+                {
+                double dDiff = vector[ofStart + j] - aflCentre[of + j];
+                d += dDiff * dDiff;
+                }
+            if (d < dClosest)
+                {
+                dClosest = d;
+                nClosest = c;
+                }
+            }
+        return nClosest;
+        }
+
+    /**
+     * Return the metric used for the specified algorithm.
+     *
+     * @param algorithm  the {@link DistanceAlgorithm}
+     *
+     * @return one of the {@code METRIC_*} constants
+     *
+     * @throws IllegalArgumentException if the algorithm is not supported
+     */
+    protected static int getMetric(DistanceAlgorithm<?> algorithm)
+        {
+        if (algorithm instanceof CosineDistance)
+            {
+            return METRIC_COSINE;
+            }
+        if (algorithm instanceof InnerProductDistance)
+            {
+            return METRIC_INNER_PRODUCT;
+            }
+        if (algorithm instanceof L2SquaredDistance)
+            {
+            return METRIC_L2;
+            }
+        throw new IllegalArgumentException("ProductQuantIndex does not support the distance algorithm "
+                                           + algorithm.getClass().getName());
+        }
+
+    // ----- inner class: ProductQuantizer ----------------------------------
+
+    /**
+     * A {@link Quantizer} that encodes each subspace as the index of the
+     * closest centroid.
+     */
+    protected static class ProductQuantizer
+            implements Quantizer
+        {
+        /**
+         * Create a {@link ProductQuantizer}.
+         *
+         * @param nMetric       the metric, one of the {@code METRIC_*} constants
+         * @param anBound       the first dimension of each subspace, followed by
+         *                      the number of dimensions
+         * @param aaflCodebook  the centroids of each subspace
+         * @param cCentroids    the number of centroids of each subspace
+         */
+        protected ProductQuantizer(int nMetric, int[] anBound, float[][] aaflCodebook, int cCentroids)
+            {
+            f_nMetric      = nMetric;
+            f_anBound      = anBound;
+            f_aaflCodebook = aaflCodebook;
+            f_cCentroids   = cCentroids;
+
+            if (nMetric == METRIC_COSINE)
+                {
+                // the squared norm of each centroid, used to approximate the
+                // norm of the encoded vectors
+                int     cSubspaces = aaflCodebook.length;
+                float[] aflNorm    = new float[cSubspaces * cCentroids];
+                for (int m = 0; m < cSubspaces; m++)
+                    {
+                    int     cSub      = anBound[m + 1] - anBound[m];
+                    float[] aflCentre = aaflCodebook[m];
+                    for (int c = 0; c < cCentroids; c++)
+                        {
+                        aflNorm[m * cCentroids + c] = dot(aflCentre, c * cSub, aflCentre, c * cSub, cSub);
+                        }
+                    }
+                f_aflNorm = aflNorm;
+                }
+            else
+                {
+                f_aflNorm = null;
+                }
+            }
+
+        @Override
+        public int getCodeSize()
+            {
+            return f_aaflCodebook.length;
+            }
+
+        @Override
+        public void encode(float[] vector, byte[] abCode, int of)
+            {
+            int[] anBound = f_anBound;
+            for (int m = 0, c = f_aaflCodebook.length; m < c; m++)
+                {
+                abCode[of + m] = (byte) closest(vector, anBound[m], f_aaflCodebook[m],
+                                                anBound[m + 1] - anBound[m], f_cCentroids);
+                }
+            }
+
+        @Override
+        public Scorer scorer(float[] vector)
+            {
+            int     cSubspaces = f_aaflCodebook.length;
+            int     cCentroids = f_cCentroids;
+            int[]   anBound    = f_anBound;
+            float[] aflTable   = new float[cSubspaces * cCentroids];
+
+            for (int m = 0; m < cSubspaces; m++)
+                {
+                int     ofStart   = anBound[m];
+                int     cSub      = anBound[m + 1] - ofStart;
+                float[] aflCentre = f_aaflCodebook[m];
+
+                for (int c = 0; c < cCentroids; c++)
+                    {
+                    float fl;
+                    if (f_nMetric == METRIC_L2)
+                        {
+                        fl = 0f;
+                        for (int j = 0, of = c * cSub; j < cSub; j++)
+                            {
+                            float flDiff = vector[ofStart + j] - aflCentre[of + j];
+                            fl += flDiff * flDiff;
+                            }
+                        }
+                    else
+                        {
+                        fl = dot(vector, ofStart, aflCentre, c * cSub, cSub);
+                        }
+                    aflTable[m * cCentroids + c] = fl;
+                    }
+                }
+
+            switch (f_nMetric)
+                {
+                case METRIC_L2:
+                    return (abCode, of) -> sum(aflTable, abCode, of);
+
+                case METRIC_INNER_PRODUCT:
+                    return (abCode, of) -> 1.0d - sum(aflTable, abCode, of);
+
+                default:
+                    {
+                    double  dNormQuery = Math.sqrt(dot(vector, 0, vector, 0, vector.length));
+                    float[] aflNorm    = f_aflNorm;
+                    return (abCode, of) ->
+                        {
+                        double dNorm = dNormQuery * Math.sqrt(sum(aflNorm, abCode, of));
+                        return dNorm == 0.0d ? 1.0d : 1.0d - sum(aflTable, abCode, of) / dNorm;
+                        };
+                    }
+                }
+            }
+
+        @Override
+        public long getUnits()
+            {
+            int  cSubspaces = f_aaflCodebook.length;
+            long cUnits     = padMemorySize(SIZE_BASIC_OBJECT + 4 + 4 * (cSubspaces + 1))
+                              + padMemorySize(SIZE_BASIC_OBJECT + 4 + 4 * cSubspaces);
+            for (float[] afl : f_aaflCodebook)
+                {
+                cUnits += padMemorySize(SIZE_BASIC_OBJECT + 4 + 4 * afl.length);
+                }
+            if (f_aflNorm != null)
+                {
+                cUnits += padMemorySize(SIZE_BASIC_OBJECT + 4 + 4 * f_aflNorm.length);
+                }
+            return cUnits;
+            }
+
+        // ----- helper methods ---------------------------------------------
+
+        /**
+         * Return the sum of the table entries selected by a code.
+         *
+         * @param aflTable  the table, holding the entries of each subspace next to each other
+         * @param abCode    the array holding the code
+         * @param of        the offset of the code within the array
+         *
+         * @return the sum of the selected table entries
+         */
+        private double sum(float[] aflTable, byte[] abCode, int of)
+            {
+            int    cCentroids = f_cCentroids;
+            double d          = 0.0d;
+            for (int m = 0, c = f_aaflCodebook.length; m < c; m++)
+                {
+                d += aflTable[m * cCentroids + (abCode[of + m] & 0xFF)];
+                }
+            return d;
+            }
+
+        /**
+         * Return the dot product of two vector ranges.
+         *
+         * @param afl1  the first vector
+         * @param of1   the offset of the range within the first vector
+         * @param afl2  the second vector
+         * @param of2   the offset of the range within the second vector
+         * @param c     the length of the range
+         *
+         * @return the dot product
+         */
+        private static float dot(float[] afl1, int of1, float[] afl2, int of2, int c)
+            {
+            float fl = 0f;
+            for (int i = 0; i < c; i++)
+                {
+                fl += afl1[of1 + i] * afl2[of2 + i];
+                }
+            return fl;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The metric, one of the {@code METRIC_*} constants.
+         */
+        private final int f_nMetric;
+
+        /**
+         * The first dimension of each subspace, followed by the number of
+         * dimensions.
+         */
+        private final int[] f_anBound;
+
+        /**
+         * The centroids of each subspace.
+         */
+        private final float[][] f_aaflCodebook;
+
+        /**
+         * The number of centroids of each subspace.
+         */
+        private final int f_cCentroids;
+
+        /**
+         * The squared norm of each centroid, for the cosine metric only.
+         */
+        private final float[] f_aflNorm;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The default number of dimensions of a subspace.
+     */
+    public static final int DEFAULT_SUBSPACE_DIMENSIONS = 8;
+
+    /**
+     * The default number of k-means iterations.
+     */
+    public static final int DEFAULT_ITERATIONS = 10;
+
+    /**
+     * The maximum number of centroids of a subspace.
+     */
+    protected static final int MAX_CENTROIDS = 256;
+
+    /**
+     * The cosine metric.
+     */
+    protected static final int METRIC_COSINE = 0;
+
+    /**
+     * The inner product metric.
+     */
+    protected static final int METRIC_INNER_PRODUCT = 1;
+
+    /**
+     * The squared L2 metric.
+     */
+    protected static final int METRIC_L2 = 2;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The number of subspaces, or zero to derive it from the dimensions.
+     */
+    @JsonbProperty("subspaces")
+    private int m_cSubspaces;
+
+    /**
+     * The number of k-means iterations.
+     */
+    @JsonbProperty("iterations")
+    private int m_cIterations = DEFAULT_ITERATIONS;
+    }
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.ai.index;
+
+import com.oracle.coherence.ai.DistanceAlgorithm;
+import com.oracle.coherence.ai.Float32Vector;
+import com.oracle.coherence.ai.Vector;
+
+import com.oracle.coherence.ai.distance.CosineDistance;
+
+import com.tangosol.util.ValueExtractor;
+
+import static com.tangosol.net.cache.SimpleMemoryCalculator.SIZE_BASIC_OBJECT;
+import static com.tangosol.net.cache.SimpleMemoryCalculator.padMemorySize;
+
+/**
+ * A {@link com.oracle.coherence.ai.VectorIndexExtractor} that stores each
+ * {@link Float32Vector} as one unsigned byte per dimension.
+ * <p/>
+ * The range of the values of each dimension is learned from the training
+ * vectors of a partition and divided into 256 steps, reducing the memory
+ * used by the indexed vectors by a factor of four. Values outside the learned
+ * range are clamped.
+ *
+ * @param <K>  the type of the cache key
+ * @param <V>  the type of the cache value
+ *
+ * @author coh  2026.10.16
+ * @since 15.0.0
+ */
+public class ScalarQuantIndex<K, V>
+        extends AbstractQuantIndex<K, V>
+    {
+    /**
+     * Default constructor for serialization.
+     */
+    public ScalarQuantIndex()
+        {
+        }
+
+    /**
+     * Create a {@link ScalarQuantIndex} that uses the {@link CosineDistance}.
+     *
+     * @param extractor  the {@link ValueExtractor} to use to extract the {@link Vector}
+     */
+    public ScalarQuantIndex(ValueExtractor<V, Vector<float[]>> extractor)
+        {
+        this(extractor, new CosineDistance<>());
+        }
+
+    /**
+     * Create a {@link ScalarQuantIndex}.
+     *
+     * @param extractor  the {@link ValueExtractor} to use to extract the {@link Vector}
+     * @param algorithm  the {@link DistanceAlgorithm} to use to compare vectors
+     */
+    public ScalarQuantIndex(ValueExtractor<V, Vector<float[]>> extractor, DistanceAlgorithm<float[]> algorithm)
+        {
+        super(extractor, algorithm);
+        }
+
+    // ----- AbstractQuantIndex methods -------------------------------------
+
+    @Override
+    protected Quantizer train(float[][] aflSample)
+        {
+        int     cDimensions = aflSample[0].length;
+        float[] aflMin      = new float[cDimensions];
+        float[] aflMax      = new float[cDimensions];
+
+        System.arraycopy(aflSample[0], 0, aflMin, 0, cDimensions);
+        System.arraycopy(aflSample[0], 0, aflMax, 0, cDimensions);
+        for (float[] vector : aflSample)
+            {
+            for (int i = 0; i < cDimensions; i++)
+                {
+                float fl = vector[i];
+                if (fl < aflMin[i])
+                    {
+                    aflMin[i] = fl;
+                    }
+                else if (fl > aflMax[i])
+                    {
+                    aflMax[i] = fl;
+                    }
+                }
+            }
+
+        return new ScalarQuantizer(aflMin, aflMax, m_algorithm);
+        }
+
+    // ----- inner class: ScalarQuantizer -----------------------------------
+
+    /**
+     * A {@link Quantizer} that maps each dimension to an unsigned byte.
+     */
+    protected static class ScalarQuantizer
+            implements Quantizer
+        {
+        /**
+         * Create a {@link ScalarQuantizer}.
+         *
+         * @param aflMin     the minimum value of each dimension
+         * @param aflMax     the maximum value of each dimension
+         * @param algorithm  the {@link DistanceAlgorithm} to use to compare vectors
+         */
+        protected ScalarQuantizer(float[] aflMin, float[] aflMax, DistanceAlgorithm<float[]> algorithm)
+            {
+            int cDimensions = aflMin.length;
+
+            f_aflMin    = aflMin;
+            f_aflStep   = new float[cDimensions];
+            f_algorithm = algorithm;
+
+            for (int i = 0; i < cDimensions; i++)
+                {
+                f_aflStep[i] = (aflMax[i] - aflMin[i]) / 255f;
+                }
+            }
+
+        @Override
+        public int getCodeSize()
+            {
+            return f_aflMin.length;
+            }
+
+        @Override
+        public void encode(float[] vector, byte[] abCode, int of)
+            {
+            float[] aflMin  = f_aflMin;
+            float[] aflStep = f_aflStep;
+
+            for (int i = 0, c = aflMin.length; i < c; i++)
+                {
+                float flStep = aflStep[i];
+                int   nCode  = flStep == 0f ? 0 : Math.round((vector[i] - aflMin[i]) / flStep);
+
+                abCode[of + i] = (byte) Math.max(0, Math.min(255, nCode));
+                }
+            }
+
+        @Override
+        public Scorer scorer(float[] vector)
+            {
+            Float32Vector vectorQuery   = new Float32Vector(vector);
+            float[]       aflScratch    = new float[f_aflMin.length];
+            Float32Vector vectorScratch = new Float32Vector(aflScratch);
+
+            return (abCode, of) ->
+                {
+                float[] aflMin  = f_aflMin;
+                float[] aflStep = f_aflStep;
+
+                for (int i = 0, c = aflScratch.length; i < c; i++)
+                    {
+                    aflScratch[i] = aflMin[i] + (abCode[of + i] & 0xFF) * aflStep[i];
+                    }
+                return f_algorithm.distance(vectorQuery, vectorScratch);
+                };
+            }
+
+        @Override
+        public long getUnits()
+            {
+            return 2L * padMemorySize(SIZE_BASIC_OBJECT + 4 + 4 * f_aflMin.length);
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The minimum value of each dimension.
+         */
+        private final float[] f_aflMin;
+
+        /**
+         * The value of a single step of each dimension.
+         */
+        private final float[] f_aflStep;
+
+        /**
+         * The {@link DistanceAlgorithm} to use to compare vectors.
+         */
+        private final DistanceAlgorithm<float[]> f_algorithm;
+        }
+    }
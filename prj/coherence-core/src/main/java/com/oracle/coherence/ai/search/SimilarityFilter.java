@@ -0,0 +1,725 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.ai.search;
+
+import com.oracle.coherence.ai.DistanceAlgorithm;
+import com.oracle.coherence.ai.Vector;
+import com.oracle.coherence.ai.VectorIndex;
+
+import com.oracle.coherence.ai.distance.CosineDistance;
+
+import com.tangosol.internal.util.PartitionedIndexMap;
+
+import com.tangosol.io.ExternalizableLite;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+
+import com.tangosol.net.BackingMapContext;
+
+import com.tangosol.net.partition.PartitionAwareBackingMap;
+
+import com.tangosol.util.Base;
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMapHelper;
+import com.tangosol.util.MapIndex;
+import com.tangosol.util.QueryContext;
+import com.tangosol.util.QueryRecord;
+import com.tangosol.util.SortedBag;
+import com.tangosol.util.ValueExtractor;
+
+import com.tangosol.util.filter.AbstractQueryRecorderFilter;
+import com.tangosol.util.filter.IndexAwareFilter;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link Filter} that matches the entries that are among the nearest
+ * neighbours of a vector within their partition, out of the entries that
+ * match an optional metadata filter.
+ * <p/>
+ * The filter executes the same per-partition search as the
+ * {@link SimilaritySearch} aggregator: the metadata filter is resolved through
+ * the regular indexes of each partition first, and the {@link VectorIndex}
+ * then either scans the matching entries or traverses the index skipping the
+ * entries that do not match, depending on the selectivity of the filter.
+ * <p/>
+ * Its main purpose is to make the plan of a filtered similarity search
+ * observable using a {@link com.tangosol.util.aggregator.QueryRecorder
+ * QueryRecorder}: an {@code EXPLAIN} record shows the number of candidate
+ * entries, while a {@code TRACE} record also shows the chosen plan and the
+ * duration of the search. If {@link #measureRecall() requested}, the trace
+ * also shows the recall of the search, measured against an exact search of
+ * the same entries. The {@link SimilaritySearch} aggregator should be used to
+ * obtain the nearest neighbours across all partitions.
+ * <p/>
+ * An entry evaluated on its own is matched against the nearest neighbours of
+ * its partition, which are searched once per partition and retained for the
+ * lifetime of this filter instance.
+ * <p/>
+ * Outside of a partitioned cache there are no partitions to search, and the
+ * filter does not match any entries; the {@link SimilaritySearch} aggregator
+ * performs a brute force search of such caches instead.
+ *
+ * @param <K>  the type of the cache key
+ * @param <V>  the type of the cache value
+ * @param <T>  the type of the vector
+ *
+ * @author coh  2026.10.16
+ * @since 15.0.0
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class SimilarityFilter<K, V, T>
+        extends    AbstractQueryRecorderFilter<V>
+        implements IndexAwareFilter<K, V>, ExternalizableLite, PortableObject
+    {
+    /**
+     * Default constructor for serialization.
+     */
+    public SimilarityFilter()
+        {
+        }
+
+    /**
+     * Create a {@link SimilarityFilter} that executes the search of the
+     * specified {@link SimilaritySearch}.
+     *
+     * @param search  the {@link SimilaritySearch} to execute
+     */
+    public SimilarityFilter(SimilaritySearch<K, V, T> search)
+        {
+        m_extractor   = search.getExtractor();
+        m_vector      = search.getVector();
+        m_algorithm   = search.getAlgorithm();
+        m_nMaxResults = search.getMaxResults();
+        m_filter      = search.getFilter();
+        }
+
+    /**
+     * Measure the recall of the search when it is traced, by comparing its
+     * results with an exact search of the same entries.
+     *
+     * @return this instance
+     */
+    public SimilarityFilter<K, V, T> measureRecall()
+        {
+        m_fRecall = true;
+        return this;
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the {@link ValueExtractor} used to extract the vector.
+     *
+     * @return the {@link ValueExtractor} used to extract the vector
+     */
+    public ValueExtractor<? super V, ? extends Vector<T>> getExtractor()
+        {
+        return m_extractor;
+        }
+
+    /**
+     * Return the target vector.
+     *
+     * @return the target vector
+     */
+    public Vector<T> getVector()
+        {
+        return m_vector;
+        }
+
+    /**
+     * Return the maximum number of entries matched in each partition.
+     *
+     * @return the maximum number of entries matched in each partition
+     */
+    public int getMaxResults()
+        {
+        return m_nMaxResults;
+        }
+
+    /**
+     * Return the optional metadata filter.
+     *
+     * @return the metadata filter, or {@code null}
+     */
+    public Filter<?> getFilter()
+        {
+        return m_filter;
+        }
+
+    /**
+     * Return {@code true} if the recall of a traced search is measured.
+     *
+     * @return {@code true} if the recall of a traced search is measured
+     */
+    public boolean isMeasureRecall()
+        {
+        return m_fRecall;
+        }
+
+    // ----- EntryFilter interface ------------------------------------------
+
+    @Override
+    public boolean evaluateEntry(Map.Entry<? extends K, ? extends V> entry)
+        {
+        if (entry instanceof BinaryEntry)
+            {
+            BinaryEntry       binEntry = (BinaryEntry) entry;
+            BackingMapContext ctx      = binEntry.getBackingMapContext();
+            if (ctx != null)
+                {
+                Binary binKey = binEntry.getBinaryKey();
+                int    nPart  = ctx.getManagerContext().getKeyPartition(binKey);
+
+                // the nearest neighbours already account for the metadata filter
+                return getNearest(ctx, nPart).contains(binKey);
+                }
+            }
+
+        // there are no partitions to search outside of a partitioned cache
+        return false;
+        }
+
+    @Override
+    public boolean evaluate(V o)
+        {
+        if (m_filter != null && !((Filter) m_filter).evaluate(o))
+            {
+            return false;
+            }
+
+        // a value on its own is its own nearest neighbour
+        return m_nMaxResults > 0 && m_extractor.extract(o) != null;
+        }
+
+    // ----- IndexAwareFilter interface -------------------------------------
+
+    @Override
+    public int calculateEffectiveness(Map<? extends ValueExtractor<? extends V, ?>, ? extends MapIndex<? extends K, ? extends V, ?>> mapIndexes,
+                                      Set<? extends K> setKeys)
+        {
+        return setKeys.size();
+        }
+
+    @Override
+    public Filter<?> applyIndex(Map<? extends ValueExtractor<? extends V, ?>, ? extends MapIndex<? extends K, ? extends V, ?>> mapIndexes,
+                                Set<? extends K> setKeys)
+        {
+        if (mapIndexes instanceof PartitionedIndexMap)
+            {
+            search(((PartitionedIndexMap) mapIndexes).getBackingMapContext(), setKeys, null);
+            }
+        else
+            {
+            // there are no partitions to search outside of a partitioned cache
+            setKeys.clear();
+            }
+        return null;
+        }
+
+    // ----- QueryRecorderFilter interface ----------------------------------
+
+    @Override
+    public void explain(QueryContext ctx, QueryRecord.PartialResult.ExplainStep step, Set setKeys)
+        {
+        step.recordPreFilterKeys(setKeys.size());
+        step.recordExtractor(m_extractor);
+        step.recordEfficiency(setKeys.size());
+        }
+
+    @Override
+    public Filter trace(QueryContext ctx, QueryRecord.PartialResult.TraceStep step, Set setKeys)
+        {
+        step.recordPreFilterKeys(setKeys.size());
+        step.recordExtractor(m_extractor);
+
+        Statistics stats = new Statistics(m_fRecall);
+        search(ctx.getBackingMapContext(), setKeys, stats);
+
+        // the duration excludes the exact searches used to measure the recall
+        step.recordDuration(stats.m_cMillis);
+        step.recordPlan(stats.describe());
+        step.recordPostFilterKeys(setKeys.size());
+        return null;
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Search each partition, retaining the keys of the nearest neighbours
+     * only.
+     *
+     * @param ctx      the {@link BackingMapContext} of the cache
+     * @param setKeys  the candidate keys
+     * @param stats    the {@link Statistics} to update, or {@code null}
+     */
+    protected void search(BackingMapContext ctx, Set setKeys, Statistics stats)
+        {
+        Set<Binary> setResults = new HashSet<>();
+        for (Map.Entry<Integer, Set<Binary>> entry : groupByPartition(ctx, setKeys).entrySet())
+            {
+            setResults.addAll(searchPartition(ctx, entry.getKey(), entry.getValue(), stats));
+            }
+
+        setKeys.retainAll(setResults);
+        }
+
+    /**
+     * Return the keys of the nearest neighbours out of the specified entries
+     * of a partition.
+     *
+     * @param ctx      the {@link BackingMapContext} of the cache
+     * @param nPart    the partition
+     * @param setPart  the candidate keys, all of which belong to the partition
+     * @param stats    the {@link Statistics} to update, or {@code null}
+     *
+     * @return the keys of the nearest neighbours
+     */
+    protected Set<Binary> searchPartition(BackingMapContext ctx, int nPart, Set<Binary> setPart, Statistics stats)
+        {
+        long                          ldtStart   = Base.getSafeTimeMillis();
+        Map<ValueExtractor, MapIndex> mapIndexes = ctx.getIndexMap(nPart);
+        Filter<?>                     filter     = m_filter;
+
+        if (filter instanceof IndexAwareFilter)
+            {
+            filter = ((IndexAwareFilter) filter).applyIndex(mapIndexes, setPart);
+            if (stats != null)
+                {
+                stats.m_fPreFilter = true;
+                }
+            }
+
+        MapIndex            index = mapIndexes.get(m_extractor);
+        BinaryQueryResult[] aResult;
+        boolean             fScan;
+        if (index instanceof VectorIndex)
+            {
+            VectorIndex vectorIndex = (VectorIndex) index;
+
+            aResult = setPart.isEmpty()
+                      ? new BinaryQueryResult[0]
+                      : vectorIndex.query(m_vector, m_nMaxResults, filter, setPart);
+            fScan   = vectorIndex.isScan(m_nMaxResults, setPart.size());
+
+            if (!vectorIndex.isExactDistance(m_algorithm))
+                {
+                aResult = rescore(ctx, aResult);
+                }
+            }
+        else
+            {
+            aResult = scan(ctx, setPart, filter);
+            fScan   = true;
+            }
+
+        Set<Binary> setResults = new HashSet<>();
+        for (BinaryQueryResult result : aResult)
+            {
+            setResults.add(result.getKey());
+            }
+
+        if (stats != null)
+            {
+            stats.m_cMillis += Base.getSafeTimeMillis() - ldtStart;
+
+            if (stats.m_fRecall)
+                {
+                // a scan is exact already, so only a vector index search is repeated
+                BinaryQueryResult[] aExact = index instanceof VectorIndex ? scan(ctx, setPart, filter) : aResult;
+                int                 cMatch = 0;
+                for (BinaryQueryResult result : aExact)
+                    {
+                    if (setResults.contains(result.getKey()))
+                        {
+                        cMatch++;
+                        }
+                    }
+                stats.recordRecall(cMatch, Math.min(aExact.length, m_nMaxResults));
+                }
+            stats.recordPlan(fScan);
+            }
+
+        return setResults;
+        }
+
+    /**
+     * Return the nearest neighbours out of the specified entries, calculating
+     * the distance to each of them.
+     *
+     * @param ctx      the {@link BackingMapContext} of the cache
+     * @param setKeys  the candidate keys
+     * @param filter   an optional filter the entries must match
+     *
+     * @return the nearest neighbours, closest first
+     */
+    protected BinaryQueryResult[] scan(BackingMapContext ctx, Set<Binary> setKeys, Filter<?> filter)
+        {
+        SortedBag<BinaryQueryResult> bag = new SortedBag<>(Comparator.naturalOrder());
+        for (Binary binKey : setKeys)
+            {
+            BinaryEntry<?, ?> entry = ctx.getReadOnlyEntry(binKey).asBinaryEntry();
+            if (filter != null && !InvocableMapHelper.evaluateEntry(filter, entry))
+                {
+                continue;
+                }
+
+            Vector<T> vector = (Vector<T>) InvocableMapHelper.extractFromEntry((ValueExtractor) m_extractor, entry);
+            if (vector != null)
+                {
+                bag.add(new BinaryQueryResult(m_algorithm.distance(m_vector, vector), binKey, entry.getBinaryValue()));
+                if (bag.size() > m_nMaxResults)
+                    {
+                    bag.removeLast();
+                    }
+                }
+            }
+        return bag.toArray(new BinaryQueryResult[0]);
+        }
+
+    /**
+     * Replace the approximate distances of the specified candidates, such as
+     * the distances between quantized vectors, with the exact distances, and
+     * return the nearest of them.
+     *
+     * @param ctx          the {@link BackingMapContext} of the cache
+     * @param aCandidates  the candidates returned by the vector index
+     *
+     * @return the nearest candidates, closest first
+     */
+    protected BinaryQueryResult[] rescore(BackingMapContext ctx, BinaryQueryResult[] aCandidates)
+        {
+        SortedBag<BinaryQueryResult> bag = new SortedBag<>(Comparator.naturalOrder());
+        for (BinaryQueryResult result : aCandidates)
+            {
+            Vector<T> vector = (Vector<T>) InvocableMapHelper.extractFromEntry((ValueExtractor) m_extractor,
+                    ctx.getReadOnlyEntry(result.getKey()));
+            if (vector != null)
+                {
+                result.setDistance(m_algorithm.distance(m_vector, vector));
+                bag.add(result);
+                if (bag.size() > m_nMaxResults)
+                    {
+                    bag.removeLast();
+                    }
+                }
+            }
+        return bag.toArray(new BinaryQueryResult[0]);
+        }
+
+    /**
+     * Return the keys of the nearest neighbours in the specified partition,
+     * searching the partition the first time it is requested.
+     *
+     * @param ctx    the {@link BackingMapContext} of the cache
+     * @param nPart  the partition
+     *
+     * @return the keys of the nearest neighbours in the partition
+     */
+    @SuppressWarnings("deprecation")
+    protected Set<Binary> getNearest(BackingMapContext ctx, int nPart)
+        {
+        Map<Integer, Set<Binary>> mapNearest = m_mapNearest;
+        Set<Binary>               setNearest = mapNearest.get(nPart);
+        if (setNearest == null)
+            {
+            Map map = ctx.getBackingMap();
+            if (map instanceof PartitionAwareBackingMap)
+                {
+                setNearest = mapNearest.computeIfAbsent(nPart, n -> searchPartition(ctx, n,
+                        new HashSet<>(((PartitionAwareBackingMap) map).getPartitionMap(n).keySet()), null));
+                }
+            else
+                {
+                // the keys of a partition can only be found by iterating over
+                // the whole backing map, so search all partitions at once
+                synchronized (mapNearest)
+                    {
+                    if (!mapNearest.containsKey(nPart))
+                        {
+                        Map<Integer, Set<Binary>> mapPartKeys = groupByPartition(ctx, map.keySet());
+                        mapPartKeys.putIfAbsent(nPart, new HashSet<>());
+                        for (Map.Entry<Integer, Set<Binary>> entry : mapPartKeys.entrySet())
+                            {
+                            mapNearest.putIfAbsent(entry.getKey(),
+                                    searchPartition(ctx, entry.getKey(), entry.getValue(), null));
+                            }
+                        }
+                    setNearest = mapNearest.get(nPart);
+                    }
+                }
+            }
+        return setNearest;
+        }
+
+    /**
+     * Group the specified keys by partition.
+     *
+     * @param ctx      the {@link BackingMapContext} of the cache
+     * @param setKeys  the keys to group
+     *
+     * @return the keys of each partition
+     */
+    protected Map<Integer, Set<Binary>> groupByPartition(BackingMapContext ctx, Set<?> setKeys)
+        {
+        Map<Integer, Set<Binary>> mapPartKeys = new HashMap<>();
+        for (Object oKey : setKeys)
+            {
+            int nPart = ctx.getManagerContext().getKeyPartition(oKey);
+            mapPartKeys.computeIfAbsent(nPart, n -> new HashSet<>()).add((Binary) oKey);
+            }
+        return mapPartKeys;
+        }
+
+    // ----- Object methods -------------------------------------------------
+
+    @Override
+    public boolean equals(Object o)
+        {
+        if (this == o)
+            {
+            return true;
+            }
+        if (o == null || getClass() != o.getClass())
+            {
+            return false;
+            }
+        SimilarityFilter<?, ?, ?> that = (SimilarityFilter<?, ?, ?>) o;
+        return m_nMaxResults == that.m_nMaxResults
+               && m_fRecall == that.m_fRecall
+               && Objects.equals(m_extractor, that.m_extractor)
+               && Objects.equals(m_vector, that.m_vector)
+               && Objects.equals(m_algorithm, that.m_algorithm)
+               && Objects.equals(m_filter, that.m_filter);
+        }
+
+    @Override
+    public int hashCode()
+        {
+        return Objects.hash(m_extractor, m_vector, m_nMaxResults, m_filter);
+        }
+
+    @Override
+    public String toString()
+        {
+        return "SimilarityFilter(" + m_extractor + ", k=" + m_nMaxResults
+               + (m_filter == null ? "" : ", " + m_filter) + ')';
+        }
+
+    // ----- PortableObject interface ---------------------------------------
+
+    @Override
+    public void readExternal(PofReader in) throws IOException
+        {
+        m_extractor   = in.readObject(0);
+        m_vector      = in.readObject(1);
+        m_algorithm   = in.readObject(2);
+        m_nMaxResults = in.readInt(3);
+        m_filter      = in.readObject(4);
+        m_fRecall     = in.readBoolean(5);
+        }
+
+    @Override
+    public void writeExternal(PofWriter out) throws IOException
+        {
+        out.writeObject(0, m_extractor);
+        out.writeObject(1, m_vector);
+        out.writeObject(2, m_algorithm);
+        out.writeInt(3, m_nMaxResults);
+        out.writeObject(4, m_filter);
+        out.writeBoolean(5, m_fRecall);
+        }
+
+    // ----- ExternalizableLite interface -----------------------------------
+
+    @Override
+    public void readExternal(DataInput in) throws IOException
+        {
+        m_extractor   = ExternalizableHelper.readObject(in);
+        m_vector      = ExternalizableHelper.readObject(in);
+        m_algorithm   = ExternalizableHelper.readObject(in);
+        m_nMaxResults = in.readInt();
+        m_filter      = ExternalizableHelper.readObject(in);
+        m_fRecall     = in.readBoolean();
+        }
+
+    @Override
+    public void writeExternal(DataOutput out) throws IOException
+        {
+        ExternalizableHelper.writeObject(out, m_extractor);
+        ExternalizableHelper.writeObject(out, m_vector);
+        ExternalizableHelper.writeObject(out, m_algorithm);
+        out.writeInt(m_nMaxResults);
+        ExternalizableHelper.writeObject(out, m_filter);
+        out.writeBoolean(m_fRecall);
+        }
+
+    // ----- inner class: Statistics ----------------------------------------
+
+    /**
+     * The plan and recall of a traced search.
+     */
+    protected static class Statistics
+        {
+        /**
+         * Create a {@link Statistics} instance.
+         *
+         * @param fRecall  {@code true} to measure the recall
+         */
+        protected Statistics(boolean fRecall)
+            {
+            m_fRecall = fRecall;
+            }
+
+        /**
+         * Record the plan used to search a partition.
+         *
+         * @param fScan  {@code true} if the partition was scanned
+         */
+        protected void recordPlan(boolean fScan)
+            {
+            if (fScan)
+                {
+                m_cScan++;
+                }
+            else
+                {
+                m_cIndex++;
+                }
+            }
+
+        /**
+         * Record the recall of the search of a partition.
+         *
+         * @param cMatch  the number of results that are exact nearest neighbours
+         * @param cExact  the number of exact nearest neighbours
+         */
+        protected void recordRecall(int cMatch, int cExact)
+            {
+            m_cMatch += cMatch;
+            m_cExact += cExact;
+            }
+
+        /**
+         * Return the description of the plan.
+         *
+         * @return the description of the plan
+         */
+        protected String describe()
+            {
+            String sPlan = "plan: " + (m_fPreFilter ? "INDEX -> " : "")
+                           + (m_cIndex == 0 ? "SCAN" : m_cScan == 0 ? "VECTOR INDEX" : "SCAN | VECTOR INDEX");
+            if (m_fRecall)
+                {
+                double dflRecall = m_cExact == 0 ? 1.0d : (double) m_cMatch / m_cExact;
+                sPlan += String.format(", recall: %.2f", dflRecall);
+                }
+            return sPlan;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * Whether the recall is measured.
+         */
+        protected final boolean m_fRecall;
+
+        /**
+         * Whether the metadata filter was resolved using the indexes.
+         */
+        protected boolean m_fPreFilter;
+
+        /**
+         * The number of scanned partitions.
+         */
+        protected int m_cScan;
+
+        /**
+         * The number of partitions searched using the vector index.
+         */
+        protected int m_cIndex;
+
+        /**
+         * The number of results that are exact nearest neighbours.
+         */
+        protected int m_cMatch;
+
+        /**
+         * The number of exact nearest neighbours.
+         */
+        protected int m_cExact;
+
+        /**
+         * The duration of the searches, excluding the exact searches.
+         */
+        protected long m_cMillis;
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The {@link ValueExtractor} used to extract the vector.
+     */
+    @JsonbProperty("extractor")
+    protected ValueExtractor<? super V, ? extends Vector<T>> m_extractor;
+
+    /**
+     * The target vector.
+     */
+    @JsonbProperty("vector")
+    protected Vector<T> m_vector;
+
+    /**
+     * The {@link DistanceAlgorithm} used to calculate the exact distances.
+     */
+    @JsonbProperty("algorithm")
+    protected DistanceAlgorithm<T> m_algorithm = new CosineDistance<>();
+
+    /**
+     * The maximum number of entries matched in each partition.
+     */
+    @JsonbProperty("maxResults")
+    protected int m_nMaxResults;
+
+    /**
+     * The optional metadata filter.
+     */
+    @JsonbProperty("filter")
+    protected Filter<?> m_filter;
+
+    /**
+     * Whether the recall of a traced search is measured.
+     */
+    @JsonbProperty("recall")
+    protected boolean m_fRecall;
+
+    /**
+     * The keys of the nearest neighbours in each partition, searched when an
+     * entry of the partition is evaluated for the first time.
+     */
+    protected transient Map<Integer, Set<Binary>> m_mapNearest = new ConcurrentHashMap<>();
+    }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -12,7 +12,6 @@ import com.oracle.coherence.ai.QueryResult;
 import com.oracle.coherence.ai.Vector;
 import com.oracle.coherence.ai.VectorIndex;
 import com.oracle.coherence.ai.distance.CosineDistance;
-import com.oracle.coherence.ai.index.BinaryQuantIndex;
 
 import com.tangosol.io.ExternalizableLite;
 
@@ -34,6 +33,8 @@ import com.tangosol.util.SortedBag;
 import com.tangosol.util.Streamer;
 import com.tangosol.util.ValueExtractor;
 
+import com.tangosol.util.filter.IndexAwareFilter;
+
 import jakarta.json.bind.annotation.JsonbProperty;
 import jakarta.json.bind.annotation.JsonbTransient;
 
@@ -44,10 +45,12 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -200,11 +203,31 @@ public class SimilaritySearch<K, V, T>
         // the index for just that partition.
         if (streamer.hasNext())
             {
-            InvocableMap.Entry<? extends K, ? extends V> entry = streamer.next();
-            if (!searchPartition(entry.asBinaryEntry(), m_vector))
+            InvocableMap.Entry<? extends K, ? extends V> entry       = streamer.next();
+            BinaryEntry<?, ?>                            binaryEntry = entry.asBinaryEntry();
+            Map<ValueExtractor, MapIndex>                mapIndex    = binaryEntry.getIndexMap();
+
+            if (!(mapIndex.get(m_extractor) instanceof VectorIndex))
                 {
                 return bruteForce(streamer, entry);
                 }
+
+            Filter<?>   filter  = m_filter;
+            Set<Binary> setKeys = null;
+            if (filter instanceof IndexAwareFilter)
+                {
+                // resolve the filter using the regular indexes of the partition,
+                // so that the vector index only considers the matching entries
+                setKeys = new HashSet<>();
+                setKeys.add(binaryEntry.getBinaryKey());
+                while (streamer.hasNext())
+                    {
+                    setKeys.add(streamer.next().asBinaryEntry().getBinaryKey());
+                    }
+                filter = ((IndexAwareFilter) filter).applyIndex(mapIndex, setKeys);
+                }
+
+            searchPartition(binaryEntry, m_vector, filter, setKeys);
             }
         return false; // we return false because we have done everything, we do not need to iterate over entries
         }
@@ -352,39 +375,61 @@ public class SimilaritySearch<K, V, T>
      *
      * @return  {@code true} if a {@link VectorIndex} was present and used for the search
      */
-    @SuppressWarnings({"rawtypes", "unchecked"})
     protected boolean searchPartition(BinaryEntry binaryEntry, Vector<T> vector)
+        {
+        return searchPartition(binaryEntry, vector, m_filter, null);
+        }
+
+    /**
+     * If a {@link VectorIndex} exists for the specified partition, then use it to
+     * perform the KNN search among the entries with the specified keys.
+     *
+     * @param binaryEntry  the {@link BinaryEntry} to use to identify the partition
+     * @param vector       the target vector to find the nearest neighbours to
+     * @param filter       an optional filter the results must match
+     * @param setKeys      the keys of the entries to search, or {@code null} to
+     *                     search all entries of the partition
+     *
+     * @return  {@code true} if a {@link VectorIndex} was present and used for the search
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    protected boolean searchPartition(BinaryEntry binaryEntry, Vector<T> vector, Filter<?> filter, Set<?> setKeys)
         {
         Map<ValueExtractor, MapIndex> mapIndex = binaryEntry.getIndexMap();
         MapIndex                      index    = mapIndex.get(m_extractor);
 
         if (index instanceof VectorIndex)
             {
-            BinaryQueryResult[] results = ((VectorIndex) index).query(vector, m_nMaxResults, m_filter);
-            boolean             fRemove = false;
-            double              nBottom = m_results.isEmpty() ? Float.MAX_VALUE : m_results.last().getDistance();
+            if (setKeys != null && setKeys.isEmpty())
+                {
+                return true;
+                }
+
+            BinaryQueryResult[] results   = ((VectorIndex) index).query(vector, m_nMaxResults, filter, setKeys);
+            boolean             fDistance = !((VectorIndex) index).isExactDistance(m_algorithm);
 
             for (BinaryQueryResult result : results)
                 {
-                if (index instanceof BinaryQuantIndex.BinaryQuantMapIndex)
+                if (fDistance)
                     {
-                    // we need to replace Hamming distances with the actual distance before processing results
+                    // we need to replace approximate distances, such as the Hamming distances
+                    // of quantized vectors, with the actual distance before processing results
                     BackingMapContext ctx   = binaryEntry.getBackingMapContext();
                     Map.Entry         entry = ctx.getReadOnlyEntry(result.getKey());
 
                     result.setDistance(m_algorithm.distance(m_vector, InvocableMapHelper.extractFromEntry(m_extractor, entry)));
                     }
 
-                double nScore = result.getDistance();
-                if (nScore < nBottom)
+                // the recalculated distances are not ordered, so each result
+                // is compared with the current bottom result
+                if (m_results.size() < m_nMaxResults)
+                    {
+                    m_results.add(result);
+                    }
+                else if (result.getDistance() < m_results.last().getDistance())
                     {
                     m_results.add(result);
-                    if (fRemove || m_results.size() > m_nMaxResults)
-                        {
-                        fRemove = true;
-                        m_results.removeLast();
-                        nBottom = m_results.last().getDistance();
-                        }
+                    m_results.removeLast();
                     }
                 }
             return true;
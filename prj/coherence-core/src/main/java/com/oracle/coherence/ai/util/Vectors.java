@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -33,9 +33,7 @@ public class Vectors
      */
     public static double dotProduct(BitSet a, BitSet b)
         {
-        BitSet v = BitSet.valueOf(a.toLongArray());
-        v.and(b);
-        return v.cardinality();
+        return andBitCount(a.toLongArray(), b.toLongArray());
         }
 
     /**
@@ -74,18 +72,12 @@ public class Vectors
      */
     public static float cosine(BitSet v1, BitSet v2)
         {
-        double dotProduct = 0.0;
-        double normA      = 0.0;
-        double normB      = 0.0;
-
-        for (int i = 0; i < v1.size(); i++)
-            {
-            int a = v1.get(i) ? 1 : 0;
-            int b = v2.get(i) ? 1 : 0;
-            normA += a * a;
-            normB += b * b;
-            dotProduct += a * b;
-            }
+        // for bit vectors the squared norm is the number of set bits
+        long[] a          = v1.toLongArray();
+        long[] b          = v2.toLongArray();
+        double dotProduct = andBitCount(a, b);
+        double normA      = bitCount(a);
+        double normB      = bitCount(b);
 
         // Avoid division by zero.
         return (float) (dotProduct / Math.max(Math.sqrt(normA) * Math.sqrt(normB), EPSILON));
@@ -127,9 +119,7 @@ public class Vectors
      */
     public static double l2squared(BitSet a, BitSet b)
         {
-        BitSet v = BitSet.valueOf(a.toLongArray());
-        v.xor(b);
-        return v.cardinality();
+        return xorBitCount(a.toLongArray(), b.toLongArray());
         }
 
     /**
@@ -351,12 +341,7 @@ public class Vectors
      */
     public static double magnitude(byte[] v)
         {
-        double magnitude = 0;
-        for (byte b : v)
-            {
-            magnitude += b * b;
-            }
-        return Math.sqrt(magnitude);
+        return Math.sqrt(VectorUtil.dotProduct(v, v));
         }
 
     /**
@@ -368,12 +353,7 @@ public class Vectors
      */
     public static double magnitude(float[] v)
         {
-        double magnitude = 0;
-        for (float f : v)
-            {
-            magnitude += f * f;
-            }
-        return Math.sqrt(magnitude);
+        return Math.sqrt(VectorUtil.dotProduct(v, v));
         }
 
     /**
@@ -454,31 +434,131 @@ public class Vectors
             throw new IllegalArgumentException(String.format("BitSets have different length: x[%d], y[%d]", x.size(), y.size()));
             }
 
-        long[] ax = x.toLongArray();
-        long[] ay = y.toLongArray();
+        return xorBitCount(x.toLongArray(), y.toLongArray());
+        }
 
-        int dist = 0;
-        for (int i = 0; i < ax.length; i++)
+    /**
+     * Calculate the hamming distance between the binary quantizations of two
+     * int8 vectors, without materializing the quantized vectors.
+     *
+     * @param a  the first vector
+     * @param b  the second vector
+     *
+     * @return the number of dimensions for which exactly one of the
+     *         vectors has a positive value
+     */
+    public static int hammingDistance(byte[] a, byte[] b)
+        {
+        if (a.length != b.length)
             {
-            dist += d(ax[i], ay[i]);
+            throw new IllegalArgumentException("vector dimensions differ: " + a.length + "!=" + b.length);
             }
 
+        int dist = 0;
+        for (int i = 0; i < a.length; i++)
+            {
+            if (a[i] > 0 != b[i] > 0)
+                {
+                dist++;
+                }
+            }
         return dist;
         }
 
-    private static int d(long x, long y)
+    /**
+     * Calculate the hamming distance between the binary quantizations of two
+     * float32 vectors, without materializing the quantized vectors.
+     *
+     * @param a  the first vector
+     * @param b  the second vector
+     *
+     * @return the number of dimensions for which exactly one of the
+     *         vectors has a positive value
+     */
+    public static int hammingDistance(float[] a, float[] b)
         {
+        if (a.length != b.length)
+            {
+            throw new IllegalArgumentException("vector dimensions differ: " + a.length + "!=" + b.length);
+            }
+
         int dist = 0;
-        long val = x ^ y;
+        for (int i = 0; i < a.length; i++)
+            {
+            if (a[i] > 0 != b[i] > 0)
+                {
+                dist++;
+                }
+            }
+        return dist;
+        }
 
-        // Count the number of set bits (Knuth's algorithm)
-        while (val != 0)
+    /**
+     * Return the number of set bits in the specified bit vector words.
+     *
+     * @param a  the bit vector words
+     *
+     * @return the number of set bits
+     */
+    public static int bitCount(long[] a)
+        {
+        int c = 0;
+        for (long l : a)
             {
-            ++dist;
-            val &= val - 1;
+            c += Long.bitCount(l);
             }
+        return c;
+        }
 
-        return dist;
+    /**
+     * Return the number of bits set in both of the specified bit vectors.
+     * <p/>
+     * The arrays may have different lengths, as {@link BitSet#toLongArray()}
+     * omits trailing zero words.
+     *
+     * @param a  the words of the first bit vector
+     * @param b  the words of the second bit vector
+     *
+     * @return the number of bits set in both vectors
+     */
+    public static int andBitCount(long[] a, long[] b)
+        {
+        int c = 0;
+        for (int i = 0, n = Math.min(a.length, b.length); i < n; i++)
+            {
+            c += Long.bitCount(a[i] & b[i]);
+            }
+        return c;
+        }
+
+    /**
+     * Return the number of bits set in exactly one of the specified bit
+     * vectors.
+     * <p/>
+     * The arrays may have different lengths, as {@link BitSet#toLongArray()}
+     * omits trailing zero words.
+     *
+     * @param a  the words of the first bit vector
+     * @param b  the words of the second bit vector
+     *
+     * @return the number of differing bits
+     */
+    public static int xorBitCount(long[] a, long[] b)
+        {
+        int n = Math.min(a.length, b.length);
+        int c = 0;
+        for (int i = 0; i < n; i++)
+            {
+            c += Long.bitCount(a[i] ^ b[i]);
+            }
+
+        // the words missing from the shorter array are zero
+        long[] aLonger = a.length > n ? a : b;
+        for (int i = n; i < aLonger.length; i++)
+            {
+            c += Long.bitCount(aLonger[i]);
+            }
+        return c;
         }
 
     // ---- constants -------------------------------------------------------
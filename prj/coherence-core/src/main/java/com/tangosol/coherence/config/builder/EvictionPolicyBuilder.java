@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -89,6 +89,9 @@ public class EvictionPolicyBuilder
                 case "LFU":
                     policy = LocalCache.INSTANCE_LFU;
                     break;
+                case "SAMPLED":
+                    policy = LocalCache.INSTANCE_SAMPLED;
+                    break;
                 default:
                     throw new IllegalArgumentException(
                         "Error: the <eviction-policy> value " + sType +
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -31,6 +31,8 @@ import com.tangosol.persistence.CachePersistenceHelper;
 import com.tangosol.persistence.SafePersistenceWrappers;
 import com.tangosol.persistence.bdb.BerkeleyDBEnvironment;
 
+import com.tangosol.persistence.log.LogStructuredEnvironment;
+
 import com.tangosol.util.Base;
 
 import java.io.File;
@@ -67,6 +69,7 @@ public class PersistenceEnvironmentParamBuilder
         m_sSnapshot = sHome + File.separatorChar + CachePersistenceHelper.DEFAULT_SNAPSHOT_DIR;
         m_sTrash    = sHome + File.separatorChar + CachePersistenceHelper.DEFAULT_TRASH_DIR;
         m_sMode     = "active";
+        m_sType     = STORE_TYPE_BDB;
         }
 
     // ----- ParameterizedBuilder methods -----------------------------------
@@ -93,18 +96,42 @@ public class PersistenceEnvironmentParamBuilder
 
         PersistenceEnvironmentInfo info = getPersistenceEnvironmentInfo(sClusterName, sServiceName);
 
+        if (m_bldr == null &&
+            !getStoreType().equalsIgnoreCase(STORE_TYPE_BDB) &&
+            !getStoreType().equalsIgnoreCase(STORE_TYPE_LOG))
+            {
+            throw new ConfigurationException("Invalid persistence store type: '" + getStoreType() + "'.",
+                                             "Valid values are: '" + STORE_TYPE_BDB + "' and '" +
+                                             STORE_TYPE_LOG + "'");
+            }
+
         PersistenceEnvironment<ReadBuffer> environment;
         try
             {
-            // default to a BerkeleyDBEnvironment or delegate to the builder
-            environment = m_bldr == null
-                    ? new BerkeleyDBEnvironment(
-                            info.getPersistenceActiveDirectory(),
-                            info.getPersistenceBackupDirectory(),
-                            info.getPersistenceEventsDirectory(),
-                            info.getPersistenceSnapshotDirectory(),
-                            info.getPersistenceTrashDirectory())
-                    : m_bldr.realize(createResolver(sClusterName, sServiceName), loader, listParameters);
+            // default to an environment of the configured store type or
+            // delegate to the builder
+            if (m_bldr != null)
+                {
+                environment = m_bldr.realize(createResolver(sClusterName, sServiceName), loader, listParameters);
+                }
+            else if (getStoreType().equalsIgnoreCase(STORE_TYPE_LOG))
+                {
+                environment = new LogStructuredEnvironment(
+                        info.getPersistenceActiveDirectory(),
+                        info.getPersistenceBackupDirectory(),
+                        info.getPersistenceEventsDirectory(),
+                        info.getPersistenceSnapshotDirectory(),
+                        info.getPersistenceTrashDirectory());
+                }
+            else
+                {
+                environment = new BerkeleyDBEnvironment(
+                        info.getPersistenceActiveDirectory(),
+                        info.getPersistenceBackupDirectory(),
+                        info.getPersistenceEventsDirectory(),
+                        info.getPersistenceSnapshotDirectory(),
+                        info.getPersistenceTrashDirectory());
+                }
             }
         catch (Exception e)
             {
@@ -175,6 +202,30 @@ public class PersistenceEnvironmentParamBuilder
             }
         }
 
+    /**
+     * Return the type of the persistent stores of the default environment.
+     *
+     * @return the store type; either bdb or log
+     */
+    public String getStoreType()
+        {
+        return m_sType;
+        }
+
+    /**
+     * Set the type of the persistent stores of the default environment.
+     *
+     * @param sType  bdb or log
+     */
+    @Injectable("store-type")
+    public void setStoreType(String sType)
+        {
+        if (sType != null && sType.length() > 0)
+            {
+            m_sType = sType;
+            }
+        }
+
     /**
      * Set the persistence active directory.
      *
@@ -258,6 +309,7 @@ public class PersistenceEnvironmentParamBuilder
         {
         StringBuilder sb = new StringBuilder()
           .append("\n        Mode: ").append(m_sMode)
+          .append("\n        Store Type: ").append(m_sType)
           .append("\n        Active Location: ").append(m_sActive)
           .append("\n        Backup Location: ").append(m_sBackup)
           .append("\n        Snapshot Location:").append(m_sSnapshot)
@@ -546,6 +598,18 @@ public class PersistenceEnvironmentParamBuilder
         private final String f_sMode;
         }
 
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The store type of the BerkeleyDB based environment.
+     */
+    public static final String STORE_TYPE_BDB = "bdb";
+
+    /**
+     * The store type of the log-structured environment.
+     */
+    public static final String STORE_TYPE_LOG = "log";
+
     // ----- data members ---------------------------------------------------
 
     /**
@@ -553,6 +617,12 @@ public class PersistenceEnvironmentParamBuilder
      */
     protected String m_sMode;
 
+    /**
+     * The type of the persistent stores of the default environment; either
+     * bdb or log.
+     */
+    protected String m_sType;
+
     /**
      * The active directory used by persistence.
      */
@@ -1,11 +1,13 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
- * http://oss.oracle.com/licenses/upl.
+ * https://oss.oracle.com/licenses/upl.
  */
 package com.tangosol.coherence.config.scheme;
 
+import com.oracle.coherence.common.util.Duration.Magnitude;
+
 import com.tangosol.coherence.config.builder.EvictionPolicyBuilder;
 import com.tangosol.coherence.config.builder.UnitCalculatorBuilder;
 import com.tangosol.coherence.config.unit.Seconds;
@@ -17,6 +19,17 @@ import com.tangosol.config.expression.Expression;
 import com.tangosol.config.expression.LiteralExpression;
 import com.tangosol.config.expression.ParameterResolver;
 
+import com.tangosol.io.BinaryStore;
+
+import com.tangosol.io.journal.JournalBinaryStoreManager;
+
+import com.tangosol.net.cache.ConfigurableCacheMap.EvictionPolicy;
+import com.tangosol.net.cache.LocalCache;
+import com.tangosol.net.cache.SerializationCache;
+import com.tangosol.net.cache.SimpleSerializationMap;
+
+import java.util.Map;
+
 /**
  * The {@link AbstractJournalScheme} contains functionality common to all
  * Journal schemes.
@@ -182,6 +195,92 @@ public abstract class AbstractJournalScheme<T>
         m_exprUnitFactor = expr;
         }
 
+    // ----- internal -------------------------------------------------------
+
+    /**
+     * Realize a journal backed map whose binary keys and values are stored in
+     * a {@link BinaryStore} created by the specified journal manager.
+     * <p>
+     * If either high-units or an expiry delay is configured, the returned
+     * map is a {@link SerializationCache} that applies the configured
+     * eviction and expiry on top of the journal; otherwise a
+     * {@link SimpleSerializationMap} is returned.
+     *
+     * @param resolver      the ParameterResolver
+     * @param dependencies  the MapBuilder dependencies
+     * @param manager       the journal manager to create the store with
+     *
+     * @return the journal backed map
+     */
+    protected Map realizeJournalMap(ParameterResolver resolver, Dependencies dependencies,
+            JournalBinaryStoreManager manager)
+        {
+        validate(resolver);
+
+        BinaryStore store   = manager.createBinaryStore();
+        boolean     fBinary = dependencies.isBinary();
+
+        Units highUnits     = getHighUnits(resolver);
+        long  cHighUnits    = highUnits.getUnitCount();
+        long  cLowUnits     = getLowUnits(resolver).getUnitCount();
+        int   nUnitFactor   = getUnitFactor(resolver);
+        int   cExpiryMillis = (int) getExpiryDelay(resolver).as(Magnitude.MILLI);
+
+        if (cHighUnits <= 0 && cExpiryMillis <= 0)
+            {
+            return fBinary
+                   ? new SimpleSerializationMap(store, true)
+                   : new SimpleSerializationMap(store, dependencies.getClassLoader());
+            }
+
+        // auto scale units to integer range
+        while (cHighUnits >= Integer.MAX_VALUE)
+            {
+            cHighUnits  /= 1024;
+            cLowUnits   /= 1024;
+            nUnitFactor *= 1024;
+            }
+
+        if (cHighUnits <= 0)
+            {
+            cHighUnits = Integer.MAX_VALUE;
+            }
+
+        ClassLoader        loader = dependencies.getClassLoader();
+        SerializationCache cache  = fBinary
+                                    ? new SerializationCache(store, (int) cHighUnits, true)
+                                    : new SerializationCache(store, (int) cHighUnits, loader);
+
+        if (cLowUnits > 0)
+            {
+            cache.setLowUnits((int) cLowUnits);
+            }
+        if (cExpiryMillis > 0)
+            {
+            cache.setExpiryDelay(cExpiryMillis);
+            }
+        cache.setUnitFactor(nUnitFactor);
+
+        // if this is a partitioned cache backing map then default to BINARY if the user
+        // explicitly used a memory size in the high-units setting (e.g. 10M).
+        UnitCalculatorBuilder bldrUnitCalculator = getUnitCalculatorBuilder();
+        cache.setUnitCalculator(bldrUnitCalculator == null
+                ? highUnits.isMemorySize() && fBinary ? LocalCache.INSTANCE_BINARY : null
+                : bldrUnitCalculator.realize(resolver, loader, null));
+
+        EvictionPolicyBuilder bldrPolicy = getEvictionPolicyBuilder();
+        if (bldrPolicy != null)
+            {
+            EvictionPolicy policy = bldrPolicy.realize(resolver, loader, null);
+            if (!(policy instanceof LocalCache.InternalEvictionPolicy))
+                {
+                cache.setEvictionPolicy(policy);
+                }
+            }
+
+        return cache;
+        }
+
     // ----- data members ---------------------------------------------------
 
     /**
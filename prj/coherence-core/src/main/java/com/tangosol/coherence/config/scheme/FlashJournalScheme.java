@@ -1,18 +1,22 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
- * http://oss.oracle.com/licenses/upl.
+ * https://oss.oracle.com/licenses/upl.
  */
 package com.tangosol.coherence.config.scheme;
 
 import com.tangosol.config.expression.ParameterResolver;
 
+import com.tangosol.io.journal.JournalBinaryStoreManager;
+
 import java.util.Map;
 
 /**
  * The {@link FlashJournalScheme} is used to create an instance of a
- * Flash Journal map.
+ * Flash Journal map. The map stores its binary keys and values in
+ * memory-mapped file slabs managed by the shared flash
+ * {@link JournalBinaryStoreManager}.
  *
  * @author pfm  2011.10.30
  * @since Coherence 12.1.2
@@ -28,6 +32,6 @@ public class FlashJournalScheme
     @Override
     public Map realizeMap(ParameterResolver resolver, Dependencies dependencies)
         {
-        throw new UnsupportedOperationException("Elastic Data features are not supported in Coherence CE");
+        return realizeJournalMap(resolver, dependencies, JournalBinaryStoreManager.getFlashJournalManager());
         }
     }
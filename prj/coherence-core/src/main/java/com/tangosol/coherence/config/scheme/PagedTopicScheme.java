@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -57,6 +57,8 @@ import com.tangosol.net.topic.BinaryElementCalculator;
 import com.tangosol.net.topic.FixedElementCalculator;
 import com.tangosol.net.topic.NamedTopic;
 
+import com.tangosol.util.Extractors;
+import com.tangosol.util.Filters;
 import com.tangosol.util.RegistrationBehavior;
 import com.tangosol.util.ResourceResolver;
 import com.tangosol.util.ResourceResolverHelper;
@@ -355,6 +357,31 @@ public class PagedTopicScheme
         m_exprRetainConsumed = expr;
         }
 
+    /**
+     * Determine whether consumed pages are moved to tiered storage.
+     *
+     * @param resolver  the ParameterResolver
+     *
+     * @return {@code true} if consumed pages are moved to tiered storage
+     */
+    public boolean isTieredStorage(ParameterResolver resolver)
+        {
+        Boolean fTiered = m_exprTieredStorage.evaluate(resolver);
+
+        return fTiered != null && fTiered;
+        }
+
+    /**
+     * Set whether consumed pages are moved to tiered storage.
+     *
+     * @param expr  the expression to produce the tiered-storage flag
+     */
+    @Injectable("tiered-storage")
+    public void setTieredStorage(Expression<Boolean> expr)
+        {
+        m_exprTieredStorage = expr;
+        }
+
     /**
      * Returns {@code true} if the topic allows commits for a position in a channel by
      * subscribers that do not own the channel.
@@ -384,6 +411,87 @@ public class PagedTopicScheme
         m_exprAllowUnownedCommits = expr;
         }
 
+    /**
+     * Return the name of the property used as the compaction key of a
+     * compacted topic.
+     *
+     * @param resolver  the ParameterResolver
+     *
+     * @return the name of the compaction key property, or {@code null}
+     *         if the topic is not compacted
+     */
+    public String getCompactionKey(ParameterResolver resolver)
+        {
+        String sKey = m_exprCompactionKey.evaluate(resolver);
+        return sKey == null || sKey.isBlank() ? null : sKey.trim();
+        }
+
+    /**
+     * Set the name of the property used as the compaction key of a
+     * compacted topic.
+     * <p>
+     * The name may be a chain of property names separated by periods.
+     *
+     * @param expr  the expression to produce the compaction key property name
+     */
+    @Injectable("compaction-key")
+    public void setCompactionKey(Expression<String> expr)
+        {
+        m_exprCompactionKey = expr;
+        }
+
+    /**
+     * Return the name of the boolean property that marks an element of a
+     * compacted topic as a tombstone.
+     *
+     * @param resolver  the ParameterResolver
+     *
+     * @return the name of the tombstone property, or {@code null}
+     *         if the topic does not have tombstones
+     */
+    public String getCompactionTombstone(ParameterResolver resolver)
+        {
+        String sTombstone = m_exprCompactionTombstone.evaluate(resolver);
+        return sTombstone == null || sTombstone.isBlank() ? null : sTombstone.trim();
+        }
+
+    /**
+     * Set the name of the boolean property that marks an element of a
+     * compacted topic as a tombstone.
+     *
+     * @param expr  the expression to produce the tombstone property name
+     */
+    @Injectable("compaction-tombstone")
+    public void setCompactionTombstone(Expression<String> expr)
+        {
+        m_exprCompactionTombstone = expr;
+        }
+
+    /**
+     * Return the minimum time that tombstones are retained in a compacted topic.
+     *
+     * @param resolver  the ParameterResolver
+     *
+     * @return the minimum time that tombstones are retained
+     */
+    public Seconds getTombstoneRetention(ParameterResolver resolver)
+        {
+        return m_exprTombstoneRetention.evaluate(resolver);
+        }
+
+    /**
+     * Set the minimum time that tombstones are retained in a compacted topic.
+     *
+     * @param expr  the expression representing the tombstone retention time
+     */
+    @Injectable("tombstone-retention")
+    public void setTombstoneRetention(Expression<Seconds> expr)
+        {
+        m_exprTombstoneRetention = expr == null
+                ? new LiteralExpression<>(NamedTopic.DEFAULT_TOMBSTONE_RETENTION_SECONDS)
+                : expr;
+        }
+
     /**
      * Returns the subscriber timeout value.
      *
@@ -691,6 +799,7 @@ public class PagedTopicScheme
         dependencies.setElementExpiryMillis(expiryDelayMillis);
         dependencies.setMaxBatchSizeBytes(Math.min((int) cbPage, nMaxBatchSizeBytes));
         dependencies.setRetainConsumed(fRetainConsumed);
+        dependencies.setTieredStorage(fRetainConsumed && isTieredStorage(resolver));
         dependencies.setElementCalculator(calculator);
         dependencies.setChannelCount(getChannelCount(resolver));
         dependencies.setAllowUnownedCommits(isAllowUnownedCommits(resolver));
@@ -698,6 +807,16 @@ public class PagedTopicScheme
         dependencies.setReconnectTimeoutMillis(getReconnectTimeoutMillis(resolver).as(Duration.Magnitude.MILLI));
         dependencies.setReconnectRetryMillis(getReconnectRetryMillis(resolver).as(Duration.Magnitude.MILLI));
         dependencies.setReconnectWaitMillis(getReconnectWaitMillis(resolver).as(Duration.Magnitude.MILLI));
+
+        String sCompactionKey = getCompactionKey(resolver);
+        if (sCompactionKey != null)
+            {
+            String sTombstone = getCompactionTombstone(resolver);
+
+            dependencies.setCompactionKeyExtractor(Extractors.chained(sCompactionKey));
+            dependencies.setTombstoneFilter(sTombstone == null ? null : Filters.isTrue(Extractors.chained(sTombstone)));
+            dependencies.setTombstoneRetentionMillis(getTombstoneRetention(resolver).as(Duration.Magnitude.MILLI));
+            }
         return dependencies;
         }
 
@@ -766,6 +885,11 @@ public class PagedTopicScheme
      */
     private Expression<Boolean> m_exprRetainConsumed = new LiteralExpression<>(Boolean.FALSE);
 
+    /**
+     * The tiered-storage flag.
+     */
+    private Expression<Boolean> m_exprTieredStorage = new LiteralExpression<>(Boolean.FALSE);
+
     /**
      * The duration that a value will live in the cache.
      * Zero indicates no timeout.
@@ -782,6 +906,21 @@ public class PagedTopicScheme
      */
     private Expression<Boolean> m_exprAllowUnownedCommits = new LiteralExpression<>(Boolean.FALSE);
 
+    /**
+     * The name of the compaction key property.
+     */
+    private Expression<String> m_exprCompactionKey = new LiteralExpression<>(null);
+
+    /**
+     * The name of the tombstone property.
+     */
+    private Expression<String> m_exprCompactionTombstone = new LiteralExpression<>(null);
+
+    /**
+     * The minimum time that tombstones are retained.
+     */
+    private Expression<Seconds> m_exprTombstoneRetention = new LiteralExpression<>(NamedTopic.DEFAULT_TOMBSTONE_RETENTION_SECONDS);
+
     /**
      * The {@link ElementCalculatorBuilder}.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -63,7 +63,8 @@ public class PagedTopicStorageScheme
             }
         else if (PagedTopicCaches.Names.CONTENT.isA(sName))
             {
-            map = new PagedTopicContentBackingMap(map);
+            boolean fTiered = f_schemeTopic.isRetainConsumed(resolver) && f_schemeTopic.isTieredStorage(resolver);
+            map = new PagedTopicContentBackingMap(map, fTiered);
             }
         return map;
         }
@@ -1,18 +1,23 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
- * http://oss.oracle.com/licenses/upl.
+ * https://oss.oracle.com/licenses/upl.
  */
 package com.tangosol.coherence.config.scheme;
 
 import com.tangosol.config.expression.ParameterResolver;
 
+import com.tangosol.io.journal.JournalBinaryStoreManager;
+
 import java.util.Map;
 
 
 /**
  * The {@link RamJournalScheme} is used to create an instance of a Ram Journal map.
+ * The map stores its binary keys and values in off-heap slabs managed by the
+ * shared ram {@link JournalBinaryStoreManager}, overflowing to memory-mapped
+ * files once the configured memory limit has been reached.
  *
  * @author pfm  2011.11.30
  * @since Coherence 12.1.2
@@ -28,6 +33,6 @@ public class RamJournalScheme
     @Override
     public Map realizeMap(ParameterResolver resolver, Dependencies dependencies)
         {
-        throw new UnsupportedOperationException("Elastic Data features are not supported in Coherence CE");
+        return realizeJournalMap(resolver, dependencies, JournalBinaryStoreManager.getRamJournalManager());
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -189,6 +189,8 @@ public class ReadWriteBackingMapScheme
         rwbm.setWriteBatchFactor(getWriteBatchFactor(resolver));
         rwbm.setWriteRequeueThreshold(getWriteRequeueThreshold(resolver));
         rwbm.setWriteMaxBatchSize(getWriteMaxBatchSize(resolver));
+        rwbm.setWriteThreadCount(getWriteThreadCount(resolver));
+        rwbm.setWriteBatchTargetMillis(getWriteBatchTargetLatency(resolver).as(Magnitude.MILLI));
 
         if (cWriteBehindMillis != 1000L * cWriteBehindSec)
             {
@@ -536,6 +538,65 @@ public class ReadWriteBackingMapScheme
         m_exprWriteMaxBatchSize = expr;
         }
 
+    /**
+     * Return the number of threads used to write the write-behind batches to
+     * the CacheStore. The default value is one thread. This value has no
+     * effect if write behind is disabled.
+     *
+     * @param resolver  the ParameterResolver
+     *
+     * @return the number of write-behind threads
+     *
+     * @since 15.0.0
+     */
+    public int getWriteThreadCount(ParameterResolver resolver)
+        {
+        return m_exprWriteThreadCount.evaluate(resolver);
+        }
+
+    /**
+     * Set the number of write-behind threads.
+     *
+     * @param expr  the number of write-behind threads
+     *
+     * @since 15.0.0
+     */
+    @Injectable
+    public void setWriteThreadCount(Expression<Integer> expr)
+        {
+        m_exprWriteThreadCount = expr;
+        }
+
+    /**
+     * Return the target duration of a write-behind batch. If positive, the
+     * size of the write-behind batches is adjusted based on the duration of
+     * the store operations, up to the write maximum batch size. The default
+     * value is zero, which disables the adjustment.
+     *
+     * @param resolver  the ParameterResolver
+     *
+     * @return the write batch target latency
+     *
+     * @since 15.0.0
+     */
+    public Millis getWriteBatchTargetLatency(ParameterResolver resolver)
+        {
+        return m_exprWriteBatchTargetLatency.evaluate(resolver);
+        }
+
+    /**
+     * Set the target duration of a write-behind batch.
+     *
+     * @param expr  the write batch target latency
+     *
+     * @since 15.0.0
+     */
+    @Injectable
+    public void setWriteBatchTargetLatency(Expression<Millis> expr)
+        {
+        m_exprWriteBatchTargetLatency = expr;
+        }
+
     /**
      * Return the size of the write-behind queue at which additional actions
      * could be taken.  If zero, write-behind re-queuing is disabled. Otherwise,
@@ -932,6 +993,16 @@ public class ReadWriteBackingMapScheme
      */
     private Expression<Integer> m_exprWriteMaxBatchSize = new LiteralExpression<Integer>(Integer.valueOf(128));
 
+    /**
+     * The number of write-behind threads.
+     */
+    private Expression<Integer> m_exprWriteThreadCount = new LiteralExpression<Integer>(Integer.valueOf(1));
+
+    /**
+     * The write batch target latency.
+     */
+    private Expression<Millis> m_exprWriteBatchTargetLatency = new LiteralExpression<Millis>(new Millis("0"));
+
     /**
      * The write re-queue threshold.
      */
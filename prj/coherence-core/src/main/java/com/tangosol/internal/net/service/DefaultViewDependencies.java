@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -198,6 +198,59 @@ public class DefaultViewDependencies
         m_fCacheValues = fCacheValues;
         }
 
+    /**
+     * Return the {@link ContinuousQueryCache.StorageMode storage mode} of the
+     * {@link ContinuousQueryCache}.
+     *
+     * @return the storage mode of the {@link ContinuousQueryCache}
+     *
+     * @see ContinuousQueryCache#getStorageMode()
+     */
+    public ContinuousQueryCache.StorageMode getStorageMode()
+        {
+        return m_storageMode;
+        }
+
+    /**
+     * Set the {@link ContinuousQueryCache.StorageMode storage mode} of the
+     * {@link ContinuousQueryCache}; one of {@code "object"}, {@code "binary"}
+     * or {@code "off-heap"}.
+     *
+     * @param sMode  the storage mode of the {@link ContinuousQueryCache}
+     *
+     * @throws IllegalArgumentException if the mode is not valid
+     */
+    @Injectable("storage-mode")
+    public void setStorageMode(String sMode)
+        {
+        m_storageMode = ContinuousQueryCache.StorageMode.fromString(sMode);
+        }
+
+    /**
+     * Return {@code true} if the {@link ContinuousQueryCache} receives the
+     * updates of its values as binary deltas.
+     *
+     * @return {@code true} if updates are received as binary deltas
+     *
+     * @see ContinuousQueryCache#isDeltaEvents()
+     */
+    public boolean isDeltaEvents()
+        {
+        return m_fDeltaEvents;
+        }
+
+    /**
+     * Set the flag indicating whether the {@link ContinuousQueryCache}
+     * receives the updates of its values as binary deltas.
+     *
+     * @param fDeltaEvents  {@code true} to receive updates as binary deltas
+     */
+    @Injectable("delta-events")
+    public void setDeltaEvents(boolean fDeltaEvents)
+        {
+        m_fDeltaEvents = fDeltaEvents;
+        }
+
     /**
      * Return the {@link Service} that will back the {@link ContinuousQueryCache}.
      *
@@ -258,4 +311,14 @@ public class DefaultViewDependencies
      * Flag controlling the {@link ContinuousQueryCache} storing both keys and values or only keys.
      */
     protected boolean m_fCacheValues = true;
+
+    /**
+     * The form in which the {@link ContinuousQueryCache} holds its keys and values.
+     */
+    protected ContinuousQueryCache.StorageMode m_storageMode = ContinuousQueryCache.StorageMode.OBJECT;
+
+    /**
+     * Flag controlling if the {@link ContinuousQueryCache} receives updates as binary deltas.
+     */
+    protected boolean m_fDeltaEvents;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -101,6 +101,7 @@ public class NamedTopicPublisher<V>
         f_onFailure           = options.getOnFailure();
         f_convValueToBinary   = options.getConverter()
                                     .orElse(value -> ExternalizableHelper.toBinary(value, serializer));
+        f_compression         = options.getCompression();
 
         int cChannel = connector.getChannelCount();
         f_aChannel          = new NamedTopicPublisherChannel[cChannel];
@@ -124,7 +125,7 @@ public class NamedTopicPublisher<V>
         for (int nChannel = 0; nChannel < cChannel; ++nChannel)
             {
             PublisherChannelConnector<V> connChannel = f_connector.createChannelConnector(nChannel);
-            f_aChannel[nChannel] = new NamedTopicPublisherChannel<>(connChannel, f_nId, nChannel, f_nNotifyPostFull, backlog, f_daemon, serializer, f_calculator, this::handlePublishError);
+            f_aChannel[nChannel] = new NamedTopicPublisherChannel<>(connChannel, f_nId, nChannel, f_nNotifyPostFull, backlog, f_daemon, serializer, f_calculator, f_compression, this::handlePublishError);
             }
 
         m_state = State.Active;
@@ -235,6 +236,49 @@ public class NamedTopicPublisher<V>
         return f_sTopicName;
         }
 
+    /**
+     * Return the compression applied to the values this publisher publishes.
+     *
+     * @return the compression applied to the values this publisher publishes
+     */
+    public Publisher.Compression getCompression()
+        {
+        return f_compression;
+        }
+
+    /**
+     * Return the ratio of the size of the values this publisher has compressed
+     * to the size they were compressed to.
+     *
+     * @return the compression ratio, or {@code 1.0} if no values have been compressed
+     */
+    public double getCompressionRatio()
+        {
+        long cbIn  = 0L;
+        long cbOut = 0L;
+        for (NamedTopicPublisherChannel<V> channel : f_aChannel)
+            {
+            cbIn  += channel.getUncompressedBytes();
+            cbOut += channel.getCompressedBytes();
+            }
+        return cbOut == 0L ? 1.0 : (double) cbIn / cbOut;
+        }
+
+    /**
+     * Return the CPU time this publisher has spent compressing values.
+     *
+     * @return the time spent compressing values, in milliseconds
+     */
+    public long getCompressionMillis()
+        {
+        long cNanos = 0L;
+        for (NamedTopicPublisherChannel<V> channel : f_aChannel)
+            {
+            cNanos += channel.getCompressionNanos();
+            }
+        return cNanos / 1_000_000L;
+        }
+
     /**
      * Method called to notify this publisher that space is now available in a previously full topic.
      *
@@ -287,6 +331,7 @@ public class NamedTopicPublisher<V>
                 .append("(topic=").append(f_sTopicName)
                 .append(", id=").append(f_nId)
                 .append(", orderBy=").append(f_funcOrder)
+                .append(", compression=").append(f_compression)
                 .append(", backlog=").append(f_flowControl)
                 .append(", channels=").append(cChannels);
 
@@ -387,8 +432,11 @@ public class NamedTopicPublisher<V>
                     PublisherChannelConnector<V> connChannel = f_connector.createChannelConnector(nChannel);
                     Serializer                   serializer  = f_connector.getTopicService().getSerializer();
 
+                    // release the failed channel, including its compression resources
+                    publisher.close();
+
                     publisher = f_aChannel[nChannel] = new NamedTopicPublisherChannel<>(connChannel, f_nId, nChannel,
-                            f_nNotifyPostFull, f_flowControl, f_daemon, serializer, f_calculator, this::handlePublishError);
+                            f_nNotifyPostFull, f_flowControl, f_daemon, serializer, f_calculator, f_compression, this::handlePublishError);
                     }
                 }
             finally
@@ -961,6 +1009,11 @@ public class NamedTopicPublisher<V>
      */
     private final Converter<V, Binary> f_convValueToBinary;
 
+    /**
+     * The compression applied to the values this publisher publishes.
+     */
+    private final Publisher.Compression f_compression;
+
     /**
      * The post full notifier.
      */
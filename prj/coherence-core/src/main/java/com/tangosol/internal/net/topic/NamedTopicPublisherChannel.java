@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -15,7 +15,10 @@ import com.tangosol.internal.net.DebouncedFlowControl;
 
 import com.tangosol.internal.net.topic.impl.paged.BatchingOperationsQueue;
 
+import com.tangosol.internal.net.topic.impl.paged.model.PageElement;
+
 import com.tangosol.internal.util.DaemonPool;
+import com.tangosol.internal.util.VersionHelper;
 
 import com.tangosol.io.Serializer;
 
@@ -31,6 +34,7 @@ import com.tangosol.util.LongArray;
 import com.tangosol.util.SimpleLongArray;
 import com.tangosol.util.SparseArray;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -41,6 +45,8 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 
+import java.util.zip.Deflater;
+
 /**
  * A publisher that publishes to a specific channel in a {@link NamedTopic}.
  *
@@ -60,6 +66,7 @@ public class NamedTopicPublisherChannel<V>
      * @param nNotifyPostFull  the post full notification identifier
      * @param flowControl      the {@link DebouncedFlowControl} control to use
      * @param pool             the {@link DaemonPool} to execute publish completions
+     * @param compression      the {@link Publisher.Compression} to apply to each batch
      */
     public NamedTopicPublisherChannel(PublisherChannelConnector<V>   connector,
                                       long                           lPublisherId,
@@ -69,6 +76,7 @@ public class NamedTopicPublisherChannel<V>
                                       DaemonPool                     pool,
                                       Serializer                     serializer,
                                       NamedTopic.ElementCalculator   calculator,
+                                      Publisher.Compression          compression,
                                       BiConsumer<Throwable, Integer> onErrorHandler)
         {
         m_connector       = connector;
@@ -78,6 +86,9 @@ public class NamedTopicPublisherChannel<V>
         f_onErrorHandler  = onErrorHandler;
         f_nNotifyPostFull = nNotifyPostFull;
         f_serializer      = serializer;
+        f_deflater        = compression == Publisher.Compression.Deflate
+                                ? new Deflater(Deflater.BEST_SPEED)
+                                : null;
 
         //noinspection rawtypes
         BatchingOperationsQueue.Executor executor = new NamedTopicPublisherChannel.AssociatedExecutor(pool);
@@ -215,6 +226,19 @@ public class NamedTopicPublisherChannel<V>
             f_batchingQueue.cancelAllAndClose("Publisher has been closed", null);
             m_connector = null;
             }
+
+        Deflater deflater = f_deflater;
+        if (deflater != null)
+            {
+            synchronized (deflater)
+                {
+                if (!m_fDeflaterEnded)
+                    {
+                    m_fDeflaterEnded = true;
+                    deflater.end();
+                    }
+                }
+            }
         }
 
     /**
@@ -310,6 +334,11 @@ public class NamedTopicPublisherChannel<V>
             return;
             }
 
+        if (f_deflater != null && isCompressionCompatible())
+            {
+            listBinary = compress(listBinary);
+            }
+
         m_connector.offer(oCookie, listBinary, f_nNotifyPostFull, (result, err) ->
             {
             try
@@ -338,6 +367,89 @@ public class NamedTopicPublisherChannel<V>
             });
         }
 
+    /**
+     * Return {@code true} if all members of the topic service can read
+     * compressed values.
+     *
+     * @return {@code true} if all members of the topic service can read
+     *         compressed values
+     */
+    protected boolean isCompressionCompatible()
+        {
+        PublisherChannelConnector<V> connector = m_connector;
+        return connector != null
+                && connector.getTopicService().isVersionCompatible(VersionHelper.VERSION_26_04);
+        }
+
+    /**
+     * Compress the values of a batch.
+     *
+     * @param listBinary  the serialized values of the batch
+     *
+     * @return the compressed values of the batch
+     */
+    protected List<Binary> compress(List<Binary> listBinary)
+        {
+        List<Binary> listCompressed = new ArrayList<>(listBinary.size());
+        long         ldtStart       = System.nanoTime();
+        long         cbIn           = 0L;
+        long         cbOut          = 0L;
+
+        synchronized (f_deflater)
+            {
+            if (m_fDeflaterEnded)
+                {
+                // the channel has been closed
+                return listBinary;
+                }
+
+            for (Binary binValue : listBinary)
+                {
+                Binary binCompressed = PageElement.compress(binValue, f_deflater);
+                listCompressed.add(binCompressed);
+                cbIn  += binValue.length();
+                cbOut += binCompressed.length();
+                }
+            }
+
+        m_cbUncompressed += cbIn;
+        m_cbCompressed   += cbOut;
+        m_cNanosCompress += System.nanoTime() - ldtStart;
+
+        return listCompressed;
+        }
+
+    /**
+     * Returns the number of bytes of serialized values this publisher has compressed.
+     *
+     * @return the number of bytes of serialized values before compression
+     */
+    public long getUncompressedBytes()
+        {
+        return m_cbUncompressed;
+        }
+
+    /**
+     * Returns the number of bytes the values this publisher has compressed were
+     * compressed to.
+     *
+     * @return the number of bytes of serialized values after compression
+     */
+    public long getCompressedBytes()
+        {
+        return m_cbCompressed;
+        }
+
+    /**
+     * Returns the CPU time this publisher has spent compressing values.
+     *
+     * @return the time spent compressing values, in nanoseconds
+     */
+    public long getCompressionNanos()
+        {
+        return m_cNanosCompress;
+        }
+
     /**
      * Handle completion of a {@link CompletableFuture} linked to an async execution of
      * a {@link PublishResult}.
@@ -530,6 +642,8 @@ public class NamedTopicPublisherChannel<V>
                 ", batchSize=" + (cAccepted / Math.max(1, cOffers - cMisses)) +
                 ", hitRate=" + ((cOffers - cMisses) * 100 / Math.max(1, cOffers)) + "%" +
                 ", waitNotifyRate=" + (cWait * 100 / Math.max(1, cOffers)) + "/" + (cNotify * 100 / Math.max(1, cOffers)) + "%" +
+                (f_deflater == null ? "" : ", compressionRatio=" + String.format("%.2f", (double) m_cbUncompressed / Math.max(1, m_cbCompressed))
+                                           + ", compressionTime=" + (m_cNanosCompress / 1_000_000) + "ms") +
                 ")";
         }
 
@@ -652,6 +766,17 @@ public class NamedTopicPublisherChannel<V>
      */
     private final int f_nNotifyPostFull;
 
+    /**
+     * The {@link Deflater} used to compress batches, or {@code null} if
+     * batches are not compressed.
+     */
+    private final Deflater f_deflater;
+
+    /**
+     * {@code true} once the {@link #f_deflater} has been ended.
+     */
+    private boolean m_fDeflaterEnded;
+
     /**
      * The {@link BatchingOperationsQueue} controlling the batches of add operations.
      */
@@ -711,4 +836,19 @@ public class NamedTopicPublisherChannel<V>
      * The last value of m_cNotify used within {@link #toString} stats.
      */
     private long m_cNotifyLast;
+
+    /**
+     * The number of bytes of serialized values before compression.
+     */
+    private volatile long m_cbUncompressed;
+
+    /**
+     * The number of bytes of serialized values after compression.
+     */
+    private volatile long m_cbCompressed;
+
+    /**
+     * The time spent compressing values, in nanoseconds.
+     */
+    private volatile long m_cNanosCompress;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -17,6 +17,7 @@ import com.tangosol.coherence.config.Config;
 
 import com.tangosol.internal.net.DebouncedFlowControl;
 
+import com.tangosol.internal.net.metrics.Histogram;
 import com.tangosol.internal.net.metrics.Meter;
 
 import com.tangosol.internal.net.topic.impl.paged.BatchingOperationsQueue;
@@ -34,6 +35,8 @@ import com.tangosol.net.Service;
 
 import com.tangosol.net.management.MBeanHelper;
 
+import com.tangosol.net.metrics.Snapshot;
+
 import com.tangosol.net.topic.NamedTopic;
 import com.tangosol.net.topic.Position;
 import com.tangosol.net.topic.Subscriber;
@@ -149,6 +152,10 @@ public class NamedTopicSubscriber<V>
         WithIdentifyingName withIdentifyingName = optionSet.get(WithIdentifyingName.class);
         f_sIdentifyingName = withIdentifyingName == null ? null : withIdentifyingName.getName();
 
+        // a complete-on-empty subscriber must see the empty topic, so it never fetches ahead
+        WithPrefetch withPrefetch = optionSet.get(WithPrefetch.class);
+        f_cPrefetch = f_fCompleteOnEmpty ? 0 : withPrefetch == null ? PREFETCH_DEFAULT : withPrefetch.getElementCount();
+
         f_taskReconnect    = new ReconnectTask(this);
         f_daemon           = new TaskDaemon("Topic:Subscriber:" + f_sTopicName + ":" + nId);
         f_executor         = new TaskDaemon("Topic:Subscriber:" + f_sTopicName + ":Receive:" + nId);
@@ -161,6 +168,7 @@ public class NamedTopicSubscriber<V>
         Service service  = topic.getService();
         Cluster cluster  = service.getCluster();
         long    cBacklog = cluster.getDependencies().getPublisherCloggedCount();
+        f_cluster            = cluster;
         f_backlog            = new DebouncedFlowControl((cBacklog * 2) / 3, cBacklog);
         f_queueReceiveOrders = new BatchingOperationsQueue<>(this::trigger, 1,
                                         f_backlog, v -> 1, BatchingOperationsQueue.Executor.fromTaskDaemon(f_daemon));
@@ -743,6 +751,7 @@ public class NamedTopicSubscriber<V>
             ", durable=" + !f_fAnonymous +
             ", state=" + sState +
             ", prefetched=" + m_queueValuesPrefetched.size() +
+            ", prefetchPolls=" + m_cPrefetch.sum() +
             ", backlog=" + f_backlog +
             ", subscriptions=" + m_cSubscribe.getCount() +
             ", disconnections=" + m_cDisconnect.getCount() +
@@ -918,6 +927,36 @@ public class NamedTopicSubscriber<V>
         return m_cReceivedError.getCount();
         }
 
+    /**
+     * Return a snapshot of the end-to-end latency of received elements, in
+     * milliseconds, from the time they were published to the time the receive
+     * request they were returned by was completed.
+     *
+     * @return a snapshot of the end-to-end latency of received elements
+     */
+    @Override
+    public Snapshot getReceiveLatency()
+        {
+        long     ldtNow   = System.currentTimeMillis();
+        Snapshot snapshot = m_snapshotReceiveLatency;
+        if (snapshot == null || ldtNow - m_ldtReceiveLatencySnapshot > 1000L)
+            {
+            snapshot = m_snapshotReceiveLatency = f_histReceiveLatency.getSnapshot();
+            m_ldtReceiveLatencySnapshot = ldtNow;
+            }
+        return snapshot;
+        }
+
+    /**
+     * Return the number of polls made to fetch elements ahead of receive requests.
+     *
+     * @return the number of polls made to fetch elements ahead of receive requests
+     */
+    public long getPrefetchCount()
+        {
+        return m_cPrefetch.sum();
+        }
+
     /**
      * Return the number of disconnections.
      *
@@ -1195,6 +1234,71 @@ public class NamedTopicSubscriber<V>
                     }
                 }
             }
+        else if (isPrefetchWorthy() && queueRequest.claimTrigger())
+            {
+            // there are no outstanding requests, so use the otherwise idle receive
+            // loop to fetch ahead into the pre-fetch queue
+            prefetch(queueRequest, cBatch);
+            }
+        }
+
+    /**
+     * Return {@code true} if this subscriber should fetch elements ahead of
+     * receive requests.
+     * <p>
+     * The pre-fetch queue acts as a credit window; new elements are fetched once
+     * the application has consumed at least half of it.
+     *
+     * @return {@code true} if this subscriber should fetch elements ahead of
+     *         receive requests
+     */
+    private boolean isPrefetchWorthy()
+        {
+        int cPrefetch = f_cPrefetch;
+        return cPrefetch > 0 && isConnected() && m_queueValuesPrefetched.size() <= cPrefetch / 2;
+        }
+
+    /**
+     * Fetch elements ahead of receive requests into the pre-fetch queue, while
+     * the receive loop is otherwise idle.
+     * <p>
+     * The caller must have claimed the receive loop trigger, so that this poll
+     * does not run concurrently with a poll for an actual receive request.
+     *
+     * @param queueRequest  the batching queue handling the requests
+     * @param cBatch        the number of receives to schedule in a batch
+     */
+    private void prefetch(BatchingOperationsQueue<Request, ?> queueRequest, Integer cBatch)
+        {
+        int nChannel = ensureOwnedChannel();
+        if (nChannel < 0)
+            {
+            // all channels are empty, the next channel populated
+            // notification will trigger the receive loop again
+            queueRequest.resetTrigger();
+            return;
+            }
+
+        TopicChannel channel  = m_aChannel[nChannel];
+        long         lVersion = channel.getVersion();
+        int          cCredit  = Math.max(1, f_cPrefetch - m_queueValuesPrefetched.size());
+
+        m_cPrefetch.increment();
+        f_connector.receive(this, nChannel, channel.getHead(), lVersion, cCredit, (lVersion1, result, e1, continuation) ->
+                onReceiveResult(channel, lVersion1, result, e1, continuation))
+                    .handleAsync((r, e) ->
+                        {
+                        if (e != null)
+                            {
+                            Logger.err(e);
+                            queueRequest.resetTrigger();
+                            return null;
+                            }
+                        // go around again, to complete requests that arrived while the
+                        // poll was in flight, or to keep fetching ahead
+                        trigger(cBatch);
+                        return null;
+                        }, f_daemon::executeTask);
         }
 
     /**
@@ -1407,6 +1511,10 @@ public class NamedTopicSubscriber<V>
 
     private void onReceiveComplete(Element<?> element)
         {
+        // the element timestamp is the cluster time the element was published at
+        long cMillis = f_cluster.getTimeMillis() - element.getTimestamp().toEpochMilli();
+        f_histReceiveLatency.update(Math.max(0L, cMillis));
+
         int c = element.getChannel();
         TopicChannel channel = m_aChannel[c];
         if (channel != null && channel.isOwned())
@@ -2767,6 +2875,19 @@ public class NamedTopicSubscriber<V>
         return new WithIdentifyingName(sName);
         }
 
+    /**
+     * Return an option to fetch elements ahead of receive requests.
+     *
+     * @param cElements  the maximum number of elements to fetch ahead, or zero
+     *                   to only fetch elements for receive requests
+     *
+     * @return an option to fetch elements ahead of receive requests
+     */
+    public static Option withPrefetch(int cElements)
+        {
+        return new WithPrefetch(cElements);
+        }
+
     /**
      * Return an option to set the Subscriber's id.
      * <p/>
@@ -2850,6 +2971,35 @@ public class NamedTopicSubscriber<V>
         private final String f_sName;
         }
 
+    // ----- inner class: WithPrefetch --------------------------------------
+
+    /**
+     * An {@link Option} that makes a {@link NamedTopicSubscriber} fetch elements
+     * ahead of receive requests.
+     * <p/>
+     * Whenever the receive loop has no outstanding requests, the subscriber polls
+     * for up to the specified number of elements, less the elements already in its
+     * pre-fetch queue, and resumes once at least half of them have been received
+     * by the application. As polls are also triggered by the notification that an
+     * empty channel has been populated, new elements are usually already local
+     * when the application asks for them.
+     */
+    public static class WithPrefetch
+            implements Option
+        {
+        public WithPrefetch(int cElements)
+            {
+            f_cElements = Math.max(0, cElements);
+            }
+
+        public int getElementCount()
+            {
+            return f_cElements;
+            }
+
+        private final int f_cElements;
+        }
+
     // ----- inner class: WithIdentifier ------------------------------------
 
     /**
@@ -4212,6 +4362,12 @@ public class NamedTopicSubscriber<V>
      */
     public static final long INIT_TIMEOUT_SECS = TimeUnit.MILLISECONDS.toSeconds(Base.parseTime(Config.getProperty("coherence.topic.subscriber.init.timeout", "30s"), Base.UNIT_S));
 
+    /**
+     * The default maximum number of elements fetched ahead of receive requests,
+     * used when the subscriber is not created with a {@link WithPrefetch} option.
+     */
+    public static final int PREFETCH_DEFAULT = Config.getInteger("coherence.topic.subscriber.prefetch", 0);
+
     /**
      * A constant empty int array.
      */
@@ -4405,6 +4561,37 @@ public class NamedTopicSubscriber<V>
      */
     private final Meter m_cDisconnect = new Meter();
 
+    /**
+     * The end-to-end latency of received elements in milliseconds.
+     */
+    private final Histogram f_histReceiveLatency = new Histogram();
+
+    /**
+     * The last snapshot of {@link #f_histReceiveLatency}.
+     */
+    private volatile Snapshot m_snapshotReceiveLatency;
+
+    /**
+     * The time the last snapshot of {@link #f_histReceiveLatency} was taken.
+     */
+    private volatile long m_ldtReceiveLatencySnapshot;
+
+    /**
+     * The number of polls made to fetch elements ahead of receive requests.
+     */
+    private final LongAdder m_cPrefetch = new LongAdder();
+
+    /**
+     * The maximum number of elements to fetch ahead of receive requests,
+     * or zero to only fetch elements for receive requests.
+     */
+    private final int f_cPrefetch;
+
+    /**
+     * The cluster, used to obtain the cluster time.
+     */
+    private final Cluster f_cluster;
+
     /**
      * The {@link ReconnectTask} to use to reconnect this subscriber.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -9,6 +9,8 @@ package com.tangosol.internal.net.topic;
 
 import com.tangosol.internal.net.topic.impl.paged.model.SubscriberGroupId;
 
+import com.tangosol.net.metrics.Snapshot;
+
 import com.tangosol.net.topic.NamedTopic;
 import com.tangosol.net.topic.Position;
 import com.tangosol.net.topic.Subscriber;
@@ -256,6 +258,15 @@ public interface SubscriberStatistics
      */
     long getReceivedError();
 
+    /**
+     * Return a snapshot of the end-to-end latency of received elements, in
+     * milliseconds, from the time they were published to the time the receive
+     * request they were returned by was completed.
+     *
+     * @return a snapshot of the end-to-end latency of received elements
+     */
+    Snapshot getReceiveLatency();
+
     /**
      * Return the number of disconnections.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -469,6 +469,18 @@ public class BatchingOperationsQueue<V, R>
         getTrigger().set(TRIGGER_OPEN);
         }
 
+    /**
+     * Claim the operations trigger, if it is not already claimed, so that
+     * further adds do not trigger a new batch operation until the trigger
+     * is {@link #resetTrigger() reset}.
+     *
+     * @return {@code true} if the trigger was claimed by this call
+     */
+    public boolean claimTrigger()
+        {
+        return getTrigger().compareAndSet(TRIGGER_OPEN, TRIGGER_CLOSED);
+        }
+
     /**
      * Pause the queue.
      */
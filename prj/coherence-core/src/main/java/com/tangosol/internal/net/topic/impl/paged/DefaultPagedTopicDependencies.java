@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -11,6 +11,8 @@ import com.tangosol.internal.util.Primes;
 import com.tangosol.net.cache.LocalCache;
 import com.tangosol.net.topic.BinaryElementCalculator;
 import com.tangosol.net.topic.NamedTopic;
+import com.tangosol.util.Filter;
+import com.tangosol.util.ValueExtractor;
 
 /**
  * A default implementation of {@link PagedTopicDependencies}.
@@ -44,6 +46,7 @@ public class DefaultPagedTopicDependencies
         this(0);
         setAllowUnownedCommits(deps.isAllowUnownedCommits());
         setChannelCount(deps.getConfiguredChannelCount());
+        setCompactionKeyExtractor(deps.getCompactionKeyExtractor());
         setElementCalculator(deps.getElementCalculator());
         setElementExpiryMillis(deps.getElementExpiryMillis());
         setMaxBatchSizeBytes(deps.getMaxBatchSizeBytes());
@@ -53,7 +56,10 @@ public class DefaultPagedTopicDependencies
         setReconnectWaitMillis(deps.getReconnectWaitMillis());
         setRetainConsumed(deps.isRetainConsumed());
         setServerCapacity(deps.getServerCapacity());
+        setTieredStorage(deps.isTieredStorage());
         setSubscriberTimeoutMillis(deps.getSubscriberTimeoutMillis());
+        setTombstoneFilter(deps.getTombstoneFilter());
+        setTombstoneRetentionMillis(deps.getTombstoneRetentionMillis());
         }
 
     /**
@@ -219,6 +225,72 @@ public class DefaultPagedTopicDependencies
         m_fRetainConsumed = fRetainElements;
         }
 
+    @Override
+    public boolean isTieredStorage()
+        {
+        return m_fTieredStorage;
+        }
+
+    /**
+     * Set the flag indicating whether consumed pages are moved to tiered storage.
+     *
+     * @param fTiered  {@code true} to move consumed pages to tiered storage
+     */
+    public void setTieredStorage(boolean fTiered)
+        {
+        m_fTieredStorage = fTiered;
+        }
+
+    @Override
+    public ValueExtractor<?, ?> getCompactionKeyExtractor()
+        {
+        return m_extractorCompactionKey;
+        }
+
+    /**
+     * Set the extractor used to obtain the compaction key of the elements,
+     * or {@code null} if the topic is not compacted.
+     *
+     * @param extractor  the compaction key extractor
+     */
+    public void setCompactionKeyExtractor(ValueExtractor<?, ?> extractor)
+        {
+        m_extractorCompactionKey = extractor;
+        }
+
+    @Override
+    public Filter<?> getTombstoneFilter()
+        {
+        return m_filterTombstone;
+        }
+
+    /**
+     * Set the filter that identifies tombstones in a compacted topic.
+     *
+     * @param filter  the tombstone filter, or {@code null} if the topic
+     *                does not have tombstones
+     */
+    public void setTombstoneFilter(Filter<?> filter)
+        {
+        m_filterTombstone = filter;
+        }
+
+    @Override
+    public long getTombstoneRetentionMillis()
+        {
+        return m_cTombstoneRetentionMillis;
+        }
+
+    /**
+     * Set the minimum time that tombstones are retained in a compacted topic.
+     *
+     * @param cMillis  the minimum time that tombstones are retained in milliseconds
+     */
+    public void setTombstoneRetentionMillis(long cMillis)
+        {
+        m_cTombstoneRetentionMillis = Math.max(0L, cMillis);
+        }
+
     /**
      * Returns number of milliseconds within which a subscriber must issue a heartbeat or
      * be forcefully considered closed.
@@ -393,6 +465,9 @@ public class DefaultPagedTopicDependencies
                 "Expiry=" + m_cMillisExpiry + "ms, " +
                 "MaxBatch=" + m_cbMaxBatch + "b, " +
                 "RetainConsumed=" + m_fRetainConsumed + ", " +
+                "TieredStorage=" + m_fTieredStorage + ", " +
+                "CompactionKey=" + m_extractorCompactionKey + ", " +
+                "TombstoneRetention=" + m_cTombstoneRetentionMillis + "ms, " +
                 "ElementCalculator=" + m_calculator.getName() + ", " +
                 "SubscriberTimeout=" + m_cSubscriberTimeoutMillis + "ms " +
                 "ReconnectWait=" + m_cReconnectWaitMillis + "ms " +
@@ -440,6 +515,27 @@ public class DefaultPagedTopicDependencies
      */
     private boolean m_fRetainConsumed;
 
+    /**
+     * Flag indicating whether consumed pages are moved to tiered storage.
+     */
+    private boolean m_fTieredStorage;
+
+    /**
+     * The extractor used to obtain the compaction key of the elements,
+     * or {@code null} if the topic is not compacted.
+     */
+    private ValueExtractor<?, ?> m_extractorCompactionKey;
+
+    /**
+     * The filter that identifies tombstones in a compacted topic.
+     */
+    private Filter<?> m_filterTombstone;
+
+    /**
+     * The minimum time that tombstones are retained in a compacted topic.
+     */
+    private long m_cTombstoneRetentionMillis = NamedTopic.DEFAULT_TOMBSTONE_RETENTION_SECONDS.as(Duration.Magnitude.MILLI);
+
     /**
      * The number of milliseconds within which a subscriber must issue a heartbeat or
      * be forcefully considered closed.
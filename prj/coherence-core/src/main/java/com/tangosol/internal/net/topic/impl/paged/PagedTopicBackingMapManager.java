@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -14,6 +14,7 @@ import com.tangosol.internal.net.topic.impl.paged.statistics.PagedTopicServiceWi
 import com.tangosol.internal.net.topic.impl.paged.statistics.PagedTopicStatistics;
 
 import com.tangosol.net.ExtensibleConfigurableCacheFactory;
+import com.tangosol.net.PagedTopicService;
 
 import com.tangosol.net.topic.TopicBackingMapManager;
 
@@ -99,6 +100,12 @@ public class PagedTopicBackingMapManager
             String sTopicName = PagedTopicCaches.Names.getTopicName(sName);
             m_mapDeps.remove(sTopicName);
             m_mapStatistics.remove(sTopicName);
+
+            PagedTopicCompactor compactor = m_mapCompactors.remove(sTopicName);
+            if (compactor != null)
+                {
+                compactor.release();
+                }
             }
         finally
             {
@@ -134,6 +141,32 @@ public class PagedTopicBackingMapManager
         return statistics;
         }
 
+    /**
+     * Returns the {@link PagedTopicCompactor} for a compacted topic.
+     *
+     * @param sTopicName  the name of the topic
+     *
+     * @return the {@link PagedTopicCompactor} for the topic
+     */
+    public PagedTopicCompactor getCompactor(String sTopicName)
+        {
+        PagedTopicCompactor compactor = m_mapCompactors.get(sTopicName);
+        if (compactor == null)
+            {
+            m_lock.lock();
+            try
+                {
+                compactor = m_mapCompactors.computeIfAbsent(sTopicName,
+                        s -> new PagedTopicCompactor((PagedTopicService) getContext().getCacheService(), s));
+                }
+            finally
+                {
+                m_lock.unlock();
+                }
+            }
+        return compactor;
+        }
+
     // ----- helper methods -------------------------------------------------
 
     private PagedTopicDependencies createTopicDependencies(String sName)
@@ -176,4 +209,9 @@ public class PagedTopicBackingMapManager
      * A map of {@link PagedTopicStatistics} keyed by topic name.
      */
     private final Map<String, PagedTopicStatistics> m_mapStatistics = new HashMap<>();
+
+    /**
+     * A map of {@link PagedTopicCompactor} keyed by topic name.
+     */
+    private final Map<String, PagedTopicCompactor> m_mapCompactors = new HashMap<>();
     }
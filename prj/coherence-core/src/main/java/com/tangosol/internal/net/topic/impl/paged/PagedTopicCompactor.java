@@ -0,0 +1,453 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.net.topic.impl.paged;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.internal.net.topic.impl.paged.agent.CompactionProcessor;
+
+import com.tangosol.internal.net.topic.impl.paged.model.Page;
+import com.tangosol.internal.net.topic.impl.paged.model.PagedPosition;
+import com.tangosol.internal.net.topic.impl.paged.model.Usage;
+
+import com.tangosol.internal.util.Daemons;
+
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.PagedTopicService;
+
+import com.tangosol.net.partition.PartitionSet;
+
+import com.tangosol.util.Binary;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Compacts the pages of a compacted paged topic in the background.
+ * <p>
+ * When a page of a compacted topic is sealed, the storage member schedules the
+ * compaction of that channel in the partition. Compaction runs a
+ * {@link CompactionProcessor} against the {@link Usage} entry of the channel, so it
+ * runs outside the offer request that sealed the page. The compactor keeps a
+ * {@link ChannelState} for each channel of the owned partitions, which holds the
+ * compacted watermark page and the position of the latest element of each key,
+ * so each element is only scanned once. The state is not persisted; it is rebuilt
+ * with a single scan from the head of the partition after it moved to this member.
+ *
+ * @author coh  2026.10.17
+ * @since 15.0.0
+ */
+public class PagedTopicCompactor
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link PagedTopicCompactor}.
+     *
+     * @param service     the topic service
+     * @param sTopicName  the name of the topic
+     */
+    public PagedTopicCompactor(PagedTopicService service, String sTopicName)
+        {
+        f_service    = service;
+        f_sTopicName = sTopicName;
+        }
+
+    // ----- PagedTopicCompactor methods ------------------------------------
+
+    /**
+     * Schedule the compaction of the specified channel in the specified
+     * partition, unless it is already scheduled.
+     *
+     * @param nPartition  the partition
+     * @param nChannel    the channel
+     */
+    public void schedule(int nPartition, int nChannel)
+        {
+        if (m_fReleased)
+            {
+            return;
+            }
+
+        ChannelState state = ensureChannelState(nPartition, nChannel);
+
+        state.m_fPending = true;
+        if (state.f_fScheduled.compareAndSet(false, true))
+            {
+            execute(() -> compact(state));
+            }
+        }
+
+    /**
+     * Return the compaction state of the specified channel in the specified
+     * partition, creating it if necessary.
+     *
+     * @param nPartition  the partition
+     * @param nChannel    the channel
+     *
+     * @return the compaction state
+     */
+    public ChannelState ensureChannelState(int nPartition, int nChannel)
+        {
+        return f_mapState.computeIfAbsent(toStateKey(nPartition, nChannel),
+                                          l -> new ChannelState(nPartition, nChannel));
+        }
+
+    /**
+     * Release this compactor and discard the compaction state.
+     */
+    public void release()
+        {
+        m_fReleased = true;
+        f_mapState.clear();
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Compact the channel of the specified state, and reschedule the compaction
+     * if more pages were sealed in the meantime or remain to be compacted.
+     *
+     * @param state  the compaction state
+     */
+    protected void compact(ChannelState state)
+        {
+        state.m_fPending = false;
+        pruneChannelStates();
+
+        CompletableFuture<Boolean> future;
+        try
+            {
+            future = invoke(state.getPartition(), state.getChannel());
+            }
+        catch (Throwable e)
+            {
+            future = CompletableFuture.failedFuture(e);
+            }
+
+        future.whenComplete((fMore, err) ->
+            {
+            state.f_fScheduled.set(false);
+            if (f_mapState.get(toStateKey(state.getPartition(), state.getChannel())) != state)
+                {
+                // the state was discarded as the partition moved or the compactor was released
+                return;
+                }
+            if (err == null)
+                {
+                if (Boolean.TRUE.equals(fMore) || state.m_fPending)
+                    {
+                    schedule(state.getPartition(), state.getChannel());
+                    }
+                }
+            else if (!m_fReleased && f_service.isRunning())
+                {
+                Logger.finer("Failed to compact channel " + state.getChannel() + " of topic " + f_sTopicName
+                             + " in partition " + state.getPartition() + ": " + err);
+                }
+            });
+        }
+
+    /**
+     * Invoke the {@link CompactionProcessor} against the {@link Usage} entry of
+     * the specified channel and partition.
+     *
+     * @param nPartition  the partition
+     * @param nChannel    the channel
+     *
+     * @return a future that completes with {@code true} if the channel has more
+     *         sealed pages to compact
+     */
+    @SuppressWarnings("unchecked")
+    protected CompletableFuture<Boolean> invoke(int nPartition, int nChannel)
+        {
+        NamedCache<Usage.Key, Usage> cache = f_service.ensureCache(
+                PagedTopicCaches.Names.USAGE.cacheNameForTopicName(f_sTopicName), null);
+
+        return cache.async().invoke(new Usage.Key(nPartition, nChannel), new CompactionProcessor());
+        }
+
+    /**
+     * Execute the specified task on a thread other than a service thread, as
+     * the compaction is scheduled by the offer requests.
+     *
+     * @param task  the task to execute
+     */
+    protected void execute(Runnable task)
+        {
+        Daemons.commonPool().execute(task);
+        }
+
+    /**
+     * Discard the compaction state of the partitions that are no longer owned
+     * by this member.
+     */
+    protected void pruneChannelStates()
+        {
+        if (!f_mapState.isEmpty())
+            {
+            PagedTopicService service = f_service;
+            PartitionSet      parts   = service.getOwnedPartitions(service.getCluster().getLocalMember());
+
+            f_mapState.values().removeIf(state -> !parts.contains(state.getPartition()));
+            }
+        }
+
+    /**
+     * Return the key of the state of the specified channel and partition.
+     *
+     * @param nPartition  the partition
+     * @param nChannel    the channel
+     *
+     * @return the key of the compaction state
+     */
+    protected static long toStateKey(int nPartition, int nChannel)
+        {
+        return ((long) nPartition << 32) | (nChannel & 0xFFFFFFFFL);
+        }
+
+    // ----- inner class: ChannelState --------------------------------------
+
+    /**
+     * The compaction state of a channel in a partition.
+     * <p>
+     * The state is only modified by the {@link CompactionProcessor}, which holds
+     * the lock of the channel's {@link Usage} entry.
+     */
+    public static class ChannelState
+        {
+        /**
+         * Create a {@link ChannelState}.
+         *
+         * @param nPartition  the partition
+         * @param nChannel    the channel
+         */
+        public ChannelState(int nPartition, int nChannel)
+            {
+            f_nPartition = nPartition;
+            f_nChannel   = nChannel;
+            }
+
+        /**
+         * Return the partition.
+         *
+         * @return the partition
+         */
+        public int getPartition()
+            {
+            return f_nPartition;
+            }
+
+        /**
+         * Return the channel.
+         *
+         * @return the channel
+         */
+        public int getChannel()
+            {
+            return f_nChannel;
+            }
+
+        /**
+         * Return the last page that has been compacted, or
+         * {@link Page#NULL_PAGE} if no page has been compacted yet.
+         *
+         * @return the compacted watermark page
+         */
+        public synchronized long getWatermark()
+            {
+            return m_lPageWatermark;
+            }
+
+        /**
+         * Set the last page that has been compacted.
+         *
+         * @param lPage  the compacted watermark page
+         */
+        public synchronized void setWatermark(long lPage)
+            {
+            m_lPageWatermark = lPage;
+            }
+
+        /**
+         * Return the number of distinct keys retained in the channel.
+         *
+         * @return the number of distinct keys
+         */
+        public synchronized int getKeyCount()
+            {
+            return f_mapLatest.size();
+            }
+
+        /**
+         * Return the number of tombstones retained in the channel.
+         *
+         * @return the number of tombstones
+         */
+        public synchronized int getTombstoneCount()
+            {
+            return f_dequeTombstones.size();
+            }
+
+        /**
+         * Record an element scanned by the compaction; the elements must be
+         * scanned in the order they were published.
+         *
+         * @param binKey      the compaction key of the element
+         * @param position    the position of the element
+         * @param fTombstone  {@code true} if the element is a tombstone
+         * @param ldtExpiry   the time the tombstone expires
+         *
+         * @return the position of the element superseded by the specified
+         *         element, or {@code null}
+         */
+        public synchronized PagedPosition onElement(Binary binKey, PagedPosition position, boolean fTombstone,
+                long ldtExpiry)
+            {
+            if (fTombstone)
+                {
+                f_dequeTombstones.add(new Tombstone(binKey, position, ldtExpiry));
+                }
+            return f_mapLatest.put(binKey, position);
+            }
+
+        /**
+         * Remove the tombstones that have expired.
+         *
+         * @param ldtNow  the current time
+         *
+         * @return the positions of the expired tombstones that are still the
+         *         latest elements of their keys
+         */
+        public synchronized List<PagedPosition> expireTombstones(long ldtNow)
+            {
+            Deque<Tombstone>    deque   = f_dequeTombstones;
+            List<PagedPosition> listPos = Collections.emptyList();
+
+            for (Tombstone tombstone = deque.peek(); tombstone != null && tombstone.f_ldtExpiry < ldtNow;
+                 tombstone = deque.peek())
+                {
+                deque.poll();
+                if (f_mapLatest.remove(tombstone.f_binKey, tombstone.f_position))
+                    {
+                    if (listPos.isEmpty())
+                        {
+                        listPos = new ArrayList<>();
+                        }
+                    listPos.add(tombstone.f_position);
+                    }
+                }
+            return listPos;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The partition.
+         */
+        private final int f_nPartition;
+
+        /**
+         * The channel.
+         */
+        private final int f_nChannel;
+
+        /**
+         * The position of the latest element of each compaction key.
+         */
+        private final Map<Binary, PagedPosition> f_mapLatest = new HashMap<>();
+
+        /**
+         * The tombstones in the order they were published.
+         */
+        private final Deque<Tombstone> f_dequeTombstones = new ArrayDeque<>();
+
+        /**
+         * The last page that has been compacted.
+         */
+        private long m_lPageWatermark = Page.NULL_PAGE;
+
+        /**
+         * {@code true} while a compaction of the channel is scheduled or running.
+         */
+        private final AtomicBoolean f_fScheduled = new AtomicBoolean();
+
+        /**
+         * {@code true} if a page was sealed since the last compaction started.
+         */
+        private volatile boolean m_fPending;
+        }
+
+    // ----- inner class: Tombstone -----------------------------------------
+
+    /**
+     * A tombstone retained by the compaction.
+     */
+    protected static class Tombstone
+        {
+        /**
+         * Create a {@link Tombstone}.
+         *
+         * @param binKey     the compaction key
+         * @param position   the position of the tombstone
+         * @param ldtExpiry  the time the tombstone expires
+         */
+        protected Tombstone(Binary binKey, PagedPosition position, long ldtExpiry)
+            {
+            f_binKey    = binKey;
+            f_position  = position;
+            f_ldtExpiry = ldtExpiry;
+            }
+
+        /**
+         * The compaction key.
+         */
+        protected final Binary f_binKey;
+
+        /**
+         * The position of the tombstone.
+         */
+        protected final PagedPosition f_position;
+
+        /**
+         * The time the tombstone expires.
+         */
+        protected final long f_ldtExpiry;
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The topic service.
+     */
+    private final PagedTopicService f_service;
+
+    /**
+     * The name of the topic.
+     */
+    private final String f_sTopicName;
+
+    /**
+     * The compaction state of each channel, keyed by partition and channel.
+     */
+    private final Map<Long, ChannelState> f_mapState = new ConcurrentHashMap<>();
+
+    /**
+     * {@code true} once the compactor has been released.
+     */
+    private volatile boolean m_fReleased;
+    }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -7,14 +7,26 @@
 
 package com.tangosol.internal.net.topic.impl.paged;
 
+import com.oracle.coherence.common.base.Disposable;
+import com.oracle.coherence.common.base.Logger;
+
 import com.tangosol.internal.net.topic.impl.paged.model.ContentKey;
 import com.tangosol.internal.net.topic.impl.paged.model.PagedPosition;
 
+import com.tangosol.net.cache.CacheEvent;
+import com.tangosol.net.cache.CacheMap;
+import com.tangosol.net.cache.ConfigurableCacheMap;
+
+import com.tangosol.util.Base;
 import com.tangosol.util.Binary;
+import com.tangosol.util.MapEvent;
 import com.tangosol.util.ObservableMap;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.concurrent.ConcurrentHashMap;
@@ -22,12 +34,21 @@ import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * A backing map used by a paged topic contents cache.
+ * <p>
+ * If the topic uses {@link PagedTopicDependencies#isTieredStorage() tiered
+ * storage}, the elements of pages that have been consumed by all subscribers
+ * may be {@link #tierElements moved} to a {@link PagedTopicSegmentStore}.
+ * The backing map then holds a small binary pointer in place of each element,
+ * which is transparently resolved when the element is read, so that keys,
+ * expiry and partition transfer behave as before while the heap only holds
+ * the most recent pages.
  *
  * @author Jonathan Knight 2022.08.11
  */
 @SuppressWarnings("rawtypes")
 public class PagedTopicContentBackingMap
         extends PagedTopicBackingMap
+        implements Disposable
     {
     /**
      * Create a {@link PagedTopicContentBackingMap}.
@@ -35,8 +56,26 @@ public class PagedTopicContentBackingMap
      * @param map  the wrapped backing map
      */
     public PagedTopicContentBackingMap(ObservableMap map)
+        {
+        this(map, false);
+        }
+
+    /**
+     * Create a {@link PagedTopicContentBackingMap}.
+     *
+     * @param map      the wrapped backing map
+     * @param fTiered  {@code true} if elements may be moved to tiered storage
+     */
+    public PagedTopicContentBackingMap(ObservableMap map, boolean fTiered)
         {
         super(map);
+        f_fTiered = fTiered;
+        if (fTiered)
+            {
+            // the events raised by the wrapped map must pass through this map
+            // so that pointers to tiered elements are never exposed
+            setTranslateEvents(true);
+            }
         }
 
     @Override
@@ -44,28 +83,61 @@ public class PagedTopicContentBackingMap
         {
         f_mapContent.clear();
         super.clear();
+        dispose();
+        }
+
+    @Override
+    public Object get(Object oKey)
+        {
+        return resolve(super.get(oKey));
+        }
+
+    @Override
+    public ConfigurableCacheMap.Entry getCacheEntry(Object oKey)
+        {
+        ConfigurableCacheMap.Entry entry = super.getCacheEntry(oKey);
+        return entry != null && PagedTopicSegmentStore.isPointer(entry.getValue())
+                ? new TieredEntry(entry)
+                : entry;
+        }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object put(Object oKey, Object oValue)
+        {
+        Object oTiered = peekTiered(oKey);
+        Object oPrior  = resolve(oTiered);
+        Object oResult = super.put(oKey, oValue);
+        updateContent((Binary) oKey);
+        return release(oTiered, oPrior, oResult);
         }
 
     @Override
     public Object put(Object key, Object value, long cMillis)
         {
+        Object oTiered = peekTiered(key);
+        Object oPrior  = resolve(oTiered);
         Object oResult = super.put(key, value, cMillis);
         updateContent((Binary) key);
-        return oResult;
+        return release(oTiered, oPrior, oResult);
         }
 
     @Override
     @SuppressWarnings("unchecked")
     public void putAll(Map map)
         {
+        List<Object> listTiered = peekTiered(map.keySet());
         super.putAll(map);
         map.keySet().forEach(k -> updateContent((Binary) k));
+        listTiered.forEach(this::release);
         }
 
     @Override
     public Object remove(Object oKey)
         {
-        Object oResult = super.remove(oKey);
+        Object oTiered = peekTiered(oKey);
+        Object oPrior  = resolve(oTiered);
+        Object oResult = release(oTiered, oPrior, super.remove(oKey));
         if (oResult != null)
             {
             removeContent((Binary) oKey);
@@ -76,10 +148,12 @@ public class PagedTopicContentBackingMap
     @Override
     protected boolean removeBlind(Object oKey)
         {
+        Object  oTiered  = peekTiered(oKey);
         boolean fRemoved = super.removeBlind(oKey);
         if (fRemoved)
             {
             removeContent((Binary) oKey);
+            release(oTiered);
             }
         return fRemoved;
         }
@@ -95,6 +169,68 @@ public class PagedTopicContentBackingMap
         return fRemoved;
         }
 
+    /**
+     * Move the specified elements of a channel to tiered storage.
+     * <p>
+     * Each element is written to the {@link PagedTopicSegmentStore} and
+     * replaced in the wrapped map by a pointer to its location, retaining its
+     * remaining expiry time. The replacement does not raise any events, as the
+     * logical value of the entry is unchanged; in particular, backups keep the
+     * full element. Elements that are missing or have already been moved are
+     * skipped.
+     *
+     * @param nChannel  the channel of the elements
+     * @param colKeys   the serialized binary {@link ContentKey keys} of the elements
+     *
+     * @return the number of elements moved to tiered storage
+     */
+    public int tierElements(int nChannel, Collection<Binary> colKeys)
+        {
+        if (!f_fTiered)
+            {
+            return 0;
+            }
+
+        ConfigurableCacheMap map    = getConfigurableCacheMap();
+        int                  cTiered = 0;
+        try
+            {
+            PagedTopicSegmentStore store = ensureStore();
+            for (Binary binKey : colKeys)
+                {
+                ConfigurableCacheMap.Entry entry  = map.getCacheEntry(binKey);
+                Object                     oValue = entry == null ? null : entry.getValue();
+                if (oValue instanceof Binary && !PagedTopicSegmentStore.isPointer(oValue))
+                    {
+                    long ldtExpiry = entry.getExpiryMillis();
+                    long cMillis   = ldtExpiry == 0L
+                            ? CacheMap.EXPIRY_NEVER
+                            : Math.max(1L, ldtExpiry - Base.getSafeTimeMillis());
+
+                    map.put(binKey, store.write(nChannel, (Binary) oValue), cMillis);
+                    cTiered++;
+                    }
+                }
+            }
+        catch (RuntimeException e)
+            {
+            // the remaining elements simply stay in memory
+            Logger.warn("Failed to move topic elements to tiered storage: " + e.getMessage());
+            }
+        return cTiered;
+        }
+
+    /**
+     * Return the {@link PagedTopicSegmentStore} holding the tiered elements.
+     *
+     * @return the {@link PagedTopicSegmentStore} holding the tiered elements,
+     *         or {@code null} if no elements have been moved to tiered storage
+     */
+    public PagedTopicSegmentStore getSegmentStore()
+        {
+        return m_store;
+        }
+
     /**
      * Return the count of remaining messages.
      * <p>
@@ -164,8 +300,279 @@ public class PagedTopicContentBackingMap
             });
         }
 
+    // ----- Disposable interface -------------------------------------------
+
+    @Override
+    public void dispose()
+        {
+        PagedTopicSegmentStore store = m_store;
+        if (store != null)
+            {
+            m_store = null;
+            store.close();
+            }
+        }
+
+    // ----- WrapperObservableMap methods -----------------------------------
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void dispatchEvent(MapEvent evt)
+        {
+        PagedTopicSegmentStore store = m_store;
+        if (store != null)
+            {
+            Object  oOld       = evt.getOldValue();
+            Object  oNew       = evt.getNewValue();
+            boolean fOldTiered = PagedTopicSegmentStore.isPointer(oOld);
+            boolean fNewTiered = PagedTopicSegmentStore.isPointer(oNew);
+
+            if (fNewTiered && !fOldTiered)
+                {
+                // the element has been moved to tiered storage
+                return;
+                }
+
+            if (fOldTiered && getMapListenerSupport() == null)
+                {
+                store.release((Binary) oOld);
+                return;
+                }
+
+            if (fOldTiered || fNewTiered)
+                {
+                // the element has been removed from tiered storage, either
+                // explicitly or due to expiry or eviction
+                Binary binOld = fOldTiered ? store.read((Binary) oOld) : (Binary) oOld;
+                Binary binNew = fNewTiered ? store.read((Binary) oNew) : (Binary) oNew;
+
+                evt = new CacheEvent(this, evt.getId(), evt.getKey(), binOld, binNew, isSynthetic(evt));
+                if (fOldTiered && oOld != oNew)
+                    {
+                    store.release((Binary) oOld);
+                    }
+                }
+            }
+        super.dispatchEvent(evt);
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Ensure the {@link PagedTopicSegmentStore} holding the tiered elements exists.
+     *
+     * @return the {@link PagedTopicSegmentStore}
+     */
+    protected synchronized PagedTopicSegmentStore ensureStore()
+        {
+        PagedTopicSegmentStore store = m_store;
+        if (store == null)
+            {
+            m_store = store = new PagedTopicSegmentStore();
+            Logger.finer("Created tiered storage for topic elements in " + store.getDirectory());
+            }
+        return store;
+        }
+
+    /**
+     * Return the value the specified raw value of the wrapped map represents.
+     *
+     * @param oValue  the raw value
+     *
+     * @return the element the value points to if the value is a pointer to
+     *         a tiered element, otherwise the value itself
+     */
+    protected Object resolve(Object oValue)
+        {
+        PagedTopicSegmentStore store = m_store;
+        return store != null && PagedTopicSegmentStore.isPointer(oValue)
+                ? store.read((Binary) oValue)
+                : oValue;
+        }
+
+    /**
+     * Return the raw value of the specified key if it is a pointer to a
+     * tiered element.
+     *
+     * @param oKey  the key
+     *
+     * @return the pointer to the tiered element, or {@code null}
+     */
+    protected Object peekTiered(Object oKey)
+        {
+        if (m_store == null)
+            {
+            return null;
+            }
+        ConfigurableCacheMap.Entry entry = getConfigurableCacheMap().getCacheEntry(oKey);
+        Object                     oValue = entry == null ? null : entry.getValue();
+        return PagedTopicSegmentStore.isPointer(oValue) ? oValue : null;
+        }
+
+    /**
+     * Return the pointers to tiered elements held for the specified keys.
+     *
+     * @param colKeys  the keys
+     *
+     * @return the pointers to the tiered elements
+     */
+    protected List<Object> peekTiered(Collection<?> colKeys)
+        {
+        if (m_store == null)
+            {
+            return Collections.emptyList();
+            }
+
+        List<Object> list = new ArrayList<>();
+        for (Object oKey : colKeys)
+            {
+            Object oTiered = peekTiered(oKey);
+            if (oTiered != null)
+                {
+                list.add(oTiered);
+                }
+            }
+        return list;
+        }
+
+    /**
+     * Release the tiered element replaced or removed by a mutation of the
+     * wrapped map, returning the resolved value of the mutation.
+     * <p>
+     * The element is usually released by the event raised for the mutation,
+     * which is why it has to be read before the mutation.
+     *
+     * @param oTiered  the pointer held before the mutation, or {@code null}
+     * @param oPrior   the element the pointer referred to before the mutation
+     * @param oResult  the value returned by the wrapped map
+     *
+     * @return the resolved value
+     */
+    protected Object release(Object oTiered, Object oPrior, Object oResult)
+        {
+        if (oTiered == null)
+            {
+            return oResult;
+            }
+
+        release(oTiered);
+        return oResult == oTiered ? oPrior : resolve(oResult);
+        }
+
+    /**
+     * Release the specified pointer to a tiered element.
+     *
+     * @param oTiered  the pointer, or {@code null}
+     */
+    protected void release(Object oTiered)
+        {
+        PagedTopicSegmentStore store = m_store;
+        if (store != null && oTiered != null)
+            {
+            store.release((Binary) oTiered);
+            }
+        }
+
+    // ----- inner class: TieredEntry ---------------------------------------
+
+    /**
+     * A {@link ConfigurableCacheMap.Entry} of the wrapped map holding a
+     * pointer to a tiered element, which returns the element as its value.
+     */
+    protected class TieredEntry
+            implements ConfigurableCacheMap.Entry
+        {
+        /**
+         * Create a {@link TieredEntry}.
+         *
+         * @param entry  the entry of the wrapped map
+         */
+        protected TieredEntry(ConfigurableCacheMap.Entry entry)
+            {
+            f_entry = entry;
+            }
+
+        @Override
+        public Object getKey()
+            {
+            return f_entry.getKey();
+            }
+
+        @Override
+        public Object getValue()
+            {
+            return resolve(f_entry.getValue());
+            }
+
+        @Override
+        public Object setValue(Object oValue)
+            {
+            return put(f_entry.getKey(), oValue);
+            }
+
+        @Override
+        public void touch()
+            {
+            f_entry.touch();
+            }
+
+        @Override
+        public int getTouchCount()
+            {
+            return f_entry.getTouchCount();
+            }
+
+        @Override
+        public long getLastTouchMillis()
+            {
+            return f_entry.getLastTouchMillis();
+            }
+
+        @Override
+        public long getExpiryMillis()
+            {
+            return f_entry.getExpiryMillis();
+            }
+
+        @Override
+        public void setExpiryMillis(long lMillis)
+            {
+            f_entry.setExpiryMillis(lMillis);
+            }
+
+        @Override
+        public int getUnits()
+            {
+            return f_entry.getUnits();
+            }
+
+        @Override
+        public void setUnits(int cUnits)
+            {
+            f_entry.setUnits(cUnits);
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The entry of the wrapped map.
+         */
+        private final ConfigurableCacheMap.Entry f_entry;
+        }
+
     // ----- data members ---------------------------------------------------
 
+    /**
+     * Flag indicating whether elements may be moved to tiered storage.
+     */
+    private final boolean f_fTiered;
+
+    /**
+     * The store holding the tiered elements, created when the first element
+     * is moved to tiered storage.
+     */
+    private volatile PagedTopicSegmentStore m_store;
+
     /**
      * An index of {@link  ContentKey} values by channel.
      */
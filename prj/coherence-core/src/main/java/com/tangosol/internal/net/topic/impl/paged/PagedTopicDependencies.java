@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -8,6 +8,9 @@ package com.tangosol.internal.net.topic.impl.paged;
 
 import com.tangosol.net.topic.TopicDependencies;
 
+import com.tangosol.util.Filter;
+import com.tangosol.util.ValueExtractor;
+
 /**
  * The dependencies for a paged topic.
  *
@@ -30,4 +33,59 @@ public interface PagedTopicDependencies
      * @return return the capacity or zero if unlimited.
      */
     long getServerCapacity();
+
+    /**
+     * Returns {@code true} if the fully consumed pages of a topic that retains
+     * consumed elements are moved from the backing map to local segment files.
+     * <p>
+     * Tiered pages stay readable by subscribers that seek or replay, but only
+     * the most recent pages of each channel are held in memory.
+     *
+     * @return {@code true} if consumed pages are moved to tiered storage
+     */
+    boolean isTieredStorage();
+
+    /**
+     * Return the extractor used to obtain the compaction key of the elements
+     * in a compacted topic.
+     * <p>
+     * Once a page of a compacted topic is sealed, it is compacted in the
+     * background: every earlier element in the same channel and partition with
+     * the same key as an element in that page is removed, so that only the
+     * latest element for each key is retained.
+     *
+     * @return the compaction key extractor, or {@code null} if the topic is
+     *         not compacted
+     */
+    ValueExtractor<?, ?> getCompactionKeyExtractor();
+
+    /**
+     * Return the filter that identifies tombstones in a compacted topic.
+     * <p>
+     * A tombstone removes all earlier elements with the same key and is itself
+     * removed once it is older than the {@link #getTombstoneRetentionMillis()
+     * tombstone retention} time.
+     *
+     * @return the tombstone filter, or {@code null} if the topic does not
+     *         have tombstones
+     */
+    Filter<?> getTombstoneFilter();
+
+    /**
+     * Return the minimum time that tombstones are retained in a compacted topic.
+     *
+     * @return the minimum time that tombstones are retained in milliseconds
+     */
+    long getTombstoneRetentionMillis();
+
+    /**
+     * Returns {@code true} if the topic only retains the latest element for
+     * each compaction key.
+     *
+     * @return {@code true} if the topic is compacted
+     */
+    default boolean isCompacted()
+        {
+        return getCompactionKeyExtractor() != null;
+        }
     }
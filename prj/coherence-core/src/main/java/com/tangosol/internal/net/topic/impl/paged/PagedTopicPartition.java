@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -18,6 +18,7 @@ import com.oracle.coherence.common.util.SafeClock;
 import com.tangosol.coherence.config.Config;
 
 import com.tangosol.internal.net.topic.SeekResult;
+import com.tangosol.internal.net.topic.impl.paged.agent.CompactionProcessor;
 import com.tangosol.internal.net.topic.impl.paged.agent.EnsureSubscriptionProcessor;
 import com.tangosol.internal.net.topic.impl.paged.agent.OfferProcessor;
 import com.tangosol.internal.net.topic.impl.paged.agent.PollProcessor;
@@ -301,6 +302,7 @@ public class PagedTopicPartition
         OfferProcessor.Result.Status status        = OfferProcessor.Result.Status.Success;
         int                          cAccepted     = 0;
         long                         lTimestamp    = getClusterTime();
+        ValueExtractor               extractorKey  = configuration.getCompactionKeyExtractor();
 
         // Iterate over all the elements to be offered until they are
         // all offered or until the page has reached maximum capacity
@@ -317,6 +319,13 @@ public class PagedTopicPartition
             // that publishes so polling will be slightly faster
             Binary binElement = PageElement.toBinary(nChannel, lPage, nTail, lTimestamp, binValue);
 
+            if (extractorKey != null)
+                {
+                // extract the compaction key once, so that compaction never
+                // has to deserialize the elements
+                binElement = decorateCompactionKey(binElement, binValue, extractorKey, configuration.getTombstoneFilter());
+                }
+
             // Set the decorated binary element as the entry value
             binElementEntry.updateBinaryValue(binElement);
 
@@ -345,6 +354,12 @@ public class PagedTopicPartition
             page.setSealed(true);
             status = OfferProcessor.Result.Status.PageSealed;
             cbRemainingCapacity = cbCapPage; // amount of space in next page
+
+            if (extractorKey != null)
+                {
+                // compact the sealed page in the background
+                getCompactor().schedule(f_nPartition, nChannel);
+                }
             }
         else
             {
@@ -714,6 +729,9 @@ public class PagedTopicPartition
 
     /**
      * Remove the specified page and all of its elements, updating the Usage partition head/tail as appropriate.
+     * <p>
+     * If the topic retains consumed elements and uses tiered storage, the
+     * elements of the page are moved to tiered storage instead.
      *
      * @param lPage  the page to remove
      *
@@ -725,12 +743,57 @@ public class PagedTopicPartition
 
         if (dependencies.isRetainConsumed())
             {
+            if (dependencies.isTieredStorage())
+                {
+                tierPage(nChannel, lPage);
+                }
             return false;
             }
 
         return removePage(nChannel, lPage);
         }
 
+    /**
+     * Move the elements of the specified page, which has been consumed by all
+     * subscribers, from the content backing map to tiered storage.
+     *
+     * @param nChannel  the channel of the page
+     * @param lPage     the page to move
+     *
+     * @return the number of elements moved to tiered storage
+     */
+    protected int tierPage(int nChannel, long lPage)
+        {
+        Page page = enlistPage(nChannel, lPage);
+        if (page == null)
+            {
+            return 0;
+            }
+
+        ObservableMap mapBack = getBackingMapContext(PagedTopicCaches.Names.CONTENT).getBackingMap();
+        Map           mapPart = mapBack instanceof ObservableSplittingBackingMap
+                ? ((ObservableSplittingBackingMap) mapBack).getPartitionMap(f_nPartition)
+                : mapBack;
+
+        if (mapPart instanceof PagedTopicContentBackingMap)
+            {
+            List<Binary> listKeys = new ArrayList<>(page.getTail() + 1);
+            for (int nPos = 0; nPos <= page.getTail(); nPos++)
+                {
+                listKeys.add(ContentKey.toBinary(f_nPartition, nChannel, lPage, nPos));
+                }
+
+            int cTiered = ((PagedTopicContentBackingMap) mapPart).tierElements(nChannel, listKeys);
+            if (cTiered > 0)
+                {
+                Logger.finest(() -> String.format("Moved %d elements of page %d to tiered storage (topic=%s, channel=%d, partition=%d)",
+                                                  cTiered, lPage, f_sName, nChannel, f_nPartition));
+                }
+            return cTiered;
+            }
+        return 0;
+        }
+
     /**
      * Remove the specified page and all of its elements, updating the Usage partition head/tail as appropriate.
      *
@@ -785,6 +848,274 @@ public class PagedTopicPartition
         return true;
         }
 
+    /**
+     * Compact the sealed pages of the specified channel in this partition.
+     * <p>
+     * This method is called by the {@link CompactionProcessor}, which the
+     * {@link PagedTopicCompactor} runs in the background once a page has been
+     * sealed. The pages are scanned from the compacted watermark of the channel,
+     * in the order the elements were published, and each element that has the
+     * same compaction key as a newer element is removed, so each element is only
+     * scanned once. Expired tombstones are removed too. As the compaction keys are
+     * read from the element decorations, no element is deserialized.
+     * <p>
+     * Compacted elements leave gaps in the pages, which subscribers skip in the same
+     * way as expired elements. Compacted pages that are left empty are removed once
+     * they reach the head of the partition and no subscriber is positioned on them.
+     *
+     * @param nChannel  the channel
+     *
+     * @return {@code true} if the channel has more sealed pages to compact
+     */
+    public boolean compact(int nChannel)
+        {
+        PagedTopicDependencies dependencies = getDependencies();
+        Usage                  usage        = peekUsage(nChannel);
+        if (!dependencies.isCompacted() || usage == null)
+            {
+            return false;
+            }
+
+        PagedTopicCompactor.ChannelState state      = getCompactor().ensureChannelState(f_nPartition, nChannel);
+        long                             cRetention = dependencies.getTombstoneRetentionMillis();
+        long                             lMark      = state.getWatermark();
+        Page                             pageMark   = lMark == Page.NULL_PAGE ? null : peekPage(nChannel, lMark);
+        long                             lPage      = pageMark == null ? usage.getPartitionHead() : pageMark.getNextPartitionPage();
+        int                              cPages     = 0;
+        int                              cRemoved   = 0;
+        Page                             page       = peekPage(nChannel, lPage);
+
+        for ( ; page != null && page.isSealed() && cPages < MAX_COMPACTION_PAGES; page = peekPage(nChannel, lPage))
+            {
+            if (lPage > lMark)
+                {
+                // if the watermark page has been removed the scan restarts
+                // from the head, skipping the pages compacted already
+                long ldtExpiry = page.getTailTimestamp() + cRetention;
+
+                for (int nPos = 0; nPos <= page.getTail(); nPos++)
+                    {
+                    Binary binElement = readElement(nChannel, lPage, nPos);
+                    Binary binKey     = binElement == null ? null : PageElement.getCompactionKey(binElement);
+
+                    if (binKey != null)
+                        {
+                        PagedPosition position     = new PagedPosition(lPage, nPos);
+                        PagedPosition positionPrev = state.onElement(binKey, position,
+                                PageElement.isTombstone(binElement), ldtExpiry);
+
+                        if (positionPrev != null && !positionPrev.equals(position)
+                                && removeElement(nChannel, positionPrev.getPage(), positionPrev.getOffset()))
+                            {
+                            cRemoved++;
+                            }
+                        }
+                    }
+
+                state.setWatermark(lPage);
+                cPages++;
+                }
+            lPage = page.getNextPartitionPage();
+            }
+
+        for (PagedPosition position : state.expireTombstones(getClusterTime()))
+            {
+            if (removeElement(nChannel, position.getPage(), position.getOffset()))
+                {
+                cRemoved++;
+                }
+            }
+
+        int cPagesRemoved = dependencies.isTieredStorage() ? 0 : removeCompactedPages(nChannel, usage, state.getWatermark());
+
+        if (cRemoved > 0 || cPagesRemoved > 0)
+            {
+            int cCompacted = cRemoved;
+            Logger.finest(() -> String.format("Compacted %d elements and removed %d pages of topic %s in channel %d partition %d, retained %d keys",
+                                              cCompacted, cPagesRemoved, f_sName, nChannel, f_nPartition, state.getKeyCount()));
+            }
+
+        // the scan stopped at the page limit if the next page is sealed too
+        return page != null && page.isSealed();
+        }
+
+    /**
+     * Remove the compacted pages at the head of the specified channel in this
+     * partition that have been left empty by the compaction.
+     * <p>
+     * Only head pages are removed, so the page links and the head of the partition
+     * stay consistent, and only if no subscriber is positioned on them.
+     *
+     * @param nChannel  the channel
+     * @param usage     the usage of the channel
+     * @param lMark     the compacted watermark page
+     *
+     * @return the number of pages removed
+     */
+    protected int removeCompactedPages(int nChannel, Usage usage, long lMark)
+        {
+        long lTail  = usage.getPartitionTail();
+        int  cPages = 0;
+
+        for (long lHead = usage.getPartitionHead(); lHead != Page.NULL_PAGE && lHead <= lMark && lHead != lTail; )
+            {
+            Page page = peekPage(nChannel, lHead);
+            if (page == null || !page.isSealed() || isPageSubscribed(nChannel, lHead))
+                {
+                break;
+                }
+
+            for (int nPos = 0; nPos <= page.getTail(); nPos++)
+                {
+                if (readElement(nChannel, lHead, nPos) != null)
+                    {
+                    return cPages;
+                    }
+                }
+
+            long lNext = page.getNextPartitionPage();
+            if (removePage(nChannel, lHead))
+                {
+                cPages++;
+                }
+            lHead = lNext;
+            }
+
+        return cPages;
+        }
+
+    /**
+     * Determine whether any subscription of the specified channel in this
+     * partition is positioned on or before the specified page.
+     *
+     * @param nChannel  the channel
+     * @param lPage     the page
+     *
+     * @return {@code true} if a subscription is positioned on or before the page
+     */
+    @SuppressWarnings("unchecked")
+    protected boolean isPageSubscribed(int nChannel, long lPage)
+        {
+        ObservableMap backingMap = getBackingMapContext(PagedTopicCaches.Names.SUBSCRIPTIONS).getBackingMap();
+        Map           mapPart    = backingMap instanceof ObservableSplittingBackingMap
+                ? ((ObservableSplittingBackingMap) backingMap).getPartitionMap(f_nPartition)
+                : backingMap;
+
+        Map<Subscription.Key, Subscription> map = ConverterCollections.getMap(mapPart,
+                f_ctxManager.getKeyFromInternalConverter(), f_ctxManager.getKeyToInternalConverter(),
+                f_ctxManager.getValueFromInternalConverter(), f_ctxManager.getValueToInternalConverter());
+
+        for (Map.Entry<Subscription.Key, Subscription> entry : map.entrySet())
+            {
+            Subscription.Key key = entry.getKey();
+            if (key.getPartitionId() == f_nPartition && key.getChannelId() == nChannel)
+                {
+                long lPageSub = entry.getValue().getPage();
+                if (lPageSub != Page.NULL_PAGE && lPageSub <= lPage)
+                    {
+                    return true;
+                    }
+                }
+            }
+        return false;
+        }
+
+    /**
+     * Return the binary element at the specified position in this partition.
+     *
+     * @param nChannel  the channel
+     * @param lPage     the page
+     * @param nPos      the offset of the element in the page
+     *
+     * @return the binary element, or {@code null} if it has been removed
+     */
+    protected Binary readElement(int nChannel, long lPage, int nPos)
+        {
+        BinaryEntry entry = (BinaryEntry) getBackingMapContext(PagedTopicCaches.Names.CONTENT)
+                .getReadOnlyEntry(ContentKey.toBinary(f_nPartition, nChannel, lPage, nPos));
+
+        return entry == null ? null : entry.getBinaryValue();
+        }
+
+    /**
+     * Remove the element at the specified position in this partition.
+     *
+     * @param nChannel  the channel
+     * @param lPage     the page
+     * @param nPos      the offset of the element in the page
+     *
+     * @return {@code true} if the element was present
+     */
+    protected boolean removeElement(int nChannel, long lPage, int nPos)
+        {
+        BinaryEntry entry = (BinaryEntry) getBackingMapContext(PagedTopicCaches.Names.CONTENT)
+                .getBackingMapEntry(ContentKey.toBinary(f_nPartition, nChannel, lPage, nPos));
+
+        if (entry.isPresent())
+            {
+            entry.remove(false);
+            return true;
+            }
+        return false;
+        }
+
+    /**
+     * Decorate a binary element of a compacted topic with its compaction key.
+     *
+     * @param binElement       the binary element
+     * @param binValue         the serialized element value
+     * @param extractorKey     the compaction key extractor
+     * @param filterTombstone  the tombstone filter, or {@code null}
+     *
+     * @return the decorated element, or the element unchanged if it
+     *         does not have a compaction key
+     */
+    @SuppressWarnings("unchecked")
+    protected Binary decorateCompactionKey(Binary binElement, Binary binValue, ValueExtractor extractorKey,
+            Filter filterTombstone)
+        {
+        try
+            {
+            Object oValue = getValueFromInternalConverter().convert(PageElement.decompress(binValue));
+            Object oKey   = extractorKey.extract(oValue);
+            if (oKey != null)
+                {
+                Binary  binKey     = getValueToInternalConverter().convert(oKey);
+                boolean fTombstone = filterTombstone != null && filterTombstone.evaluate(oValue);
+
+                return PageElement.withCompactionKey(binElement, binKey, fTombstone);
+                }
+            }
+        catch (RuntimeException e)
+            {
+            // the key cannot be extracted, so the element is simply never compacted
+            Logger.finer("Failed to extract the compaction key of an element of topic " + f_sName + ": " + e);
+            }
+        return binElement;
+        }
+
+    /**
+     * Evaluate a subscriber group filter against an element.
+     * <p>
+     * If the element value has been compressed by the publisher, the filter
+     * is evaluated against the decompressed value.
+     *
+     * @param filter         the filter to evaluate
+     * @param entryElement   the content entry of the element
+     * @param binValue       the binary element
+     * @param converterFrom  the converter to deserialize element values
+     *
+     * @return {@code true} if the element matches the filter
+     */
+    @SuppressWarnings("unchecked")
+    protected boolean evaluateElement(Filter filter, BinaryEntry entryElement, Binary binValue,
+            Converter<Binary, Object> converterFrom)
+        {
+        return PageElement.isCompressed(binValue)
+                ? InvocableMapHelper.evaluateEntry(filter, entryElement.getKey(), converterFrom.convert(PageElement.decompress(binValue)))
+                : InvocableMapHelper.evaluateEntry(filter, entryElement);
+        }
+
     /**
      * Issue notifications
      *
@@ -1476,6 +1807,7 @@ public class PagedTopicPartition
         Function           fnConvert   = subscription.getConverter();
         int                cbResult    = 0;
         final long         cbLimit     = dependencies.getMaxBatchSizeBytes();
+        boolean            fCompacted  = dependencies.isCompacted();
 
         Converter<Binary, Object> converterFrom = getValueFromInternalConverter();
         Converter<Object, Binary> converterTo   = getValueToInternalConverter();
@@ -1505,8 +1837,13 @@ public class PagedTopicPartition
                     }
                 }
 
-            if (binValue != null && (filter == null || InvocableMapHelper.evaluateEntry(filter, entryElement)))
+            if (binValue != null && (filter == null || evaluateElement(filter, entryElement, binValue, converterFrom)))
                 {
+                if (fCompacted)
+                    {
+                    binValue = PageElement.removeCompactionKey(binValue);
+                    }
+
                 if (fnConvert != null)
                     {
                     binValue = PageElement.fromBinary(binValue, converterFrom).convert(fnConvert, converterTo);
@@ -2213,10 +2550,15 @@ public class PagedTopicPartition
 
             for (; nPos < page.getTail() && lElementTime < lTimestamp; nPos++)
                 {
-                Binary         binPosKey    = ContentKey.toBinary(f_nPartition, nChannel, lPage, nPos);
-                BinaryEntry    entryElement = (BinaryEntry) ctxElements.getReadOnlyEntry(binPosKey);
-                PageElement<?> element      = PageElement.fromBinary(entryElement.getBinaryValue(), converterFrom);
-                lElementTime = element.getTimestampMillis();
+                Binary      binPosKey    = ContentKey.toBinary(f_nPartition, nChannel, lPage, nPos);
+                BinaryEntry entryElement = (BinaryEntry) ctxElements.getReadOnlyEntry(binPosKey);
+                Binary      binElement   = entryElement == null ? null : entryElement.getBinaryValue();
+                if (binElement == null)
+                    {
+                    // the element has expired or been compacted
+                    continue;
+                    }
+                lElementTime = PageElement.fromBinary(binElement, converterFrom).getTimestampMillis();
                 }
 
             if (nPos >= page.getTail() && page.isSealed())
@@ -2412,6 +2754,17 @@ public class PagedTopicPartition
         return mgr.getTopicDependencies(f_sName);
         }
 
+    /**
+     * Obtain the {@link PagedTopicCompactor} for this topic.
+     *
+     * @return the {@link PagedTopicCompactor} for this topic
+     */
+    protected PagedTopicCompactor getCompactor()
+        {
+        PagedTopicBackingMapManager mgr = (PagedTopicBackingMapManager) f_ctxManager.getManager();
+        return mgr.getCompactor(f_sName);
+        }
+
     /**
      * Obtain the {@link PagedTopicStatistics } for this topic.
      *
@@ -2555,6 +2908,12 @@ public class PagedTopicPartition
 
     // ----- constants ------------------------------------------------------
 
+    /**
+     * The maximum number of pages of a channel compacted by a single
+     * {@link CompactionProcessor} invocation.
+     */
+    public static final int MAX_COMPACTION_PAGES = 16;
+
     public static final String PROP_PUBLISHER_NOTIFICATION_EXPIRY_MILLIS = "coherence.pagedTopic.publisherNotificationExpiry";
 
     /**
@@ -0,0 +1,578 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.net.topic.impl.paged;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.coherence.config.Config;
+
+import com.tangosol.util.Base;
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.LongArray;
+import com.tangosol.util.SparseArray;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * A store of topic elements that have been moved out of the backing map of a
+ * paged topic's content cache.
+ * <p>
+ * Elements are appended to a segment file per channel. Once a segment reaches
+ * the {@link #getSegmentSize() segment size} it is sealed and memory-mapped
+ * read-only, so that subscribers replaying a channel read the elements back
+ * sequentially from the OS page cache rather than from the heap. A segment
+ * file is deleted as soon as all the elements it contains have been released.
+ * <p>
+ * The location of an element in the store is returned as a binary pointer,
+ * which is a {@link Binary} decorated with the
+ * {@link ExternalizableHelper#DECO_TOPIC_TIER} decoration, and which is stored
+ * in the backing map in place of the element.
+ * <p>
+ * The segment files are local to the member and are not persistent, the
+ * store is expected to be {@link #close() closed} when the backing map that
+ * owns it is cleared or released.
+ *
+ * @author coh  2026.10.16
+ * @since 15.0.0
+ */
+public class PagedTopicSegmentStore
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link PagedTopicSegmentStore} in a new directory under the
+     * {@link #getDefaultDirectory() default directory}.
+     */
+    public PagedTopicSegmentStore()
+        {
+        this(createDirectory(getDefaultDirectory()), SEGMENT_SIZE);
+        }
+
+    /**
+     * Create a {@link PagedTopicSegmentStore}.
+     *
+     * @param dir        the directory to create the segment files in
+     * @param cbSegment  the size in bytes at which a segment is sealed
+     */
+    public PagedTopicSegmentStore(File dir, long cbSegment)
+        {
+        f_dir       = dir;
+        f_cbSegment = Math.max(1L, Math.min(cbSegment, Integer.MAX_VALUE));
+        }
+
+    // ----- PagedTopicSegmentStore methods ---------------------------------
+
+    /**
+     * Append an element of the specified channel to the store.
+     *
+     * @param nChannel  the channel of the element
+     * @param binValue  the element
+     *
+     * @return the binary pointer to the stored element
+     */
+    public synchronized Binary write(int nChannel, Binary binValue)
+        {
+        ensureOpen();
+
+        int     cb      = binValue.length();
+        Segment segment = f_mapActive.get(nChannel);
+        if (segment != null && segment.m_cb > 0 && segment.m_cb + cb > f_cbSegment)
+            {
+            seal(segment);
+            segment = null;
+            }
+
+        if (segment == null)
+            {
+            segment = new Segment(m_lNextSegment++, nChannel);
+            f_laSegment.set(segment.f_lId, segment);
+            f_mapActive.put(nChannel, segment);
+            }
+
+        long of       = segment.m_cb;
+        int  nOrdinal = segment.m_nOrdinal++;
+        try
+            {
+            ByteBuffer buf = binValue.toByteBuffer();
+            for (long ofWrite = of; buf.hasRemaining(); )
+                {
+                ofWrite += segment.f_channel.write(buf, ofWrite);
+                }
+            }
+        catch (IOException e)
+            {
+            throw Base.ensureRuntimeException(e, "Failed to write to " + segment.f_file);
+            }
+
+        segment.m_cb += cb;
+        segment.f_bitsLive.set(nOrdinal);
+        segment.m_cLive++;
+
+        m_cbStored += cb;
+        m_cStored++;
+
+        return toPointer(segment.f_lId, of, cb, nOrdinal);
+        }
+
+    /**
+     * Read the element the specified pointer refers to.
+     *
+     * @param binPointer  the binary pointer returned by {@link #write}
+     *
+     * @return the element, or {@code null} if the element has been released
+     */
+    public synchronized Binary read(Binary binPointer)
+        {
+        ByteBuffer buf      = fromPointer(binPointer);
+        long       lId      = buf.getLong();
+        long       of       = buf.getLong();
+        int        cb       = buf.getInt();
+        int        nOrdinal = buf.getInt();
+        Segment    segment  = f_laSegment.get(lId);
+
+        if (segment == null || !segment.f_bitsLive.get(nOrdinal))
+            {
+            return null;
+            }
+
+        byte[]           ab        = new byte[cb];
+        MappedByteBuffer bufMapped = segment.m_bufMapped;
+        if (bufMapped == null)
+            {
+            try
+                {
+                ByteBuffer bufRead = ByteBuffer.wrap(ab);
+                for (long ofRead = of; bufRead.hasRemaining(); )
+                    {
+                    int cbRead = segment.f_channel.read(bufRead, ofRead);
+                    if (cbRead < 0)
+                        {
+                        throw new IOException("Unexpected end of segment at offset " + ofRead);
+                        }
+                    ofRead += cbRead;
+                    }
+                }
+            catch (IOException e)
+                {
+                throw Base.ensureRuntimeException(e, "Failed to read from " + segment.f_file);
+                }
+            }
+        else
+            {
+            ByteBuffer bufRead = bufMapped.duplicate();
+            bufRead.position((int) of);
+            bufRead.get(ab);
+            }
+        return new Binary(ab);
+        }
+
+    /**
+     * Release the element the specified pointer refers to, deleting the
+     * segment that contains it if it no longer contains any element.
+     * <p>
+     * Releasing an element that has already been released has no effect.
+     *
+     * @param binPointer  the binary pointer returned by {@link #write}
+     */
+    public synchronized void release(Binary binPointer)
+        {
+        ByteBuffer buf      = fromPointer(binPointer);
+        long       lId      = buf.getLong();
+        long       of       = buf.getLong();
+        int        cb       = buf.getInt();
+        int        nOrdinal = buf.getInt();
+        Segment    segment  = f_laSegment.get(lId);
+
+        if (segment == null || !segment.f_bitsLive.get(nOrdinal))
+            {
+            return;
+            }
+
+        segment.f_bitsLive.clear(nOrdinal);
+        m_cbStored -= cb;
+        m_cStored--;
+
+        if (--segment.m_cLive == 0 && f_mapActive.get(segment.f_nChannel) != segment)
+            {
+            f_laSegment.remove(lId);
+            segment.close();
+            }
+        }
+
+    /**
+     * Close the store, deleting all of its segment files.
+     */
+    public synchronized void close()
+        {
+        if (!m_fClosed)
+            {
+            m_fClosed = true;
+            for (Iterator<Segment> iter = f_laSegment.iterator(); iter.hasNext(); )
+                {
+                iter.next().close();
+                }
+            f_laSegment.clear();
+            f_mapActive.clear();
+            m_cbStored = 0L;
+            m_cStored  = 0L;
+
+            if (!f_dir.delete() && f_dir.exists())
+                {
+                Logger.finer("Failed to delete topic segment directory " + f_dir);
+                }
+            }
+        }
+
+    /**
+     * Returns {@code true} if the specified value is a binary pointer to an
+     * element in a {@link PagedTopicSegmentStore}.
+     *
+     * @param oValue  the value to test
+     *
+     * @return {@code true} if the value is a binary pointer
+     */
+    public static boolean isPointer(Object oValue)
+        {
+        return oValue instanceof Binary
+                && ExternalizableHelper.isDecorated((Binary) oValue, ExternalizableHelper.DECO_TOPIC_TIER);
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the directory the segment files are created in.
+     *
+     * @return the directory the segment files are created in
+     */
+    public File getDirectory()
+        {
+        return f_dir;
+        }
+
+    /**
+     * Return the size in bytes at which a segment is sealed.
+     *
+     * @return the size in bytes at which a segment is sealed
+     */
+    public long getSegmentSize()
+        {
+        return f_cbSegment;
+        }
+
+    /**
+     * Return the number of segment files.
+     *
+     * @return the number of segment files
+     */
+    public synchronized int getSegmentCount()
+        {
+        return f_laSegment.getSize();
+        }
+
+    /**
+     * Return the number of elements in the store.
+     *
+     * @return the number of elements in the store
+     */
+    public synchronized long getElementCount()
+        {
+        return m_cStored;
+        }
+
+    /**
+     * Return the total size in bytes of the elements in the store.
+     *
+     * @return the total size in bytes of the elements in the store
+     */
+    public synchronized long getElementBytes()
+        {
+        return m_cbStored;
+        }
+
+    /**
+     * Return the default directory that stores create their directories in.
+     * <p>
+     * The directory is specified by the {@code coherence.topic.tier.directory}
+     * system property, and defaults to a {@code coherence-topics} directory
+     * in the temporary directory.
+     *
+     * @return the default directory
+     */
+    public static File getDefaultDirectory()
+        {
+        String sDir = Config.getProperty("coherence.topic.tier.directory");
+        return sDir == null || sDir.isEmpty()
+                ? new File(System.getProperty("java.io.tmpdir"), "coherence-topics")
+                : new File(sDir);
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Seal the specified active segment, mapping it into memory.
+     *
+     * @param segment  the segment to seal
+     */
+    protected void seal(Segment segment)
+        {
+        f_mapActive.remove(segment.f_nChannel);
+        if (segment.m_cLive == 0)
+            {
+            f_laSegment.remove(segment.f_lId);
+            segment.close();
+            return;
+            }
+
+        try
+            {
+            segment.m_bufMapped = segment.f_channel.map(FileChannel.MapMode.READ_ONLY, 0, segment.m_cb);
+            }
+        catch (IOException e)
+            {
+            // the elements are still readable from the channel
+            Logger.finer("Failed to map topic segment " + segment.f_file + ": " + e.getMessage());
+            }
+        }
+
+    /**
+     * Ensure that the store has not been closed.
+     *
+     * @throws IllegalStateException if the store has been closed
+     */
+    protected void ensureOpen()
+        {
+        if (m_fClosed)
+            {
+            throw new IllegalStateException("The topic segment store in " + f_dir + " has been closed");
+            }
+        }
+
+    /**
+     * Create a new directory for a store under the specified directory.
+     *
+     * @param dirParent  the parent directory
+     *
+     * @return the new directory
+     */
+    protected static File createDirectory(File dirParent)
+        {
+        try
+            {
+            Files.createDirectories(dirParent.toPath());
+            return Files.createTempDirectory(dirParent.toPath(), "topic-").toFile();
+            }
+        catch (IOException e)
+            {
+            throw Base.ensureRuntimeException(e, "Failed to create a topic segment directory in " + dirParent);
+            }
+        }
+
+    /**
+     * Create a binary pointer to an element.
+     *
+     * @param lSegment  the segment identifier
+     * @param of        the offset of the element in the segment
+     * @param cb        the length of the element
+     * @param nOrdinal  the ordinal of the element in the segment
+     *
+     * @return the binary pointer
+     */
+    protected static Binary toPointer(long lSegment, long of, int cb, int nOrdinal)
+        {
+        byte[] ab = new byte[POINTER_LENGTH];
+        ByteBuffer.wrap(ab).putLong(lSegment).putLong(of).putInt(cb).putInt(nOrdinal);
+
+        return ExternalizableHelper.decorate(Binary.NO_BINARY, ExternalizableHelper.DECO_TOPIC_TIER, new Binary(ab));
+        }
+
+    /**
+     * Return the location encoded in a binary pointer.
+     *
+     * @param binPointer  the binary pointer
+     *
+     * @return a buffer containing the segment identifier, offset, length and
+     *         ordinal of the element
+     */
+    protected static ByteBuffer fromPointer(Binary binPointer)
+        {
+        Binary binDeco = ExternalizableHelper.getDecoration(binPointer, ExternalizableHelper.DECO_TOPIC_TIER);
+        if (binDeco == null || binDeco.length() != POINTER_LENGTH)
+            {
+            throw new IllegalArgumentException("Not a topic segment pointer: " + binPointer);
+            }
+        return ByteBuffer.wrap(binDeco.toByteArray());
+        }
+
+    // ----- inner class: Segment -------------------------------------------
+
+    /**
+     * A segment file containing elements of a single channel.
+     */
+    protected class Segment
+        {
+        /**
+         * Create a {@link Segment}.
+         *
+         * @param lId       the segment identifier
+         * @param nChannel  the channel of the elements in the segment
+         */
+        protected Segment(long lId, int nChannel)
+            {
+            f_lId      = lId;
+            f_nChannel = nChannel;
+            f_file     = new File(f_dir, nChannel + "-" + lId + ".seg");
+            try
+                {
+                f_channel = FileChannel.open(f_file.toPath(), StandardOpenOption.CREATE_NEW,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE);
+                }
+            catch (IOException e)
+                {
+                throw Base.ensureRuntimeException(e, "Failed to create topic segment " + f_file);
+                }
+            }
+
+        /**
+         * Close and delete the segment file.
+         */
+        protected void close()
+            {
+            m_bufMapped = null;
+            try
+                {
+                f_channel.close();
+                }
+            catch (IOException e)
+                {
+                // ignored
+                }
+
+            if (!f_file.delete() && f_file.exists())
+                {
+                Logger.finer("Failed to delete topic segment " + f_file);
+                }
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The segment identifier.
+         */
+        protected final long f_lId;
+
+        /**
+         * The channel of the elements in the segment.
+         */
+        protected final int f_nChannel;
+
+        /**
+         * The segment file.
+         */
+        protected final File f_file;
+
+        /**
+         * The channel used to write (and read, until the segment is sealed)
+         * the segment file.
+         */
+        protected final FileChannel f_channel;
+
+        /**
+         * The ordinals of the elements in the segment that have not been released.
+         */
+        protected final BitSet f_bitsLive = new BitSet();
+
+        /**
+         * The number of elements in the segment that have not been released.
+         */
+        protected int m_cLive;
+
+        /**
+         * The ordinal of the next element written to the segment.
+         */
+        protected int m_nOrdinal;
+
+        /**
+         * The size of the segment in bytes.
+         */
+        protected long m_cb;
+
+        /**
+         * The read-only mapping of a sealed segment.
+         */
+        protected MappedByteBuffer m_bufMapped;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The default size in bytes at which a segment is sealed, specified by the
+     * {@code coherence.topic.tier.segment.size} system property.
+     */
+    public static final long SEGMENT_SIZE = Config.getMemorySize("coherence.topic.tier.segment.size", "64MB").getByteCount();
+
+    /**
+     * The length of the location encoded in a binary pointer.
+     */
+    protected static final int POINTER_LENGTH = 24;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The directory the segment files are created in.
+     */
+    private final File f_dir;
+
+    /**
+     * The size in bytes at which a segment is sealed.
+     */
+    private final long f_cbSegment;
+
+    /**
+     * The segments, keyed by identifier.
+     */
+    private final LongArray<Segment> f_laSegment = new SparseArray<>();
+
+    /**
+     * The segment currently written to for each channel.
+     */
+    private final Map<Integer, Segment> f_mapActive = new HashMap<>();
+
+    /**
+     * The identifier of the next segment.
+     */
+    private long m_lNextSegment;
+
+    /**
+     * The number of elements in the store.
+     */
+    private long m_cStored;
+
+    /**
+     * The total size in bytes of the elements in the store.
+     */
+    private long m_cbStored;
+
+    /**
+     * Flag indicating whether the store has been closed.
+     */
+    private boolean m_fClosed;
+    }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.net.topic.impl.paged.agent;
+
+import com.tangosol.internal.net.topic.impl.paged.PagedTopicPartition;
+import com.tangosol.internal.net.topic.impl.paged.model.Usage;
+
+import com.tangosol.io.pof.EvolvablePortableObject;
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.InvocableMap;
+
+import java.io.IOException;
+
+import java.util.function.Function;
+
+/**
+ * This entry processor compacts the sealed pages of a channel of a
+ * compacted topic in the partition of the {@link Usage} entry.
+ *
+ * @author coh  2026.10.17
+ * @since 15.0.0
+ */
+public class CompactionProcessor
+        extends AbstractPagedTopicProcessor<Usage.Key, Usage, Boolean>
+        implements EvolvablePortableObject
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Default constructor for serialization.
+     */
+    public CompactionProcessor()
+        {
+        super(PagedTopicPartition::ensureTopic);
+        }
+
+    /**
+     * Create a {@link CompactionProcessor}.
+     *
+     * @param supplier  the {@link Function} to use to provide a {@link PagedTopicPartition} instance
+     */
+    protected CompactionProcessor(Function<BinaryEntry<Usage.Key, Usage>, PagedTopicPartition> supplier)
+        {
+        super(supplier);
+        }
+
+    // ----- AbstractProcessor methods --------------------------------------
+
+    /**
+     * Compact the channel of the {@link Usage} entry.
+     *
+     * @param entry  the {@link Usage} entry of the channel
+     *
+     * @return {@code true} if the channel has more sealed pages to compact
+     */
+    @Override
+    public Boolean process(InvocableMap.Entry<Usage.Key, Usage> entry)
+        {
+        return ensureTopic(entry).compact(entry.getKey().getChannelId());
+        }
+
+    // ----- EvolvablePortableObject interface ------------------------------
+
+    @Override
+    public int getImplVersion()
+        {
+        return DATA_VERSION;
+        }
+
+    @Override
+    public void readExternal(PofReader in)
+            throws IOException
+        {
+        }
+
+    @Override
+    public void writeExternal(PofWriter out)
+            throws IOException
+        {
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * {@link EvolvablePortableObject} data version of this class.
+     */
+    public static final int DATA_VERSION = 1;
+    }
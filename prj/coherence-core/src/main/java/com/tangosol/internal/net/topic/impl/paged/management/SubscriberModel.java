@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -80,6 +80,10 @@ public class SubscriberModel
         addAttribute(ATTRIBUTE_RECEIVE_COMPLETIONS_FIFTEEN);
         addAttribute(ATTRIBUTE_RECEIVE_EMPTY);
         addAttribute(ATTRIBUTE_RECEIVE_ERRORS);
+        addAttribute(ATTRIBUTE_RECEIVE_LATENCY_MEDIAN);
+        addAttribute(ATTRIBUTE_RECEIVE_LATENCY_95TH);
+        addAttribute(ATTRIBUTE_RECEIVE_LATENCY_99TH);
+        addAttribute(ATTRIBUTE_RECEIVE_LATENCY_MAX);
         addAttribute(ATTRIBUTE_RECEIVE_QUEUE);
         addAttribute(ATTRIBUTE_RECEIVE_REQUESTS);
         addAttribute(ATTRIBUTE_STATE);
@@ -389,6 +393,46 @@ public class SubscriberModel
         return f_subscriber.getReceivedFifteenMinuteRate();
         }
 
+    /**
+     * Return the median end-to-end latency of received elements in milliseconds.
+     *
+     * @return the median end-to-end latency of received elements
+     */
+    protected double getReceiveLatencyMedian()
+        {
+        return f_subscriber.getReceiveLatency().getMedian();
+        }
+
+    /**
+     * Return the 95th percentile end-to-end latency of received elements in milliseconds.
+     *
+     * @return the 95th percentile end-to-end latency of received elements
+     */
+    protected double getReceiveLatency95th()
+        {
+        return f_subscriber.getReceiveLatency().get95thPercentile();
+        }
+
+    /**
+     * Return the 99th percentile end-to-end latency of received elements in milliseconds.
+     *
+     * @return the 99th percentile end-to-end latency of received elements
+     */
+    protected double getReceiveLatency99th()
+        {
+        return f_subscriber.getReceiveLatency().get99thPercentile();
+        }
+
+    /**
+     * Return the maximum end-to-end latency of received elements in milliseconds.
+     *
+     * @return the maximum end-to-end latency of received elements
+     */
+    protected long getReceiveLatencyMax()
+        {
+        return f_subscriber.getReceiveLatency().getMax();
+        }
+
     /**
      * Return the count of receive requests completed with a {@code null} message.
      *
@@ -724,6 +768,49 @@ public class SubscriberModel
                         .metric(true)
                         .build();
 
+    /**
+     * The median end-to-end latency of received elements.
+     */
+    protected static final ModelAttribute<SubscriberModel> ATTRIBUTE_RECEIVE_LATENCY_MEDIAN  =
+                SimpleModelAttribute.doubleBuilder("ReceiveLatencyMedian", SubscriberModel.class)
+                        .withDescription("The median time in milliseconds from publishing to receiving an element.")
+                        .withFunction(SubscriberModel::getReceiveLatencyMedian)
+                        .metric("ReceiveLatency")
+                        .withMetricLabels("quantile", "0.5")
+                        .build();
+
+    /**
+     * The 95th percentile end-to-end latency of received elements.
+     */
+    protected static final ModelAttribute<SubscriberModel> ATTRIBUTE_RECEIVE_LATENCY_95TH  =
+                SimpleModelAttribute.doubleBuilder("ReceiveLatency95thPercentile", SubscriberModel.class)
+                        .withDescription("The 95th percentile time in milliseconds from publishing to receiving an element.")
+                        .withFunction(SubscriberModel::getReceiveLatency95th)
+                        .metric("ReceiveLatency")
+                        .withMetricLabels("quantile", "0.95")
+                        .build();
+
+    /**
+     * The 99th percentile end-to-end latency of received elements.
+     */
+    protected static final ModelAttribute<SubscriberModel> ATTRIBUTE_RECEIVE_LATENCY_99TH  =
+                SimpleModelAttribute.doubleBuilder("ReceiveLatency99thPercentile", SubscriberModel.class)
+                        .withDescription("The 99th percentile time in milliseconds from publishing to receiving an element.")
+                        .withFunction(SubscriberModel::getReceiveLatency99th)
+                        .metric("ReceiveLatency")
+                        .withMetricLabels("quantile", "0.99")
+                        .build();
+
+    /**
+     * The maximum end-to-end latency of received elements.
+     */
+    protected static final ModelAttribute<SubscriberModel> ATTRIBUTE_RECEIVE_LATENCY_MAX  =
+                SimpleModelAttribute.longBuilder("ReceiveLatencyMax", SubscriberModel.class)
+                        .withDescription("The maximum time in milliseconds from publishing to receiving an element.")
+                        .withFunction(SubscriberModel::getReceiveLatencyMax)
+                        .metric("ReceiveLatencyMax")
+                        .build();
+
     /**
      * The number of empty received requests.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -19,6 +19,7 @@ import com.tangosol.io.pof.PortableObject;
 import com.tangosol.net.topic.Position;
 import com.tangosol.net.topic.Subscriber;
 
+import com.tangosol.util.Base;
 import com.tangosol.util.Binary;
 import com.tangosol.util.ExternalizableHelper;
 
@@ -33,6 +34,10 @@ import java.util.concurrent.CompletableFuture;
 
 import java.util.function.Function;
 
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
 /**
  * An {@link com.tangosol.net.topic.Subscriber.Element} from a topic.
  * <p>
@@ -90,7 +95,7 @@ public class PageElement<V>
         {
         if (m_oValue == null)
             {
-            m_oValue = m_converter.convert(m_binValue.toBinary());
+            m_oValue = m_converter.convert(decompress(m_binValue));
             }
         return m_oValue;
         }
@@ -100,7 +105,9 @@ public class PageElement<V>
         {
         if (m_binUndecorated == null)
             {
-            m_binUndecorated = ExternalizableHelper.undecorate(m_binValue, DECO_RSVD_1);
+            m_binUndecorated = isCompressed(m_binValue)
+                    ? decompress(m_binValue)
+                    : ExternalizableHelper.undecorate(m_binValue, DECO_RSVD_1);
             }
         return m_binUndecorated.toBinary();
         }
@@ -279,6 +286,184 @@ public class PageElement<V>
         return new PageElement<>(binary, converter);
         }
 
+    /**
+     * Decorate a binary element of a compacted topic with its compaction key.
+     *
+     * @param binElement  the binary element
+     * @param binKey      the serialized compaction key
+     * @param fTombstone  {@code true} if the element is a tombstone
+     *
+     * @return the decorated binary element
+     */
+    public static Binary withCompactionKey(Binary binElement, Binary binKey, boolean fTombstone)
+        {
+        int    cbKey = binKey.length();
+        byte[] ab    = new byte[cbKey + 1];
+
+        ab[0] = fTombstone ? (byte) 1 : (byte) 0;
+        binKey.copyBytes(0, cbKey, ab, 1);
+
+        return ExternalizableHelper.decorate(binElement, ExternalizableHelper.DECO_TOPIC_KEY, new Binary(ab));
+        }
+
+    /**
+     * Return the serialized compaction key of a binary element of a compacted topic.
+     *
+     * @param binElement  the binary element
+     *
+     * @return the serialized compaction key, or {@code null} if the element
+     *         is not decorated with a compaction key
+     */
+    public static Binary getCompactionKey(Binary binElement)
+        {
+        Binary binDeco = ExternalizableHelper.getDecoration(binElement, ExternalizableHelper.DECO_TOPIC_KEY);
+        return binDeco == null || binDeco.length() == 0 ? null : binDeco.toBinary(1, binDeco.length() - 1);
+        }
+
+    /**
+     * Returns {@code true} if the binary element of a compacted topic is a tombstone.
+     *
+     * @param binElement  the binary element
+     *
+     * @return {@code true} if the element is a tombstone
+     */
+    public static boolean isTombstone(Binary binElement)
+        {
+        Binary binDeco = ExternalizableHelper.getDecoration(binElement, ExternalizableHelper.DECO_TOPIC_KEY);
+        return binDeco != null && binDeco.length() > 0 && binDeco.byteAt(0) == 1;
+        }
+
+    /**
+     * Remove the compaction key from a binary element of a compacted topic.
+     * <p>
+     * The compaction key is only used by the storage members, so it is removed
+     * before the element is returned to a subscriber.
+     *
+     * @param binElement  the binary element
+     *
+     * @return the binary element without the compaction key
+     */
+    public static Binary removeCompactionKey(Binary binElement)
+        {
+        return ExternalizableHelper.undecorate(binElement, ExternalizableHelper.DECO_TOPIC_KEY);
+        }
+
+    /**
+     * Compress a serialized element value using the specified {@link Deflater}.
+     * <p>
+     * The compressed value is decorated with the
+     * {@link ExternalizableHelper#DECO_TOPIC_COMPRESSION codec} and the
+     * length of the original value, so that it is stored in the page as is
+     * and only decompressed when the element value is deserialized.
+     *
+     * @param binValue  the serialized element value
+     * @param deflater  the {@link Deflater} to use, which is reset before use
+     *
+     * @return the compressed value, or the original value if it is already
+     *         decorated or does not get any smaller when compressed
+     */
+    public static Binary compress(Binary binValue, Deflater deflater)
+        {
+        int cbValue = binValue.length();
+        if (cbValue < COMPRESSION_MIN_BYTES || ExternalizableHelper.isDecorated(binValue))
+            {
+            return binValue;
+            }
+
+        byte[] ab = new byte[cbValue];
+        deflater.reset();
+        deflater.setInput(binValue.toByteArray());
+        deflater.finish();
+
+        int cbCompressed = 0;
+        while (!deflater.finished() && cbCompressed < cbValue)
+            {
+            cbCompressed += deflater.deflate(ab, cbCompressed, cbValue - cbCompressed);
+            }
+
+        if (!deflater.finished() || cbCompressed + COMPRESSION_HEADER_BYTES >= cbValue)
+            {
+            // the value is not compressible
+            return binValue;
+            }
+
+        byte[] abCodec = new byte[COMPRESSION_HEADER_BYTES];
+        abCodec[0] = CODEC_DEFLATE;
+        abCodec[1] = (byte) (cbValue >>> 24);
+        abCodec[2] = (byte) (cbValue >>> 16);
+        abCodec[3] = (byte) (cbValue >>> 8);
+        abCodec[4] = (byte) cbValue;
+
+        return ExternalizableHelper.decorate(new Binary(ab, 0, cbCompressed),
+                ExternalizableHelper.DECO_TOPIC_COMPRESSION, new Binary(abCodec));
+        }
+
+    /**
+     * Returns {@code true} if the value of a binary element has been
+     * {@link #compress compressed}.
+     *
+     * @param binElement  the binary element
+     *
+     * @return {@code true} if the value of the element has been compressed
+     */
+    public static boolean isCompressed(ReadBuffer binElement)
+        {
+        return binElement != null && ExternalizableHelper.isDecorated(binElement, ExternalizableHelper.DECO_TOPIC_COMPRESSION);
+        }
+
+    /**
+     * Return the serialized value of a binary element, decompressing it if
+     * it has been {@link #compress compressed}.
+     *
+     * @param binElement  the binary element
+     *
+     * @return the serialized value of the element, which is the binary
+     *         element itself if its value has not been compressed
+     */
+    public static Binary decompress(ReadBuffer binElement)
+        {
+        if (!isCompressed(binElement))
+            {
+            return binElement == null ? null : binElement.toBinary();
+            }
+
+        ReadBuffer binCodec = ExternalizableHelper.getDecoration(binElement, ExternalizableHelper.DECO_TOPIC_COMPRESSION);
+        if (binCodec.length() != COMPRESSION_HEADER_BYTES || binCodec.byteAt(0) != CODEC_DEFLATE)
+            {
+            throw new IllegalStateException("Unsupported topic element compression codec " + binCodec);
+            }
+
+        int cbValue = (binCodec.byteAt(1) & 0xFF) << 24 | (binCodec.byteAt(2) & 0xFF) << 16
+                    | (binCodec.byteAt(3) & 0xFF) << 8  | (binCodec.byteAt(4) & 0xFF);
+
+        byte[]   ab       = new byte[cbValue];
+        Inflater inflater = new Inflater();
+        try
+            {
+            inflater.setInput(ExternalizableHelper.getUndecorated(binElement).toByteArray());
+
+            int cb = 0;
+            while (cb < cbValue && !inflater.finished())
+                {
+                int cbRead = inflater.inflate(ab, cb, cbValue - cb);
+                if (cbRead == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                    {
+                    throw new DataFormatException("Truncated compressed topic element");
+                    }
+                cb += cbRead;
+                }
+            }
+        catch (DataFormatException e)
+            {
+            throw Base.ensureRuntimeException(e);
+            }
+        finally
+            {
+            inflater.end();
+            }
+        return new Binary(ab);
+        }
+
     /**
      * Return a binary representation this {@link PageElement} with the value converted
      * using the converter function or returns {@code null} if the converter function
@@ -389,6 +574,22 @@ public class PageElement<V>
 
     private final int DECO_RSVD_1 = ExternalizableHelper.DECO_RSVD_1;
 
+    /**
+     * The codec identifier of values compressed using a {@link Deflater}.
+     */
+    public static final byte CODEC_DEFLATE = 1;
+
+    /**
+     * The length of the compression decoration, which is the codec identifier
+     * followed by the length of the original value.
+     */
+    private static final int COMPRESSION_HEADER_BYTES = 5;
+
+    /**
+     * The minimum length of a value that is worth compressing.
+     */
+    private static final int COMPRESSION_MIN_BYTES = 64;
+
     // ----- data members ---------------------------------------------------
 
     private ReadBuffer m_binValue;
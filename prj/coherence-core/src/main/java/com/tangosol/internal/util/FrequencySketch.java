@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.internal.util;
+
+/*
+ * This class is based on FrequencySketch from Caffeine:
+ *
+ * Copyright 2015 Ben Manes. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * FrequencySketch is a probabilistic estimator of the popularity of keys
+ * within a recent time window, as used by the TinyLFU admission and
+ * eviction policies.
+ * <p>
+ * The sketch is a count-min sketch with a depth of four and 4-bit counters
+ * packed sixteen to a {@code long}. Once the number of recorded increments
+ * reaches ten times the configured capacity, all counters are halved so
+ * that the estimated frequencies age over time.
+ * <p>
+ * The sketch is deliberately not thread-safe: concurrent increments may be
+ * lost, which only affects the accuracy of the estimate and never its
+ * consistency.
+ *
+ * @author coh  2026.10.16
+ * @since 15.0.0
+ */
+public class FrequencySketch
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a FrequencySketch for the specified number of keys.
+     *
+     * @param cCapacity  the expected number of distinct keys
+     */
+    public FrequencySketch(long cCapacity)
+        {
+        ensureCapacity(cCapacity);
+        }
+
+    // ----- FrequencySketch methods ----------------------------------------
+
+    /**
+     * Grow the sketch, if necessary, so that it can accurately estimate
+     * the frequencies of the specified number of keys. The sketch never
+     * shrinks, and growing it retains the previously recorded frequencies.
+     *
+     * @param cCapacity  the expected number of distinct keys
+     */
+    public void ensureCapacity(long cCapacity)
+        {
+        int    cMax = (int) Math.min(Math.max(cCapacity, MIN_CAPACITY), MAX_CAPACITY);
+        long[] al   = m_alTable;
+        if (al == null || al.length < cMax)
+            {
+            long[] alNew = new long[Integer.highestOneBit(cMax - 1) << 1];
+            if (al != null)
+                {
+                // as the table lengths are powers of two, a counter at index
+                // i of the new table maps to the index (i & (al.length - 1))
+                // of the old table; replicating the old table preserves the
+                // estimate of every hash
+                for (int i = 0; i < alNew.length; i += al.length)
+                    {
+                    System.arraycopy(al, 0, alNew, i, al.length);
+                    }
+                }
+            m_alTable = alNew;
+            m_cSample = (int) Math.min(10L * cMax, Integer.MAX_VALUE);
+            }
+        }
+
+    /**
+     * Return the estimated number of occurrences of the specified hash,
+     * up to a maximum of 15.
+     *
+     * @param nHash  the key hash
+     *
+     * @return the estimated frequency
+     */
+    public int frequency(int nHash)
+        {
+        long[] alTable = m_alTable;
+        int    nSpread = spread(nHash);
+        int    nStart  = (nSpread & 3) << 2;
+        int    nFreq   = Integer.MAX_VALUE;
+
+        for (int i = 0; i < 4; i++)
+            {
+            int iSlot = indexOf(alTable, nSpread, i);
+            int nOff  = (nStart + i) << 2;
+            nFreq = Math.min(nFreq, (int) ((alTable[iSlot] >>> nOff) & 0xFL));
+            }
+        return nFreq;
+        }
+
+    /**
+     * Record an occurrence of the specified hash.
+     *
+     * @param nHash  the key hash
+     */
+    public void increment(int nHash)
+        {
+        long[]  alTable = m_alTable;
+        int     nSpread = spread(nHash);
+        int     nStart  = (nSpread & 3) << 2;
+        boolean fAdded  = false;
+
+        for (int i = 0; i < 4; i++)
+            {
+            int  iSlot = indexOf(alTable, nSpread, i);
+            int  nOff  = (nStart + i) << 2;
+            long lMask = 0xFL << nOff;
+            long l     = alTable[iSlot];
+            if ((l & lMask) != lMask)
+                {
+                alTable[iSlot] = l + (1L << nOff);
+                fAdded = true;
+                }
+            }
+
+        if (fAdded && ++m_cIncrement >= m_cSample)
+            {
+            reset();
+            }
+        }
+
+    /**
+     * Halve all counters, aging the recorded frequencies.
+     */
+    protected void reset()
+        {
+        long[] alTable = m_alTable;
+        for (int i = 0; i < alTable.length; i++)
+            {
+            alTable[i] = (alTable[i] >>> 1) & RESET_MASK;
+            }
+        m_cIncrement = m_cIncrement >>> 1;
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Return the table index of the counter for the specified depth.
+     *
+     * @param alTable  the table
+     * @param nHash    the spread hash
+     * @param i        the depth
+     *
+     * @return the table index
+     */
+    private static int indexOf(long[] alTable, int nHash, int i)
+        {
+        long l = (nHash + SEED[i]) * SEED[i];
+        l += (l >>> 32);
+        return ((int) l) & (alTable.length - 1);
+        }
+
+    /**
+     * Apply a supplemental hash function to defend against poor quality
+     * hashes.
+     *
+     * @param n  the hash
+     *
+     * @return the spread hash
+     */
+    private static int spread(int n)
+        {
+        n = ((n >>> 16) ^ n) * 0x45d9f3b;
+        n = ((n >>> 16) ^ n) * 0x45d9f3b;
+        return (n >>> 16) ^ n;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The minimum capacity.
+     */
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * The maximum capacity.
+     */
+    private static final int MAX_CAPACITY = 1 << 26;
+
+    /**
+     * The per-depth hash seeds.
+     */
+    private static final long[] SEED =
+        {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+        };
+
+    /**
+     * The mask that clears the high bit of every 4-bit counter after a shift.
+     */
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The packed counters.
+     */
+    private long[] m_alTable;
+
+    /**
+     * The number of increments after which the counters are halved.
+     */
+    private int m_cSample;
+
+    /**
+     * The number of increments since the last reset.
+     */
+    private int m_cIncrement;
+    }
@@ -115,6 +115,16 @@ public class PartitionedIndexMap<K, V>
         return f_partitions == null ? f_mapPartitioned.keySet() : f_partitions;
         }
 
+    /**
+     * Return the {@link BackingMapContext context} associated with the indexed cache.
+     *
+     * @return the context associated with the indexed cache
+     */
+    public BackingMapContext getBackingMapContext()
+        {
+        return f_ctx;
+        }
+
     // ---- helpers ---------------------------------------------------------
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -406,6 +406,11 @@ public class VersionHelper
 
     // ----- constants ------------------------------------------------------
 
+    /**
+     * The encoded CE 26.04.0 version.
+     */
+    public static final int VERSION_26_04 = encodeVersion(26, 4, 0);
+
     /**
      * The encoded 15.1.1.0.0 version.
      */
@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.util;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.coherence.config.Config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detects virtual threads that block while pinned to their carrier thread.
+ * <p>
+ * The monitor streams the {@code jdk.VirtualThreadPinned} JFR event in-process
+ * and reports every event to the {@link Listener} registered for the prefix of
+ * the pinned thread's name. A single recording stream is shared by all the
+ * listeners; it is started when the first listener is registered and closed
+ * when the last one is removed. If JFR is not available the monitor silently
+ * does nothing.
+ *
+ * @author coh  2026.10.16
+ * @since 15.0.0
+ */
+public final class VirtualThreadPinningMonitor
+    {
+    // ----- constructors ---------------------------------------------------
+
+    private VirtualThreadPinningMonitor()
+        {
+        }
+
+    // ----- VirtualThreadPinningMonitor methods ----------------------------
+
+    /**
+     * Register a listener for the pinned virtual threads whose name starts
+     * with the specified prefix.
+     *
+     * @param sPrefix   the thread name prefix
+     * @param listener  the listener to register
+     */
+    public static synchronized void register(String sPrefix, Listener listener)
+        {
+        s_mapListeners.put(sPrefix, listener);
+        ensureStream();
+        }
+
+    /**
+     * Unregister the listener for the specified thread name prefix.
+     *
+     * @param sPrefix   the thread name prefix
+     * @param listener  the listener to unregister
+     */
+    public static synchronized void unregister(String sPrefix, Listener listener)
+        {
+        s_mapListeners.remove(sPrefix, listener);
+        if (s_mapListeners.isEmpty())
+            {
+            closeStream();
+            }
+        }
+
+    /**
+     * Return {@code true} iff the JFR recording stream is running.
+     *
+     * @return {@code true} iff pinned virtual threads are being detected
+     */
+    public static synchronized boolean isActive()
+        {
+        return s_stream != null;
+        }
+
+    /**
+     * Convert the specified {@code jdk.VirtualThreadPinned} event into a
+     * {@link PinnedEvent}.
+     *
+     * @param event       the recorded event
+     * @param cMaxFrames  the maximum number of stack frames to keep
+     *
+     * @return the pinned event
+     */
+    public static PinnedEvent toPinnedEvent(RecordedEvent event, int cMaxFrames)
+        {
+        RecordedThread thread = event.getThread();
+        return new PinnedEvent(thread == null ? null : thread.getJavaName(),
+                event.getStartTime(), event.getDuration(),
+                readString(event, "pinnedReason"), readString(event, "blockingOperation"),
+                formatStackTrace(event.getStackTrace(), cMaxFrames));
+        }
+
+    /**
+     * Format the specified stack trace, one frame per line.
+     *
+     * @param stack       the stack trace (may be null)
+     * @param cMaxFrames  the maximum number of frames to format
+     *
+     * @return the formatted stack trace, or an empty string
+     */
+    public static String formatStackTrace(RecordedStackTrace stack, int cMaxFrames)
+        {
+        if (stack == null)
+            {
+            return "";
+            }
+
+        StringBuilder sb      = new StringBuilder();
+        int           cFrames = 0;
+        for (RecordedFrame frame : stack.getFrames())
+            {
+            if (cFrames++ >= cMaxFrames)
+                {
+                sb.append(System.lineSeparator()).append("  ...");
+                break;
+                }
+
+            RecordedMethod method = frame.getMethod();
+            if (method == null)
+                {
+                continue;
+                }
+            sb.append(System.lineSeparator())
+                    .append("  at ")
+                    .append(method.getType().getName())
+                    .append('.')
+                    .append(method.getName());
+            int nLine = frame.getLineNumber();
+            if (nLine >= 0)
+                {
+                sb.append(':').append(nLine);
+                }
+            }
+        return sb.toString();
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Dispatch the specified event to the listener registered for the
+     * pinned thread's name.
+     *
+     * @param event  the event to dispatch
+     */
+    static void dispatch(PinnedEvent event)
+        {
+        String sThread = event.getThreadName();
+        if (sThread == null)
+            {
+            return;
+            }
+
+        for (Map.Entry<String, Listener> entry : s_mapListeners.entrySet())
+            {
+            if (sThread.startsWith(entry.getKey()))
+                {
+                try
+                    {
+                    entry.getValue().onPinned(event);
+                    }
+                catch (Throwable e)
+                    {
+                    Logger.err("Virtual thread pinning listener failed", e);
+                    }
+                return;
+                }
+            }
+        }
+
+    /**
+     * Start the recording stream unless it is already running.
+     */
+    private static void ensureStream()
+        {
+        if (s_stream != null || !VirtualThreads.isSupported())
+            {
+            return;
+            }
+
+        try
+            {
+            RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT)
+                    .withThreshold(Duration.ofMillis(THRESHOLD_MILLIS))
+                    .withStackTrace();
+            stream.setMaxAge(Duration.ofSeconds(10));
+            stream.onEvent(PINNED_EVENT, e -> dispatch(toPinnedEvent(e, MAX_STACK_FRAMES)));
+            stream.startAsync();
+
+            s_stream = stream;
+            }
+        catch (Throwable e)
+            {
+            Logger.config("Pinned virtual thread detection is disabled: " + e);
+            }
+        }
+
+    /**
+     * Close the recording stream if it is running.
+     */
+    private static void closeStream()
+        {
+        RecordingStream stream = s_stream;
+        if (stream != null)
+            {
+            s_stream = null;
+            try
+                {
+                stream.close();
+                }
+            catch (Throwable ignored)
+                {
+                }
+            }
+        }
+
+    /**
+     * Read a string field of the event, which may not exist in older JDKs.
+     */
+    private static String readString(RecordedEvent event, String sName)
+        {
+        try
+            {
+            return event.getString(sName);
+            }
+        catch (IllegalArgumentException e)
+            {
+            return "<unavailable>";
+            }
+        }
+
+    // ----- inner interface: Listener --------------------------------------
+
+    /**
+     * A listener for pinned virtual threads.
+     */
+    @FunctionalInterface
+    public interface Listener
+        {
+        /**
+         * Called on the JFR streaming thread for every pinned virtual thread
+         * whose name matches the registered prefix.
+         *
+         * @param event  the pinned event
+         */
+        void onPinned(PinnedEvent event);
+        }
+
+    // ----- inner class: PinnedEvent ---------------------------------------
+
+    /**
+     * A virtual thread that blocked while pinned to its carrier.
+     */
+    public static class PinnedEvent
+        {
+        /**
+         * Construct a PinnedEvent.
+         *
+         * @param sThread             the name of the pinned thread
+         * @param instantStart        the time the thread got pinned
+         * @param duration            how long the thread was pinned
+         * @param sReason             the reason the thread was pinned
+         * @param sBlockingOperation  the operation that blocked
+         * @param sStackTrace         the formatted stack trace
+         */
+        public PinnedEvent(String sThread, Instant instantStart, Duration duration,
+                String sReason, String sBlockingOperation, String sStackTrace)
+            {
+            f_sThread            = sThread;
+            f_instantStart       = instantStart;
+            f_duration           = duration;
+            f_sReason            = sReason;
+            f_sBlockingOperation = sBlockingOperation;
+            f_sStackTrace        = sStackTrace;
+            }
+
+        /**
+         * Return the name of the pinned thread.
+         *
+         * @return the name of the pinned thread
+         */
+        public String getThreadName()
+            {
+            return f_sThread;
+            }
+
+        /**
+         * Return the time the thread got pinned.
+         *
+         * @return the time the thread got pinned
+         */
+        public Instant getStartTime()
+            {
+            return f_instantStart;
+            }
+
+        /**
+         * Return how long the thread was pinned.
+         *
+         * @return how long the thread was pinned
+         */
+        public Duration getDuration()
+            {
+            return f_duration;
+            }
+
+        /**
+         * Return the reason the thread was pinned.
+         *
+         * @return the reason the thread was pinned
+         */
+        public String getReason()
+            {
+            return f_sReason;
+            }
+
+        /**
+         * Return the operation that blocked while the thread was pinned.
+         *
+         * @return the blocking operation
+         */
+        public String getBlockingOperation()
+            {
+            return f_sBlockingOperation;
+            }
+
+        /**
+         * Return the formatted stack trace of the pinned thread.
+         *
+         * @return the formatted stack trace, or an empty string
+         */
+        public String getStackTrace()
+            {
+            return f_sStackTrace;
+            }
+
+        // ----- Object methods ---------------------------------------------
+
+        @Override
+        public String toString()
+            {
+            return PINNED_EVENT
+                    + " startTime=" + f_instantStart
+                    + ", duration=" + f_duration
+                    + ", blockingOperation=" + f_sBlockingOperation
+                    + ", pinnedReason=" + f_sReason
+                    + ", eventThread=" + f_sThread
+                    + f_sStackTrace;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        private final String   f_sThread;
+        private final Instant  f_instantStart;
+        private final Duration f_duration;
+        private final String   f_sReason;
+        private final String   f_sBlockingOperation;
+        private final String   f_sStackTrace;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The name of the JFR event emitted when a virtual thread blocks while
+     * pinned.
+     */
+    public static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /**
+     * The maximum number of stack frames kept for each event.
+     */
+    public static final int MAX_STACK_FRAMES = 24;
+
+    /**
+     * The minimum duration of a pinned block that is reported.
+     */
+    private static final long THRESHOLD_MILLIS =
+            Config.getLong("coherence.virtualthreads.pinned.threshold", 20L);
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The registered listeners, keyed by thread name prefix.
+     */
+    private static final Map<String, Listener> s_mapListeners = new ConcurrentHashMap<>();
+
+    /**
+     * The running recording stream, or null.
+     */
+    private static volatile RecordingStream s_stream;
+    }
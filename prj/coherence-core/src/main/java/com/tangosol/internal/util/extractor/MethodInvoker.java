@@ -0,0 +1,414 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.util.extractor;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.coherence.config.Config;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import java.util.function.Function;
+
+/**
+ * A compiled replacement for {@link Method#invoke(Object, Object...)} used
+ * by the reflection based extractors.
+ * <p>
+ * A no-argument instance method (a JavaBean accessor or a record component
+ * accessor) is linked through the {@link LambdaMetafactory} into a
+ * {@link Function} implemented by a hidden class that is a nestmate of the
+ * method's declaring class, which allows the JIT compiler to inline the
+ * accessor into the caller. Methods that take arguments, or methods whose
+ * declaring class cannot be privately accessed from this module, are
+ * invoked through a {@link MethodHandle}.
+ * <p>
+ * The compiled invokers preserve the contract of {@link Method#invoke}: only
+ * the methods that are accessible to reflection (public methods of public
+ * classes) are compiled, while any other method is invoked reflectively, so
+ * that it fails with the same {@link IllegalAccessException}. Similarly, a
+ * {@code null} target, a target of the wrong type, or arguments that do not
+ * match the parameters are passed to {@link Method#invoke}, which throws
+ * the {@link NullPointerException} or {@link IllegalArgumentException}
+ * expected by the caller, and only the exceptions thrown by the method
+ * itself are wrapped in an {@link InvocationTargetException}.
+ * <p>
+ * Invokers are cached per method on the method's declaring class, so that
+ * the cost of linking is paid once regardless of how many extractor
+ * instances (for example, those deserialized with each filter) refer to
+ * the same method, and so that the invokers do not prevent the declaring
+ * class from being unloaded.
+ * <p>
+ * The compiled invokers may be disabled by setting the
+ * {@code coherence.extractor.compiled} system property to {@code false}.
+ *
+ * @author coh  2026.10.16
+ * @since 15.0.0
+ */
+public abstract class MethodInvoker
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a {@link MethodInvoker}.
+     *
+     * @param method  the method to invoke
+     */
+    protected MethodInvoker(Method method)
+        {
+        Class<?>[] aclzParam = method.getParameterTypes();
+        Class<?>[] aclzArg   = new Class<?>[aclzParam.length];
+        for (int i = 0; i < aclzParam.length; i++)
+            {
+            aclzArg[i] = MethodType.methodType(aclzParam[i]).wrap().returnType();
+            }
+
+        f_method    = method;
+        f_aclzParam = aclzParam;
+        f_aclzArg   = aclzArg;
+        }
+
+    // ----- factory methods ------------------------------------------------
+
+    /**
+     * Return the {@link MethodInvoker} for the specified method.
+     *
+     * @param method  the method to invoke
+     *
+     * @return the {@link MethodInvoker} for the specified method
+     */
+    public static MethodInvoker of(Method method)
+        {
+        return INVOKERS.get(method.getDeclaringClass())
+                .computeIfAbsent(method, MethodInvoker::instantiate);
+        }
+
+    // ----- MethodInvoker methods ------------------------------------------
+
+    /**
+     * Invoke the method on the specified target.
+     *
+     * @param oTarget  the target to invoke the method on
+     * @param aoParam  the method arguments; may be {@code null} for a
+     *                 no-argument method
+     *
+     * @return the value returned by the method
+     *
+     * @throws InvocationTargetException  if the method throws an exception
+     * @throws IllegalAccessException     if the method is inaccessible
+     */
+    public abstract Object invoke(Object oTarget, Object[] aoParam)
+            throws InvocationTargetException, IllegalAccessException;
+
+    /**
+     * Return the method invoked by this invoker.
+     *
+     * @return the method invoked by this invoker
+     */
+    public Method getMethod()
+        {
+        return f_method;
+        }
+
+    /**
+     * Return {@code true} if this invoker avoids reflective invocation.
+     *
+     * @return {@code true} if this invoker avoids reflective invocation
+     */
+    public boolean isCompiled()
+        {
+        return true;
+        }
+
+    /**
+     * Return {@code true} if the specified target and arguments can be passed
+     * to the method without any conversion other than unboxing, in which case
+     * any exception thrown by a compiled invocation is thrown by the method
+     * itself.
+     *
+     * @param oTarget  the target to invoke the method on
+     * @param aoParam  the method arguments; may be {@code null} for a
+     *                 no-argument method
+     *
+     * @return {@code true} if the target and arguments match the method
+     */
+    protected boolean isApplicable(Object oTarget, Object[] aoParam)
+        {
+        if (!f_method.getDeclaringClass().isInstance(oTarget))
+            {
+            return false;
+            }
+
+        Class<?>[] aclzParam = f_aclzParam;
+        int        cParams   = aclzParam.length;
+        if ((aoParam == null ? 0 : aoParam.length) != cParams)
+            {
+            return false;
+            }
+
+        for (int i = 0; i < cParams; i++)
+            {
+            Object oArg = aoParam[i];
+            if (aclzParam[i].isPrimitive()
+                ? oArg == null || oArg.getClass() != f_aclzArg[i]
+                : oArg != null && !aclzParam[i].isInstance(oArg))
+                {
+                return false;
+                }
+            }
+        return true;
+        }
+
+    // ----- Object methods -------------------------------------------------
+
+    @Override
+    public String toString()
+        {
+        return getClass().getSimpleName() + '(' + f_method + ')';
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Create the most efficient {@link MethodInvoker} available for the
+     * specified method.
+     *
+     * @param method  the method to invoke
+     *
+     * @return a new {@link MethodInvoker}
+     */
+    @SuppressWarnings("unchecked")
+    protected static MethodInvoker instantiate(Method method)
+        {
+        int nModifiers = method.getModifiers();
+        if (!COMPILED || Modifier.isStatic(nModifiers) || method.isVarArgs())
+            {
+            return new ReflectiveInvoker(method);
+            }
+
+        Class<?>     clzDecl = method.getDeclaringClass();
+        MethodHandle handle;
+        try
+            {
+            // only compile the methods that reflection would allow this class to
+            // invoke without package access (reflection assumes readability)
+            MethodInvoker.class.getModule().addReads(clzDecl.getModule());
+            handle = MethodHandles.lookup().dropLookupMode(MethodHandles.Lookup.PACKAGE).unreflect(method);
+            }
+        catch (Throwable e)
+            {
+            Logger.finest(() -> "Using reflection to invoke " + method + ": " + e);
+            return new ReflectiveInvoker(method);
+            }
+
+        if (method.getParameterCount() == 0 && method.getReturnType() != void.class)
+            {
+            try
+                {
+                // a private lookup in the declaring class allows the generated
+                // class to be defined as a nestmate of (and unloaded with) the
+                // declaring class; this is possible unless the declaring class
+                // lives in a named module that is not open to this module
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(clzDecl, MethodHandles.lookup());
+                MethodHandle         handlePrivate = lookup.unreflect(method);
+
+                CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        handlePrivate,
+                        handlePrivate.type().wrap());
+
+                return new LambdaInvoker(method, (Function<Object, Object>) site.getTarget().invoke());
+                }
+            catch (Throwable e)
+                {
+                // fall through and use the method handle
+                }
+            }
+
+        return new MethodHandleInvoker(method, handle);
+        }
+
+    // ----- inner class: LambdaInvoker -------------------------------------
+
+    /**
+     * A {@link MethodInvoker} that invokes a no-argument method through a
+     * {@link Function} generated by the {@link LambdaMetafactory}.
+     */
+    protected static class LambdaInvoker
+            extends MethodInvoker
+        {
+        /**
+         * Construct a {@link LambdaInvoker}.
+         *
+         * @param method    the method to invoke
+         * @param function  the function that invokes the method
+         */
+        protected LambdaInvoker(Method method, Function<Object, Object> function)
+            {
+            super(method);
+            f_function = function;
+            }
+
+        @Override
+        public Object invoke(Object oTarget, Object[] aoParam)
+                throws InvocationTargetException, IllegalAccessException
+            {
+            if (!isApplicable(oTarget, aoParam))
+                {
+                return f_method.invoke(oTarget, aoParam);
+                }
+
+            try
+                {
+                return f_function.apply(oTarget);
+                }
+            catch (Throwable e)
+                {
+                throw new InvocationTargetException(e);
+                }
+            }
+
+        /**
+         * The function that invokes the method.
+         */
+        private final Function<Object, Object> f_function;
+        }
+
+    // ----- inner class: MethodHandleInvoker -------------------------------
+
+    /**
+     * A {@link MethodInvoker} that invokes a method through a
+     * {@link MethodHandle}.
+     */
+    protected static class MethodHandleInvoker
+            extends MethodInvoker
+        {
+        /**
+         * Construct a {@link MethodHandleInvoker}.
+         *
+         * @param method  the method to invoke
+         * @param handle  the method handle for the method
+         */
+        protected MethodHandleInvoker(Method method, MethodHandle handle)
+            {
+            super(method);
+            f_handle = handle.asSpreader(Object[].class, method.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+            }
+
+        @Override
+        public Object invoke(Object oTarget, Object[] aoParam)
+                throws InvocationTargetException, IllegalAccessException
+            {
+            if (!isApplicable(oTarget, aoParam))
+                {
+                return f_method.invoke(oTarget, aoParam);
+                }
+
+            Object[] aoArg = aoParam == null ? NO_ARGS : aoParam;
+            try
+                {
+                return (Object) f_handle.invokeExact(oTarget, aoArg);
+                }
+            catch (Throwable e)
+                {
+                throw new InvocationTargetException(e);
+                }
+            }
+
+        /**
+         * The method handle adapted to {@code (Object, Object[])Object}.
+         */
+        private final MethodHandle f_handle;
+        }
+
+    // ----- inner class: ReflectiveInvoker ---------------------------------
+
+    /**
+     * A {@link MethodInvoker} that uses {@link Method#invoke}.
+     */
+    protected static class ReflectiveInvoker
+            extends MethodInvoker
+        {
+        /**
+         * Construct a {@link ReflectiveInvoker}.
+         *
+         * @param method  the method to invoke
+         */
+        protected ReflectiveInvoker(Method method)
+            {
+            super(method);
+            }
+
+        @Override
+        public Object invoke(Object oTarget, Object[] aoParam)
+                throws InvocationTargetException, IllegalAccessException
+            {
+            return getMethod().invoke(oTarget, aoParam);
+            }
+
+        @Override
+        public boolean isCompiled()
+            {
+            return false;
+            }
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * Flag indicating whether compiled invokers are enabled.
+     */
+    public static final boolean COMPILED = Config.getBoolean("coherence.extractor.compiled", true);
+
+    /**
+     * An empty argument array.
+     */
+    private static final Object[] NO_ARGS = new Object[0];
+
+    /**
+     * The invokers for the methods of each declaring class.
+     */
+    private static final ClassValue<Map<Method, MethodInvoker>> INVOKERS = new ClassValue<>()
+        {
+        @Override
+        protected Map<Method, MethodInvoker> computeValue(Class<?> clz)
+            {
+            return new ConcurrentHashMap<>();
+            }
+        };
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The method to invoke.
+     */
+    protected final Method f_method;
+
+    /**
+     * The parameter types of the method.
+     */
+    protected final Class<?>[] f_aclzParam;
+
+    /**
+     * The types of the arguments the compiled invokers accept without
+     * conversion: the parameter types, with primitive types boxed.
+     */
+    protected final Class<?>[] f_aclzArg;
+    }
@@ -0,0 +1,389 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.util.extractor;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.coherence.config.Config;
+
+import com.tangosol.io.pof.PofAnnotationSerializer;
+import com.tangosol.io.pof.PofContext;
+import com.tangosol.io.pof.PofSerializer;
+import com.tangosol.io.pof.PortableTypeSerializer;
+
+import com.tangosol.io.pof.reflect.PofNavigator;
+import com.tangosol.io.pof.reflect.PofReflectionHelper;
+import com.tangosol.io.pof.reflect.PofValue;
+import com.tangosol.io.pof.reflect.PofValueParser;
+import com.tangosol.io.pof.reflect.SimplePofPath;
+
+import com.tangosol.io.pof.schema.annotation.PortableType;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.MapIndex;
+import com.tangosol.util.ValueExtractor;
+
+import com.tangosol.util.extractor.AbstractExtractor;
+import com.tangosol.util.extractor.UniversalExtractor;
+
+import java.lang.ref.WeakReference;
+
+import java.lang.reflect.Method;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves property extractors (such as the {@link UniversalExtractor}s
+ * created for property names in filters) against the POF metadata of the
+ * serialized type, so that the property can be read directly from the POF
+ * stream instead of deserializing the whole value.
+ * <p>
+ * The POF index of a property is resolved from the {@link PortableType}
+ * metadata of the class, if the class is serialized by a
+ * {@link PortableTypeSerializer}, or from the attributes of the
+ * {@link PofAnnotationSerializer} the class is serialized by. Only properties
+ * of simple types (primitives and their wrappers, strings and big numbers)
+ * are resolved, as their POF representation can be converted to the
+ * property type without any loss; all other extractors are evaluated as
+ * before.
+ * <p>
+ * The number of values extracted without deserialization is counted per
+ * thread, allowing the query recorder to report it for each step of a
+ * traced query.
+ * <p>
+ * The resolution is disabled by default, and may be enabled by setting the
+ * {@code coherence.query.pof.navigation} system property to {@code true}.
+ * It must only be enabled if the accessors of the properties of the POF
+ * serialized types used in queries simply return the value of the portable
+ * field of the same name: the value read from the POF stream bypasses the
+ * accessor, so an accessor that derives or transforms the field value would
+ * produce a different query result.
+ *
+ * @author coh  2026.10.16
+ * @since 15.0.0
+ */
+public class PofPropertyResolver
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a {@link PofPropertyResolver}.
+     *
+     * @param fEnabled  {@code true} if property extractors should be resolved
+     *                  against the POF metadata
+     */
+    protected PofPropertyResolver(boolean fEnabled)
+        {
+        f_fEnabled = fEnabled;
+        }
+
+    // ----- factory methods ------------------------------------------------
+
+    /**
+     * Return the {@link PofPropertyResolver} for the specified context.
+     *
+     * @param ctx  the {@link PofContext} the values are serialized with
+     *
+     * @return the {@link PofPropertyResolver} for the specified context
+     */
+    public static PofPropertyResolver getInstance(PofContext ctx)
+        {
+        // the resolvers are looked up for every extraction, which is usually
+        // done by a number of worker threads using the same context
+        LastResolver last = s_lastResolver;
+        if (last != null && last.get() == ctx)
+            {
+            return last.f_resolver;
+            }
+
+        PofPropertyResolver resolver;
+        synchronized (RESOLVERS)
+            {
+            resolver = RESOLVERS.computeIfAbsent(ctx, c -> new PofPropertyResolver(ENABLED));
+            }
+        s_lastResolver = new LastResolver(ctx, resolver);
+        return resolver;
+        }
+
+    // ----- PofPropertyResolver methods ------------------------------------
+
+    /**
+     * Extract the value of the property the specified extractor refers to
+     * from the specified POF encoded value.
+     *
+     * @param ctx        the {@link PofContext} the value is serialized with
+     * @param extractor  the extractor
+     * @param binValue   the POF encoded value
+     *
+     * @return the extracted value, or {@link MapIndex#NO_VALUE} if the value
+     *         cannot be extracted without deserializing it
+     */
+    public Object extract(PofContext ctx, ValueExtractor<?, ?> extractor, Binary binValue)
+        {
+        if (!f_fEnabled || binValue == null || !(extractor instanceof UniversalExtractor))
+            {
+            return MapIndex.NO_VALUE;
+            }
+
+        UniversalExtractor<?, ?> extractorU = (UniversalExtractor<?, ?>) extractor;
+        if (extractorU.getTarget() != AbstractExtractor.VALUE || !extractorU.isPropertyExtractor())
+            {
+            return MapIndex.NO_VALUE;
+            }
+
+        try
+            {
+            PofValue valueRoot = PofValueParser.parse(binValue, ctx);
+            int      nTypeId   = valueRoot.getTypeId();
+            if (nTypeId < 0)
+                {
+                return MapIndex.NO_VALUE;
+                }
+
+            Property property = f_mapProperties
+                    .computeIfAbsent(nTypeId, n -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(extractorU.getPropertyName(), sName -> resolve(ctx, nTypeId, sName));
+            if (property == Property.NONE)
+                {
+                return MapIndex.NO_VALUE;
+                }
+
+            PofValue valueTarget = property.f_navigator.navigate(valueRoot);
+            if (valueTarget == null)
+                {
+                // the property is missing from an older version of the type
+                return MapIndex.NO_VALUE;
+                }
+
+            Object oValue = valueTarget.getValue(property.f_clzType);
+            COUNTER.get()[0]++;
+            return oValue;
+            }
+        catch (RuntimeException e)
+            {
+            return MapIndex.NO_VALUE;
+            }
+        }
+
+    /**
+     * Return the number of values that have been extracted by the calling
+     * thread without deserialization.
+     *
+     * @return the number of values extracted without deserialization
+     */
+    public static long getDeserializationsAvoided()
+        {
+        return COUNTER.get()[0];
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Resolve the specified property of the specified user type.
+     *
+     * @param ctx        the {@link PofContext} the value is serialized with
+     * @param nTypeId    the user type identifier
+     * @param sProperty  the property name
+     *
+     * @return the resolved {@link Property}, or {@link Property#NONE} if the
+     *         property cannot be extracted without deserialization
+     */
+    protected Property resolve(PofContext ctx, int nTypeId, String sProperty)
+        {
+        try
+            {
+            Class<?> clz     = ctx.getClass(nTypeId);
+            Class<?> clzType = getPropertyType(clz, sProperty);
+            if (clzType == null)
+                {
+                return Property.NONE;
+                }
+
+            PofSerializer serializer = ctx.getPofSerializer(nTypeId);
+            PofNavigator  navigator  = null;
+            if (serializer instanceof PortableTypeSerializer && clz.isAnnotationPresent(PortableType.class))
+                {
+                navigator = PofReflectionHelper.getPofNavigator(clz, sProperty);
+                }
+            else if (serializer instanceof PofAnnotationSerializer)
+                {
+                int nIndex = ((PofAnnotationSerializer<?>) serializer).getAttributeIndex(sProperty);
+                if (nIndex >= 0)
+                    {
+                    navigator = new SimplePofPath(nIndex);
+                    }
+                }
+
+            if (navigator != null)
+                {
+                PofNavigator nav = navigator;
+                Logger.finest(() -> "Resolved property \"" + sProperty + "\" of " + clz.getName()
+                                    + " to POF path " + nav);
+                return new Property(nav, clzType);
+                }
+            }
+        catch (RuntimeException e)
+            {
+            // the type is unknown or the property is not a portable field
+            }
+        return Property.NONE;
+        }
+
+    /**
+     * Return the (boxed) type of the specified property, if it is a simple
+     * type.
+     *
+     * @param clz        the class
+     * @param sProperty  the property name
+     *
+     * @return the type of the property, or null if the class does not have
+     *         an accessor for the property, or the property is not of a
+     *         simple type
+     */
+    protected static Class<?> getPropertyType(Class<?> clz, String sProperty)
+        {
+        String sSuffix = Character.toUpperCase(sProperty.charAt(0)) + sProperty.substring(1);
+        for (String sMethod : new String[] {"get" + sSuffix, "is" + sSuffix, sProperty})
+            {
+            try
+                {
+                Method method = clz.getMethod(sMethod);
+                return SIMPLE_TYPES.get(method.getReturnType());
+                }
+            catch (NoSuchMethodException e)
+                {
+                // try the next accessor name
+                }
+            }
+        return null;
+        }
+
+    // ----- inner class: Property ------------------------------------------
+
+    /**
+     * A property resolved to a POF path.
+     */
+    protected static class Property
+        {
+        /**
+         * Construct a {@link Property}.
+         *
+         * @param navigator  the navigator to the property value
+         * @param clzType    the (boxed) type of the property
+         */
+        protected Property(PofNavigator navigator, Class<?> clzType)
+            {
+            f_navigator = navigator;
+            f_clzType   = clzType;
+            }
+
+        /**
+         * A property that cannot be extracted without deserialization.
+         */
+        protected static final Property NONE = new Property(null, null);
+
+        /**
+         * The navigator to the property value.
+         */
+        protected final PofNavigator f_navigator;
+
+        /**
+         * The (boxed) type of the property.
+         */
+        protected final Class<?> f_clzType;
+        }
+
+    // ----- inner class: LastResolver --------------------------------------
+
+    /**
+     * The most recently used resolver, which does not prevent its context
+     * from being garbage collected.
+     */
+    protected static class LastResolver
+            extends WeakReference<PofContext>
+        {
+        /**
+         * Construct a {@link LastResolver}.
+         *
+         * @param ctx       the {@link PofContext}
+         * @param resolver  the resolver for the context
+         */
+        protected LastResolver(PofContext ctx, PofPropertyResolver resolver)
+            {
+            super(ctx);
+            f_resolver = resolver;
+            }
+
+        /**
+         * The resolver for the context.
+         */
+        protected final PofPropertyResolver f_resolver;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * Flag indicating whether property extractors are resolved against the
+     * POF metadata.
+     */
+    public static final boolean ENABLED = Config.getBoolean("coherence.query.pof.navigation", false);
+
+    /**
+     * The simple types, keyed by the declared property type.
+     */
+    private static final Map<Class<?>, Class<?>> SIMPLE_TYPES = new ConcurrentHashMap<>();
+
+    static
+        {
+        Class<?>[] aclzPrimitive = {boolean.class, byte.class, char.class, short.class,
+                                    int.class, long.class, float.class, double.class};
+        Class<?>[] aclzBoxed     = {Boolean.class, Byte.class, Character.class, Short.class,
+                                    Integer.class, Long.class, Float.class, Double.class};
+        for (int i = 0; i < aclzPrimitive.length; i++)
+            {
+            SIMPLE_TYPES.put(aclzPrimitive[i], aclzBoxed[i]);
+            SIMPLE_TYPES.put(aclzBoxed[i], aclzBoxed[i]);
+            }
+        SIMPLE_TYPES.put(String.class, String.class);
+        SIMPLE_TYPES.put(BigDecimal.class, BigDecimal.class);
+        SIMPLE_TYPES.put(BigInteger.class, BigInteger.class);
+        }
+
+    /**
+     * The resolvers for each {@link PofContext}.
+     */
+    private static final Map<PofContext, PofPropertyResolver> RESOLVERS = new WeakHashMap<>();
+
+    /**
+     * The most recently used resolver.
+     */
+    private static volatile LastResolver s_lastResolver;
+
+    /**
+     * The number of values extracted without deserialization by each thread.
+     */
+    private static final ThreadLocal<long[]> COUNTER = ThreadLocal.withInitial(() -> new long[1]);
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * Flag indicating whether this resolver resolves property extractors.
+     */
+    protected final boolean f_fEnabled;
+
+    /**
+     * The resolved properties, keyed by user type identifier and property
+     * name.
+     */
+    protected final Map<Integer, Map<String, Property>> f_mapProperties = new ConcurrentHashMap<>();
+    }
@@ -1,12 +1,14 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
- * http://oss.oracle.com/licenses/upl.
+ * https://oss.oracle.com/licenses/upl.
  */
 package com.tangosol.internal.util.extractor;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+
 import java.util.Map;
 
 import static com.tangosol.util.Base.azzert;
@@ -43,8 +45,9 @@ public class TargetReflectionDescriptor
     public TargetReflectionDescriptor(Class clz, Method method)
         {
         azzert(method != null || Map.class.isAssignableFrom(clz));
-        f_clz    = clz;
-        f_method = method;
+        f_clz     = clz;
+        f_method  = method;
+        f_invoker = method == null ? null : MethodInvoker.of(method);
         }
 
     // ----- TargetReflectionDescriptor methods ---------------------------------------
@@ -69,6 +72,33 @@ public class TargetReflectionDescriptor
         return f_method;
         }
 
+    /**
+     * Return the {@link MethodInvoker} for the extracted target method.
+     *
+     * @return a MethodInvoker or null if target class is a {@link Map}
+     */
+    public MethodInvoker getInvoker()
+        {
+        return f_invoker;
+        }
+
+    /**
+     * Invoke the extracted target method on the specified target.
+     *
+     * @param oTarget  the target to invoke the method on
+     * @param aoParam  the method arguments
+     *
+     * @return the value returned by the method
+     *
+     * @throws InvocationTargetException  if the method throws an exception
+     * @throws IllegalAccessException     if the method is inaccessible
+     */
+    public Object invoke(Object oTarget, Object[] aoParam)
+            throws InvocationTargetException, IllegalAccessException
+        {
+        return f_invoker.invoke(oTarget, aoParam);
+        }
+
     /**
      * Is this descriptor for a {@link Map}.
      *
@@ -91,4 +121,9 @@ public class TargetReflectionDescriptor
      * If null, {@link #f_clz} must be assignable to a {@link Map}.
      */
     final private Method f_method;
+
+    /**
+     * The invoker for {@link #f_method}, or null if {@link #f_clz} is a {@link Map}.
+     */
+    final private MethodInvoker f_invoker;
     }
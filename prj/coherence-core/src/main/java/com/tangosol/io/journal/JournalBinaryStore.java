@@ -0,0 +1,939 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.io.journal;
+
+import com.oracle.coherence.common.base.Disposable;
+
+import com.tangosol.io.BinaryStore;
+
+import com.tangosol.io.journal.JournalBinaryStoreManager.Slab;
+
+import com.tangosol.io.nio.ByteBufferReadBuffer;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.SimpleEnumerator;
+
+import java.nio.ByteBuffer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A log-structured {@link BinaryStore} that keeps both keys and values in
+ * journal slabs allocated by a {@link JournalBinaryStoreManager}.
+ * <p>
+ * Every {@link #store store} appends a new record to the current slab and
+ * every {@link #erase erase} or overwrite simply marks the previous record as
+ * garbage. Records are located through an open-addressing index of 64-bit
+ * "tickets" (slab id and offset) and key hashes, so that the heap cost per
+ * entry is limited to a few bytes regardless of the key and value size.
+ * <p>
+ * Slabs whose ratio of live data drops below the manager's minimum load
+ * factor are compacted in the background by relocating the remaining live
+ * records into the current slab and returning the emptied slab to the
+ * manager.
+ * <p>
+ * Record layout: {@code int hash, int cbKey, int cbValue, key, value}.
+ *
+ * @author coh  2026.10.16
+ * @since 15.0.0
+ */
+public class JournalBinaryStore
+        implements BinaryStore.KeySetAware, Disposable
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a JournalBinaryStore that allocates its slabs from the
+     * specified manager.
+     *
+     * @param manager  the JournalBinaryStoreManager
+     */
+    public JournalBinaryStore(JournalBinaryStoreManager manager)
+        {
+        f_manager = manager;
+        initIndex(MIN_INDEX_CAPACITY);
+        }
+
+    // ----- BinaryStore interface ------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Binary load(Binary binKey)
+        {
+        ReentrantReadWriteLock.ReadLock lock = f_lock.readLock();
+        lock.lock();
+        try
+            {
+            int iSlot = findSlot(binKey, hash(binKey));
+            if (iSlot < 0)
+                {
+                return null;
+                }
+
+            long       lTicket = m_alTicket[iSlot];
+            ByteBuffer buf     = getSlab(lTicket).getBuffer();
+            int        of      = getOffset(lTicket);
+            int        cbKey   = buf.getInt(of + 4);
+            int        cbValue = buf.getInt(of + 8);
+
+            return new ByteBufferReadBuffer(buf.slice(of + HEADER_SIZE + cbKey, cbValue)).toBinary();
+            }
+        finally
+            {
+            lock.unlock();
+            }
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void store(Binary binKey, Binary binValue)
+        {
+        boolean fCollect;
+
+        ReentrantReadWriteLock.WriteLock lock = f_lock.writeLock();
+        lock.lock();
+        try
+            {
+            ensureActive();
+
+            int  nHash   = hash(binKey);
+            int  iSlot   = findSlot(binKey, nHash);
+            long lTicket = append(binKey, binValue, nHash);
+
+            if (iSlot >= 0)
+                {
+                long lTicketOld = m_alTicket[iSlot];
+                m_alTicket[iSlot] = lTicket;
+                releaseRecord(lTicketOld);
+                }
+            else
+                {
+                insertSlot(lTicket, nHash);
+                }
+
+            fCollect = checkCollection();
+            }
+        finally
+            {
+            lock.unlock();
+            }
+
+        if (fCollect)
+            {
+            f_manager.scheduleCollection(this);
+            }
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void erase(Binary binKey)
+        {
+        boolean fCollect = false;
+
+        ReentrantReadWriteLock.WriteLock lock = f_lock.writeLock();
+        lock.lock();
+        try
+            {
+            int iSlot = findSlot(binKey, hash(binKey));
+            if (iSlot >= 0)
+                {
+                long lTicket = m_alTicket[iSlot];
+                removeSlot(iSlot);
+                releaseRecord(lTicket);
+
+                fCollect = checkCollection();
+                }
+            }
+        finally
+            {
+            lock.unlock();
+            }
+
+        if (fCollect)
+            {
+            f_manager.scheduleCollection(this);
+            }
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void eraseAll()
+        {
+        ReentrantReadWriteLock.WriteLock lock = f_lock.writeLock();
+        lock.lock();
+        try
+            {
+            releaseAll();
+            initIndex(MIN_INDEX_CAPACITY);
+            }
+        finally
+            {
+            lock.unlock();
+            }
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<Binary> keys()
+        {
+        ReentrantReadWriteLock.ReadLock lock = f_lock.readLock();
+        lock.lock();
+        try
+            {
+            long[]   alTicket = m_alTicket;
+            Binary[] aBinKey  = new Binary[m_cEntries];
+            int      iKey     = 0;
+
+            for (long lTicket : alTicket)
+                {
+                if (lTicket != 0L)
+                    {
+                    aBinKey[iKey++] = readKey(lTicket);
+                    }
+                }
+
+            return new SimpleEnumerator<>(aBinKey);
+            }
+        finally
+            {
+            lock.unlock();
+            }
+        }
+
+    // ----- BinaryStore.KeySetAware interface ------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Binary binKey)
+        {
+        ReentrantReadWriteLock.ReadLock lock = f_lock.readLock();
+        lock.lock();
+        try
+            {
+            return findSlot(binKey, hash(binKey)) >= 0;
+            }
+        finally
+            {
+            lock.unlock();
+            }
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size()
+        {
+        return m_cEntries;
+        }
+
+    // ----- Disposable interface -------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void dispose()
+        {
+        ReentrantReadWriteLock.WriteLock lock = f_lock.writeLock();
+        lock.lock();
+        try
+            {
+            if (!m_fDisposed)
+                {
+                m_fDisposed = true;
+                releaseAll();
+                initIndex(MIN_INDEX_CAPACITY);
+                }
+            }
+        finally
+            {
+            lock.unlock();
+            }
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the JournalBinaryStoreManager that this store allocates slabs
+     * from.
+     *
+     * @return the manager
+     */
+    public JournalBinaryStoreManager getManager()
+        {
+        return f_manager;
+        }
+
+    /**
+     * Return the number of bytes occupied by live records.
+     *
+     * @return the number of live bytes
+     */
+    public long getLiveBytes()
+        {
+        return m_cbLive;
+        }
+
+    /**
+     * Return the number of bytes written to the slabs currently held by this
+     * store, including garbage that has not been compacted yet.
+     *
+     * @return the number of written bytes
+     */
+    public long getWrittenBytes()
+        {
+        return m_cbWritten;
+        }
+
+    /**
+     * Return the number of slabs currently held by this store.
+     *
+     * @return the number of slabs
+     */
+    public int getSlabCount()
+        {
+        return m_cSlabs;
+        }
+
+    // ----- compaction -----------------------------------------------------
+
+    /**
+     * Compact all slabs whose load factor is below the manager's minimum load
+     * factor by relocating their live records into the current slab.
+     * <p>
+     * Each slab is evacuated under a separate acquisition of the write lock
+     * so that concurrent readers and writers are only blocked for the time
+     * needed to move a single slab.
+     *
+     * @return the number of slabs that were released
+     */
+    public int compact()
+        {
+        double dflMinLoad = f_manager.getMinLoadFactor();
+        int    cReleased  = 0;
+
+        try
+            {
+            for (int nSlab = 0; ; nSlab++)
+                {
+                ReentrantReadWriteLock.WriteLock lock = f_lock.writeLock();
+                lock.lock();
+                try
+                    {
+                    List<Slab> listSlab = f_listSlab;
+                    if (m_fDisposed || nSlab >= listSlab.size())
+                        {
+                        break;
+                        }
+
+                    Slab slab = listSlab.get(nSlab);
+                    if (slab != null && slab != m_slabCurrent && slab.getLoadFactor() < dflMinLoad)
+                        {
+                        evacuate(nSlab, slab);
+                        cReleased++;
+                        }
+                    }
+                finally
+                    {
+                    lock.unlock();
+                    }
+                }
+            }
+        finally
+            {
+            m_fCollectScheduled = false;
+            }
+
+        return cReleased;
+        }
+
+    /**
+     * Relocate all live records of the specified slab and release it.
+     * <p>
+     * Must be called while holding the write lock.
+     *
+     * @param nSlab  the slab id
+     * @param slab   the slab
+     */
+    protected void evacuate(int nSlab, Slab slab)
+        {
+        ByteBuffer buf     = slab.getBuffer();
+        int        ofEnd   = slab.getWriteOffset();
+        int        nMask   = m_alTicket.length - 1;
+
+        for (int of = 0; of < ofEnd && slab.getLiveBytes() > 0; )
+            {
+            int nHash    = buf.getInt(of);
+            int cbRecord = HEADER_SIZE + buf.getInt(of + 4) + buf.getInt(of + 8);
+
+            // a record is live iff the index still refers to its ticket
+            long lTicket = toTicket(nSlab, of);
+            for (int i = nHash & nMask; m_alTicket[i] != 0L; i = (i + 1) & nMask)
+                {
+                if (m_alTicket[i] == lTicket)
+                    {
+                    Slab slabDest = ensureCurrentSlab(cbRecord);
+                    int  ofDest   = slabDest.reserve(cbRecord);
+
+                    slabDest.getBuffer().put(ofDest, buf, of, cbRecord);
+                    slab.release(cbRecord);
+
+                    m_alTicket[i] = toTicket(m_nSlabCurrent, ofDest);
+                    m_cbWritten  += cbRecord;
+                    break;
+                    }
+                }
+
+            of += cbRecord;
+            }
+
+        freeSlab(nSlab, slab);
+        }
+
+    /**
+     * Determine whether a background compaction should be scheduled.
+     * <p>
+     * Must be called while holding the write lock.
+     *
+     * @return true iff the caller should schedule a compaction
+     */
+    protected boolean checkCollection()
+        {
+        long cbGarbage = m_cbWritten - m_cbLive;
+        if (!m_fCollectScheduled && cbGarbage > f_manager.getSlabSize()
+                && cbGarbage > (1.0 - f_manager.getMinLoadFactor()) * m_cbWritten)
+            {
+            m_fCollectScheduled = true;
+            return true;
+            }
+        return false;
+        }
+
+    // ----- journal helpers ------------------------------------------------
+
+    /**
+     * Append a record to the current slab.
+     * <p>
+     * Must be called while holding the write lock.
+     *
+     * @param binKey    the key
+     * @param binValue  the value
+     * @param nHash     the key hash
+     *
+     * @return the ticket of the new record
+     */
+    protected long append(Binary binKey, Binary binValue, int nHash)
+        {
+        int  cbKey    = binKey.length();
+        int  cbValue  = binValue.length();
+        int  cbRecord = HEADER_SIZE + cbKey + cbValue;
+        Slab slab     = ensureCurrentSlab(cbRecord);
+        int  of       = slab.reserve(cbRecord);
+
+        ByteBuffer buf = slab.getBuffer();
+        buf.putInt(of, nHash);
+        buf.putInt(of + 4, cbKey);
+        buf.putInt(of + 8, cbValue);
+
+        ByteBuffer bufData = buf.duplicate();
+        bufData.position(of + HEADER_SIZE);
+        binKey.writeTo(bufData);
+        binValue.writeTo(bufData);
+
+        m_cbWritten += cbRecord;
+        m_cbLive    += cbRecord;
+
+        return toTicket(m_nSlabCurrent, of);
+        }
+
+    /**
+     * Return a current slab with at least the specified number of free bytes,
+     * retiring the current slab and allocating a new one if necessary.
+     *
+     * @param cbRecord  the required number of bytes
+     *
+     * @return the current slab
+     */
+    protected Slab ensureCurrentSlab(int cbRecord)
+        {
+        Slab slab = m_slabCurrent;
+        if (slab == null || slab.getFreeBytes() < cbRecord)
+            {
+            Slab slabOld = slab;
+            int  nOld    = m_nSlabCurrent;
+
+            slab = f_manager.allocateSlab(cbRecord);
+
+            Integer NSlab = f_dequeFreeId.pollFirst();
+            int     nSlab;
+            if (NSlab == null)
+                {
+                nSlab = f_listSlab.size();
+                f_listSlab.add(slab);
+                }
+            else
+                {
+                nSlab = NSlab;
+                f_listSlab.set(nSlab, slab);
+                }
+
+            m_slabCurrent  = slab;
+            m_nSlabCurrent = nSlab;
+            m_cSlabs++;
+
+            // a retired slab that holds no live data can be released immediately
+            if (slabOld != null && slabOld.getLiveBytes() == 0)
+                {
+                freeSlab(nOld, slabOld);
+                }
+            }
+        return slab;
+        }
+
+    /**
+     * Mark the record with the specified ticket as garbage.
+     * <p>
+     * Must be called while holding the write lock.
+     *
+     * @param lTicket  the ticket of the record
+     */
+    protected void releaseRecord(long lTicket)
+        {
+        int        nSlab    = getSlabId(lTicket);
+        Slab       slab     = f_listSlab.get(nSlab);
+        ByteBuffer buf      = slab.getBuffer();
+        int        of       = getOffset(lTicket);
+        int        cbRecord = HEADER_SIZE + buf.getInt(of + 4) + buf.getInt(of + 8);
+
+        slab.release(cbRecord);
+        m_cbLive -= cbRecord;
+
+        if (slab.getLiveBytes() == 0 && slab != m_slabCurrent)
+            {
+            freeSlab(nSlab, slab);
+            }
+        }
+
+    /**
+     * Return the specified slab to the manager.
+     *
+     * @param nSlab  the slab id
+     * @param slab   the slab
+     */
+    protected void freeSlab(int nSlab, Slab slab)
+        {
+        m_cbWritten -= slab.getWriteOffset();
+        m_cbLive    -= slab.getLiveBytes();
+        m_cSlabs--;
+
+        f_listSlab.set(nSlab, null);
+        f_dequeFreeId.addFirst(nSlab);
+        f_manager.releaseSlab(slab);
+        }
+
+    /**
+     * Release all slabs held by this store.
+     */
+    protected void releaseAll()
+        {
+        List<Slab> listSlab = f_listSlab;
+        for (Slab slab : listSlab)
+            {
+            if (slab != null)
+                {
+                f_manager.releaseSlab(slab);
+                }
+            }
+
+        listSlab.clear();
+        f_dequeFreeId.clear();
+
+        m_slabCurrent  = null;
+        m_nSlabCurrent = 0;
+        m_cSlabs       = 0;
+        m_cbWritten    = 0L;
+        m_cbLive       = 0L;
+        }
+
+    /**
+     * Return the slab holding the record with the specified ticket.
+     *
+     * @param lTicket  the ticket
+     *
+     * @return the slab
+     */
+    protected Slab getSlab(long lTicket)
+        {
+        return f_listSlab.get(getSlabId(lTicket));
+        }
+
+    /**
+     * Read the key of the record with the specified ticket.
+     *
+     * @param lTicket  the ticket
+     *
+     * @return the key
+     */
+    protected Binary readKey(long lTicket)
+        {
+        ByteBuffer buf = getSlab(lTicket).getBuffer();
+        int        of  = getOffset(lTicket);
+
+        return new ByteBufferReadBuffer(buf.slice(of + HEADER_SIZE, buf.getInt(of + 4))).toBinary();
+        }
+
+    /**
+     * Return true iff the record with the specified ticket has the specified
+     * key.
+     *
+     * @param lTicket  the ticket
+     * @param binKey   the key
+     *
+     * @return true iff the keys are equal
+     */
+    protected boolean keyEquals(long lTicket, Binary binKey)
+        {
+        ByteBuffer buf   = getSlab(lTicket).getBuffer();
+        int        of    = getOffset(lTicket);
+        int        cbKey = buf.getInt(of + 4);
+
+        if (cbKey != binKey.length())
+            {
+            return false;
+            }
+
+        for (int i = 0, ofKey = of + HEADER_SIZE; i < cbKey; i++)
+            {
+            if (buf.get(ofKey + i) != binKey.byteAt(i))
+                {
+                return false;
+                }
+            }
+        return true;
+        }
+
+    /**
+     * Ensure that this store has not been disposed.
+     */
+    protected void ensureActive()
+        {
+        if (m_fDisposed)
+            {
+            throw new IllegalStateException("JournalBinaryStore has been disposed");
+            }
+        }
+
+    // ----- index helpers --------------------------------------------------
+
+    /**
+     * Initialize an empty index of the specified capacity.
+     *
+     * @param cCapacity  the capacity (a power of two)
+     */
+    protected void initIndex(int cCapacity)
+        {
+        m_alTicket = new long[cCapacity];
+        m_anHash   = new int[cCapacity];
+        m_cEntries = 0;
+        }
+
+    /**
+     * Find the index slot for the specified key.
+     *
+     * @param binKey  the key
+     * @param nHash   the key hash
+     *
+     * @return the slot, or -1 if the key is not present
+     */
+    protected int findSlot(Binary binKey, int nHash)
+        {
+        long[] alTicket = m_alTicket;
+        int[]  anHash   = m_anHash;
+        int    nMask    = alTicket.length - 1;
+
+        for (int i = nHash & nMask; ; i = (i + 1) & nMask)
+            {
+            long lTicket = alTicket[i];
+            if (lTicket == 0L)
+                {
+                return -1;
+                }
+            if (anHash[i] == nHash && keyEquals(lTicket, binKey))
+                {
+                return i;
+                }
+            }
+        }
+
+    /**
+     * Insert a new ticket into the index, growing it if necessary.
+     *
+     * @param lTicket  the ticket
+     * @param nHash    the key hash
+     */
+    protected void insertSlot(long lTicket, int nHash)
+        {
+        if ((m_cEntries + 1) * 4L > m_alTicket.length * 3L)
+            {
+            resizeIndex(m_alTicket.length << 1);
+            }
+
+        placeSlot(m_alTicket, m_anHash, lTicket, nHash);
+        m_cEntries++;
+        }
+
+    /**
+     * Place a ticket into the first free slot of the specified arrays.
+     *
+     * @param alTicket  the ticket array
+     * @param anHash    the hash array
+     * @param lTicket   the ticket
+     * @param nHash     the key hash
+     */
+    protected static void placeSlot(long[] alTicket, int[] anHash, long lTicket, int nHash)
+        {
+        int nMask = alTicket.length - 1;
+        int i     = nHash & nMask;
+        while (alTicket[i] != 0L)
+            {
+            i = (i + 1) & nMask;
+            }
+        alTicket[i] = lTicket;
+        anHash[i]   = nHash;
+        }
+
+    /**
+     * Remove the specified slot using backward-shift deletion, which keeps
+     * the linear probe sequences intact without tombstones.
+     *
+     * @param iSlot  the slot to remove
+     */
+    protected void removeSlot(int iSlot)
+        {
+        long[] alTicket = m_alTicket;
+        int[]  anHash   = m_anHash;
+        int    nMask    = alTicket.length - 1;
+        int    i        = iSlot;
+
+        for (int j = (i + 1) & nMask; alTicket[j] != 0L; j = (j + 1) & nMask)
+            {
+            int k = anHash[j] & nMask;
+
+            // the entry at j can be moved into the hole at i iff its home
+            // slot k does not lie cyclically within (i, j]
+            boolean fStay = i <= j ? (i < k && k <= j) : (i < k || k <= j);
+            if (!fStay)
+                {
+                alTicket[i] = alTicket[j];
+                anHash[i]   = anHash[j];
+                i = j;
+                }
+            }
+
+        alTicket[i] = 0L;
+        anHash[i]   = 0;
+        m_cEntries--;
+
+        if (alTicket.length > MIN_INDEX_CAPACITY && m_cEntries * 8L < alTicket.length)
+            {
+            resizeIndex(alTicket.length >> 1);
+            }
+        }
+
+    /**
+     * Rehash the index into arrays of the specified capacity.
+     *
+     * @param cCapacity  the new capacity (a power of two)
+     */
+    protected void resizeIndex(int cCapacity)
+        {
+        long[] alTicketOld = m_alTicket;
+        int[]  anHashOld   = m_anHash;
+        long[] alTicketNew = new long[cCapacity];
+        int[]  anHashNew   = new int[cCapacity];
+
+        for (int i = 0, c = alTicketOld.length; i < c; i++)
+            {
+            long lTicket = alTicketOld[i];
+            if (lTicket != 0L)
+                {
+                placeSlot(alTicketNew, anHashNew, lTicket, anHashOld[i]);
+                }
+            }
+
+        m_alTicket = alTicketNew;
+        m_anHash   = anHashNew;
+        }
+
+    /**
+     * Compute the spread hash of the specified key.
+     *
+     * @param binKey  the key
+     *
+     * @return the hash
+     */
+    protected static int hash(Binary binKey)
+        {
+        int n = binKey.hashCode();
+        return n ^ (n >>> 16);
+        }
+
+    /**
+     * Encode a ticket for the specified slab id and offset.
+     *
+     * @param nSlab  the slab id
+     * @param of     the offset
+     *
+     * @return the ticket (never zero)
+     */
+    protected static long toTicket(int nSlab, int of)
+        {
+        return ((long) (nSlab + 1) << 32) | (of & 0xFFFFFFFFL);
+        }
+
+    /**
+     * Decode the slab id from a ticket.
+     *
+     * @param lTicket  the ticket
+     *
+     * @return the slab id
+     */
+    protected static int getSlabId(long lTicket)
+        {
+        return (int) (lTicket >>> 32) - 1;
+        }
+
+    /**
+     * Decode the offset from a ticket.
+     *
+     * @param lTicket  the ticket
+     *
+     * @return the offset
+     */
+    protected static int getOffset(long lTicket)
+        {
+        return (int) lTicket;
+        }
+
+    // ----- Object methods -------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+        {
+        return getClass().getSimpleName() + "{manager=" + f_manager.getName()
+               + ", size=" + m_cEntries
+               + ", slabs=" + m_cSlabs
+               + ", live=" + m_cbLive
+               + ", written=" + m_cbWritten + '}';
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The size of the record header.
+     */
+    protected static final int HEADER_SIZE = 12;
+
+    /**
+     * The minimum index capacity.
+     */
+    protected static final int MIN_INDEX_CAPACITY = 64;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The manager that slabs are allocated from.
+     */
+    protected final JournalBinaryStoreManager f_manager;
+
+    /**
+     * The lock protecting the index and the slabs.
+     */
+    protected final ReentrantReadWriteLock f_lock = new ReentrantReadWriteLock();
+
+    /**
+     * The slabs held by this store, indexed by slab id.
+     */
+    protected final List<Slab> f_listSlab = new ArrayList<>();
+
+    /**
+     * The slab ids available for reuse.
+     */
+    protected final Deque<Integer> f_dequeFreeId = new ArrayDeque<>();
+
+    /**
+     * The slab that records are currently appended to.
+     */
+    protected Slab m_slabCurrent;
+
+    /**
+     * The id of the current slab.
+     */
+    protected int m_nSlabCurrent;
+
+    /**
+     * The number of slabs held by this store.
+     */
+    protected volatile int m_cSlabs;
+
+    /**
+     * The index of record tickets; zero denotes an empty slot.
+     */
+    protected long[] m_alTicket;
+
+    /**
+     * The key hashes parallel to {@link #m_alTicket}.
+     */
+    protected int[] m_anHash;
+
+    /**
+     * The number of entries.
+     */
+    protected volatile int m_cEntries;
+
+    /**
+     * The number of bytes written to the slabs held by this store.
+     */
+    protected volatile long m_cbWritten;
+
+    /**
+     * The number of bytes occupied by live records.
+     */
+    protected volatile long m_cbLive;
+
+    /**
+     * True iff a compaction has been scheduled.
+     */
+    protected volatile boolean m_fCollectScheduled;
+
+    /**
+     * True iff this store has been disposed.
+     */
+    protected volatile boolean m_fDisposed;
+    }
@@ -0,0 +1,680 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.io.journal;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.coherence.config.Config;
+
+import com.tangosol.io.BinaryStore;
+import com.tangosol.io.BinaryStoreManager;
+
+import com.tangosol.util.Base;
+import com.tangosol.util.TaskDaemon;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+
+import java.nio.channels.FileChannel;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A {@link BinaryStoreManager} that creates {@link JournalBinaryStore}
+ * instances sharing a common pool of journal "slabs".
+ * <p>
+ * A slab is a fixed size {@link ByteBuffer} that records are appended to.
+ * Slabs are allocated from up to two tiers: a memory tier of (by default
+ * off-heap) buffers, and a file tier of memory-mapped files that is used once
+ * the memory tier has been exhausted. A "ram journal" manager uses the memory
+ * tier and overflows to the file tier, while a "flash journal" manager only
+ * uses the file tier.
+ * <p>
+ * The manager also owns the collector daemon that compacts the slabs of the
+ * stores it created in the background.
+ *
+ * @author coh  2026.10.16
+ * @since 15.0.0
+ */
+public class JournalBinaryStoreManager
+        implements BinaryStoreManager
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a JournalBinaryStoreManager.
+     *
+     * @param sName              the name of this manager (used for logging
+     *                           and the collector thread name)
+     * @param cbSlab             the size of a single slab
+     * @param cbMaxMemory        the maximum number of bytes allocated from
+     *                           the memory tier; zero disables the tier
+     * @param fOffHeap           true iff the memory tier should use direct
+     *                           (off-heap) buffers
+     * @param cbMaxFile          the maximum number of bytes allocated from
+     *                           the file tier; zero disables the tier
+     * @param fileDir            the directory for the file tier, or null to
+     *                           use the default temporary directory
+     * @param dflMinLoadFactor   the ratio of live data below which a slab is
+     *                           eligible for compaction
+     */
+    public JournalBinaryStoreManager(String sName, int cbSlab, long cbMaxMemory, boolean fOffHeap,
+            long cbMaxFile, File fileDir, double dflMinLoadFactor)
+        {
+        if (cbSlab < MIN_SLAB_SIZE)
+            {
+            throw new IllegalArgumentException("slab size must be at least " + MIN_SLAB_SIZE + " bytes: " + cbSlab);
+            }
+        if (cbMaxMemory <= 0L && cbMaxFile <= 0L)
+            {
+            throw new IllegalArgumentException("at least one journal tier must be enabled");
+            }
+        if (dflMinLoadFactor <= 0.0 || dflMinLoadFactor >= 1.0)
+            {
+            throw new IllegalArgumentException("minimum load factor must be between 0 and 1: " + dflMinLoadFactor);
+            }
+
+        f_sName            = sName;
+        f_cbSlab           = cbSlab;
+        f_cbMaxMemory      = Math.max(0L, cbMaxMemory);
+        f_fOffHeap         = fOffHeap;
+        f_cbMaxFile        = Math.max(0L, cbMaxFile);
+        f_fileDir          = fileDir;
+        f_dflMinLoadFactor = dflMinLoadFactor;
+        }
+
+    // ----- BinaryStoreManager interface -----------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BinaryStore createBinaryStore()
+        {
+        return new JournalBinaryStore(this);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void destroyBinaryStore(BinaryStore store)
+        {
+        ((JournalBinaryStore) store).dispose();
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the name of this manager.
+     *
+     * @return the name of this manager
+     */
+    public String getName()
+        {
+        return f_sName;
+        }
+
+    /**
+     * Return the size of a regular slab.
+     *
+     * @return the slab size in bytes
+     */
+    public int getSlabSize()
+        {
+        return f_cbSlab;
+        }
+
+    /**
+     * Return the ratio of live data below which a slab is compacted.
+     *
+     * @return the minimum load factor
+     */
+    public double getMinLoadFactor()
+        {
+        return f_dflMinLoadFactor;
+        }
+
+    /**
+     * Return the number of bytes currently allocated from the memory tier,
+     * including pooled slabs.
+     *
+     * @return the number of bytes allocated from the memory tier
+     */
+    public synchronized long getMemoryBytes()
+        {
+        return m_cbMemory;
+        }
+
+    /**
+     * Return the number of bytes currently allocated from the file tier.
+     *
+     * @return the number of bytes allocated from the file tier
+     */
+    public synchronized long getFileBytes()
+        {
+        return m_cbFile;
+        }
+
+    // ----- slab management ------------------------------------------------
+
+    /**
+     * Allocate a slab capable of holding at least the specified number of
+     * bytes. Regular slabs are served from the pool of released slabs first,
+     * then from the memory tier and finally from the file tier.
+     *
+     * @param cbMin  the minimum capacity of the slab
+     *
+     * @return a new slab
+     *
+     * @throws IllegalStateException if all tiers are exhausted
+     */
+    protected synchronized Slab allocateSlab(int cbMin)
+        {
+        int cb = Math.max(cbMin, f_cbSlab);
+
+        if (cb == f_cbSlab)
+            {
+            Slab slab = f_dequePool.pollFirst();
+            if (slab != null)
+                {
+                slab.reset();
+                return slab;
+                }
+            }
+
+        if (m_cbMemory + cb <= f_cbMaxMemory)
+            {
+            m_cbMemory += cb;
+            return new Slab(f_fOffHeap ? ByteBuffer.allocateDirect(cb) : ByteBuffer.allocate(cb), null, false);
+            }
+
+        if (m_cbFile + cb <= f_cbMaxFile)
+            {
+            Slab slab = allocateMappedSlab(cb);
+            m_cbFile += cb;
+            return slab;
+            }
+
+        throw new IllegalStateException("Journal \"" + f_sName + "\" is full; memory="
+                + m_cbMemory + '/' + f_cbMaxMemory + ", file=" + m_cbFile + '/' + f_cbMaxFile);
+        }
+
+    /**
+     * Release a slab that is no longer used by a store.
+     *
+     * @param slab  the slab to release
+     */
+    protected synchronized void releaseSlab(Slab slab)
+        {
+        int cb = slab.getCapacity();
+
+        if (slab.isMapped())
+            {
+            slab.close();
+            m_cbFile -= cb;
+            }
+        else if (cb == f_cbSlab && f_dequePool.size() < MAX_POOLED_SLABS)
+            {
+            f_dequePool.addFirst(slab);
+            }
+        else
+            {
+            m_cbMemory -= cb;
+            }
+        }
+
+    /**
+     * Create a slab backed by a new memory-mapped temporary file.
+     *
+     * @param cb  the size of the slab
+     *
+     * @return the new slab
+     */
+    protected Slab allocateMappedSlab(int cb)
+        {
+        try
+            {
+            File fileDir = f_fileDir;
+            if (fileDir != null && !fileDir.exists() && !fileDir.mkdirs())
+                {
+                throw new IOException("unable to create journal directory " + fileDir);
+                }
+
+            File file = File.createTempFile("coherence-journal-", ".slab", fileDir);
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+                {
+                raf.setLength(cb);
+                // the mapping remains valid after the channel is closed
+                MappedByteBuffer buf = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0L, cb);
+
+                // remove the file right away so that it does not outlive
+                // this process; on platforms that do not allow removing a
+                // mapped file it is removed when the slab is released
+                return new Slab(buf, file.delete() ? null : file, true);
+                }
+            catch (IOException e)
+                {
+                file.delete();
+                throw e;
+                }
+            }
+        catch (IOException e)
+            {
+            throw Base.ensureRuntimeException(e, "Journal \"" + f_sName + "\" failed to allocate a file slab");
+            }
+        }
+
+    // ----- collector ------------------------------------------------------
+
+    /**
+     * Schedule the compaction of the specified store on the collector daemon.
+     *
+     * @param store  the store to compact
+     */
+    protected void scheduleCollection(JournalBinaryStore store)
+        {
+        getCollector().executeTask(() ->
+            {
+            try
+                {
+                store.compact();
+                }
+            catch (Throwable t)
+                {
+                Logger.err("Journal \"" + f_sName + "\" compaction failed", t);
+                }
+            });
+        }
+
+    /**
+     * Return the collector daemon, starting it if necessary.
+     *
+     * @return the collector daemon
+     */
+    protected synchronized TaskDaemon getCollector()
+        {
+        TaskDaemon daemon = m_daemonCollector;
+        if (daemon == null)
+            {
+            m_daemonCollector = daemon = new TaskDaemon("JournalCollector:" + f_sName,
+                    Thread.NORM_PRIORITY, true, false, COLLECTOR_IDLE_MILLIS);
+            }
+        return daemon;
+        }
+
+    // ----- Object methods -------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+        {
+        return getClass().getSimpleName() + "{name=" + f_sName
+               + ", slab=" + f_cbSlab
+               + ", memory=" + getMemoryBytes() + '/' + f_cbMaxMemory
+               + ", file=" + getFileBytes() + '/' + f_cbMaxFile
+               + ", minLoadFactor=" + f_dflMinLoadFactor + '}';
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Return the shared manager used by {@code ramjournal-scheme} backing
+     * maps.
+     *
+     * @return the shared ram journal manager
+     */
+    public static synchronized JournalBinaryStoreManager getRamJournalManager()
+        {
+        JournalBinaryStoreManager manager = s_managerRam;
+        if (manager == null)
+            {
+            long cbMaxMemory = Config.getMemorySize("coherence.journal.ram.maximum-size",
+                    String.valueOf(Runtime.getRuntime().maxMemory() / 4)).getByteCount();
+
+            s_managerRam = manager = new JournalBinaryStoreManager("RamJournal",
+                    getConfiguredSlabSize(),
+                    cbMaxMemory,
+                    Config.getBoolean("coherence.journal.ram.off-heap", true),
+                    getConfiguredFileSize(),
+                    getConfiguredDirectory(),
+                    getConfiguredMinLoadFactor());
+            }
+        return manager;
+        }
+
+    /**
+     * Return the shared manager used by {@code flashjournal-scheme} backing
+     * maps.
+     *
+     * @return the shared flash journal manager
+     */
+    public static synchronized JournalBinaryStoreManager getFlashJournalManager()
+        {
+        JournalBinaryStoreManager manager = s_managerFlash;
+        if (manager == null)
+            {
+            s_managerFlash = manager = new JournalBinaryStoreManager("FlashJournal",
+                    getConfiguredSlabSize(),
+                    0L,
+                    false,
+                    getConfiguredFileSize(),
+                    getConfiguredDirectory(),
+                    getConfiguredMinLoadFactor());
+            }
+        return manager;
+        }
+
+    /**
+     * Return the configured slab size.
+     *
+     * @return the configured slab size
+     */
+    private static int getConfiguredSlabSize()
+        {
+        return (int) Math.min(Integer.MAX_VALUE,
+                Config.getMemorySize("coherence.journal.slab-size", "8MB").getByteCount());
+        }
+
+    /**
+     * Return the configured capacity of the file tier.
+     *
+     * @return the configured file tier capacity
+     */
+    private static long getConfiguredFileSize()
+        {
+        return Config.getMemorySize("coherence.journal.flash.maximum-size", "64GB").getByteCount();
+        }
+
+    /**
+     * Return the configured file tier directory.
+     *
+     * @return the configured directory or null
+     */
+    private static File getConfiguredDirectory()
+        {
+        String sDir = Config.getProperty("coherence.journal.flash.directory");
+        return sDir == null || sDir.isEmpty() ? null : new File(sDir);
+        }
+
+    /**
+     * Return the configured minimum load factor.
+     *
+     * @return the configured minimum load factor
+     */
+    private static double getConfiguredMinLoadFactor()
+        {
+        return Config.getDouble("coherence.journal.minimum-load-factor", DEFAULT_MIN_LOAD_FACTOR);
+        }
+
+    // ----- inner class: Slab ----------------------------------------------
+
+    /**
+     * A Slab is a fixed capacity buffer that journal records are appended to.
+     * <p>
+     * Slabs are not thread-safe; all mutations are performed by the owning
+     * {@link JournalBinaryStore} while holding its write lock.
+     */
+    protected static class Slab
+        {
+        /**
+         * Construct a Slab over the specified buffer.
+         *
+         * @param buf      the buffer
+         * @param file     the mapped file to remove once the slab is
+         *                 released, or null
+         * @param fMapped  true iff the buffer is a memory-mapped file
+         */
+        protected Slab(ByteBuffer buf, File file, boolean fMapped)
+            {
+            f_buf     = buf;
+            f_file    = file;
+            f_fMapped = fMapped;
+            }
+
+        /**
+         * Return the underlying buffer.
+         *
+         * @return the underlying buffer
+         */
+        public ByteBuffer getBuffer()
+            {
+            return f_buf;
+            }
+
+        /**
+         * Return the capacity of this slab.
+         *
+         * @return the capacity in bytes
+         */
+        public int getCapacity()
+            {
+            return f_buf.capacity();
+            }
+
+        /**
+         * Return true iff this slab is backed by a memory-mapped file.
+         *
+         * @return true iff this slab is memory-mapped
+         */
+        public boolean isMapped()
+            {
+            return f_fMapped;
+            }
+
+        /**
+         * Return the offset at which the next record will be written.
+         *
+         * @return the write offset
+         */
+        public int getWriteOffset()
+            {
+            return m_ofWrite;
+            }
+
+        /**
+         * Return the number of bytes occupied by live records.
+         *
+         * @return the number of live bytes
+         */
+        public int getLiveBytes()
+            {
+            return m_cbLive;
+            }
+
+        /**
+         * Return the ratio of live bytes to written bytes.
+         *
+         * @return the load factor of this slab
+         */
+        public double getLoadFactor()
+            {
+            int ofWrite = m_ofWrite;
+            return ofWrite == 0 ? 1.0 : ((double) m_cbLive) / ofWrite;
+            }
+
+        /**
+         * Return the number of bytes remaining in this slab.
+         *
+         * @return the number of free bytes
+         */
+        public int getFreeBytes()
+            {
+            return f_buf.capacity() - m_ofWrite;
+            }
+
+        /**
+         * Reserve the specified number of bytes for a new live record.
+         *
+         * @param cb  the record size
+         *
+         * @return the offset of the reserved region
+         */
+        public int reserve(int cb)
+            {
+            int of = m_ofWrite;
+            m_ofWrite = of + cb;
+            m_cbLive += cb;
+            return of;
+            }
+
+        /**
+         * Mark the specified number of bytes as no longer live.
+         *
+         * @param cb  the size of the released record
+         */
+        public void release(int cb)
+            {
+            m_cbLive -= cb;
+            }
+
+        /**
+         * Reset the slab so that it can be reused.
+         */
+        protected void reset()
+            {
+            m_ofWrite = 0;
+            m_cbLive  = 0;
+            }
+
+        /**
+         * Remove the file backing a mapped slab, unless it was already
+         * removed once it was mapped.
+         */
+        protected void close()
+            {
+            File file = f_file;
+            if (file != null && !file.delete())
+                {
+                Logger.fine("Journal failed to remove " + file);
+                }
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The buffer.
+         */
+        private final ByteBuffer f_buf;
+
+        /**
+         * The mapped file that is yet to be removed, or null.
+         */
+        private final File f_file;
+
+        /**
+         * True iff the buffer is a memory-mapped file.
+         */
+        private final boolean f_fMapped;
+
+        /**
+         * The write offset.
+         */
+        private int m_ofWrite;
+
+        /**
+         * The number of live bytes.
+         */
+        private int m_cbLive;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The minimum slab size.
+     */
+    public static final int MIN_SLAB_SIZE = 64 * 1024;
+
+    /**
+     * The default minimum load factor.
+     */
+    public static final double DEFAULT_MIN_LOAD_FACTOR = 0.5;
+
+    /**
+     * The maximum number of released memory slabs kept for reuse.
+     */
+    protected static final int MAX_POOLED_SLABS = 16;
+
+    /**
+     * The idle timeout of the collector daemon.
+     */
+    protected static final int COLLECTOR_IDLE_MILLIS = 60_000;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The shared ram journal manager.
+     */
+    private static JournalBinaryStoreManager s_managerRam;
+
+    /**
+     * The shared flash journal manager.
+     */
+    private static JournalBinaryStoreManager s_managerFlash;
+
+    /**
+     * The manager name.
+     */
+    private final String f_sName;
+
+    /**
+     * The regular slab size.
+     */
+    private final int f_cbSlab;
+
+    /**
+     * The capacity of the memory tier.
+     */
+    private final long f_cbMaxMemory;
+
+    /**
+     * True iff memory slabs are off-heap.
+     */
+    private final boolean f_fOffHeap;
+
+    /**
+     * The capacity of the file tier.
+     */
+    private final long f_cbMaxFile;
+
+    /**
+     * The file tier directory.
+     */
+    private final File f_fileDir;
+
+    /**
+     * The ratio of live data below which a slab is compacted.
+     */
+    private final double f_dflMinLoadFactor;
+
+    /**
+     * The pool of released memory slabs.
+     */
+    private final Deque<Slab> f_dequePool = new ArrayDeque<>();
+
+    /**
+     * The number of bytes allocated from the memory tier.
+     */
+    private long m_cbMemory;
+
+    /**
+     * The number of bytes allocated from the file tier.
+     */
+    private long m_cbFile;
+
+    /**
+     * The collector daemon.
+     */
+    private TaskDaemon m_daemonCollector;
+    }
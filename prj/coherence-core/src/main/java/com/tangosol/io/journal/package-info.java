@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -7,8 +7,12 @@
 
 /**
  * Contains classes related to the journaling services.
+ * <p>
+ * The {@link com.tangosol.io.journal.JournalBinaryStore} is a log-structured
+ * {@link com.tangosol.io.BinaryStore} that keeps binary keys and values in
+ * off-heap or memory-mapped slabs, and is used by the
+ * {@code ramjournal-scheme} and {@code flashjournal-scheme} backing maps.
  *
  * @since 3.7
  */
 package com.tangosol.io.journal;
-
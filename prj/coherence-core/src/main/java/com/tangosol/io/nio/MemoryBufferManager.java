@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.io.nio;
+
+
+import java.nio.ByteBuffer;
+
+
+/**
+* Manages a ByteBuffer in memory, either on the Java heap or off-heap (in
+* direct memory).
+* <p>
+* When the buffer is resized, a new buffer is allocated and the contents of
+* the old buffer, up to the capacity of the new buffer, are copied into it.
+* Direct buffers are released when they are garbage collected and count
+* against the limit set by <tt>-XX:MaxDirectMemorySize</tt>.
+*
+* @see ByteBuffer#allocate(int)
+* @see ByteBuffer#allocateDirect(int)
+*
+* @author coh  2026.10.16
+*
+* @since 15.0.0
+*/
+public class MemoryBufferManager
+        extends AbstractBufferManager
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+    * Construct a MemoryBufferManager that supports a buffer of a certain
+    * initial and maximum size.
+    *
+    * @param cbInitial  the initial size
+    * @param cbMaximum  the maximum size
+    * @param fOffHeap   true to allocate the buffer in direct memory; false
+    *                   to allocate it on the Java heap
+    */
+    public MemoryBufferManager(int cbInitial, int cbMaximum, boolean fOffHeap)
+        {
+        super(cbInitial, cbMaximum);
+        f_fOffHeap = fOffHeap;
+        allocateBuffer();
+        }
+
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+    * Determine whether the buffer is allocated in direct memory.
+    *
+    * @return true if the buffer is allocated off-heap
+    */
+    public boolean isOffHeap()
+        {
+        return f_fOffHeap;
+        }
+
+
+    // ----- internal -------------------------------------------------------
+
+    /**
+    * Allocate a new buffer, copying old data if there is any.
+    */
+    protected void allocateBuffer()
+        {
+        ByteBuffer bufferOld = getBuffer();
+        int        cbNew     = getCapacity();
+
+        if (bufferOld == null || bufferOld.capacity() != cbNew)
+            {
+            ByteBuffer bufferNew = f_fOffHeap
+                    ? ByteBuffer.allocateDirect(cbNew)
+                    : ByteBuffer.allocate(cbNew);
+
+            if (bufferOld != null)
+                {
+                ByteBuffer bufferCopy = bufferOld.duplicate();
+                bufferCopy.clear().limit(Math.min(bufferOld.capacity(), cbNew));
+                bufferNew.put(bufferCopy).clear();
+                }
+
+            setBuffer(bufferNew);
+            }
+        }
+
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+    * Default minimum size for a memory buffer.
+    */
+    public static final int DEFAULT_MIN_SIZE = 0x10000;
+
+    /**
+    * Default maximum size for a memory buffer.
+    */
+    public static final int DEFAULT_MAX_SIZE = Integer.MAX_VALUE;
+
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+    * True if the buffer is allocated in direct memory.
+    */
+    private final boolean f_fOffHeap;
+    }
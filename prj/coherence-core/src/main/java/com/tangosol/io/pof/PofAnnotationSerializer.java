@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -169,6 +169,25 @@ public class PofAnnotationSerializer<T>
         return value;
         }
 
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the POF index of the specified attribute of the class this
+     * serializer (de)serializes.
+     *
+     * @param sName  the name of the attribute
+     *
+     * @return the POF index of the attribute, or -1 if the class does not
+     *         have a portable attribute with the specified name
+     *
+     * @since 15.0.0
+     */
+    public int getAttributeIndex(String sName)
+        {
+        TypeMetadata.AttributeMetadata<T> attr = m_tmd.getAttribute(sName);
+        return attr == null ? -1 : attr.getIndex();
+        }
+
     // ----- helpers --------------------------------------------------------
 
     /**
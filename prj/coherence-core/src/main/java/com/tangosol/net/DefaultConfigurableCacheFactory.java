@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -29,6 +29,8 @@ import com.tangosol.io.ClassLoaderAware;
 
 import com.tangosol.io.bdb.BerkeleyDBBinaryStoreManager;
 
+import com.tangosol.io.journal.JournalBinaryStoreManager;
+
 import com.tangosol.io.nio.BinaryMap;
 import com.tangosol.io.nio.BinaryMapStore;
 import com.tangosol.io.nio.ByteBufferManager;
@@ -2278,6 +2280,7 @@ public class DefaultConfigurableCacheFactory
             int    nEvictionType = sEvictionType.equalsIgnoreCase("HYBRID") ? LocalCache.EVICTION_POLICY_HYBRID
                                  : sEvictionType.equalsIgnoreCase("LRU")    ? LocalCache.EVICTION_POLICY_LRU
                                  : sEvictionType.equalsIgnoreCase("LFU")    ? LocalCache.EVICTION_POLICY_LFU
+                                 : sEvictionType.equalsIgnoreCase("SAMPLED") ? LocalCache.EVICTION_POLICY_SAMPLED
                                  :                                            Integer.MIN_VALUE;
 
             if (nEvictionType >= 0)
@@ -2873,7 +2876,8 @@ public class DefaultConfigurableCacheFactory
             XmlElement xmlJournal, BackingMapManagerContext context,
             ClassLoader loader)
         {
-        throw new UnsupportedOperationException("Elastic Data features are not supported in Coherence CE");
+        return instantiateJournalBackingMap(info, xmlJournal, context, loader,
+                JournalBinaryStoreManager.getFlashJournalManager());
         }
 
     /**
@@ -2890,7 +2894,66 @@ public class DefaultConfigurableCacheFactory
             XmlElement xmlJournal, BackingMapManagerContext context,
             ClassLoader loader)
         {
-        throw new UnsupportedOperationException("Elastic Data features are not supported in Coherence CE");
+        return instantiateJournalBackingMap(info, xmlJournal, context, loader,
+                JournalBinaryStoreManager.getRamJournalManager());
+        }
+
+    /**
+    * Create a backing Map using the "flashjournal-scheme" or
+    * "ramjournal-scheme" element, storing the entries in a BinaryStore
+    * created by the specified journal manager.
+    *
+    * @param info        the cache info
+    * @param xmlJournal  the journal scheme element
+    * @param context     BackingMapManagerContext to be used
+    * @param loader      the ClassLoader to instantiate necessary classes
+    * @param manager     the journal manager to create the BinaryStore with
+    *
+    * @return a newly instantiated Map
+    *
+    * @since 15.0.0
+    */
+    protected Map instantiateJournalBackingMap(CacheInfo info,
+            XmlElement xmlJournal, BackingMapManagerContext context,
+            ClassLoader loader, JournalBinaryStoreManager manager)
+        {
+        String      sSubclass     = xmlJournal.getSafeElement("class-name").getString();
+        int         cHighUnits    = (int) parseMemorySize(xmlJournal.getSafeElement("high-units").getString("0"));
+        int         cLowUnits     = (int) parseMemorySize(xmlJournal.getSafeElement("low-units" ).getString("0"));
+        int         cExpiryMillis = (int) parseTime(xmlJournal.getSafeElement("expiry-delay").getString("0"), UNIT_S);
+        boolean     fBinaryMap    = context != null && CacheService.TYPE_DISTRIBUTED.equals(context.getCacheService().getInfo().getServiceType());
+        BinaryStore store         = manager.createBinaryStore();
+
+        Map map = instantiateSerializationMap(store, fBinaryMap, loader,
+                cHighUnits, cExpiryMillis, sSubclass, xmlJournal.getElement("init-params"));
+        if (map instanceof SerializationCache)
+            {
+            SerializationCache cache = (SerializationCache) map;
+            if (cLowUnits > 0)
+                {
+                cache.setLowUnits(cLowUnits);
+                }
+
+            XmlElement xmlEviction = xmlJournal.getElement("eviction-policy");
+            XmlElement xmlClass    = xmlEviction == null ? null : xmlEviction.getElement("class-scheme");
+            if (xmlClass != null)
+                {
+                try
+                    {
+                    cache.setEvictionPolicy((ConfigurableCacheMap.EvictionPolicy)
+                        instantiateAny(info, xmlClass, context, loader));
+                    }
+                catch (Exception e)
+                    {
+                    throw Base.ensureRuntimeException(e,
+                            "Error instantiating custom eviction policy:\n"
+                            + xmlEviction);
+                    }
+                }
+
+            configureUnitCalculator(xmlJournal, cache, info, context, loader);
+            }
+        return map;
         }
 
     /**
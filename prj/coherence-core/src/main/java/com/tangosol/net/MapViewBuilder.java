@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -161,6 +161,45 @@ public class MapViewBuilder<K, V>
         return this;
         }
 
+    /**
+     * The form in which the resulting {@code view} holds its keys and values.
+     * <p></p>
+     * The {@link ContinuousQueryCache.StorageMode#BINARY BINARY} and
+     * {@link ContinuousQueryCache.StorageMode#OFF_HEAP OFF_HEAP} modes keep
+     * the view serialized, trading deserialization on access for a smaller
+     * memory footprint.
+     *
+     * @param mode  the {@link ContinuousQueryCache.StorageMode}
+     *
+     * @return this {@link MapViewBuilder}
+     *
+     * @since 15.0.0
+     */
+    public MapViewBuilder<K, V> storage(ContinuousQueryCache.StorageMode mode)
+        {
+        m_storageMode = mode;
+        return this;
+        }
+
+    /**
+     * The resulting {@code view} will receive the updates of the values it
+     * holds as binary deltas, rather than as entire values.
+     * <p></p>
+     * This reduces the network traffic for large values that change in part,
+     * provided the underlying cache holds its values in a serialized form.
+     *
+     * @return this {@link MapViewBuilder}
+     *
+     * @see ContinuousQueryCache#setDeltaEvents(boolean)
+     *
+     * @since 15.0.0
+     */
+    public MapViewBuilder<K, V> deltaEvents()
+        {
+        m_fDeltaEvents = true;
+        return this;
+        }
+
     /**
      * The optional {@link ClassLoader} to use when performing serialization/de-serialization operations.
      *
@@ -187,7 +226,13 @@ public class MapViewBuilder<K, V>
         NamedCache<K, V> view   = new ContinuousQueryCache(f_supplierNamedCache,
                                                            filter == null ? AlwaysFilter.INSTANCE : filter,
                                                            m_fCacheValues, m_listener, m_mapper,
-                                                           loader == null ? Base.getContextClassLoader(this) : loader);
+                                                           loader == null ? Base.getContextClassLoader(this) : loader,
+                                                           m_storageMode);
+
+        if (m_fDeltaEvents)
+            {
+            ((ContinuousQueryCache) view).setDeltaEvents(true);
+            }
 
         return m_comparator == null ? view : new OrderedView<>(view, m_comparator);
         }
@@ -235,4 +280,14 @@ public class MapViewBuilder<K, V>
      * The View's {@link ClassLoader}.
      */
     protected ClassLoader m_loader;
+
+    /**
+     * The form in which the {@code view} holds its keys and values.
+     */
+    protected ContinuousQueryCache.StorageMode m_storageMode = ContinuousQueryCache.StorageMode.OBJECT;
+
+    /**
+     * Flag controlling if the {@code view} receives updates as binary deltas.
+     */
+    protected boolean m_fDeltaEvents;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -163,6 +163,35 @@ public class ViewBuilder<K, V>
         return this;
         }
 
+    /**
+     * The form in which the resulting {@code view} holds its keys and values.
+     *
+     * @param mode  the {@link ContinuousQueryCache.StorageMode}
+     *
+     * @return this {@link ViewBuilder}
+     *
+     * @since 15.0.0
+     */
+    public ViewBuilder<K, V> storage(ContinuousQueryCache.StorageMode mode)
+        {
+        m_storageMode = mode;
+        return this;
+        }
+
+    /**
+     * The resulting {@code view} will receive the updates of the values it
+     * holds as binary deltas, rather than as entire values.
+     *
+     * @return this {@link ViewBuilder}
+     *
+     * @since 15.0.0
+     */
+    public ViewBuilder<K, V> deltaEvents()
+        {
+        m_fDeltaEvents = true;
+        return this;
+        }
+
     /**
      * The optional {@link ClassLoader} to use when performing serialization/de-serialization operations.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -16,6 +16,10 @@ import com.tangosol.io.ClassLoaderAware;
 import com.tangosol.io.Serializer;
 import com.tangosol.io.SerializerFactory;
 
+import com.tangosol.io.nio.BinaryMap;
+import com.tangosol.io.nio.ByteBufferManager;
+import com.tangosol.io.nio.MemoryBufferManager;
+
 import com.tangosol.net.AsyncNamedCache;
 import com.tangosol.net.AsyncNamedMap;
 import com.tangosol.net.CacheFactory;
@@ -27,6 +31,7 @@ import com.tangosol.net.NamedCache;
 
 import com.tangosol.util.AbstractKeySetBasedMap;
 import com.tangosol.util.AbstractMapListener;
+import com.tangosol.util.AbstractStableIterator;
 import com.tangosol.util.Binary;
 import com.tangosol.util.Converter;
 import com.tangosol.util.ConverterCollections;
@@ -50,10 +55,12 @@ import com.tangosol.util.ObservableMap;
 import com.tangosol.util.SafeHashMap;
 import com.tangosol.util.TaskDaemon;
 import com.tangosol.util.ValueExtractor;
+import com.tangosol.util.WrapperObservableMap;
 
 import com.tangosol.util.processor.AsynchronousProcessor;
 import com.tangosol.util.processor.ExtractorProcessor;
 
+import com.tangosol.util.transformer.DeltaEventTransformer;
 import com.tangosol.util.transformer.ExtractorEventTransformer;
 import com.tangosol.util.transformer.SemiLiteEventTransformer;
 
@@ -73,14 +80,18 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
@@ -346,6 +357,38 @@ public class ContinuousQueryCache<K, V_BACK, V_FRONT>
                                 ValueExtractor<? super V_BACK, ? extends V_FRONT> transformer,
                                 ClassLoader loader)
         {
+        this(supplierCache, filter, fCacheValues, listener, transformer, loader, StorageMode.OBJECT);
+        }
+
+    /**
+     * Create a materialized view of a {@link NamedCache} using a {@link Filter}
+     * that stores its keys and values in the specified {@link StorageMode}.
+     *
+     * @param supplierCache  a {@link Supplier} that returns a {@link NamedCache}
+     *                       with which the {@code ContinuousQueryCache} will be created.
+     *                       The Supplier <em>must</em> return a new instance each
+     *                       time {@link Supplier#get()} is called
+     * @param filter         the {@link Filter} that defines the view
+     * @param fCacheValues   pass {@code true} to cache both the keys and values of the
+     *                       materialized view locally, or {@code false} to only cache
+     *                       the keys. Override of {@code false} described in {@link #isCacheValues()}
+     * @param listener       an optional {@link MapListener} that will receive all
+     *                       events starting from the initialization of the
+     *                       {@code ContinuousQueryCache}
+     * @param transformer    an optional {@link ValueExtractor} that would be used to
+     *                       transform values retrieved from the underlying cache
+     *                       before storing them locally; if specified, this
+     *                       {@code ContinuousQueryCache} will become <em>read-only</em>
+     * @param loader         an optional {@link ClassLoader}
+     * @param mode           the {@link StorageMode} of the materialized view
+     *
+     * @since 15.0.0
+     */
+    public ContinuousQueryCache(Supplier<NamedCache<K, V_BACK>> supplierCache, Filter filter,
+                                boolean fCacheValues, MapListener<? super K, ? super V_FRONT> listener,
+                                ValueExtractor<? super V_BACK, ? extends V_FRONT> transformer,
+                                ClassLoader loader, StorageMode mode)
+        {
         NamedCache<K, V_BACK> cache = supplierCache.get();
         if (cache == null)
             {
@@ -365,6 +408,7 @@ public class ContinuousQueryCache<K, V_BACK, V_FRONT>
             }
 
         m_loader        = loader;
+        m_storageMode   = mode == null ? StorageMode.OBJECT : mode;
         f_supplierCache = supplierCache;
         m_cache         = ensureConverters(cache);
         m_filter        = filter;
@@ -530,6 +574,73 @@ public class ContinuousQueryCache<K, V_BACK, V_FRONT>
         return m_transformer != null;
         }
 
+    /**
+     * Return the {@link StorageMode} used to hold the materialized view.
+     *
+     * @return the {@link StorageMode} of this {@code ContinuousQueryCache}
+     *
+     * @since 15.0.0
+     */
+    public StorageMode getStorageMode()
+        {
+        return m_storageMode;
+        }
+
+    /**
+     * Determine if this {@code ContinuousQueryCache} receives the updates of the
+     * values it holds as binary deltas.
+     *
+     * @return {@code true} if updates are received as binary deltas
+     *
+     * @see DeltaEventTransformer
+     *
+     * @since 15.0.0
+     */
+    public boolean isDeltaEvents()
+        {
+        return m_fDeltaEvents;
+        }
+
+    /**
+     * Modify the delta events option for the {@code ContinuousQueryCache}.
+     * <p>
+     * If enabled, the storage members send the changes to the serialized form of
+     * an updated value, rather than the entire value, for the entries this
+     * {@code ContinuousQueryCache} already holds; the changes are then applied to
+     * the serialized value held locally. The option only has an effect if the
+     * underlying cache holds its values in a serialized form, values are cached
+     * locally, and there is no {@link #getTransformer() transformer}.
+     * <p>
+     * Should a change fail to apply, for example if an event has been missed, the
+     * affected entries are re-read from the underlying cache upon the next access
+     * to this {@code ContinuousQueryCache}.
+     *
+     * @param fDeltaEvents  pass {@code true} to receive updates as binary deltas
+     *
+     * @since 15.0.0
+     */
+    public synchronized void setDeltaEvents(boolean fDeltaEvents)
+        {
+        if (fDeltaEvents != m_fDeltaEvents)
+            {
+            MapEventFilter filterAdd   = m_filterAdd;
+            MapListener    listenerAdd = m_listenerAdd;
+            Filter         filterPrev  = filterAdd == null ? null : createTransformerFilter(filterAdd);
+            boolean        fDeltaPrev  = filterAdd != null && isDeltaEventFilter(filterAdd);
+
+            m_fDeltaEvents = fDeltaEvents;
+
+            if (filterPrev != null && listenerAdd != null && fDeltaPrev != isDeltaEventFilter(filterAdd))
+                {
+                // re-register the "add listener" with the new transformer before
+                // removing the previous registration, so no event is missed
+                NamedCache cache = getCache();
+                cache.addMapListener(listenerAdd, createTransformerFilter(filterAdd), !isCacheValues());
+                cache.removeMapListener(listenerAdd, filterPrev);
+                }
+            }
+        }
+
     /**
      * Determine if this {@code ContinuousQueryCache} disallows data modification
      * operations.
@@ -570,7 +681,27 @@ public class ContinuousQueryCache<K, V_BACK, V_FRONT>
      */
     protected ObservableMap<K, V_FRONT> instantiateInternalCache()
         {
-        return new ObservableHashMap<>();
+        StorageMode mode = getStorageMode();
+        if (mode == StorageMode.OBJECT)
+            {
+            return new ObservableHashMap<>();
+            }
+
+        // keys and values are held as Binary in a compact open hash map;
+        // keys are converted on access, while values are left serialized and
+        // deserialized lazily by ensureInflated() and the InternalMapListener
+        ObservableMap mapBinary = new WrapperObservableMap(new ViewBinaryMap(
+                new MemoryBufferManager(MemoryBufferManager.DEFAULT_MIN_SIZE,
+                        MemoryBufferManager.DEFAULT_MAX_SIZE, mode == StorageMode.OFF_HEAP)));
+
+        Converter convKeyUp   = this::fromInternal;
+        Converter convKeyDown = this::toInternal;
+        Converter convValUp   = value -> ((Binary) value).length() == 0 ? null : value;
+        Converter convValDown = value -> value == null
+                ? Binary.NO_BINARY
+                : value instanceof Binary ? value : toInternal(value);
+
+        return ConverterCollections.getObservableMap(mapBinary, convKeyUp, convKeyDown, convValUp, convValDown);
         }
 
     /**
@@ -613,6 +744,7 @@ public class ContinuousQueryCache<K, V_BACK, V_FRONT>
     protected ObservableMap<K, V_FRONT> getInternalCache()
         {
         ensureSynchronized(true);
+        resolveDeltaMisses();
         return m_mapLocal;
         }
 
@@ -1916,7 +2048,9 @@ public class ContinuousQueryCache<K, V_BACK, V_FRONT>
      * will either transform cache value using transformer defined for this
      * {@code ContinuousQueryCache}, or remove the old value from the event using
      * {@link SemiLiteEventTransformer}, if no transformer is defined for this
-     * {@code ContinuousQueryCache}.
+     * {@code ContinuousQueryCache}. If {@link #isDeltaEvents() delta events} are
+     * enabled and the values are cached, the {@link DeltaEventTransformer} is used
+     * instead of the {@link SemiLiteEventTransformer}.
      *
      * @param filterAdd  add {@link MapEventFilter} to wrap
      *
@@ -1925,9 +2059,29 @@ public class ContinuousQueryCache<K, V_BACK, V_FRONT>
     @SuppressWarnings("unchecked")
     protected Filter createTransformerFilter(MapEventFilter filterAdd)
         {
-        return new MapEventTransformerFilter(filterAdd, m_transformer == null
-                ? SemiLiteEventTransformer.INSTANCE
-                : new ExtractorEventTransformer(null, m_transformer));
+        return new MapEventTransformerFilter(filterAdd, m_transformer != null
+                ? new ExtractorEventTransformer(null, m_transformer)
+                : isDeltaEventFilter(filterAdd)
+                        ? new DeltaEventTransformer(getFilter())
+                        : SemiLiteEventTransformer.INSTANCE);
+        }
+
+    /**
+     * Determine if the events selected by the specified "add" {@link MapEventFilter}
+     * should be transformed by the {@link DeltaEventTransformer}.
+     *
+     * @param filterAdd  the add {@link MapEventFilter}
+     *
+     * @return {@code true} if the update events should carry binary deltas
+     *
+     * @since 15.0.0
+     */
+    protected boolean isDeltaEventFilter(MapEventFilter filterAdd)
+        {
+        // deltas are only useful if the updated values are held locally, and
+        // can only be applied to the serialized values held by a binary view
+        return m_fDeltaEvents && isBinaryNamedCache()
+               && (filterAdd.getEventMask() & MapEventFilter.E_UPDATED_WITHIN) != 0;
         }
 
     /**
@@ -2155,6 +2309,8 @@ public class ContinuousQueryCache<K, V_BACK, V_FRONT>
             {
             ContinuousQueryCache cqc  = ContinuousQueryCache.this;
             K                    oKey = evt.getKey();
+
+            cqc.onEventReceived(evt);
             if (!cqc.isEventDeferred(oKey))
                 {
                 // guard against possible NPE; one could theoretically occur
@@ -2163,11 +2319,49 @@ public class ContinuousQueryCache<K, V_BACK, V_FRONT>
                 Map<K, V_FRONT> map = cqc.m_mapLocal;
                 if (map != null)
                     {
-                    map.put(oKey, cqc.isCacheValues() ? evt.getNewValue() : null);
+                    Map<Object, Integer> mapMiss = cqc.m_mapDeltaMiss;
+                    if (mapMiss.isEmpty())
+                        {
+                        updateLocal(map, evt);
+                        }
+                    else
+                        {
+                        synchronized (mapMiss)
+                            {
+                            updateLocal(map, evt);
+                            }
+                        }
                     }
                 }
             }
 
+        /**
+         * Apply the specified event to the internal cache.
+         *
+         * @param map  the internal cache
+         * @param evt  the event
+         */
+        protected void updateLocal(Map<K, V_FRONT> map, MapEvent<K, V_FRONT> evt)
+            {
+            ContinuousQueryCache cqc    = ContinuousQueryCache.this;
+            K                    oKey   = evt.getKey();
+            Object               oValue = cqc.isCacheValues() ? evt.getNewValue() : null;
+
+            if (oValue != null && evt.getId() == MapEvent.ENTRY_UPDATED && cqc.isDeltaEvents())
+                {
+                oValue = cqc.applyDelta(oKey, oValue);
+                if (oValue == null)
+                    {
+                    // the delta could not be applied; the entry will be
+                    // re-read upon the next access
+                    return;
+                    }
+                }
+
+            map.put(oKey, (V_FRONT) oValue);
+            cqc.m_mapDeltaMiss.remove(oKey);
+            }
+
         /**
          * Produce a human-readable description of this object.
          *
@@ -2206,6 +2400,8 @@ public class ContinuousQueryCache<K, V_BACK, V_FRONT>
             {
             ContinuousQueryCache cqc  = ContinuousQueryCache.this;
             K                    oKey = evt.getKey();
+
+            cqc.onEventReceived(evt);
             if (!cqc.isEventDeferred(oKey))
                 {
                 // guard against possible NPE; one could theoretically occur
@@ -2214,7 +2410,19 @@ public class ContinuousQueryCache<K, V_BACK, V_FRONT>
                 Map<K, V_FRONT> map = cqc.m_mapLocal;
                 if (map != null)
                     {
-                    map.remove(oKey);
+                    Map<Object, Integer> mapMiss = cqc.m_mapDeltaMiss;
+                    if (mapMiss.isEmpty())
+                        {
+                        map.remove(oKey);
+                        }
+                    else
+                        {
+                        synchronized (mapMiss)
+                            {
+                            map.remove(oKey);
+                            mapMiss.remove(oKey);
+                            }
+                        }
                     }
                 }
             }
@@ -2922,11 +3130,177 @@ public class ContinuousQueryCache<K, V_BACK, V_FRONT>
         if (oInflated instanceof Binary)
             {
             oInflated = fromInternal(oInflated);
-            mapInternal.replace(oKey, oValue, oInflated);
+            // the serialized value is retained if it serves as the base of the
+            // binary deltas received with the update events
+            if (getStorageMode() == StorageMode.OBJECT && !isDeltaEvents())
+                {
+                mapInternal.replace(oKey, oValue, oInflated);
+                }
             }
         return (V_FRONT) oInflated;
         }
 
+    /**
+     * Apply the binary delta carried by an update event to the serialized value
+     * held by the internal cache.
+     *
+     * @param oKey    the key of the updated entry
+     * @param oValue  the new value carried by the event
+     *
+     * @return the new value, or {@code null} if the delta could not be applied
+     *
+     * @since 15.0.0
+     */
+    protected Object applyDelta(Object oKey, Object oValue)
+        {
+        if (!(oValue instanceof Binary) || !isBinaryNamedCache())
+            {
+            return oValue;
+            }
+
+        Object oNew = fromInternal(oValue);
+        if (!(oNew instanceof DeltaEventTransformer.Delta))
+            {
+            // a full value (e.g. sent by a storage member that does not
+            // delta-encode the values)
+            return oValue;
+            }
+
+        DeltaEventTransformer.Delta delta = (DeltaEventTransformer.Delta) oNew;
+
+        Object oOld   = m_mapLocal.get(oKey);
+        Binary binOld = oOld == null
+                ? null
+                : ExternalizableHelper.getUndecorated(oOld instanceof Binary ? (Binary) oOld : toInternal(oOld));
+
+        if (delta.isApplicable(binOld))
+            {
+            f_cDeltaEventsApplied.incrementAndGet();
+            return delta.apply(binOld);
+            }
+
+        // the value this delta applies to is not held locally (e.g. an event
+        // has been missed); record the key so that the entry is re-read
+        f_cDeltaEventsMissed.incrementAndGet();
+        m_mapDeltaMiss.merge(oKey, 1, Integer::sum);
+        return null;
+        }
+
+    /**
+     * Re-read the entries whose binary deltas could not be applied from the
+     * underlying cache.
+     *
+     * @since 15.0.0
+     */
+    protected void resolveDeltaMisses()
+        {
+        Map<Object, Integer> mapMiss = m_mapDeltaMiss;
+        if (mapMiss.isEmpty() || getState() != STATE_SYNCHRONIZED)
+            {
+            return;
+            }
+
+        NamedCache           cache       = getCache();
+        Map<Object, Integer> mapSnapshot = new HashMap<>(mapMiss);
+        Map                  mapValues   = cache.getAll(mapSnapshot.keySet());
+        Filter               filter      = getFilter();
+        Map                  mapLocal    = m_mapLocal;
+
+        synchronized (mapMiss)
+            {
+            for (Map.Entry<Object, Integer> entry : mapSnapshot.entrySet())
+                {
+                Object oKey = entry.getKey();
+
+                // skip the entries that have been updated (or missed again)
+                // since the snapshot was taken
+                if (mapMiss.remove(oKey, entry.getValue()))
+                    {
+                    Object  oValue  = mapValues.get(oKey);
+                    boolean fExists = oValue != null || mapValues.containsKey(oKey);
+
+                    if (fExists && InvocableMapHelper.evaluateEntry(filter, oKey, oValue))
+                        {
+                        mapLocal.put(oKey, oValue);
+                        }
+                    else
+                        {
+                        mapLocal.remove(oKey);
+                        }
+                    }
+                }
+            }
+        }
+
+    /**
+     * Update the event statistics for an event received from the underlying cache.
+     *
+     * @param evt  the event
+     *
+     * @since 15.0.0
+     */
+    protected void onEventReceived(MapEvent evt)
+        {
+        f_cEventsReceived.incrementAndGet();
+
+        Object oValue = evt.getNewValue();
+        if (oValue instanceof Binary)
+            {
+            f_cbEventsReceived.addAndGet(((Binary) oValue).length());
+            }
+        }
+
+    /**
+     * Return the number of events received from the underlying cache.
+     *
+     * @return the number of events received
+     *
+     * @since 15.0.0
+     */
+    public long getEventsReceived()
+        {
+        return f_cEventsReceived.get();
+        }
+
+    /**
+     * Return the total size (in bytes) of the serialized values carried by the
+     * events received from the underlying cache.
+     *
+     * @return the number of value bytes received with the events
+     *
+     * @since 15.0.0
+     */
+    public long getEventBytesReceived()
+        {
+        return f_cbEventsReceived.get();
+        }
+
+    /**
+     * Return the number of binary deltas applied to the values held locally.
+     *
+     * @return the number of binary deltas applied
+     *
+     * @since 15.0.0
+     */
+    public long getDeltaEventsApplied()
+        {
+        return f_cDeltaEventsApplied.get();
+        }
+
+    /**
+     * Return the number of binary deltas that could not be applied to the values
+     * held locally, and which caused the entries to be re-read from the
+     * underlying cache.
+     *
+     * @return the number of binary deltas that could not be applied
+     *
+     * @since 15.0.0
+     */
+    public long getDeltaEventsMissed()
+        {
+        return f_cDeltaEventsMissed.get();
+        }
+
     /**
      * Deserialize the provided {@link Binary} value.
      *
@@ -3027,7 +3401,7 @@ public class ContinuousQueryCache<K, V_BACK, V_FRONT>
         {
         azzert(m_converterFromBinary != null);
 
-        return m_converterFromBinary != NullImplementation.getConverter();
+        return m_fBinaryCache;
         }
 
     /**
@@ -3067,7 +3441,11 @@ public class ContinuousQueryCache<K, V_BACK, V_FRONT>
 
         if (convDown == null && convUp == null)
             {
-            if (isBinaryNamedCache(cacheLocal))
+            boolean fBinary = isBinaryNamedCache(cacheLocal);
+
+            // a compact view serializes keys and values to store them even
+            // when the underlying cache does not use Binary values
+            if (fBinary || m_storageMode != StorageMode.OBJECT)
                 {
                 ClassLoader  loader     = m_loader;
                 CacheService service    = cacheLocal.getCacheService();
@@ -3087,10 +3465,13 @@ public class ContinuousQueryCache<K, V_BACK, V_FRONT>
 
             // Note: value up converter is intentionally a no-op converter to avoid
             //       deserialization until it needs to be surfaced to the client
-            cacheLocal = ConverterCollections.getNamedCache(cacheLocal, convUp, convDown, convNull, convDown);
+            cacheLocal = fBinary
+                    ? ConverterCollections.getNamedCache(cacheLocal, convUp, convDown, convNull, convDown)
+                    : ConverterCollections.getNamedCache(cacheLocal, convNull, convNull, convNull, convNull);
 
             m_converterFromBinary = convUp;
             m_converterToBinary   = convDown;
+            m_fBinaryCache        = fBinary;
             }
         return cacheLocal;
         }
@@ -3111,6 +3492,114 @@ public class ContinuousQueryCache<K, V_BACK, V_FRONT>
                 sCacheName, filter, transformer);
         }
 
+    // ----- inner class: ViewBinaryMap -------------------------------------
+
+    /**
+     * A {@link BinaryMap} used to hold a compact materialized view.
+     * <p>
+     * The entries of the view are modified by the event dispatcher while
+     * clients iterate over it, so the key set iterates over a snapshot of
+     * the keys rather than over the live hash buckets, which would fail if
+     * the map were resized during the iteration.
+     *
+     * @since 15.0.0
+     */
+    protected static class ViewBinaryMap
+            extends BinaryMap
+        {
+        /**
+         * Construct a {@link ViewBinaryMap}.
+         *
+         * @param bufmgr  the {@link ByteBufferManager} that provides the buffer
+         */
+        protected ViewBinaryMap(ByteBufferManager bufmgr)
+            {
+            super(bufmgr);
+            }
+
+        @Override
+        protected KeySet instantiateKeySet()
+            {
+            return new SnapshotKeySet();
+            }
+
+        /**
+         * A key set that iterates over a snapshot of the keys.
+         */
+        protected class SnapshotKeySet
+                extends KeySet
+            {
+            @Override
+            public Iterator iterator()
+                {
+                Object[] aoKey = toArray();
+
+                return new AbstractStableIterator()
+                    {
+                    @Override
+                    protected void advance()
+                        {
+                        if (m_iKey < aoKey.length)
+                            {
+                            setNext(aoKey[m_iKey++]);
+                            }
+                        }
+
+                    @Override
+                    protected void remove(Object oPrev)
+                        {
+                        ViewBinaryMap.this.remove(oPrev);
+                        }
+
+                    private int m_iKey;
+                    };
+                }
+            }
+        }
+
+    // ----- inner enum: StorageMode ----------------------------------------
+
+    /**
+     * The form in which a {@code ContinuousQueryCache} holds its materialized view.
+     *
+     * @since 15.0.0
+     */
+    public enum StorageMode
+        {
+        /**
+         * Keys and values are held as deserialized objects in an
+         * {@link ObservableHashMap}; this is the default.
+         */
+        OBJECT,
+
+        /**
+         * Keys and values are held in their serialized {@link Binary} form in
+         * a compact open hash map on the Java heap. Values are deserialized
+         * on access and are not retained in their deserialized form.
+         */
+        BINARY,
+
+        /**
+         * As {@link #BINARY}, but the map is held in direct (off-heap) memory.
+         */
+        OFF_HEAP;
+
+        /**
+         * Return the {@link StorageMode} for the specified configuration
+         * value, one of {@code "object"}, {@code "binary"} or {@code "off-heap"}.
+         *
+         * @param sMode  the configuration value
+         *
+         * @return the {@link StorageMode}
+         *
+         * @throws IllegalArgumentException if the value is not a valid mode
+         */
+        public static StorageMode fromString(String sMode)
+            {
+            return valueOf(sMode.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            }
+        }
+
     // ----- constants ------------------------------------------------------
 
     /**
@@ -3292,6 +3781,13 @@ public class ContinuousQueryCache<K, V_BACK, V_FRONT>
      */
     protected Converter m_converterToBinary;
 
+    /**
+     * True if the underlying cache is configured to use {@link Binary} values.
+     *
+     * @since 15.0.0
+     */
+    protected boolean m_fBinaryCache;
+
     /**
      * The {@link ClassLoader} to use when de-serializing/serializing keys and values.
      *
@@ -3299,6 +3795,57 @@ public class ContinuousQueryCache<K, V_BACK, V_FRONT>
      */
     protected ClassLoader m_loader;
 
+    /**
+     * The {@link StorageMode} used to hold the materialized view.
+     *
+     * @since 15.0.0
+     */
+    protected StorageMode m_storageMode = StorageMode.OBJECT;
+
+    /**
+     * True if the update events carry binary deltas.
+     *
+     * @since 15.0.0
+     */
+    protected boolean m_fDeltaEvents;
+
+    /**
+     * The keys of the entries whose binary deltas could not be applied, and
+     * which must be re-read from the underlying cache, with the number of
+     * deltas missed for each.
+     *
+     * @since 15.0.0
+     */
+    protected final Map<Object, Integer> m_mapDeltaMiss = new ConcurrentHashMap<>();
+
+    /**
+     * The number of events received from the underlying cache.
+     *
+     * @since 15.0.0
+     */
+    protected final AtomicLong f_cEventsReceived = new AtomicLong();
+
+    /**
+     * The number of value bytes received with the events.
+     *
+     * @since 15.0.0
+     */
+    protected final AtomicLong f_cbEventsReceived = new AtomicLong();
+
+    /**
+     * The number of binary deltas applied.
+     *
+     * @since 15.0.0
+     */
+    protected final AtomicLong f_cDeltaEventsApplied = new AtomicLong();
+
+    /**
+     * The number of binary deltas that could not be applied.
+     *
+     * @since 15.0.0
+     */
+    protected final AtomicLong f_cDeltaEventsMissed = new AtomicLong();
+
     /**
      * Local {@link MapListenerSupport listener support} to allow the {@code ContinuousQueryCache} to intercept
      * all events dispatched by the internal {@link ObservableMap}.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -8,6 +8,8 @@
 package com.tangosol.net.cache;
 
 
+import com.tangosol.internal.util.FrequencySketch;
+
 import com.tangosol.util.Base;
 import com.tangosol.util.BitHelper;
 import com.tangosol.util.Filter;
@@ -39,6 +41,8 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
@@ -540,6 +544,9 @@ public class LocalCache
                 case EVICTION_POLICY_LFU:
                     policy = INSTANCE_LFU;
                     break;
+                case EVICTION_POLICY_SAMPLED:
+                    policy = INSTANCE_SAMPLED;
+                    break;
                 }
             }
 
@@ -1639,6 +1646,7 @@ public class LocalCache
             case EVICTION_POLICY_HYBRID:
             case EVICTION_POLICY_LRU:
             case EVICTION_POLICY_LFU:
+            case EVICTION_POLICY_SAMPLED:
                 policy = null;
                 break;
 
@@ -1668,6 +1676,9 @@ public class LocalCache
         m_nEvictionType = nType;
         m_policy        = policy;
         m_iterEvict     = null;
+        m_sketch        = nType == EVICTION_POLICY_SAMPLED
+                          ? new FrequencySketch(estimateCapacity())
+                          : null;
 
         if (policy instanceof MapListener)
             {
@@ -1996,6 +2007,29 @@ public class LocalCache
                 }
                 break;
 
+                case EVICTION_POLICY_SAMPLED:
+                {
+                FrequencySketch sketch = m_sketch;
+                sketch.ensureCapacity(estimateCapacity());
+
+                // evict the least frequently (and then least recently) used
+                // entry out of a small random sample, until the cache will
+                // drop to its low units; the cost is proportional to the
+                // number of evicted entries rather than to the cache size
+                for (int cMisses = 0; cRemEvict > 0L && cMisses < MAX_SAMPLE_MISSES; )
+                    {
+                    LocalCache.Entry entry = selectSampledVictim();
+                    int              cUnits = entry == null ? 0 : queueForEviction(entry, listEvict);
+
+                    if (cUnits == 0)
+                        {
+                        ++cMisses;
+                        }
+                    cRemEvict -= cUnits;
+                    }
+                }
+                break;
+
                 case EVICTION_POLICY_LRU:
                 case EVICTION_POLICY_LFU:
                 {
@@ -2062,7 +2096,7 @@ public class LocalCache
                 break;
                 }
 
-            if (!fLRU)
+            if (!fLRU && nType != EVICTION_POLICY_SAMPLED)
                 {
                 // reset touch counts
                 AtomicReferenceArray aeBucket = m_aeBucket;
@@ -2127,6 +2161,86 @@ public class LocalCache
         return cUnits;
         }
 
+    /**
+     * Select an eviction victim for the {@link #EVICTION_POLICY_SAMPLED
+     * sampled} eviction policy.
+     * <p>
+     * Up to {@link #SAMPLE_SIZE} entries that are not already queued for
+     * eviction are sampled, starting at a random bucket, and the one with
+     * the lowest estimated frequency of use is returned; ties are broken by
+     * the least recent use.
+     *
+     * @return the entry to evict, or null if no candidate could be found
+     *
+     * @since 15.0.0
+     */
+    protected LocalCache.Entry selectSampledVictim()
+        {
+        AtomicReferenceArray aeBucket = m_aeBucket;
+        int                  cBuckets = aeBucket.length();
+        int                  iBucket  = ThreadLocalRandom.current().nextInt(cBuckets);
+        LocalCache.Entry     victim   = null;
+        int                  nFreqMin = Integer.MAX_VALUE;
+        long                 ldtMin   = Long.MAX_VALUE;
+
+        for (int cSampled = 0, cScanned = 0; cSampled < SAMPLE_SIZE && cScanned < cBuckets; ++cScanned)
+            {
+            for (LocalCache.Entry entry = (LocalCache.Entry) aeBucket.get(iBucket);
+                 entry != null; entry = entry.getNext())
+                {
+                if (!entry.isEvictable())
+                    {
+                    int  nFreq = entry.getFrequency();
+                    long ldt   = entry.getLastTouchMillis();
+                    if (nFreq < nFreqMin || (nFreq == nFreqMin && ldt < ldtMin))
+                        {
+                        victim   = entry;
+                        nFreqMin = nFreq;
+                        ldtMin   = ldt;
+                        }
+                    ++cSampled;
+                    }
+                }
+
+            if (++iBucket == cBuckets)
+                {
+                iBucket = 0;
+                }
+            }
+
+        return victim;
+        }
+
+    /**
+     * Estimate the number of entries this cache will hold when full, which
+     * is used to size the frequency sketch of the sampled eviction policy.
+     * Unless each entry is one unit, the capacity is extrapolated from the
+     * average units of the current entries; it is never less than the
+     * current number of entries.
+     *
+     * @return the estimated capacity
+     *
+     * @since 15.0.0
+     */
+    protected long estimateCapacity()
+        {
+        long cEntries = super.size();
+        long cMax     = m_cMaxUnits;
+        if (cMax == Long.MAX_VALUE)
+            {
+            return cEntries;
+            }
+        if (m_nCalculatorType == UNIT_CALCULATOR_FIXED)
+            {
+            return Math.max(cMax, cEntries);
+            }
+
+        long cUnits = m_cCurUnits;
+        return cUnits > 0L
+               ? Math.max((long) ((double) cMax * cEntries / cUnits), cEntries)
+               : cEntries;
+        }
+
     /**
      * Incrementally evict some entries that were previously selected for
      * eviction.
@@ -2453,6 +2567,12 @@ public class LocalCache
             {
             scheduleExpiry();
 
+            FrequencySketch sketch = m_sketch;
+            if (sketch != null)
+                {
+                sketch.increment(m_nHash);
+                }
+
             // update units
             int        cNewUnits = calculateUnits(m_oValue);
             LocalCache map       = LocalCache.this;
@@ -2627,6 +2747,12 @@ public class LocalCache
             ++m_cUses;
             m_dtLastUse = getCurrentTimeMillis();
 
+            FrequencySketch sketch = m_sketch;
+            if (sketch != null)
+                {
+                sketch.increment(m_nHash);
+                }
+
             ConfigurableCacheMap.EvictionPolicy policy = LocalCache.this.m_policy;
             if (policy != null)
                 {
@@ -2646,6 +2772,22 @@ public class LocalCache
             return m_cUses;
             }
 
+        /**
+         * Determine the estimated frequency of use of this entry. For the
+         * sampled eviction policy this is the estimate recorded by the
+         * cache's frequency sketch, which survives the eviction and
+         * re-insertion of the key; otherwise it is the touch count.
+         *
+         * @return the estimated frequency of use
+         *
+         * @since 15.0.0
+         */
+        protected int getFrequency()
+            {
+            FrequencySketch sketch = m_sketch;
+            return sketch == null ? m_cUses : sketch.frequency(m_nHash);
+            }
+
         /**
          * Reset the number of times that the cache entry has been touched.
          * The touch count does not get reset to zero, but rather to a
@@ -3018,6 +3160,9 @@ public class LocalCache
                 case EVICTION_POLICY_LFU:
                     return "Internal-LFU";
 
+                case EVICTION_POLICY_SAMPLED:
+                    return "Internal-Sampled";
+
                 default:
                     throw new IllegalStateException();
                 }
@@ -3149,6 +3294,31 @@ public class LocalCache
      */
     public static final int    EVICTION_POLICY_EXTERNAL = 3;
 
+    /**
+     * The cache can prune based on a sampled eviction algorithm, which
+     * evicts the least frequently used entry out of a small random sample,
+     * using a TinyLFU frequency sketch to estimate the frequency of use.
+     * Unlike the other internal policies, the cost of pruning is proportional
+     * to the number of evicted entries rather than to the size of the cache.
+     *
+     * @since 15.0.0
+     */
+    public static final int    EVICTION_POLICY_SAMPLED  = 4;
+
+    /**
+     * The number of entries sampled to select a single eviction victim when
+     * using the {@link #EVICTION_POLICY_SAMPLED sampled} eviction policy.
+     *
+     * @since 15.0.0
+     */
+    public static final int    SAMPLE_SIZE              = 8;
+
+    /**
+     * The maximum number of unsuccessful victim selections before a sampled
+     * prune gives up.
+     */
+    private static final int   MAX_SAMPLE_MISSES        = 64;
+
     /**
      * Specifies the default unit calculator that weighs all entries equally
      * as 1.
@@ -3188,6 +3358,13 @@ public class LocalCache
      */
     public static final LocalCache.EvictionPolicy INSTANCE_LFU    = new LocalCache.InternalEvictionPolicy(EVICTION_POLICY_LFU);
 
+    /**
+     * The EvictionPolicy object for the sampled TinyLFU eviction algorithm.
+     *
+     * @since 15.0.0
+     */
+    public static final LocalCache.EvictionPolicy INSTANCE_SAMPLED = new LocalCache.InternalEvictionPolicy(EVICTION_POLICY_SAMPLED);
+
     /**
      * The UnitCalculator object that counts each entry as one unit.
      */
@@ -3322,6 +3499,13 @@ public class LocalCache
      */
     protected int m_cAvgTouch;
 
+    /**
+     * The frequency sketch used by the sampled eviction policy; null for all
+     * other eviction types.
+     * @since 15.0.0
+     */
+    protected volatile FrequencySketch m_sketch;
+
     /**
      * For deferred eviction, iterator of entries to evict. If null, then
      * there are no entries with deferred eviction.
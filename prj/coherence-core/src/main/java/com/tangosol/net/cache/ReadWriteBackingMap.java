@@ -60,8 +60,11 @@ import java.lang.reflect.Array;
 import java.util.AbstractCollection;
 import java.util.AbstractMap;
 import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -564,6 +567,83 @@ public class ReadWriteBackingMap
         m_cWriteMaxBatchSize = cWriteMaxBatchSize;
         }
 
+    /**
+    * Get the number of threads used to write the write-behind batches to
+    * the CacheStore.
+    *
+    * @return the number of write-behind flush threads
+    *
+    * @since 15.0.0
+    */
+    public int getWriteThreadCount()
+        {
+        return m_cWriteThreads;
+        }
+
+    /**
+    * Set the number of threads used to write the write-behind batches to
+    * the CacheStore.
+    * <p>
+    * If the count is greater than one, the write-behind thread partitions
+    * the ripe entries by key and hands them to a pool of flush threads, so
+    * that several store operations may be in progress at the same time. All
+    * entries for a given key are always written by the same flush thread, in
+    * the order they were removed from the write-behind queue. The flush
+    * threads are only used by blocking stores.
+    * <p>
+    * This method has no effect if write-behind is disabled.
+    *
+    * @param cThreads  the number of write-behind flush threads
+    *
+    * @since 15.0.0
+    */
+    public void setWriteThreadCount(int cThreads)
+        {
+        if (cThreads <= 0)
+            {
+            throw new IllegalArgumentException(
+                    "Invalid write thread count: " + cThreads);
+            }
+        m_cWriteThreads = cThreads;
+        }
+
+    /**
+    * Get the target duration of a single write-behind store operation, or
+    * zero if the write-behind batches are not sized adaptively.
+    *
+    * @return the target duration of a write-behind batch in milliseconds
+    *
+    * @since 15.0.0
+    */
+    public long getWriteBatchTargetMillis()
+        {
+        return m_cWriteBatchTargetMillis;
+        }
+
+    /**
+    * Set the target duration of a single write-behind store operation.
+    * <p>
+    * If the target is positive, each write-behind thread adjusts the size of
+    * its batches based on the duration of its store operations: a batch that
+    * takes longer than the target reduces the size of the subsequent batches
+    * in proportion, and a full batch that takes less than half the target
+    * increases it, up to the {@link #getWriteMaxBatchSize() maximum batch size}.
+    *
+    * @param cMillis  the target duration of a write-behind batch in
+    *                 milliseconds, or zero to always use the maximum batch size
+    *
+    * @since 15.0.0
+    */
+    public void setWriteBatchTargetMillis(long cMillis)
+        {
+        if (cMillis < 0L)
+            {
+            throw new IllegalArgumentException(
+                    "Invalid write batch target: " + cMillis);
+            }
+        m_cWriteBatchTargetMillis = cMillis;
+        }
+
     /**
     * Return the write-batch factor.
     * <p>
@@ -822,6 +902,17 @@ public class ReadWriteBackingMap
                                            cStoreTimeoutMillis, GUARD_RECOVERY);
                 daemonWrite.m_fRefreshContext = true;
                 }
+
+            FlushWorker[] aWorker = m_aFlushWorker;
+            if (aWorker != null)
+                {
+                for (FlushWorker worker : aWorker)
+                    {
+                    worker.setGuardPolicy((Guardian) service,
+                                          cStoreTimeoutMillis, GUARD_RECOVERY);
+                    worker.m_fRefreshContext = true;
+                    }
+                }
             }
         }
 
@@ -862,6 +953,33 @@ public class ReadWriteBackingMap
         return -1;
         }
 
+    /**
+    * Return the age of the entry at the front of the write-behind queue, or
+    * zero if write-behind is disabled or the queue is empty.
+    *
+    * @return the age of the oldest queued entry in milliseconds
+    *
+    * @since 15.0.0
+    */
+    public long getWriteQueueAgeMillis()
+        {
+        WriteQueue queue = getWriteQueue();
+        return queue == null ? 0L : queue.getAgeMillis();
+        }
+
+    /**
+    * Return the number of write-behind batches that have been removed from
+    * the write-behind queue but not yet written to the CacheStore.
+    *
+    * @return the number of in-flight write-behind batches
+    *
+    * @since 15.0.0
+    */
+    public int getWriteBatchesInFlight()
+        {
+        return f_cWriteBatchesInFlight.get();
+        }
+
     /**
     * Determine if the backing map should apply write-behind delay to
     * remove from CacheStore.
@@ -4000,7 +4118,7 @@ public class ReadWriteBackingMap
             //    (store.store, store.erase)
             // 2. allow synthetic removes to return immediately
             if (getContext().isKeyOwned(binKey) &&
-                Thread.currentThread() != ReadWriteBackingMap.this.getWriteThread().getThread())
+                !isWriteBehindThread(Thread.currentThread()))
                 {
                 if (fWriteBehind)
                     {
@@ -4288,6 +4406,54 @@ public class ReadWriteBackingMap
             getPendingMap().clear();
             }
 
+        /**
+        * Remove the specified entries from the map of pending entries. Notify
+        * all threads that may be waiting for pending store operations to
+        * complete.
+        * <p>
+        * An entry is only removed if it has not been replaced by a more recent
+        * entry for the same key that is being written by another batch.
+        *
+        * @param colEntries  the entries that have been written
+        *
+        * @since 15.0.0
+        */
+        public synchronized void clearPending(Collection<Entry> colEntries)
+            {
+            Map mapPending = getPendingMap();
+            for (Entry entry : colEntries)
+                {
+                mapPending.remove(entry.getBinaryKey(), entry);
+                }
+
+            if (isWaitingOnPending())
+                {
+                notifyAll();
+                setWaitingOnPending(false);
+                }
+            }
+
+        /**
+        * Return the age of the entry at the front of the queue, based on the
+        * time it was scheduled to become ripe and the write-behind delay.
+        *
+        * @return the age of the oldest entry in milliseconds, or zero if the
+        *         queue is empty
+        *
+        * @since 15.0.0
+        */
+        public synchronized long getAgeMillis()
+            {
+            LongArray arrayRipe = getRipeArray();
+            if (arrayRipe.isEmpty())
+                {
+                return 0L;
+                }
+
+            long ldtAdded = arrayRipe.getFirstIndex() - getDelayMillis();
+            return Math.max(0L, getSafeTimeMillis() - ldtAdded);
+            }
+
         /**
          * Move the ripe time for the queued entry up to accelerate the store
          * operation.
@@ -4846,6 +5012,18 @@ public class ReadWriteBackingMap
                         m_daemonWrite = null;
                         m_queueWrite  = null;
 
+                        // the batches dispatched to the flush threads were
+                        // removed from the queue before the remaining entries
+                        FlushWorker[] aWorker = m_aFlushWorker;
+                        if (aWorker != null)
+                            {
+                            m_aFlushWorker = null;
+                            for (FlushWorker worker : aWorker)
+                                {
+                                worker.drainAndStop(store);
+                                }
+                            }
+
                         flush(queue, store);
 
                         if (daemon != null)
@@ -4861,13 +5039,61 @@ public class ReadWriteBackingMap
                     Base.err(e);
                     Base.err("(The write-behind thread is exiting.)");
                     }
+                finally
+                    {
+                    FlushWorker[] aWorker = m_aFlushWorker;
+                    if (aWorker != null)
+                        {
+                        m_aFlushWorker = null;
+                        for (FlushWorker worker : aWorker)
+                            {
+                            worker.stop();
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+    /**
+    * Determine whether the specified thread is the write-behind thread or
+    * one of the write-behind flush threads.
+    *
+    * @param thread  the thread to check
+    *
+    * @return true if the specified thread writes the write-behind entries
+    *
+    * @since 15.0.0
+    */
+    protected boolean isWriteBehindThread(Thread thread)
+        {
+        WriteThread daemonWrite = getWriteThread();
+        if (daemonWrite != null && daemonWrite.getThread() == thread)
+            {
+            return true;
+            }
+
+        FlushWorker[] aWorker = m_aFlushWorker;
+        if (aWorker != null)
+            {
+            for (FlushWorker worker : aWorker)
+                {
+                if (worker.getThread() == thread)
+                    {
+                    return true;
+                    }
                 }
             }
+        return false;
         }
 
     /**
     * This is the write-behind thread that pulls things from the write-behind
     * queue and writes them to the CacheStore that the backing map uses.
+    * <p>
+    * If the {@link #getWriteThreadCount() write thread count} is greater than
+    * one, the write-behind thread only pulls ripe entries from the queue and
+    * dispatches them to the {@link FlushWorker flush threads}.
     *
     * @author cp 2002.10.22
     */
@@ -4881,12 +5107,23 @@ public class ReadWriteBackingMap
         */
         public WriteThread()
             {
-            super("WriteBehindThread:"
+            this("WriteBehindThread:"
                     + getCacheStore()
                     + (getCacheService() == null
                        ? ""
-                       : (":" + getCacheService().getInfo().getServiceName())),
-                     Thread.NORM_PRIORITY, false);
+                       : (":" + getCacheService().getInfo().getServiceName())));
+            }
+
+        /**
+        * Construct a WriteThread with the specified name.
+        *
+        * @param sName  the name of the thread
+        *
+        * @since 15.0.0
+        */
+        protected WriteThread(String sName)
+            {
+            super(sName, Thread.NORM_PRIORITY, false);
 
             m_fRefreshContext = false;
             }
@@ -4928,6 +5165,14 @@ public class ReadWriteBackingMap
 
                     try
                         {
+                        FlushWorker[] aWorker = ensureFlushWorkers(queue, store);
+                        if (aWorker != null)
+                            {
+                            // while the flush threads are busy, leave the entries
+                            // in the queue, where subsequent updates are coalesced
+                            awaitFlushWorkers(aWorker, MAX_FLUSH_BACKLOG);
+                            }
+
                         // issue a heartbeat before blocking on the write queue
                         heartbeat();
 
@@ -4937,72 +5182,38 @@ public class ReadWriteBackingMap
                             continue;
                             }
 
-                        // populate a set of ripe and soft-ripe entries
-                        boolean    fStoreAll   = store.isStoreAllSupported();
-                        boolean    fEraseAll   = store.isEraseAllSupported();
-                        int        cEntries    = 0;
-                        int        cMaxEntries = getWriteMaxBatchSize();
-                        Set<Entry> setStore    = fStoreAll ? new LinkedHashSet<>(cMaxEntries, 0.75f) : null;
-                        Set<Entry> setErase    = fEraseAll ? new LinkedHashSet<>(cMaxEntries, 0.75f) : null;
-
-                        while (entry != null)
+                        if (aWorker == null)
                             {
-                            boolean fRemove = equals(entry.getBinaryValue(), BIN_ERASE_PENDING);
+                            // populate a batch of ripe and soft-ripe entries
+                            List<Entry> listEntries = new ArrayList<>();
+                            int         cMaxEntries = getBatchSize();
 
-                            if (fRemove)
-                                {
-                                if (fEraseAll)
-                                    {
-                                    setErase.add(entry);
-                                    }
-                                else
-                                    {
-                                    store.erase(entry);
-                                    }
-                                }
-                            else
+                            while (entry != null)
                                 {
-                                if (fStoreAll)
-                                    {
-                                    setStore.add(entry);
-                                    }
-                                else
+                                listEntries.add(entry);
+
+                                if (listEntries.size() >= cMaxEntries)
                                     {
-                                    store.store(entry, true);
+                                    break;
                                     }
-                                }
 
-                            if (++cEntries >= cMaxEntries)
-                                {
-                                break;
+                                // remove next ripe or soft-ripe entry, if available
+                                entry = queue.removeNoWait();
                                 }
 
-                            // remove next ripe or soft-ripe entry, if available
-                            entry = queue.removeNoWait();
-                            }
-
-                        if (fEraseAll && !setErase.isEmpty())
-                            {
-                            if (setErase.size() == 1)
+                            f_cWriteBatchesInFlight.incrementAndGet();
+                            try
                                 {
-                                store.erase(setErase.iterator().next());
+                                write(store, listEntries);
                                 }
-                            else
+                            finally
                                 {
-                                store.eraseAll(setErase);
+                                f_cWriteBatchesInFlight.decrementAndGet();
                                 }
                             }
-
-                        if (fStoreAll && !setStore.isEmpty())
+                        else
                             {
-                            if (setStore.size() == 1)
-                                {
-                                store.store(setStore.iterator().next(), true);
-                                }
-                            else
-                                {
-                                store.storeAll(setStore);
-                                }
+                            dispatch(queue, entry, aWorker);
                             }
                         }
                     catch (Throwable e)
@@ -5024,7 +5235,11 @@ public class ReadWriteBackingMap
                         }
                     finally
                         {
-                        queue.clearPending();
+                        // the flush threads clear the entries they have written
+                        if (m_aFlushWorker == null)
+                            {
+                            queue.clearPending();
+                            }
                         }
                     }
                 }
@@ -5063,12 +5278,472 @@ public class ReadWriteBackingMap
             super.setGuardPolicy(guardian, cTimeoutMillis, flPctRecover);
             }
 
+        // ----- internal -----------------------------------------------
+
+        /**
+        * Write the specified batch of entries to the CacheStore, and adjust
+        * the size of the subsequent batches based on the duration of the
+        * write.
+        *
+        * @param store        the CacheStore to write to
+        * @param listEntries  the entries removed from the write-behind queue
+        *
+        * @since 15.0.0
+        */
+        protected void write(StoreWrapper store, List<Entry> listEntries)
+            {
+            boolean    fStoreAll = store.isStoreAllSupported();
+            boolean    fEraseAll = store.isEraseAllSupported();
+            int        cEntries  = listEntries.size();
+            Set<Entry> setStore  = fStoreAll ? new LinkedHashSet<>(cEntries, 0.75f) : null;
+            Set<Entry> setErase  = fEraseAll ? new LinkedHashSet<>(cEntries, 0.75f) : null;
+            long       ldtStart  = getSafeTimeMillis();
+
+            for (Entry entry : listEntries)
+                {
+                boolean fRemove = equals(entry.getBinaryValue(), BIN_ERASE_PENDING);
+
+                if (fRemove)
+                    {
+                    if (fEraseAll)
+                        {
+                        setErase.add(entry);
+                        }
+                    else
+                        {
+                        store.erase(entry);
+                        }
+                    }
+                else
+                    {
+                    if (fStoreAll)
+                        {
+                        setStore.add(entry);
+                        }
+                    else
+                        {
+                        store.store(entry, true);
+                        }
+                    }
+                }
+
+            if (fEraseAll && !setErase.isEmpty())
+                {
+                if (setErase.size() == 1)
+                    {
+                    store.erase(setErase.iterator().next());
+                    }
+                else
+                    {
+                    store.eraseAll(setErase);
+                    }
+                }
+
+            if (fStoreAll && !setStore.isEmpty())
+                {
+                if (setStore.size() == 1)
+                    {
+                    store.store(setStore.iterator().next(), true);
+                    }
+                else
+                    {
+                    store.storeAll(setStore);
+                    }
+                }
+
+            adjustBatchSize(cEntries, getSafeTimeMillis() - ldtStart);
+            }
+
+        /**
+        * Return the maximum number of entries this thread writes in a single
+        * batch.
+        *
+        * @return the current batch size
+        *
+        * @since 15.0.0
+        */
+        public int getBatchSize()
+            {
+            int cMax   = getWriteMaxBatchSize();
+            int cBatch = m_cBatchSize;
+
+            return cBatch <= 0 || cBatch > cMax || getWriteBatchTargetMillis() == 0L
+                   ? cMax : cBatch;
+            }
+
+        /**
+        * Adjust the size of the subsequent batches based on the duration of
+        * the last one.
+        *
+        * @param cEntries  the number of entries in the last batch
+        * @param cMillis   the duration of the last batch
+        *
+        * @since 15.0.0
+        */
+        protected void adjustBatchSize(int cEntries, long cMillis)
+            {
+            long cTarget = getWriteBatchTargetMillis();
+            if (cTarget > 0L)
+                {
+                int cBatch = getBatchSize();
+                if (cMillis > cTarget)
+                    {
+                    // shrink to the number of entries that fit the target
+                    cBatch = (int) Math.max(1L, Math.min(cBatch, cEntries * cTarget / cMillis));
+                    }
+                else if (cEntries >= cBatch && cMillis <= cTarget / 2)
+                    {
+                    // only a full batch tells whether a larger one would fit
+                    cBatch = Math.min(getWriteMaxBatchSize(), cBatch + Math.max(1, cBatch >> 3));
+                    }
+                m_cBatchSize = cBatch;
+                }
+            }
+
+        /**
+        * Ensure that the flush threads match the configured
+        * {@link #getWriteThreadCount() write thread count}.
+        *
+        * @param queue  the write-behind queue
+        * @param store  the CacheStore to write to
+        *
+        * @return the flush threads, or null if the entries should be written
+        *         by the write-behind thread
+        *
+        * @since 15.0.0
+        */
+        protected FlushWorker[] ensureFlushWorkers(WriteQueue queue, StoreWrapper store)
+            {
+            FlushWorker[] aWorker  = m_aFlushWorker;
+            int           cWorkers = store.isBlocking() ? getWriteThreadCount() : 1;
+
+            if (cWorkers == 1 ? aWorker != null : aWorker == null || aWorker.length != cWorkers)
+                {
+                if (aWorker != null)
+                    {
+                    // let the current flush threads complete their batches
+                    awaitFlushWorkers(aWorker, 0);
+                    for (FlushWorker worker : aWorker)
+                        {
+                        worker.drainAndStop(store);
+                        }
+                    aWorker = null;
+                    }
+
+                if (cWorkers > 1)
+                    {
+                    CacheService service = getCacheService();
+
+                    aWorker = new FlushWorker[cWorkers];
+                    for (int i = 0; i < cWorkers; i++)
+                        {
+                        FlushWorker worker = aWorker[i] = instantiateFlushWorker(queue, i);
+
+                        worker.start();
+                        if (service instanceof Guardian)
+                            {
+                            worker.setGuardPolicy((Guardian) service,
+                                                  getCacheStoreTimeoutMillis(), GUARD_RECOVERY);
+                            }
+                        }
+                    }
+
+                m_aFlushWorker = aWorker;
+                }
+            return aWorker;
+            }
+
+        /**
+        * Wait until the backlog of each of the specified flush threads is not
+        * greater than the specified number of batches.
+        *
+        * @param aWorker      the flush threads
+        * @param cMaxBacklog  the maximum number of queued batches per thread
+        *
+        * @since 15.0.0
+        */
+        protected void awaitFlushWorkers(FlushWorker[] aWorker, int cMaxBacklog)
+            {
+            for (FlushWorker worker : aWorker)
+                {
+                synchronized (worker)
+                    {
+                    while (worker.m_cBacklog > cMaxBacklog && worker.isRunning() && !isStopping())
+                        {
+                        heartbeat();
+                        waitFor(worker, 0xFFL);
+                        }
+                    }
+                }
+            }
+
+        /**
+        * Dispatch the specified entry, and any other ripe or soft-ripe entries,
+        * to the flush threads. All entries for a given key are dispatched to
+        * the same thread.
+        *
+        * @param queue    the write-behind queue
+        * @param entry    the first entry removed from the queue
+        * @param aWorker  the flush threads
+        *
+        * @since 15.0.0
+        */
+        @SuppressWarnings("unchecked")
+        protected void dispatch(WriteQueue queue, Entry entry, FlushWorker[] aWorker)
+            {
+            int           cWorkers = aWorker.length;
+            List<Entry>[] alist    = new List[cWorkers];
+            int           cRemain  = 0;
+
+            for (FlushWorker worker : aWorker)
+                {
+                cRemain += worker.getBatchSize();
+                }
+
+            try
+                {
+                while (entry != null)
+                    {
+                    int         iWorker = (entry.getBinaryKey().hashCode() & 0x7FFFFFFF) % cWorkers;
+                    FlushWorker worker  = aWorker[iWorker];
+                    List<Entry> list    = alist[iWorker];
+
+                    if (list == null)
+                        {
+                        list = alist[iWorker] = new ArrayList<>();
+                        }
+                    list.add(entry);
+
+                    if (list.size() >= worker.getBatchSize())
+                        {
+                        alist[iWorker] = null;
+                        worker.submit(list);
+                        }
+
+                    if (--cRemain <= 0)
+                        {
+                        break;
+                        }
+
+                    // remove next ripe or soft-ripe entry, if available
+                    entry = queue.removeNoWait();
+                    }
+                }
+            finally
+                {
+                for (int i = 0; i < cWorkers; i++)
+                    {
+                    if (alist[i] != null)
+                        {
+                        aWorker[i].submit(alist[i]);
+                        }
+                    }
+                }
+            }
+
         // ----- data fields ---------------------------------------------
 
         /**
         * Field used to tell the {@link WriteThread} to refresh its {@link GuardContext}.
         */
         protected volatile boolean m_fRefreshContext;
+
+        /**
+        * The current size of the batches written by this thread, or zero for
+        * the maximum batch size.
+        */
+        protected int m_cBatchSize;
+        }
+
+    // ----- inner class: FlushWorker ---------------------------------------
+
+    /**
+    * Factory pattern: Instantiate a write-behind flush thread.
+    *
+    * @param queue   the write-behind queue the entries are removed from
+    * @param nIndex  the index of the flush thread
+    *
+    * @return a new write-behind flush thread
+    *
+    * @since 15.0.0
+    */
+    protected FlushWorker instantiateFlushWorker(WriteQueue queue, int nIndex)
+        {
+        return new FlushWorker(queue, nIndex);
+        }
+
+    /**
+    * A write-behind thread that writes the batches dispatched to it by the
+    * {@link WriteThread} in the order they were dispatched.
+    *
+    * @since 15.0.0
+    */
+    public class FlushWorker
+            extends WriteThread
+        {
+        // ----- constructors -------------------------------------------
+
+        /**
+        * Construct a FlushWorker.
+        *
+        * @param queue   the write-behind queue the entries are removed from
+        * @param nIndex  the index of the flush thread
+        */
+        public FlushWorker(WriteQueue queue, int nIndex)
+            {
+            super(Thread.currentThread().getName() + ":Flush-" + nIndex);
+
+            f_queue = queue;
+            }
+
+        // ----- Daemon methods -----------------------------------------
+
+        /**
+        * The daemon's implementation method.
+        */
+        public void run()
+            {
+            CacheService service = getCacheService();
+            ClassLoader  loader  = service == null ? null : service.getContextClassLoader();
+            if (loader != null)
+                {
+                setThreadContextClassLoader(loader);
+                }
+
+            ContainerHelper.initializeThreadContext(service);
+
+            StoreWrapper store = getCacheStore();
+            while (!isStopping())
+                {
+                if (m_fRefreshContext)
+                    {
+                    GuardSupport.setThreadContext(getContext());
+                    m_fRefreshContext = false;
+                    }
+
+                List<Entry> listEntries;
+                synchronized (this)
+                    {
+                    listEntries = f_dequeBatches.poll();
+                    if (listEntries == null)
+                        {
+                        // issue a heartbeat before waiting for the next batch
+                        heartbeat();
+                        waitFor(this, getMaxWaitMillis(0xFFL));
+                        continue;
+                        }
+                    }
+
+                writeBatch(store, listEntries);
+                }
+            }
+
+        // ----- FlushWorker methods ------------------------------------
+
+        /**
+        * Wait for this thread to write the batches dispatched to it and stop
+        * it. Should this thread no longer be running, the remaining batches
+        * are written by the calling thread, so that no entry removed from the
+        * write-behind queue is lost.
+        *
+        * @param store  the CacheStore to write to
+        */
+        public void drainAndStop(StoreWrapper store)
+            {
+            synchronized (this)
+                {
+                while (m_cBacklog > 0 && isRunning())
+                    {
+                    waitFor(this, 0xFFL);
+                    }
+                }
+
+            stop();
+
+            while (true)
+                {
+                List<Entry> listEntries;
+                synchronized (this)
+                    {
+                    listEntries = f_dequeBatches.poll();
+                    }
+
+                if (listEntries == null)
+                    {
+                    break;
+                    }
+                writeBatch(store, listEntries);
+                }
+            }
+
+        /**
+        * Add the specified batch to the tail of this thread's backlog.
+        *
+        * @param listEntries  the entries to write
+        */
+        public synchronized void submit(List<Entry> listEntries)
+            {
+            f_cWriteBatchesInFlight.incrementAndGet();
+            f_dequeBatches.add(listEntries);
+            ++m_cBacklog;
+            notifyAll();
+            }
+
+        // ----- internal -----------------------------------------------
+
+        /**
+        * Write the specified batch, which has been removed from the backlog,
+        * and release its entries.
+        *
+        * @param store        the CacheStore to write to
+        * @param listEntries  the entries to write
+        */
+        protected void writeBatch(StoreWrapper store, List<Entry> listEntries)
+            {
+            try
+                {
+                write(store, listEntries);
+                }
+            catch (Throwable e)
+                {
+                err("An exception occurred on the write-behind thread");
+                err(e);
+                err("(The exception will be ignored. " +
+                        "The write-behind thread will continue.)");
+
+                // see WriteThread#run
+                Thread.interrupted();
+                }
+            finally
+                {
+                f_queue.clearPending(listEntries);
+                f_cWriteBatchesInFlight.decrementAndGet();
+
+                synchronized (this)
+                    {
+                    --m_cBacklog;
+                    notifyAll(); // @see WriteThread#awaitFlushWorkers
+                    }
+                }
+            }
+
+        // ----- data fields ---------------------------------------------
+
+        /**
+        * The write-behind queue the entries are removed from.
+        */
+        protected final WriteQueue f_queue;
+
+        /**
+        * The batches waiting to be written, in the order they were dispatched.
+        */
+        protected final Deque<List<Entry>> f_dequeBatches = new ArrayDeque<>();
+
+        /**
+        * The number of batches dispatched to this thread that have not been
+        * written yet.
+        */
+        protected int m_cBacklog;
         }
 
 
@@ -5307,6 +5982,33 @@ public class ReadWriteBackingMap
             return f_cStoreMillis.get();
             }
 
+        /**
+        * Determine the number of entries that were requeued after a failed
+        * write-behind operation.
+        *
+        * @return the number of requeued entries
+        *
+        * @since 15.0.0
+        */
+        public long getRequeues()
+            {
+            return f_cRequeues.get();
+            }
+
+        /**
+        * Determine the ratio of requeued entries to the entries written by
+        * store() operations.
+        *
+        * @return the write-behind retry rate
+        *
+        * @since 15.0.0
+        */
+        public double getRequeueRate()
+            {
+            long cEntries = f_cStoreEntries.get();
+            return cEntries > 0L ? (double) f_cRequeues.get() / cEntries : 0.0;
+            }
+
         /**
         * Determine the number of erase() operations.
         *
@@ -5404,6 +6106,7 @@ public class ReadWriteBackingMap
             f_cStoreFailures.set(0L);
             f_cStoreMillis.set(0L);
             f_cPendingAsyncStoreOps.set(0L);
+            f_cRequeues.set(0L);
 
             m_cEraseOps      = 0L;
             m_cEraseFailures = 0L;
@@ -6041,9 +6744,8 @@ public class ReadWriteBackingMap
         */
         protected void onStoreFailure(Entry entry, Exception e, boolean fThrow)
             {
-            WriteQueue  queue       = getWriteQueue();
-            WriteThread writeThread = getWriteThread();
-            int         cThreshold  = getWriteRequeueThreshold();
+            WriteQueue queue      = getWriteQueue();
+            int        cThreshold = getWriteRequeueThreshold();
 
             if (e instanceof UnsupportedOperationException)
                 {
@@ -6058,7 +6760,7 @@ public class ReadWriteBackingMap
                 }
 
             String sMsg = "Failed to store key=\"" + entry.getKey() + "\"";
-            if (queue == null || Thread.currentThread() != writeThread.getThread())
+            if (queue == null || !isWriteBehindThread(Thread.currentThread()))
                 {
                 // if write-behind is disabled or the store operation was
                 // synchronous (i.e. not performed by the write-behind thread)
@@ -6111,9 +6813,8 @@ public class ReadWriteBackingMap
         */
         protected void onStoreAllFailure(Set setBinEntries, Exception e, boolean fThrow)
             {
-            WriteQueue  queue       = getWriteQueue();
-            WriteThread writeThread = getWriteThread();
-            int         cThreshold  = getWriteRequeueThreshold();
+            WriteQueue queue      = getWriteQueue();
+            int        cThreshold = getWriteRequeueThreshold();
 
             if (e instanceof UnsupportedOperationException)
                 {
@@ -6128,7 +6829,7 @@ public class ReadWriteBackingMap
                 }
 
             String sMsg = formatKeys(setBinEntries, "Failed to store");
-            if (queue == null || Thread.currentThread() != writeThread.getThread())
+            if (queue == null || !isWriteBehindThread(Thread.currentThread()))
                 {
                 // if write-behind is disabled or the storeAll operation was
                 // synchronous (i.e. not performed by the write-behind thread)
@@ -6195,6 +6896,7 @@ public class ReadWriteBackingMap
                     {
                     long ldtDelay = calculateRequeueDelay(queue);
                     queue.add(entry, ldtDelay);
+                    f_cRequeues.incrementAndGet();
                     }
                 }
             return true;
@@ -6510,6 +7212,11 @@ public class ReadWriteBackingMap
         */
         protected final AtomicLong f_cPendingAsyncStoreOps = new AtomicLong();
 
+        /**
+        * The number of entries requeued after a failed write-behind operation.
+        */
+        protected final AtomicLong f_cRequeues             = new AtomicLong();
+
         /**
         * The number of Erase operations.
         */
@@ -8254,6 +8961,14 @@ public class ReadWriteBackingMap
      */
     public static final boolean RWBM_WB_REMOVE_DEFAULT = Config.getBoolean(PROP_WB_REMOVE_DEFAULT, false);
 
+    /**
+    * The number of batches a write-behind flush thread may have in progress
+    * before the write-behind thread stops removing entries from the queue.
+    *
+    * @since 15.0.0
+    */
+    protected static final int MAX_FLUSH_BACKLOG = 1;
+
     // ----- data fields ----------------------------------------------------
 
     /**
@@ -8353,6 +9068,17 @@ public class ReadWriteBackingMap
     */
     private WriteThread      m_daemonWrite;
 
+    /**
+    * The write-behind flush threads. Null if write-behind is not enabled or
+    * the entries are written by the write-behind thread.
+    */
+    private volatile FlushWorker[] m_aFlushWorker;
+
+    /**
+    * The number of write-behind batches that have not been written yet.
+    */
+    private final AtomicInteger f_cWriteBatchesInFlight = new AtomicInteger();
+
     /**
     * MapListenerSupport object.
     */
@@ -8411,6 +9137,17 @@ public class ReadWriteBackingMap
     */
     private int              m_cWriteMaxBatchSize = 128;
 
+    /**
+    * The number of write-behind flush threads.
+    */
+    private int              m_cWriteThreads = 1;
+
+    /**
+    * The target duration of a write-behind batch; zero disables the
+    * adaptive batch sizing.
+    */
+    private long             m_cWriteBatchTargetMillis;
+
     /**
      * Specifies whether the CacheStore will perform write-behind remove
      * operations. This property only applies to write-behind CacheStores.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2021, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -11,9 +11,14 @@ import com.oracle.coherence.persistence.PersistenceManager;
 
 import com.tangosol.net.partition.PartitionSet;
 
+import com.tangosol.util.Base;
+
 import java.util.List;
 import java.util.Map;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * PartitionRecoverInfo is a data structure that holds partition recovery information.
  */
@@ -57,6 +62,7 @@ public class PartitionRecoverInfo
         f_partsRecovered  = partsRecovered;
         f_partsFail       = partsFail;
         f_partsFailEvents = partsFailEvents;
+        f_ldtStart        = Base.getSafeTimeMillis();
         }
 
     // ----- accessors ------------------------------------------------------
@@ -127,6 +133,50 @@ public class PartitionRecoverInfo
         return f_partsFailEvents;
         }
 
+    /**
+     * Return the time (in millis) the recovery was started at.
+     *
+     * @return the recovery start time
+     */
+    public long getStartTime()
+        {
+        return f_ldtStart;
+        }
+
+    /**
+     * Return the number of partitions recovered so far.
+     *
+     * @return the number of recovered partitions
+     */
+    public int getRecoveredPartitionCount()
+        {
+        return f_cPartitions.get();
+        }
+
+    /**
+     * Return the number of entries recovered so far.
+     *
+     * @return the number of recovered entries
+     */
+    public long getRecoveredEntryCount()
+        {
+        return f_cEntries.get();
+        }
+
+    // ----- PartitionRecoverInfo methods -----------------------------------
+
+    /**
+     * Record the successful recovery of a partition. This method may be
+     * called concurrently by the recovery jobs.
+     *
+     * @param cEntries  the number of entries recovered for the partition
+     */
+    public void onPartitionRecovered(long cEntries)
+        {
+        f_cPartitions.incrementAndGet();
+        f_cEntries.addAndGet(cEntries);
+        }
+
     // ----- data fields ----------------------------------------------------
 
     /**
@@ -163,4 +213,19 @@ public class PartitionRecoverInfo
      * The failed PartitionSet.
      */
     private final PartitionSet f_partsFailEvents;
+
+    /**
+     * The time (in millis) the recovery was started at.
+     */
+    private final long f_ldtStart;
+
+    /**
+     * The number of recovered partitions.
+     */
+    private final AtomicInteger f_cPartitions = new AtomicInteger();
+
+    /**
+     * The number of recovered entries.
+     */
+    private final AtomicLong f_cEntries = new AtomicLong();
     }
\ No newline at end of file
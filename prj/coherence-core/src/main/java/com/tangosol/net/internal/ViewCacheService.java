@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -385,6 +385,7 @@ public class ViewCacheService
             bldrView.filter(filter)
                     .map(transformer)
                     .listener(listener)
+                    .storage(deps.getStorageMode())
                     .withClassLoader(getService().getContextClassLoader());
             }
 
@@ -397,6 +398,7 @@ public class ViewCacheService
             // set the CQC specific
             cacheCQC.setCacheName(cacheCQC.getCache().getCacheName());
             cacheCQC.setReconnectInterval(deps.getReconnectInterval());
+            cacheCQC.setDeltaEvents(deps.isDeltaEvents());
             cacheCQC.setReadOnly(fReadOnly);
             MBeanHelper.registerViewMBean(cacheCQC);
             }
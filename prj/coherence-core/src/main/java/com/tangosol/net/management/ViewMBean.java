@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -96,4 +96,44 @@ public interface ViewMBean
     @Description("The number of entries in the view cache.")
     @MetricsValue
     long getSize();
+
+    /**
+     * Determine if this {@code ContinuousQueryCache} receives updates as binary deltas.
+     * @return {@code true} if updates are received as binary deltas
+     */
+    @Description("Indicates if the view cache receives the updates of its values as binary deltas.")
+    boolean isDeltaEvents();
+
+    /**
+     * Returns the number of events received from the underlying cache.
+     * @return the number of events received
+     */
+    @Description("The number of events received from the underlying cache.")
+    @MetricsValue
+    long getEventsReceived();
+
+    /**
+     * Returns the number of value bytes received with the events from the underlying cache.
+     * @return the number of value bytes received
+     */
+    @Description("The total size in bytes of the serialized values received with the events from the underlying cache.")
+    @MetricsValue
+    long getEventBytesReceived();
+
+    /**
+     * Returns the number of binary deltas applied to the values held by the view.
+     * @return the number of binary deltas applied
+     */
+    @Description("The number of binary deltas applied to the values held by the view cache.")
+    @MetricsValue
+    long getDeltaEventsApplied();
+
+    /**
+     * Returns the number of binary deltas that could not be applied, causing the
+     * corresponding entries to be re-read from the underlying cache.
+     * @return the number of binary deltas that could not be applied
+     */
+    @Description("The number of binary deltas that could not be applied, causing the corresponding entries to be re-read from the underlying cache.")
+    @MetricsValue
+    long getDeltaEventsMissed();
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -67,6 +67,31 @@ public class ViewMBeanImpl
         return f_cache.size();
         }
 
+    public boolean isDeltaEvents()
+        {
+        return f_cache.isDeltaEvents();
+        }
+
+    public long getEventsReceived()
+        {
+        return f_cache.getEventsReceived();
+        }
+
+    public long getEventBytesReceived()
+        {
+        return f_cache.getEventBytesReceived();
+        }
+
+    public long getDeltaEventsApplied()
+        {
+        return f_cache.getDeltaEventsApplied();
+        }
+
+    public long getDeltaEventsMissed()
+        {
+        return f_cache.getDeltaEventsMissed();
+        }
+
     // ----- object methods -------------------------------------------------
 
     public boolean equals(Object o)
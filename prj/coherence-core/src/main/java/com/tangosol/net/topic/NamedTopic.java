@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -301,4 +301,9 @@ public interface NamedTopic<V>
      * The default reconnect wait.
      */
     Seconds DEFAULT_RECONNECT_WAIT_SECONDS = new Seconds(10);
+
+    /**
+     * The default minimum time that tombstones are retained in a compacted topic.
+     */
+    Seconds DEFAULT_TOMBSTONE_RETENTION_SECONDS = new Seconds(24 * 60 * 60);
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -340,6 +340,16 @@ public interface Publisher<V>
             return get(OnFailure.class);
             }
 
+        /**
+         * Return the compression option.
+         *
+         * @return the compression option
+         */
+        public Compression getCompression()
+            {
+            return get(Compression.class);
+            }
+
         /**
          * Return the optional publisher identifier.
          *
@@ -407,6 +417,38 @@ public interface Publisher<V>
         Continue
         }
 
+    // ----- inner class: Compression ---------------------------------------
+
+    /**
+     * This option controls whether a {@link Publisher} compresses the
+     * serialized values it publishes.
+     * <p>
+     * Values are compressed as each batch is sent to the topic, are stored
+     * compressed in the topic's pages, and are decompressed when a subscriber
+     * (or a subscriber group filter or converter) deserializes them. Values
+     * that are too small, or that do not get any smaller when compressed,
+     * are published as they are. Values are also published uncompressed
+     * while any member of the topic service runs a version that cannot
+     * decompress them.
+     *
+     * @since 15.0.0
+     */
+    public enum Compression
+            implements Option<Object>
+        {
+        /**
+         * Values are not compressed.
+         */
+        @Options.Default
+        None,
+
+        /**
+         * Values are compressed using the {@link java.util.zip.Deflater
+         * Deflate} algorithm, favouring speed over the compression ratio.
+         */
+        Deflate
+        }
+
     // ---- inner class: FailOnFull -----------------------------------------
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -20,6 +20,9 @@ import com.tangosol.io.ReadBuffer;
 
 import com.tangosol.persistence.bdb.BerkeleyDBEnvironment;
 
+import com.tangosol.persistence.log.LogStructuredEnvironment;
+import com.tangosol.persistence.log.LogStructuredManager;
+
 import com.tangosol.util.Base;
 
 import java.io.File;
@@ -181,6 +184,26 @@ public abstract class AbstractSnapshotArchiver
             }
         }
 
+    @Override
+    public long getBytesArchived()
+        {
+        return m_cbArchived;
+        }
+
+    @Override
+    public long getBytesWritten()
+        {
+        return m_cbWritten;
+        }
+
+    @Override
+    public double getDedupeRatio()
+        {
+        long cbArchived = m_cbArchived;
+
+        return cbArchived == 0L ? 0.0 : (double) m_cbDeduplicated / cbArchived;
+        }
+
     // ----- AbstractSnapshotArchiver methods -------------------------------
 
     /**
@@ -276,6 +299,10 @@ public abstract class AbstractSnapshotArchiver
         m_cMillisMax   = Long.MIN_VALUE;
         m_cMillisMin   = Long.MAX_VALUE;
         m_cMillisTotal = 0L;
+
+        m_cbArchived     = 0L;
+        m_cbDeduplicated = 0L;
+        m_cbWritten      = 0L;
         }
 
     /**
@@ -291,8 +318,17 @@ public abstract class AbstractSnapshotArchiver
      */
     protected void recordEndTime()
         {
-        long cMillisDuration = Base.getLastSafeTimeMillis() - m_cMillisLastStart;
+        recordDuration(Base.getLastSafeTimeMillis() - m_cMillisLastStart);
+        }
 
+    /**
+     * Record the duration of an operation on a single store and update min
+     * and max values.
+     *
+     * @param cMillisDuration  the duration of the operation in millis
+     */
+    protected void recordDuration(long cMillisDuration)
+        {
         m_cMillisTotal += cMillisDuration;
 
         if (cMillisDuration > m_cMillisMax)
@@ -306,6 +342,22 @@ public abstract class AbstractSnapshotArchiver
             }
         }
 
+    /**
+     * Record the number of bytes archived (or retrieved) for a single store.
+     *
+     * @param cbArchived      the number of bytes of store data
+     * @param cbDeduplicated  the number of bytes of store data that were
+     *                        already present in the archive
+     * @param cbWritten       the number of bytes written to (or read from)
+     *                        the archive
+     */
+    protected void recordBytes(long cbArchived, long cbDeduplicated, long cbWritten)
+        {
+        m_cbArchived     += cbArchived;
+        m_cbDeduplicated += cbDeduplicated;
+        m_cbWritten      += cbWritten;
+        }
+
     /**
      * Display the collected statistics for the given snapshot and type of operation.
      *
@@ -334,6 +386,18 @@ public abstract class AbstractSnapshotArchiver
           .append(m_cMillisMax)
           .append("ms");
 
+        if (m_cbArchived > 0L)
+            {
+            sb.append(", Bytes ")
+              .append(sType)
+              .append("d=")
+              .append(m_cbArchived)
+              .append(", Bytes transferred=")
+              .append(m_cbWritten)
+              .append(", Dedupe ratio=")
+              .append(String.format("%.2f", getDedupeRatio()));
+            }
+
         Logger.finer(sb.toString());
         }
 
@@ -425,6 +489,12 @@ public abstract class AbstractSnapshotArchiver
                                              new File(fileBaseDir, CachePersistenceHelper.DEFAULT_SNAPSHOT_DIR),
                                              new File(fileBaseDir, CachePersistenceHelper.DEFAULT_TRASH_DIR));
             }
+        else if (sStorageFormat.equals(LogStructuredManager.STORAGE_FORMAT))
+            {
+            return new LogStructuredEnvironment(new File(fileBaseDir, CachePersistenceHelper.DEFAULT_ACTIVE_DIR),
+                                                new File(fileBaseDir, CachePersistenceHelper.DEFAULT_SNAPSHOT_DIR),
+                                                new File(fileBaseDir, CachePersistenceHelper.DEFAULT_TRASH_DIR));
+            }
         return null;
         }
 
@@ -649,4 +719,20 @@ public abstract class AbstractSnapshotArchiver
      * The start time of the last operation.
      */
     protected long m_cMillisLastStart = -1L;
+
+    /**
+     * The number of bytes of store data archived or retrieved.
+     */
+    protected long m_cbArchived;
+
+    /**
+     * The number of bytes of store data that were already present in the
+     * archive.
+     */
+    protected long m_cbDeduplicated;
+
+    /**
+     * The number of bytes written to or read from the archive.
+     */
+    protected long m_cbWritten;
     }
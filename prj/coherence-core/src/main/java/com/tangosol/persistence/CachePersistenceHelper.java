@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -50,6 +50,9 @@ import com.tangosol.net.partition.VersionAwareMapListener;
 import com.tangosol.persistence.bdb.BerkeleyDBEnvironment;
 import com.tangosol.persistence.bdb.BerkeleyDBManager;
 
+import com.tangosol.persistence.log.LogStructuredEnvironment;
+import com.tangosol.persistence.log.LogStructuredManager;
+
 import com.tangosol.util.Base;
 import com.tangosol.util.Binary;
 import com.tangosol.util.Converter;
@@ -1270,6 +1273,10 @@ public class CachePersistenceHelper
                 {
                 tools = new BerkeleyDBManager(dirSnapshot, null, null, validation).getPersistenceTools();
                 }
+            else if (LogStructuredManager.STORAGE_FORMAT.equals(sPersistenceType))
+                {
+                tools = new LogStructuredManager(dirSnapshot, null, null, validation).getPersistenceTools();
+                }
             else
                 {
                 // In 12.2.1 we do not support this. See COH-12674
@@ -1609,14 +1616,30 @@ public class CachePersistenceHelper
             };
         }
 
+    /**
+     * Return the snapshot directory of the specified environment, if it is
+     * one of the file based environments provided by Coherence.
+     *
+     * @param env  the {@link PersistenceEnvironment}
+     *
+     * @return the snapshot directory, or null if the environment is not a
+     *         {@link BerkeleyDBEnvironment} or {@link LogStructuredEnvironment}
+     */
+    protected static File getSnapshotDirectory(PersistenceEnvironment env)
+        {
+        return env instanceof BerkeleyDBEnvironment || env instanceof LogStructuredEnvironment
+                ? ((AbstractPersistenceEnvironment) env).getPersistenceSnapshotDirectory()
+                : null;
+        }
+
     public static void recordRecoveryStatus(PersistenceEnvironment env, String sSnapshot, boolean bRecoverySuccess, String sReason)
         {
-        if (!(env instanceof BerkeleyDBEnvironment))
+        File dirSnapshots = getSnapshotDirectory(env);
+        if (dirSnapshots == null)
             {
             return;
             }
 
-        File dirSnapshots = ((BerkeleyDBEnvironment) env).getPersistenceSnapshotDirectory();
         Properties props = new Properties();
         props.setProperty(RECOVERY_META_VERSION, "0");
         props.setProperty(RECOVERY_META_STATUS_PROPERTY,
@@ -1660,12 +1683,13 @@ public class CachePersistenceHelper
      */
     public static String getSnapshotStatus(PersistenceEnvironment env, String sName)
         {
-        if (!(env instanceof BerkeleyDBEnvironment))
+        File dirSnapshots = getSnapshotDirectory(env);
+        if (dirSnapshots == null)
             {
             return null;
             }
 
-        File dirSnapshot = new File(((BerkeleyDBEnvironment) env).getPersistenceSnapshotDirectory(), sName);
+        File dirSnapshot = new File(dirSnapshots, sName);
         if (!dirSnapshot.isDirectory() || !dirSnapshot.canRead() || !dirSnapshot.canExecute())
             {
             return SNAPSHOT_STATUS_NOT_FOUND;
@@ -1694,12 +1718,13 @@ public class CachePersistenceHelper
      */
     public static String getSnapshotRecoveryStatus(PersistenceEnvironment env, String sName)
         {
-        if (!(env instanceof BerkeleyDBEnvironment))
+        File dirSnapshots = getSnapshotDirectory(env);
+        if (dirSnapshots == null)
             {
             return null;
             }
 
-        File dirSnapshot = new File(((BerkeleyDBEnvironment) env).getPersistenceSnapshotDirectory(), sName);
+        File dirSnapshot = new File(dirSnapshots, sName);
         if (!dirSnapshot.isDirectory() || !dirSnapshot.canRead() || !dirSnapshot.canExecute())
             {
             return SNAPSHOT_STATUS_NOT_FOUND;
@@ -1723,15 +1748,15 @@ public class CachePersistenceHelper
 
     public static String[] getFailedSnapshots(PersistenceEnvironment env)
         {
-        PersistenceEnvironment persistEnv = SafePersistenceWrappers.unwrap(env);
-        if (!(persistEnv instanceof BerkeleyDBEnvironment))
+        PersistenceEnvironment persistEnv   = SafePersistenceWrappers.unwrap(env);
+        File                   dirSnapshots = getSnapshotDirectory(persistEnv);
+        if (dirSnapshots == null)
             {
             return null;
             }
 
         // respond with list of failed snapshots
-        File     dirSnapshots = ((BerkeleyDBEnvironment) persistEnv).getPersistenceSnapshotDirectory();
-        String[] asSnapshots  = persistEnv.listSnapshots();
+        String[] asSnapshots = persistEnv.listSnapshots();
 
         List<String> asFailedSnapshots = new ArrayList<>();
         for (String sName : asSnapshots)
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -8,28 +8,75 @@ package com.tangosol.persistence;
 
 import com.oracle.coherence.common.base.Logger;
 
+import com.oracle.coherence.common.internal.Platform;
+
+import com.oracle.coherence.common.util.Duration;
+
 import com.oracle.coherence.persistence.PersistenceException;
 import com.oracle.coherence.persistence.PersistenceManager;
 
+import com.tangosol.coherence.config.Config;
+
 import com.tangosol.io.FileHelper;
 import com.tangosol.io.ReadBuffer;
 
 import com.tangosol.net.GuardSupport;
 
 import com.tangosol.util.Base;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Properties;
+import java.util.Random;
+import java.util.Set;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 /**
  * An implementation of a {@link SnapshotArchiver} that uses a shared directory
  * to store archived snapshots.
+ * <p>
+ * By default stores are archived incrementally: the contents of each store
+ * are split into content-defined chunks, and each chunk is written (compressed)
+ * to a content-addressed chunk directory shared by all the archived snapshots
+ * of the service, unless a chunk with the same content is already present.
+ * The archived store itself is a manifest listing the chunks that make up the
+ * store, which is used to reassemble and verify the store when it is retrieved.
+ * Stores archived in full by a previous version of this archiver (or with
+ * incremental archiving disabled) are still retrieved.
+ * <p>
+ * The stores owned by a member are archived and retrieved in parallel, by at
+ * most {@code coherence.distributed.persistence.archive.threads} threads.
  *
  * @since 12.2.1
  * @author tam  2014.08.19
@@ -55,6 +102,7 @@ public class DirectorySnapshotArchiver
         super(sClusterName, sServiceName);
 
         f_fileSharedDirectoryPath = fileDirectory;
+        f_fileChunkDirectory      = new File(fileDirectory, CHUNK_DIRECTORY);
 
         FileHelper.ensureDir(f_fileSharedDirectoryPath);
 
@@ -74,6 +122,7 @@ public class DirectorySnapshotArchiver
         ArrayList<String> snapshotArrayList = new ArrayList<>();
 
         // the base directory should contain just archived snapshot directories
+        // and the chunk directory
         File[] aFiles = f_fileSharedDirectoryPath.listFiles(ArchiverHelper.DirectoryFileFilter.INSTANCE);
 
         if (aFiles != null)
@@ -81,7 +130,10 @@ public class DirectorySnapshotArchiver
             // go through each snapshot directory
             for (File file : aFiles)
                 {
-                snapshotArrayList.add(file.getName());
+                if (!file.getName().equals(CHUNK_DIRECTORY))
+                    {
+                    snapshotArrayList.add(file.getName());
+                    }
                 }
             }
 
@@ -91,137 +143,27 @@ public class DirectorySnapshotArchiver
     @Override
     protected void archiveInternal(Snapshot snapshot, PersistenceManager<ReadBuffer> mgr)
         {
-        String       sSnapshotName = snapshot.getName();
-        OutputStream os            = null;
+        String sSnapshotName        = snapshot.getName();
+        File   fileArchivedSnapshot = new File(f_fileSharedDirectoryPath, sSnapshotName);
 
-        for (String sStore : snapshot.listStores())
+        try
             {
-            Logger.finer("Archiving store " + sStore + " for snapshot " + sSnapshotName);
-            recordStartTime();
-
-            try
-                {
-                File fileArchivedSnapshot = new File(f_fileSharedDirectoryPath, sSnapshotName);
-
-                FileHelper.ensureDir(fileArchivedSnapshot);
-
-                if (CachePersistenceHelper.isGlobalPartitioningSchemePID(GUIDHelper.getPartition(sStore)))
-                    {
-                    // write archived snapshot metadata properties only once
-                    writeMetadata(fileArchivedSnapshot, mgr, sStore);
-                    }
-
-                // generate the file to write to
-                File fileStore = new File(fileArchivedSnapshot, sStore);
-
-                if (mgr.isEmpty(sStore))
-                    {
-                    fileStore.createNewFile();
-                    }
-                else
-                    {
-                    // the output stream will be used by the manager to write the store to
-                    os = new FileOutputStream(fileStore);
-
-                    mgr.write(sStore, os);    // instruct the mgr to write the store to the stream
-                    }
-
-                // issue heartbeat as operations could take a relatively long time
-                GuardSupport.heartbeat();
-                }
-            catch (Exception e)
-                {
-                e.printStackTrace();
-
-                throw CachePersistenceHelper.ensurePersistenceException(e, "Error writing store");
-                }
-            finally
-                {
-                if (os != null)
-                    {
-                    try
-                        {
-                        os.close();
-                        }
-                    catch (IOException ioe)
-                        {
-                        throw CachePersistenceHelper.ensurePersistenceException(ioe,
-                                "Unable to close output stream for store " + sStore);
-                        }
-                    }
-                }
-
-            recordEndTime();
+            FileHelper.ensureDir(fileArchivedSnapshot);
+            }
+        catch (IOException e)
+            {
+            throw CachePersistenceHelper.ensurePersistenceException(e, "Error creating directory " + fileArchivedSnapshot);
             }
+
+        execute(snapshot.listStores(), sStore -> archiveStore(sSnapshotName, fileArchivedSnapshot, sStore, mgr));
         }
 
     @Override
     protected void retrieveInternal(Snapshot snapshot, PersistenceManager<ReadBuffer> mgr)
         {
-        String      sSnapshotName = snapshot.getName();
-        InputStream is            = null;
-
-        for (String sStore : snapshot.listStores())
-            {
-            Logger.finer("Retrieving store " + sStore + " for snapshot " + sSnapshotName);
-            recordStartTime();
-
-            try
-                {
-                if (CachePersistenceHelper.isGlobalPartitioningSchemePID(GUIDHelper.getPartition(sStore)))
-                    {
-                    // validate that the metadata file exists for partition 0
-                    if (getMetadata(sSnapshotName) == null)
-                        {
-                        throw new IllegalArgumentException("Cannot load properties file " +
-                                     CachePersistenceHelper.META_FILENAME + " for snapshot " + sSnapshotName);
-                        }
-                    }
-
-                File fileStore = new File(f_fileSharedDirectoryPath, sSnapshotName);
-                fileStore      = new File(fileStore, sStore);
-
-                if (!fileStore.exists())
-                    {
-                    throw new PersistenceException("Store " + fileStore + " does not exist. Unable to retrieve.");
-                    }
-
-                if (fileStore.length() != 0)
-                    {
-                    // the input stream will be used by the manager to retrieve the archives store
-                    is = new FileInputStream(fileStore);
-
-                    mgr.read(sStore, is);    // instruct the mgr to read the store from the stream
-
-                    // issue heartbeat as operations could take a relatively long time
-                    GuardSupport.heartbeat();
-                    }
-                else
-                    {
-                    mgr.createStore(sStore);
-                    }
-                }
-            catch (IOException e)
-                {
-                throw CachePersistenceHelper.ensurePersistenceException(e, "Error reading store " + sStore);
-                }
-            finally
-                {
-                if (is != null)
-                    {
-                    try
-                        {
-                        is.close();
-                        }
-                    catch (IOException ioe)
-                        {
-                        throw CachePersistenceHelper.ensurePersistenceException(ioe, "Unable to close input stream for store " + sStore);
-                        }
-                    }
-                }
+        String sSnapshotName = snapshot.getName();
 
-            recordEndTime();
-            }
+        execute(snapshot.listStores(), sStore -> retrieveStore(sSnapshotName, sStore, mgr));
         }
 
     @Override
@@ -240,6 +182,8 @@ public class DirectorySnapshotArchiver
 
             FileHelper.deleteDir(fileSnapshot);
 
+            removeUnreferencedChunks();
+
             return true;
             }
         catch (IOException ioe)
@@ -332,11 +276,1216 @@ public class DirectorySnapshotArchiver
         return this.f_fileSharedDirectoryPath;
         }
 
-    // ----- data members ---------------------------------------------------
+    /**
+     * Return the directory the content-addressed chunks of incrementally
+     * archived stores are written to.
+     *
+     * @return the chunk directory
+     */
+    public File getChunkDirectory()
+        {
+        return f_fileChunkDirectory;
+        }
+
+    // ----- helpers --------------------------------------------------------
 
     /**
-     * The shared directory to write archives to. On instantiation this
-     * directory will include the cluster and service.
+     * Archive the specified store.
+     *
+     * @param sSnapshotName         the name of the snapshot
+     * @param fileArchivedSnapshot  the directory of the archived snapshot
+     * @param sStore                the store to archive
+     * @param mgr                   the manager used to read the store
+     *
+     * @return the statistics of the operation
      */
-    private final File f_fileSharedDirectoryPath;
+    protected StoreStatistics archiveStore(String sSnapshotName, File fileArchivedSnapshot,
+                                           String sStore, PersistenceManager<ReadBuffer> mgr)
+        {
+        Logger.finer("Archiving store " + sStore + " for snapshot " + sSnapshotName);
+
+        long         ldtStart = Base.getSafeTimeMillis();
+        OutputStream os       = null;
+        ChunkWriter  writer   = null;
+
+        try
+            {
+            if (CachePersistenceHelper.isGlobalPartitioningSchemePID(GUIDHelper.getPartition(sStore)))
+                {
+                // write archived snapshot metadata properties only once
+                writeMetadata(fileArchivedSnapshot, mgr, sStore);
+                }
+
+            // generate the file to write to
+            File fileStore = new File(fileArchivedSnapshot, sStore);
+
+            if (mgr.isEmpty(sStore))
+                {
+                fileStore.createNewFile();
+
+                return new StoreStatistics(Base.getSafeTimeMillis() - ldtStart, 0L, 0L, 0L);
+                }
+            else if (INCREMENTAL)
+                {
+                // the manager writes the store to the chunk writer, which
+                // writes the chunks that are not yet in the archive
+                writer = new ChunkWriter();
+
+                mgr.write(sStore, writer);
+                writer.close();
+
+                os = new BufferedOutputStream(new FileOutputStream(fileStore));
+                writer.writeManifest(os);
+
+                return new StoreStatistics(Base.getSafeTimeMillis() - ldtStart, writer.getBytesArchived(),
+                        writer.getBytesDeduplicated(), writer.getBytesWritten() + fileStore.length());
+                }
+            else
+                {
+                // the output stream will be used by the manager to write the store to
+                os = new FileOutputStream(fileStore);
+
+                mgr.write(sStore, os);    // instruct the mgr to write the store to the stream
+                os.close();
+
+                return new StoreStatistics(Base.getSafeTimeMillis() - ldtStart, fileStore.length(), 0L,
+                        fileStore.length());
+                }
+            }
+        catch (Exception e)
+            {
+            throw CachePersistenceHelper.ensurePersistenceException(e, "Error writing store " + sStore);
+            }
+        finally
+            {
+            if (writer != null)
+                {
+                writer.release();
+                }
+
+            if (os != null)
+                {
+                try
+                    {
+                    os.close();
+                    }
+                catch (IOException ioe)
+                    {
+                    throw CachePersistenceHelper.ensurePersistenceException(ioe,
+                            "Unable to close output stream for store " + sStore);
+                    }
+                }
+            }
+        }
+
+    /**
+     * Retrieve the specified store.
+     *
+     * @param sSnapshotName  the name of the snapshot
+     * @param sStore         the store to retrieve
+     * @param mgr            the manager used to write the store
+     *
+     * @return the statistics of the operation
+     */
+    protected StoreStatistics retrieveStore(String sSnapshotName, String sStore, PersistenceManager<ReadBuffer> mgr)
+        {
+        Logger.finer("Retrieving store " + sStore + " for snapshot " + sSnapshotName);
+
+        long        ldtStart = Base.getSafeTimeMillis();
+        InputStream is       = null;
+
+        try
+            {
+            if (CachePersistenceHelper.isGlobalPartitioningSchemePID(GUIDHelper.getPartition(sStore)))
+                {
+                // validate that the metadata file exists for partition 0
+                if (getMetadata(sSnapshotName) == null)
+                    {
+                    throw new IllegalArgumentException("Cannot load properties file " +
+                                 CachePersistenceHelper.META_FILENAME + " for snapshot " + sSnapshotName);
+                    }
+                }
+
+            File fileStore = new File(f_fileSharedDirectoryPath, sSnapshotName);
+            fileStore      = new File(fileStore, sStore);
+
+            if (!fileStore.exists())
+                {
+                throw new PersistenceException("Store " + fileStore + " does not exist. Unable to retrieve.");
+                }
+
+            long cbStore = fileStore.length();
+            if (cbStore == 0)
+                {
+                mgr.createStore(sStore);
+
+                return new StoreStatistics(Base.getSafeTimeMillis() - ldtStart, 0L, 0L, 0L);
+                }
+
+            Manifest manifest = readManifest(fileStore);
+            if (manifest == null)
+                {
+                // the store was archived in full
+                is = new FileInputStream(fileStore);
+
+                mgr.read(sStore, is);    // instruct the mgr to read the store from the stream
+
+                return new StoreStatistics(Base.getSafeTimeMillis() - ldtStart, cbStore, 0L, cbStore);
+                }
+
+            // the manager reads the store reassembled from the chunks
+            ChunkReader reader = new ChunkReader(manifest);
+            is = reader;
+
+            mgr.read(sStore, reader);
+
+            return new StoreStatistics(Base.getSafeTimeMillis() - ldtStart, manifest.getLength(), 0L,
+                    reader.getBytesRead() + cbStore);
+            }
+        catch (IOException e)
+            {
+            throw CachePersistenceHelper.ensurePersistenceException(e, "Error reading store " + sStore);
+            }
+        finally
+            {
+            if (is != null)
+                {
+                try
+                    {
+                    is.close();
+                    }
+                catch (IOException ioe)
+                    {
+                    throw CachePersistenceHelper.ensurePersistenceException(ioe, "Unable to close input stream for store " + sStore);
+                    }
+                }
+            }
+        }
+
+    /**
+     * Perform the specified operation for each of the specified stores, using
+     * up to {@link #THREADS} threads, and record the statistics of each
+     * operation.
+     *
+     * @param asStores   the stores
+     * @param operation  the operation to perform for each store
+     */
+    protected void execute(String[] asStores, StoreOperation operation)
+        {
+        int cThreads = Math.min(THREADS, asStores.length);
+        if (cThreads <= 1)
+            {
+            for (String sStore : asStores)
+                {
+                record(operation.execute(sStore));
+
+                // issue heartbeat as operations could take a relatively long time
+                GuardSupport.heartbeat();
+                }
+            return;
+            }
+
+        String          sThread  = "DirectorySnapshotArchiver:" + f_sServiceName;
+        ExecutorService executor = Executors.newFixedThreadPool(cThreads, r ->
+            {
+            Thread thread = new Thread(r, sThread);
+            thread.setDaemon(true);
+            return thread;
+            });
+
+        try
+            {
+            List<Future<StoreStatistics>> listFutures = new ArrayList<>(asStores.length);
+            for (String sStore : asStores)
+                {
+                listFutures.add(executor.submit(() -> operation.execute(sStore)));
+                }
+
+            for (Future<StoreStatistics> future : listFutures)
+                {
+                while (true)
+                    {
+                    try
+                        {
+                        record(future.get(HEARTBEAT_MILLIS, TimeUnit.MILLISECONDS));
+                        break;
+                        }
+                    catch (TimeoutException e)
+                        {
+                        // issue heartbeat as operations could take a relatively long time
+                        GuardSupport.heartbeat();
+                        }
+                    }
+                GuardSupport.heartbeat();
+                }
+            }
+        catch (InterruptedException e)
+            {
+            Thread.currentThread().interrupt();
+            throw CachePersistenceHelper.ensurePersistenceException(e, "Interrupted while waiting for stores");
+            }
+        catch (ExecutionException e)
+            {
+            throw CachePersistenceHelper.ensurePersistenceException(e.getCause());
+            }
+        finally
+            {
+            executor.shutdownNow();
+            }
+        }
+
+    /**
+     * Record the statistics of an operation on a single store.
+     *
+     * @param stats  the statistics of the operation
+     */
+    protected void record(StoreStatistics stats)
+        {
+        recordDuration(stats.f_cMillis);
+        recordBytes(stats.f_cbArchived, stats.f_cbDeduplicated, stats.f_cbWritten);
+        }
+
+    /**
+     * Return the file the chunk with the specified name is written to.
+     *
+     * @param sChunk  the name (hex encoded hash) of the chunk
+     *
+     * @return the chunk file
+     */
+    protected File getChunkFile(String sChunk)
+        {
+        // spread the chunks across sub-directories to keep directory sizes manageable
+        return new File(new File(f_fileChunkDirectory, sChunk.substring(0, 2)), sChunk);
+        }
+
+    /**
+     * Read the manifest of an incrementally archived store.
+     *
+     * @param fileStore  the archived store
+     *
+     * @return the manifest, or null if the store was archived in full
+     *
+     * @throws IOException if an error occurs reading the manifest
+     */
+    protected static Manifest readManifest(File fileStore)
+            throws IOException
+        {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(fileStore))))
+            {
+            if (fileStore.length() < 4 || in.readInt() != MANIFEST_MAGIC)
+                {
+                return null;
+                }
+
+            int nVersion = in.readByte();
+            if (nVersion > MANIFEST_VERSION)
+                {
+                throw new IOException("the manifest of " + fileStore + " is a newer version ("
+                        + nVersion + ") than is supported by this archiver (" + MANIFEST_VERSION + ")");
+                }
+
+            long          cbStore   = in.readLong();
+            int           cChunks   = in.readInt();
+            List<byte[]>  listHash  = new ArrayList<>(cChunks);
+            int[]         acbChunk  = new int[cChunks];
+            long          cbChunks  = 0L;
+
+            for (int i = 0; i < cChunks; i++)
+                {
+                byte[] abHash = new byte[HASH_LENGTH];
+                in.readFully(abHash);
+                listHash.add(abHash);
+
+                acbChunk[i] = in.readInt();
+                cbChunks   += acbChunk[i];
+                }
+
+            if (cbChunks != cbStore)
+                {
+                throw new StreamCorruptedException("the manifest of " + fileStore + " is corrupt");
+                }
+
+            return new Manifest(cbStore, listHash, acbChunk);
+            }
+        }
+
+    /**
+     * Remove the chunks that are not referenced by any of the archived
+     * snapshots.
+     * <p>
+     * A concurrent archive operation, for example one started by another
+     * cluster sharing the directory, writes its chunks before the manifests
+     * that reference them, and touches the existing chunks it deduplicates
+     * against. Therefore neither the chunks nor the temporary chunk files
+     * modified within the {@link #getChunkGracePeriodMillis() grace period}
+     * are removed.
+     */
+    protected void removeUnreferencedChunks()
+        {
+        File[] aDirChunks = f_fileChunkDirectory.listFiles(ArchiverHelper.DirectoryFileFilter.INSTANCE);
+        if (aDirChunks == null)
+            {
+            return;
+            }
+
+        Set<String> setReferenced = new HashSet<>();
+        try
+            {
+            for (String sSnapshot : listInternal())
+                {
+                File[] aFileStores = new File(f_fileSharedDirectoryPath, sSnapshot).listFiles();
+                if (aFileStores != null)
+                    {
+                    for (File fileStore : aFileStores)
+                        {
+                        Manifest manifest = fileStore.isFile() ? readManifest(fileStore) : null;
+                        if (manifest != null)
+                            {
+                            for (int i = 0, c = manifest.getChunkCount(); i < c; i++)
+                                {
+                                setReferenced.add(manifest.getChunkName(i));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        catch (IOException e)
+            {
+            // be conservative and keep all of the chunks
+            Logger.warn("Unable to read the manifests of the archived snapshots under "
+                        + f_fileSharedDirectoryPath + " " + e.getMessage());
+            return;
+            }
+
+        long ldtCutoff = System.currentTimeMillis() - getChunkGracePeriodMillis();
+        int  cRemoved  = 0;
+        for (File dirChunks : aDirChunks)
+            {
+            File[] aFileChunks = dirChunks.listFiles();
+            if (aFileChunks != null)
+                {
+                for (File fileChunk : aFileChunks)
+                    {
+                    // the modification time is checked last, right before
+                    // the chunk is deleted
+                    if (!setReferenced.contains(fileChunk.getName())
+                        && fileChunk.lastModified() < ldtCutoff
+                        && fileChunk.delete())
+                        {
+                        cRemoved++;
+                        }
+                    }
+                }
+            }
+
+        Logger.finer("Removed " + cRemoved + " unreferenced chunks from " + f_fileChunkDirectory);
+        }
+
+    /**
+     * Return the time, in milliseconds, an unreferenced chunk or temporary
+     * chunk file is retained after it was last modified.
+     *
+     * @return the grace period of the unreferenced chunks
+     */
+    protected long getChunkGracePeriodMillis()
+        {
+        return CHUNK_GRACE_MILLIS;
+        }
+
+    /**
+     * Return a new digest used to hash the chunks.
+     *
+     * @return a new digest
+     */
+    protected static MessageDigest instantiateDigest()
+        {
+        try
+            {
+            return MessageDigest.getInstance("SHA-256");
+            }
+        catch (NoSuchAlgorithmException e)
+            {
+            throw Base.ensureRuntimeException(e);
+            }
+        }
+
+    // ----- inner interface: StoreOperation --------------------------------
+
+    /**
+     * An operation on a single store.
+     */
+    @FunctionalInterface
+    protected interface StoreOperation
+        {
+        /**
+         * Perform the operation on the specified store.
+         *
+         * @param sStore  the store
+         *
+         * @return the statistics of the operation
+         */
+        public StoreStatistics execute(String sStore);
+        }
+
+    // ----- inner class: StoreStatistics -----------------------------------
+
+    /**
+     * The statistics of an operation on a single store.
+     */
+    protected static class StoreStatistics
+        {
+        /**
+         * Construct a {@link StoreStatistics}.
+         *
+         * @param cMillis         the duration of the operation in millis
+         * @param cbArchived      the number of bytes of store data
+         * @param cbDeduplicated  the number of bytes of store data that were
+         *                        already present in the archive
+         * @param cbWritten       the number of bytes written to (or read
+         *                        from) the archive
+         */
+        protected StoreStatistics(long cMillis, long cbArchived, long cbDeduplicated, long cbWritten)
+            {
+            f_cMillis        = cMillis;
+            f_cbArchived     = cbArchived;
+            f_cbDeduplicated = cbDeduplicated;
+            f_cbWritten      = cbWritten;
+            }
+
+        /**
+         * The duration of the operation in millis.
+         */
+        protected final long f_cMillis;
+
+        /**
+         * The number of bytes of store data.
+         */
+        protected final long f_cbArchived;
+
+        /**
+         * The number of bytes of store data that were already present in the
+         * archive.
+         */
+        protected final long f_cbDeduplicated;
+
+        /**
+         * The number of bytes written to (or read from) the archive.
+         */
+        protected final long f_cbWritten;
+        }
+
+    // ----- inner class: Manifest ------------------------------------------
+
+    /**
+     * The list of chunks an incrementally archived store is made up of.
+     */
+    protected static class Manifest
+        {
+        /**
+         * Construct a {@link Manifest}.
+         *
+         * @param cbStore   the length of the store
+         * @param listHash  the hashes of the chunks
+         * @param acbChunk  the lengths of the chunks
+         */
+        protected Manifest(long cbStore, List<byte[]> listHash, int[] acbChunk)
+            {
+            f_cbStore  = cbStore;
+            f_listHash = listHash;
+            f_acbChunk = acbChunk;
+            }
+
+        /**
+         * Return the length of the store.
+         *
+         * @return the length of the store
+         */
+        public long getLength()
+            {
+            return f_cbStore;
+            }
+
+        /**
+         * Return the number of chunks.
+         *
+         * @return the number of chunks
+         */
+        public int getChunkCount()
+            {
+            return f_acbChunk.length;
+            }
+
+        /**
+         * Return the hash of the specified chunk.
+         *
+         * @param iChunk  the chunk index
+         *
+         * @return the hash of the chunk
+         */
+        public byte[] getChunkHash(int iChunk)
+            {
+            return f_listHash.get(iChunk);
+            }
+
+        /**
+         * Return the name of the specified chunk.
+         *
+         * @param iChunk  the chunk index
+         *
+         * @return the name of the chunk
+         */
+        public String getChunkName(int iChunk)
+            {
+            return Base.toHex(f_listHash.get(iChunk));
+            }
+
+        /**
+         * Return the length of the specified chunk.
+         *
+         * @param iChunk  the chunk index
+         *
+         * @return the length of the chunk
+         */
+        public int getChunkLength(int iChunk)
+            {
+            return f_acbChunk[iChunk];
+            }
+
+        /**
+         * The length of the store.
+         */
+        protected final long f_cbStore;
+
+        /**
+         * The hashes of the chunks.
+         */
+        protected final List<byte[]> f_listHash;
+
+        /**
+         * The lengths of the chunks.
+         */
+        protected final int[] f_acbChunk;
+        }
+
+    // ----- inner class: ChunkWriter ---------------------------------------
+
+    /**
+     * An OutputStream that splits the data written to it into content-defined
+     * chunks and writes the chunks that are not yet present in the archive
+     * to the chunk directory.
+     * <p>
+     * Chunk boundaries are chosen using a rolling (gear) hash of the data, so
+     * that data inserted into or removed from a store only affects the
+     * chunks around the change, and the rest of the store is deduplicated
+     * against the previous archives.
+     */
+    protected class ChunkWriter
+            extends OutputStream
+        {
+        /**
+         * Construct a {@link ChunkWriter}.
+         */
+        protected ChunkWriter()
+            {
+            f_digest   = instantiateDigest();
+            f_deflater = COMPRESS ? new Deflater(Deflater.BEST_SPEED) : null;
+            }
+
+        // ----- OutputStream methods ---------------------------------------
+
+        @Override
+        public void write(int b)
+            throws IOException
+            {
+            f_abSingle[0] = (byte) b;
+            write(f_abSingle, 0, 1);
+            }
+
+        @Override
+        public void write(byte[] ab, int of, int cb)
+            throws IOException
+            {
+            byte[] abChunk = f_abChunk;
+            long   lHash   = m_lHash;
+            int    cbChunk = m_cbChunk;
+
+            for (int i = of, iEnd = of + cb; i < iEnd; i++)
+                {
+                byte b = ab[i];
+
+                abChunk[cbChunk++] = b;
+                lHash = (lHash << 1) + GEAR[b & 0xFF];
+
+                if (cbChunk >= CHUNK_MIN && (lHash & CHUNK_MASK) == 0L || cbChunk == CHUNK_MAX)
+                    {
+                    writeChunk(cbChunk);
+                    cbChunk = 0;
+                    lHash   = 0L;
+                    }
+                }
+
+            m_lHash   = lHash;
+            m_cbChunk = cbChunk;
+            }
+
+        @Override
+        public void close()
+            throws IOException
+            {
+            if (m_cbChunk > 0)
+                {
+                writeChunk(m_cbChunk);
+                m_cbChunk = 0;
+                m_lHash   = 0L;
+                }
+            }
+
+        // ----- ChunkWriter methods ----------------------------------------
+
+        /**
+         * Write the manifest of the chunks written to this writer.
+         *
+         * @param os  the stream to write the manifest to
+         *
+         * @throws IOException if an error occurs writing the manifest
+         */
+        public void writeManifest(OutputStream os)
+                throws IOException
+            {
+            DataOutputStream out = new DataOutputStream(os);
+
+            out.writeInt(MANIFEST_MAGIC);
+            out.writeByte(MANIFEST_VERSION);
+            out.writeLong(m_cbArchived);
+            out.writeInt(f_listHash.size());
+
+            for (int i = 0, c = f_listHash.size(); i < c; i++)
+                {
+                out.write(f_listHash.get(i));
+                out.writeInt(f_listLength.get(i));
+                }
+            out.flush();
+            }
+
+        /**
+         * Release the resources held by this writer.
+         */
+        public void release()
+            {
+            if (f_deflater != null)
+                {
+                f_deflater.end();
+                }
+            }
+
+        /**
+         * Return the number of bytes written to this writer.
+         *
+         * @return the number of bytes archived
+         */
+        public long getBytesArchived()
+            {
+            return m_cbArchived;
+            }
+
+        /**
+         * Return the number of bytes written to this writer that were already
+         * present in the archive.
+         *
+         * @return the number of bytes deduplicated
+         */
+        public long getBytesDeduplicated()
+            {
+            return m_cbDeduplicated;
+            }
+
+        /**
+         * Return the number of bytes written to the chunk directory.
+         *
+         * @return the number of bytes written
+         */
+        public long getBytesWritten()
+            {
+            return m_cbWritten;
+            }
+
+        // ----- helpers ----------------------------------------------------
+
+        /**
+         * Write the current chunk to the chunk directory, unless a chunk with
+         * the same content is already present.
+         *
+         * @param cbChunk  the length of the chunk
+         *
+         * @throws IOException if an error occurs writing the chunk
+         */
+        protected void writeChunk(int cbChunk)
+                throws IOException
+            {
+            byte[] abChunk = f_abChunk;
+
+            f_digest.update(abChunk, 0, cbChunk);
+
+            byte[] abHash = f_digest.digest();
+            String sChunk = Base.toHex(abHash);
+            File   file   = getChunkFile(sChunk);
+
+            f_listHash.add(abHash);
+            f_listLength.add(cbChunk);
+            m_cbArchived += cbChunk;
+
+            // touch the existing chunk, so that it is not removed as
+            // unreferenced before the manifest referencing it is written
+            if (file.exists() && file.setLastModified(System.currentTimeMillis()))
+                {
+                m_cbDeduplicated += cbChunk;
+                return;
+                }
+
+            // compress the chunk, unless it does not compress
+            byte   bCodec = CODEC_NONE;
+            byte[] abData = abChunk;
+            int    cbData = cbChunk;
+
+            Deflater deflater = f_deflater;
+            if (deflater != null)
+                {
+                byte[] abDeflated = f_abDeflated;
+                int    cbDeflated = 0;
+
+                deflater.reset();
+                deflater.setInput(abChunk, 0, cbChunk);
+                deflater.finish();
+                while (!deflater.finished() && cbDeflated < cbChunk)
+                    {
+                    cbDeflated += deflater.deflate(abDeflated, cbDeflated, cbChunk - cbDeflated);
+                    }
+
+                if (deflater.finished() && cbDeflated < cbChunk)
+                    {
+                    bCodec = CODEC_DEFLATE;
+                    abData = abDeflated;
+                    cbData = cbDeflated;
+                    }
+                }
+
+            // write the chunk to a temporary file first, so that a chunk file
+            // is either complete or absent, even if several members write the
+            // same chunk concurrently
+            File dir = file.getParentFile();
+            FileHelper.ensureDir(dir);
+
+            File fileTemp = File.createTempFile(sChunk, ".tmp", dir);
+            try
+                {
+                try (OutputStream os = new FileOutputStream(fileTemp))
+                    {
+                    os.write(bCodec);
+                    os.write(abData, 0, cbData);
+                    }
+                Files.move(fileTemp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                }
+            finally
+                {
+                fileTemp.delete();
+                }
+
+            m_cbWritten += cbData + 1;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The digest used to hash the chunks.
+         */
+        protected final MessageDigest f_digest;
+
+        /**
+         * The deflater used to compress the chunks, or null if compression
+         * is disabled.
+         */
+        protected final Deflater f_deflater;
+
+        /**
+         * The buffer holding the current chunk.
+         */
+        protected final byte[] f_abChunk = new byte[CHUNK_MAX];
+
+        /**
+         * The buffer holding the current compressed chunk.
+         */
+        protected final byte[] f_abDeflated = new byte[CHUNK_MAX];
+
+        /**
+         * A buffer used to write a single byte.
+         */
+        protected final byte[] f_abSingle = new byte[1];
+
+        /**
+         * The hashes of the chunks written to this writer.
+         */
+        protected final List<byte[]> f_listHash = new ArrayList<>();
+
+        /**
+         * The lengths of the chunks written to this writer.
+         */
+        protected final List<Integer> f_listLength = new ArrayList<>();
+
+        /**
+         * The rolling hash of the current chunk.
+         */
+        protected long m_lHash;
+
+        /**
+         * The length of the current chunk.
+         */
+        protected int m_cbChunk;
+
+        /**
+         * The number of bytes written to this writer.
+         */
+        protected long m_cbArchived;
+
+        /**
+         * The number of bytes written to this writer that were already present
+         * in the archive.
+         */
+        protected long m_cbDeduplicated;
+
+        /**
+         * The number of bytes written to the chunk directory.
+         */
+        protected long m_cbWritten;
+        }
+
+    // ----- inner class: ChunkReader ---------------------------------------
+
+    /**
+     * An InputStream that reassembles an incrementally archived store from
+     * its chunks, verifying the length and hash of each chunk.
+     */
+    protected class ChunkReader
+            extends InputStream
+        {
+        /**
+         * Construct a {@link ChunkReader}.
+         *
+         * @param manifest  the manifest of the store
+         */
+        protected ChunkReader(Manifest manifest)
+            {
+            f_manifest = manifest;
+            f_digest   = instantiateDigest();
+            }
+
+        // ----- InputStream methods ----------------------------------------
+
+        @Override
+        public int read()
+                throws IOException
+            {
+            if (m_ofChunk == m_cbChunk && !nextChunk())
+                {
+                return -1;
+                }
+            return m_abChunk[m_ofChunk++] & 0xFF;
+            }
+
+        @Override
+        public int read(byte[] ab, int of, int cb)
+                throws IOException
+            {
+            if (cb == 0)
+                {
+                return 0;
+                }
+
+            if (m_ofChunk == m_cbChunk && !nextChunk())
+                {
+                return -1;
+                }
+
+            int cbRead = Math.min(cb, m_cbChunk - m_ofChunk);
+            System.arraycopy(m_abChunk, m_ofChunk, ab, of, cbRead);
+            m_ofChunk += cbRead;
+
+            return cbRead;
+            }
+
+        @Override
+        public void close()
+            {
+            f_inflater.end();
+            }
+
+        // ----- ChunkReader methods ----------------------------------------
+
+        /**
+         * Return the number of bytes read from the chunk directory.
+         *
+         * @return the number of bytes read
+         */
+        public long getBytesRead()
+            {
+            return m_cbRead;
+            }
+
+        // ----- helpers ----------------------------------------------------
+
+        /**
+         * Read and verify the next chunk of the store.
+         *
+         * @return false if all chunks have been read
+         *
+         * @throws IOException if the chunk is missing or corrupt
+         */
+        protected boolean nextChunk()
+                throws IOException
+            {
+            Manifest manifest = f_manifest;
+            int      iChunk   = m_iChunk;
+            if (iChunk == manifest.getChunkCount())
+                {
+                return false;
+                }
+
+            String sChunk  = manifest.getChunkName(iChunk);
+            int    cbChunk = manifest.getChunkLength(iChunk);
+            File   file    = getChunkFile(sChunk);
+            byte[] abFile;
+
+            try
+                {
+                abFile = Files.readAllBytes(file.toPath());
+                }
+            catch (IOException e)
+                {
+                throw (IOException) new FileNotFoundException("Archived chunk " + file + " is missing").initCause(e);
+                }
+            m_cbRead += abFile.length;
+
+            byte[] abChunk = m_abChunk.length >= cbChunk ? m_abChunk : new byte[cbChunk];
+            int    cbData  = abFile.length - 1;
+
+            if (cbData < 0)
+                {
+                throw new StreamCorruptedException("Archived chunk " + file + " is corrupt");
+                }
+            else if (abFile[0] == CODEC_NONE)
+                {
+                if (cbData != cbChunk)
+                    {
+                    throw new StreamCorruptedException("Archived chunk " + file + " is corrupt");
+                    }
+                System.arraycopy(abFile, 1, abChunk, 0, cbData);
+                }
+            else if (abFile[0] == CODEC_DEFLATE)
+                {
+                Inflater inflater = f_inflater;
+                inflater.reset();
+                inflater.setInput(abFile, 1, cbData);
+                try
+                    {
+                    int cbInflated = 0;
+                    while (cbInflated < cbChunk && !inflater.finished())
+                        {
+                        int cb = inflater.inflate(abChunk, cbInflated, cbChunk - cbInflated);
+                        if (cb == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                            {
+                            break;
+                            }
+                        cbInflated += cb;
+                        }
+
+                    if (cbInflated != cbChunk)
+                        {
+                        throw new StreamCorruptedException("Archived chunk " + file + " is corrupt");
+                        }
+                    }
+                catch (DataFormatException e)
+                    {
+                    throw (IOException) new StreamCorruptedException("Archived chunk " + file + " is corrupt").initCause(e);
+                    }
+                }
+            else
+                {
+                throw new StreamCorruptedException("Archived chunk " + file + " uses an unknown codec " + abFile[0]);
+                }
+
+            // verify the content of the chunk
+            f_digest.update(abChunk, 0, cbChunk);
+            if (!Arrays.equals(f_digest.digest(), manifest.getChunkHash(iChunk)))
+                {
+                throw new StreamCorruptedException("Archived chunk " + file + " failed verification");
+                }
+
+            m_abChunk = abChunk;
+            m_cbChunk = cbChunk;
+            m_ofChunk = 0;
+            m_iChunk  = iChunk + 1;
+
+            return true;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The manifest of the store.
+         */
+        protected final Manifest f_manifest;
+
+        /**
+         * The digest used to verify the chunks.
+         */
+        protected final MessageDigest f_digest;
+
+        /**
+         * The inflater used to decompress the chunks.
+         */
+        protected final Inflater f_inflater = new Inflater();
+
+        /**
+         * The current chunk.
+         */
+        protected byte[] m_abChunk = new byte[0];
+
+        /**
+         * The length of the current chunk.
+         */
+        protected int m_cbChunk;
+
+        /**
+         * The offset of the next byte to read in the current chunk.
+         */
+        protected int m_ofChunk;
+
+        /**
+         * The index of the next chunk to read.
+         */
+        protected int m_iChunk;
+
+        /**
+         * The number of bytes read from the chunk directory.
+         */
+        protected long m_cbRead;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The name of the directory, under the shared directory, the chunks are
+     * written to.
+     */
+    public static final String CHUNK_DIRECTORY = ".chunks";
+
+    /**
+     * Flag indicating whether stores are archived incrementally.
+     */
+    public static final boolean INCREMENTAL =
+            Config.getBoolean("coherence.distributed.persistence.archive.incremental", true);
+
+    /**
+     * Flag indicating whether the archived chunks are compressed.
+     */
+    public static final boolean COMPRESS =
+            Config.getBoolean("coherence.distributed.persistence.archive.compress", true);
+
+    /**
+     * The number of threads used to archive and retrieve the stores of a
+     * member.
+     */
+    public static final int THREADS = Math.max(1, Config.getInteger("coherence.distributed.persistence.archive.threads",
+            Platform.getPlatform().getFairShareProcessors()));
+
+    /**
+     * The average size of a chunk (a power of two).
+     */
+    protected static final int CHUNK_SIZE = Integer.highestOneBit(Math.max(4096,
+            Config.getInteger("coherence.distributed.persistence.archive.chunk.size", 1 << 20)));
+
+    /**
+     * The minimum size of a chunk.
+     */
+    protected static final int CHUNK_MIN = CHUNK_SIZE / 4;
+
+    /**
+     * The maximum size of a chunk.
+     */
+    protected static final int CHUNK_MAX = CHUNK_SIZE * 4;
+
+    /**
+     * The time an unreferenced chunk is retained after it was last modified,
+     * so that it is not removed while an archive operation that is about to
+     * reference it is in progress.
+     */
+    protected static final long CHUNK_GRACE_MILLIS = Config.getDuration(
+            "coherence.distributed.persistence.archive.chunk.grace",
+            new Duration(1, Duration.Magnitude.HOUR)).as(Duration.Magnitude.MILLI);
+
+    /**
+     * The mask applied to the rolling hash to find a chunk boundary.
+     */
+    protected static final long CHUNK_MASK = CHUNK_SIZE - 1;
+
+    /**
+     * The random values used by the rolling hash; the values are generated
+     * from a fixed seed, as the chunk boundaries must be the same on all
+     * members.
+     */
+    private static final long[] GEAR = new long[256];
+
+    static
+        {
+        Random rnd = new Random(0x436F6865L);
+        for (int i = 0; i < GEAR.length; i++)
+            {
+            GEAR[i] = rnd.nextLong();
+            }
+        }
+
+    /**
+     * The length of a chunk hash.
+     */
+    protected static final int HASH_LENGTH = 32;
+
+    /**
+     * The magic number of a manifest, distinguishing it from a store archived
+     * in full.
+     */
+    protected static final int MANIFEST_MAGIC = 0x43484B4D;
+
+    /**
+     * The manifest version.
+     */
+    protected static final int MANIFEST_VERSION = 1;
+
+    /**
+     * The codec of an uncompressed chunk.
+     */
+    protected static final byte CODEC_NONE = 0;
+
+    /**
+     * The codec of a deflated chunk.
+     */
+    protected static final byte CODEC_DEFLATE = 1;
+
+    /**
+     * The interval in millis at which the guardian is notified while waiting
+     * for the stores.
+     */
+    protected static final long HEARTBEAT_MILLIS = 1000L;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The shared directory to write archives to. On instantiation this
+     * directory will include the cluster and service.
+     */
+    private final File f_fileSharedDirectoryPath;
+
+    /**
+     * The directory the chunks of incrementally archived stores are written to.
+     */
+    private final File f_fileChunkDirectory;
     }
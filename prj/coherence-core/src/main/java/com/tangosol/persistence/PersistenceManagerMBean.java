@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -66,6 +66,61 @@ public interface PersistenceManagerMBean
     @Description("Specifies whether or not the persistence coordinator is idle.")
     public boolean isIdle();
 
+    /**
+     * Return the number of partitions being recovered by the current (or
+     * the most recent) recovery.
+     *
+     * @return the number of partitions to recover
+     *
+     * @since 15.0.0
+     */
+    @Description("The number of partitions being recovered by the current or most recent recovery.")
+    public int getRecoveryPartitionCount();
+
+    /**
+     * Return the number of partitions that have been recovered by the
+     * current (or the most recent) recovery.
+     *
+     * @return the number of recovered partitions
+     *
+     * @since 15.0.0
+     */
+    @Description("The number of partitions recovered by the current or most recent recovery.")
+    public int getRecoveredPartitionCount();
+
+    /**
+     * Return the number of entries that have been recovered by the current
+     * (or the most recent) recovery.
+     *
+     * @return the number of recovered entries
+     *
+     * @since 15.0.0
+     */
+    @Description("The number of entries recovered by the current or most recent recovery.")
+    public long getRecoveredEntryCount();
+
+    /**
+     * Return the elapsed time (in milliseconds) of the current (or the most
+     * recent) recovery.
+     *
+     * @return the recovery duration in milliseconds
+     *
+     * @since 15.0.0
+     */
+    @Description("The elapsed time in milliseconds of the current or most recent recovery.")
+    public long getRecoveryDuration();
+
+    /**
+     * Return the recovery throughput (in entries per second) of the current
+     * (or the most recent) recovery.
+     *
+     * @return the number of entries recovered per second
+     *
+     * @since 15.0.0
+     */
+    @Description("The number of entries recovered per second by the current or most recent recovery.")
+    public long getRecoveryThroughput();
+
     /**
      * Return a list of snapshots that are available for recovery.
      *
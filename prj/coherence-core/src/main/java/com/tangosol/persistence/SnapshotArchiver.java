@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -87,4 +87,53 @@ public interface SnapshotArchiver
      * @return a PersistenceTools implementation
      */
     public PersistenceTools getPersistenceTools(String sSnapshot);
+
+    // ----- statistics -----------------------------------------------------
+
+    /**
+     * Return the number of bytes of store data archived (or retrieved) by
+     * the most recent archive (or retrieve) operation of this archiver.
+     *
+     * @return the number of bytes of store data, or zero if the archiver
+     *         does not track it
+     *
+     * @since 15.0.0
+     */
+    public default long getBytesArchived()
+        {
+        return 0L;
+        }
+
+    /**
+     * Return the number of bytes written to (or read from) the archive by
+     * the most recent archive (or retrieve) operation of this archiver.
+     * <p>
+     * For an archiver that deduplicates or compresses the archived stores
+     * this is usually less than the {@link #getBytesArchived() number of
+     * bytes archived}.
+     *
+     * @return the number of bytes written to or read from the archive, or
+     *         zero if the archiver does not track it
+     *
+     * @since 15.0.0
+     */
+    public default long getBytesWritten()
+        {
+        return 0L;
+        }
+
+    /**
+     * Return the fraction (between 0 and 1) of the bytes archived by the most
+     * recent archive operation of this archiver that were already present in
+     * the archive, and therefore did not have to be written.
+     *
+     * @return the deduplication ratio, or zero if the archiver does not
+     *         deduplicate archived data
+     *
+     * @since 15.0.0
+     */
+    public default double getDedupeRatio()
+        {
+        return 0.0;
+        }
     }
@@ -0,0 +1,2352 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.persistence.log;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.oracle.coherence.persistence.ConcurrentAccessException;
+import com.oracle.coherence.persistence.FatalAccessException;
+import com.oracle.coherence.persistence.OfflinePersistenceInfo;
+import com.oracle.coherence.persistence.PersistenceException;
+import com.oracle.coherence.persistence.PersistenceTools;
+import com.oracle.coherence.persistence.PersistentStore;
+
+import com.tangosol.coherence.config.Config;
+
+import com.tangosol.io.ByteArrayWriteBuffer;
+import com.tangosol.io.FileHelper;
+import com.tangosol.io.ReadBuffer;
+import com.tangosol.io.WriteBuffer;
+
+import com.tangosol.net.GuardSupport;
+
+import com.tangosol.net.cache.KeyAssociation;
+
+import com.tangosol.net.security.SecurityHelper;
+
+import com.tangosol.persistence.AbstractPersistenceManager;
+import com.tangosol.persistence.CachePersistenceHelper;
+import com.tangosol.persistence.SafePersistenceWrappers;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.Unsafe;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import java.nio.ByteBuffer;
+
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+
+import java.security.PrivilegedAction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import java.util.zip.CRC32;
+
+/**
+ * PersistenceManager implementation that stores the contents of each
+ * persistent store in an append-only log of segment files.
+ * <p>
+ * Each store appends its changes to the active segment of its log as
+ * checksummed frames. A frame holds all the changes of a single transaction,
+ * thus a transaction is either recovered as a whole or not at all. The keys
+ * of each extent and the location of their most recent value are held in an
+ * in-memory key directory, which is rebuilt by replaying the log when the
+ * store is opened; the values are only held by the segment files and read on
+ * demand.
+ * <p>
+ * Commits are written with positional {@link FileChannel} writes under a
+ * single lock. If the log is configured to be synced, commits that complete
+ * while another commit is syncing the log share a single
+ * {@link FileChannel#force force} (group commit). Once the active segment
+ * reaches its maximum size it is sealed and a new segment is started; sealed
+ * segments are compacted in the background by relocating the live values of
+ * the oldest segment to the active segment and deleting it.
+ *
+ * @author coh  2026.10.16
+ * @since 15.0.0
+ */
+public class LogStructuredManager
+        extends AbstractPersistenceManager<LogStructuredManager.LogStructuredStore>
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a new LogStructuredManager.
+     *
+     * @param fileData   the directory containing the logs managed by this
+     *                   LogStructuredManager
+     * @param fileTrash  an optional trash directory
+     * @param sName      an optional name to give the new manager
+     *
+     * @throws IOException on error creating the data or trash directory
+     */
+    public LogStructuredManager(File fileData, File fileTrash, String sName)
+            throws IOException
+        {
+        this(fileData, fileTrash, sName, false);
+        }
+
+    /**
+     * Create a new LogStructuredManager.
+     *
+     * @param fileData     the directory containing the logs managed by this
+     *                     LogStructuredManager
+     * @param fileTrash    an optional trash directory
+     * @param sName        an optional name to give the new manager
+     * @param fValidation  whether to enable snapshot validation
+     *
+     * @throws IOException on error creating the data or trash directory
+     */
+    public LogStructuredManager(File fileData, File fileTrash, String sName, boolean fValidation)
+            throws IOException
+        {
+        super(fileData, fileTrash, sName);
+
+        f_fValidation = fValidation;
+        }
+
+    // ----- AbstractPersistenceManager methods -----------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int getImplVersion()
+        {
+        return 0;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getStorageFormat()
+        {
+        return STORAGE_FORMAT;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int getStorageVersion()
+        {
+        return 0;
+        }
+
+    @Override
+    public synchronized void maintainEnvironment()
+        {
+        for (LogStructuredStore store : getPersistentStoreMap().values())
+            {
+            store.maintainLog();
+            }
+        }
+
+    @Override
+    protected PersistenceTools instantiatePersistenceTools(OfflinePersistenceInfo info)
+        {
+        return new AbstractPersistenceSnapshotTools(getDataDirectory(), info)
+            {
+            // ----- PersistenceTools methods -------------------------------
+
+            @Override
+            public void validate()
+                {
+                validateWithPartitions();
+                }
+
+            /**
+             * Validate the available {@link PersistentStore}s under the context
+             * of the associated manager (snapshot or archived snapshot).
+             *
+             * @return  partition names that were successfully validated
+             *
+             * @throws RuntimeException if the snapshot is invalid
+             */
+            public String[] validateWithPartitions()
+                {
+                List<String> listVerified = new ArrayList<>();
+                for (String sStore : f_info.getGUIDs())
+                    {
+                    FileLock lock = FileHelper.lockFile(new File(getLockDirectory(), sStore + ".validation.lck"));
+                    if (lock == null)
+                        {
+                        continue;
+                        }
+                    try
+                        {
+                        File fileStore = new File(f_dirSnapshot, sStore);
+                        if (!FileHelper.isEmpty(fileStore))
+                            {
+                            try
+                                {
+                                verifyLog(fileStore);
+                                }
+                            catch (IOException e)
+                                {
+                                throw CachePersistenceHelper.ensurePersistenceException(e,
+                                        "Unable to validate the log at " + fileStore.getAbsolutePath());
+                                }
+                            validateStoreSealed(sStore);
+                            }
+                        listVerified.add(sStore);
+                        }
+                    finally
+                        {
+                        FileHelper.unlockFile(lock);
+                        }
+                    }
+                return listVerified.toArray(new String[0]);
+                }
+            };
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Create a snapshot of this manager.
+     *
+     * @param fileSnapshot  the directory of the snapshot
+     *
+     * @throws PersistenceException if a general persistence error occurs
+     */
+    protected void createSnapshot(final File fileSnapshot)
+        {
+        executeTaskExclusive(new Task()
+            {
+            @Override
+            public void execute()
+                {
+                for (LogStructuredStore store : getPersistentStoreMap().values())
+                    {
+                    GuardSupport.heartbeat();
+
+                    File fileDirFrom = store.getDataDirectory();
+                    try
+                        {
+                        File fileDirTo = FileHelper.ensureDir(new File(fileSnapshot, fileDirFrom.getName()));
+
+                        CachePersistenceHelper.copyMetadata(fileDirFrom, fileDirTo);
+                        store.copySegments(fileDirTo);
+                        }
+                    catch (Exception e)
+                        {
+                        throw ensurePersistenceException(e, "error creating snapshot \""
+                                + fileSnapshot + "\" while copying persistent store \""
+                                + fileDirFrom + '"');
+                        }
+                    }
+                }
+            });
+        }
+
+    /**
+     * Verify that the segments of the log in the specified directory are
+     * complete and not corrupted.
+     *
+     * @param dirStore  the directory of the log
+     *
+     * @throws IOException if the log is incomplete or corrupted
+     */
+    protected static void verifyLog(File dirStore)
+            throws IOException
+        {
+        for (File file : listSegments(dirStore))
+            {
+            long lId = Segment.readHeader(file);
+            long of  = Segment.readFrames(file, (ofFrame, abPayload) -> {});
+            if (of != file.length())
+                {
+                throw new IOException("segment " + lId + " is corrupted at offset " + of);
+                }
+            }
+        }
+
+    /**
+     * Return the segment files of the log in the specified directory, in the
+     * order they were written.
+     *
+     * @param dirStore  the directory of the log
+     *
+     * @return the segment files
+     */
+    protected static File[] listSegments(File dirStore)
+        {
+        File[] aFile = dirStore.listFiles((dir, sName) -> sName.endsWith(SEGMENT_SUFFIX));
+        if (aFile == null)
+            {
+            return new File[0];
+            }
+
+        // the fixed-width names sort in the order the segments were created
+        Arrays.sort(aFile);
+        return aFile;
+        }
+
+    /**
+     * Return the maximum size of a segment.
+     *
+     * @return the maximum size of a segment in bytes
+     */
+    public long getSegmentSize()
+        {
+        return m_cbSegment;
+        }
+
+    /**
+     * Set the maximum size of a segment of the logs opened by this manager.
+     *
+     * @param cbSegment  the maximum size of a segment in bytes
+     */
+    public void setSegmentSize(long cbSegment)
+        {
+        m_cbSegment = cbSegment;
+        }
+
+    // ----- inner class: LogStructuredStore --------------------------------
+
+    /**
+     * Factory method for LogStructuredStore implementations managed by this
+     * LogStructuredManager.
+     *
+     * @param sId  the identifier of the store to create
+     *
+     * @return a new LogStructuredStore with the given identifier
+     */
+    @Override
+    protected LogStructuredStore instantiatePersistentStore(String sId)
+        {
+        return new LogStructuredStore(sId);
+        }
+
+    /**
+     * PersistentStore implementation that stores its contents in an
+     * append-only log of segment files.
+     */
+    protected class LogStructuredStore
+            extends AbstractPersistenceManager<LogStructuredStore>.AbstractPersistentStore
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Create a new LogStructuredStore.
+         *
+         * @param sId  the identifier for this store
+         */
+        protected LogStructuredStore(String sId)
+            {
+            super(sId);
+            }
+
+        // ----- AbstractPersistentStore methods ----------------------------
+
+        /**
+         * Open this persistent store.<p>
+         * During the snapshot validation this method will ignore
+         * ConcurrentAccessException.
+         *
+         * @param storeFrom  the PersistenceStore the new store should be based upon
+         *
+         * @return true if the store was created
+         */
+        @Override
+        protected boolean open(PersistentStore<ReadBuffer> storeFrom)
+            {
+            try
+                {
+                return super.open(storeFrom);
+                }
+            catch (PersistenceException e)
+                {
+                if (LogStructuredManager.this.f_fValidation && e instanceof ConcurrentAccessException)
+                    {
+                    return false;
+                    }
+                throw e;
+                }
+            }
+
+        @Override
+        protected void copyAndOpenInternal(PersistentStore<ReadBuffer> storeFrom)
+            {
+            storeFrom = SafePersistenceWrappers.unwrap(storeFrom);
+
+            if (storeFrom instanceof LogStructuredStore)
+                {
+                // copy the segments of the provided store, which are then
+                // replayed by this store
+                try
+                    {
+                    LogStructuredStore storeLog = (LogStructuredStore) storeFrom;
+
+                    storeLog.validateMetadata();
+                    storeLog.lockRead();
+                    try
+                        {
+                        storeLog.copySegments(f_dirStore);
+                        }
+                    finally
+                        {
+                        storeLog.unlockRead();
+                        }
+
+                    openInternal();
+                    }
+                catch (IOException | PersistenceException e)
+                    {
+                    delete(false);
+                    throw e instanceof PersistenceException ? (PersistenceException) e :
+                            ensurePersistenceException(e,
+                            "Unable to copy from previous store to new store; from " +
+                                    storeFrom + " to " + this);
+                    }
+                }
+            else
+                {
+                super.copyAndOpenInternal(storeFrom);
+                }
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void openInternal()
+            {
+            if (m_segmentActive == null)
+                {
+                try
+                    {
+                    recover();
+                    }
+                catch (IOException | RuntimeException e)
+                    {
+                    releaseInternal();
+                    throw ensurePersistenceException(new FatalAccessException(
+                            "error opening the log in directory \"" + f_dirStore + '"', e));
+                    }
+                }
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void releaseInternal()
+            {
+            synchronized (f_oAppendLock)
+                {
+                for (Segment segment : f_listSegments)
+                    {
+                    segment.close();
+                    }
+                f_listSegments.clear();
+                f_mapDirectory.clear();
+
+                m_segmentActive = null;
+                m_cbLog         = 0L;
+                m_cbLive        = 0L;
+                }
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected boolean deleteInternal()
+            {
+            // nothing to do
+            return true;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void loadExtentIdsInternal(Set<Long> set)
+            {
+            set.addAll(f_mapDirectory.keySet());
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void createExtentInternal(long lExtentId)
+            {
+            LogTransaction tx = new LogTransaction();
+            tx.create(lExtentId);
+            append(tx);
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void deleteExtentInternal(long lExtentId)
+            {
+            LogTransaction tx = new LogTransaction();
+            tx.delete(lExtentId);
+            append(tx);
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void moveExtentInternal(long lOldExtentId, long lNewExtentId)
+            {
+            LogTransaction tx = new LogTransaction();
+            tx.move(lOldExtentId, lNewExtentId);
+            append(tx);
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void truncateExtentInternal(long lExtentId)
+            {
+            LogTransaction tx = new LogTransaction();
+            tx.truncate(lExtentId);
+            append(tx);
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected ReadBuffer loadInternal(long lExtentId, ReadBuffer bufKey)
+            {
+            ConcurrentNavigableMap<Binary, Location> map = f_mapDirectory.get(lExtentId);
+            if (map == null)
+                {
+                return null;
+                }
+
+            Binary binKey = bufKey.toBinary();
+            return read(map, binKey, map.get(binKey));
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void storeInternal(long lExtentId, ReadBuffer bufKey, ReadBuffer bufValue, Object oToken)
+            {
+            ensureTransaction(oToken).store(lExtentId, bufKey, bufValue);
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void eraseInternal(long lExtentId, ReadBuffer bufKey, Object oToken)
+            {
+            ensureTransaction(oToken).erase(lExtentId, bufKey);
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void iterateInternal(Visitor<ReadBuffer> visitor)
+            {
+            try
+                {
+                for (Map.Entry<Long, ConcurrentNavigableMap<Binary, Location>> entryExtent : f_mapDirectory.entrySet())
+                    {
+                    long lExtentId = entryExtent.getKey();
+                    if (!visitor.visitExtent(lExtentId))
+                        {
+                        continue;
+                        }
+
+                    ConcurrentNavigableMap<Binary, Location> map      = entryExtent.getValue();
+                    ReadBuffer                               bufStart = visitor.visitFromKey();
+                    if (bufStart == null)
+                        {
+                        // visit the entries in the order their values are
+                        // stored in the log, so that each segment is read
+                        // sequentially
+                        List<Map.Entry<Binary, Location>> listEntries = new ArrayList<>(map.entrySet());
+                        listEntries.sort(Map.Entry.comparingByValue());
+
+                        for (Map.Entry<Binary, Location> entry : listEntries)
+                            {
+                            Binary     binKey   = entry.getKey();
+                            ReadBuffer bufValue = read(map, binKey, entry.getValue());
+                            if (bufValue != null && !visitor.visit(lExtentId, binKey, bufValue))
+                                {
+                                return;
+                                }
+                            }
+                        }
+                    else if (bufStart.equals(CachePersistenceHelper.LAST_ENTRY))
+                        {
+                        Map.Entry<Binary, Location> entry = map.lastEntry();
+                        if (entry != null)
+                            {
+                            ReadBuffer bufValue = read(map, entry.getKey(), entry.getValue());
+                            if (bufValue != null)
+                                {
+                                visitor.visit(lExtentId, entry.getKey(), bufValue);
+                                return;
+                                }
+                            }
+                        }
+                    else
+                        {
+                        // as with the other stores, the iteration only starts
+                        // if the start key exists
+                        Binary binStart = bufStart.toBinary();
+                        if (!map.containsKey(binStart))
+                            {
+                            continue;
+                            }
+
+                        for (Map.Entry<Binary, Location> entry : map.tailMap(binStart, true).entrySet())
+                            {
+                            Binary     binKey   = entry.getKey();
+                            ReadBuffer bufValue = read(map, binKey, entry.getValue());
+                            if (bufValue != null && !visitor.visit(lExtentId, binKey, bufValue))
+                                {
+                                return;
+                                }
+                            }
+                        }
+                    }
+                }
+            catch (Throwable e)
+                {
+                // I/O error or Throwable from Visitor#visit call
+                throw ensurePersistenceException(e);
+                }
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Object beginInternal()
+            {
+            return new LogTransaction();
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void commitInternal(Object oToken)
+            {
+            append(ensureTransaction(oToken));
+            maintainLog();
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void abortInternal(Object oToken)
+            {
+            // the changes of a transaction are only written to the log
+            // when the transaction is committed
+            ensureTransaction(oToken);
+            }
+
+        @Override
+        protected AutoCloseable instantiateExclusiveClosable()
+            {
+            AutoCloseable parent = super.instantiateExclusiveClosable();
+            return () ->
+                {
+                parent.close();
+
+                maintainLog();
+                };
+            }
+
+        // ----- accessors --------------------------------------------------
+
+        /**
+         * Return the total size of the segments of the log.
+         *
+         * @return the total size of the log in bytes
+         */
+        public long getLogSize()
+            {
+            return m_cbLog;
+            }
+
+        /**
+         * Return the size of the records in the log that hold the most recent
+         * value of a key.
+         *
+         * @return the size of the live records in bytes
+         */
+        public long getLiveSize()
+            {
+            return m_cbLive;
+            }
+
+        /**
+         * Return the number of segments of the log.
+         *
+         * @return the number of segments
+         */
+        public int getSegmentCount()
+            {
+            return f_listSegments.size();
+            }
+
+        // ----- helpers ----------------------------------------------------
+
+        /**
+         * Rebuild the key directory by replaying the segments of the log.
+         *
+         * @throws IOException if a segment cannot be read or is corrupted
+         */
+        protected void recover()
+                throws IOException
+            {
+            File[] aFile    = listSegments(f_dirStore);
+            int    cSegment = aFile.length;
+            long   ldtStart = getSafeTimeMillis();
+
+            for (int i = 0; i < cSegment; i++)
+                {
+                File    file  = aFile[i];
+                boolean fLast = i == cSegment - 1;
+
+                if (fLast && file.length() < Segment.HEADER_SIZE)
+                    {
+                    // the process stopped while the segment was being created
+                    file.delete();
+                    break;
+                    }
+
+                Segment segment = Segment.open(file, Segment.readHeader(file));
+                f_listSegments.add(segment);
+
+                long of = Segment.readFrames(file, (ofFrame, abPayload) -> replay(segment, ofFrame, abPayload));
+                if (of < file.length())
+                    {
+                    if (!fLast)
+                        {
+                        throw new IOException("segment " + segment.f_lId + " is corrupted at offset " + of);
+                        }
+
+                    // discard the incomplete frame of a transaction that was
+                    // being written when the process stopped
+                    Logger.warn("Discarding " + (file.length() - of) + " bytes of an incomplete transaction"
+                                + " at the end of the log in directory \"" + f_dirStore + '"');
+                    segment.truncate(of);
+                    }
+                m_cbLog += segment.m_ofTail;
+                }
+
+            if (f_listSegments.isEmpty())
+                {
+                startSegment(1L);
+                }
+            else
+                {
+                m_segmentActive = f_listSegments.get(f_listSegments.size() - 1);
+                }
+
+            Logger.finest(() -> "Recovered " + f_mapDirectory.size() + " extents from " + f_listSegments.size()
+                                + " segments in directory \"" + f_dirStore + "\" in "
+                                + (getSafeTimeMillis() - ldtStart) + "ms");
+            }
+
+        /**
+         * Apply the records of a frame that was read from the log to the key
+         * directory.
+         *
+         * @param segment    the segment the frame was read from
+         * @param ofFrame    the offset of the frame in the segment
+         * @param abPayload  the records of the frame
+         *
+         * @throws IOException if the frame contains an unknown record
+         */
+        protected void replay(Segment segment, long ofFrame, byte[] abPayload)
+                throws IOException
+            {
+            ByteBuffer buf = ByteBuffer.wrap(abPayload);
+            while (buf.hasRemaining())
+                {
+                int  ofRecord  = buf.position();
+                byte nType     = buf.get();
+                long lExtentId = buf.getLong();
+
+                switch (nType)
+                    {
+                    case RECORD_STORE:
+                        {
+                        Binary binKey  = readKey(buf);
+                        int    cbValue = buf.getInt();
+                        int    ofValue = buf.position();
+
+                        buf.position(ofValue + cbValue);
+                        onStore(lExtentId, binKey, new Location(segment,
+                                ofFrame + Segment.FRAME_HEADER_SIZE + ofValue, cbValue, buf.position() - ofRecord));
+                        break;
+                        }
+
+                    case RECORD_ERASE:
+                        onErase(lExtentId, readKey(buf));
+                        break;
+
+                    case RECORD_CREATE:
+                        onCreate(lExtentId);
+                        break;
+
+                    case RECORD_DELETE:
+                        onDelete(lExtentId);
+                        break;
+
+                    case RECORD_TRUNCATE:
+                        onTruncate(lExtentId);
+                        break;
+
+                    case RECORD_MOVE:
+                        onMove(lExtentId, buf.getLong());
+                        break;
+
+                    default:
+                        throw new IOException("unknown record type " + nType + " in segment " + segment.f_lId);
+                    }
+                }
+            }
+
+        /**
+         * Read a key from the specified buffer.
+         *
+         * @param buf  the buffer
+         *
+         * @return the key
+         */
+        protected Binary readKey(ByteBuffer buf)
+            {
+            int    cbKey = buf.getInt();
+            byte[] abKey = new byte[cbKey];
+
+            buf.get(abKey);
+            return newBinaryUnsafe(abKey);
+            }
+
+        /**
+         * Append the specified transaction to the log and apply it to the key
+         * directory.
+         *
+         * @param tx  the transaction
+         */
+        protected void append(LogTransaction tx)
+            {
+            if (tx.isEmpty())
+                {
+                return;
+                }
+
+            Segment segment;
+            long    ofEnd;
+            synchronized (f_oAppendLock)
+                {
+                segment = appendInternal(tx);
+                ofEnd   = segment.m_ofTail;
+                }
+
+            if (SYNC)
+                {
+                syncSegment(segment, ofEnd);
+                }
+            }
+
+        /**
+         * Append the specified transaction to the log and apply it to the key
+         * directory.
+         * <p>
+         * Note: this method must be called while holding the append lock.
+         *
+         * @param tx  the transaction
+         *
+         * @return the segment the transaction was written to
+         */
+        protected Segment appendInternal(LogTransaction tx)
+            {
+            Segment segment = m_segmentActive;
+            if (segment == null)
+                {
+                throw new IllegalStateException("the log in directory \"" + f_dirStore + "\" is not open");
+                }
+
+            ByteBuffer buf = tx.getFrame();
+            int        cb  = buf.remaining();
+            try
+                {
+                if (segment.m_ofTail > Segment.HEADER_SIZE && segment.m_ofTail + cb > m_cbSegment)
+                    {
+                    segment.seal(SYNC);
+                    segment = startSegment(segment.f_lId + 1);
+                    }
+
+                long ofFrame = segment.append(buf);
+                m_cbLog += cb;
+
+                for (LogTransaction.Operation op : tx.f_listOps)
+                    {
+                    switch (op.f_nType)
+                        {
+                        case RECORD_STORE:
+                            onStore(op.f_lExtentId, op.f_binKey,
+                                    new Location(segment, ofFrame + op.f_ofValue, op.f_cbValue, op.f_cbRecord));
+                            break;
+
+                        case RECORD_ERASE:
+                            onErase(op.f_lExtentId, op.f_binKey);
+                            break;
+
+                        case RECORD_CREATE:
+                            onCreate(op.f_lExtentId);
+                            break;
+
+                        case RECORD_DELETE:
+                            onDelete(op.f_lExtentId);
+                            break;
+
+                        case RECORD_TRUNCATE:
+                            onTruncate(op.f_lExtentId);
+                            break;
+
+                        case RECORD_MOVE:
+                            onMove(op.f_lExtentId, op.f_lExtentTo);
+                            break;
+                        }
+                    }
+                return segment;
+                }
+            catch (IOException e)
+                {
+                throw ensurePersistenceException(new FatalAccessException(
+                        "error writing to the log in directory \"" + f_dirStore + '"', e));
+                }
+            }
+
+        /**
+         * Ensure that the log has been synced up to the specified offset of the
+         * specified segment.
+         * <p>
+         * A commit that finds the log already being synced waits for that sync
+         * to complete and only syncs the log itself if its own frame was
+         * written after the sync started, thus concurrent commits share a
+         * single sync.
+         *
+         * @param segment  the segment
+         * @param ofEnd    the offset up to which the segment must be synced
+         */
+        protected void syncSegment(Segment segment, long ofEnd)
+            {
+            try
+                {
+                segment.sync(ofEnd);
+                }
+            catch (ClosedChannelException e)
+                {
+                // a compacted segment is removed before it is closed, and its
+                // values have been relocated and synced since; any other
+                // closed channel, such as one closed by an interrupt, is fatal
+                if (f_listSegments.contains(segment))
+                    {
+                    throw ensurePersistenceException(new FatalAccessException(
+                            "error syncing the log in directory \"" + f_dirStore + '"', e));
+                    }
+                }
+            catch (IOException e)
+                {
+                throw ensurePersistenceException(new FatalAccessException(
+                        "error syncing the log in directory \"" + f_dirStore + '"', e));
+                }
+            }
+
+        /**
+         * Create and activate a new segment.
+         *
+         * @param lId  the identifier of the new segment
+         *
+         * @return the new segment
+         *
+         * @throws IOException if the segment cannot be created
+         */
+        protected Segment startSegment(long lId)
+                throws IOException
+            {
+            Segment segment = Segment.create(f_dirStore, lId);
+
+            f_listSegments.add(segment);
+            m_segmentActive = segment;
+            m_cbLog        += segment.m_ofTail;
+            return segment;
+            }
+
+        /**
+         * Record that the specified value is the most recent value of the key.
+         *
+         * @param lExtentId  the extent identifier
+         * @param binKey     the key
+         * @param location   the location of the value
+         */
+        protected void onStore(long lExtentId, Binary binKey, Location location)
+            {
+            ConcurrentNavigableMap<Binary, Location> map = f_mapDirectory.get(lExtentId);
+            if (map == null)
+                {
+                // the extent was deleted while the transaction was pending
+                return;
+                }
+
+            release(map.put(binKey, location));
+            location.f_segment.m_cbLive += location.f_cbRecord;
+            m_cbLive                    += location.f_cbRecord;
+            }
+
+        /**
+         * Record that the specified key has been erased.
+         *
+         * @param lExtentId  the extent identifier
+         * @param binKey     the key
+         */
+        protected void onErase(long lExtentId, Binary binKey)
+            {
+            ConcurrentNavigableMap<Binary, Location> map = f_mapDirectory.get(lExtentId);
+            if (map != null)
+                {
+                release(map.remove(binKey));
+                }
+            }
+
+        /**
+         * Record that the specified extent has been created.
+         *
+         * @param lExtentId  the extent identifier
+         */
+        protected void onCreate(long lExtentId)
+            {
+            f_mapDirectory.computeIfAbsent(lExtentId, l -> new ConcurrentSkipListMap<>());
+            }
+
+        /**
+         * Record that the specified extent has been deleted.
+         *
+         * @param lExtentId  the extent identifier
+         */
+        protected void onDelete(long lExtentId)
+            {
+            ConcurrentNavigableMap<Binary, Location> map = f_mapDirectory.remove(lExtentId);
+            if (map != null)
+                {
+                map.values().forEach(this::release);
+                }
+            }
+
+        /**
+         * Record that the specified extent has been truncated.
+         *
+         * @param lExtentId  the extent identifier
+         */
+        protected void onTruncate(long lExtentId)
+            {
+            ConcurrentNavigableMap<Binary, Location> map = f_mapDirectory.get(lExtentId);
+            if (map != null)
+                {
+                map.values().forEach(this::release);
+                map.clear();
+                }
+            }
+
+        /**
+         * Record that the contents of the specified extent have been moved to
+         * another extent.
+         *
+         * @param lOldExtentId  the old extent identifier
+         * @param lNewExtentId  the new extent identifier
+         */
+        protected void onMove(long lOldExtentId, long lNewExtentId)
+            {
+            ConcurrentNavigableMap<Binary, Location> map = f_mapDirectory.remove(lOldExtentId);
+            if (map == null)
+                {
+                onCreate(lNewExtentId);
+                }
+            else
+                {
+                onDelete(lNewExtentId);
+                f_mapDirectory.put(lNewExtentId, map);
+                }
+            }
+
+        /**
+         * Record that the specified value is no longer the most recent value
+         * of its key.
+         *
+         * @param location  the location of the value (may be null)
+         */
+        protected void release(Location location)
+            {
+            if (location != null)
+                {
+                location.f_segment.m_cbLive -= location.f_cbRecord;
+                m_cbLive                    -= location.f_cbRecord;
+                }
+            }
+
+        /**
+         * Read the value at the specified location.
+         *
+         * @param map       the directory of the extent
+         * @param binKey    the key
+         * @param location  the location of the value (may be null)
+         *
+         * @return the value, or null if the key has been erased
+         */
+        protected ReadBuffer read(ConcurrentMap<Binary, Location> map, Binary binKey, Location location)
+            {
+            while (location != null)
+                {
+                try
+                    {
+                    return location.f_segment.read(location.f_ofValue, location.f_cbValue);
+                    }
+                catch (ClosedChannelException e)
+                    {
+                    if (f_listSegments.contains(location.f_segment))
+                        {
+                        // the channel was not closed by a compaction, but
+                        // for example by an interrupt
+                        throw ensurePersistenceException(new FatalAccessException(
+                                "error reading the log in directory \"" + f_dirStore + '"', e));
+                        }
+
+                    // the segment has been compacted; read the relocated value
+                    Location locationNew = map.get(binKey);
+                    if (locationNew == location)
+                        {
+                        throw ensurePersistenceException(e);
+                        }
+                    location = locationNew;
+                    }
+                catch (IOException e)
+                    {
+                    throw ensurePersistenceException(e);
+                    }
+                }
+            return null;
+            }
+
+        /**
+         * Copy the segments of this store to the specified directory.
+         * <p>
+         * Only the frames written before this method was called are copied,
+         * thus the copy is a consistent image of the store.
+         *
+         * @param dirTo  the destination directory
+         *
+         * @throws IOException on I/O error
+         */
+        protected void copySegments(File dirTo)
+                throws IOException
+            {
+            List<Segment> listSegments;
+            long          ofActive;
+            synchronized (f_oAppendLock)
+                {
+                listSegments = new ArrayList<>(f_listSegments);
+                ofActive     = m_segmentActive == null ? 0L : m_segmentActive.m_ofTail;
+                }
+
+            for (Segment segment : listSegments)
+                {
+                GuardSupport.heartbeat();
+
+                segment.copyTo(new File(dirTo, segment.f_file.getName()),
+                        segment == m_segmentActive ? ofActive : segment.m_ofTail);
+                }
+            }
+
+        /**
+         * Ensure that the given token is a LogTransaction.
+         *
+         * @param oToken  the token
+         *
+         * @return the token cast to a LogTransaction
+         */
+        protected LogTransaction ensureTransaction(Object oToken)
+            {
+            if (oToken instanceof LogTransaction)
+                {
+                return (LogTransaction) oToken;
+                }
+            throw new IllegalArgumentException("illegal token: " + oToken);
+            }
+
+        /**
+         * Determine whether the log should be compacted.
+         *
+         * @return true if the log should be compacted
+         */
+        protected boolean isCompactionRequired()
+            {
+            long cbLog = m_cbLog;
+            return f_listSegments.size() > 1 && cbLog > m_cbSegment && m_cbLive < cbLog * COMPACTION_RATIO;
+            }
+
+        /**
+         * Schedule a compaction of the log, if it is required.
+         */
+        protected void maintainLog()
+            {
+            if (isExclusive() || m_fCompactionScheduled || !isCompactionRequired())
+                {
+                // nothing to do
+                return;
+                }
+
+            synchronized (this)
+                {
+                if (!m_fCompactionScheduled)
+                    {
+                    // schedule the compaction for execution
+                    m_fCompactionScheduled = true;
+                    LogStructuredManager.this.submitTask(new CompactionTask());
+                    }
+                }
+            }
+
+        /**
+         * Compact the specified segment by relocating its live values to the
+         * active segment and deleting it.
+         * <p>
+         * Only the oldest segment may be compacted, as it cannot contain any
+         * erase or extent record that affects a value in an older segment.
+         *
+         * @param segment  the oldest segment of the log
+         *
+         * @return true if the segment was deleted
+         *
+         * @throws IOException on I/O error
+         */
+        protected boolean compact(Segment segment)
+                throws IOException
+            {
+            // find the live values of the segment
+            List<Relocation> listRelocations = new ArrayList<>();
+            for (Map.Entry<Long, ConcurrentNavigableMap<Binary, Location>> entryExtent : f_mapDirectory.entrySet())
+                {
+                for (Map.Entry<Binary, Location> entry : entryExtent.getValue().entrySet())
+                    {
+                    if (entry.getValue().f_segment == segment)
+                        {
+                        listRelocations.add(new Relocation(entryExtent.getKey(), entry.getKey(), entry.getValue()));
+                        }
+                    }
+                }
+            listRelocations.sort((r1, r2) -> r1.f_location.compareTo(r2.f_location));
+
+            // relocate the values in transactions of bounded size, rewriting
+            // the extent records with the first one
+            int     cRelocations = listRelocations.size();
+            boolean fFirst       = true;
+            for (int i = 0; i < cRelocations || fFirst; )
+                {
+                GuardSupport.heartbeat();
+
+                int cb = 0;
+                int iStart = i;
+                for (; i < cRelocations && cb < RELOCATION_BATCH_SIZE; i++)
+                    {
+                    Relocation relocation = listRelocations.get(i);
+                    relocation.m_bufValue = segment.read(relocation.f_location.f_ofValue,
+                                                         relocation.f_location.f_cbValue);
+                    cb += relocation.f_location.f_cbRecord;
+                    }
+
+                Segment segmentTo;
+                long    ofEnd;
+                synchronized (f_oAppendLock)
+                    {
+                    LogTransaction tx = new LogTransaction();
+                    if (fFirst)
+                        {
+                        for (Long LExtentId : f_mapDirectory.keySet())
+                            {
+                            tx.create(LExtentId);
+                            }
+                        }
+                    fFirst = false;
+
+                    for (int j = iStart; j < i; j++)
+                        {
+                        // skip the values that have been changed or erased
+                        // since they were read
+                        Relocation relocation = listRelocations.get(j);
+                        Map<Binary, Location> map = f_mapDirectory.get(relocation.f_lExtentId);
+                        if (map != null && map.get(relocation.f_binKey) == relocation.f_location)
+                            {
+                            tx.store(relocation.f_lExtentId, relocation.f_binKey, relocation.m_bufValue);
+                            }
+                        relocation.m_bufValue = null;
+                        }
+
+                    if (tx.isEmpty())
+                        {
+                        continue;
+                        }
+                    segmentTo = appendInternal(tx);
+                    ofEnd     = segmentTo.m_ofTail;
+                    }
+
+                if (SYNC)
+                    {
+                    syncSegment(segmentTo, ofEnd);
+                    }
+                }
+
+            synchronized (f_oAppendLock)
+                {
+                if (segment.m_cbLive > 0 || segment == m_segmentActive || !f_listSegments.remove(segment))
+                    {
+                    // a value could not be relocated as its extent was moved
+                    // concurrently; retry with the next compaction
+                    return false;
+                    }
+
+                m_cbLog -= segment.m_ofTail;
+                }
+
+            // any concurrent read of a value of the segment will find the
+            // channel closed and retry with the relocated value
+            segment.delete();
+            return true;
+            }
+
+        // ----- inner class: CompactionTask --------------------------------
+
+        /**
+         * Task used to compact the log.
+         */
+        protected class CompactionTask
+                extends Task
+                implements KeyAssociation
+            {
+            // ----- Task methods -------------------------------------------
+
+            /**
+             * Compact the oldest segments of the log until the ratio of live
+             * records is restored.
+             */
+            @Override
+            public void execute()
+                {
+                LogStructuredStore store = LogStructuredStore.this;
+                long               ldtStart = getSafeTimeMillis();
+                int                cDeleted = 0;
+                long               cbBefore = store.m_cbLog;
+
+                store.lockRead();
+                try
+                    {
+                    // the newest segment is the active segment and is never
+                    // compacted
+                    for (int i = 0, c = store.f_listSegments.size() - 1;
+                         i < c && store.isReady() && store.isCompactionRequired(); i++)
+                        {
+                        if (!store.compact(store.f_listSegments.get(0)))
+                            {
+                            break;
+                            }
+                        cDeleted++;
+                        }
+                    }
+                catch (Throwable e)
+                    {
+                    Logger.warn("Error compacting the log in directory \"" + store.f_dirStore + "\":", e);
+                    }
+                finally
+                    {
+                    reset();
+                    store.unlockRead();
+                    }
+
+                if (cDeleted > 0)
+                    {
+                    long cbAfter = store.m_cbLog;
+                    Logger.finest(() -> "Compacted the log of store " + store.getId() + " from " + cbBefore
+                                        + " to " + cbAfter + " bytes in " + (getSafeTimeMillis() - ldtStart) + "ms");
+                    }
+                }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void notifyCanceled(Throwable eCause)
+                {
+                reset();
+                }
+
+            // ----- KeyAssociation methods ---------------------------------
+
+            @Override
+            public Object getAssociatedKey()
+                {
+                return LogStructuredStore.this.getId();
+                }
+
+            // ----- helper methods -----------------------------------------
+
+            /**
+             * Reset state associated with this CompactionTask.
+             */
+            protected void reset()
+                {
+                LogStructuredStore.this.m_fCompactionScheduled = false;
+                }
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The key directory, which maps the keys of each extent to the
+         * location of their most recent value.
+         */
+        protected final Map<Long, ConcurrentNavigableMap<Binary, Location>> f_mapDirectory = new ConcurrentHashMap<>();
+
+        /**
+         * The segments of the log, in the order they were written.
+         */
+        protected final List<Segment> f_listSegments = new CopyOnWriteArrayList<>();
+
+        /**
+         * The lock held while appending to the log and updating the key
+         * directory, which keeps the key directory in log order.
+         */
+        protected final Object f_oAppendLock = new Object();
+
+        /**
+         * The segment transactions are appended to.
+         */
+        protected volatile Segment m_segmentActive;
+
+        /**
+         * The total size of the segments of the log.
+         */
+        protected volatile long m_cbLog;
+
+        /**
+         * The total size of the live records of the log.
+         */
+        protected volatile long m_cbLive;
+
+        /**
+         * True if a compaction of the log is scheduled.
+         */
+        protected volatile boolean m_fCompactionScheduled;
+        }
+
+    // ----- inner class: LogTransaction ------------------------------------
+
+    /**
+     * The changes of a transaction, encoded as a frame of the log.
+     * <p>
+     * A frame consists of the length of its records, the CRC32 checksum of
+     * its records and the records. Each record starts with its type and
+     * extent identifier, followed by the length and bytes of the key and
+     * value, for store and erase records, or the new extent identifier for
+     * move records.
+     */
+    protected static class LogTransaction
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Create a new LogTransaction.
+         */
+        protected LogTransaction()
+            {
+            WriteBuffer.BufferOutput out = f_buf.getBufferOutput();
+            try
+                {
+                // reserve the frame header
+                out.writeLong(0L);
+                }
+            catch (IOException e)
+                {
+                throw ensureRuntimeException(e);
+                }
+            f_out = out;
+            }
+
+        // ----- LogTransaction methods -------------------------------------
+
+        /**
+         * Add a store record.
+         *
+         * @param lExtentId  the extent identifier
+         * @param bufKey     the key
+         * @param bufValue   the value
+         */
+        public void store(long lExtentId, ReadBuffer bufKey, ReadBuffer bufValue)
+            {
+            WriteBuffer.BufferOutput out = f_out;
+            try
+                {
+                int ofRecord = out.getOffset();
+                writeHeader(RECORD_STORE, lExtentId);
+                writeBuffer(bufKey);
+                out.writeInt(bufValue.length());
+
+                int ofValue = out.getOffset();
+                out.writeBuffer(bufValue);
+
+                f_listOps.add(new Operation(RECORD_STORE, lExtentId, 0L, bufKey.toBinary(),
+                        ofValue, bufValue.length(), out.getOffset() - ofRecord));
+                }
+            catch (IOException e)
+                {
+                throw ensureRuntimeException(e);
+                }
+            }
+
+        /**
+         * Add an erase record.
+         *
+         * @param lExtentId  the extent identifier
+         * @param bufKey     the key
+         */
+        public void erase(long lExtentId, ReadBuffer bufKey)
+            {
+            writeHeader(RECORD_ERASE, lExtentId);
+            writeBuffer(bufKey);
+            f_listOps.add(new Operation(RECORD_ERASE, lExtentId, 0L, bufKey.toBinary(), 0, 0, 0));
+            }
+
+        /**
+         * Add an extent creation record.
+         *
+         * @param lExtentId  the extent identifier
+         */
+        public void create(long lExtentId)
+            {
+            writeHeader(RECORD_CREATE, lExtentId);
+            f_listOps.add(new Operation(RECORD_CREATE, lExtentId, 0L, null, 0, 0, 0));
+            }
+
+        /**
+         * Add an extent deletion record.
+         *
+         * @param lExtentId  the extent identifier
+         */
+        public void delete(long lExtentId)
+            {
+            writeHeader(RECORD_DELETE, lExtentId);
+            f_listOps.add(new Operation(RECORD_DELETE, lExtentId, 0L, null, 0, 0, 0));
+            }
+
+        /**
+         * Add an extent truncation record.
+         *
+         * @param lExtentId  the extent identifier
+         */
+        public void truncate(long lExtentId)
+            {
+            writeHeader(RECORD_TRUNCATE, lExtentId);
+            f_listOps.add(new Operation(RECORD_TRUNCATE, lExtentId, 0L, null, 0, 0, 0));
+            }
+
+        /**
+         * Add an extent move record.
+         *
+         * @param lOldExtentId  the old extent identifier
+         * @param lNewExtentId  the new extent identifier
+         */
+        public void move(long lOldExtentId, long lNewExtentId)
+            {
+            writeHeader(RECORD_MOVE, lOldExtentId);
+            try
+                {
+                f_out.writeLong(lNewExtentId);
+                }
+            catch (IOException e)
+                {
+                throw ensureRuntimeException(e);
+                }
+            f_listOps.add(new Operation(RECORD_MOVE, lOldExtentId, lNewExtentId, null, 0, 0, 0));
+            }
+
+        /**
+         * Determine whether this transaction has any records.
+         *
+         * @return true if this transaction has no records
+         */
+        public boolean isEmpty()
+            {
+            return f_listOps.isEmpty();
+            }
+
+        /**
+         * Complete the frame header and return the frame.
+         *
+         * @return the frame
+         */
+        public ByteBuffer getFrame()
+            {
+            ByteArrayWriteBuffer buf = f_buf;
+            byte[]               ab  = buf.getRawByteArray();
+            int                  cb  = buf.length();
+            CRC32                crc = new CRC32();
+
+            crc.update(ab, Segment.FRAME_HEADER_SIZE, cb - Segment.FRAME_HEADER_SIZE);
+
+            ByteBuffer bufFrame = ByteBuffer.wrap(ab, 0, cb);
+            bufFrame.putInt(0, cb - Segment.FRAME_HEADER_SIZE);
+            bufFrame.putInt(4, (int) crc.getValue());
+            return bufFrame;
+            }
+
+        // ----- helpers ----------------------------------------------------
+
+        /**
+         * Write the header of a record.
+         *
+         * @param nType      the record type
+         * @param lExtentId  the extent identifier
+         */
+        protected void writeHeader(byte nType, long lExtentId)
+            {
+            try
+                {
+                f_out.writeByte(nType);
+                f_out.writeLong(lExtentId);
+                }
+            catch (IOException e)
+                {
+                throw ensureRuntimeException(e);
+                }
+            }
+
+        /**
+         * Write the length and contents of the specified buffer.
+         *
+         * @param buf  the buffer
+         */
+        protected void writeBuffer(ReadBuffer buf)
+            {
+            try
+                {
+                f_out.writeInt(buf.length());
+                f_out.writeBuffer(buf);
+                }
+            catch (IOException e)
+                {
+                throw ensureRuntimeException(e);
+                }
+            }
+
+        // ----- inner class: Operation -------------------------------------
+
+        /**
+         * A record of the transaction, which is applied to the key directory
+         * once the transaction has been written.
+         */
+        protected static class Operation
+            {
+            /**
+             * Create a new Operation.
+             *
+             * @param nType       the record type
+             * @param lExtentId   the extent identifier
+             * @param lExtentTo   the new extent identifier of a move record
+             * @param binKey      the key of a store or erase record
+             * @param ofValue     the offset of the value in the frame
+             * @param cbValue     the length of the value
+             * @param cbRecord    the length of the record
+             */
+            protected Operation(byte nType, long lExtentId, long lExtentTo, Binary binKey,
+                    int ofValue, int cbValue, int cbRecord)
+                {
+                f_nType     = nType;
+                f_lExtentId = lExtentId;
+                f_lExtentTo = lExtentTo;
+                f_binKey    = binKey;
+                f_ofValue   = ofValue;
+                f_cbValue   = cbValue;
+                f_cbRecord  = cbRecord;
+                }
+
+            /**
+             * The record type.
+             */
+            protected final byte f_nType;
+
+            /**
+             * The extent identifier.
+             */
+            protected final long f_lExtentId;
+
+            /**
+             * The new extent identifier of a move record.
+             */
+            protected final long f_lExtentTo;
+
+            /**
+             * The key of a store or erase record.
+             */
+            protected final Binary f_binKey;
+
+            /**
+             * The offset of the value in the frame.
+             */
+            protected final int f_ofValue;
+
+            /**
+             * The length of the value.
+             */
+            protected final int f_cbValue;
+
+            /**
+             * The length of the record.
+             */
+            protected final int f_cbRecord;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The buffer the frame is encoded into.
+         */
+        protected final ByteArrayWriteBuffer f_buf = new ByteArrayWriteBuffer(256);
+
+        /**
+         * The output the records are written with.
+         */
+        protected final WriteBuffer.BufferOutput f_out;
+
+        /**
+         * The records of the transaction.
+         */
+        protected final List<Operation> f_listOps = new ArrayList<>();
+        }
+
+    // ----- inner class: Segment -------------------------------------------
+
+    /**
+     * A segment file of a log.
+     * <p>
+     * A segment starts with a header consisting of a magic number, the format
+     * version and the segment identifier, followed by the frames of the
+     * transactions appended to it.
+     */
+    protected static class Segment
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Create a new Segment.
+         *
+         * @param file     the segment file
+         * @param lId      the segment identifier
+         * @param channel  the channel of the segment file
+         * @param ofTail   the offset the next frame is written at
+         */
+        protected Segment(File file, long lId, FileChannel channel, long ofTail)
+            {
+            f_file     = file;
+            f_lId      = lId;
+            f_channel  = channel;
+            m_ofTail   = ofTail;
+            m_ofSynced = ofTail;
+            }
+
+        // ----- factory methods --------------------------------------------
+
+        /**
+         * Create a new segment file.
+         *
+         * @param dir  the directory of the log
+         * @param lId  the segment identifier
+         *
+         * @return the new segment
+         *
+         * @throws IOException on I/O error
+         */
+        protected static Segment create(File dir, long lId)
+                throws IOException
+            {
+            File        file    = new File(dir, String.format("%016x", lId) + SEGMENT_SUFFIX);
+            FileChannel channel = new RandomAccessFile(file, "rw").getChannel();
+            ByteBuffer  buf     = ByteBuffer.allocate(HEADER_SIZE);
+
+            buf.putInt(MAGIC).putInt(VERSION).putLong(lId).flip();
+            while (buf.hasRemaining())
+                {
+                channel.write(buf, buf.position());
+                }
+            return new Segment(file, lId, channel, HEADER_SIZE);
+            }
+
+        /**
+         * Open an existing segment file.
+         *
+         * @param file  the segment file
+         * @param lId   the segment identifier
+         *
+         * @return the segment
+         *
+         * @throws IOException on I/O error
+         */
+        protected static Segment open(File file, long lId)
+                throws IOException
+            {
+            return new Segment(file, lId, new RandomAccessFile(file, "rw").getChannel(), file.length());
+            }
+
+        /**
+         * Read and validate the header of the specified segment file.
+         *
+         * @param file  the segment file
+         *
+         * @return the segment identifier
+         *
+         * @throws IOException if the header is invalid
+         */
+        protected static long readHeader(File file)
+                throws IOException
+            {
+            try (DataInputStream in = new DataInputStream(new FileInputStream(file)))
+                {
+                int nMagic   = in.readInt();
+                int nVersion = in.readInt();
+                if (nMagic != MAGIC || nVersion != VERSION)
+                    {
+                    throw new IOException("invalid header in segment \"" + file + '"');
+                    }
+                return in.readLong();
+                }
+            catch (EOFException e)
+                {
+                throw new IOException("incomplete header in segment \"" + file + '"', e);
+                }
+            }
+
+        /**
+         * Read the frames of the specified segment file.
+         *
+         * @param file      the segment file
+         * @param consumer  the consumer of the frames
+         *
+         * @return the offset of the end of the last complete and valid frame
+         *
+         * @throws IOException on I/O error, or if the consumer fails
+         */
+        protected static long readFrames(File file, FrameConsumer consumer)
+                throws IOException
+            {
+            long  cbFile = file.length();
+            long  of     = HEADER_SIZE;
+            CRC32 crc    = new CRC32();
+
+            try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(new FileInputStream(file), 64 * 1024)))
+                {
+                in.skipBytes(HEADER_SIZE);
+                while (of + FRAME_HEADER_SIZE <= cbFile)
+                    {
+                    int cb   = in.readInt();
+                    int nCrc = in.readInt();
+                    if (cb <= 0 || of + FRAME_HEADER_SIZE + cb > cbFile)
+                        {
+                        break;
+                        }
+
+                    byte[] abPayload = new byte[cb];
+                    in.readFully(abPayload);
+
+                    crc.reset();
+                    crc.update(abPayload, 0, cb);
+                    if ((int) crc.getValue() != nCrc)
+                        {
+                        break;
+                        }
+
+                    consumer.accept(of, abPayload);
+                    of += FRAME_HEADER_SIZE + cb;
+                    }
+                }
+            return of;
+            }
+
+        // ----- Segment methods --------------------------------------------
+
+        /**
+         * Append the specified frame.
+         * <p>
+         * Note: this method must be called while holding the append lock.
+         *
+         * @param buf  the frame
+         *
+         * @return the offset the frame was written at
+         *
+         * @throws IOException on I/O error
+         */
+        protected long append(ByteBuffer buf)
+                throws IOException
+            {
+            long of      = m_ofTail;
+            long ofWrite = of;
+            while (buf.hasRemaining())
+                {
+                ofWrite += f_channel.write(buf, ofWrite);
+                }
+            m_ofTail = ofWrite;
+            return of;
+            }
+
+        /**
+         * Read a value.
+         *
+         * @param of  the offset of the value
+         * @param cb  the length of the value
+         *
+         * @return the value
+         *
+         * @throws IOException on I/O error
+         */
+        protected Binary read(long of, int cb)
+                throws IOException
+            {
+            byte[]     ab  = new byte[cb];
+            ByteBuffer buf = ByteBuffer.wrap(ab);
+            while (buf.hasRemaining())
+                {
+                if (f_channel.read(buf, of + buf.position()) < 0)
+                    {
+                    throw new EOFException("unexpected end of segment \"" + f_file + '"');
+                    }
+                }
+            return newBinaryUnsafe(ab);
+            }
+
+        /**
+         * Ensure the segment has been synced up to the specified offset.
+         *
+         * @param ofEnd  the offset
+         *
+         * @throws IOException on I/O error
+         */
+        protected void sync(long ofEnd)
+                throws IOException
+            {
+            if (m_ofSynced < ofEnd)
+                {
+                synchronized (f_oSyncLock)
+                    {
+                    // a concurrent sync may have covered the frame while
+                    // waiting for the lock
+                    if (m_ofSynced < ofEnd)
+                        {
+                        long ofTail = m_ofTail;
+                        f_channel.force(false);
+                        m_ofSynced = ofTail;
+                        }
+                    }
+                }
+            }
+
+        /**
+         * Seal the segment once it is full.
+         *
+         * @param fSync  true if the segment should be synced
+         *
+         * @throws IOException on I/O error
+         */
+        protected void seal(boolean fSync)
+                throws IOException
+            {
+            if (fSync)
+                {
+                sync(m_ofTail);
+                }
+            }
+
+        /**
+         * Discard the contents of the segment after the specified offset.
+         *
+         * @param of  the offset
+         *
+         * @throws IOException on I/O error
+         */
+        protected void truncate(long of)
+                throws IOException
+            {
+            f_channel.truncate(of);
+            m_ofTail   = of;
+            m_ofSynced = of;
+            }
+
+        /**
+         * Copy the contents of the segment up to the specified offset to the
+         * specified file.
+         *
+         * @param fileTo  the destination file
+         * @param cb      the number of bytes to copy
+         *
+         * @throws IOException on I/O error
+         */
+        protected void copyTo(File fileTo, long cb)
+                throws IOException
+            {
+            try (FileChannel channelTo = new RandomAccessFile(fileTo, "rw").getChannel())
+                {
+                for (long of = 0; of < cb; )
+                    {
+                    of += f_channel.transferTo(of, cb - of, channelTo);
+                    }
+                }
+            }
+
+        /**
+         * Close the segment.
+         */
+        protected void close()
+            {
+            try
+                {
+                f_channel.close();
+                }
+            catch (IOException e)
+                {
+                // ignore
+                }
+            }
+
+        /**
+         * Close and delete the segment.
+         */
+        protected void delete()
+            {
+            close();
+            if (!f_file.delete())
+                {
+                Logger.warn("Unable to delete the compacted segment \"" + f_file + '"');
+                }
+            }
+
+        // ----- Object methods ---------------------------------------------
+
+        @Override
+        public String toString()
+            {
+            return "Segment(" + f_file.getName() + ", size=" + m_ofTail + ", live=" + m_cbLive + ')';
+            }
+
+        // ----- constants --------------------------------------------------
+
+        /**
+         * The size of the segment header.
+         */
+        protected static final int HEADER_SIZE = 16;
+
+        /**
+         * The size of a frame header.
+         */
+        protected static final int FRAME_HEADER_SIZE = 8;
+
+        /**
+         * The magic number of a segment.
+         */
+        protected static final int MAGIC = 0x434C4F47;
+
+        /**
+         * The format version of a segment.
+         */
+        protected static final int VERSION = 1;
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The segment file.
+         */
+        protected final File f_file;
+
+        /**
+         * The segment identifier.
+         */
+        protected final long f_lId;
+
+        /**
+         * The channel of the segment file.
+         */
+        protected final FileChannel f_channel;
+
+        /**
+         * The lock held while syncing the segment.
+         */
+        protected final Object f_oSyncLock = new Object();
+
+        /**
+         * The offset the next frame is written at.
+         */
+        protected volatile long m_ofTail;
+
+        /**
+         * The offset up to which the segment has been synced.
+         */
+        protected volatile long m_ofSynced;
+
+        /**
+         * The total size of the live records of the segment.
+         */
+        protected volatile long m_cbLive;
+        }
+
+    // ----- inner interface: FrameConsumer ---------------------------------
+
+    /**
+     * A consumer of the frames read from a segment.
+     */
+    @FunctionalInterface
+    protected interface FrameConsumer
+        {
+        /**
+         * Consume a frame.
+         *
+         * @param ofFrame    the offset of the frame in the segment
+         * @param abPayload  the records of the frame
+         *
+         * @throws IOException if the frame cannot be consumed
+         */
+        void accept(long ofFrame, byte[] abPayload)
+                throws IOException;
+        }
+
+    // ----- inner class: Location ------------------------------------------
+
+    /**
+     * The location of the most recent value of a key.
+     */
+    protected static class Location
+            implements Comparable<Location>
+        {
+        /**
+         * Create a new Location.
+         *
+         * @param segment   the segment the value is stored in
+         * @param ofValue   the offset of the value in the segment
+         * @param cbValue   the length of the value
+         * @param cbRecord  the length of the record
+         */
+        protected Location(Segment segment, long ofValue, int cbValue, int cbRecord)
+            {
+            f_segment  = segment;
+            f_ofValue  = ofValue;
+            f_cbValue  = cbValue;
+            f_cbRecord = cbRecord;
+            }
+
+        @Override
+        public int compareTo(Location that)
+            {
+            int n = Long.compare(this.f_segment.f_lId, that.f_segment.f_lId);
+            return n == 0 ? Long.compare(this.f_ofValue, that.f_ofValue) : n;
+            }
+
+        /**
+         * The segment the value is stored in.
+         */
+        protected final Segment f_segment;
+
+        /**
+         * The offset of the value in the segment.
+         */
+        protected final long f_ofValue;
+
+        /**
+         * The length of the value.
+         */
+        protected final int f_cbValue;
+
+        /**
+         * The length of the record.
+         */
+        protected final int f_cbRecord;
+        }
+
+    // ----- inner class: Relocation ----------------------------------------
+
+    /**
+     * A live value of a segment that is being compacted.
+     */
+    protected static class Relocation
+        {
+        /**
+         * Create a new Relocation.
+         *
+         * @param lExtentId  the extent identifier
+         * @param binKey     the key
+         * @param location   the location of the value
+         */
+        protected Relocation(long lExtentId, Binary binKey, Location location)
+            {
+            f_lExtentId = lExtentId;
+            f_binKey    = binKey;
+            f_location  = location;
+            }
+
+        /**
+         * The extent identifier.
+         */
+        protected final long f_lExtentId;
+
+        /**
+         * The key.
+         */
+        protected final Binary f_binKey;
+
+        /**
+         * The location of the value.
+         */
+        protected final Location f_location;
+
+        /**
+         * The value, once it has been read.
+         */
+        protected ReadBuffer m_bufValue;
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Create a new Binary with the given content without copying it.
+     *
+     * @param ab  the content of the new Binary
+     *
+     * @return a new Binary with the given content
+     */
+    protected static Binary newBinaryUnsafe(byte[] ab)
+        {
+        return UNSAFE.newBinary(ab, 0, ab.length);
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * True if the snapshot validation is in progress.
+     */
+    protected final boolean f_fValidation;
+
+    /**
+     * The maximum size of a segment.
+     */
+    protected volatile long m_cbSegment = SEGMENT_SIZE;
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The storage format of a log.
+     */
+    public static final String STORAGE_FORMAT = "LOG";
+
+    /**
+     * System property prefix for all log store specific properties.
+     */
+    public static final String SYS_PROP_PREFIX = "coherence.distributed.persistence.log.";
+
+    /**
+     * The default maximum size of a segment.
+     */
+    public static final long SEGMENT_SIZE = Config.getMemorySize(SYS_PROP_PREFIX + "segment.size", "64MB").getByteCount();
+
+    /**
+     * True if each commit should be synced to the storage device before it
+     * completes. (Disabled by default, matching the durability of the
+     * BerkeleyDB store, which survives a process but not an OS failure.)
+     */
+    public static final boolean SYNC = Config.getBoolean(SYS_PROP_PREFIX + "sync", false);
+
+    /**
+     * The ratio of live records to the size of the log below which the log
+     * is compacted.
+     */
+    public static final double COMPACTION_RATIO = Config.getDouble(SYS_PROP_PREFIX + "compaction.ratio", 0.5);
+
+    /**
+     * The file name suffix of a segment.
+     */
+    protected static final String SEGMENT_SUFFIX = ".log";
+
+    /**
+     * The approximate maximum size of a transaction that relocates values
+     * during a compaction.
+     */
+    protected static final int RELOCATION_BATCH_SIZE = 1024 * 1024;
+
+    /**
+     * The type of a record storing a value.
+     */
+    protected static final byte RECORD_STORE = 1;
+
+    /**
+     * The type of a record erasing a key.
+     */
+    protected static final byte RECORD_ERASE = 2;
+
+    /**
+     * The type of a record creating an extent.
+     */
+    protected static final byte RECORD_CREATE = 3;
+
+    /**
+     * The type of a record deleting an extent.
+     */
+    protected static final byte RECORD_DELETE = 4;
+
+    /**
+     * The type of a record truncating an extent.
+     */
+    protected static final byte RECORD_TRUNCATE = 5;
+
+    /**
+     * The type of a record moving the contents of an extent to another
+     * extent.
+     */
+    protected static final byte RECORD_MOVE = 6;
+
+    /**
+     * Unsafe singleton.
+     */
+    private static final Unsafe UNSAFE = SecurityHelper.doPrivileged(
+        (PrivilegedAction<Unsafe>) Unsafe::getUnsafe);
+    }
@@ -0,0 +1,622 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.util;
+
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.net.BackingMapContext;
+
+import com.tangosol.util.extractor.ColumnarExtractor;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+
+/**
+* ColumnarIndex is a {@link MapIndex} implementation that stores the numeric
+* values extracted from the entries of a partition in a dense array of
+* primitives, allowing the built-in numeric aggregators to scan the values
+* in a tight, allocation-free loop instead of visiting (and deserializing)
+* every entry.
+* <p>
+* Integral values ({@link Byte}, {@link Short}, {@link Integer} and
+* {@link Long}) are stored in a <tt>long[]</tt> column; as soon as a
+* {@link Float} or {@link Double} value is indexed, the column is promoted
+* to a <tt>double[]</tt>, which only the floating point aggregators will
+* process. Null values are not stored, as they are ignored by
+* the numeric aggregators. If a value of any other type is extracted, or if
+* the extraction fails, the index is marked as {@link #isValid() invalid}
+* and aggregators fall back to processing the entries.
+* <p>
+* A ColumnarIndex does not maintain an inverse index and is never used to
+* evaluate filters; it is created by a {@link ColumnarExtractor} and is
+* associated with that extractor (not the underlying one) in the index map,
+* so that it can co-exist with a regular index on the same attribute.
+*
+* @author coh  2026.10.16
+*
+* @since 15.0.0
+*/
+public class ColumnarIndex
+        extends Base
+        implements MapIndex
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+    * Construct a ColumnarIndex.
+    *
+    * @param extractor  the {@link ValueExtractor} that is used to extract
+    *                   the numeric value from a resource map entry
+    * @param ctx        the {@link BackingMapContext context} associated with
+    *                   this index
+    */
+    public ColumnarIndex(ValueExtractor extractor, BackingMapContext ctx)
+        {
+        f_extractor = extractor;
+        f_ctx       = ctx;
+        m_aoKey     = new Object[INITIAL_CAPACITY];
+        m_alValue   = new long[INITIAL_CAPACITY];
+        }
+
+
+    // ----- MapIndex interface ---------------------------------------------
+
+    /**
+    * {@inheritDoc}
+    */
+    public ValueExtractor getValueExtractor()
+        {
+        return f_extractor;
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public boolean isOrdered()
+        {
+        return false;
+        }
+
+    /**
+    * {@inheritDoc}
+    * <p>
+    * A ColumnarIndex is always partial, as it does not maintain an inverse
+    * index that could be used to evaluate filters.
+    */
+    public boolean isPartial()
+        {
+        return true;
+        }
+
+    /**
+    * {@inheritDoc}
+    * <p>
+    * A ColumnarIndex does not maintain an inverse index; this method always
+    * returns an empty map.
+    */
+    public Map getIndexContents()
+        {
+        return Collections.emptyMap();
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public Object get(Object oKey)
+        {
+        ReadWriteLock lock = f_lock;
+        lock.readLock().lock();
+        try
+            {
+            Integer NSlot = m_mapSlot.get(oKey);
+            if (NSlot == null || !m_fValid)
+                {
+                return NO_VALUE;
+                }
+
+            int iSlot = NSlot;
+            return m_adflValue == null
+                   ? (Object) m_alValue[iSlot] : (Object) m_adflValue[iSlot];
+            }
+        finally
+            {
+            lock.readLock().unlock();
+            }
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public Comparator getComparator()
+        {
+        return null;
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void insert(Map.Entry entry)
+        {
+        Object oValue = extractNewValue(entry);
+        if (oValue != null)
+            {
+            Object oKey = getCoercedKey(entry);
+
+            ReadWriteLock lock = f_lock;
+            lock.writeLock().lock();
+            try
+                {
+                setValue(oKey, oValue);
+                }
+            finally
+                {
+                lock.writeLock().unlock();
+                }
+            }
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void update(Map.Entry entry)
+        {
+        Object oValue = extractNewValue(entry);
+        Object oKey   = getCoercedKey(entry);
+
+        ReadWriteLock lock = f_lock;
+        lock.writeLock().lock();
+        try
+            {
+            if (oValue == null)
+                {
+                removeValue(oKey);
+                }
+            else
+                {
+                setValue(oKey, oValue);
+                }
+            }
+        finally
+            {
+            lock.writeLock().unlock();
+            }
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void delete(Map.Entry entry)
+        {
+        Object oKey = getCoercedKey(entry);
+
+        ReadWriteLock lock = f_lock;
+        lock.writeLock().lock();
+        try
+            {
+            removeValue(oKey);
+            }
+        finally
+            {
+            lock.writeLock().unlock();
+            }
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public long getUnits()
+        {
+        // the column and key arrays, plus a slot map entry per indexed value
+        return (long) m_aoKey.length * 16
+             + (long) m_cValues * SimpleMapIndex.IndexCalculator.ENTRY_OVERHEAD;
+        }
+
+
+    // ----- ColumnarIndex methods ------------------------------------------
+
+    /**
+    * Determine whether this index holds a value for every non-null value
+    * extracted from the indexed entries, and therefore may be used by the
+    * aggregators in place of the entries.
+    *
+    * @return true if this index may be used for aggregation
+    */
+    public boolean isValid()
+        {
+        return m_fValid;
+        }
+
+    /**
+    * Return true if the values in this index are stored in a
+    * <tt>double[]</tt> column, or false if they are stored in a
+    * <tt>long[]</tt> column.
+    *
+    * @return true if the values in this index are floating point values
+    */
+    public boolean isFloatingPoint()
+        {
+        return m_adflValue != null;
+        }
+
+    /**
+    * Return the number of values in this index.
+    *
+    * @return the number of values in this index
+    */
+    public int size()
+        {
+        return m_cValues;
+        }
+
+    /**
+    * Pass the values in this index to the specified aggregator.
+    * <p>
+    * The index is read-locked while the aggregator processes the column, so
+    * the aggregator must neither retain the array, nor block.
+    *
+    * @param aggregator  the aggregator to pass the values to
+    *
+    * @return true if the values were passed to the aggregator, or false if
+    *         this index is not {@link #isValid() valid}, or the column is a
+    *         floating point column the aggregator does not support
+    */
+    public boolean aggregate(Aggregator aggregator)
+        {
+        ReadWriteLock lock = f_lock;
+        lock.readLock().lock();
+        try
+            {
+            if (!m_fValid || m_adflValue != null && !aggregator.isFloatingPointSupported())
+                {
+                return false;
+                }
+
+            if (m_adflValue == null)
+                {
+                aggregator.accumulate(m_alValue, m_cValues);
+                }
+            else
+                {
+                aggregator.accumulate(m_adflValue, m_cValues);
+                }
+            return true;
+            }
+        finally
+            {
+            lock.readLock().unlock();
+            }
+        }
+
+    /**
+    * Find the valid ColumnarIndex for the specified extractor in the
+    * specified index map.
+    *
+    * @param mapIndex   the index map to search
+    * @param extractor  the extractor the index was created for
+    *
+    * @return the valid ColumnarIndex for the extractor, or null if there is
+    *         no such index
+    */
+    public static ColumnarIndex find(Map mapIndex, ValueExtractor extractor)
+        {
+        if (mapIndex == null || extractor == null)
+            {
+            return null;
+            }
+
+        Object index = mapIndex.get(new ColumnarExtractor(extractor));
+        return index instanceof ColumnarIndex && ((ColumnarIndex) index).isValid()
+               ? (ColumnarIndex) index : null;
+        }
+
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+    * Extract the "new" value from the specified entry.
+    *
+    * @param entry  the entry to extract the "new" value from
+    *
+    * @return the extracted "new" value, or null if the extraction failed
+    */
+    protected Object extractNewValue(Map.Entry entry)
+        {
+        try
+            {
+            return InvocableMapHelper.extractFromEntry(f_extractor, entry);
+            }
+        catch (RuntimeException e)
+            {
+            if (m_fValid)
+                {
+                Logger.warn("An Exception occurred during columnar index update for key " + entry.getKey()
+                            + ". The index will no longer be used for aggregation"
+                            + (f_ctx == null ? "" : " for cache " + f_ctx.getCacheName()) + ".\n" + e + ":\n", e);
+                }
+
+            m_fValid = false;
+            return null;
+            }
+        }
+
+    /**
+    * Return the key that the specified entry is indexed by.
+    *
+    * @param entry  the entry
+    *
+    * @return the (binary, if available) key of the entry
+    */
+    protected Object getCoercedKey(Map.Entry entry)
+        {
+        return entry instanceof BinaryEntry ?
+                ((BinaryEntry) entry).getBinaryKey() : entry.getKey();
+        }
+
+    /**
+    * Store the value for the specified key, which must be called while
+    * holding the write lock.
+    *
+    * @param oKey    the key
+    * @param oValue  the non-null extracted value
+    */
+    protected void setValue(Object oKey, Object oValue)
+        {
+        boolean fIntegral = oValue instanceof Long || oValue instanceof Integer
+                         || oValue instanceof Short || oValue instanceof Byte;
+        if (!fIntegral && !(oValue instanceof Double || oValue instanceof Float))
+            {
+            m_fValid = false;
+            return;
+            }
+
+        Map<Object, Integer> mapSlot = m_mapSlot;
+        Integer              NSlot   = mapSlot.get(oKey);
+        int                  iSlot;
+        if (NSlot == null)
+            {
+            iSlot = m_cValues;
+            ensureCapacity(iSlot + 1);
+            mapSlot.put(oKey, iSlot);
+            m_aoKey[iSlot] = oKey;
+            m_cValues      = iSlot + 1;
+            }
+        else
+            {
+            iSlot = NSlot;
+            }
+
+        Number num = (Number) oValue;
+        if (m_adflValue == null && !fIntegral)
+            {
+            // promote the column to floating point
+            long[]   al   = m_alValue;
+            double[] adfl = new double[al.length];
+            for (int i = 0, c = m_cValues; i < c; i++)
+                {
+                adfl[i] = al[i];
+                }
+            m_adflValue = adfl;
+            m_alValue   = null;
+            }
+
+        if (m_adflValue == null)
+            {
+            m_alValue[iSlot] = num.longValue();
+            }
+        else
+            {
+            m_adflValue[iSlot] = num.doubleValue();
+            }
+        }
+
+    /**
+    * Remove the value for the specified key, which must be called while
+    * holding the write lock.
+    * <p>
+    * The last value in the column is moved into the vacated slot, keeping
+    * the column dense.
+    *
+    * @param oKey  the key
+    */
+    protected void removeValue(Object oKey)
+        {
+        Map<Object, Integer> mapSlot = m_mapSlot;
+        Integer              NSlot   = mapSlot.remove(oKey);
+        if (NSlot != null)
+            {
+            int      iSlot = NSlot;
+            int      iLast = --m_cValues;
+            Object[] aoKey = m_aoKey;
+            if (iSlot != iLast)
+                {
+                Object oKeyLast = aoKey[iLast];
+                aoKey[iSlot] = oKeyLast;
+                mapSlot.put(oKeyLast, iSlot);
+                if (m_adflValue == null)
+                    {
+                    m_alValue[iSlot] = m_alValue[iLast];
+                    }
+                else
+                    {
+                    m_adflValue[iSlot] = m_adflValue[iLast];
+                    }
+                }
+            aoKey[iLast] = null;
+            }
+        }
+
+    /**
+    * Ensure that the column can hold the specified number of values.
+    *
+    * @param cValues  the number of values
+    */
+    protected void ensureCapacity(int cValues)
+        {
+        Object[] aoKey = m_aoKey;
+        int      cCap  = aoKey.length;
+        if (cValues > cCap)
+            {
+            int cNew = Math.max(cValues, cCap + (cCap >> 1));
+
+            Object[] aoKeyNew = new Object[cNew];
+            System.arraycopy(aoKey, 0, aoKeyNew, 0, m_cValues);
+            m_aoKey = aoKeyNew;
+
+            if (m_adflValue == null)
+                {
+                long[] alNew = new long[cNew];
+                System.arraycopy(m_alValue, 0, alNew, 0, m_cValues);
+                m_alValue = alNew;
+                }
+            else
+                {
+                double[] adflNew = new double[cNew];
+                System.arraycopy(m_adflValue, 0, adflNew, 0, m_cValues);
+                m_adflValue = adflNew;
+                }
+            }
+        }
+
+
+    // ----- Object interface -----------------------------------------------
+
+    /**
+    * Returns a string representation of this ColumnarIndex.
+    *
+    * @return a String representation of this ColumnarIndex
+    */
+    public String toString()
+        {
+        return ClassHelper.getSimpleName(getClass())
+                + ": Extractor=" + getValueExtractor()
+                + ", Type=" + (isFloatingPoint() ? "double" : "long")
+                + ", Size=" + size()
+                + ", Valid=" + isValid()
+                + ", Footprint=" + Base.toMemorySizeString(getUnits(), false);
+        }
+
+
+    // ----- inner interface: Aggregator ------------------------------------
+
+    /**
+    * An aggregator that is able to process the values of a ColumnarIndex
+    * directly.
+    * <p>
+    * Each method is passed the column array and the number of values in
+    * it; only the first <tt>cValues</tt> elements of the array are valid.
+    */
+    public interface Aggregator
+        {
+        /**
+        * Return the extractor used by this aggregator; a ColumnarIndex
+        * created for the same extractor may be used in place of the entries.
+        *
+        * @return the extractor used by this aggregator
+        */
+        public ValueExtractor<?, ?> getValueExtractor();
+
+        /**
+        * Process the values of an integral column.
+        *
+        * @param alValue  the column
+        * @param cValues  the number of values in the column
+        */
+        public void accumulate(long[] alValue, int cValues);
+
+        /**
+        * Return true if this aggregator is able to process a floating point
+        * column. An integral aggregator is not, as the integral values in a
+        * promoted column above 2<sup>53</sup> have been rounded; it processes
+        * the entries instead.
+        *
+        * @return true if this aggregator can process a floating point column
+        */
+        public default boolean isFloatingPointSupported()
+            {
+            return false;
+            }
+
+        /**
+        * Process the values of a floating point column. This method is only
+        * called if the aggregator {@link #isFloatingPointSupported() supports}
+        * floating point columns.
+        *
+        * @param adflValue  the column
+        * @param cValues    the number of values in the column
+        */
+        public default void accumulate(double[] adflValue, int cValues)
+            {
+            throw new UnsupportedOperationException();
+            }
+        }
+
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+    * The initial capacity of a column.
+    */
+    protected static final int INITIAL_CAPACITY = 16;
+
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+    * The ValueExtractor used to extract the indexed values.
+    */
+    protected final ValueExtractor f_extractor;
+
+    /**
+    * The context associated with this index.
+    */
+    protected final BackingMapContext f_ctx;
+
+    /**
+    * The lock that guards the column; updates hold the write lock and
+    * aggregations hold the read lock.
+    */
+    protected final ReadWriteLock f_lock = new ReentrantReadWriteLock();
+
+    /**
+    * The slot of each indexed key in the column.
+    */
+    protected final Map<Object, Integer> m_mapSlot = new HashMap<>();
+
+    /**
+    * The keys, by slot.
+    */
+    protected Object[] m_aoKey;
+
+    /**
+    * The integral column, or null if the column has been promoted to
+    * floating point.
+    */
+    protected long[] m_alValue;
+
+    /**
+    * The floating point column, or null if all indexed values are integral.
+    */
+    protected double[] m_adflValue;
+
+    /**
+    * The number of values in the column.
+    */
+    protected int m_cValues;
+
+    /**
+    * False if a value could not be stored in the column.
+    */
+    protected volatile boolean m_fValid = true;
+    }
@@ -0,0 +1,1599 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.util;
+
+import com.tangosol.coherence.config.Config;
+
+import com.tangosol.net.BackingMapContext;
+
+import com.tangosol.net.cache.SimpleMemoryCalculator;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * CompactMapIndex is a {@link SimpleMapIndex} that minimizes the per-entry
+ * memory footprint of indexes on scalar attributes, such as numbers, strings,
+ * dates and enums.
+ * <p>
+ * Every indexed key is assigned a dense internal id by a {@link KeyDictionary}.
+ * The forward index is stored in arrays indexed by that id, holding the
+ * canonical reference of each extracted value (which effectively dictionary
+ * encodes low-cardinality values), and the key sets of the inverse index are
+ * {@link PostingSet posting sets} of ids that are held either as a sorted
+ * {@code int} array or, once dense enough, as a bitmap. The inverse index
+ * itself remains a (sorted) map of distinct extracted values, so the index
+ * continues to honor the {@link MapIndex} contract expected by the
+ * {@link com.tangosol.util.filter.IndexAwareFilter IndexAwareFilter}
+ * implementations, while filters that combine several key sets can use
+ * {@link #union(Collection)} to do so with bitmap operations.
+ * <p>
+ * The representation is chosen automatically based on the first indexed
+ * value: if it is not a scalar, this index reverts to the standard
+ * {@link SimpleMapIndex} representation.
+ *
+ * @author coh  2026.10.16
+ * @since 15.0.0
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class CompactMapIndex
+        extends SimpleMapIndex
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct an index for the given map.
+     *
+     * @param extractor   the ValueExtractor that is used to extract an indexed
+     *                    value from a resource map entry
+     * @param fOrdered    true iff the contents of the indexed information
+     *                    should be ordered; false otherwise
+     * @param comparator  the Comparator object which imposes an ordering
+     *                    on entries in the index map; or <tt>null</tt>
+     *                    if the entries' values natural ordering should be used
+     * @param ctx         the {@link BackingMapContext context} associated with
+     *                    the indexed cache
+     */
+    public CompactMapIndex(ValueExtractor extractor, boolean fOrdered,
+                           Comparator comparator, BackingMapContext ctx)
+        {
+        super(extractor, fOrdered, comparator, false, ctx);
+
+        initialize(true);
+        }
+
+    // ----- factory methods ------------------------------------------------
+
+    /**
+     * Create the default {@link SimpleMapIndex} for the specified extractor,
+     * which is a CompactMapIndex unless compact indexes are disabled via the
+     * {@value #PROP_COMPACT_INDEX} system property.
+     *
+     * @param extractor   the ValueExtractor that is used to extract an indexed
+     *                    value from a resource map entry
+     * @param fOrdered    true iff the contents of the indexed information
+     *                    should be ordered; false otherwise
+     * @param comparator  the Comparator object which imposes an ordering
+     *                    on entries in the index map; or <tt>null</tt>
+     *                    if the entries' values natural ordering should be used
+     * @param ctx         the {@link BackingMapContext context} associated with
+     *                    the indexed cache
+     *
+     * @return a new index
+     */
+    public static SimpleMapIndex createIndex(ValueExtractor extractor, boolean fOrdered,
+                                             Comparator comparator, BackingMapContext ctx)
+        {
+        return COMPACT_ENABLED
+               ? new CompactMapIndex(extractor, fOrdered, comparator, ctx)
+               : new SimpleMapIndex(extractor, fOrdered, comparator, ctx);
+        }
+
+    /**
+     * Return a Set representing the union of the specified key sets, if all
+     * of them are {@link PostingSet posting sets} of the same index, or null
+     * otherwise. The union is calculated using bitmap operations, and the
+     * ids are resolved to keys under the dictionary lock, so the returned
+     * read-only Set is a snapshot that is not affected by ids being recycled
+     * after the keys are removed.
+     *
+     * @param colSets  the key sets obtained from an index
+     *
+     * @return the union of the specified sets, or null if the sets are not
+     *         posting sets of a single index
+     */
+    public static Set union(Collection<? extends Set> colSets)
+        {
+        if (colSets.isEmpty())
+            {
+            return null;
+            }
+
+        KeyDictionary dict = null;
+        for (Set set : colSets)
+            {
+            if (!(set instanceof PostingSet) || (dict != null && ((PostingSet) set).f_dict != dict))
+                {
+                return null;
+                }
+            dict = ((PostingSet) set).f_dict;
+            }
+
+        if (colSets.size() == 1)
+            {
+            return colSets.iterator().next();
+            }
+
+        StampedLock lock   = dict.f_lock;
+        long        lStamp = lock.readLock();
+        try
+            {
+            long[] alBits = new long[(dict.m_cIds >>> 6) + 1];
+            int    cSize  = 0;
+            for (Set set : colSets)
+                {
+                PostingSet setIds = (PostingSet) set;
+                setIds.orInto(alBits);
+                cSize += setIds.m_cSize;
+                }
+
+            Set setKeys = new HashSet(Math.max(16, (int) (cSize / 0.75f) + 1));
+            for (int nId = ForwardMap.nextMapped(alBits, 0); nId >= 0;
+                 nId = ForwardMap.nextMapped(alBits, nId + 1))
+                {
+                Object oKey = dict.getKey(nId);
+                if (oKey != null)
+                    {
+                    setKeys.add(oKey);
+                    }
+                }
+            return Collections.unmodifiableSet(setKeys);
+            }
+        finally
+            {
+            lock.unlockRead(lStamp);
+            }
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Determine whether this index uses the compact representation.
+     *
+     * @return true iff this index uses the compact representation
+     */
+    public boolean isCompact()
+        {
+        return m_fCompact;
+        }
+
+    // ----- SimpleMapIndex methods -----------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void initialize(boolean fForwardIndex)
+        {
+        m_dict          = new KeyDictionary();
+        m_fCompact      = true;
+        m_fDecided      = false;
+        m_cbFootprint   = 0L;
+
+        super.initialize(fForwardIndex);
+
+        reconcileFootprint();
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Map instantiateForwardIndex()
+        {
+        return m_fCompact ? new ForwardMap(m_dict) : super.instantiateForwardIndex();
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Map.Entry getForwardEntry(Object oKey)
+        {
+        Map mapForward = m_mapForward;
+        return mapForward instanceof ForwardMap
+               ? ((ForwardMap) mapForward).getEntry(oKey)
+               : super.getForwardEntry(oKey);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Set instantiateSet()
+        {
+        return m_fCompact ? new PostingSet(m_dict) : super.instantiateSet();
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Object addInverseMapping(Object oIxValue, Object oKey)
+        {
+        if (!m_fDecided)
+            {
+            // the first value determines the representation; this index
+            // is still empty, so the forward index can be safely replaced
+            m_fDecided = true;
+            if (!isScalar(oIxValue))
+                {
+                m_fCompact = false;
+                setUnits(getUnits() - m_cbFootprint);
+                m_cbFootprint = 0L;
+                if (m_fForwardIndex)
+                    {
+                    m_mapForward = super.instantiateForwardIndex();
+                    }
+                }
+            }
+
+        return super.addInverseMapping(oIxValue, oKey);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void onMappingAdded()
+        {
+        if (m_fCompact)
+            {
+            reconcileFootprint();
+            }
+        else
+            {
+            super.onMappingAdded();
+            }
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void onMappingAdded(Object oValue, int cSize)
+        {
+        if (m_fCompact)
+            {
+            if (oValue != null)
+                {
+                setUnits(getUnits() + getValueSize(oValue));
+                }
+            reconcileFootprint();
+            }
+        else
+            {
+            super.onMappingAdded(oValue, cSize);
+            }
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void onMappingRemoved()
+        {
+        if (m_fCompact)
+            {
+            reconcileFootprint();
+            }
+        else
+            {
+            super.onMappingRemoved();
+            }
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void onMappingRemoved(Object oValue)
+        {
+        if (m_fCompact)
+            {
+            if (oValue != null)
+                {
+                setUnits(getUnits() - getValueSize(oValue));
+                }
+            reconcileFootprint();
+            }
+        else
+            {
+            super.onMappingRemoved(oValue);
+            }
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Return the estimated cost of a distinct value in the inverse index,
+     * including the map entry and the (empty) posting set.
+     *
+     * @param oValue  the distinct value
+     *
+     * @return the estimated size in bytes
+     */
+    protected int getValueSize(Object oValue)
+        {
+        IndexCalculator calc = (IndexCalculator) getCalculator();
+        return calc.getEntrySize() + calc.calculateUnits(null, oValue) + POSTING_SET_OVERHEAD;
+        }
+
+    /**
+     * Bring the units of this index in line with the current footprint of
+     * the key dictionary and the posting sets.
+     */
+    protected void reconcileFootprint()
+        {
+        long cb = m_dict.getFootprint();
+        setUnits(getUnits() + cb - m_cbFootprint);
+        m_cbFootprint = cb;
+        }
+
+    /**
+     * Determine whether the specified extracted value is a scalar that can
+     * benefit from the compact representation.
+     *
+     * @param oValue  the extracted value
+     *
+     * @return true iff the value is a scalar
+     */
+    protected static boolean isScalar(Object oValue)
+        {
+        return oValue == null
+               || oValue instanceof Number
+               || oValue instanceof String
+               || oValue instanceof Character
+               || oValue instanceof Boolean
+               || oValue instanceof Enum
+               || oValue instanceof java.util.Date;
+        }
+
+    /**
+     * Return the size of an array with the specified number of elements.
+     *
+     * @param cElements  the number of elements
+     * @param cbElement  the size of an element
+     *
+     * @return the size of the array in bytes
+     */
+    protected static int sizeOfArray(int cElements, int cbElement)
+        {
+        return cElements == 0
+               ? 0
+               : SimpleMemoryCalculator.padMemorySize(
+                       SimpleMemoryCalculator.SIZE_BASIC_OBJECT + 4 + cElements * cbElement);
+        }
+
+    // ----- inner class: KeyDictionary -------------------------------------
+
+    /**
+     * KeyDictionary assigns dense, reference counted ids to the keys of an
+     * index and holds the forward index values by id.
+     * <p>
+     * All mutations are performed while holding the write lock of
+     * {@link #f_lock}; reads use optimistic stamps and fall back to the read
+     * lock on contention, so queries never block each other.
+     */
+    public static class KeyDictionary
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Construct an empty KeyDictionary.
+         */
+        public KeyDictionary()
+            {
+            reset();
+            }
+
+        // ----- KeyDictionary methods --------------------------------------
+
+        /**
+         * Return the id of the specified key.
+         *
+         * @param oKey  the key
+         *
+         * @return the id of the key, or -1 if the key is not known
+         */
+        public int getId(Object oKey)
+            {
+            StampedLock lock   = f_lock;
+            long        lStamp = lock.tryOptimisticRead();
+            int         nId    = lookup(oKey);
+
+            if (!lock.validate(lStamp))
+                {
+                lStamp = lock.readLock();
+                try
+                    {
+                    nId = lookup(oKey);
+                    }
+                finally
+                    {
+                    lock.unlockRead(lStamp);
+                    }
+                }
+            return nId;
+            }
+
+        /**
+         * Return the key associated with the specified id.
+         *
+         * @param nId  the id
+         *
+         * @return the key, or null if the id is not in use
+         */
+        public Object getKey(int nId)
+            {
+            Object[] aoKey = m_aoKey;
+            return nId >= 0 && nId < aoKey.length ? aoKey[nId] : null;
+            }
+
+        /**
+         * Return the number of keys in this dictionary.
+         *
+         * @return the number of keys
+         */
+        public int size()
+            {
+            return m_cKeys;
+            }
+
+        /**
+         * Return the estimated memory footprint of this dictionary and all
+         * posting sets that use it.
+         *
+         * @return the footprint in bytes
+         */
+        public long getFootprint()
+            {
+            return m_cbFootprint;
+            }
+
+        // ----- internal ---------------------------------------------------
+
+        /**
+         * Return the id of the specified key without acquiring any lock.
+         * This method never fails when called with an inconsistent view of
+         * the dictionary; in such case the result must be discarded.
+         *
+         * @param oKey  the key
+         *
+         * @return the id of the key, or -1 if the key is not known
+         */
+        protected int lookup(Object oKey)
+            {
+            if (oKey == null)
+                {
+                return -1;
+                }
+
+            int[]    anSlot = m_anSlot;
+            Object[] aoKey  = m_aoKey;
+            int      nMask  = anSlot.length - 1;
+
+            for (int i = spread(oKey.hashCode()) & nMask, c = 0; c <= nMask; i = (i + 1) & nMask, c++)
+                {
+                int nSlot = anSlot[i];
+                if (nSlot == 0)
+                    {
+                    break;
+                    }
+
+                int nId = nSlot - 1;
+                if (nId < aoKey.length)
+                    {
+                    Object oCurrent = aoKey[nId];
+                    if (oCurrent == oKey || (oCurrent != null && oCurrent.equals(oKey)))
+                        {
+                        return nId;
+                        }
+                    }
+                }
+            return -1;
+            }
+
+        /**
+         * Acquire a reference to the id of the specified key, assigning a new
+         * id if the key is not known. Must be called while holding the write
+         * lock.
+         *
+         * @param oKey  the key
+         *
+         * @return the id of the key
+         */
+        protected int acquire(Object oKey)
+            {
+            int nId = lookup(oKey);
+            if (nId < 0)
+                {
+                if ((m_cKeys + 1) * 4L > m_anSlot.length * 3L)
+                    {
+                    resizeTable(m_anSlot.length << 1);
+                    }
+
+                nId = allocateId();
+                m_aoKey[nId] = oKey;
+                insertSlot(m_anSlot, oKey, nId);
+                m_cKeys++;
+                }
+
+            m_anRef[nId]++;
+            return nId;
+            }
+
+        /**
+         * Release a reference to the specified id, discarding the id once it
+         * is no longer referenced. Must be called while holding the write
+         * lock.
+         *
+         * @param nId  the id
+         */
+        protected void release(int nId)
+            {
+            if (--m_anRef[nId] == 0)
+                {
+                removeSlot(nId);
+
+                m_aoKey[nId]   = null;
+                m_aoValue[nId] = null;
+
+                if (--m_cKeys == 0)
+                    {
+                    // start afresh to release the memory held by a drained
+                    // (e.g. transferred) partition; there are no references
+                    // to any ids at this point
+                    m_cbFootprint -= getArrayFootprint();
+                    reset();
+                    }
+                else
+                    {
+                    int[] anFree = m_anFree;
+                    if (m_cFree == anFree.length)
+                        {
+                        m_cbFootprint -= sizeOfArray(anFree.length, 4);
+                        m_anFree = anFree = Arrays.copyOf(anFree, Math.max(MIN_CAPACITY, anFree.length << 1));
+                        m_cbFootprint += sizeOfArray(anFree.length, 4);
+                        }
+                    anFree[m_cFree++] = nId;
+                    }
+                }
+            }
+
+        /**
+         * Allocate an id, either by reusing a previously released one or by
+         * extending the id space.
+         *
+         * @return the new id
+         */
+        protected int allocateId()
+            {
+            if (m_cFree > 0)
+                {
+                return m_anFree[--m_cFree];
+                }
+
+            int nId = m_cIds;
+            if (nId == m_aoKey.length)
+                {
+                int cNew = nId + Math.max(MIN_CAPACITY, nId >>> 1);
+
+                m_cbFootprint -= getIdArrayFootprint();
+                m_aoKey   = Arrays.copyOf(m_aoKey,   cNew);
+                m_aoValue = Arrays.copyOf(m_aoValue, cNew);
+                m_anRef   = Arrays.copyOf(m_anRef,   cNew);
+                m_cbFootprint += getIdArrayFootprint();
+                }
+            m_cIds = nId + 1;
+            return nId;
+            }
+
+        /**
+         * Resize the hash table.
+         *
+         * @param cSlots  the new number of slots (a power of two)
+         */
+        protected void resizeTable(int cSlots)
+            {
+            int[]    anSlot = new int[cSlots];
+            Object[] aoKey  = m_aoKey;
+            for (int nId = 0, c = m_cIds; nId < c; nId++)
+                {
+                Object oKey = aoKey[nId];
+                if (oKey != null)
+                    {
+                    insertSlot(anSlot, oKey, nId);
+                    }
+                }
+
+            m_cbFootprint += sizeOfArray(cSlots, 4) - sizeOfArray(m_anSlot.length, 4);
+            m_anSlot = anSlot;
+            }
+
+        /**
+         * Insert the specified id into the hash table.
+         *
+         * @param anSlot  the hash table
+         * @param oKey    the key
+         * @param nId     the id of the key
+         */
+        protected static void insertSlot(int[] anSlot, Object oKey, int nId)
+            {
+            int nMask = anSlot.length - 1;
+            int i     = spread(oKey.hashCode()) & nMask;
+            while (anSlot[i] != 0)
+                {
+                i = (i + 1) & nMask;
+                }
+            anSlot[i] = nId + 1;
+            }
+
+        /**
+         * Remove the specified id from the hash table, shifting back any
+         * subsequent colliding slots.
+         *
+         * @param nId  the id to remove
+         */
+        protected void removeSlot(int nId)
+            {
+            int[]    anSlot = m_anSlot;
+            Object[] aoKey  = m_aoKey;
+            int      nMask  = anSlot.length - 1;
+            int      i      = spread(aoKey[nId].hashCode()) & nMask;
+
+            while (anSlot[i] != nId + 1)
+                {
+                i = (i + 1) & nMask;
+                }
+            anSlot[i] = 0;
+
+            for (int j = (i + 1) & nMask; anSlot[j] != 0; j = (j + 1) & nMask)
+                {
+                int nHome = spread(aoKey[anSlot[j] - 1].hashCode()) & nMask;
+
+                // move the slot at j into the hole at i unless its home
+                // position lies cyclically within (i, j]
+                boolean fStay = i <= j
+                                ? i < nHome && nHome <= j
+                                : i < nHome || nHome <= j;
+                if (!fStay)
+                    {
+                    anSlot[i] = anSlot[j];
+                    anSlot[j] = 0;
+                    i         = j;
+                    }
+                }
+            }
+
+        /**
+         * Reset this dictionary to its initial empty state.
+         */
+        protected void reset()
+            {
+            m_anSlot   = new int[MIN_CAPACITY << 1];
+            m_aoKey    = new Object[MIN_CAPACITY];
+            m_aoValue  = new Object[MIN_CAPACITY];
+            m_anRef    = new int[MIN_CAPACITY];
+            m_anFree   = new int[0];
+            m_cFree    = 0;
+            m_cIds     = 0;
+            m_cKeys    = 0;
+
+            m_cbFootprint += getArrayFootprint();
+            }
+
+        /**
+         * Return the footprint of all arrays held by this dictionary.
+         *
+         * @return the footprint in bytes
+         */
+        protected long getArrayFootprint()
+            {
+            return sizeOfArray(m_anSlot.length, 4) + sizeOfArray(m_anFree.length, 4) + getIdArrayFootprint();
+            }
+
+        /**
+         * Return the footprint of the arrays indexed by id.
+         *
+         * @return the footprint in bytes
+         */
+        protected long getIdArrayFootprint()
+            {
+            int cIds = m_aoKey.length;
+            return 2L * sizeOfArray(cIds, SimpleMemoryCalculator.SIZE_OBJECT_REF) + sizeOfArray(cIds, 4);
+            }
+
+        /**
+         * Apply a supplemental hash function to defend against poor quality
+         * hashes.
+         *
+         * @param n  the hash
+         *
+         * @return the spread hash
+         */
+        protected static int spread(int n)
+            {
+            n *= 0x9E3779B9;
+            return n ^ (n >>> 16);
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The lock protecting this dictionary and all of its posting sets.
+         */
+        protected final StampedLock f_lock = new StampedLock();
+
+        /**
+         * The open-addressing hash table of key ids, each incremented by one
+         * so that zero denotes an empty slot.
+         */
+        protected int[] m_anSlot;
+
+        /**
+         * The keys, by id.
+         */
+        protected Object[] m_aoKey;
+
+        /**
+         * The forward index values, by id.
+         */
+        protected Object[] m_aoValue;
+
+        /**
+         * The reference counts, by id. Each key is referenced once by the
+         * forward index and once by every posting set that contains it.
+         */
+        protected int[] m_anRef;
+
+        /**
+         * The stack of released ids.
+         */
+        protected int[] m_anFree;
+
+        /**
+         * The number of released ids on the stack.
+         */
+        protected int m_cFree;
+
+        /**
+         * The high-water mark of allocated ids.
+         */
+        protected int m_cIds;
+
+        /**
+         * The number of keys.
+         */
+        protected int m_cKeys;
+
+        /**
+         * The estimated footprint of this dictionary and its posting sets.
+         */
+        protected long m_cbFootprint;
+        }
+
+    // ----- inner class: ForwardMap ----------------------------------------
+
+    /**
+     * ForwardMap is the forward index of a CompactMapIndex, backed by the
+     * {@link KeyDictionary}.
+     */
+    protected static class ForwardMap
+            extends AbstractMap
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Construct a ForwardMap backed by the specified dictionary.
+         *
+         * @param dict  the key dictionary
+         */
+        protected ForwardMap(KeyDictionary dict)
+            {
+            f_dict = dict;
+            }
+
+        // ----- ForwardMap methods -----------------------------------------
+
+        /**
+         * Return the entry for the specified key.
+         *
+         * @param oKey  the key
+         *
+         * @return the entry with the canonical key reference and the
+         *         indexed value, or null if the key is not mapped
+         */
+        public Map.Entry getEntry(Object oKey)
+            {
+            KeyDictionary dict   = f_dict;
+            StampedLock   lock   = dict.f_lock;
+            long          lStamp = lock.readLock();
+            try
+                {
+                int nId = dict.lookup(oKey);
+                return nId >= 0 && isMapped(nId)
+                       ? new SimpleMapEntry(dict.m_aoKey[nId], dict.m_aoValue[nId])
+                       : null;
+                }
+            finally
+                {
+                lock.unlockRead(lStamp);
+                }
+            }
+
+        // ----- Map interface ----------------------------------------------
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object get(Object oKey)
+            {
+            KeyDictionary dict   = f_dict;
+            StampedLock   lock   = dict.f_lock;
+            long          lStamp = lock.tryOptimisticRead();
+            Object        oValue = getInternal(oKey);
+
+            if (!lock.validate(lStamp))
+                {
+                lStamp = lock.readLock();
+                try
+                    {
+                    oValue = getInternal(oKey);
+                    }
+                finally
+                    {
+                    lock.unlockRead(lStamp);
+                    }
+                }
+            return oValue;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean containsKey(Object oKey)
+            {
+            KeyDictionary dict = f_dict;
+            int           nId  = dict.getId(oKey);
+            return nId >= 0 && isMapped(nId);
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object put(Object oKey, Object oValue)
+            {
+            KeyDictionary dict   = f_dict;
+            StampedLock   lock   = dict.f_lock;
+            long          lStamp = lock.writeLock();
+            try
+                {
+                int    nId = dict.lookup(oKey);
+                Object oOld;
+                if (nId >= 0 && isMapped(nId))
+                    {
+                    oOld = dict.m_aoValue[nId];
+                    }
+                else
+                    {
+                    oOld = null;
+                    nId  = dict.acquire(oKey);
+                    ensureMappedCapacity(dict.m_aoKey.length);
+                    m_alMapped[nId >>> 6] |= 1L << nId;
+                    m_cSize++;
+                    }
+                dict.m_aoValue[nId] = oValue;
+                return oOld;
+                }
+            finally
+                {
+                lock.unlockWrite(lStamp);
+                }
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object remove(Object oKey)
+            {
+            KeyDictionary dict   = f_dict;
+            StampedLock   lock   = dict.f_lock;
+            long          lStamp = lock.writeLock();
+            try
+                {
+                int nId = dict.lookup(oKey);
+                if (nId < 0 || !isMapped(nId))
+                    {
+                    return null;
+                    }
+
+                Object oOld = dict.m_aoValue[nId];
+                dict.m_aoValue[nId] = null;
+                m_alMapped[nId >>> 6] &= ~(1L << nId);
+                m_cSize--;
+                dict.release(nId);
+                return oOld;
+                }
+            finally
+                {
+                lock.unlockWrite(lStamp);
+                }
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size()
+            {
+            return m_cSize;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Set entrySet()
+            {
+            return new AbstractSet()
+                {
+                public Iterator iterator()
+                    {
+                    KeyDictionary dict   = f_dict;
+                    StampedLock   lock   = dict.f_lock;
+                    long          lStamp = lock.readLock();
+                    try
+                        {
+                        Map.Entry[] aEntry = new Map.Entry[m_cSize];
+                        long[]      alBits = m_alMapped;
+                        int         c      = 0;
+                        for (int nId = nextMapped(alBits, 0); nId >= 0 && c < aEntry.length;
+                             nId = nextMapped(alBits, nId + 1))
+                            {
+                            aEntry[c++] = new SimpleMapEntry(dict.m_aoKey[nId], dict.m_aoValue[nId]);
+                            }
+                        return new SimpleEnumerator(aEntry, 0, c);
+                        }
+                    finally
+                        {
+                        lock.unlockRead(lStamp);
+                        }
+                    }
+
+                public int size()
+                    {
+                    return m_cSize;
+                    }
+                };
+            }
+
+        // ----- helpers ----------------------------------------------------
+
+        /**
+         * Return the value for the specified key without acquiring any lock.
+         *
+         * @param oKey  the key
+         *
+         * @return the value, or null
+         */
+        protected Object getInternal(Object oKey)
+            {
+            KeyDictionary dict    = f_dict;
+            int           nId     = dict.lookup(oKey);
+            Object[]      aoValue = dict.m_aoValue;
+            return nId >= 0 && nId < aoValue.length && isMapped(nId) ? aoValue[nId] : null;
+            }
+
+        /**
+         * Determine whether the specified id has a forward index value.
+         *
+         * @param nId  the id
+         *
+         * @return true iff the id is mapped
+         */
+        protected boolean isMapped(int nId)
+            {
+            long[] alBits = m_alMapped;
+            int    iWord  = nId >>> 6;
+            return iWord < alBits.length && (alBits[iWord] & (1L << nId)) != 0L;
+            }
+
+        /**
+         * Ensure the mapped bitmap can hold the specified number of ids.
+         *
+         * @param cIds  the number of ids
+         */
+        protected void ensureMappedCapacity(int cIds)
+            {
+            long[] alBits = m_alMapped;
+            int    cWords = (cIds >>> 6) + 1;
+            if (alBits.length < cWords)
+                {
+                KeyDictionary dict = f_dict;
+                dict.m_cbFootprint += sizeOfArray(cWords, 8) - sizeOfArray(alBits.length, 8);
+                m_alMapped = Arrays.copyOf(alBits, cWords);
+                }
+            }
+
+        /**
+         * Return the next set bit at or after the specified index.
+         *
+         * @param alBits  the bitmap
+         * @param nFrom   the index to start at
+         *
+         * @return the index of the next set bit, or -1
+         */
+        protected static int nextMapped(long[] alBits, int nFrom)
+            {
+            int iWord = nFrom >>> 6;
+            if (iWord >= alBits.length)
+                {
+                return -1;
+                }
+
+            long lWord = alBits[iWord] & (-1L << nFrom);
+            while (true)
+                {
+                if (lWord != 0L)
+                    {
+                    return (iWord << 6) + Long.numberOfTrailingZeros(lWord);
+                    }
+                if (++iWord == alBits.length)
+                    {
+                    return -1;
+                    }
+                lWord = alBits[iWord];
+                }
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The key dictionary.
+         */
+        protected final KeyDictionary f_dict;
+
+        /**
+         * The bitmap of ids that have a forward index value.
+         */
+        protected long[] m_alMapped = new long[0];
+
+        /**
+         * The number of mapped keys.
+         */
+        protected int m_cSize;
+        }
+
+    // ----- inner class: PostingSet ----------------------------------------
+
+    /**
+     * PostingSet is the set of keys associated with a single value in the
+     * inverse index of a CompactMapIndex. The keys are held as ids of the
+     * {@link KeyDictionary}, either in a sorted array or, once the set is
+     * dense enough, in a bitmap.
+     */
+    public static class PostingSet
+            extends AbstractSet
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Construct an empty PostingSet.
+         *
+         * @param dict  the key dictionary
+         */
+        protected PostingSet(KeyDictionary dict)
+            {
+            f_dict = dict;
+            m_anId = new int[0];
+            }
+
+        // ----- Set interface ----------------------------------------------
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size()
+            {
+            return m_cSize;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean contains(Object oKey)
+            {
+            KeyDictionary dict   = f_dict;
+            StampedLock   lock   = dict.f_lock;
+            long          lStamp = lock.tryOptimisticRead();
+            int           nId    = dict.lookup(oKey);
+            int           nProbe = nId < 0 ? PROBE_ABSENT : probeId(nId);
+            boolean       f      = nProbe == PROBE_PRESENT;
+
+            if (nProbe == PROBE_UNKNOWN || !lock.validate(lStamp))
+                {
+                lStamp = lock.readLock();
+                try
+                    {
+                    nId = dict.lookup(oKey);
+                    f   = nId >= 0 && containsId(nId);
+                    }
+                finally
+                    {
+                    lock.unlockRead(lStamp);
+                    }
+                }
+            return f;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean add(Object oKey)
+            {
+            KeyDictionary dict   = f_dict;
+            StampedLock   lock   = dict.f_lock;
+            long          lStamp = lock.writeLock();
+            try
+                {
+                int nId = dict.lookup(oKey);
+                if (nId >= 0 && containsId(nId))
+                    {
+                    return false;
+                    }
+
+                addId(dict.acquire(oKey));
+                return true;
+                }
+            finally
+                {
+                lock.unlockWrite(lStamp);
+                }
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean remove(Object oKey)
+            {
+            KeyDictionary dict   = f_dict;
+            StampedLock   lock   = dict.f_lock;
+            long          lStamp = lock.writeLock();
+            try
+                {
+                int nId = dict.lookup(oKey);
+                if (nId < 0 || !containsId(nId))
+                    {
+                    return false;
+                    }
+
+                removeId(nId);
+                dict.release(nId);
+                return true;
+                }
+            finally
+                {
+                lock.unlockWrite(lStamp);
+                }
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator iterator()
+            {
+            KeyDictionary dict   = f_dict;
+            StampedLock   lock   = dict.f_lock;
+            long          lStamp = lock.readLock();
+            Object[]      aoKey;
+            int           c      = 0;
+            try
+                {
+                aoKey = new Object[m_cSize];
+
+                long[] alBits = m_alBits;
+                if (alBits == null)
+                    {
+                    int[] anId = m_anId;
+                    for (int i = 0, cIds = Math.min(m_cSize, anId.length); i < cIds; i++)
+                        {
+                        aoKey[c++] = dict.getKey(anId[i]);
+                        }
+                    }
+                else
+                    {
+                    for (int nId = ForwardMap.nextMapped(alBits, 0); nId >= 0 && c < aoKey.length;
+                         nId = ForwardMap.nextMapped(alBits, nId + 1))
+                        {
+                        Object oKey = dict.getKey(nId);
+                        if (oKey != null)
+                            {
+                            aoKey[c++] = oKey;
+                            }
+                        }
+                    }
+                }
+            finally
+                {
+                lock.unlockRead(lStamp);
+                }
+
+            Object[] aoSnapshot = aoKey;
+            int      cSnapshot  = c;
+            return new Iterator()
+                {
+                public boolean hasNext()
+                    {
+                    return m_i < cSnapshot;
+                    }
+
+                public Object next()
+                    {
+                    if (m_i >= cSnapshot)
+                        {
+                        throw new NoSuchElementException();
+                        }
+                    return m_oLast = aoSnapshot[m_i++];
+                    }
+
+                public void remove()
+                    {
+                    if (m_oLast == null)
+                        {
+                        throw new IllegalStateException();
+                        }
+                    PostingSet.this.remove(m_oLast);
+                    m_oLast = null;
+                    }
+
+                private int    m_i;
+                private Object m_oLast;
+                };
+            }
+
+        // ----- PostingSet methods -----------------------------------------
+
+        /**
+         * Determine whether this set is held as a bitmap.
+         *
+         * @return true iff this set is held as a bitmap
+         */
+        public boolean isBitmap()
+            {
+            return m_alBits != null;
+            }
+
+        // ----- internal ---------------------------------------------------
+
+        /**
+         * Determine whether this set contains the specified id, without
+         * acquiring any lock and without assuming that the representation
+         * is consistent, as the set may be concurrently switched between an
+         * array and a bitmap.
+         *
+         * @param nId  the id
+         *
+         * @return {@link #PROBE_PRESENT}, {@link #PROBE_ABSENT}, or
+         *         {@link #PROBE_UNKNOWN} if the state observed was
+         *         inconsistent and the caller must retry under the read lock
+         */
+        protected int probeId(int nId)
+            {
+            long[] alBits = m_alBits;
+            if (alBits != null)
+                {
+                int iWord = nId >>> 6;
+                return iWord < alBits.length && (alBits[iWord] & (1L << nId)) != 0L
+                       ? PROBE_PRESENT : PROBE_ABSENT;
+                }
+
+            int[] anId = m_anId;
+            if (anId == null)
+                {
+                return PROBE_UNKNOWN;
+                }
+
+            int cIds = Math.min(m_cSize, anId.length);
+            return cIds >= 0 && Arrays.binarySearch(anId, 0, cIds, nId) >= 0
+                   ? PROBE_PRESENT : PROBE_ABSENT;
+            }
+
+        /**
+         * Determine whether this set contains the specified id; the caller
+         * must hold the dictionary lock.
+         *
+         * @param nId  the id
+         *
+         * @return true iff the id is contained in this set
+         */
+        protected boolean containsId(int nId)
+            {
+            long[] alBits = m_alBits;
+            if (alBits != null)
+                {
+                int iWord = nId >>> 6;
+                return iWord < alBits.length && (alBits[iWord] & (1L << nId)) != 0L;
+                }
+
+            int[] anId = m_anId;
+            return Arrays.binarySearch(anId, 0, Math.min(m_cSize, anId.length), nId) >= 0;
+            }
+
+        /**
+         * Add the specified id to this set, which must not contain it.
+         *
+         * @param nId  the id
+         */
+        protected void addId(int nId)
+            {
+            KeyDictionary dict  = f_dict;
+            int           cSize = m_cSize;
+            long[]        alBits = m_alBits;
+
+            if (alBits == null)
+                {
+                int[] anId = m_anId;
+                int   cMax = Math.max(nId, dict.m_cIds - 1);
+
+                if (cSize + 1 > ARRAY_MAX_SIZE || (cSize + 1) * 32L > cMax + 512L)
+                    {
+                    // switch to a bitmap, which is smaller at this density
+                    alBits = new long[(cMax >>> 6) + 1];
+                    for (int i = 0; i < cSize; i++)
+                        {
+                        int n = anId[i];
+                        alBits[n >>> 6] |= 1L << n;
+                        }
+                    alBits[nId >>> 6] |= 1L << nId;
+
+                    dict.m_cbFootprint += sizeOfArray(alBits.length, 8) - sizeOfArray(anId.length, 4);
+                    m_alBits = alBits;
+                    m_anId   = null;
+                    }
+                else
+                    {
+                    int i = -Arrays.binarySearch(anId, 0, cSize, nId) - 1;
+                    if (cSize == anId.length)
+                        {
+                        int[] anNew = new int[Math.max(4, cSize + (cSize >>> 1))];
+                        System.arraycopy(anId, 0, anNew, 0, i);
+                        anNew[i] = nId;
+                        System.arraycopy(anId, i, anNew, i + 1, cSize - i);
+
+                        dict.m_cbFootprint += sizeOfArray(anNew.length, 4) - sizeOfArray(anId.length, 4);
+                        m_anId = anNew;
+                        }
+                    else
+                        {
+                        System.arraycopy(anId, i, anId, i + 1, cSize - i);
+                        anId[i] = nId;
+                        }
+                    }
+                }
+            else
+                {
+                int iWord = nId >>> 6;
+                if (iWord >= alBits.length)
+                    {
+                    long[] alNew = Arrays.copyOf(alBits, Math.max(iWord + 1, (dict.m_aoKey.length >>> 6) + 1));
+
+                    dict.m_cbFootprint += sizeOfArray(alNew.length, 8) - sizeOfArray(alBits.length, 8);
+                    m_alBits = alBits = alNew;
+                    }
+                alBits[iWord] |= 1L << nId;
+                }
+
+            m_cSize = cSize + 1;
+            }
+
+        /**
+         * Remove the specified id from this set, which must contain it.
+         *
+         * @param nId  the id
+         */
+        protected void removeId(int nId)
+            {
+            KeyDictionary dict   = f_dict;
+            int           cSize  = m_cSize - 1;
+            long[]        alBits = m_alBits;
+
+            if (cSize == 0)
+                {
+                // an empty set is discarded by the index; release its storage
+                dict.m_cbFootprint -= alBits == null
+                                      ? sizeOfArray(m_anId.length, 4)
+                                      : sizeOfArray(alBits.length, 8);
+                m_anId   = new int[0];
+                m_alBits = null;
+                }
+            else if (alBits == null)
+                {
+                int[] anId = m_anId;
+                int   i    = Arrays.binarySearch(anId, 0, cSize + 1, nId);
+                System.arraycopy(anId, i + 1, anId, i, cSize - i);
+                if (cSize < anId.length >>> 2 && anId.length > 4)
+                    {
+                    int[] anNew = Arrays.copyOf(anId, Math.max(4, cSize + (cSize >>> 1)));
+
+                    dict.m_cbFootprint += sizeOfArray(anNew.length, 4) - sizeOfArray(anId.length, 4);
+                    m_anId = anNew;
+                    }
+                }
+            else
+                {
+                alBits[nId >>> 6] &= ~(1L << nId);
+                if (cSize < ARRAY_MAX_SIZE >>> 1 && cSize < alBits.length)
+                    {
+                    // switch back to an array, which is now at least
+                    // twice as small as the bitmap
+                    int[] anId = new int[Math.max(4, cSize)];
+                    int   c    = 0;
+                    for (int n = ForwardMap.nextMapped(alBits, 0); n >= 0 && c < cSize;
+                         n = ForwardMap.nextMapped(alBits, n + 1))
+                        {
+                        anId[c++] = n;
+                        }
+
+                    dict.m_cbFootprint += sizeOfArray(anId.length, 4) - sizeOfArray(alBits.length, 8);
+                    m_anId   = anId;
+                    m_alBits = null;
+                    }
+                }
+
+            m_cSize = cSize;
+            }
+
+        /**
+         * Add all ids of this set to the specified bitmap.
+         *
+         * @param alBits  the bitmap to add the ids to; must be large enough
+         *                to hold every id of the dictionary
+         */
+        protected void orInto(long[] alBits)
+            {
+            long[] alThis = m_alBits;
+            if (alThis == null)
+                {
+                int[] anId = m_anId;
+                for (int i = 0, c = m_cSize; i < c; i++)
+                    {
+                    int n = anId[i];
+                    alBits[n >>> 6] |= 1L << n;
+                    }
+                }
+            else
+                {
+                for (int i = 0, c = Math.min(alThis.length, alBits.length); i < c; i++)
+                    {
+                    alBits[i] |= alThis[i];
+                    }
+                }
+            }
+
+        // ----- constants --------------------------------------------------
+
+        /**
+         * The maximum number of ids held in a sorted array.
+         */
+        protected static final int ARRAY_MAX_SIZE = 4096;
+
+        /**
+         * {@link #probeId} result: the id is contained in the set.
+         */
+        protected static final int PROBE_PRESENT = 1;
+
+        /**
+         * {@link #probeId} result: the id is not contained in the set.
+         */
+        protected static final int PROBE_ABSENT = 0;
+
+        /**
+         * {@link #probeId} result: an inconsistent state was observed.
+         */
+        protected static final int PROBE_UNKNOWN = -1;
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The key dictionary.
+         */
+        protected final KeyDictionary f_dict;
+
+        /**
+         * The sorted ids, or null if this set is held as a bitmap.
+         */
+        protected int[] m_anId;
+
+        /**
+         * The bitmap of ids, or null if this set is held as an array.
+         */
+        protected long[] m_alBits;
+
+        /**
+         * The number of ids in this set.
+         */
+        protected int m_cSize;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The system property that controls whether compact indexes are used.
+     */
+    public static final String PROP_COMPACT_INDEX = "coherence.index.compact";
+
+    /**
+     * True iff compact indexes are used by default.
+     */
+    protected static final boolean COMPACT_ENABLED = Config.getBoolean(PROP_COMPACT_INDEX, true);
+
+    /**
+     * The minimum capacity of a dictionary.
+     */
+    protected static final int MIN_CAPACITY = 16;
+
+    /**
+     * The memory cost of an empty PostingSet.
+     */
+    protected static final int POSTING_SET_OVERHEAD =
+            SimpleMemoryCalculator.calculateShallowSize(PostingSet.class);
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The key dictionary.
+     */
+    protected KeyDictionary m_dict;
+
+    /**
+     * True iff this index uses the compact representation.
+     */
+    protected volatile boolean m_fCompact;
+
+    /**
+     * True once the representation has been chosen.
+     */
+    protected boolean m_fDecided;
+
+    /**
+     * The footprint of the key dictionary last accounted for in the units
+     * of this index.
+     */
+    protected long m_cbFootprint;
+    }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -5731,6 +5731,22 @@ public abstract class ExternalizableHelper
      */
     public static final int DECO_VECTOR = 16;
 
+    /**
+     * Decoration: The compaction key of an element of a compacted topic.
+     */
+    public static final int DECO_TOPIC_KEY = 17;
+
+    /**
+     * Decoration: The location of an element of a topic that has been moved
+     * to tiered storage.
+     */
+    public static final int DECO_TOPIC_TIER = 18;
+
+    /**
+     * Decoration: The codec used to compress the value of an element of a topic.
+     */
+    public static final int DECO_TOPIC_COMPRESSION = 19;
+
     /**
      * The maximum number of bytes the header of the binary-decorated value
      * may contain.
@@ -0,0 +1,390 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.util;
+
+import com.tangosol.coherence.config.Config;
+
+import com.tangosol.util.comparator.SafeComparator;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * IndexStatistics is an immutable snapshot of the distribution of the values
+ * held by a {@link MapIndex}, which is used by the query planner to estimate
+ * the selectivity of index-aware filters without scanning the index contents
+ * on every query.
+ * <p>
+ * The statistics include the number of distinct values (the index
+ * cardinality), the number of key references, the number of keys mapped to a
+ * {@code null} value and, for ordered indexes with a large number of distinct
+ * values, an equi-depth histogram of the non-null values.
+ *
+ * @author coh  2026.10.16
+ * @since 15.0.0
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class IndexStatistics
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct IndexStatistics.
+     *
+     * @param cDistinct    the number of distinct values
+     * @param cKeys        the number of key references
+     * @param cNulls       the number of keys mapped to a null value
+     * @param aoBound      the histogram bucket lower bounds, or null
+     * @param acRank       the number of non-null key references that precede
+     *                     each histogram bucket, or null
+     * @param comparator   the comparator used to order the histogram bounds
+     */
+    protected IndexStatistics(int cDistinct, long cKeys, long cNulls,
+                              Object[] aoBound, long[] acRank, Comparator comparator)
+        {
+        f_cDistinct  = cDistinct;
+        f_cKeys      = cKeys;
+        f_cNulls     = cNulls;
+        f_aoBound    = aoBound;
+        f_acRank     = acRank;
+        f_comparator = comparator;
+        f_ldtCreated = Base.getSafeTimeMillis();
+        }
+
+    // ----- factory methods ------------------------------------------------
+
+    /**
+     * Compute the statistics for the specified index contents.
+     *
+     * @param mapContents  the index contents, as returned by
+     *                     {@link MapIndex#getIndexContents()}
+     *
+     * @return the statistics, or null if the contents have been concurrently
+     *         modified in a way that prevented their collection
+     */
+    public static IndexStatistics compute(Map<Object, Set> mapContents)
+        {
+        try
+            {
+            int  cDistinct = 0;
+            long cKeys     = 0L;
+            long cNulls    = 0L;
+
+            for (Map.Entry<Object, Set> entry : mapContents.entrySet())
+                {
+                Set  setKeys = entry.getValue();
+                long cSize   = setKeys == null ? 0 : setKeys.size();
+
+                cDistinct++;
+                cKeys += cSize;
+                if (entry.getKey() == null)
+                    {
+                    cNulls = cSize;
+                    }
+                }
+
+            Object[]   aoBound    = null;
+            long[]     acRank     = null;
+            Comparator comparator = null;
+
+            if (mapContents instanceof SortedMap && cDistinct >= HISTOGRAM_MIN_VALUES)
+                {
+                comparator = ((SortedMap) mapContents).comparator();
+                if (comparator == null)
+                    {
+                    comparator = SafeComparator.INSTANCE;
+                    }
+
+                // build an equi-depth histogram of the non-null values
+                int  cBuckets = HISTOGRAM_BUCKETS;
+                long cDepth   = Math.max(1L, (cKeys - cNulls) / cBuckets);
+                long cRank    = 0L;
+                long cNext    = 0L;
+                int  iBucket  = 0;
+
+                aoBound = new Object[cBuckets + 1];
+                acRank  = new long[cBuckets + 2];
+
+                for (Map.Entry<Object, Set> entry : mapContents.entrySet())
+                    {
+                    Object oValue = entry.getKey();
+                    if (oValue == null)
+                        {
+                        continue;
+                        }
+
+                    if (cRank >= cNext && iBucket < cBuckets)
+                        {
+                        aoBound[iBucket] = oValue;
+                        acRank[iBucket]  = cRank;
+                        iBucket++;
+                        cNext = cRank + cDepth;
+                        }
+
+                    Set setKeys = entry.getValue();
+                    cRank += setKeys == null ? 0 : setKeys.size();
+                    }
+
+                if (iBucket == 0)
+                    {
+                    aoBound = null;
+                    acRank  = null;
+                    }
+                else
+                    {
+                    Object[] aoTrim = new Object[iBucket];
+                    long[]   acTrim = new long[iBucket + 1];
+
+                    System.arraycopy(aoBound, 0, aoTrim, 0, iBucket);
+                    System.arraycopy(acRank, 0, acTrim, 0, iBucket);
+                    acTrim[iBucket] = cRank;
+
+                    aoBound = aoTrim;
+                    acRank  = acTrim;
+                    }
+                }
+
+            return new IndexStatistics(cDistinct, cKeys, cNulls, aoBound, acRank, comparator);
+            }
+        catch (ConcurrentModificationException e)
+            {
+            return null;
+            }
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the number of distinct values in the index.
+     *
+     * @return the index cardinality
+     */
+    public int getDistinctValues()
+        {
+        return f_cDistinct;
+        }
+
+    /**
+     * Return the total number of key references held by the index. For an
+     * index of collection values a key is referenced once per element.
+     *
+     * @return the number of key references
+     */
+    public long getKeyCount()
+        {
+        return f_cKeys;
+        }
+
+    /**
+     * Return the number of keys mapped to a {@code null} value.
+     *
+     * @return the number of null values
+     */
+    public long getNullCount()
+        {
+        return f_cNulls;
+        }
+
+    /**
+     * Return the average number of keys mapped to a single value.
+     *
+     * @return the average number of keys per value
+     */
+    public double getAverageKeysPerValue()
+        {
+        return f_cDistinct == 0 ? 0.0 : (double) f_cKeys / f_cDistinct;
+        }
+
+    /**
+     * Return {@code true} if these statistics include a value histogram.
+     *
+     * @return {@code true} if range estimates are available
+     */
+    public boolean isHistogramAvailable()
+        {
+        return f_aoBound != null;
+        }
+
+    /**
+     * Return the time at which these statistics were collected.
+     *
+     * @return the collection time in milliseconds
+     */
+    public long getTimestamp()
+        {
+        return f_ldtCreated;
+        }
+
+    /**
+     * Return {@code true} if these statistics are older than the configured
+     * expiry.
+     *
+     * @return {@code true} if these statistics should be recomputed
+     */
+    public boolean isExpired()
+        {
+        return Base.getSafeTimeMillis() - f_ldtCreated > EXPIRY_MILLIS;
+        }
+
+    // ----- estimation -----------------------------------------------------
+
+    /**
+     * Estimate the number of keys whose non-null value falls within the
+     * specified range.
+     *
+     * @param oLower          the lower bound, or null if unbounded
+     * @param fLowerInclusive {@code true} if the lower bound is inclusive
+     * @param oUpper          the upper bound, or null if unbounded
+     * @param fUpperInclusive {@code true} if the upper bound is inclusive
+     *
+     * @return the estimated number of matching keys, or -1 if no histogram is
+     *         available
+     */
+    public long estimateRange(Object oLower, boolean fLowerInclusive,
+                              Object oUpper, boolean fUpperInclusive)
+        {
+        if (f_aoBound == null)
+            {
+            return -1L;
+            }
+
+        long[] acRank = f_acRank;
+        long   cTotal = acRank[acRank.length - 1];
+        long   cLower = oLower == null ? 0L : estimateRank(oLower, !fLowerInclusive);
+        long   cUpper = oUpper == null ? cTotal : estimateRank(oUpper, fUpperInclusive);
+
+        return Math.max(0L, cUpper - cLower);
+        }
+
+    /**
+     * Estimate the number of non-null key references whose value precedes
+     * (or, if {@code fInclusive}, does not follow) the specified value.
+     *
+     * @param oValue      the value
+     * @param fInclusive  {@code true} to include the keys mapped to the value
+     *
+     * @return the estimated rank of the value
+     */
+    protected long estimateRank(Object oValue, boolean fInclusive)
+        {
+        Object[]   aoBound    = f_aoBound;
+        long[]     acRank     = f_acRank;
+        Comparator comparator = f_comparator;
+        int        iLow       = 0;
+        int        iHigh      = aoBound.length - 1;
+
+        // find the last bucket whose lower bound does not exceed the value
+        int iBucket = -1;
+        while (iLow <= iHigh)
+            {
+            int iMid = (iLow + iHigh) >>> 1;
+            int nCmp = comparator.compare(aoBound[iMid], oValue);
+            if (nCmp == 0)
+                {
+                // the value starts a bucket
+                long cDepth = acRank[iMid + 1] - acRank[iMid];
+                return fInclusive ? acRank[iMid] + Math.min(cDepth, Math.max(1L, Math.round(getAverageKeysPerValue())))
+                                  : acRank[iMid];
+                }
+            if (nCmp < 0)
+                {
+                iBucket = iMid;
+                iLow    = iMid + 1;
+                }
+            else
+                {
+                iHigh = iMid - 1;
+                }
+            }
+
+        if (iBucket < 0)
+            {
+            return 0L;
+            }
+
+        // assume the value is in the middle of the bucket
+        return acRank[iBucket] + (acRank[iBucket + 1] - acRank[iBucket]) / 2;
+        }
+
+    // ----- Object methods -------------------------------------------------
+
+    @Override
+    public String toString()
+        {
+        return "IndexStatistics{DistinctValues=" + f_cDistinct
+               + ", Keys=" + f_cKeys
+               + ", Nulls=" + f_cNulls
+               + ", HistogramBuckets=" + (f_aoBound == null ? 0 : f_aoBound.length)
+               + '}';
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The name of the system property that specifies the number of
+     * milliseconds after which index statistics are recomputed.
+     */
+    public static final String PROP_EXPIRY = "coherence.query.statistics.expiry";
+
+    /**
+     * The number of milliseconds after which index statistics are recomputed.
+     */
+    public static final long EXPIRY_MILLIS = Config.getLong(PROP_EXPIRY, 1000L);
+
+    /**
+     * The maximum number of histogram buckets.
+     */
+    public static final int HISTOGRAM_BUCKETS = 64;
+
+    /**
+     * The minimum number of distinct values for which a histogram is built;
+     * ranges over smaller indexes are cheap enough to count exactly.
+     */
+    public static final int HISTOGRAM_MIN_VALUES = 1024;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The number of distinct values.
+     */
+    private final int f_cDistinct;
+
+    /**
+     * The number of key references.
+     */
+    private final long f_cKeys;
+
+    /**
+     * The number of keys mapped to a null value.
+     */
+    private final long f_cNulls;
+
+    /**
+     * The lower bound of each histogram bucket.
+     */
+    private final Object[] f_aoBound;
+
+    /**
+     * The number of non-null key references that precede each histogram
+     * bucket; the last element holds the total.
+     */
+    private final long[] f_acRank;
+
+    /**
+     * The comparator used to order the histogram bounds.
+     */
+    private final Comparator f_comparator;
+
+    /**
+     * The time at which the statistics were collected.
+     */
+    private final long f_ldtCreated;
+    }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -827,7 +827,7 @@ public abstract class InvocableMapHelper
                         }
                     else
                         {
-                        index = new SimpleMapIndex(extractor, fOrdered, comparator,
+                        index = CompactMapIndex.createIndex(extractor, fOrdered, comparator,
                                 /*BackingMapContext*/ null);
                         mapIndex.put(extractor, index);
                         }
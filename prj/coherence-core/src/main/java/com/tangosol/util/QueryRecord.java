@@ -1,8 +1,8 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
- * http://oss.oracle.com/licenses/upl.
+ * https://oss.oracle.com/licenses/upl.
  */
 
 package com.tangosol.util;
@@ -138,6 +138,20 @@ public interface QueryRecord
              */
             public long getDuration();
 
+            /**
+             * Get the number of attribute values that were read directly from
+             * the serialized form of the entries, rather than by deserializing
+             * the entries, while evaluating the filter for this query plan step.
+             *
+             * @return the number of deserializations avoided
+             *
+             * @since 15.0.0
+             */
+            public default long getDeserializationsAvoided()
+                {
+                return 0L;
+                }
+
             /**
              * Return inner nested steps, may be null if not nested.
              *
@@ -184,6 +198,19 @@ public interface QueryRecord
              *                   this step
              */
             public void recordExtractor(ValueExtractor extractor);
+
+            /**
+             * Record the plan chosen by the query planner for the filter
+             * used to create this step, such as the index access method used
+             * for each of its nested filters.
+             *
+             * @param sPlan  the plan description
+             *
+             * @since 15.0.0
+             */
+            public default void recordPlan(String sPlan)
+                {
+                }
             }
 
 
@@ -261,6 +288,20 @@ public interface QueryRecord
              */
             public void recordDuration(long cMillis);
 
+            /**
+             * Record the number of attribute values that were read directly
+             * from the serialized form of the entries while evaluating the
+             * filter.  Calling this method repeatedly will add to the total
+             * recorded for this step.
+             *
+             * @param cAvoided  the number of deserializations avoided
+             *
+             * @since 15.0.0
+             */
+            public default void recordDeserializationsAvoided(long cAvoided)
+                {
+                }
+
             /**
              * Ensure an inner nested trace step for the given filter.  If
              * there is no inner nested step associated with the given filter
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -273,6 +273,43 @@ public class SimpleMapIndex
         return m_fForwardIndex;
         }
 
+    /**
+    * Return the {@link BackingMapContext context} associated with the indexed
+    * cache.
+    *
+    * @return the context associated with the indexed cache, or null
+    *
+    * @since 15.0.0
+    */
+    public BackingMapContext getBackingMapContext()
+        {
+        return m_ctx;
+        }
+
+    /**
+    * Return the statistics describing the distribution of the values held
+    * by this index. The statistics are collected lazily and recomputed once
+    * they are older than {@link IndexStatistics#EXPIRY_MILLIS}, so they may
+    * not reflect the most recent index updates.
+    *
+    * @return the index statistics, or null if they could not be collected
+    *
+    * @since 15.0.0
+    */
+    public IndexStatistics getStatistics()
+        {
+        IndexStatistics stats = m_statistics;
+        if (stats == null || stats.isExpired())
+            {
+            IndexStatistics statsNew = IndexStatistics.compute(getIndexContents());
+            if (statsNew != null)
+                {
+                m_statistics = stats = statsNew;
+                }
+            }
+        return stats;
+        }
+
 
     // ----- helpers --------------------------------------------------------
 
@@ -1571,6 +1608,11 @@ public class SimpleMapIndex
     */
     protected boolean m_fImmutableValues;
 
+    /**
+    * The most recently collected index statistics.
+    */
+    private volatile IndexStatistics m_statistics;
+
     /**
      * Used to minimize logging of index error message.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -8,6 +8,8 @@
 package com.tangosol.util;
 
 import com.tangosol.internal.util.PartitionedIndexMap;
+import com.tangosol.internal.util.VersionHelper;
+
 import com.tangosol.io.ExternalizableLite;
 
 import com.tangosol.io.pof.PofReader;
@@ -467,6 +469,7 @@ public class SimpleQueryRecord
                 m_nSizeOut    = step.getPostFilterKeySetSize();
                 m_nEfficiency = step.getEfficiency();
                 m_cMillis     = step.getDuration();
+                m_cAvoided    = step.getDeserializationsAvoided();
 
                 for (QueryRecord.PartialResult.IndexLookupRecord record :
                         step.getIndexLookupRecords())
@@ -539,6 +542,14 @@ public class SimpleQueryRecord
                 return m_cMillis;
                 }
 
+            /**
+             * {@inheritDoc}
+             */
+            public long getDeserializationsAvoided()
+                {
+                return m_cAvoided;
+                }
+
             // ----- helper methods -------------------------------------
 
             /**
@@ -589,6 +600,7 @@ public class SimpleQueryRecord
                 m_nSizeOut    += step.getPostFilterKeySetSize();
                 m_nEfficiency += step.getEfficiency();
                 m_cMillis     += step.getDuration();
+                m_cAvoided    += step.getDeserializationsAvoided();
 
                 Map<IndexLookupRecord, IndexLookupRecord> mapIndexRecords =
                         ((Set<IndexLookupRecord>) step.getIndexLookupRecords()).stream().collect(Collectors.toMap(Function.identity(), Function.identity()));
@@ -629,6 +641,11 @@ public class SimpleQueryRecord
                 m_cMillis     = in.readLong();
                 ExternalizableHelper.readCollection(in, m_setIndexLookupRecords, null);
                 ExternalizableHelper.readCollection(in, m_listSubSteps, null);
+
+                if (ExternalizableHelper.isVersionCompatible(in, VersionHelper.VERSION_26_04))
+                    {
+                    m_cAvoided = in.readLong();
+                    }
                 }
 
             /**
@@ -651,6 +668,11 @@ public class SimpleQueryRecord
                     listSteps.add(new Step(step));
                     }
                 ExternalizableHelper.writeCollection(out, listSteps);
+
+                if (ExternalizableHelper.isVersionCompatible(out, VersionHelper.VERSION_26_04))
+                    {
+                    out.writeLong(m_cAvoided);
+                    }
                 }
 
             // ----- PortableObject interface ---------------------------
@@ -669,6 +691,7 @@ public class SimpleQueryRecord
 
                 in.readCollection(5, m_setIndexLookupRecords);
                 in.readCollection(6, m_listSubSteps);
+                m_cAvoided = in.readLong(7);
                 }
 
             /**
@@ -691,6 +714,7 @@ public class SimpleQueryRecord
                     listSteps.add(new Step(step));
                     }
                 out.writeCollection(6, listSteps);
+                out.writeLong(      7, m_cAvoided);
                 }
 
             // ----- data members ---------------------------------------
@@ -725,6 +749,13 @@ public class SimpleQueryRecord
             @JsonbProperty("millis")
             protected long m_cMillis = 0L;
 
+            /**
+             * The number of deserializations avoided by reading attribute
+             * values directly from the serialized entries.
+             */
+            @JsonbProperty("deserializationsAvoided")
+            protected long m_cAvoided = 0L;
+
             /**
              * The set of index lookup records.
              */
@@ -777,6 +808,21 @@ public class SimpleQueryRecord
                 m_setIndexLookupRecords.add(new IndexLookupRecord(extractor, index));
                 }
 
+            /**
+             * {@inheritDoc}
+             * <p>
+             * The plan is appended to the filter description, so that only
+             * the partial results produced using the same plan are merged.
+             */
+            public void recordPlan(String sPlan)
+                {
+                if (sPlan != null && !m_fPlan)
+                    {
+                    m_sFilter = m_sFilter + " [" + sPlan + ']';
+                    m_fPlan   = true;
+                    }
+                }
+
             // ----- data members ---------------------------------------
 
             /**
@@ -784,6 +830,11 @@ public class SimpleQueryRecord
              */
             protected Map<Filter, Step> m_mapSteps =
                     new IdentityHashMap<Filter, Step>();
+
+            /**
+             * Flag indicating whether the plan has been recorded.
+             */
+            protected boolean m_fPlan;
             }
 
         /**
@@ -870,6 +921,14 @@ public class SimpleQueryRecord
                 m_cMillis += cMillisElapsed;
                 }
 
+            /**
+             * {@inheritDoc}
+             */
+            public void recordDeserializationsAvoided(long cAvoided)
+                {
+                m_cAvoided += cAvoided;
+                }
+
             /**
              * {@inheritDoc}
              */
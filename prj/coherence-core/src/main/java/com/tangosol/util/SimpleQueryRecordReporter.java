@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -90,14 +90,22 @@ public class SimpleQueryRecordReporter
 
         sb.append(String.format(DIVIDER));
 
+        long cAvoided = 0L;
         for (QueryRecord.PartialResult.Step childStep : result.getSteps())
             {
             sb.append(reportStep(childStep, type, listIndexLookups, 0, listFooter));
             sb.append(String.format("%n"));
+
+            cAvoided += childStep.getDeserializationsAvoided();
             }
 
         sb.append(String.format("%n"));
 
+        if (cAvoided > 0L)
+            {
+            sb.append(String.format(AVOIDED_FORMAT, cAvoided));
+            }
+
         if (fReportPartition)
             {
             sb.append(String.format(PARTITION_FORMAT,
@@ -330,6 +338,7 @@ public class SimpleQueryRecordReporter
     private static final String REPORT_NA        = "----";
     private static final String NO_INDEX         = "No index found";
     private static final String PARTITION_FORMAT = "%s%n%n";
+    private static final String AVOIDED_FORMAT   = "Deserializations avoided: %d%n%n";
 
     private static final String TRACE_HEADER_FORMAT = "%nTrace%n"
             + "%-" + TRACE_NAME_WIDTH + "." + TRACE_NAME_WIDTH + "s   %-5.5s   %-20.20s   %-10.10s%n";
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -8,6 +8,7 @@
 package com.tangosol.util.aggregator;
 
 
+import com.tangosol.util.ColumnarIndex;
 import com.tangosol.util.InvocableMap;
 import com.tangosol.util.ValueExtractor;
 
@@ -23,6 +24,7 @@ import com.tangosol.util.ValueExtractor;
 */
 public class DoubleSum<T>
         extends AbstractDoubleAggregator<T>
+        implements ColumnarIndex.Aggregator
     {
     // ----- constructors ---------------------------------------------------
 
@@ -70,6 +72,42 @@ public class DoubleSum<T>
         return PARALLEL | PRESENT_ONLY;
         }
 
+    // ----- ColumnarIndex.Aggregator interface -----------------------------
+
+    @Override
+    public boolean isFloatingPointSupported()
+        {
+        return true;
+        }
+
+    @Override
+    public void accumulate(long[] alValue, int cValues)
+        {
+        ensureInitialized(false);
+
+        double dflResult = m_dflResult;
+        for (int i = 0; i < cValues; i++)
+            {
+            dflResult += alValue[i];
+            }
+        m_dflResult = dflResult;
+        m_count += cValues;
+        }
+
+    @Override
+    public void accumulate(double[] adflValue, int cValues)
+        {
+        ensureInitialized(false);
+
+        double dflResult = m_dflResult;
+        for (int i = 0; i < cValues; i++)
+            {
+            dflResult += adflValue[i];
+            }
+        m_dflResult = dflResult;
+        m_count += cValues;
+        }
+
     // ----- AbstractAggregator methods -------------------------------------
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -8,6 +8,7 @@
 package com.tangosol.util.aggregator;
 
 
+import com.tangosol.util.ColumnarIndex;
 import com.tangosol.util.InvocableMap;
 import com.tangosol.util.ValueExtractor;
 
@@ -24,6 +25,7 @@ import com.tangosol.util.ValueExtractor;
 */
 public class LongMax<T>
         extends AbstractLongAggregator<T>
+        implements ColumnarIndex.Aggregator
     {
     // ----- constructors ---------------------------------------------------
 
@@ -71,6 +73,22 @@ public class LongMax<T>
         return PARALLEL | PRESENT_ONLY;
         }
 
+    // ----- ColumnarIndex.Aggregator interface -----------------------------
+
+    @Override
+    public void accumulate(long[] alValue, int cValues)
+        {
+        ensureInitialized(false);
+
+        long lResult = m_lResult;
+        for (int i = 0; i < cValues; i++)
+            {
+            lResult = Math.max(lResult, alValue[i]);
+            }
+        m_lResult = lResult;
+        m_count += cValues;
+        }
+
     // ----- AbstractAggregator methods -------------------------------------
 
     /**
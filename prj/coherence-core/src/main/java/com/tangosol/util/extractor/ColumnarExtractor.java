@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.util.extractor;
+
+
+import com.tangosol.io.ExternalizableLite;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+
+import com.tangosol.net.BackingMapContext;
+
+import com.tangosol.util.ColumnarIndex;
+import com.tangosol.util.MapIndex;
+import com.tangosol.util.ValueExtractor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import java.util.Comparator;
+import java.util.Map;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+
+/**
+* An IndexAwareExtractor implementation that is only used to create a
+* {@link ColumnarIndex}, which stores the numeric values extracted by the
+* underlying extractor in a primitive column per partition.
+* <p>
+* Once a columnar index has been added, aggregations without a filter that
+* use one of the built-in numeric aggregators (such as
+* {@link com.tangosol.util.aggregator.DoubleSum DoubleSum} or
+* {@link com.tangosol.util.aggregator.LongMax LongMax}) with the same
+* underlying extractor scan the column instead of the entries:
+* <pre>{@code
+* cache.addIndex(new ColumnarExtractor<>(Trade::getPrice));
+* double dflTotal = cache.aggregate(Aggregators.doubleSum(Trade::getPrice));
+* }</pre>
+* Note: the created index is associated with this extractor (not the
+* underlying one) in the given index map, so it is never used to evaluate
+* filters and may co-exist with a regular index on the same attribute. Using
+* the ColumnarExtractor to extract values is not supported.
+*
+* @param <T>  the type of the value to extract from
+* @param <E>  the type of value that will be extracted
+*
+* @author coh  2026.10.16
+*
+* @since 15.0.0
+*/
+public class ColumnarExtractor<T, E extends Number>
+        extends AbstractExtractor<T, E>
+        implements IndexAwareExtractor<T, E>, ExternalizableLite, PortableObject
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+    * Construct the ColumnarExtractor.
+    */
+    public ColumnarExtractor()
+        {
+        }
+
+    /**
+    * Construct the ColumnarExtractor.
+    *
+    * @param extractor  the extractor used by this extractor to create a
+    *                   {@link ColumnarIndex}; must not be null
+    */
+    public ColumnarExtractor(ValueExtractor<? super T, ? extends E> extractor)
+        {
+        azzert(extractor != null, "Extractor must not be null");
+
+        m_extractor = extractor;
+        }
+
+
+    // ----- IndexAwareExtractor interface ----------------------------------
+
+    /**
+    * {@inheritDoc}
+    */
+    public MapIndex createIndex(boolean fOrdered, Comparator comparator,
+            Map<ValueExtractor<T, E>, MapIndex> mapIndex, BackingMapContext ctx)
+        {
+        MapIndex index = mapIndex.get(this);
+        if (index != null)
+            {
+            if (index instanceof ColumnarIndex)
+                {
+                return null;
+                }
+            throw new IllegalArgumentException(
+                    "Repetitive addIndex call for " + this);
+            }
+
+        ColumnarIndex indexNew = new ColumnarIndex(m_extractor, ctx);
+
+        mapIndex.put(this, indexNew);
+        return indexNew;
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public MapIndex destroyIndex(Map<ValueExtractor<T, E>, MapIndex> mapIndex)
+        {
+        return mapIndex.remove(this);
+        }
+
+    // ---- accessors -------------------------------------------------------
+
+    /**
+    * Return the underlying extractor.
+    *
+    * @return the underlying extractor
+    */
+    public ValueExtractor<? super T, ? extends E> getExtractor()
+        {
+        return m_extractor;
+        }
+
+    // ----- ValueExtractor interface ---------------------------------------
+
+    /**
+    * Using a ColumnarExtractor to extract values in not supported.
+    *
+    * @throws UnsupportedOperationException always
+    */
+    public E extract(Object oTarget)
+        {
+        throw new UnsupportedOperationException(
+            "ColumnarExtractor may not be used as an extractor.");
+        }
+
+
+    // ----- ExternalizableLite interface -----------------------------------
+
+    /**
+    * {@inheritDoc}
+    */
+    public void readExternal(DataInput in)
+            throws IOException
+        {
+        m_extractor = readObject(in);
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void writeExternal(DataOutput out)
+            throws IOException
+        {
+        writeObject(out, m_extractor);
+        }
+
+
+    // ----- PortableObject interface ---------------------------------------
+
+    /**
+    * {@inheritDoc}
+    */
+    public void readExternal(PofReader in)
+            throws IOException
+        {
+        m_extractor = in.readObject(0);
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void writeExternal(PofWriter out)
+            throws IOException
+        {
+        out.writeObject(0, m_extractor);
+        }
+
+
+    // ----- Object methods -------------------------------------------------
+
+    /**
+    * {@inheritDoc}
+    */
+    public boolean equals(Object o)
+        {
+        return o instanceof ColumnarExtractor
+            && equals(m_extractor, ((ColumnarExtractor) o).m_extractor);
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public int hashCode()
+        {
+        return ~m_extractor.hashCode();
+        }
+
+    /**
+    * Return a human-readable description for this ColumnarExtractor.
+    *
+    * @return a String description of the ColumnarExtractor
+    */
+    public String toString()
+        {
+        return "ColumnarExtractor(extractor=" + m_extractor + ")";
+        }
+
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+    * The underlying extractor.
+    */
+    @JsonbProperty("extractor")
+    protected ValueExtractor<? super T, ? extends E> m_extractor;
+    }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -8,6 +8,8 @@ package com.tangosol.util.extractor;
 
 import com.oracle.coherence.common.internal.util.CanonicalNames;
 
+import com.tangosol.internal.util.extractor.TargetReflectionDescriptor;
+
 import com.tangosol.io.ExternalizableLite;
 import com.tangosol.io.ResolvingObjectInputStream;
 
@@ -117,21 +119,24 @@ public class ReflectionExtractor<T, E>
 
         try
             {
-            Method method = m_methodPrev;
+            TargetReflectionDescriptor target = m_targetPrev;
 
-            if (method == null || method.getDeclaringClass() != clz)
+            if (target == null || target.getTargetClass() != clz)
                 {
                 if (!ClassHelper.isReflectionAllowed(oTarget))
                     {
                     throw new IllegalArgumentException(suggestExtractFailureCause(clz, true));
                     }
 
-                m_methodPrev = method = ClassHelper.findMethod(
+                Method method = ClassHelper.findMethod(
                     clz, getMethodName(), ClassHelper.getClassArray(m_aoParam), false);
+
+                //noinspection ConstantConditions
+                m_targetPrev = target = method == null ? null : new TargetReflectionDescriptor(clz, method);
                 }
 
             //noinspection ConstantConditions
-            return (E) method.invoke(oTarget, m_aoParam);
+            return (E) target.invoke(oTarget, m_aoParam);
             }
         catch (NullPointerException e)
             {
@@ -227,8 +232,8 @@ public class ReflectionExtractor<T, E>
         {
         Object[]                    aoParam    = m_aoParam;
         int                         cParams    = aoParam == null ? 0 : aoParam.length;
-        Method                      methodPrev = m_methodPrev;
-        String                      sName      = methodPrev == null ? m_sMethod : methodPrev.getName();
+        TargetReflectionDescriptor  targetPrev = m_targetPrev;
+        String                      sName      = targetPrev == null ? m_sMethod : targetPrev.getMethod().getName();
         StringBuilder               sb         = new StringBuilder();
 
         if (m_nTarget == KEY)
@@ -504,7 +509,8 @@ public class ReflectionExtractor<T, E>
     protected Object[] m_aoParam;
 
     /**
-    * A cached reflection method (to avoid repetitive look-ups).
+    * A cached reflection method and its invoker for the previous target
+    * class (to avoid repetitive look-ups).
     */
-    private transient Method m_methodPrev;
+    private transient TargetReflectionDescriptor m_targetPrev;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -182,7 +182,7 @@ public class UniversalExtractor<T, E>
                 {
                 return (E) (targetPrev.isMap()
                         ? (((Map) oTarget).get(getCanonicalName()))
-                        : targetPrev.getMethod().invoke(oTarget, m_aoParam));
+                        : targetPrev.invoke(oTarget, m_aoParam));
                 }
 
             return extractComplex(oTarget);
@@ -462,7 +462,10 @@ public class UniversalExtractor<T, E>
                 m_cacheTarget = null;
                 throw new IllegalArgumentException(suggestExtractFailureCause(clzTarget, true));
                 }
-            m_cacheTarget = new TargetReflectionDescriptor(clzTarget, method);
+            TargetReflectionDescriptor target = new TargetReflectionDescriptor(clzTarget, method);
+
+            m_cacheTarget = target;
+            return (E) target.invoke(oTarget, aoParam);
             }
         return (E) method.invoke(oTarget, aoParam);
         }
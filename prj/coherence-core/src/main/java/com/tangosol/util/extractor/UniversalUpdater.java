@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -104,7 +104,7 @@ public class UniversalUpdater
                     }
                 else
                     {
-                    targetPrev.getMethod().invoke(oTarget, oValue);
+                    targetPrev.invoke(oTarget, new Object[] {oValue});
                     }
                 }
             else
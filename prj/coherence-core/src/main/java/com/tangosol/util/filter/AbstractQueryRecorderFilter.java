@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -8,6 +8,8 @@
 package com.tangosol.util.filter;
 
 
+import com.tangosol.internal.util.extractor.PofPropertyResolver;
+
 import com.tangosol.util.Base;
 import com.tangosol.util.ExternalizableHelper;
 import com.tangosol.util.Filter;
@@ -197,12 +199,14 @@ public abstract class AbstractQueryRecorderFilter<T>
         step.recordPreFilterKeys(1);
 
         long ldtStart = Base.getSafeTimeMillis();
+        long cAvoided = PofPropertyResolver.getDeserializationsAvoided();
 
         boolean fResult = InvocableMapHelper.evaluateEntry(filter, entry);
 
         long ldtEnd = Base.getSafeTimeMillis();
 
         step.recordDuration(ldtEnd - ldtStart);
+        step.recordDeserializationsAvoided(PofPropertyResolver.getDeserializationsAvoided() - cAvoided);
         step.recordPostFilterKeys(fResult ? 1 : 0);
 
         return fResult;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -134,6 +134,71 @@ public class AllFilter
         return setFilters.toArray(Filter[]::new);
         }
 
+    /**
+    * {@inheritDoc}
+    * <p>
+    * A lower and an upper bound on the same extracted value, such as
+    * {@code x > 1 AND x < 10}, are combined into a single
+    * {@link BetweenFilter}, which is applied using a single range scan of
+    * the index and a single extraction per evaluated entry.
+    */
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    protected Filter<?>[] rewriteFilters(Filter<?>[] aFilter)
+        {
+        int       cFilters  = aFilter.length;
+        boolean[] afMerged  = null;
+        Filter[]  aFilterRw = null;
+
+        for (int i = 0; i < cFilters; i++)
+            {
+            Filter<?> filterLower = aFilter[i];
+            if (!isLowerBound(filterLower) || (afMerged != null && afMerged[i]))
+                {
+                continue;
+                }
+
+            for (int j = 0; j < cFilters; j++)
+                {
+                Filter<?> filterUpper = aFilter[j];
+                if (isUpperBound(filterUpper) && (afMerged == null || !afMerged[j])
+                    && isCombinable((ComparisonFilter) filterLower, (ComparisonFilter) filterUpper))
+                    {
+                    if (afMerged == null)
+                        {
+                        afMerged  = new boolean[cFilters];
+                        aFilterRw = aFilter.clone();
+                        }
+
+                    ComparisonFilter filterLo = (ComparisonFilter) filterLower;
+                    ComparisonFilter filterHi = (ComparisonFilter) filterUpper;
+
+                    afMerged[i] = afMerged[j] = true;
+                    aFilterRw[Math.min(i, j)] = new BetweenFilter(filterLo.getValueExtractor(),
+                            (Comparable) filterLo.getValue(), (Comparable) filterHi.getValue(),
+                            filterLo instanceof GreaterEqualsFilter, filterHi instanceof LessEqualsFilter);
+                    aFilterRw[Math.max(i, j)] = null;
+                    break;
+                    }
+                }
+            }
+
+        if (aFilterRw == null)
+            {
+            return aFilter;
+            }
+
+        List<Filter<?>> listFilter = new ArrayList<>(cFilters);
+        for (Filter<?> filter : aFilterRw)
+            {
+            if (filter != null)
+                {
+                listFilter.add(filter);
+                }
+            }
+        return listFilter.toArray(Filter[]::new);
+        }
+
     @Override
     protected Filter<?> applyIndex(Map mapIndexes, Set setKeys,
                                    QueryContext ctx, QueryRecord.PartialResult.TraceStep step)
@@ -184,6 +249,12 @@ public class AllFilter
             }
         }
 
+    @Override
+    protected String describePlan(Map mapIndexes, Set setKeys)
+        {
+        return QueryPlanner.describe(getFilters(), mapIndexes, setKeys, true);
+        }
+
     protected String getName()
         {
         switch (getFilters().length)
@@ -201,4 +272,57 @@ public class AllFilter
         {
         return "AND";
         }
+
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+    * Return {@code true} if the specified filter is a lower bound that can be
+    * combined into a {@link BetweenFilter}.
+    *
+    * @param filter  the filter to test
+    *
+    * @return {@code true} if the filter is a lower bound
+    */
+    private static boolean isLowerBound(Filter<?> filter)
+        {
+        Class<?> clz = filter == null ? null : filter.getClass();
+        return clz == GreaterFilter.class || clz == GreaterEqualsFilter.class;
+        }
+
+    /**
+    * Return {@code true} if the specified filter is an upper bound that can be
+    * combined into a {@link BetweenFilter}.
+    *
+    * @param filter  the filter to test
+    *
+    * @return {@code true} if the filter is an upper bound
+    */
+    private static boolean isUpperBound(Filter<?> filter)
+        {
+        Class<?> clz = filter == null ? null : filter.getClass();
+        return clz == LessFilter.class || clz == LessEqualsFilter.class;
+        }
+
+    /**
+    * Return {@code true} if the specified bounds apply to the same extracted
+    * value and describe a non-empty range, so that they can be combined into
+    * a {@link BetweenFilter}.
+    *
+    * @param filterLower  the lower bound
+    * @param filterUpper  the upper bound
+    *
+    * @return {@code true} if the bounds can be combined
+    */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static boolean isCombinable(ComparisonFilter filterLower, ComparisonFilter filterUpper)
+        {
+        Object oLower = filterLower.getValue();
+        Object oUpper = filterUpper.getValue();
+
+        return oLower != null && oUpper != null
+               && oLower.getClass() == oUpper.getClass()
+               && filterLower.getValueExtractor().equals(filterUpper.getValueExtractor())
+               && ((Comparable) oLower).compareTo(oUpper) <= 0;
+        }
     }
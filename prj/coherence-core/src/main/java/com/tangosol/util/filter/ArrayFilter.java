@@ -8,6 +8,8 @@
 package com.tangosol.util.filter;
 
 
+import com.tangosol.internal.util.extractor.PofPropertyResolver;
+
 import com.tangosol.io.ExternalizableLite;
 
 import com.tangosol.io.pof.PofReader;
@@ -143,7 +145,10 @@ public abstract class ArrayFilter
         {
         try
             {
-            optimizeFilterOrder(ctx.getBackingMapContext().getIndexMap(), setKeys);
+            Map mapIndexes = ctx.getBackingMapContext().getIndexMap();
+
+            optimizeFilterOrder(mapIndexes, setKeys);
+            step.recordPlan(describePlan(mapIndexes, setKeys));
 
             Filter<?>[] aFilter = getFilters();
             for (Filter filter : aFilter)
@@ -175,7 +180,12 @@ public abstract class ArrayFilter
         Filter filterRemaining;
         try
             {
-            filterRemaining = applyIndex(ctx.getBackingMapContext().getIndexMap(), setKeys, ctx, step);
+            Map mapIndexes = ctx.getBackingMapContext().getIndexMap();
+
+            optimizeFilterOrder(mapIndexes, setKeys);
+            step.recordPlan(describePlan(mapIndexes, setKeys));
+
+            filterRemaining = applyIndex(mapIndexes, setKeys, ctx, step);
             }
         finally
             {
@@ -198,12 +208,14 @@ public abstract class ArrayFilter
         step.recordPreFilterKeys(1);
 
         long ldtStart = System.currentTimeMillis();
+        long cAvoided = PofPropertyResolver.getDeserializationsAvoided();
         boolean fResult = evaluateEntry(entry, ctx, step);
 
         long ldtEnd = System.currentTimeMillis();
 
         step.recordPostFilterKeys(fResult ? 1 : 0);
         step.recordDuration(ldtEnd - ldtStart);
+        step.recordDeserializationsAvoided(PofPropertyResolver.getDeserializationsAvoided() - cAvoided);
 
         return fResult;
         }
@@ -277,6 +289,11 @@ public abstract class ArrayFilter
 
     /**
     * Sort all the participating filters according to their effectiveness.
+    * <p>
+    * The filters are first {@link #rewriteFilters rewritten}, and the
+    * resulting plan is reused by all the partitions this filter is applied
+    * to, as well as by any equal filter applied to the same cache, until it
+    * expires.
     *
     * @param mapIndexes  the available MapIndex objects keyed by
     *                    the related ValueExtractor; read-only
@@ -289,13 +306,45 @@ public abstract class ArrayFilter
             return;
             }
 
-        int              cFilters  = m_aFilter.length;
+        QueryPlanner      planner = QueryPlanner.of(mapIndexes);
+        QueryPlanner.Plan plan    = m_plan;
+        if (plan == null || plan.isExpired() || plan.getPlanner() != planner)
+            {
+            Filter<?>[] aFilterPlan = rewriteFilters(m_aFilter);
+
+            plan = planner.findPlan(this, aFilterPlan);
+            if (plan == null)
+                {
+                plan = QueryPlanner.Plan.of(planner, aFilterPlan, sortFilters(aFilterPlan, mapIndexes, setKeys));
+                planner.cachePlan(this, plan);
+                }
+            m_plan = plan;
+            }
+
+        f_aFilterOptimized.set(plan.getFilters());
+        }
+
+    /**
+    * Sort the specified filters according to their effectiveness.
+    *
+    * @param aFilterPlan  the filters to sort
+    * @param mapIndexes   the available MapIndex objects keyed by
+    *                     the related ValueExtractor; read-only
+    * @param setKeys      the set of keys that will be filtered; read-only
+    *
+    * @return a new array of the filters, from the most to the least effective
+    *
+    * @since 15.0.0
+    */
+    protected Filter<?>[] sortFilters(Filter<?>[] aFilterPlan, Map mapIndexes, Set setKeys)
+        {
+        int              cFilters  = aFilterPlan.length;
         WeightedFilter[] aWeighted = new WeightedFilter[cFilters];
         Filter<?>[]      aFilter   = new Filter[cFilters];
         int              nMax      = setKeys.size() * ExtractorFilter.EVAL_COST;
         int              nPos      = 0;
 
-        for (Filter<?> filter : m_aFilter)
+        for (Filter<?> filter : aFilterPlan)
             {
             int nEffect = filter instanceof IndexAwareFilter
                 ? ((IndexAwareFilter) filter).calculateEffectiveness(mapIndexes, setKeys)
@@ -315,7 +364,43 @@ public abstract class ArrayFilter
             aFilter[i] = aWeighted[i].getFilter();
             }
 
-        f_aFilterOptimized.set(aFilter);
+        return aFilter;
+        }
+
+    /**
+    * Rewrite the specified filters into an equivalent set of filters that
+    * can be applied more efficiently. The rewritten filters are only used
+    * while this filter is being applied, and do not affect its identity or
+    * serialized form.
+    *
+    * @param aFilter  the filters to rewrite; must not be modified
+    *
+    * @return the rewritten filters, or the specified array if no rewrite
+    *         is possible
+    *
+    * @since 15.0.0
+    */
+    protected Filter<?>[] rewriteFilters(Filter<?>[] aFilter)
+        {
+        return aFilter;
+        }
+
+    /**
+    * Return a description of the plan used to apply the optimized filters,
+    * which is recorded by the explain and trace operations.
+    *
+    * @param mapIndexes  the available MapIndex objects keyed by
+    *                    the related ValueExtractor; read-only
+    * @param setKeys     the set of keys that will be filtered; read-only
+    *
+    * @return the plan description, or null if this filter does not use
+    *         indexes
+    *
+    * @since 15.0.0
+    */
+    protected String describePlan(Map mapIndexes, Set setKeys)
+        {
+        return QueryPlanner.describe(getFilters(), mapIndexes, setKeys, false);
         }
 
     /**
@@ -332,9 +417,26 @@ public abstract class ArrayFilter
      */
     protected void clearOptimizedFiltersRecursive()
         {
+        Filter<?>[] aFilterOptimized = f_aFilterOptimized.get();
+
         clearOptimizedFilters();
+        clearOptimizedFiltersRecursive(m_aFilter);
+
+        if (aFilterOptimized != m_aFilter)
+            {
+            // the optimized filters may include rewritten composite filters
+            clearOptimizedFiltersRecursive(aFilterOptimized);
+            }
+        }
 
-        Filter<?>[] aFilter = m_aFilter;
+    /**
+     * Clear optimized filter order recursively for any {@link ArrayFilter}
+     * instances in the specified array.
+     *
+     * @param aFilter  the filters to clear; may be null
+     */
+    private static void clearOptimizedFiltersRecursive(Filter<?>[] aFilter)
+        {
         if (aFilter != null)
             {
             for (Filter<?> filter : aFilter)
@@ -652,4 +754,10 @@ public abstract class ArrayFilter
      *           (which is why we need this to be a thread-local, and not just a normal field).
      */
     private final transient ThreadLocal<Filter<?>[]> f_aFilterOptimized = new ThreadLocal<>();
+
+    /**
+     * The most recent plan for this filter, shared by all the partitions it
+     * is applied to.
+     */
+    private transient volatile QueryPlanner.Plan m_plan;
     }
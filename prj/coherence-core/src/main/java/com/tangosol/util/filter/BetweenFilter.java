@@ -9,6 +9,7 @@ package com.tangosol.util.filter;
 
 import com.tangosol.internal.util.FilterHelper;
 
+import com.tangosol.util.CompactMapIndex;
 import com.tangosol.util.Filter;
 import com.tangosol.util.InvocableMapHelper;
 import com.tangosol.util.MapIndex;
@@ -17,9 +18,12 @@ import com.tangosol.util.QueryMap;
 import com.tangosol.util.QueryRecord;
 import com.tangosol.util.ValueExtractor;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.NavigableMap;
@@ -285,17 +289,17 @@ public class BetweenFilter<T, E extends Comparable<? super E>>
             return null;
             }
 
-        Set setToRetain = new HashSet();
+        List<Set<?>> listMatch = new ArrayList<>();
 
         for (Map.Entry<Object, Set> entry : mapInverse.entrySet())
             {
             if (evaluateExtracted(entry.getKey()))
                 {
-                setToRetain.addAll(ensureSafeSet(entry.getValue()));
+                listMatch.add(ensureSafeSet(entry.getValue()));
                 }
             }
 
-        setKeys.retainAll(setToRetain);
+        setKeys.retainAll(listMatch.isEmpty() ? Collections.emptySet() : toRetainSet(listMatch));
 
         return null;
         }
@@ -324,6 +328,14 @@ public class BetweenFilter<T, E extends Comparable<? super E>>
                 return cAllOrNothing;
                 }
 
+            int cEstimate = getLowerBound() == null || getUpperBound() == null
+                    ? -1 : ExtractorFilter.estimateRangeEffectiveness(index, getLowerBound(), isLowerBoundInclusive(),
+                                                                      getUpperBound(), isUpperBoundInclusive());
+            if (cEstimate >= 0)
+                {
+                return cEstimate;
+                }
+
             NavigableMap<E, Set<?>> subMap = mapSorted.subMap(getLowerBound(), isLowerBoundInclusive(), getUpperBound(), isUpperBoundInclusive());
             for (Set<?> set : subMap.values())
                 {
@@ -447,21 +459,28 @@ public class BetweenFilter<T, E extends Comparable<? super E>>
 
         NavigableMap<E, Set<?>> mapRange        = mapContents.subMap(getLowerBound(), isLowerBoundInclusive(), getUpperBound(), isUpperBoundInclusive());
 
+        long lStart = System.nanoTime();
+        long cUnits = setKeys.size();
         if (!index.isPartial()
                 && isForwardIndexSupported(index, setKeys)
-                && shouldEvaluateUsingForwardIndex(setKeys, mapRange.values()))
+                && shouldEvaluateUsingForwardIndex(index, setKeys, mapRange.values()))
             {
             applyForwardIndex(index, setKeys);
+            QueryPlanner.of(index).recordForwardCost(cUnits, System.nanoTime() - lStart);
             return;
             }
 
-        Collection              colKeysToRetain = new HashSet<>();
+        List<Set<?>> listMatch = new ArrayList<>(mapRange.size());
 
-        for (Map.Entry<E, Set<?>> entry : mapRange.entrySet())
+        for (Set<?> set : mapRange.values())
             {
-            colKeysToRetain.addAll(ensureSafeSet(entry.getValue()));
+            set     = ensureSafeSet(set);
+            cUnits += set.size();
+            listMatch.add(set);
             }
 
+        Collection colKeysToRetain = listMatch.isEmpty() ? Collections.emptySet() : toRetainSet(listMatch);
+
         if (colKeysToRetain.isEmpty())
             {
             setKeys.clear();
@@ -470,6 +489,33 @@ public class BetweenFilter<T, E extends Comparable<? super E>>
             {
             setKeys.retainAll(colKeysToRetain);
             }
+        QueryPlanner.of(index).recordInverseCost(cUnits, System.nanoTime() - lStart);
+        }
+
+    /**
+     * Return a Set of keys to retain that is the union of the specified key
+     * sets obtained from an index.
+     * <p>
+     * The key sets of a {@link CompactMapIndex} are combined into a single
+     * bitmap; any other key sets are copied into a new {@link HashSet}.
+     *
+     * @param listSets  the key sets to combine
+     *
+     * @return the union of the specified key sets
+     */
+    protected Set<?> toRetainSet(List<Set<?>> listSets)
+        {
+        Set<?> setUnion = CompactMapIndex.union(listSets);
+        if (setUnion == null)
+            {
+            Set<Object> setRetain = new HashSet<>();
+            for (Set<?> set : listSets)
+                {
+                setRetain.addAll(set);
+                }
+            setUnion = setRetain;
+            }
+        return setUnion;
         }
 
     /**
@@ -16,10 +16,13 @@ import com.tangosol.io.pof.PofWriter;
 import com.tangosol.io.pof.PortableObject;
 
 import com.tangosol.util.ChainedCollection;
+import com.tangosol.util.CompactMapIndex;
 import com.tangosol.util.Filter;
+import com.tangosol.util.IndexStatistics;
 import com.tangosol.util.InvocableMapHelper;
 import com.tangosol.util.MapIndex;
 import com.tangosol.util.QueryMap;
+import com.tangosol.util.SimpleMapIndex;
 import com.tangosol.util.ValueExtractor;
 
 import com.tangosol.util.extractor.ChainedExtractor;
@@ -200,7 +203,7 @@ public abstract class ExtractorFilter<T, E>
                 listMatch.add(ensureSafeSet(entry.getValue()));
                 }
             }
-        setKeys.retainAll(new ChainedCollection<>(listMatch.toArray(Set[]::new)));
+        setKeys.retainAll(unionOf(listMatch));
         return null;
         }
 
@@ -271,6 +274,27 @@ public abstract class ExtractorFilter<T, E>
         return set == null ? Collections.emptySet() : set;
         }
 
+    /**
+     * Return a Collection representing the union of the specified key sets
+     * obtained from an index, which is suitable to be passed to
+     * {@link Set#retainAll(Collection)}.
+     * <p>
+     * The key sets of a {@link CompactMapIndex} are combined into a single
+     * bitmap, so that each subsequent lookup is a single bit test; any other
+     * key sets are chained.
+     *
+     * @param listSets  the key sets to combine
+     *
+     * @return the union of the specified key sets
+     *
+     * @since 15.0.0
+     */
+    protected static Collection<?> unionOf(List<Set<?>> listSets)
+        {
+        Set<?> setUnion = CompactMapIndex.union(listSets);
+        return setUnion == null ? new ChainedCollection<>(listSets.toArray(Set[]::new)) : setUnion;
+        }
+
     /**
      * Return {@code true} if the index cannot be used for optimization.
      *
@@ -313,6 +337,30 @@ public abstract class ExtractorFilter<T, E>
         return shouldEvaluateUsingForwardIndex(setKeys, colIndexSets, FORWARD_INDEX_EVAL_CARDINALITY_FACTOR);
         }
 
+    /**
+     * Return {@code true} if the supplied candidate and index-cardinality data
+     * indicates that it is cheaper to evaluate keys using the forward index of
+     * the specified index.
+     * <p>
+     * The cardinality factor is derived from the cost of both strategies
+     * observed on the indexed cache once enough large key sets have been
+     * evaluated, and is {@link #FORWARD_INDEX_EVAL_CARDINALITY_FACTOR} otherwise.
+     *
+     * @param index         the index
+     * @param setKeys       the current candidate key set
+     * @param colIndexSets  the index sets contributing to the matching range
+     *
+     * @return {@code true} if forward-index evaluation should be used
+     *
+     * @since 15.0.0
+     */
+    protected static boolean shouldEvaluateUsingForwardIndex(MapIndex index, Set setKeys,
+                                                             Collection<? extends Set> colIndexSets)
+        {
+        return setKeys != null && shouldEvaluateUsingForwardIndex(setKeys, colIndexSets,
+                QueryPlanner.of(index).getForwardIndexFactor(setKeys.size()));
+        }
+
     /**
      * Return {@code true} if the supplied candidate and index-cardinality data
      * indicates that it is cheaper to evaluate keys using a forward index.
@@ -346,6 +394,50 @@ public abstract class ExtractorFilter<T, E>
         return false;
         }
 
+    /**
+     * Return the statistics of the specified index, if available.
+     *
+     * @param index  the index
+     *
+     * @return the index statistics, or null if the index does not maintain
+     *         statistics
+     *
+     * @since 15.0.0
+     */
+    protected static IndexStatistics getStatistics(MapIndex index)
+        {
+        return index instanceof SimpleMapIndex ? ((SimpleMapIndex) index).getStatistics() : null;
+        }
+
+    /**
+     * Estimate the number of keys matching the specified range using the
+     * histogram of the specified index, avoiding a scan of the index
+     * contents.
+     *
+     * @param index            the index
+     * @param oLower           the lower bound, or null if unbounded
+     * @param fLowerInclusive  {@code true} if the lower bound is inclusive
+     * @param oUpper           the upper bound, or null if unbounded
+     * @param fUpperInclusive  {@code true} if the upper bound is inclusive
+     *
+     * @return the estimated number of matching keys, or -1 if the index has
+     *         no histogram
+     *
+     * @since 15.0.0
+     */
+    protected static int estimateRangeEffectiveness(MapIndex index, Object oLower, boolean fLowerInclusive,
+                                                    Object oUpper, boolean fUpperInclusive)
+        {
+        IndexStatistics stats = index.isOrdered() ? getStatistics(index) : null;
+        if (stats == null || !stats.isHistogramAvailable())
+            {
+            return -1;
+            }
+
+        long cMatch = stats.estimateRange(oLower, fLowerInclusive, oUpper, fUpperInclusive);
+        return (int) Math.min(cMatch, Integer.MAX_VALUE);
+        }
+
     /**
      * Return {@code true} if the supplied index appears to have forward-index
      * support for the supplied keys.
@@ -377,7 +469,8 @@ public abstract class ExtractorFilter<T, E>
 
     /**
      * Cardinality factor used to determine when to switch from inverse-index
-     * retain/remove to forward-index key evaluation.
+     * retain/remove to forward-index key evaluation, until the actual cost
+     * of both strategies has been observed.
      */
     public static int FORWARD_INDEX_EVAL_CARDINALITY_FACTOR = 1;
 
@@ -7,7 +7,6 @@
 
 package com.tangosol.util.filter;
 
-import com.tangosol.util.ChainedCollection;
 import com.tangosol.util.Filter;
 import com.tangosol.util.MapIndex;
 import com.tangosol.util.ValueExtractor;
@@ -118,6 +117,13 @@ public class GreaterFilter<T, E extends Comparable<? super E>>
                 return cAllOrNothing;
                 }
 
+            int cEstimate = getValue() == null
+                    ? -1 : estimateRangeEffectiveness(index, getValue(), includeEquals(), null, false);
+            if (cEstimate >= 0)
+                {
+                return cEstimate;
+                }
+
             NavigableMap<E, Set<?>> subMap = mapSorted.tailMap(getValue(), includeEquals());
             for (Set<?> set : subMap.values())
                 {
@@ -197,7 +203,7 @@ public class GreaterFilter<T, E extends Comparable<? super E>>
                 }
             else
                 {
-                setKeys.retainAll(new ChainedCollection<>(listGT.toArray(Set[]::new)));
+                setKeys.retainAll(unionOf(listGT));
                 }
             return null;
             }
@@ -218,11 +224,14 @@ public class GreaterFilter<T, E extends Comparable<? super E>>
             NavigableMap<E, Set<?>> mapHead      = mapContents.headMap(value, !includeEquals());
             NavigableMap<E, Set<?>> mapTail      = mapContents.tailMap(value, includeEquals());
             boolean                  fForward    = isForwardIndexSupported(index, setKeys)
-                    && shouldEvaluateUsingForwardIndex(setKeys, mapTail.values());
+                    && shouldEvaluateUsingForwardIndex(index, setKeys, mapTail.values());
 
+            long lStart = System.nanoTime();
+            long cUnits = setKeys.size();
             if (fForward)
                 {
                 applyForwardIndex(index, setKeys);
+                QueryPlanner.of(index).recordForwardCost(cUnits, System.nanoTime() - lStart);
                 }
             else
                 {
@@ -232,17 +241,22 @@ public class GreaterFilter<T, E extends Comparable<? super E>>
                     List<Set<?>> listGT = new ArrayList<>(mapTail.size());
                     for (Set<?> set : mapTail.values())
                         {
-                        listGT.add(ensureSafeSet(set));
+                        set     = ensureSafeSet(set);
+                        cUnits += set.size();
+                        listGT.add(set);
                         }
-                    setKeys.retainAll(new ChainedCollection<>(listGT.toArray(Set[]::new)));
+                    setKeys.retainAll(unionOf(listGT));
                     }
                 else
                     {
                     for (Set<?> set : mapHead.values())
                         {
-                        setKeys.removeAll(ensureSafeSet(set));
+                        set     = ensureSafeSet(set);
+                        cUnits += set.size();
+                        setKeys.removeAll(set);
                         }
                     }
+                QueryPlanner.of(index).recordInverseCost(cUnits, System.nanoTime() - lStart);
                 }
 
             // Note: the NULL set doesn't get in
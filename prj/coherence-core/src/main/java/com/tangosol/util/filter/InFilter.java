@@ -11,7 +11,6 @@ import com.tangosol.io.pof.PofReader;
 import com.tangosol.io.pof.PofWriter;
 
 import com.tangosol.util.Base;
-import com.tangosol.util.ChainedCollection;
 import com.tangosol.util.Filter;
 import com.tangosol.util.MapIndex;
 import com.tangosol.util.ValueExtractor;
@@ -176,7 +175,7 @@ public class InFilter<T, E>
                 }
             else
                 {
-                setKeys.retainAll(new ChainedCollection<>(listInverseKeys.toArray(Set[]::new)));
+                setKeys.retainAll(unionOf(listInverseKeys));
                 }
             return null;
             }
@@ -7,7 +7,6 @@
 
 package com.tangosol.util.filter;
 
-import com.tangosol.util.ChainedCollection;
 import com.tangosol.util.Filter;
 import com.tangosol.util.MapIndex;
 import com.tangosol.util.ValueExtractor;
@@ -119,6 +118,13 @@ public class LessFilter<T, E extends Comparable<? super E>>
                 return cAllOrNothing;
                 }
 
+            int cEstimate = getValue() == null
+                    ? -1 : estimateRangeEffectiveness(index, null, false, getValue(), includeEquals());
+            if (cEstimate >= 0)
+                {
+                return cEstimate;
+                }
+
             NavigableMap<E, Set<?>> subMap = mapSorted.headMap(getValue(), includeEquals());
             for (Set<?> set : subMap.values())
                 {
@@ -198,7 +204,7 @@ public class LessFilter<T, E extends Comparable<? super E>>
                 }
             else
                 {
-                setKeys.retainAll(new ChainedCollection<>(listLT.toArray(Set[]::new)));
+                setKeys.retainAll(unionOf(listLT));
                 }
             return null;
             }
@@ -220,13 +226,16 @@ public class LessFilter<T, E extends Comparable<? super E>>
             NavigableMap<E, Set<?>> mapHead      = mapContents.headMap(value, includeEquals());
             NavigableMap<E, Set<?>> mapTail      = mapContents.tailMap(value, !includeEquals());
             boolean                  fForward    = isForwardIndexSupported(index, setKeys)
-                    && shouldEvaluateUsingForwardIndex(setKeys, mapHead.values());
+                    && shouldEvaluateUsingForwardIndex(index, setKeys, mapHead.values());
 
             setKeys.removeAll(ensureSafeSet(setNULL));
 
+            long lStart = System.nanoTime();
+            long cUnits = setKeys.size();
             if (fForward)
                 {
                 applyForwardIndex(index, setKeys);
+                QueryPlanner.of(index).recordForwardCost(cUnits, System.nanoTime() - lStart);
                 }
             else
                 {
@@ -235,7 +244,9 @@ public class LessFilter<T, E extends Comparable<? super E>>
                     {
                     for (Set<?> set : mapTail.values())
                         {
-                        setKeys.removeAll(ensureSafeSet(set));
+                        set     = ensureSafeSet(set);
+                        cUnits += set.size();
+                        setKeys.removeAll(set);
                         }
                     }
                 else
@@ -243,11 +254,14 @@ public class LessFilter<T, E extends Comparable<? super E>>
                     List<Set<?>> listLT = new ArrayList<>(mapHead.size());
                     for (Set<?> set : mapHead.values())
                         {
-                        listLT.add(ensureSafeSet(set));
+                        set     = ensureSafeSet(set);
+                        cUnits += set.size();
+                        listLT.add(set);
                         }
 
-                    setKeys.retainAll(new ChainedCollection<>(listLT.toArray(Set[]::new)));
+                    setKeys.retainAll(unionOf(listLT));
                     }
+                QueryPlanner.of(index).recordInverseCost(cUnits, System.nanoTime() - lStart);
                 }
             }
         else
@@ -0,0 +1,641 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.util.filter;
+
+import com.oracle.coherence.common.collections.WeakIdentityHashMap;
+
+import com.tangosol.coherence.config.Config;
+
+import com.tangosol.internal.util.PartitionedIndexMap;
+
+import com.tangosol.net.BackingMapContext;
+
+import com.tangosol.util.Base;
+import com.tangosol.util.Filter;
+import com.tangosol.util.MapIndex;
+import com.tangosol.util.SimpleMapIndex;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * QueryPlanner holds the cost model used by the {@link ArrayFilter}s and the
+ * range filters to plan the application of indexes.
+ * <p>
+ * The planner is responsible for three decisions:
+ * <ul>
+ *   <li>the order in which the nested filters of an {@link ArrayFilter} are
+ *       applied, which is computed from the filters' effectiveness and
+ *       cached per filter for {@link #PLAN_EXPIRY_MILLIS}, so that a query
+ *       executed against many partitions, or repeatedly, is only planned
+ *       once per cache;</li>
+ *   <li>the threshold at which a range filter switches from retaining the
+ *       keys found in the inverse index to probing the forward index for
+ *       each candidate key, which is derived from the observed cost of both
+ *       strategies;</li>
+ *   <li>the description of the chosen plan, which is recorded by the
+ *       {@link QueryRecorderFilter#explain explain} and
+ *       {@link QueryRecorderFilter#trace trace} operations.</li>
+ * </ul>
+ * A planner holds the plans and the observed costs of a single cache, as the
+ * plans depend on the indexes and the data of the cache. The planner of a
+ * cache is obtained {@link #of(Map) from its index map} or
+ * {@link #of(MapIndex) from one of its indexes}, and is discarded with the
+ * cache's {@link BackingMapContext}.
+ *
+ * @author coh  2026.10.16
+ * @since 15.0.0
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+final class QueryPlanner
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a QueryPlanner.
+     */
+    QueryPlanner()
+        {
+        }
+
+    // ----- factory methods ------------------------------------------------
+
+    /**
+     * Return the planner of the cache that the specified indexes belong to.
+     *
+     * @param mapIndexes  the available indexes
+     *
+     * @return the planner
+     */
+    static QueryPlanner of(Map mapIndexes)
+        {
+        Object oScope = mapIndexes;
+        if (mapIndexes instanceof PartitionedIndexMap)
+            {
+            oScope = ((PartitionedIndexMap) mapIndexes).getBackingMapContext();
+            }
+        else if (mapIndexes != null)
+            {
+            for (Object oIndex : mapIndexes.values())
+                {
+                BackingMapContext ctx = getBackingMapContext(oIndex);
+                if (ctx != null)
+                    {
+                    oScope = ctx;
+                    break;
+                    }
+                }
+            }
+        return ensurePlanner(oScope);
+        }
+
+    /**
+     * Return the planner of the cache that the specified index belongs to.
+     *
+     * @param index  the index
+     *
+     * @return the planner
+     */
+    static QueryPlanner of(MapIndex index)
+        {
+        BackingMapContext ctx = getBackingMapContext(index);
+        return ensurePlanner(ctx == null ? index : ctx);
+        }
+
+    // ----- plan cache -----------------------------------------------------
+
+    /**
+     * Return a cached plan for the specified filter, bound to the specified
+     * (rewritten) nested filters.
+     *
+     * @param filter   the filter to return a plan for
+     * @param aFilter  the rewritten nested filters of the filter
+     *
+     * @return the plan, or null if there is no valid cached plan
+     */
+    Plan findPlan(ArrayFilter filter, Filter<?>[] aFilter)
+        {
+        if (!PLAN_CACHE_ENABLED)
+            {
+            return null;
+            }
+
+        Plan plan = f_mapPlans.get(filter);
+        if (plan == null || plan.isExpired() || plan.f_aiOrder.length != aFilter.length)
+            {
+            return null;
+            }
+        return plan.bind(aFilter);
+        }
+
+    /**
+     * Cache the specified plan for the specified filter.
+     *
+     * @param filter  the filter
+     * @param plan    the plan
+     */
+    void cachePlan(ArrayFilter filter, Plan plan)
+        {
+        if (!PLAN_CACHE_ENABLED)
+            {
+            return;
+            }
+
+        Map<ArrayFilter, Plan> mapPlans = f_mapPlans;
+        if (mapPlans.size() >= MAX_PLANS)
+            {
+            mapPlans.values().removeIf(Plan::isExpired);
+            if (mapPlans.size() >= MAX_PLANS)
+                {
+                mapPlans.clear();
+                }
+            }
+        mapPlans.put(filter, plan);
+        }
+
+    // ----- forward index cost model ---------------------------------------
+
+    /**
+     * Return the cardinality factor used to decide whether a range filter
+     * should probe the forward index instead of retaining the keys found in
+     * the inverse index.
+     * <p>
+     * The inverse strategy costs roughly {@code I * (cEntries + cKeys)}, where
+     * {@code cEntries} is the number of keys in the matching inverse index
+     * sets, while the forward strategy costs roughly {@code F * cKeys}. The
+     * forward index is therefore cheaper once {@code cEntries} exceeds
+     * {@code cKeys * (F / I - 1)}, where {@code I} and {@code F} are the
+     * observed per-key costs of the two strategies.
+     *
+     * @param cKeys  the number of candidate keys
+     *
+     * @return the cardinality factor
+     */
+    int getForwardIndexFactor(int cKeys)
+        {
+        int nFactor = ExtractorFilter.FORWARD_INDEX_EVAL_CARDINALITY_FACTOR;
+
+        // the choice hardly matters for small key sets, and their timings
+        // are too noisy to learn from
+        if (!ADAPTIVE_ENABLED || cKeys < MIN_ADAPTIVE_KEYS
+            || m_cInverseSamples < MIN_SAMPLES || m_cForwardSamples < MIN_SAMPLES)
+            {
+            return nFactor;
+            }
+
+        double dflInverse = m_dflInverseCost;
+        double dflRatio   = dflInverse <= 0.0 ? MAX_FACTOR : m_dflForwardCost / dflInverse - 1.0;
+
+        return (int) Math.max(1L, Math.min(MAX_FACTOR, Math.round(dflRatio)));
+        }
+
+    /**
+     * Record the cost of applying a range filter by retaining the keys found
+     * in the inverse index.
+     *
+     * @param cUnits  the number of candidate keys plus the number of keys in
+     *                the inverse index sets that were processed
+     * @param cNanos  the elapsed time in nanoseconds
+     */
+    void recordInverseCost(long cUnits, long cNanos)
+        {
+        if (cUnits >= MIN_ADAPTIVE_KEYS && cNanos > 0)
+            {
+            int cSamples = m_cInverseSamples;
+            m_dflInverseCost = average(m_dflInverseCost, (double) cNanos / cUnits, cSamples);
+            if (cSamples < MIN_SAMPLES)
+                {
+                m_cInverseSamples = cSamples + 1;
+                }
+            }
+        }
+
+    /**
+     * Record the cost of applying a range filter by probing the forward
+     * index for each candidate key.
+     *
+     * @param cKeys   the number of candidate keys
+     * @param cNanos  the elapsed time in nanoseconds
+     */
+    void recordForwardCost(long cKeys, long cNanos)
+        {
+        if (cKeys >= MIN_ADAPTIVE_KEYS && cNanos > 0)
+            {
+            int cSamples = m_cForwardSamples;
+            m_dflForwardCost = average(m_dflForwardCost, (double) cNanos / cKeys, cSamples);
+            if (cSamples < MIN_SAMPLES)
+                {
+                m_cForwardSamples = cSamples + 1;
+                }
+            }
+        }
+
+    /**
+     * Reset the observed costs of the index strategies.
+     */
+    void resetCosts()
+        {
+        m_dflInverseCost  = 0.0;
+        m_dflForwardCost  = 0.0;
+        m_cInverseSamples = 0;
+        m_cForwardSamples = 0;
+        }
+
+    // ----- plan description -----------------------------------------------
+
+    /**
+     * Describe the plan used to apply the specified (ordered) nested filters
+     * of a conjunction or disjunction.
+     * <p>
+     * For a conjunction the number of candidate keys passed to each filter is
+     * estimated assuming independent filters, which determines whether a
+     * range filter is expected to use the forward index.
+     *
+     * @param aFilter       the ordered nested filters
+     * @param mapIndexes    the available indexes
+     * @param setKeys       the candidate keys
+     * @param fConjunction  {@code true} if all the filters are applied to
+     *                      the result of the previous one
+     *
+     * @return the plan description
+     */
+    static String describe(Filter<?>[] aFilter, Map mapIndexes, Set setKeys, boolean fConjunction)
+        {
+        StringBuilder sb    = new StringBuilder("plan:");
+        int           cAll  = setKeys.size();
+        double        dflIn = cAll;
+
+        for (int i = 0; i < aFilter.length; i++)
+            {
+            Filter<?> filter = aFilter[i];
+            Access    access = Access.SCAN;
+            int       nCost  = -1;
+
+            if (filter instanceof ArrayFilter && !(filter instanceof BetweenFilter))
+                {
+                access = Access.NESTED;
+                }
+            else if (filter instanceof IndexAwareFilter)
+                {
+                nCost  = ((IndexAwareFilter) filter).calculateEffectiveness(mapIndexes, setKeys);
+                access = nCost < 0 ? Access.SCAN : Access.INDEX;
+
+                if (access == Access.INDEX && isRangeFilter(filter))
+                    {
+                    MapIndex index = (MapIndex) mapIndexes.get(((ExtractorFilter) unwrapRange(filter)).getValueExtractor());
+                    int      cIn   = (int) dflIn;
+                    if (index != null && index.isOrdered() && !index.isPartial()
+                        && ExtractorFilter.isForwardIndexSupported(index, setKeys)
+                        && nCost > (long) cIn * of(index).getForwardIndexFactor(cIn))
+                        {
+                        access = Access.FORWARD;
+                        }
+                    }
+                }
+
+            sb.append(i == 0 ? " " : fConjunction ? " -> " : " | ").append(access);
+
+            if (fConjunction && nCost >= 0 && cAll > 0)
+                {
+                dflIn = dflIn * Math.min(1.0, (double) nCost / cAll);
+                }
+            }
+
+        return sb.toString();
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Return the planner for the specified scope, creating it if necessary.
+     *
+     * @param oScope  the cache context or index map the planner is for
+     *
+     * @return the planner, or a new planner that is not retained if the
+     *         scope is null
+     */
+    private static QueryPlanner ensurePlanner(Object oScope)
+        {
+        if (oScope == null)
+            {
+            return new QueryPlanner();
+            }
+
+        return s_mapPlanners.computeIfAbsent(oScope, o -> new QueryPlanner());
+        }
+
+    /**
+     * Return the context of the cache that the specified index belongs to.
+     *
+     * @param oIndex  the index
+     *
+     * @return the cache context, or null if unknown
+     */
+    private static BackingMapContext getBackingMapContext(Object oIndex)
+        {
+        return oIndex instanceof SimpleMapIndex ? ((SimpleMapIndex) oIndex).getBackingMapContext() : null;
+        }
+
+    /**
+     * Return {@code true} if the specified filter chooses between the
+     * inverse and the forward index at runtime.
+     *
+     * @param filter  the filter
+     *
+     * @return {@code true} if the filter is a range filter
+     */
+    private static boolean isRangeFilter(Filter<?> filter)
+        {
+        return filter instanceof GreaterFilter || filter instanceof LessFilter || filter instanceof BetweenFilter;
+        }
+
+    /**
+     * Return the extractor-based filter that determines the index used by the
+     * specified range filter.
+     *
+     * @param filter  the range filter
+     *
+     * @return the filter holding the value extractor
+     */
+    private static Filter<?> unwrapRange(Filter<?> filter)
+        {
+        return filter instanceof BetweenFilter ? ((BetweenFilter) filter).getLowerFilter() : filter;
+        }
+
+    /**
+     * Return the updated exponentially weighted moving average.
+     *
+     * @param dflAverage  the current average
+     * @param dflSample   the new sample
+     * @param cSamples    the number of samples recorded so far
+     *
+     * @return the new average
+     */
+    private static double average(double dflAverage, double dflSample, int cSamples)
+        {
+        // use a plain mean for the first samples to avoid a bias towards zero
+        double dflWeight = cSamples < MIN_SAMPLES ? 1.0 / (cSamples + 1) : COST_WEIGHT;
+        return dflAverage + dflWeight * (dflSample - dflAverage);
+        }
+
+    // ----- inner class: Plan ----------------------------------------------
+
+    /**
+     * An order in which the nested filters of an {@link ArrayFilter} are
+     * applied.
+     */
+    static final class Plan
+        {
+        /**
+         * Construct a Plan.
+         *
+         * @param planner    the planner that created the plan
+         * @param aFilter    the ordered filters
+         * @param aiOrder    the position of each ordered filter within the
+         *                   rewritten filter array
+         * @param ldtExpiry  the time at which the plan expires
+         */
+        Plan(QueryPlanner planner, Filter<?>[] aFilter, int[] aiOrder, long ldtExpiry)
+            {
+            f_planner   = planner;
+            f_aFilter   = aFilter;
+            f_aiOrder   = aiOrder;
+            f_ldtExpiry = ldtExpiry;
+            }
+
+        /**
+         * Create a Plan for the specified filters ordered by the planner.
+         *
+         * @param planner         the planner that ordered the filters
+         * @param aFilterPlan     the rewritten filters
+         * @param aFilterOrdered  the same filters in the planned order
+         *
+         * @return the new plan
+         */
+        static Plan of(QueryPlanner planner, Filter<?>[] aFilterPlan, Filter<?>[] aFilterOrdered)
+            {
+            int   cFilters = aFilterOrdered.length;
+            int[] aiOrder  = new int[cFilters];
+
+            for (int i = 0; i < cFilters; i++)
+                {
+                for (int j = 0; j < cFilters; j++)
+                    {
+                    if (aFilterPlan[j] == aFilterOrdered[i])
+                        {
+                        aiOrder[i] = j;
+                        break;
+                        }
+                    }
+                }
+            return new Plan(planner, aFilterOrdered, aiOrder, Base.getSafeTimeMillis() + PLAN_EXPIRY_MILLIS);
+            }
+
+        /**
+         * Return the same plan applied to the specified rewritten filters of
+         * an equal filter.
+         *
+         * @param aFilterPlan  the rewritten filters
+         *
+         * @return the bound plan
+         */
+        Plan bind(Filter<?>[] aFilterPlan)
+            {
+            int[]       aiOrder = f_aiOrder;
+            Filter<?>[] aFilter = new Filter[aiOrder.length];
+
+            for (int i = 0; i < aiOrder.length; i++)
+                {
+                aFilter[i] = aFilterPlan[aiOrder[i]];
+                }
+            return new Plan(f_planner, aFilter, aiOrder, f_ldtExpiry);
+            }
+
+        /**
+         * Return the planner that created the plan.
+         *
+         * @return the planner
+         */
+        QueryPlanner getPlanner()
+            {
+            return f_planner;
+            }
+
+        /**
+         * Return the filters in the planned order.
+         *
+         * @return the ordered filters
+         */
+        Filter<?>[] getFilters()
+            {
+            return f_aFilter;
+            }
+
+        /**
+         * Return {@code true} if the plan has expired.
+         *
+         * @return {@code true} if the plan should be recomputed
+         */
+        boolean isExpired()
+            {
+            return Base.getSafeTimeMillis() > f_ldtExpiry;
+            }
+
+        /**
+         * The planner that created the plan.
+         */
+        private final QueryPlanner f_planner;
+
+        /**
+         * The ordered filters.
+         */
+        private final Filter<?>[] f_aFilter;
+
+        /**
+         * The position of each ordered filter within the rewritten filters.
+         */
+        private final int[] f_aiOrder;
+
+        /**
+         * The time at which the plan expires.
+         */
+        private final long f_ldtExpiry;
+        }
+
+    // ----- inner enum: Access ---------------------------------------------
+
+    /**
+     * The method used to apply a nested filter.
+     */
+    enum Access
+        {
+        /**
+         * The filter is applied using the inverse index.
+         */
+        INDEX,
+
+        /**
+         * The filter is applied by probing the forward index for each
+         * candidate key.
+         */
+        FORWARD,
+
+        /**
+         * The filter is a nested composite filter with its own plan.
+         */
+        NESTED,
+
+        /**
+         * No index applies; the filter is evaluated against each remaining
+         * entry.
+         */
+        SCAN
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The name of the system property that enables the plan cache.
+     */
+    static final String PROP_PLAN_CACHE = "coherence.query.plan.cache";
+
+    /**
+     * The name of the system property that specifies the number of
+     * milliseconds a cached plan remains valid.
+     */
+    static final String PROP_PLAN_EXPIRY = "coherence.query.plan.expiry";
+
+    /**
+     * The name of the system property that enables the adaptive choice
+     * between inverse and forward index evaluation.
+     */
+    static final String PROP_ADAPTIVE = "coherence.query.plan.adaptive";
+
+    /**
+     * Whether plans are cached.
+     */
+    static final boolean PLAN_CACHE_ENABLED = Config.getBoolean(PROP_PLAN_CACHE, true);
+
+    /**
+     * The number of milliseconds a cached plan remains valid.
+     */
+    static final long PLAN_EXPIRY_MILLIS = Config.getLong(PROP_PLAN_EXPIRY, 1000L);
+
+    /**
+     * Whether the forward index threshold is derived from observed costs.
+     */
+    static final boolean ADAPTIVE_ENABLED = Config.getBoolean(PROP_ADAPTIVE, true);
+
+    /**
+     * The maximum number of cached plans.
+     */
+    static final int MAX_PLANS = 256;
+
+    /**
+     * The minimum number of keys for which strategy costs are recorded and
+     * the adaptive threshold is used.
+     */
+    static final int MIN_ADAPTIVE_KEYS = 64;
+
+    /**
+     * The number of samples of each strategy required before the adaptive
+     * threshold is used.
+     */
+    static final int MIN_SAMPLES = 16;
+
+    /**
+     * The maximum cardinality factor.
+     */
+    static final int MAX_FACTOR = 64;
+
+    /**
+     * The weight of a new sample in the moving average of the strategy costs.
+     */
+    private static final double COST_WEIGHT = 0.05;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The planners, keyed by the cache context or index map they are for.
+     */
+    private static final Map<Object, QueryPlanner> s_mapPlanners =
+            Collections.synchronizedMap(new WeakIdentityHashMap<>());
+
+    /**
+     * The cached plans, keyed by filter.
+     */
+    private final Map<ArrayFilter, Plan> f_mapPlans = new ConcurrentHashMap<>();
+
+    /**
+     * The average cost, in nanoseconds per unit, of the inverse index strategy.
+     * <p>
+     * The averages are updated without synchronization; a lost update only
+     * affects the accuracy of the estimate.
+     */
+    private volatile double m_dflInverseCost;
+
+    /**
+     * The average cost, in nanoseconds per key, of the forward index strategy.
+     */
+    private volatile double m_dflForwardCost;
+
+    /**
+     * The number of recorded inverse index strategy samples, up to
+     * {@link #MIN_SAMPLES}.
+     */
+    private volatile int m_cInverseSamples;
+
+    /**
+     * The number of recorded forward index strategy samples, up to
+     * {@link #MIN_SAMPLES}.
+     */
+    private volatile int m_cForwardSamples;
+    }
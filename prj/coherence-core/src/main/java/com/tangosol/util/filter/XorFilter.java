@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -85,6 +85,16 @@ public class XorFilter
         return this;
         }
 
+    /**
+    * {@inheritDoc}
+    */
+    @Override
+    protected String describePlan(Map mapIndexes, Set setKeys)
+        {
+        // no use for indexes
+        return null;
+        }
+
     /**
     * {@inheritDoc}
     */
@@ -0,0 +1,501 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.util.transformer;
+
+
+import com.tangosol.io.BinaryDeltaCompressor;
+import com.tangosol.io.DeltaCompressor;
+import com.tangosol.io.ExternalizableLite;
+import com.tangosol.io.ReadBuffer;
+import com.tangosol.io.Serializer;
+
+import com.tangosol.io.pof.PofContext;
+import com.tangosol.io.pof.PofDeltaCompressor;
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+
+import com.tangosol.net.BackingMapManagerContext;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.ClassHelper;
+import com.tangosol.util.ConverterCollections;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMapHelper;
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.MapEventTransformer;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+
+/**
+* DeltaEventTransformer is a special purpose MapEventTransformer
+* implementation that replaces the NewValue of an update event with a
+* {@link Delta binary delta} against the OldValue, and removes the OldValue
+* from the event, for the purpose of reducing the amount of data that has to
+* be sent over the network to event consumers that already hold the previous
+* value, such as a {@link com.tangosol.net.cache.ContinuousQueryCache}.
+* <p>
+* The delta is computed by the storage member using the
+* {@link PofDeltaCompressor} if the cache service uses POF, or the
+* {@link BinaryDeltaCompressor} otherwise. Insert and delete events, as well
+* as events raised by caches that do not hold their values in a serialized
+* form, are transformed as by the {@link SemiLiteEventTransformer}.
+* <p>
+* If a filter is specified, only the updates of entries whose OldValue
+* satisfied the filter (i.e. entries the consumer is known to hold) are
+* delta-encoded; the NewValue of other updates is sent in its entirety as a
+* "replace" delta. Each delta carries a checksum of the value it applies to,
+* which allows the consumer to detect that it does not hold that value and
+* to fall back to retrieving the full value.
+* <p>
+* Usage example:
+* <pre>
+*    cache.addMapListener(listener, new MapEventTransformerFilter(filter,
+*        new DeltaEventTransformer(filter)), false);
+* </pre>
+*
+* @author coh  2026.10.16
+* @since 15.0.0
+*/
+public class DeltaEventTransformer<K, V>
+        extends ExternalizableHelper
+        implements MapEventTransformer<K, V, V>, ExternalizableLite, PortableObject
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+    * Deserialization constructor.
+    */
+    public DeltaEventTransformer()
+        {
+        }
+
+    /**
+    * Construct a DeltaEventTransformer that delta-encodes the updates of the
+    * entries whose OldValue satisfies the specified filter.
+    *
+    * @param filter  the filter that the OldValue must satisfy in order for an
+    *                update to be delta-encoded; null to delta-encode all
+    *                updates
+    */
+    public DeltaEventTransformer(Filter<V> filter)
+        {
+        m_filter = filter;
+        }
+
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+    * Return the filter that the OldValue must satisfy in order for an update
+    * to be delta-encoded.
+    *
+    * @return the filter, or null if all updates are delta-encoded
+    */
+    public Filter<V> getFilter()
+        {
+        return m_filter;
+        }
+
+
+    // ----- MapEventTransformer methods ------------------------------------
+
+    /**
+    * Replace the NewValue of an update event with a {@link Delta} and
+    * remove the OldValue from the event.
+    *
+    * @return modified MapEvent object that does not contain the old value
+    */
+    @SuppressWarnings("unchecked")
+    public MapEvent<K, V> transform(MapEvent<K, V> event)
+        {
+        if (event.getId() == MapEvent.ENTRY_UPDATED &&
+            event instanceof ConverterCollections.ConverterMapEvent)
+            {
+            ConverterCollections.ConverterMapEvent evtConv =
+                    (ConverterCollections.ConverterMapEvent) event;
+
+            MapEvent evtBinary = evtConv.getMapEvent();
+            Object   oOld      = evtBinary.getOldValue();
+            Object   oNew      = evtBinary.getNewValue();
+
+            if (oOld instanceof Binary && oNew instanceof Binary)
+                {
+                Binary binOld = getUndecorated((Binary) oOld);
+                Binary binNew = getUndecorated((Binary) oNew);
+                Filter filter = m_filter;
+                Delta  delta;
+
+                if (filter == null || InvocableMapHelper.evaluateEntry(filter, evtConv.getOldEntry()))
+                    {
+                    ReadBuffer bufDelta = ensureCompressor(evtConv.getContext())
+                            .extractDelta(binOld, binNew);
+
+                    delta = bufDelta == null
+                            ? new Delta(binOld, null)
+                            : bufDelta.length() < binNew.length()
+                                    ? new Delta(binOld, bufDelta.toBinary())
+                                    : Delta.replace(binNew);
+                    }
+                else
+                    {
+                    delta = Delta.replace(binNew);
+                    }
+
+                evtConv.setOldValue(null);
+                evtConv.setNewValue(delta);
+                return event;
+                }
+            }
+
+        return SemiLiteEventTransformer.INSTANCE.transform(event);
+        }
+
+
+    // ----- ExternalizableLite methods -------------------------------------
+
+    @Override
+    public void readExternal(DataInput in)
+            throws IOException
+        {
+        m_filter = readObject(in);
+        }
+
+    @Override
+    public void writeExternal(DataOutput out)
+            throws IOException
+        {
+        writeObject(out, m_filter);
+        }
+
+
+    // ----- PortableObject methods -----------------------------------------
+
+    @Override
+    public void readExternal(PofReader in)
+            throws IOException
+        {
+        m_filter = in.readObject(0);
+        }
+
+    @Override
+    public void writeExternal(PofWriter out)
+            throws IOException
+        {
+        out.writeObject(0, m_filter);
+        }
+
+
+    // ----- Object methods -------------------------------------------------
+
+    /**
+    * Compare the DeltaEventTransformer with another object to determine
+    * equality.
+    *
+    * @return true iff this DeltaEventTransformer and the passed object are
+    *         equivalent
+    */
+    public boolean equals(Object o)
+        {
+        return o instanceof DeltaEventTransformer
+            && equals(m_filter, ((DeltaEventTransformer) o).m_filter);
+        }
+
+    /**
+    * Determine a hash value for the DeltaEventTransformer object according
+    * to the general {@link Object#hashCode()} contract.
+    *
+    * @return an integer hash value for this object
+    */
+    public int hashCode()
+        {
+        Filter filter = m_filter;
+        return filter == null ? 83 : filter.hashCode();
+        }
+
+    /**
+    * Provide a human-readable representation of this object.
+    *
+    * @return a String whose contents represent the value of this object
+    */
+    public String toString()
+        {
+        return ClassHelper.getSimpleName(getClass()) + "{filter=" + m_filter + '}';
+        }
+
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+    * Return the DeltaCompressor to use for the values of the cache with the
+    * specified context.
+    *
+    * @param ctx  the BackingMapManagerContext of the cache; may be null
+    *
+    * @return the DeltaCompressor
+    */
+    protected DeltaCompressor ensureCompressor(BackingMapManagerContext ctx)
+        {
+        DeltaCompressor compressor = m_compressor;
+        if (compressor == null)
+            {
+            Serializer serializer = ctx == null ? null : ctx.getCacheService().getSerializer();
+
+            m_compressor = compressor = serializer instanceof PofContext
+                    ? POF_COMPRESSOR : BINARY_COMPRESSOR;
+            }
+        return compressor;
+        }
+
+
+    // ----- inner class: Delta ---------------------------------------------
+
+    /**
+    * The NewValue of an update event transformed by the
+    * DeltaEventTransformer. A Delta holds either the changes to apply to the
+    * previous (undecorated) binary value in order to produce the new value,
+    * along with a checksum of the previous value, or a "replace" delta that
+    * produces the new value regardless of the previous one.
+    */
+    public static class Delta
+            extends ExternalizableHelper
+            implements ExternalizableLite, PortableObject
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+        * Deserialization constructor.
+        */
+        public Delta()
+            {
+            }
+
+        /**
+        * Construct a Delta that transforms the specified old value.
+        *
+        * @param binOld    the (undecorated) value the delta applies to
+        * @param binDelta  the delta, or null if the value has not changed
+        */
+        protected Delta(Binary binOld, Binary binDelta)
+            {
+            m_fReplace = false;
+            m_nHashOld = checksum(binOld);
+            m_binDelta = binDelta;
+            }
+
+        /**
+        * Construct a "replace" Delta for the specified new value.
+        *
+        * @param binNew  the (undecorated) new value
+        *
+        * @return a Delta that produces the new value
+        */
+        protected static Delta replace(Binary binNew)
+            {
+            Delta delta = new Delta();
+            delta.m_fReplace = true;
+            delta.m_binDelta = BINARY_COMPRESSOR.extractDelta(null, binNew).toBinary();
+            return delta;
+            }
+
+        // ----- Delta methods ----------------------------------------------
+
+        /**
+        * Determine whether this Delta produces the new value regardless of the
+        * previous one.
+        *
+        * @return true iff this is a "replace" delta
+        */
+        public boolean isReplace()
+            {
+            return m_fReplace;
+            }
+
+        /**
+        * Determine whether this Delta can be applied to the specified
+        * (undecorated) previous value.
+        *
+        * @param binOld  the previous value held by the consumer; may be null
+        *
+        * @return true iff the delta can be applied to the specified value
+        */
+        public boolean isApplicable(Binary binOld)
+            {
+            return m_fReplace || binOld != null && checksum(binOld) == m_nHashOld;
+            }
+
+        /**
+        * Apply this Delta to the specified (undecorated) previous value.
+        *
+        * @param binOld  the previous value
+        *
+        * @return the new value
+        *
+        * @throws IllegalStateException  if the delta is not applicable to the
+        *                                specified value
+        */
+        public Binary apply(Binary binOld)
+            {
+            if (!isApplicable(binOld))
+                {
+                throw new IllegalStateException("delta is not applicable to the value");
+                }
+
+            Binary binDelta = m_binDelta;
+            return binDelta == null
+                    ? binOld
+                    : BINARY_COMPRESSOR.applyDelta(m_fReplace ? null : binOld, binDelta).toBinary();
+            }
+
+        /**
+        * Return the size of this Delta in bytes.
+        *
+        * @return the size of the encoded changes
+        */
+        public int length()
+            {
+            Binary binDelta = m_binDelta;
+            return binDelta == null ? 0 : binDelta.length();
+            }
+
+        /**
+        * Compute the checksum of the specified value.
+        *
+        * @param bin  the value
+        *
+        * @return the checksum
+        */
+        protected static int checksum(Binary bin)
+            {
+            return bin.hashCode() ^ bin.length();
+            }
+
+        // ----- ExternalizableLite methods ---------------------------------
+
+        @Override
+        public void readExternal(DataInput in)
+                throws IOException
+            {
+            m_fReplace = in.readBoolean();
+            m_nHashOld = readInt(in);
+            if (in.readBoolean())
+                {
+                Binary binDelta = new Binary();
+                binDelta.readExternal(in);
+                m_binDelta = binDelta;
+                }
+            else
+                {
+                m_binDelta = null;
+                }
+            }
+
+        @Override
+        public void writeExternal(DataOutput out)
+                throws IOException
+            {
+            Binary binDelta = m_binDelta;
+
+            out.writeBoolean(m_fReplace);
+            writeInt(out, m_nHashOld);
+            out.writeBoolean(binDelta != null);
+            if (binDelta != null)
+                {
+                binDelta.writeExternal(out);
+                }
+            }
+
+        // ----- PortableObject methods -------------------------------------
+
+        @Override
+        public void readExternal(PofReader in)
+                throws IOException
+            {
+            m_fReplace = in.readBoolean(0);
+            m_nHashOld = in.readInt(1);
+            m_binDelta = in.readBinary(2);
+            }
+
+        @Override
+        public void writeExternal(PofWriter out)
+                throws IOException
+            {
+            out.writeBoolean(0, m_fReplace);
+            out.writeInt(1, m_nHashOld);
+            out.writeBinary(2, m_binDelta);
+            }
+
+        // ----- Object methods ---------------------------------------------
+
+        /**
+        * Provide a human-readable representation of this object.
+        *
+        * @return a String whose contents represent the value of this object
+        */
+        public String toString()
+            {
+            return ClassHelper.getSimpleName(getClass())
+                   + "{replace=" + m_fReplace + ", length=" + length() + '}';
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+        * True iff the delta produces the new value regardless of the
+        * previous one.
+        */
+        @JsonbProperty("replace")
+        protected boolean m_fReplace;
+
+        /**
+        * The checksum of the value the delta applies to.
+        */
+        @JsonbProperty("hashOld")
+        protected int m_nHashOld;
+
+        /**
+        * The encoded changes, or null if the value has not changed.
+        */
+        @JsonbProperty("delta")
+        protected Binary m_binDelta;
+        }
+
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+    * The DeltaCompressor used for non-POF values, and to apply all deltas.
+    */
+    protected static final BinaryDeltaCompressor BINARY_COMPRESSOR = new BinaryDeltaCompressor();
+
+    /**
+    * The DeltaCompressor used for POF values.
+    */
+    protected static final DeltaCompressor POF_COMPRESSOR = new PofDeltaCompressor();
+
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+    * The filter that the OldValue must satisfy in order for an update to be
+    * delta-encoded.
+    */
+    @JsonbProperty("filter")
+    protected Filter<V> m_filter;
+
+    /**
+    * The DeltaCompressor used to compute the deltas.
+    */
+    protected transient DeltaCompressor m_compressor;
+    }
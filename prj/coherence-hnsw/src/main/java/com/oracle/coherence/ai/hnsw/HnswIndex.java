@@ -17,6 +17,10 @@ import com.oracle.coherence.hnswlib.Index;
 import com.oracle.coherence.hnswlib.QueryTuple;
 import com.oracle.coherence.hnswlib.SpaceName;
 
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.coherence.config.Config;
+
 import com.tangosol.io.AbstractEvolvable;
 import com.tangosol.io.ExternalizableLite;
 import com.tangosol.io.pof.EvolvablePortableObject;
@@ -24,12 +28,13 @@ import com.tangosol.io.pof.PofReader;
 import com.tangosol.io.pof.PofWriter;
 
 import com.tangosol.net.BackingMapContext;
+import com.tangosol.net.GuardSupport;
 
+import com.tangosol.util.Base;
 import com.tangosol.util.Binary;
 import com.tangosol.util.BinaryEntry;
 import com.tangosol.util.ExternalizableHelper;
 import com.tangosol.util.Filter;
-import com.tangosol.util.InvocableMap;
 import com.tangosol.util.InvocableMapHelper;
 import com.tangosol.util.MapIndex;
 import com.tangosol.util.ValueExtractor;
@@ -46,14 +51,31 @@ import java.io.Closeable;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import java.util.stream.IntStream;
+
 /**
  * An HNSW index implementation.
  * <p/>
@@ -71,6 +93,12 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * change the initial size by calling {@link #setMaxElements(int)} before registering
  * index with a cache.
  * <p/>
+ * When an index is added, or rebuilt after a restart or partition transfer, the
+ * vectors are added to the graph in parallel batches, and the graph of each
+ * partition can be periodically saved to disk by specifying the
+ * {@link #PROP_SNAPSHOT_DIR snapshot directory}, so that it does not have to be
+ * rebuilt from scratch on restart.
+ * <p/>
  * To create an index, you need to provide a {@code ValueExtractor} that can be used
  * to extract a {@code Vector<float[]>} property from an entry, as well as the
  * expected vector dimension. You can optionally specify algorithm parameters such
@@ -318,7 +346,7 @@ public class HnswIndex<K, V>
     public MapIndex<K, V, Vector<float[]>> destroyIndex(Map<ValueExtractor<V, Vector<float[]>>, MapIndex> map)
         {
         HnswMapIndex index = (HnswMapIndex) map.remove(m_extractor);
-        index.clear();
+        index.destroy();
         return index;
         }
 
@@ -435,6 +463,18 @@ public class HnswIndex<K, V>
 
     /**
      * The HNSW {@link MapIndex} and {@link VectorIndex} implementation.
+     * <p/>
+     * Until the index is first queried, inserted vectors are buffered and
+     * added to the native graph in parallel batches, which significantly
+     * reduces the time it takes to build the index when it is first added,
+     * or when it is rebuilt after a restart or partition transfer.
+     * <p/>
+     * If {@link #PROP_SNAPSHOT_DIR snapshots} are enabled, the graph of each
+     * partition is periodically saved, together with a memory-mapped file
+     * that maps graph labels to cache keys. The snapshot is loaded on demand
+     * when the index for the same partition is rebuilt, and every re-inserted
+     * entry whose vector matches the snapshot is reused instead of being
+     * added to the graph again.
      */
     @SuppressWarnings("rawtypes")
     public class HnswMapIndex
@@ -452,11 +492,16 @@ public class HnswIndex<K, V>
             f_backingMapContext = backingMapContext;
             f_mapLabelsToKeys   = new Int2ObjectOpenHashMap<>(m_cMaxElements);
             f_mapKeysToLabels   = new Object2IntOpenHashMap<>(m_cMaxElements);
+            f_mapPending        = new Int2ObjectOpenHashMap<>();
 
             Index index = new Index(SpaceName.valueOf(m_sSpaceName.toUpperCase()), m_nDimension);
             index.initialize(m_cMaxElements, m_nM, m_nEfConstr, m_nRandomSeed, true);
             index.setEf(m_nEfSearch);
             f_index = index;
+
+            f_sSnapshotDir = Config.getProperty(PROP_SNAPSHOT_DIR);
+            m_fBulk        = BUILD_BATCH_SIZE > 1;
+            m_ldtSnapshot  = Base.getSafeTimeMillis();
             }
 
         // ----- accessors --------------------------------------------------
@@ -471,6 +516,25 @@ public class HnswIndex<K, V>
             return m_nDimension;
             }
 
+        /**
+         * Return the number of vectors in the index, including the vectors
+         * that have not been added to the graph yet.
+         *
+         * @return the number of vectors in the index
+         */
+        public int size()
+            {
+            f_lock.readLock().lock();
+            try
+                {
+                return f_mapKeysToLabels.size();
+                }
+            finally
+                {
+                f_lock.readLock().unlock();
+                }
+            }
+
         // ----- MapIndex interface -----------------------------------------
 
         @Override
@@ -512,7 +576,7 @@ public class HnswIndex<K, V>
         @Override
         public long getUnits()
             {
-            return f_index.getIndexSize();
+            return f_index.getIndexSize() + (long) f_mapPending.size() * m_nDimension * Float.BYTES;
             }
 
         @Override
@@ -522,14 +586,27 @@ public class HnswIndex<K, V>
             if (v != null)
                 {
                 Binary binKey = ((BinaryEntry) entry).getBinaryKey();
-                int    nId    = f_idGenerator.incrementAndGet();
 
                 f_lock.writeLock().lock();
                 try
                     {
+                    ensureSnapshotLoaded(binKey);
+
+                    Object2IntMap<Binary> mapSnapshot = m_mapSnapshot;
+                    int                   nId         = mapSnapshot == null ? 0 : mapSnapshot.removeInt(binKey);
+                    boolean               fRecovered  = nId > 0 && isIndexed(nId, v.get());
+
+                    if (nId <= 0)
+                        {
+                        nId = f_idGenerator.incrementAndGet();
+                        }
+
                     f_mapLabelsToKeys.put(nId, binKey);
                     f_mapKeysToLabels.put(binKey, nId);
-                    f_index.addItem(v.get(), nId, true);
+                    if (!fRecovered)
+                        {
+                        addItem(nId, v.get());
+                        }
                     }
                 finally
                     {
@@ -543,65 +620,55 @@ public class HnswIndex<K, V>
             {
             Vector<float[]> v      = InvocableMapHelper.extractFromEntry(m_extractor, entry);
             Binary          binKey = ((BinaryEntry) entry).getBinaryKey();
-            int             nId    = f_mapKeysToLabels.getInt(binKey);
 
-            if (v != null)
+            f_lock.writeLock().lock();
+            try
                 {
-                if (nId > 0 && f_index.hasId(nId))
+                int nId = f_mapKeysToLabels.getInt(binKey);
+                if (v == null)
                     {
-                    f_lock.writeLock().lock();
-                    try
+                    if (nId > 0)
                         {
-                        f_index.addItem(v.get(), nId, true);
-                        }
-                    finally
-                        {
-                        f_lock.writeLock().unlock();
+                        removeLabel(nId, binKey);
                         }
                     }
-                else
+                else if (nId > 0 && (f_mapPending.containsKey(nId) || f_index.hasId(nId)))
                     {
-                    insert(entry);
+                    addItem(nId, v.get());
                     }
-                }
-            else
-                {
-                if (nId > 0)
+                else
                     {
-                    f_lock.writeLock().lock();
-                    try
+                    if (nId > 0)
                         {
                         f_mapLabelsToKeys.remove(nId);
-                        f_mapKeysToLabels.removeInt(binKey);
-                        }
-                    finally
-                        {
-                        f_lock.writeLock().unlock();
                         }
+                    insert(entry);
                     }
                 }
+            finally
+                {
+                f_lock.writeLock().unlock();
+                }
             }
 
         @Override
         public void delete(Map.Entry<? extends K, ? extends V> entry)
             {
             Binary binKey = ((BinaryEntry) entry).getBinaryKey();
-            int    nId    = f_mapKeysToLabels.getInt(binKey);
 
-            if (nId > 0 && f_index.hasId(nId))
+            f_lock.writeLock().lock();
+            try
                 {
-                f_lock.writeLock().lock();
-                try
-                    {
-                    f_index.markDeleted(nId);
-                    f_mapLabelsToKeys.remove(nId);
-                    f_mapKeysToLabels.removeInt(binKey);
-                    }
-                finally
+                int nId = f_mapKeysToLabels.getInt(binKey);
+                if (nId > 0)
                     {
-                    f_lock.writeLock().unlock();
+                    removeLabel(nId, binKey);
                     }
                 }
+            finally
+                {
+                f_lock.writeLock().unlock();
+                }
             }
 
         // ----- VectorIndex interface --------------------------------------
@@ -610,6 +677,11 @@ public class HnswIndex<K, V>
         @SuppressWarnings("unchecked")
         public BinaryQueryResult[] query(Vector<float[]> vector, int k, Filter<?> filter)
             {
+            if (m_fBulk)
+                {
+                completeBuild();
+                }
+
             f_lock.readLock().lock();
             try
                 {
@@ -622,9 +694,9 @@ public class HnswIndex<K, V>
                     {
                     QueryFilter queryFilter = id ->
                         {
-                        Binary             binKey = f_mapLabelsToKeys.get(id);
-                        InvocableMap.Entry entry  = f_backingMapContext.getReadOnlyEntry(binKey);
-                        return InvocableMapHelper.evaluateEntry(filter, entry);
+                        Binary binKey = f_mapLabelsToKeys.get(id);
+                        return binKey != null && InvocableMapHelper.evaluateEntry(filter,
+                                f_backingMapContext.getReadOnlyEntry(binKey));
                         };
                     tuple = f_index.knnQuery(vector.get(), k, queryFilter);
                     }
@@ -638,14 +710,18 @@ public class HnswIndex<K, V>
                 float[]             aCoefficients = tuple.getCoefficients();
                 int                 nResult       = tuple.count();
                 BinaryQueryResult[] aResults      = new BinaryQueryResult[nResult];
+                int                 cResults      = 0;
                 for (int i = 0; i < nResult; i++)
                     {
-                    Binary binKey    = f_mapLabelsToKeys.get(aIds[i]);
-                    Binary binValue  = f_backingMapContext.getReadOnlyEntry(binKey).asBinaryEntry().getBinaryValue();
-                    float  nDistance = Math.abs(aCoefficients[i]);
-                    aResults[i]      = new BinaryQueryResult(nDistance, binKey, binValue);
+                    Binary binKey = f_mapLabelsToKeys.get(aIds[i]);
+                    if (binKey != null)
+                        {
+                        Binary binValue      = f_backingMapContext.getReadOnlyEntry(binKey).asBinaryEntry().getBinaryValue();
+                        float  nDistance     = Math.abs(aCoefficients[i]);
+                        aResults[cResults++] = new BinaryQueryResult(nDistance, binKey, binValue);
+                        }
                     }
-                return aResults;
+                return cResults == nResult ? aResults : Arrays.copyOf(aResults, cResults);
                 }
             finally
                 {
@@ -661,8 +737,440 @@ public class HnswIndex<K, V>
             clear();
             }
 
+        // ----- snapshots --------------------------------------------------
+
+        /**
+         * Save a snapshot of this index, if snapshots are enabled.
+         * <p/>
+         * The graph is saved by the native library into a new file, after
+         * which the label to key mappings are written into a memory-mapped
+         * file that references the graph file, and atomically moved into
+         * place. A snapshot is therefore either complete or ignored.
+         *
+         * @return {@code true} if the snapshot was saved
+         *
+         * @throws IOException  if an error occurs writing the snapshot
+         */
+        public synchronized boolean snapshot()
+                throws IOException
+            {
+            if (f_sSnapshotDir == null || m_nPartition < 0)
+                {
+                return false;
+                }
+
+            // flush and reconcile, then downgrade to a read lock, so that
+            // queries can proceed while the snapshot is written
+            f_lock.writeLock().lock();
+            try
+                {
+                if (m_fCleared)
+                    {
+                    return false;
+                    }
+                m_fBulk = false;
+                flush();
+                reconcileSnapshot();
+                m_fDirty = false;
+                f_lock.readLock().lock();
+                }
+            finally
+                {
+                f_lock.writeLock().unlock();
+                }
+
+            try
+                {
+                Path dir       = getSnapshotDirectory();
+                long lGen      = m_lSnapshotGen + 1;
+                Path pathGraph = dir.resolve(getSnapshotName() + '-' + lGen + SNAPSHOT_GRAPH_SUFFIX);
+                Path pathTemp  = dir.resolve(getSnapshotName() + SNAPSHOT_KEYS_SUFFIX + ".tmp");
+
+                Files.createDirectories(dir);
+                f_index.save(pathGraph);
+
+                Int2ObjectMap<Binary> mapKeys = f_mapLabelsToKeys;
+                long                  cb      = SNAPSHOT_HEADER_SIZE;
+                for (Binary binKey : mapKeys.values())
+                    {
+                    cb += 8 + binKey.length();
+                    }
+
+                try (FileChannel channel = FileChannel.open(pathTemp, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE))
+                    {
+                    MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_WRITE, 0, cb);
+
+                    buf.putInt(SNAPSHOT_MAGIC)
+                       .putInt(SNAPSHOT_VERSION)
+                       .putInt(m_nDimension)
+                       .putInt(m_sSpaceName.toUpperCase().hashCode())
+                       .putLong(lGen)
+                       .putInt(f_idGenerator.get())
+                       .putInt(mapKeys.size());
+
+                    for (Int2ObjectMap.Entry<Binary> entry : mapKeys.int2ObjectEntrySet())
+                        {
+                        Binary binKey = entry.getValue();
+                        buf.putInt(entry.getIntKey())
+                           .putInt(binKey.length())
+                           .put(binKey.toByteBuffer());
+                        }
+                    buf.force();
+                    }
+
+                Files.move(pathTemp, dir.resolve(getSnapshotName() + SNAPSHOT_KEYS_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+
+                if (m_lSnapshotGen > 0)
+                    {
+                    Files.deleteIfExists(dir.resolve(getSnapshotName() + '-' + m_lSnapshotGen + SNAPSHOT_GRAPH_SUFFIX));
+                    }
+                m_lSnapshotGen = lGen;
+                m_ldtSnapshot  = Base.getSafeTimeMillis();
+                return true;
+                }
+            finally
+                {
+                f_lock.readLock().unlock();
+                }
+            }
+
         // ----- helpers ----------------------------------------------------
 
+        /**
+         * Add the specified vector to the index, or buffer it while the index
+         * is being built.
+         * <p/>
+         * Must be called while holding the write lock.
+         *
+         * @param nId     the label of the vector
+         * @param vector  the vector to add
+         */
+        protected void addItem(int nId, float[] vector)
+            {
+            if (m_fBulk)
+                {
+                f_mapPending.put(nId, vector);
+                if (f_mapPending.size() >= BUILD_BATCH_SIZE)
+                    {
+                    flush();
+                    }
+                }
+            else
+                {
+                ensureCapacity(1);
+                f_index.addItem(vector, nId, m_fReplaceDeleted);
+                }
+            onModified();
+            }
+
+        /**
+         * Add all the buffered vectors to the graph, using multiple threads
+         * for large batches.
+         * <p/>
+         * Must be called while holding the write lock.
+         */
+        protected void flush()
+            {
+            Int2ObjectMap<float[]> mapPending = f_mapPending;
+            int                    cPending   = mapPending.size();
+            if (cPending == 0)
+                {
+                return;
+                }
+
+            int[]     aId      = new int[cPending];
+            float[][] aVector  = new float[cPending][];
+            int       i        = 0;
+            for (Int2ObjectMap.Entry<float[]> entry : mapPending.int2ObjectEntrySet())
+                {
+                aId[i]     = entry.getIntKey();
+                aVector[i] = entry.getValue();
+                i++;
+                }
+            mapPending.clear();
+
+            // size the graph up front, as the native index cannot be resized
+            // while vectors are added concurrently
+            ensureCapacity(cPending);
+
+            Index   index    = f_index;
+            boolean fReplace = m_fReplaceDeleted;
+            if (BUILD_THREADS <= 1 || cPending < BUILD_PARALLEL_THRESHOLD)
+                {
+                for (int j = 0; j < cPending; j++)
+                    {
+                    index.addItem(aVector[j], aId[j], fReplace);
+                    }
+                }
+            else
+                {
+                BuildPool.INSTANCE.submit(() -> IntStream.range(0, cPending).parallel()
+                        .forEach(j -> index.addItem(aVector[j], aId[j], fReplace))).join();
+                }
+
+            GuardSupport.heartbeat();
+            }
+
+        /**
+         * Complete the initial build of this index by adding all buffered
+         * vectors to the graph, and removing any stale snapshot vectors.
+         */
+        protected void completeBuild()
+            {
+            f_lock.writeLock().lock();
+            try
+                {
+                if (m_fBulk)
+                    {
+                    flush();
+                    reconcileSnapshot();
+                    m_fBulk = false;
+
+                    // take the first snapshot of a (re)built index right away
+                    m_ldtSnapshot = 0L;
+                    }
+                }
+            finally
+                {
+                f_lock.writeLock().unlock();
+                }
+
+            scheduleSnapshot();
+            }
+
+        /**
+         * Ensure that the native graph can hold the specified number of
+         * additional vectors, growing it if necessary.
+         * <p/>
+         * The capacity is doubled until it reaches {@link #GROWTH_THRESHOLD}
+         * elements, and grows by 50% after that, so that the initial
+         * {@link #setMaxElements(int) maximum number of elements} does not
+         * have to be guessed up front.
+         *
+         * @param cAdd  the number of vectors that will be added
+         */
+        protected void ensureCapacity(int cAdd)
+            {
+            Index index    = f_index;
+            long  cMax     = index.getMaxLength();
+            long  cRequire = (long) index.getLength() + cAdd;
+
+            if (cRequire > cMax)
+                {
+                long cNew = Math.max(cMax, 1L);
+                while (cNew < cRequire)
+                    {
+                    cNew = cNew < GROWTH_THRESHOLD ? cNew << 1 : cNew + (cNew >> 1);
+                    }
+                index.resize((int) Math.min(cNew, Integer.MAX_VALUE - 8));
+                }
+            }
+
+        /**
+         * Return {@code true} if the graph contains the specified vector
+         * under the specified label.
+         *
+         * @param nId     the label
+         * @param vector  the vector
+         *
+         * @return {@code true} if the vector is already indexed
+         */
+        protected boolean isIndexed(int nId, float[] vector)
+            {
+            return Arrays.equals(f_index.getData(nId).orElse(null), vector);
+            }
+
+        /**
+         * Remove the vector with the specified label, whether it is still
+         * buffered or already added to the graph, and the mapping between the
+         * label and its key.
+         * <p/>
+         * Must be called while holding the write lock.
+         *
+         * @param nId     the label of the vector
+         * @param binKey  the key the label is mapped to
+         */
+        protected void removeLabel(int nId, Binary binKey)
+            {
+            // an updated vector may be buffered while its previous value is
+            // still in the graph, so both have to be removed
+            f_mapPending.remove(nId);
+            if (f_index.hasId(nId))
+                {
+                f_index.markDeleted(nId);
+                }
+
+            f_mapLabelsToKeys.remove(nId);
+            f_mapKeysToLabels.removeInt(binKey);
+            onModified();
+            }
+
+        /**
+         * Record a modification of this index.
+         */
+        protected void onModified()
+            {
+            m_fDirty = true;
+            scheduleSnapshot();
+            }
+
+        /**
+         * Schedule an asynchronous snapshot of this index if it has been
+         * modified and the snapshot interval has elapsed.
+         */
+        protected void scheduleSnapshot()
+            {
+            if (f_sSnapshotDir != null && m_fDirty && !m_fBulk && !m_fSnapshotScheduled && m_nPartition >= 0
+                && Base.getSafeTimeMillis() - m_ldtSnapshot >= SNAPSHOT_INTERVAL_MILLIS)
+                {
+                m_fSnapshotScheduled = true;
+                SnapshotExecutor.INSTANCE.execute(() ->
+                    {
+                    try
+                        {
+                        snapshot();
+                        }
+                    catch (Throwable e)
+                        {
+                        Logger.warn("Failed to save the snapshot of " + getSnapshotName(), e);
+                        }
+                    finally
+                        {
+                        m_fSnapshotScheduled = false;
+                        }
+                    });
+                }
+            }
+
+        /**
+         * Load the snapshot of the partition the specified key belongs to,
+         * if this is the first key inserted into this index and snapshots
+         * are enabled.
+         * <p/>
+         * Must be called while holding the write lock.
+         *
+         * @param binKey  the key being inserted
+         */
+        protected void ensureSnapshotLoaded(Binary binKey)
+            {
+            if (m_fSnapshotChecked)
+                {
+                return;
+                }
+            m_fSnapshotChecked = true;
+
+            if (f_sSnapshotDir == null || !f_mapKeysToLabels.isEmpty())
+                {
+                return;
+                }
+
+            m_nPartition = f_backingMapContext.getManagerContext().getKeyPartition(binKey);
+
+            Path dir      = getSnapshotDirectory();
+            Path pathKeys = dir.resolve(getSnapshotName() + SNAPSHOT_KEYS_SUFFIX);
+            if (!Files.isRegularFile(pathKeys))
+                {
+                return;
+                }
+
+            try (FileChannel channel = FileChannel.open(pathKeys, StandardOpenOption.READ))
+                {
+                MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+                if (buf.remaining() < SNAPSHOT_HEADER_SIZE
+                    || buf.getInt() != SNAPSHOT_MAGIC
+                    || buf.getInt() != SNAPSHOT_VERSION
+                    || buf.getInt() != m_nDimension
+                    || buf.getInt() != m_sSpaceName.toUpperCase().hashCode())
+                    {
+                    Logger.info("Ignoring incompatible HNSW index snapshot " + pathKeys);
+                    return;
+                    }
+
+                long lGen      = buf.getLong();
+                int  nMaxId    = buf.getInt();
+                int  cKeys     = buf.getInt();
+                Path pathGraph = dir.resolve(getSnapshotName() + '-' + lGen + SNAPSHOT_GRAPH_SUFFIX);
+                if (!Files.isRegularFile(pathGraph))
+                    {
+                    return;
+                    }
+
+                Object2IntMap<Binary> mapSnapshot = new Object2IntOpenHashMap<>(cKeys);
+                for (int i = 0; i < cKeys; i++)
+                    {
+                    int    nId = buf.getInt();
+                    byte[] ab  = new byte[buf.getInt()];
+                    buf.get(ab);
+                    mapSnapshot.put(new Binary(ab), nId);
+                    }
+
+                f_index.load(pathGraph, Math.max(m_cMaxElements, cKeys));
+                f_index.setEf(m_nEfSearch);
+
+                // the native library does not support replacing deleted
+                // vectors in a loaded graph
+                m_fReplaceDeleted = false;
+                m_lSnapshotGen    = lGen;
+                m_mapSnapshot     = mapSnapshot;
+                f_idGenerator.set(nMaxId);
+
+                Logger.fine(() -> "Loaded " + cKeys + " vectors from HNSW index snapshot " + pathGraph);
+                }
+            catch (Exception e)
+                {
+                Logger.warn("Failed to load HNSW index snapshot " + pathKeys + "; the index will be rebuilt", e);
+                }
+            }
+
+        /**
+         * Remove the vectors that were loaded from a snapshot, but whose
+         * entries no longer exist.
+         * <p/>
+         * Must be called while holding the write lock.
+         */
+        protected void reconcileSnapshot()
+            {
+            Object2IntMap<Binary> mapSnapshot = m_mapSnapshot;
+            if (mapSnapshot != null)
+                {
+                for (int nId : mapSnapshot.values())
+                    {
+                    if (f_index.hasId(nId))
+                        {
+                        f_index.markDeleted(nId);
+                        }
+                    }
+                m_mapSnapshot = null;
+                }
+            }
+
+        /**
+         * Return the directory the snapshots of this index are stored in.
+         *
+         * @return the snapshot directory
+         */
+        protected Path getSnapshotDirectory()
+            {
+            return Paths.get(f_sSnapshotDir, f_backingMapContext.getCacheName().replaceAll("[^\\w.-]", "_"));
+            }
+
+        /**
+         * Return the base name of the snapshot files of this index.
+         *
+         * @return the snapshot name
+         */
+        protected String getSnapshotName()
+            {
+            String sExtractor = m_extractor.getCanonicalName();
+            if (sExtractor == null)
+                {
+                sExtractor = m_extractor.toString();
+                }
+            return "hnsw-" + Integer.toHexString(sExtractor.hashCode()) + '-' + m_nPartition;
+            }
+
         /**
          * Release the native resources held by this index.
          */
@@ -671,6 +1179,8 @@ public class HnswIndex<K, V>
             f_lock.writeLock().lock();
             try
                 {
+                m_fCleared = true;
+                f_mapPending.clear();
                 f_index.clear();
                 }
             finally
@@ -679,6 +1189,32 @@ public class HnswIndex<K, V>
                 }
             }
 
+        /**
+         * Release the native resources held by this index and remove its
+         * snapshot, as the index has been removed from the cache.
+         */
+        void destroy()
+            {
+            clear();
+
+            if (f_sSnapshotDir != null && m_nPartition >= 0)
+                {
+                Path dir = getSnapshotDirectory();
+                try
+                    {
+                    Files.deleteIfExists(dir.resolve(getSnapshotName() + SNAPSHOT_KEYS_SUFFIX));
+                    if (m_lSnapshotGen > 0)
+                        {
+                        Files.deleteIfExists(dir.resolve(getSnapshotName() + '-' + m_lSnapshotGen + SNAPSHOT_GRAPH_SUFFIX));
+                        }
+                    }
+                catch (IOException e)
+                    {
+                    Logger.warn("Failed to remove HNSW index snapshot " + getSnapshotName(), e);
+                    }
+                }
+            }
+
         // ----- data members -----------------------------------------------
 
         private final BackingMapContext f_backingMapContext;
@@ -687,6 +1223,93 @@ public class HnswIndex<K, V>
         private final Int2ObjectMap<Binary> f_mapLabelsToKeys;
         private final Object2IntMap<Binary> f_mapKeysToLabels;
         private final ReadWriteLock f_lock = new ReentrantReadWriteLock();
+
+        /**
+         * The directory the snapshots are stored in, or null if snapshots are
+         * disabled.
+         */
+        private final String f_sSnapshotDir;
+
+        /**
+         * The vectors that have not been added to the graph yet, keyed by label.
+         */
+        private final Int2ObjectMap<float[]> f_mapPending;
+
+        /**
+         * True while the index is being built, and vectors are added in batches.
+         */
+        private volatile boolean m_fBulk;
+
+        /**
+         * True if vectors may replace deleted vectors in the graph.
+         */
+        private boolean m_fReplaceDeleted = true;
+
+        /**
+         * True once the native resources have been released.
+         */
+        private boolean m_fCleared;
+
+        /**
+         * The partition this index belongs to, or -1 if unknown.
+         */
+        private volatile int m_nPartition = -1;
+
+        /**
+         * True once the snapshot has been looked up.
+         */
+        private boolean m_fSnapshotChecked;
+
+        /**
+         * The labels of the snapshot vectors whose entries have not been
+         * re-inserted yet, keyed by the entry key.
+         */
+        private Object2IntMap<Binary> m_mapSnapshot;
+
+        /**
+         * The generation of the most recent snapshot, or 0 if none.
+         */
+        private volatile long m_lSnapshotGen;
+
+        /**
+         * The time of the most recent snapshot.
+         */
+        private volatile long m_ldtSnapshot;
+
+        /**
+         * True if the index has been modified since the most recent snapshot.
+         */
+        private volatile boolean m_fDirty;
+
+        /**
+         * True while a snapshot is scheduled.
+         */
+        private volatile boolean m_fSnapshotScheduled;
+        }
+
+    // ----- inner class: BuildPool -----------------------------------------
+
+    /**
+     * The holder of the pool used to add vectors to the graphs in parallel.
+     */
+    private static class BuildPool
+        {
+        static final ForkJoinPool INSTANCE = new ForkJoinPool(BUILD_THREADS);
+        }
+
+    // ----- inner class: SnapshotExecutor ----------------------------------
+
+    /**
+     * The holder of the executor used to save the snapshots.
+     */
+    private static class SnapshotExecutor
+        {
+        static final Executor INSTANCE = Executors.newSingleThreadExecutor(runnable ->
+            {
+            Thread thread = Base.makeThread(null, runnable, "HnswIndexSnapshot");
+            thread.setDaemon(true);
+            return thread;
+            });
         }
 
     // ----- constants ------------------------------------------------------
@@ -706,6 +1329,88 @@ public class HnswIndex<K, V>
      */
     public static final String DEFAULT_SPACE_NAME = "COSINE";
 
+    /**
+     * The name of the system property that specifies the directory the index
+     * snapshots are stored in. Snapshots are disabled if not specified.
+     * <p/>
+     * The directory would typically be located alongside the persistence
+     * directories; if it is on a shared file system, a snapshot can also be
+     * reused by the new owner of a transferred partition.
+     */
+    public static final String PROP_SNAPSHOT_DIR = "coherence.hnsw.snapshot.dir";
+
+    /**
+     * The name of the system property that specifies the minimum number of
+     * milliseconds between two snapshots of a modified index.
+     */
+    public static final String PROP_SNAPSHOT_INTERVAL = "coherence.hnsw.snapshot.interval";
+
+    /**
+     * The name of the system property that specifies the number of vectors
+     * buffered while an index is being built before they are added to the
+     * graph; a value of 1 disables buffering.
+     */
+    public static final String PROP_BUILD_BATCH = "coherence.hnsw.build.batch";
+
+    /**
+     * The name of the system property that specifies the number of threads
+     * used to add buffered vectors to the graph.
+     */
+    public static final String PROP_BUILD_THREADS = "coherence.hnsw.build.threads";
+
+    /**
+     * The minimum number of milliseconds between two snapshots.
+     */
+    protected static final long SNAPSHOT_INTERVAL_MILLIS = Config.getLong(PROP_SNAPSHOT_INTERVAL, 300_000L);
+
+    /**
+     * The number of vectors buffered while an index is being built.
+     */
+    protected static final int BUILD_BATCH_SIZE = Config.getInteger(PROP_BUILD_BATCH, 16_384);
+
+    /**
+     * The number of threads used to add buffered vectors to the graph.
+     */
+    protected static final int BUILD_THREADS = Math.max(1, Config.getInteger(PROP_BUILD_THREADS,
+            Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * The minimum number of buffered vectors that are added to the graph in
+     * parallel.
+     */
+    protected static final int BUILD_PARALLEL_THRESHOLD = 1024;
+
+    /**
+     * The capacity after which the graph grows by 50% rather than doubling.
+     */
+    protected static final int GROWTH_THRESHOLD = 0x7FFFFF;
+
+    /**
+     * The suffix of the snapshot graph files.
+     */
+    private static final String SNAPSHOT_GRAPH_SUFFIX = ".hnsw";
+
+    /**
+     * The suffix of the snapshot key files.
+     */
+    private static final String SNAPSHOT_KEYS_SUFFIX = ".keys";
+
+    /**
+     * The magic number of the snapshot key files.
+     */
+    private static final int SNAPSHOT_MAGIC = 0x484E5357;
+
+    /**
+     * The version of the snapshot key file format.
+     */
+    private static final int SNAPSHOT_VERSION = 1;
+
+    /**
+     * The size of the snapshot key file header: magic, version, dimension,
+     * space, generation, last label and key count.
+     */
+    private static final int SNAPSHOT_HEADER_SIZE = 32;
+
     // ----- data members ---------------------------------------------------
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -230,10 +230,13 @@ public class Index implements Closeable
 
     /**
      * Resize the index.
+     * <p>
+     * Note: the index must not be resized while items are being added
+     * concurrently.
      *
      * @param maxSize  the new maximum size to resize the index to
      */
-    void resize(int maxSize)
+    public void resize(int maxSize)
         {
         hnswlib.resizeIndex(reference, maxSize);
         }
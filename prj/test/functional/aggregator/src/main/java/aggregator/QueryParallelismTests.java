@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package aggregator;
+
+import com.oracle.coherence.testing.AbstractFunctionalTest;
+
+import com.tangosol.coherence.component.util.daemon.queueProcessor.service.grid.partitionedService.PartitionedCache;
+import com.tangosol.coherence.component.util.daemon.queueProcessor.service.grid.partitionedService.partitionedCache.Storage;
+
+import com.tangosol.coherence.component.util.safeService.SafeCacheService;
+
+import com.tangosol.internal.util.Daemons;
+import com.tangosol.internal.util.QueryResult;
+
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.net.partition.PartitionSet;
+
+import com.tangosol.util.Aggregators;
+import com.tangosol.util.Extractors;
+import com.tangosol.util.Filter;
+import com.tangosol.util.Filters;
+import com.tangosol.util.InvocableMap;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RecursiveAction;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Functional tests for the execution of queries and aggregations across
+ * groups of partitions, which compare the results with the serial execution.
+ * <p>
+ * The "dist-*" caches use a service with a query parallelism of {@link #GROUPS},
+ * while the "part-*" caches use a service with a query parallelism of one, which
+ * processes all partitions on the calling thread.
+ *
+ * @author coh  2026.10.17
+ */
+public class QueryParallelismTests
+        extends AbstractFunctionalTest
+    {
+    // ----- test lifecycle -------------------------------------------------
+
+    /**
+     * Initialize the test class.
+     */
+    @BeforeClass
+    public static void _startup()
+        {
+        // this test requires local storage to be enabled
+        System.setProperty("coherence.distributed.localstorage", "true");
+        System.setProperty(PROP_PARALLEL, String.valueOf(GROUPS));
+        System.setProperty(PROP_SERIAL, "1");
+
+        AbstractFunctionalTest._startup();
+        }
+
+    /**
+     * Clean up the test class.
+     */
+    @AfterClass
+    public static void _cleanup()
+        {
+        System.clearProperty(PROP_PARALLEL);
+        System.clearProperty(PROP_SERIAL);
+        }
+
+    // ----- test methods ---------------------------------------------------
+
+    @Test
+    public void shouldConfigureQueryParallelism()
+        {
+        assertThat(getService(getNamedCache("dist-config")).getQueryParallelism(), is(GROUPS));
+        assertThat(getService(getNamedCache("part-config")).getQueryParallelism(), is(1));
+        }
+
+    @Test
+    public void shouldMatchSerialQueryResults()
+        {
+        NamedCache<Integer, Integer> cacheParallel = populate("dist-query");
+        NamedCache<Integer, Integer> cacheSerial   = populate("part-query");
+        Map<Integer, Integer>        mapExpected   = new HashMap<>();
+
+        for (int i = 0; i < COUNT; i++)
+            {
+            if (valueOf(i) < 3)
+                {
+                mapExpected.put(i, valueOf(i));
+                }
+            }
+
+        Filter<Integer> filter = Filters.less(Extractors.identity(), 3);
+        for (int iPass = 0; iPass < 2; iPass++)
+            {
+            assertThat(new HashSet<>(cacheParallel.keySet(filter)), is(mapExpected.keySet()));
+            assertThat(new HashSet<>(cacheSerial.keySet(filter)), is(mapExpected.keySet()));
+            assertThat(toMap(cacheParallel.entrySet(filter)), is(mapExpected));
+            assertThat(toMap(cacheSerial.entrySet(filter)), is(mapExpected));
+
+            // repeat the queries using an index
+            cacheParallel.addIndex(Extractors.identity(), false, null);
+            cacheSerial.addIndex(Extractors.identity(), false, null);
+            }
+        }
+
+    @Test
+    public void shouldMatchSerialGroupedAggregation()
+        {
+        NamedCache<Integer, Integer> cacheParallel = populate("dist-aggregate");
+        NamedCache<Integer, Integer> cacheSerial   = populate("part-aggregate");
+        Map<Integer, Integer>        mapExpected   = new HashMap<>();
+
+        for (int i = 0; i < COUNT; i++)
+            {
+            mapExpected.merge(valueOf(i), 1, Integer::sum);
+            }
+
+        Filter<Integer> filter = Filters.always();
+
+        assertThat(cacheParallel.aggregate(filter, Aggregators.grouping(Extractors.identity(), Aggregators.count())),
+                   is((Object) mapExpected));
+        assertThat(cacheSerial.aggregate(filter, Aggregators.grouping(Extractors.identity(), Aggregators.count())),
+                   is((Object) mapExpected));
+        assertThat(cacheParallel.aggregate(filter, Aggregators.count()), is(COUNT));
+        assertThat(cacheSerial.aggregate(filter, Aggregators.count()), is(COUNT));
+        }
+
+    @Test
+    public void shouldMatchSerialPartitionedTasks()
+        {
+        NamedCache<Integer, Integer> cache   = populate("dist-tasks");
+        PartitionedCache             service = getService(cache);
+        Storage                      storage = service.getStorage(cache.getCacheName());
+        PartitionSet                 parts   = service.getOwnedPartitions(service.getCluster().getLocalMember());
+        Filter<Integer>              filter  = Filters.less(Extractors.identity(), 5);
+
+        QueryResult resultSerial   = query(storage, filter, parts, 1);
+        Object      oGroupedSerial = aggregate(storage, filter,
+                Aggregators.grouping(Extractors.identity(), Aggregators.count()), parts, 1);
+
+        assertThat(resultSerial.getPartitionSet(), is(parts));
+        assertThat(resultSerial.getCount(), is(COUNT / 2));
+        assertThat(aggregate(storage, filter, Aggregators.count(), parts, 1), is(COUNT / 2));
+
+        for (int cGroups : new int[] {2, GROUPS, parts.cardinality()})
+            {
+            QueryResult result = query(storage, filter, parts, cGroups);
+
+            assertThat(result.getPartitionSet(), is(parts));
+            assertThat(toSet(result), is(toSet(resultSerial)));
+            assertThat(aggregate(storage, filter, Aggregators.count(), parts, cGroups), is(COUNT / 2));
+            assertThat(aggregate(storage, filter, Aggregators.grouping(Extractors.identity(), Aggregators.count()),
+                                 parts, cGroups),
+                       is(oGroupedSerial));
+            }
+        }
+
+    @Test
+    public void shouldSplitPartitionsIntoGroups()
+        {
+        int[] aiPart = {1, 3, 4, 7, 8, 11, 12};
+
+        for (int cGroups : new int[] {1, 3, aiPart.length, 100})
+            {
+            Storage.PartitionGroupTask[] aTasks = Storage.PartitionGroupTask.createArray(new NoOpTask(), aiPart, cGroups);
+            int[]                        anSeen = new int[aiPart.length];
+
+            assertThat(aTasks.length, is(Math.min(cGroups, aiPart.length)));
+            for (Storage.PartitionGroupTask task : aTasks)
+                {
+                task.setProcessor(i ->
+                    {
+                    anSeen[i]++;
+                    return true;
+                    });
+                task.invoke();
+                }
+
+            // every partition is processed exactly once
+            int[] anOnce = new int[aiPart.length];
+            Arrays.fill(anOnce, 1);
+            assertThat(anSeen, is(anOnce));
+            }
+        }
+
+    @Test
+    public void shouldStopGroupOnceRequestIsCancelled()
+        {
+        NoOpTask                   request    = new NoOpTask();
+        Storage.PartitionGroupTask task       = new Storage.PartitionGroupTask(request, 0, 10);
+        AtomicInteger              cProcessed = new AtomicInteger();
+
+        task.setProcessor(i ->
+            {
+            if (cProcessed.incrementAndGet() == 3)
+                {
+                request.cancel(false);
+                }
+            return true;
+            });
+
+        try
+            {
+            task.invoke();
+            fail("expected CancellationException");
+            }
+        catch (CancellationException e)
+            {
+            // expected
+            }
+
+        assertThat(cProcessed.get(), is(3));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Return the value stored for the specified key.
+     *
+     * @param nKey  the key
+     *
+     * @return the value
+     */
+    protected static int valueOf(int nKey)
+        {
+        return nKey % 10;
+        }
+
+    /**
+     * Populate the specified cache with {@link #COUNT} entries.
+     *
+     * @param sCacheName  the name of the cache
+     *
+     * @return the cache
+     */
+    protected NamedCache<Integer, Integer> populate(String sCacheName)
+        {
+        NamedCache<Integer, Integer> cache = getNamedCache(sCacheName);
+        Map<Integer, Integer>        map   = new HashMap<>();
+
+        for (int i = 0; i < COUNT; i++)
+            {
+            map.put(i, valueOf(i));
+            }
+
+        cache.clear();
+        cache.putAll(map);
+        return cache;
+        }
+
+    /**
+     * Return the partitioned cache service of the specified cache.
+     *
+     * @param cache  the cache
+     *
+     * @return the service
+     */
+    protected static PartitionedCache getService(NamedCache<?, ?> cache)
+        {
+        return (PartitionedCache) ((SafeCacheService) cache.getCacheService()).getService();
+        }
+
+    /**
+     * Query the specified partitions using a {@link Storage.PartitionedQueryTask}.
+     *
+     * @param storage  the storage to query
+     * @param filter   the filter to evaluate
+     * @param parts    the partitions to query
+     * @param cGroups  the maximum number of partition groups
+     *
+     * @return the query result
+     */
+    protected static QueryResult query(Storage storage, Filter<?> filter, PartitionSet parts, int cGroups)
+        {
+        return Daemons.forkJoinPool().invoke(
+                new Storage.PartitionedQueryTask(storage, filter, Storage.QUERY_KEYS, parts, -1L, cGroups));
+        }
+
+    /**
+     * Aggregate the specified partitions using a {@link Storage.PartitionedAggregateTask}.
+     *
+     * @param storage  the storage to aggregate
+     * @param filter   the filter to evaluate
+     * @param agent    the aggregator
+     * @param parts    the partitions to aggregate
+     * @param cGroups  the maximum number of partition groups
+     *
+     * @return the partial result of the aggregator
+     */
+    protected static <P> P aggregate(Storage storage, Filter<?> filter,
+            InvocableMap.StreamingAggregator<?, ?, P, ?> agent, PartitionSet parts, int cGroups)
+        {
+        return Daemons.forkJoinPool().invoke(
+                new Storage.PartitionedAggregateTask<>(storage, filter, agent, parts, cGroups));
+        }
+
+    /**
+     * Return the keys of the specified query result.
+     *
+     * @param result  the query result
+     *
+     * @return the set of binary keys
+     */
+    protected static Set<Object> toSet(QueryResult result)
+        {
+        return new HashSet<>(Arrays.asList(result.getResults()).subList(0, result.getCount()));
+        }
+
+    /**
+     * Return a map of the specified entries.
+     *
+     * @param setEntries  the entries
+     *
+     * @return a map of the entries
+     */
+    protected static Map<Integer, Integer> toMap(Set<Map.Entry<Integer, Integer>> setEntries)
+        {
+        Map<Integer, Integer> map = new HashMap<>();
+        for (Map.Entry<Integer, Integer> entry : setEntries)
+            {
+            map.put(entry.getKey(), entry.getValue());
+            }
+        return map;
+        }
+
+    // ----- inner class: NoOpTask ------------------------------------------
+
+    /**
+     * A request task that does nothing, used to cancel the group tasks.
+     */
+    protected static class NoOpTask
+            extends RecursiveAction
+        {
+        @Override
+        protected void compute()
+            {
+            }
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The query parallelism of the "dist-*" caches.
+     */
+    protected static final int GROUPS = 4;
+
+    /**
+     * The number of entries in each cache.
+     */
+    protected static final int COUNT = 10_000;
+
+    /**
+     * The query parallelism property of the service of the "dist-*" caches.
+     */
+    protected static final String PROP_PARALLEL = "coherence.distributed.DistributedCache.query.parallelism";
+
+    /**
+     * The query parallelism property of the service of the "part-*" caches.
+     */
+    protected static final String PROP_SERIAL = "coherence.distributed.DistributedWithPartitionedBack.query.parallelism";
+    }
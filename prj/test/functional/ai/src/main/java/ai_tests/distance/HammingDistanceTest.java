@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package ai_tests.distance;
+
+import com.oracle.coherence.ai.BitVector;
+import com.oracle.coherence.ai.Float32Vector;
+import com.oracle.coherence.ai.Int8Vector;
+import com.oracle.coherence.ai.distance.HammingDistance;
+import com.oracle.coherence.ai.util.Vectors;
+
+import com.oracle.coherence.io.json.JsonSerializer;
+
+import com.tangosol.io.DefaultSerializer;
+import com.tangosol.io.Serializer;
+import com.tangosol.io.pof.ConfigurablePofContext;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HammingDistanceTest
+    {
+    @Test
+    public void shouldSerializeUsingJava()
+        {
+        shouldSerialize(new DefaultSerializer());
+        }
+
+    @Test
+    public void shouldSerializeUsingPof()
+        {
+        shouldSerialize(new ConfigurablePofContext());
+        }
+
+    @Test
+    public void shouldSerializeUsingJson()
+        {
+        shouldSerialize(new JsonSerializer());
+        }
+
+    public void shouldSerialize(Serializer serializer)
+        {
+        HammingDistance<?> distance = new HammingDistance<>();
+        Binary             binary   = ExternalizableHelper.toBinary(distance, serializer);
+        HammingDistance<?> result   = ExternalizableHelper.fromBinary(binary, serializer);
+        assertThat(result, is(notNullValue()));
+        }
+
+    @Test
+    public void shouldCalculateBitDistance()
+        {
+        HammingDistance<BitSet> algorithm = new HammingDistance<>();
+        BitVector               v1        = new BitVector(new long[] {0x5555555555555555L, 0xFFL});
+        BitVector               v2        = new BitVector(new long[] {0x0F0F0F0F0F0F0F0FL, 0x0FL});
+
+        assertThat(algorithm.distance(v1, v2), is(36.0d));
+        assertThat(algorithm.distance(v1, v1), is(0.0d));
+        }
+
+    @Test
+    public void shouldCalculateInt8Distance()
+        {
+        HammingDistance<byte[]> algorithm = new HammingDistance<>();
+        byte[]                  ab1       = new byte[] {1, -1, 0, 5, -7, 100, 2, -3};
+        byte[]                  ab2       = new byte[] {2, 1, 0, -5, -7, 1, -2, 3};
+        double                  expected  = Vectors.hammingDistance(Vectors.binaryQuant(ab1).get(),
+                                                                    Vectors.binaryQuant(ab2).get());
+
+        assertThat(algorithm.distance(new Int8Vector(ab1), new Int8Vector(ab2)), is(4.0d));
+        assertThat(expected, is(4.0d));
+        }
+
+    @Test
+    public void shouldCalculateFloat32Distance()
+        {
+        HammingDistance<float[]> algorithm = new HammingDistance<>();
+        float[]                  af1       = new float[] {0.1f, -0.2f, 0.0f, 0.4f};
+        float[]                  af2       = new float[] {0.3f, 0.2f, -0.1f, -0.4f};
+
+        assertThat(algorithm.distance(new Float32Vector(af1), new Float32Vector(af2)), is(2.0d));
+        }
+
+    @Test
+    public void shouldNotCalculateDistanceForDifferentDimensions()
+        {
+        HammingDistance<float[]> algorithm = new HammingDistance<>();
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> algorithm.distance(new Float32Vector(new float[3]), new Float32Vector(new float[4])));
+        }
+    }
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package ai_tests.index;
+
+import ai_tests.index.BinaryQuantIndexIT.ValueWithVector;
+
+import com.oracle.coherence.ai.Int8Vector;
+import com.oracle.coherence.ai.QueryResult;
+import com.oracle.coherence.ai.Vector;
+import com.oracle.coherence.ai.index.HnswVectorIndex;
+import com.oracle.coherence.ai.search.SimilarityFilter;
+import com.oracle.coherence.ai.search.SimilaritySearch;
+
+import com.tangosol.net.Coherence;
+import com.tangosol.net.NamedMap;
+import com.tangosol.net.Session;
+
+import com.tangosol.util.Filter;
+import com.tangosol.util.QueryRecord;
+import com.tangosol.util.SimpleMapEntry;
+import com.tangosol.util.ValueExtractor;
+import com.tangosol.util.aggregator.QueryRecorder;
+import com.tangosol.util.filter.InFilter;
+import com.tangosol.util.filter.LessFilter;
+
+import com.tangosol.util.processor.ConditionalProcessor;
+import com.tangosol.util.processor.ExtractorProcessor;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Integration tests for the per-partition {@link HnswVectorIndex}.
+ *
+ * @author coh  2026.10.16
+ */
+public class HnswVectorIndexIT
+    {
+    @BeforeAll
+    @SuppressWarnings("resource")
+    static void setup() throws Exception
+        {
+        String sAddress = "127.0.0.1";
+        System.setProperty("coherence.wka", sAddress);
+        System.setProperty("coherence.localhost", sAddress);
+        System.setProperty("test.unicast.address", sAddress);
+        System.setProperty("test.unicast.port", "0");
+        System.setProperty("coherence.ttl", "0");
+
+        System.setProperty("coherence.distributed.partitioncount", String.valueOf(PARTITIONS));
+
+        Coherence coherence = Coherence.clusterMember().start().get(5, TimeUnit.MINUTES);
+        m_session = coherence.getSession();
+
+        NamedMap<Integer, ValueWithVector> vectors = m_session.getMap("vectors");
+        vectors.addIndex(new HnswVectorIndex<>(ValueExtractor.of(ValueWithVector::getVector)));
+        vectors.addIndex(ValueExtractor.of(ValueWithVector::getNumber));
+        m_valueZero = BinaryQuantIndexIT.populateVectors(vectors);
+
+        NamedMap<Integer, Int8Vector> int8 = m_session.getMap("int8-vectors");
+        int8.addIndex(new HnswVectorIndex<>(ValueExtractor.identity()));
+        for (int i = 0; i < 5000; i++)
+            {
+            int8.put(i, randomBytes(DIMENSIONS));
+            }
+        }
+
+    @AfterAll
+    static void cleanup()
+        {
+        Coherence.closeAll();
+        }
+
+    @Test
+    public void shouldSearch()
+        {
+        ValueExtractor<ValueWithVector, Vector<float[]>> extractor = ValueExtractor.of(ValueWithVector::getVector);
+
+        NamedMap<Integer, ValueWithVector> vectors = m_session.getMap("vectors");
+
+        Vector<float[]> vector = m_valueZero.getVector();
+        int             k      = 10;
+
+        SimilaritySearch<Integer, ValueWithVector, float[]> similaritySearch = new SimilaritySearch<>(extractor, vector, k);
+
+        List<QueryResult<Integer, ValueWithVector>> results      = vectors.aggregate(similaritySearch);
+        List<QueryResult<Integer, ValueWithVector>> resultsExact = vectors.aggregate(similaritySearch.bruteForce());
+
+        assertThat(results.size(), is(k));
+        assertThat(results.get(0).getKey(), is(0));
+        assertThat(recall(results, resultsExact), is(greaterThanOrEqualTo(0.9d)));
+        }
+
+    @Test
+    public void shouldSearchWithFilter()
+        {
+        ValueExtractor<ValueWithVector, Vector<float[]>> extractor       = ValueExtractor.of(ValueWithVector::getVector);
+        ValueExtractor<ValueWithVector, Integer>         extractorFilter = ValueExtractor.of(ValueWithVector::getNumber);
+
+        NamedMap<Integer, ValueWithVector> vectors = m_session.getMap("vectors");
+
+        Set<Integer>    setMatch = Set.of(0, 1, 2, 3);
+        Filter<?>       filter   = new InFilter<>(extractorFilter, setMatch);
+        Vector<float[]> vector   = m_valueZero.getVector();
+
+        SimilaritySearch<Integer, ValueWithVector, float[]> similaritySearch = new SimilaritySearch<>(extractor, vector, 5);
+
+        List<QueryResult<Integer, ValueWithVector>> results = vectors.aggregate(similaritySearch.filter(filter));
+
+        assertThat(results.size(), is(setMatch.size()));
+        assertThat(results.stream().map(QueryResult::getKey).collect(Collectors.toSet()), is(setMatch));
+        }
+
+    @Test
+    public void shouldPreFilterUsingIndexes()
+        {
+        ValueExtractor<ValueWithVector, Vector<float[]>> extractor       = ValueExtractor.of(ValueWithVector::getVector);
+        ValueExtractor<ValueWithVector, Integer>         extractorFilter = ValueExtractor.of(ValueWithVector::getNumber);
+
+        NamedMap<Integer, ValueWithVector> vectors = m_session.getMap("vectors");
+
+        // a selective filter, resolved using the index on the number
+        Filter<?> filter = new LessFilter<>(extractorFilter, 200);
+        int       k      = 10;
+
+        SimilaritySearch<Integer, ValueWithVector, float[]> similaritySearch =
+                new SimilaritySearch<Integer, ValueWithVector, float[]>(extractor, m_valueZero.getVector(), k).filter(filter);
+
+        List<QueryResult<Integer, ValueWithVector>> results      = vectors.aggregate(similaritySearch);
+        List<QueryResult<Integer, ValueWithVector>> resultsExact = vectors.aggregate(similaritySearch.bruteForce());
+
+        assertThat(results.size(), is(k));
+        assertThat(results.stream().allMatch(result -> result.getKey() < 200), is(true));
+        assertThat(recall(results, resultsExact), is(1.0d));
+        }
+
+    @Test
+    public void shouldTraceFilteredSearch()
+        {
+        ValueExtractor<ValueWithVector, Vector<float[]>> extractor       = ValueExtractor.of(ValueWithVector::getVector);
+        ValueExtractor<ValueWithVector, Integer>         extractorFilter = ValueExtractor.of(ValueWithVector::getNumber);
+
+        NamedMap<Integer, ValueWithVector> vectors = m_session.getMap("vectors");
+
+        SimilaritySearch<Integer, ValueWithVector, float[]> similaritySearch =
+                new SimilaritySearch<Integer, ValueWithVector, float[]>(extractor, m_valueZero.getVector(), 10).filter(new LessFilter<>(extractorFilter, 200));
+
+        QueryRecord record = vectors.aggregate(new SimilarityFilter<>(similaritySearch).measureRecall(),
+                                               new QueryRecorder<>(QueryRecorder.RecordType.TRACE));
+
+        String sDescription = record.getResults().get(0).getSteps().get(0).getFilterDescription();
+        assertThat(sDescription, containsString("plan: INDEX -> SCAN"));
+        assertThat(sDescription, containsString("recall: 1"));
+
+        // the recall is only measured on request
+        record = vectors.aggregate(new SimilarityFilter<>(similaritySearch),
+                                   new QueryRecorder<>(QueryRecorder.RecordType.TRACE));
+
+        sDescription = record.getResults().get(0).getSteps().get(0).getFilterDescription();
+        assertThat(sDescription, containsString("plan: INDEX -> SCAN"));
+        assertThat(sDescription, not(containsString("recall")));
+        }
+
+    @Test
+    public void shouldEvaluateEachEntry()
+        {
+        ValueExtractor<ValueWithVector, Vector<float[]>> extractor       = ValueExtractor.of(ValueWithVector::getVector);
+        ValueExtractor<ValueWithVector, Integer>         extractorFilter = ValueExtractor.of(ValueWithVector::getNumber);
+
+        NamedMap<Integer, ValueWithVector> vectors = m_session.getMap("vectors");
+
+        int k = 3;
+
+        SimilaritySearch<Integer, ValueWithVector, float[]> similaritySearch =
+                new SimilaritySearch<Integer, ValueWithVector, float[]>(extractor, m_valueZero.getVector(), k).filter(new LessFilter<>(extractorFilter, 200));
+        SimilarityFilter<Integer, ValueWithVector, float[]> filter = new SimilarityFilter<>(similaritySearch);
+
+        // a conditional processor evaluates the filter against each entry,
+        // matching it against the nearest neighbours of the entry's partition
+        Set<Integer> setMatch = vectors.invokeAll(new ConditionalProcessor<>(filter,
+                new ExtractorProcessor<>(ValueExtractor.identity()))).keySet();
+
+        Set<Integer> setExact = vectors.aggregate(similaritySearch.bruteForce()).stream()
+                .map(QueryResult::getKey)
+                .collect(Collectors.toSet());
+
+        assertThat(setMatch.size(), is(lessThanOrEqualTo(PARTITIONS * k)));
+        assertThat(setMatch.stream().allMatch(nKey -> nKey < 200), is(true));
+        assertThat(setMatch.containsAll(setExact), is(true));
+
+        // a value evaluated on its own is its own nearest neighbour
+        assertThat(filter.evaluate(m_valueZero), is(true));
+        assertThat(filter.evaluate(vectors.get(500)), is(false));
+        }
+
+    @Test
+    public void shouldNotMatchOutsideOfPartitionedCache()
+        {
+        ValueExtractor<ValueWithVector, Vector<float[]>> extractor = ValueExtractor.of(ValueWithVector::getVector);
+
+        SimilarityFilter<Integer, ValueWithVector, float[]> filter = new SimilarityFilter<>(
+                new SimilaritySearch<>(extractor, m_valueZero.getVector(), 3));
+
+        // there are no partitions to search, so neither the indexes nor the
+        // entries of a non-partitioned cache match, and nothing is thrown
+        Set<Integer> setKeys = new HashSet<>(Set.of(1, 2, 3));
+        assertThat(filter.applyIndex(new HashMap<>(), setKeys), is(nullValue()));
+        assertThat(setKeys.isEmpty(), is(true));
+        assertThat(filter.evaluateEntry(new SimpleMapEntry<>(0, m_valueZero)), is(false));
+        }
+
+    @Test
+    public void shouldSearchInt8Vectors()
+        {
+        NamedMap<Integer, Int8Vector> vectors = m_session.getMap("int8-vectors");
+
+        Int8Vector vector = vectors.get(42);
+        int        k      = 10;
+
+        SimilaritySearch<Integer, Int8Vector, byte[]> similaritySearch = new SimilaritySearch<>(ValueExtractor.identity(), vector, k);
+
+        List<QueryResult<Integer, Int8Vector>> results      = vectors.aggregate(similaritySearch);
+        List<QueryResult<Integer, Int8Vector>> resultsExact = vectors.aggregate(similaritySearch.bruteForce());
+
+        assertThat(results.size(), is(k));
+        assertThat(results.get(0).getKey(), is(42));
+        assertThat(recall(results, resultsExact), is(greaterThanOrEqualTo(0.9d)));
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    protected static double recall(List<? extends QueryResult<Integer, ?>> results,
+                                   List<? extends QueryResult<Integer, ?>> resultsExact)
+        {
+        Set<Integer> setExact = resultsExact.stream().map(QueryResult::getKey).collect(Collectors.toSet());
+        long         cMatch   = results.stream().map(QueryResult::getKey).filter(setExact::contains).count();
+        return (double) cMatch / setExact.size();
+        }
+
+    protected static Int8Vector randomBytes(int n)
+        {
+        byte[] ab = new byte[n];
+        m_random.nextBytes(ab);
+        return new Int8Vector(ab);
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    public static final int DIMENSIONS = 128;
+
+    public static final int PARTITIONS = 13;
+
+    private static Session m_session;
+
+    private static ValueWithVector m_valueZero;
+
+    private static final Random m_random = new Random(42);
+    }
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package ai_tests.index;
+
+import ai_tests.index.BinaryQuantIndexIT.ValueWithVector;
+
+import com.oracle.coherence.ai.QueryResult;
+import com.oracle.coherence.ai.Vector;
+
+import com.oracle.coherence.ai.distance.HammingDistance;
+import com.oracle.coherence.ai.distance.L2SquaredDistance;
+
+import com.oracle.coherence.ai.index.ProductQuantIndex;
+import com.oracle.coherence.ai.index.ScalarQuantIndex;
+
+import com.oracle.coherence.ai.search.SimilaritySearch;
+
+import com.tangosol.net.Coherence;
+import com.tangosol.net.NamedMap;
+import com.tangosol.net.Session;
+
+import com.tangosol.util.Filter;
+import com.tangosol.util.ValueExtractor;
+import com.tangosol.util.filter.InFilter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static ai_tests.index.HnswVectorIndexIT.recall;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration tests for the {@link ScalarQuantIndex} and the
+ * {@link ProductQuantIndex}.
+ *
+ * @author coh  2026.10.16
+ */
+public class QuantIndexIT
+    {
+    @BeforeAll
+    @SuppressWarnings("resource")
+    static void setup() throws Exception
+        {
+        String sAddress = "127.0.0.1";
+        System.setProperty("coherence.wka", sAddress);
+        System.setProperty("coherence.localhost", sAddress);
+        System.setProperty("test.unicast.address", sAddress);
+        System.setProperty("test.unicast.port", "0");
+        System.setProperty("coherence.ttl", "0");
+
+        System.setProperty("coherence.distributed.partitioncount", "13");
+
+        Coherence coherence = Coherence.clusterMember().start().get(5, TimeUnit.MINUTES);
+        m_session = coherence.getSession();
+
+        // each partition holds more than RETRAIN_FACTOR times the training
+        // size, so the first search retrains the quantizers
+        NamedMap<Integer, ValueWithVector> scalar = m_session.getMap("scalar-vectors");
+        scalar.addIndex(new ScalarQuantIndex<>(EXTRACTOR).trainingSize(TRAINING_SIZE));
+        m_valueZero = BinaryQuantIndexIT.populateVectors(scalar);
+
+        NamedMap<Integer, ValueWithVector> product = m_session.getMap("product-vectors");
+        product.addIndex(new ProductQuantIndex<>(EXTRACTOR).oversamplingFactor(4).trainingSize(TRAINING_SIZE));
+        product.putAll(scalar);
+
+        // each partition holds fewer vectors than the default training size
+        NamedMap<Integer, ValueWithVector> untrained = m_session.getMap("untrained-vectors");
+        untrained.addIndex(new ScalarQuantIndex<>(EXTRACTOR));
+        untrained.putAll(scalar);
+        }
+
+    @AfterAll
+    static void cleanup()
+        {
+        Coherence.closeAll();
+        }
+
+    @Test
+    public void shouldSearchScalarQuantIndex()
+        {
+        NamedMap<Integer, ValueWithVector> vectors = m_session.getMap("scalar-vectors");
+
+        int k = 10;
+
+        SimilaritySearch<Integer, ValueWithVector, float[]> similaritySearch = new SimilaritySearch<>(EXTRACTOR, m_valueZero.getVector(), k);
+
+        List<QueryResult<Integer, ValueWithVector>> results      = vectors.aggregate(similaritySearch);
+        List<QueryResult<Integer, ValueWithVector>> resultsExact = vectors.aggregate(similaritySearch.bruteForce());
+
+        assertThat(results.size(), is(k));
+        assertThat(results.get(0).getKey(), is(0));
+        assertThat(recall(results, resultsExact), is(greaterThanOrEqualTo(0.8d)));
+        }
+
+    @Test
+    public void shouldSearchProductQuantIndex()
+        {
+        NamedMap<Integer, ValueWithVector> vectors = m_session.getMap("product-vectors");
+
+        int k = 10;
+
+        SimilaritySearch<Integer, ValueWithVector, float[]> similaritySearch = new SimilaritySearch<>(EXTRACTOR, m_valueZero.getVector(), k);
+
+        List<QueryResult<Integer, ValueWithVector>> results      = vectors.aggregate(similaritySearch);
+        List<QueryResult<Integer, ValueWithVector>> resultsExact = vectors.aggregate(similaritySearch.bruteForce());
+
+        // the oversampled candidates are re-ranked using the exact distances
+        assertThat(results.size(), is(k));
+        assertThat(results.get(0).getKey(), is(0));
+        assertThat(results.get(0).getDistance(), is(resultsExact.get(0).getDistance()));
+        }
+
+    @Test
+    public void shouldSearchRepeatedlyAfterRetraining()
+        {
+        NamedMap<Integer, ValueWithVector> vectors = m_session.getMap("scalar-vectors");
+
+        SimilaritySearch<Integer, ValueWithVector, float[]> similaritySearch = new SimilaritySearch<>(EXTRACTOR, m_valueZero.getVector(), 10);
+
+        List<QueryResult<Integer, ValueWithVector>> resultsExact = vectors.aggregate(similaritySearch.bruteForce());
+        for (int i = 0; i < 3; i++)
+            {
+            List<QueryResult<Integer, ValueWithVector>> results = vectors.aggregate(similaritySearch);
+
+            assertThat(results.get(0).getKey(), is(0));
+            assertThat(recall(results, resultsExact), is(greaterThanOrEqualTo(0.8d)));
+            }
+        }
+
+    @Test
+    public void shouldSearchExactlyUntilTrained()
+        {
+        NamedMap<Integer, ValueWithVector> vectors = m_session.getMap("untrained-vectors");
+
+        SimilaritySearch<Integer, ValueWithVector, float[]> similaritySearch = new SimilaritySearch<>(EXTRACTOR, m_valueZero.getVector(), 10);
+
+        List<QueryResult<Integer, ValueWithVector>> results      = vectors.aggregate(similaritySearch);
+        List<QueryResult<Integer, ValueWithVector>> resultsExact = vectors.aggregate(similaritySearch.bruteForce());
+
+        // the vectors are not quantized yet, so the search is exact
+        assertThat(results.size(), is(resultsExact.size()));
+        for (int i = 0; i < results.size(); i++)
+            {
+            assertThat(results.get(i).getDistance(), is(resultsExact.get(i).getDistance()));
+            }
+        }
+
+    @Test
+    public void shouldSearchWithFilter()
+        {
+        ValueExtractor<ValueWithVector, Integer> extractorFilter = ValueExtractor.of(ValueWithVector::getNumber);
+
+        Set<Integer> setMatch = Set.of(0, 1, 2, 3);
+        Filter<?>    filter   = new InFilter<>(extractorFilter, setMatch);
+
+        SimilaritySearch<Integer, ValueWithVector, float[]> similaritySearch = new SimilaritySearch<>(EXTRACTOR, m_valueZero.getVector(), 5);
+
+        for (String sName : List.of("scalar-vectors", "product-vectors"))
+            {
+            NamedMap<Integer, ValueWithVector> vectors = m_session.getMap(sName);
+
+            List<QueryResult<Integer, ValueWithVector>> results = vectors.aggregate(similaritySearch.filter(filter));
+
+            assertThat(sName, results.size(), is(setMatch.size()));
+            assertThat(sName, results.stream().map(QueryResult::getKey).collect(Collectors.toSet()), is(setMatch));
+            }
+        }
+
+    @Test
+    public void shouldRejectUnsupportedAlgorithm()
+        {
+        new ProductQuantIndex<>(EXTRACTOR, new L2SquaredDistance<>());
+        assertThrows(IllegalArgumentException.class, () -> new ProductQuantIndex<>(EXTRACTOR, new HammingDistance<>()));
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    private static final int TRAINING_SIZE = 64;
+
+    private static final ValueExtractor<ValueWithVector, Vector<float[]>> EXTRACTOR = ValueExtractor.of(ValueWithVector::getVector);
+
+    private static Session m_session;
+
+    private static ValueWithVector m_valueZero;
+    }
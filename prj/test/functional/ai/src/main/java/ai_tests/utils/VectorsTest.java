@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -14,6 +14,7 @@ import java.util.BitSet;
 
 import static com.oracle.coherence.ai.util.Vectors.hammingDistance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.is;
 
 public class VectorsTest
@@ -55,4 +56,30 @@ public class VectorsTest
 
         assertThat(hammingDistance(x, y), is(32));
         }
+
+    @Test
+    public void testDistanceWithTrailingZeroWords()
+        {
+        BitSet x = new BitSet(128);
+        BitSet y = new BitSet(128);
+        x.set(0, 8);
+        y.set(0, 4);
+        y.set(68, 72);
+
+        // toLongArray() omits trailing zero words, so the word counts differ
+        assertThat(x.toLongArray().length, is(1));
+        assertThat(hammingDistance(x, y), is(8));
+        assertThat(Vectors.l2squared(x, y), is(8.0d));
+        assertThat(Vectors.dotProduct(x, y), is(4.0d));
+        }
+
+    @Test
+    public void testBitCosine()
+        {
+        BitSet x = BitSet.valueOf(new long[] {0x0FL});
+        BitSet y = BitSet.valueOf(new long[] {0x03L});
+
+        // dot product 2, norms 2 and sqrt(2)
+        assertThat((double) Vectors.cosine(x, y), is(closeTo(2.0d / (2.0d * Math.sqrt(2.0d)), 0.000001d)));
+        }
     }
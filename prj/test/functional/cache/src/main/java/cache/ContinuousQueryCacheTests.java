@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -15,6 +15,7 @@ import com.tangosol.net.cache.ContinuousQueryCache;
 import com.tangosol.util.Base;
 import com.tangosol.util.MapEvent;
 import com.tangosol.util.MultiplexingMapListener;
+import com.tangosol.util.NullImplementation;
 import com.tangosol.util.ValueExtractor;
 import com.tangosol.util.ValueUpdater;
 import com.tangosol.util.filter.AlwaysFilter;
@@ -231,6 +232,74 @@ public class ContinuousQueryCacheTests
         assertThat(deactivationListenerCQCKeyTwo.getEvents().size(), is(0));
         }
 
+    @Test
+    public void shouldApplyDeltaEvents()
+        {
+        NamedCache<Integer, String> cache  = CacheFactory.getCache("test-delta");
+        String                      sValue = "value-".repeat(100);
+        int                         cItems = 10;
+
+        for (int i = 0; i < cItems; i++)
+            {
+            cache.put(i, sValue + i);
+            }
+
+        // deltas are only applied by a view over the serialized values
+        NamedCache cacheBinary = cache.getCacheService().ensureCache("test-delta", NullImplementation.getClassLoader());
+
+        ContinuousQueryCache<Integer, String, String> cqc = new ContinuousQueryCache<>(cacheBinary, AlwaysFilter.INSTANCE());
+        cqc.setDeltaEvents(true);
+        assertThat(cqc.get(0), is(sValue + 0));
+
+        long cbBefore = cqc.getEventBytesReceived();
+        for (int i = 0; i < cItems; i++)
+            {
+            cache.put(i, sValue + "updated-" + i);
+            }
+
+        Eventually.assertDeferred(cqc::getDeltaEventsApplied, is((long) cItems));
+        for (int i = 0; i < cItems; i++)
+            {
+            assertThat(cqc.get(i), is(sValue + "updated-" + i));
+            }
+        assertThat(cqc.getDeltaEventsMissed(), is(0L));
+
+        // only the changes were sent with the update events
+        long cbReceived = cqc.getEventBytesReceived() - cbBefore;
+        assertThat(cbReceived > 0L, is(true));
+        assertThat(cbReceived < (long) cItems * sValue.length(), is(true));
+
+        // subsequent deltas apply to the values produced by the previous ones
+        cache.put(0, sValue + "again");
+        Eventually.assertDeferred(() -> cqc.get(0), is(sValue + "again"));
+        assertThat(cqc.getDeltaEventsApplied(), is((long) cItems + 1));
+
+        cache.remove(1);
+        Eventually.assertDeferred(() -> cqc.containsKey(1), is(false));
+
+        cqc.release();
+        }
+
+    @Test
+    public void shouldIgnoreDeltaEventsForObjectView()
+        {
+        NamedCache<Integer, String> cache = CacheFactory.getCache("test-delta-object");
+        cache.put(0, "value-0");
+
+        ContinuousQueryCache<Integer, String, String> cqc = new ContinuousQueryCache<>(cache, AlwaysFilter.INSTANCE());
+        cqc.setDeltaEvents(true);
+        assertThat(cqc.get(0), is("value-0"));
+
+        cache.put(0, "value-1");
+        Eventually.assertDeferred(() -> cqc.get(0), is("value-1"));
+
+        cache.put(0, "value-2");
+        Eventually.assertDeferred(() -> cqc.get(0), is("value-2"));
+        assertThat(cqc.getDeltaEventsApplied(), is(0L));
+
+        cqc.release();
+        }
+
     // ----- inner class: TestValueUpdater ----------------------------------
 
     /**
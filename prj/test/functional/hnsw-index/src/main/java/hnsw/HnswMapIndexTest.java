@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package hnsw;
+
+import com.oracle.coherence.ai.Float32Vector;
+import com.oracle.coherence.ai.Vector;
+import com.oracle.coherence.ai.hnsw.HnswIndex;
+import com.oracle.coherence.ai.search.BinaryQueryResult;
+import com.oracle.coherence.ai.util.Vectors;
+
+import com.tangosol.net.BackingMapContext;
+import com.tangosol.net.BackingMapManagerContext;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.ValueExtractor;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the {@link HnswIndex.HnswMapIndex} build and snapshot support.
+ *
+ * @author coh  2026.10.16
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class HnswMapIndexTest
+    {
+    @AfterEach
+    public void cleanup()
+        {
+        System.clearProperty(HnswIndex.PROP_SNAPSHOT_DIR);
+        }
+
+    @Test
+    public void shouldBuildAndGrowIndex()
+        {
+        HnswIndex<Integer, Vector<float[]>> index    = new HnswIndex<Integer, Vector<float[]>>(ValueExtractor.identity(), DIMENSIONS).setMaxElements(16);
+        HnswIndex.HnswMapIndex              mapIndex = createMapIndex(index);
+        float[][]                           aVector  = randomVectors(COUNT);
+
+        for (int i = 0; i < COUNT; i++)
+            {
+            mapIndex.insert(entry(i, aVector[i]));
+            }
+
+        assertThat(mapIndex.size(), is(COUNT));
+        assertThat(nearest(mapIndex, aVector[42]), is(key(42)));
+        }
+
+    @Test
+    public void shouldRecoverFromSnapshot() throws IOException
+        {
+        Path dir = Files.createTempDirectory("hnsw");
+        System.setProperty(HnswIndex.PROP_SNAPSHOT_DIR, dir.toString());
+        try
+            {
+            HnswIndex<Integer, Vector<float[]>> index    = new HnswIndex<>(ValueExtractor.identity(), DIMENSIONS);
+            HnswIndex.HnswMapIndex              mapIndex = createMapIndex(index);
+            float[][]                           aVector  = randomVectors(COUNT);
+
+            for (int i = 0; i < COUNT; i++)
+                {
+                mapIndex.insert(entry(i, aVector[i]));
+                }
+            assertThat(nearest(mapIndex, aVector[7]), is(key(7)));
+            assertThat(mapIndex.snapshot(), is(true));
+
+            // rebuild the index, with one entry removed and one entry changed
+            HnswIndex.HnswMapIndex mapRecovered = createMapIndex(index);
+            float[]                vectorNew    = randomVectors(1)[0];
+            for (int i = 0; i < COUNT; i++)
+                {
+                if (i != 7)
+                    {
+                    mapRecovered.insert(entry(i, i == 11 ? vectorNew : aVector[i]));
+                    }
+                }
+
+            assertThat(mapRecovered.size(), is(COUNT - 1));
+            assertThat(nearest(mapRecovered, aVector[7]), is(not(key(7))));
+            assertThat(nearest(mapRecovered, vectorNew), is(key(11)));
+            assertThat(nearest(mapRecovered, aVector[42]), is(key(42)));
+            }
+        finally
+            {
+            deleteRecursively(dir.toFile());
+            }
+        }
+
+    @Test
+    public void shouldRemoveVectorUpdatedToNull()
+        {
+        HnswIndex<Integer, Vector<float[]>> index    = new HnswIndex<>(ValueExtractor.identity(), DIMENSIONS);
+        HnswIndex.HnswMapIndex              mapIndex = createMapIndex(index);
+        float[][]                           aVector  = randomVectors(COUNT);
+
+        for (int i = 0; i < COUNT; i++)
+            {
+            mapIndex.insert(entry(i, aVector[i]));
+            }
+
+        // one entry is removed while still buffered, one after the build
+        mapIndex.update(entry(7, null));
+        assertThat(nearest(mapIndex, aVector[42]), is(key(42)));
+        mapIndex.update(entry(42, null));
+
+        assertThat(mapIndex.size(), is(COUNT - 2));
+        assertThat(nearest(mapIndex, aVector[7]), is(not(key(7))));
+        assertThat(nearest(mapIndex, aVector[42]), is(not(key(42))));
+
+        BinaryQueryResult[] aResult = mapIndex.query(new Float32Vector(aVector[42]), 10, null);
+        assertThat(aResult.length, is(10));
+        for (BinaryQueryResult result : aResult)
+            {
+            assertThat(result.getKey(), is(notNullValue()));
+            }
+
+        // the removed entries can be added back
+        mapIndex.update(entry(42, aVector[42]));
+        assertThat(nearest(mapIndex, aVector[42]), is(key(42)));
+        }
+
+    @Test
+    public void shouldDeleteUpdatedVector()
+        {
+        HnswIndex<Integer, Vector<float[]>> index    = new HnswIndex<>(ValueExtractor.identity(), DIMENSIONS);
+        HnswIndex.HnswMapIndex              mapIndex = createMapIndex(index);
+        float[][]                           aVector  = randomVectors(COUNT);
+
+        for (int i = 0; i < COUNT; i++)
+            {
+            mapIndex.insert(entry(i, aVector[i]));
+            }
+        assertThat(nearest(mapIndex, aVector[11]), is(key(11)));
+
+        float[] vectorNew = randomVectors(1)[0];
+        mapIndex.update(entry(11, vectorNew));
+        assertThat(nearest(mapIndex, vectorNew), is(key(11)));
+
+        mapIndex.delete(entry(11, vectorNew));
+        assertThat(mapIndex.size(), is(COUNT - 1));
+        assertThat(nearest(mapIndex, vectorNew), is(not(key(11))));
+        assertThat(nearest(mapIndex, aVector[11]), is(not(key(11))));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    protected static HnswIndex.HnswMapIndex createMapIndex(HnswIndex<Integer, Vector<float[]>> index)
+        {
+        BackingMapManagerContext ctxManager = mock(BackingMapManagerContext.class);
+        BackingMapContext        ctx        = mock(BackingMapContext.class);
+
+        when(ctx.getCacheName()).thenReturn("vectors");
+        when(ctx.getManagerContext()).thenReturn(ctxManager);
+        when(ctxManager.getKeyPartition(any())).thenReturn(0);
+        when(ctx.getReadOnlyEntry(any())).thenAnswer(inv -> readOnlyEntry(inv.getArgument(0)));
+
+        return (HnswIndex.HnswMapIndex) index.createIndex(false, null, new HashMap<>(), ctx);
+        }
+
+    protected static BinaryEntry entry(int nKey, float[] vector)
+        {
+        BinaryEntry entry = mock(BinaryEntry.class);
+        Vector      value = vector == null ? null : new Float32Vector(vector);
+
+        when(entry.getBinaryKey()).thenReturn(key(nKey));
+        when(entry.getValue()).thenReturn(value);
+        when(entry.extract(any())).thenReturn(value);
+        return entry;
+        }
+
+    protected static BinaryEntry readOnlyEntry(Binary binKey)
+        {
+        BinaryEntry entry = mock(BinaryEntry.class);
+        when(entry.asBinaryEntry()).thenReturn(entry);
+        when(entry.getBinaryKey()).thenReturn(binKey);
+        when(entry.getBinaryValue()).thenReturn(binKey);
+        return entry;
+        }
+
+    protected static Binary nearest(HnswIndex.HnswMapIndex mapIndex, float[] vector)
+        {
+        BinaryQueryResult[] aResult = mapIndex.query(new Float32Vector(vector), 1, null);
+        return aResult[0].getKey();
+        }
+
+    protected static Binary key(int nKey)
+        {
+        return ExternalizableHelper.toBinary(nKey);
+        }
+
+    protected static float[][] randomVectors(int cVectors)
+        {
+        float[][] aVector = new float[cVectors][];
+        for (int i = 0; i < cVectors; i++)
+            {
+            float[] vector = new float[DIMENSIONS];
+            for (int j = 0; j < DIMENSIONS; j++)
+                {
+                vector[j] = RANDOM.nextFloat();
+                }
+            aVector[i] = Vectors.normalize(vector);
+            }
+        return aVector;
+        }
+
+    protected static void deleteRecursively(File file)
+        {
+        File[] aFile = file.listFiles();
+        if (aFile != null)
+            {
+            for (File child : aFile)
+                {
+                deleteRecursively(child);
+                }
+            }
+        file.delete();
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    private static final int DIMENSIONS = 64;
+
+    private static final int COUNT = 5000;
+
+    private static final Random RANDOM = new Random(42);
+    }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -1266,6 +1266,109 @@ public class ReadWriteBackingMapTests
             }
         }
 
+    /**
+    * Test the behavior of the ReadWriteBackingMap/WriteBehind when the
+    * batches are written by multiple flush threads.
+    */
+    @Test
+    public void testParallelWriteBehindFlush()
+        {
+        testParallelWriteBehindFlush("dist-rwbm-wb");
+        testParallelWriteBehindFlush("dist-rwbm-wb-bin");
+        }
+
+    private void testParallelWriteBehindFlush(String sCacheName)
+        {
+        NamedCache          cache    = getNamedCache(sCacheName);
+        ReadWriteBackingMap rwbm     = getReadWriteBackingMap(cache);
+        AbstractTestStore   store    = getStore(cache);
+        ObservableMap       mapStore = store.getStorageMap();
+        Map                 buffer   = new HashMap();
+
+        rwbm.flush();
+
+        // configure the RWBM
+        rwbm.setWriteBehindSeconds(1);
+        rwbm.setWriteThreadCount(4);
+        rwbm.setWriteMaxBatchSize(16);
+        rwbm.setWriteBatchTargetMillis(50L);
+        store.setDurationStore(10L); // store duration = 10ms
+
+        try
+            {
+            mapStore.clear();
+            store.resetStats();
+            for (int i = 0; i < 1000; i++)
+                {
+                buffer.put(i, i);
+                }
+            cache.putAll(buffer);
+
+            // updates of the queued entries are coalesced and written in order
+            for (int i = 0; i < 100; i++)
+                {
+                cache.put(i, -i);
+                }
+
+            Eventually.assertThat(invoking(mapStore).size(), is(1000));
+            Eventually.assertDeferred(() -> rwbm.getWriteBatchesInFlight(), is(0));
+
+            for (int i = 0; i < 100; i++)
+                {
+                assertEquals(Integer.valueOf(-i), mapStore.get(i));
+                }
+            assertEquals(0, rwbm.getWriteQueueAgeMillis());
+            assertTrue(rwbm.getWriteQueue().isFlushed());
+            }
+        finally
+            {
+            cache.destroy();
+            }
+        }
+
+    /**
+    * Test that the batches dispatched to the flush threads are written when
+    * the ReadWriteBackingMap is released.
+    */
+    @Test
+    public void testParallelWriteBehindRelease()
+        {
+        NamedCache          cache    = getNamedCache("dist-rwbm-wb");
+        ReadWriteBackingMap rwbm     = getReadWriteBackingMap(cache);
+        AbstractTestStore   store    = getStore(cache);
+        ObservableMap       mapStore = store.getStorageMap();
+        Map                 buffer   = new HashMap();
+
+        rwbm.flush();
+
+        rwbm.setWriteBehindSeconds(1);
+        rwbm.setWriteThreadCount(4);
+        rwbm.setWriteMaxBatchSize(4);
+        store.setDurationStore(50L); // store duration = 50ms
+
+        try
+            {
+            mapStore.clear();
+            store.resetStats();
+            for (int i = 0; i < 200; i++)
+                {
+                buffer.put(i, i);
+                }
+            cache.putAll(buffer);
+
+            // release while the flush threads hold a backlog of batches
+            Eventually.assertDeferred(() -> rwbm.getWriteBatchesInFlight() > 1, is(true));
+            rwbm.release();
+
+            assertEquals(200, mapStore.size());
+            assertEquals(0, rwbm.getWriteBatchesInFlight());
+            }
+        finally
+            {
+            cache.destroy();
+            }
+        }
+
     /**
     * Test the behavior of the ReadWriteBackingMap with PreloadRequest entry
     * processor (COH-2795, COH-2892)
@@ -2666,6 +2769,8 @@ public class ReadWriteBackingMapTests
             assertEquals(rwbm.getCacheStoreTimeoutMillis(), 0);
             assertTrue(rwbm.isRethrowExceptions());
             assertFalse(rwbm.isWriteBehindRemove());
+            assertEquals(rwbm.getWriteThreadCount(), 1);
+            assertEquals(rwbm.getWriteBatchTargetMillis(), 0);
             }
         finally
             {
@@ -2733,6 +2838,8 @@ public class ReadWriteBackingMapTests
             assertEquals(rwbm.getCacheStoreTimeoutMillis(), 20 * 1000);
             assertFalse(rwbm.isRethrowExceptions());
             assertFalse(rwbm.isWriteBehindRemove());
+            assertEquals(rwbm.getWriteThreadCount(), 4);
+            assertEquals(rwbm.getWriteBatchTargetMillis(), 2 * 1000);
             }
         finally
             {
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package topics;
+
+import com.oracle.bedrock.runtime.LocalPlatform;
+
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+
+import com.tangosol.internal.net.topic.NamedTopicSubscriber;
+
+import com.tangosol.net.Coherence;
+import com.tangosol.net.Session;
+
+import com.tangosol.net.metrics.Snapshot;
+
+import com.tangosol.net.topic.NamedTopic;
+import com.tangosol.net.topic.Publisher;
+import com.tangosol.net.topic.Subscriber;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.junit.rules.TestName;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.tangosol.internal.net.topic.NamedTopicSubscriber.withPrefetch;
+
+import static com.tangosol.net.topic.Subscriber.completeOnEmpty;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Tests for fetching topic elements ahead of receive requests, and for the
+ * end-to-end latency statistics of a {@link NamedTopicSubscriber}.
+ *
+ * @author coh  2026.10.17
+ */
+@SuppressWarnings("unchecked")
+public class TopicSubscriberPrefetchTests
+    {
+    // ----- test lifecycle methods -----------------------------------------
+
+    @BeforeClass
+    public static void setup() throws Exception
+        {
+        String sHost = LocalPlatform.get().getLoopbackAddress().getHostAddress();
+
+        System.setProperty("coherence.wka", sHost);
+        System.setProperty("coherence.localhost", sHost);
+        System.setProperty("coherence.cacheconfig", "topic-cache-config.xml");
+
+        m_session = Coherence.clusterMember().startAndWait().getSession();
+        }
+
+    @AfterClass
+    public static void cleanup()
+        {
+        Coherence.closeAll();
+        }
+
+    // ----- test methods ---------------------------------------------------
+
+    @Test
+    public void shouldFetchAheadOfReceiveRequests() throws Exception
+        {
+        NamedTopic<String> topic = m_session.getTopic(getTopicName());
+
+        try (NamedTopicSubscriber<String> subscriber = (NamedTopicSubscriber<String>) topic.createSubscriber(withPrefetch(10));
+             Publisher<String>            publisher  = topic.createPublisher())
+            {
+            // wait for the subscriber to connect and own its channels
+            Eventually.assertDeferred(subscriber::isConnected, is(true));
+            Eventually.assertDeferred(() -> subscriber.getChannels().length, is(greaterThan(0)));
+
+            CompletableFuture<Subscriber.Element<String>> future = subscriber.receive();
+            publisher.publish("element-0").get(1, TimeUnit.MINUTES);
+            assertThat(future.get(1, TimeUnit.MINUTES).getValue(), is("element-0"));
+
+            // the subscriber is idle, so the new elements are fetched ahead of
+            // the receive requests
+            for (int i = 1; i <= COUNT; i++)
+                {
+                publisher.publish("element-" + i).get(1, TimeUnit.MINUTES);
+                }
+
+            Eventually.assertDeferred(subscriber::getPrefetchCount, is(greaterThan(0L)));
+
+            // the fetched elements are received in order, without any lost or duplicated
+            for (int i = 1; i <= COUNT; i++)
+                {
+                assertThat(subscriber.receive().get(1, TimeUnit.MINUTES).getValue(), is("element-" + i));
+                }
+            }
+        }
+
+    @Test
+    public void shouldNotFetchAheadWithZeroPrefetch() throws Exception
+        {
+        NamedTopic<String> topic = m_session.getTopic(getTopicName());
+
+        try (NamedTopicSubscriber<String> subscriber = (NamedTopicSubscriber<String>) topic.createSubscriber(withPrefetch(0));
+             Publisher<String>            publisher  = topic.createPublisher())
+            {
+            Eventually.assertDeferred(subscriber::isConnected, is(true));
+
+            for (int i = 0; i < COUNT; i++)
+                {
+                publisher.publish("element-" + i).get(1, TimeUnit.MINUTES);
+                }
+
+            // give an idle subscriber the chance to fetch ahead
+            Thread.sleep(IDLE_MILLIS);
+            assertThat(subscriber.getPrefetchCount(), is(0L));
+
+            for (int i = 0; i < COUNT; i++)
+                {
+                assertThat(subscriber.receive().get(1, TimeUnit.MINUTES).getValue(), is("element-" + i));
+                }
+
+            assertThat(subscriber.getPrefetchCount(), is(0L));
+            }
+        }
+
+    @Test
+    public void shouldNotFetchAheadWhenCompleteOnEmpty() throws Exception
+        {
+        NamedTopic<String> topic = m_session.getTopic(getTopicName());
+
+        try (NamedTopicSubscriber<String> subscriber = (NamedTopicSubscriber<String>)
+                     topic.createSubscriber(withPrefetch(10), completeOnEmpty());
+             Publisher<String>            publisher  = topic.createPublisher())
+            {
+            Eventually.assertDeferred(subscriber::isConnected, is(true));
+
+            for (int i = 0; i < COUNT; i++)
+                {
+                publisher.publish("element-" + i).get(1, TimeUnit.MINUTES);
+                }
+
+            Thread.sleep(IDLE_MILLIS);
+            assertThat(subscriber.getPrefetchCount(), is(0L));
+
+            for (int i = 0; i < COUNT; i++)
+                {
+                assertThat(subscriber.receive().get(1, TimeUnit.MINUTES).getValue(), is("element-" + i));
+                }
+
+            // the subscriber still sees the empty topic
+            assertThat(subscriber.receive().get(1, TimeUnit.MINUTES), is(nullValue()));
+            assertThat(subscriber.getPrefetchCount(), is(0L));
+            }
+        }
+
+    @Test
+    public void shouldRecordReceiveLatency() throws Exception
+        {
+        NamedTopic<String> topic = m_session.getTopic(getTopicName());
+
+        try (NamedTopicSubscriber<String> subscriber = (NamedTopicSubscriber<String>) topic.createSubscriber();
+             Publisher<String>            publisher  = topic.createPublisher())
+            {
+            for (int i = 0; i < COUNT; i++)
+                {
+                publisher.publish("element-" + i).get(1, TimeUnit.MINUTES);
+                }
+
+            // the elements stay in the topic for at least the delay
+            Thread.sleep(LATENCY_MILLIS);
+
+            for (int i = 0; i < COUNT; i++)
+                {
+                subscriber.receive().get(1, TimeUnit.MINUTES);
+                }
+
+            Eventually.assertDeferred(() -> subscriber.getReceiveLatency().size(), is(COUNT));
+
+            Snapshot snapshot = subscriber.getReceiveLatency();
+            assertThat(snapshot.getMax(), is(greaterThanOrEqualTo(LATENCY_MILLIS)));
+            assertThat(snapshot.getMedian(), is(greaterThanOrEqualTo((double) LATENCY_MILLIS)));
+            assertThat(snapshot.getMedian(), is(lessThanOrEqualTo((double) snapshot.getMax())));
+            assertThat(snapshot.get99thPercentile(), is(lessThanOrEqualTo((double) snapshot.getMax())));
+            }
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Return a unique topic name for the current test.
+     *
+     * @return a unique topic name for the current test
+     */
+    protected String getTopicName()
+        {
+        return "java-default-" + m_testName.getMethodName();
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The number of elements published by each test.
+     */
+    protected static final int COUNT = 20;
+
+    /**
+     * The minimum time the elements stay in the topic in the latency test.
+     */
+    protected static final long LATENCY_MILLIS = 500L;
+
+    /**
+     * The time an idle subscriber is given to fetch ahead of receive requests.
+     */
+    protected static final long IDLE_MILLIS = 1000L;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The session to obtain topics from.
+     */
+    protected static Session m_session;
+
+    @Rule
+    public TestName m_testName = new TestName();
+    }
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.coherence.performance.benchmarks.ai;
+
+import com.oracle.coherence.ai.BitVector;
+import com.oracle.coherence.ai.DistanceAlgorithm;
+import com.oracle.coherence.ai.Float32Vector;
+import com.oracle.coherence.ai.Int8Vector;
+import com.oracle.coherence.ai.Vector;
+
+import com.oracle.coherence.ai.distance.CosineDistance;
+import com.oracle.coherence.ai.distance.HammingDistance;
+import com.oracle.coherence.ai.distance.InnerProductDistance;
+import com.oracle.coherence.ai.distance.L2SquaredDistance;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark for the {@link DistanceAlgorithm} implementations, modelling
+ * the brute-force scan performed by a similarity search.
+ *
+ * <p>Each operation calculates the distance between a query vector and a batch
+ * of {@link #BATCH_SIZE} vectors. The {@code vectorized} method runs with the
+ * {@code jdk.incubator.vector} module, so that the Panama vectorization
+ * provider is used, while the {@code scalar} method runs without it and
+ * measures the scalar fallback of the same code path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+public class VectorDistanceBenchmark
+    {
+    // ----- benchmark methods ---------------------------------------------
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+    public double vectorized(BenchmarkState state)
+        {
+        return state.scan();
+        }
+
+    @Benchmark
+    @Fork(value = 1)
+    public double scalar(BenchmarkState state)
+        {
+        return state.scan();
+        }
+
+    // ----- inner class: benchmark state ----------------------------------
+
+    @State(Scope.Thread)
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static class BenchmarkState
+        {
+        // ----- benchmark parameters ----------------------------------
+
+        /**
+         * The number of vector dimensions.
+         */
+        @Param({"384", "768", "1024", "1536"})
+        public int dimensions;
+
+        /**
+         * The vector type.
+         */
+        @Param({"FLOAT32", "INT8", "BIT"})
+        public String type;
+
+        /**
+         * The distance algorithm.
+         */
+        @Param({"COSINE", "INNER_PRODUCT", "L2", "HAMMING"})
+        public String algorithm;
+
+        // ----- setup -------------------------------------------------
+
+        @Setup(Level.Trial)
+        public void setup()
+            {
+            switch (algorithm)
+                {
+                case "INNER_PRODUCT":
+                    m_algorithm = new InnerProductDistance<>();
+                    break;
+                case "L2":
+                    m_algorithm = new L2SquaredDistance<>();
+                    break;
+                case "HAMMING":
+                    m_algorithm = new HammingDistance<>();
+                    break;
+                default:
+                    m_algorithm = new CosineDistance<>();
+                    break;
+                }
+
+            Random rnd = new Random(42);
+            m_vector   = createVector(rnd);
+            m_aVector  = new Vector[BATCH_SIZE];
+            for (int i = 0; i < BATCH_SIZE; i++)
+                {
+                m_aVector[i] = createVector(rnd);
+                }
+            }
+
+        // ----- helpers -----------------------------------------------
+
+        /**
+         * Calculate the distance between the query vector and each vector of
+         * the batch.
+         *
+         * @return the sum of the distances
+         */
+        public double scan()
+            {
+            DistanceAlgorithm algorithm = m_algorithm;
+            Vector            vector    = m_vector;
+            double            dSum      = 0.0d;
+
+            for (Vector v : m_aVector)
+                {
+                dSum += algorithm.distance(vector, v);
+                }
+            return dSum;
+            }
+
+        /**
+         * Create a random vector of the configured type.
+         *
+         * @param rnd  the random number generator
+         *
+         * @return a random vector
+         */
+        private Vector createVector(Random rnd)
+            {
+            switch (type)
+                {
+                case "INT8":
+                    {
+                    byte[] ab = new byte[dimensions];
+                    rnd.nextBytes(ab);
+                    return new Int8Vector(ab);
+                    }
+                case "BIT":
+                    {
+                    BitSet bits = new BitSet(dimensions);
+                    for (int i = 0; i < dimensions; i++)
+                        {
+                        bits.set(i, rnd.nextBoolean());
+                        }
+                    return new BitVector(bits);
+                    }
+                default:
+                    {
+                    float[] af = new float[dimensions];
+                    for (int i = 0; i < dimensions; i++)
+                        {
+                        af[i] = rnd.nextFloat() * 2.0f - 1.0f;
+                        }
+                    return new Float32Vector(af);
+                    }
+                }
+            }
+
+        // ----- constants ---------------------------------------------
+
+        /**
+         * The number of vectors compared with the query vector per operation.
+         */
+        public static final int BATCH_SIZE = 1024;
+
+        // ----- data members ------------------------------------------
+
+        /**
+         * The algorithm under test.
+         */
+        private DistanceAlgorithm m_algorithm;
+
+        /**
+         * The query vector.
+         */
+        private Vector m_vector;
+
+        /**
+         * The vectors the query vector is compared with.
+         */
+        private Vector[] m_aVector;
+        }
+    }
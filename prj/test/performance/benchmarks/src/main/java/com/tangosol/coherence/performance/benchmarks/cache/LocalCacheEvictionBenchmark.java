@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.coherence.performance.benchmarks.cache;
+
+import com.tangosol.net.cache.LocalCache;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark comparing the {@link LocalCache} eviction policies on a
+ * read-through workload.
+ *
+ * <p>Each operation reads a key drawn from a scrambled Zipfian distribution
+ * and inserts it on a miss, so the average time includes the amortized cost
+ * of pruning. The hit rate of each policy is reported through the
+ * {@code hits} and {@code misses} auxiliary counters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+public class LocalCacheEvictionBenchmark
+    {
+    // ----- benchmark methods ---------------------------------------------
+
+    @Benchmark
+    public Object readThrough(BenchmarkState state, HitCounters counters)
+        {
+        Integer nKey  = state.nextKey();
+        Object  value = state.m_cache.get(nKey);
+        if (value == null)
+            {
+            counters.misses++;
+            state.m_cache.put(nKey, nKey);
+            return nKey;
+            }
+        counters.hits++;
+        return value;
+        }
+
+    // ----- inner class: benchmark state ----------------------------------
+
+    @State(Scope.Thread)
+    public static class BenchmarkState
+        {
+        // ----- benchmark parameters ----------------------------------
+
+        /**
+         * Eviction policy under test.
+         */
+        @Param({"HYBRID", "LRU", "LFU", "SAMPLED"})
+        public String policy;
+
+        /**
+         * Maximum number of cache entries.
+         */
+        @Param({"10000", "1000000"})
+        public int cacheSize;
+
+        /**
+         * Ratio of the key space to the cache size.
+         */
+        @Param({"10"})
+        public int keySpaceFactor;
+
+        /**
+         * Zipfian skew of the key distribution.
+         */
+        @Param({"0.8", "0.99"})
+        public double skew;
+
+        // ----- setup -------------------------------------------------
+
+        @Setup(Level.Trial)
+        public void setup()
+            {
+            int nType;
+            switch (policy)
+                {
+                case "LRU":
+                    nType = LocalCache.EVICTION_POLICY_LRU;
+                    break;
+                case "LFU":
+                    nType = LocalCache.EVICTION_POLICY_LFU;
+                    break;
+                case "SAMPLED":
+                    nType = LocalCache.EVICTION_POLICY_SAMPLED;
+                    break;
+                default:
+                    nType = LocalCache.EVICTION_POLICY_HYBRID;
+                    break;
+                }
+
+            m_cache = new LocalCache(cacheSize);
+            m_cache.setEvictionType(nType);
+
+            // pre-compute a trace of keys so that key generation is not
+            // part of the measured cost
+            Random    rnd   = new Random(42);
+            int       cKeys = cacheSize * keySpaceFactor;
+            Integer[] anKey = new Integer[TRACE_SIZE];
+            double    dflZeta = 0.0;
+            double[]  adflCdf = new double[Math.min(cKeys, MAX_CDF_SIZE)];
+
+            for (int i = 0; i < adflCdf.length; i++)
+                {
+                dflZeta   += 1.0 / Math.pow(i + 1, skew);
+                adflCdf[i] = dflZeta;
+                }
+
+            for (int i = 0; i < TRACE_SIZE; i++)
+                {
+                double dfl   = rnd.nextDouble() * dflZeta;
+                int    nRank = binarySearch(adflCdf, dfl);
+
+                // scramble the rank so that popular keys are spread across
+                // the hash table
+                anKey[i] = (int) ((nRank * 0x9E3779B97F4A7C15L) >>> 33) % cKeys;
+                }
+
+            m_anKey = anKey;
+
+            // warm the cache up to its capacity
+            for (int i = 0; i < cacheSize * 2; i++)
+                {
+                Integer nKey = nextKey();
+                m_cache.put(nKey, nKey);
+                }
+            }
+
+        // ----- helpers -----------------------------------------------
+
+        /**
+         * Return the next key of the trace.
+         *
+         * @return the next key
+         */
+        public Integer nextKey()
+            {
+            Integer[] anKey = m_anKey;
+            int       i     = m_iKey;
+            m_iKey = i + 1 == anKey.length ? 0 : i + 1;
+            return anKey[i];
+            }
+
+        private static int binarySearch(double[] adfl, double dfl)
+            {
+            int iLow  = 0;
+            int iHigh = adfl.length - 1;
+            while (iLow < iHigh)
+                {
+                int iMid = (iLow + iHigh) >>> 1;
+                if (adfl[iMid] < dfl)
+                    {
+                    iLow = iMid + 1;
+                    }
+                else
+                    {
+                    iHigh = iMid;
+                    }
+                }
+            return iLow;
+            }
+
+        // ----- constants ---------------------------------------------
+
+        /**
+         * The number of pre-computed keys.
+         */
+        private static final int TRACE_SIZE = 1 << 22;
+
+        /**
+         * The maximum number of distinct ranks in the distribution.
+         */
+        private static final int MAX_CDF_SIZE = 1 << 24;
+
+        // ----- data members ------------------------------------------
+
+        /**
+         * The cache under test.
+         */
+        protected LocalCache m_cache;
+
+        /**
+         * The key trace.
+         */
+        private Integer[] m_anKey;
+
+        /**
+         * The position in the key trace.
+         */
+        private int m_iKey;
+        }
+
+    // ----- inner class: hit counters -------------------------------------
+
+    /**
+     * Hit and miss counters reported as secondary results.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HitCounters
+        {
+        @Setup(Level.Iteration)
+        public void reset()
+            {
+            hits   = 0;
+            misses = 0;
+            }
+
+        public long hits;
+
+        public long misses;
+        }
+    }
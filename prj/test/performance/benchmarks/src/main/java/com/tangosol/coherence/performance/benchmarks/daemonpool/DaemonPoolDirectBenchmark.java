@@ -37,12 +37,20 @@ import org.openjdk.jmh.annotations.Warmup;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Direct daemon-pool benchmark that bypasses cache, service messaging, and
  * partition dispatch. It compares the worker-pool implementations by submitting
  * small batches of latch-countdown tasks directly to the selected pool.
+ * <p>
+ * The {@code stealing} pool mode runs the platform pool with per-worker
+ * deques and work stealing enabled. The {@code mixed} association submits
+ * every other task against a single hot association key, so that the worker
+ * owning that key is kept busy while the unassociated tasks are balanced
+ * across the remaining workers. Use {@code submitOneLatency} to compare the
+ * tail latency (p99/p99.9) of the pool modes.
  *
  * @author Aleks Seovic  2026.04.25
  * @since 26.04
@@ -71,18 +79,27 @@ public class DaemonPoolDirectBenchmark
         return state.submitOne();
         }
 
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int submitOneLatency(BenchmarkState state)
+            throws Exception
+        {
+        return state.submitOne();
+        }
+
     // ----- inner class: BenchmarkState -----------------------------------
 
     @State(Scope.Benchmark)
     public static class BenchmarkState
         {
-        @Param({"platform", "virtual"})
+        @Param({"platform", "stealing", "virtual"})
         public String poolMode;
 
-        @Param({"associated", "unassociated"})
+        @Param({"associated", "unassociated", "mixed"})
         public String association;
 
-        @Param({"4"})
+        @Param({"4", "64"})
         public int workerThreads;
 
         @Param({"256"})
@@ -93,9 +110,11 @@ public class DaemonPoolDirectBenchmark
             {
             m_mapPreviousProperties = BenchmarkProperties.capture(
                     "coherence.cluster",
+                    "coherence.daemonpool.stealing",
                     "coherence.log.level");
 
             System.setProperty("coherence.cluster", "dpb-direct-" + clusterModeTag() + '-' + UUID.randomUUID());
+            System.setProperty("coherence.daemonpool.stealing", Boolean.toString(isStealingMode()));
             System.setProperty("coherence.log.level", "2");
 
             verifyVirtualThreadRuntime();
@@ -164,11 +183,10 @@ public class DaemonPoolDirectBenchmark
                 throws InterruptedException
             {
             CountDownLatch latch = new CountDownLatch(BATCH_SIZE);
-            boolean        fAssociated = isAssociated();
 
             for (int i = 0; i < BATCH_SIZE; i++)
                 {
-                m_pool.add(fAssociated
+                m_pool.add(isAssociated(i)
                         ? new AssociatedLatchTask(latch, ASSOCIATED_KEY)
                         : new LatchTask(latch));
                 }
@@ -187,7 +205,7 @@ public class DaemonPoolDirectBenchmark
                 throws InterruptedException
             {
             CountDownLatch latch = new CountDownLatch(1);
-            m_pool.add(isAssociated()
+            m_pool.add(isAssociated(ThreadLocalRandom.current().nextInt())
                     ? new AssociatedLatchTask(latch, ASSOCIATED_KEY)
                     : new LatchTask(latch));
 
@@ -200,14 +218,20 @@ public class DaemonPoolDirectBenchmark
             return 1;
             }
 
-        private boolean isAssociated()
+        private boolean isAssociated(int iTask)
             {
-            return "associated".equalsIgnoreCase(association);
+            return "associated".equalsIgnoreCase(association)
+                    || "mixed".equalsIgnoreCase(association) && (iTask & 1) == 0;
             }
 
         private boolean isPlatformMode()
             {
-            return "platform".equalsIgnoreCase(poolMode);
+            return "platform".equalsIgnoreCase(poolMode) || isStealingMode();
+            }
+
+        private boolean isStealingMode()
+            {
+            return "stealing".equalsIgnoreCase(poolMode);
             }
 
         private boolean isVirtualMode()
@@ -222,6 +246,11 @@ public class DaemonPoolDirectBenchmark
 
         private String clusterModeTag()
             {
+            if (isStealingMode())
+                {
+                return "s";
+                }
+
             if (isPlatformMode())
                 {
                 return "p";
@@ -236,7 +265,12 @@ public class DaemonPoolDirectBenchmark
                 {
                 if (m_pool instanceof Service.VirtualDaemonPool)
                     {
-                    throw new IllegalStateException("poolMode=platform selected VirtualDaemonPool.");
+                    throw new IllegalStateException("poolMode=" + poolMode + " selected VirtualDaemonPool.");
+                    }
+                if (m_pool.isWorkStealingEnabled() != isStealingMode())
+                    {
+                    throw new IllegalStateException("poolMode=" + poolMode + " selected a pool with workStealing="
+                            + m_pool.isWorkStealingEnabled() + '.');
                     }
                 return;
                 }
@@ -271,6 +305,7 @@ public class DaemonPoolDirectBenchmark
             System.out.println("DaemonPoolDirectBenchmark[" + sPhase + "]"
                     + " poolMode=" + poolMode
                     + ", association=" + association
+                    + ", workerThreads=" + workerThreads
                     + ", daemonCount=" + pool.getDaemonCount()
                     + ", backlog=" + pool.getBacklog()
                     + ", taskCount=" + pool.getStatsTaskAddCount()
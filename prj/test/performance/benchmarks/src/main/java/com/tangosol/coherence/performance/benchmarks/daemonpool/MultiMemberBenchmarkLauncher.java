@@ -132,6 +132,12 @@ public class MultiMemberBenchmarkLauncher
             {
             listCommand.add("-Dcoherence.daemonpool.virtual.benchmark.mailboxStats=true");
             }
+        listCommand.add("-Dcoherence.daemonpool.stealing=" + config.isWorkStealing());
+        if (config.getWorkerThreadCount() > 0)
+            {
+            listCommand.add("-Dcoherence.distributed.threads.min=" + config.getWorkerThreadCount());
+            listCommand.add("-Dcoherence.distributed.threads.max=" + config.getWorkerThreadCount());
+            }
         listCommand.add("-Dcoherence.distributed.localstorage=" + fStorage);
         listCommand.add("-Dcoherence.localhost=127.0.0.1");
         listCommand.add("-Dcoherence.log.level=" + config.getLogLevel());
@@ -233,6 +239,7 @@ public class MultiMemberBenchmarkLauncher
                     "dpb-mm-" + UUID.randomUUID());
             config.m_sPoolMode = map.getOrDefault("poolMode", "platform");
             config.m_cStorageMembers = Integer.parseInt(map.getOrDefault("storageMembers", "3"));
+            config.m_cWorkerThreads = Integer.parseInt(map.getOrDefault("workerThreads", "0"));
             config.m_pathOutputDirectory = Path.of(map.getOrDefault("outputDir",
                     "target/benchmark-jfr/harness/" + config.m_sClusterName));
             config.m_sCacheConfig = map.getOrDefault("cacheConfig", DEFAULT_CACHE_CONFIG);
@@ -273,6 +280,16 @@ public class MultiMemberBenchmarkLauncher
             return "virtual".equalsIgnoreCase(m_sPoolMode);
             }
 
+        public boolean isWorkStealing()
+            {
+            return "stealing".equalsIgnoreCase(m_sPoolMode);
+            }
+
+        public int getWorkerThreadCount()
+            {
+            return m_cWorkerThreads;
+            }
+
         public int getStorageMemberCount()
             {
             return m_cStorageMembers;
@@ -366,6 +383,7 @@ public class MultiMemberBenchmarkLauncher
         private String   m_sClusterName;
         private String   m_sPoolMode;
         private int      m_cStorageMembers;
+        private int      m_cWorkerThreads;
         private Path     m_pathOutputDirectory;
         private String   m_sCacheConfig;
         private String   m_sOverrideConfig;
@@ -63,9 +63,13 @@ import jdk.jfr.Recording;
 @State(Scope.Benchmark)
 public abstract class MultiMemberBenchmarkState
     {
-    @Param({"platform", "virtual"})
+    @Param({"platform", "stealing", "virtual"})
     public String poolMode;
 
+    // zero keeps the configured service thread count
+    @Param({"0", "64"})
+    public int workerThreads;
+
     @Param({"UNIFORM"})
     public String keyDistribution;
 
@@ -120,8 +124,11 @@ public abstract class MultiMemberBenchmarkState
                 "coherence.cacheconfig",
                 "coherence.benchmark.daemonpool",
                 "coherence.cluster",
+                "coherence.daemonpool.stealing",
                 "coherence.daemonpool.virtual.benchmark.mailboxStats",
                 "coherence.distributed.localstorage",
+                "coherence.distributed.threads.max",
+                "coherence.distributed.threads.min",
                 "coherence.grpc.enabled",
                 "coherence.grpc.server.address",
                 "coherence.grpc.server.port",
@@ -308,6 +315,17 @@ public abstract class MultiMemberBenchmarkState
         System.setProperty("coherence.cacheconfig", driverCacheConfig());
         System.setProperty("coherence.benchmark.daemonpool", isVirtualMode() ? "virtual" : "platform");
         System.setProperty("coherence.cluster", m_sClusterName);
+        System.setProperty("coherence.daemonpool.stealing", Boolean.toString(isWorkStealingMode()));
+        if (workerThreads > 0)
+            {
+            System.setProperty("coherence.distributed.threads.min", Integer.toString(workerThreads));
+            System.setProperty("coherence.distributed.threads.max", Integer.toString(workerThreads));
+            }
+        else
+            {
+            System.clearProperty("coherence.distributed.threads.min");
+            System.clearProperty("coherence.distributed.threads.max");
+            }
         if (isVirtualMode())
             {
             System.setProperty("coherence.daemonpool.virtual.benchmark.mailboxStats", "true");
@@ -335,6 +353,7 @@ public abstract class MultiMemberBenchmarkState
             "cluster=" + m_sClusterName,
             "poolMode=" + poolMode,
             "storageMembers=" + storageMembers,
+            "workerThreads=" + workerThreads,
             "cacheConfig=" + SERVER_CACHE_CONFIG,
             "overrideConfig=" + OVERRIDE_CONFIG,
             "outputDir=" + m_pathOutputDirectory,
@@ -378,6 +397,11 @@ public abstract class MultiMemberBenchmarkState
         return "virtual".equalsIgnoreCase(poolMode);
         }
 
+    private boolean isWorkStealingMode()
+        {
+        return "stealing".equalsIgnoreCase(poolMode);
+        }
+
     private boolean isRemoteClientTopology()
         {
         return isExtendTopology() || isGrpcTopology();
@@ -415,7 +439,7 @@ public abstract class MultiMemberBenchmarkState
 
     private String clusterModeTag()
         {
-        return isVirtualMode() ? "v" : "p";
+        return isVirtualMode() ? "v" : isWorkStealingMode() ? "s" : "p";
         }
 
     private void preloadCache(NamedCache<Integer, Integer> cache, int cEntries)
@@ -560,6 +584,7 @@ public abstract class MultiMemberBenchmarkState
                 + ", persistenceMode=" + persistenceMode
                 + ", storageMembers=" + storageMembers
                 + ", virtualPool=" + isVirtualPool()
+                + ", workStealing=" + m_pool.isWorkStealingEnabled()
                 + ", daemonCount=" + m_pool.getDaemonCount()
                 + ", activeCount=" + m_pool.getActiveDaemonCount()
                 + ", backlog=" + m_pool.getBacklog()
@@ -575,6 +600,7 @@ public abstract class MultiMemberBenchmarkState
                 + ", mailboxBurstTasks=" + readPoolAtomicLong("getMailboxBurstTaskCount")
                 + ", mailboxBurstMean=" + readMailboxBurstMean()
                 + ", mailboxBurstMax=" + readPoolAtomicLong("getMailboxBurstMaxTasks")
+                + ", pinnedTasks=" + readPoolAtomicLong("getPinnedTaskCount")
                 + ", outputDir=" + m_pathOutputDirectory);
         }
 
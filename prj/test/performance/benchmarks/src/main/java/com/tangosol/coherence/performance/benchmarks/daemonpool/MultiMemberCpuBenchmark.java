@@ -46,6 +46,14 @@ public class MultiMemberCpuBenchmark
         return state.getCache().invoke(state.nextKey(), state.getCpuBoundProcessor());
         }
 
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int cpuBoundProcessorLatency(BenchmarkState state)
+        {
+        return cpuBoundProcessor(state);
+        }
+
     @State(Scope.Benchmark)
     public static class BenchmarkState
             extends MultiMemberBenchmarkState
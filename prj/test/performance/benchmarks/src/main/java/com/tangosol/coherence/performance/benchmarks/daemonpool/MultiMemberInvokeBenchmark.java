@@ -53,6 +53,14 @@ public class MultiMemberInvokeBenchmark
         return state.getCache().invoke(state.nextKey(), state.getSleepingProcessor());
         }
 
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int invokeSleepingProcessorLatency(BenchmarkState state)
+        {
+        return invokeSleepingProcessor(state);
+        }
+
     @State(Scope.Benchmark)
     public static class BenchmarkState
             extends MultiMemberBenchmarkState
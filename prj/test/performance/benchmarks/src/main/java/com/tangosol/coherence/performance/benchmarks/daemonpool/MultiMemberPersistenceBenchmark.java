@@ -44,6 +44,14 @@ public class MultiMemberPersistenceBenchmark
         return nPrevious == null ? -1 : nPrevious;
         }
 
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int putValuePersistenceLatency(BenchmarkState state)
+        {
+        return putValuePersistence(state);
+        }
+
     @State(Scope.Benchmark)
     public static class BenchmarkState
             extends MultiMemberBenchmarkState
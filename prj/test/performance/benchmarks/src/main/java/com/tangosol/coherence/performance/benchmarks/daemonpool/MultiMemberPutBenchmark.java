@@ -48,6 +48,14 @@ public class MultiMemberPutBenchmark
         return nPrevious == null ? -1 : nPrevious;
         }
 
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int putValueLatency(BenchmarkState state)
+        {
+        return putValue(state);
+        }
+
     @Benchmark
     public int putAllValues(BenchmarkState state)
         {
@@ -7,11 +7,9 @@
 
 package com.tangosol.coherence.performance.benchmarks.daemonpool.common;
 
+import com.tangosol.internal.util.VirtualThreadPinningMonitor;
+
 import jdk.jfr.consumer.RecordedEvent;
-import jdk.jfr.consumer.RecordedFrame;
-import jdk.jfr.consumer.RecordedMethod;
-import jdk.jfr.consumer.RecordedStackTrace;
-import jdk.jfr.consumer.RecordedThread;
 import jdk.jfr.consumer.RecordingFile;
 
 import java.io.IOException;
@@ -26,6 +24,8 @@ import java.util.List;
 
 /**
  * Parser for {@code jdk.VirtualThreadPinned} events in dumped JFR recordings.
+ * Events are formatted the same way as the in-process pinned-thread detection
+ * of the virtual daemon pool reports them (see {@link VirtualThreadPinningMonitor}).
  *
  * @author Aleks Seovic  2026.04.25
  * @since 26.04
@@ -100,62 +100,7 @@ public final class JfrPinnedThreadParser
 
     private static String formatEvent(RecordedEvent event)
         {
-        StringBuilder sb = new StringBuilder();
-        sb.append(PINNED_EVENT)
-                .append(" startTime=").append(event.getStartTime())
-                .append(", duration=").append(event.getDuration())
-                .append(", blockingOperation=").append(readString(event, "blockingOperation"))
-                .append(", pinnedReason=").append(readString(event, "pinnedReason"));
-
-        RecordedThread thread = event.getThread();
-        if (thread != null)
-            {
-            sb.append(", eventThread=").append(thread.getJavaName());
-            }
-
-        RecordedStackTrace stack = event.getStackTrace();
-        if (stack != null)
-            {
-            int cFrames = 0;
-            for (RecordedFrame frame : stack.getFrames())
-                {
-                if (cFrames++ >= MAX_STACK_FRAMES)
-                    {
-                    sb.append(System.lineSeparator()).append("  ...");
-                    break;
-                    }
-
-                RecordedMethod method = frame.getMethod();
-                if (method == null)
-                    {
-                    continue;
-                    }
-                sb.append(System.lineSeparator())
-                        .append("  at ")
-                        .append(method.getType().getName())
-                        .append('.')
-                        .append(method.getName());
-                int nLine = frame.getLineNumber();
-                if (nLine >= 0)
-                    {
-                    sb.append(':').append(nLine);
-                    }
-                }
-            }
-
-        return sb.toString();
-        }
-
-    private static String readString(RecordedEvent event, String sName)
-        {
-        try
-            {
-            return event.getString(sName);
-            }
-        catch (IllegalArgumentException e)
-            {
-            return "<unavailable>";
-            }
+        return VirtualThreadPinningMonitor.toPinnedEvent(event, MAX_STACK_FRAMES).toString();
         }
 
     public static class PinSummary
@@ -229,7 +174,7 @@ public final class JfrPinnedThreadParser
         private final List<String> f_listOutsideSamples;
         }
 
-    private static final String PINNED_EVENT     = "jdk.VirtualThreadPinned";
+    private static final String PINNED_EVENT     = VirtualThreadPinningMonitor.PINNED_EVENT;
     private static final int    MAX_SAMPLES      = 3;
-    private static final int    MAX_STACK_FRAMES = 24;
+    private static final int    MAX_STACK_FRAMES = VirtualThreadPinningMonitor.MAX_STACK_FRAMES;
     }
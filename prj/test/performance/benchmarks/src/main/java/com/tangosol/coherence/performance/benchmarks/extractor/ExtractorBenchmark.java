@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.coherence.performance.benchmarks.extractor;
+
+import com.tangosol.util.ValueExtractor;
+
+import com.tangosol.util.extractor.ChainedExtractor;
+import com.tangosol.util.extractor.ReflectionExtractor;
+import com.tangosol.util.extractor.UniversalExtractor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Method;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark comparing the extraction throughput of the reflection
+ * based extractors with plain {@link Method#invoke} and with lambda
+ * extractors, for JavaBean getters, record accessors and chained paths.
+ *
+ * <p>The {@code methodInvoke} benchmark is the cost of the reflective
+ * invocation that the extractors used before they were compiled, and the
+ * {@code lambda} benchmark is the cost of a direct call. Running with
+ * {@code -jvmArgsAppend -Dcoherence.extractor.compiled=false} disables the
+ * compiled invokers for comparison.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1)
+public class ExtractorBenchmark
+    {
+    // ----- benchmark methods ---------------------------------------------
+
+    @Benchmark
+    @OperationsPerInvocation(TARGET_COUNT)
+    public void universal(BenchmarkState state, Blackhole blackhole)
+        {
+        extract(state.m_extractorUniversal, state.m_aoTarget, blackhole);
+        }
+
+    @Benchmark
+    @OperationsPerInvocation(TARGET_COUNT)
+    public void reflection(BenchmarkState state, Blackhole blackhole)
+        {
+        extract(state.m_extractorReflection, state.m_aoTarget, blackhole);
+        }
+
+    @Benchmark
+    @OperationsPerInvocation(TARGET_COUNT)
+    public void lambda(BenchmarkState state, Blackhole blackhole)
+        {
+        extract(state.m_extractorLambda, state.m_aoTarget, blackhole);
+        }
+
+    @Benchmark
+    @OperationsPerInvocation(TARGET_COUNT)
+    public void methodInvoke(BenchmarkState state, Blackhole blackhole)
+            throws Exception
+        {
+        Method[] aMethod = state.m_aMethod;
+        for (Object oTarget : state.m_aoTarget)
+            {
+            Object oValue = oTarget;
+            for (Method method : aMethod)
+                {
+                oValue = method.invoke(oValue);
+                }
+            blackhole.consume(oValue);
+            }
+        }
+
+    // ----- helpers -------------------------------------------------------
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static void extract(ValueExtractor extractor, Object[] aoTarget, Blackhole blackhole)
+        {
+        for (Object oTarget : aoTarget)
+            {
+            blackhole.consume(extractor.extract(oTarget));
+            }
+        }
+
+    // ----- inner class: benchmark state ----------------------------------
+
+    @State(Scope.Thread)
+    public static class BenchmarkState
+        {
+        // ----- benchmark parameters ----------------------------------
+
+        /**
+         * The extraction path: a JavaBean getter, a record accessor, or
+         * a getter chained through a nested object.
+         */
+        @Param({"getter", "record", "chained"})
+        public String path;
+
+        // ----- setup -------------------------------------------------
+
+        @Setup(Level.Trial)
+        public void setup()
+                throws Exception
+            {
+            Object[] aoTarget = new Object[TARGET_COUNT];
+            for (int i = 0; i < TARGET_COUNT; i++)
+                {
+                Address address = new Address("Street " + i, "City " + (i % 64));
+                aoTarget[i] = "record".equals(path)
+                        ? new PersonRecord("Person " + i, i % 100, address)
+                        : new Person("Person " + i, i % 100, address);
+                }
+            m_aoTarget = aoTarget;
+
+            switch (path)
+                {
+                case "getter":
+                    m_extractorUniversal  = new UniversalExtractor<>("age");
+                    m_extractorReflection = new ReflectionExtractor<>("getAge");
+                    m_extractorLambda     = ValueExtractor.of(Person::getAge);
+                    m_aMethod             = new Method[] {Person.class.getMethod("getAge")};
+                    break;
+
+                case "record":
+                    m_extractorUniversal  = new UniversalExtractor<>("age");
+                    m_extractorReflection = new ReflectionExtractor<>("age");
+                    m_extractorLambda     = ValueExtractor.of(PersonRecord::age);
+                    m_aMethod             = new Method[] {PersonRecord.class.getMethod("age")};
+                    break;
+
+                case "chained":
+                    m_extractorUniversal  = UniversalExtractor.createExtractor("address.city");
+                    m_extractorReflection = new ChainedExtractor<>(new ReflectionExtractor<>("getAddress"),
+                                                                 new ReflectionExtractor<>("getCity"));
+                    m_extractorLambda     = ValueExtractor.of(Person::getAddress).andThen(Address::getCity);
+                    m_aMethod             = new Method[] {Person.class.getMethod("getAddress"),
+                                                          Address.class.getMethod("getCity")};
+                    break;
+
+                default:
+                    throw new IllegalArgumentException("Unknown path: " + path);
+                }
+            }
+
+        // ----- data members ------------------------------------------
+
+        /**
+         * The extraction targets.
+         */
+        protected Object[] m_aoTarget;
+
+        /**
+         * The {@link UniversalExtractor} (or chain of) under test.
+         */
+        protected ValueExtractor<?, ?> m_extractorUniversal;
+
+        /**
+         * The {@link ReflectionExtractor} (or chain of) under test.
+         */
+        protected ValueExtractor<?, ?> m_extractorReflection;
+
+        /**
+         * The equivalent lambda extractor.
+         */
+        protected ValueExtractor<?, ?> m_extractorLambda;
+
+        /**
+         * The methods invoked reflectively by the baseline.
+         */
+        protected Method[] m_aMethod;
+        }
+
+    // ----- inner class: Address ------------------------------------------
+
+    public static class Address
+        {
+        public Address(String sStreet, String sCity)
+            {
+            m_sStreet = sStreet;
+            m_sCity   = sCity;
+            }
+
+        public String getStreet()
+            {
+            return m_sStreet;
+            }
+
+        public String getCity()
+            {
+            return m_sCity;
+            }
+
+        private final String m_sStreet;
+
+        private final String m_sCity;
+        }
+
+    // ----- inner class: Person -------------------------------------------
+
+    public static class Person
+        {
+        public Person(String sName, int nAge, Address address)
+            {
+            m_sName   = sName;
+            m_nAge    = nAge;
+            m_address = address;
+            }
+
+        public String getName()
+            {
+            return m_sName;
+            }
+
+        public int getAge()
+            {
+            return m_nAge;
+            }
+
+        public Address getAddress()
+            {
+            return m_address;
+            }
+
+        private final String m_sName;
+
+        private final int m_nAge;
+
+        private final Address m_address;
+        }
+
+    // ----- inner class: PersonRecord -------------------------------------
+
+    public record PersonRecord(String name, int age, Address address)
+        {
+        }
+
+    // ----- constants -----------------------------------------------------
+
+    /**
+     * The number of targets extracted from per invocation.
+     */
+    public static final int TARGET_COUNT = 1024;
+    }
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.coherence.performance.benchmarks.persistence;
+
+import com.oracle.coherence.persistence.PersistentStore;
+
+import com.tangosol.io.FileHelper;
+import com.tangosol.io.ReadBuffer;
+
+import com.tangosol.persistence.AbstractPersistenceManager;
+
+import com.tangosol.persistence.bdb.BerkeleyDBManager;
+
+import com.tangosol.persistence.log.LogStructuredManager;
+
+import com.tangosol.util.Binary;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark comparing the BerkeleyDB and log-structured persistent
+ * stores on the write and read paths used by active persistence.
+ *
+ * <p>Each thread owns a store, as each partition does, and commits
+ * transactions of {@code batchSize} updates to keys drawn uniformly from a
+ * fixed key space, so that the log-structured store is measured with its
+ * background compaction running.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+public class PersistentStoreBenchmark
+    {
+    // ----- benchmark methods ---------------------------------------------
+
+    @Benchmark
+    public Object commit(BenchmarkState state)
+        {
+        PersistentStore<ReadBuffer> store  = state.m_store;
+        Object                      oToken = store.begin();
+        for (int i = 0; i < state.batchSize; i++)
+            {
+            store.store(EXTENT_ID, state.nextKey(), state.m_binValue, oToken);
+            }
+        store.commit(oToken);
+        return oToken;
+        }
+
+    @Benchmark
+    public ReadBuffer load(BenchmarkState state)
+        {
+        return state.m_store.load(EXTENT_ID, state.nextKey());
+        }
+
+    // ----- inner class: benchmark state ----------------------------------
+
+    @State(Scope.Thread)
+    public static class BenchmarkState
+        {
+        // ----- benchmark parameters ----------------------------------
+
+        /**
+         * Store implementation under test.
+         */
+        @Param({"bdb", "log"})
+        public String storeType;
+
+        /**
+         * Number of updates per transaction.
+         */
+        @Param({"1", "32"})
+        public int batchSize;
+
+        /**
+         * Size of each value in bytes.
+         */
+        @Param({"256", "4096"})
+        public int valueSize;
+
+        /**
+         * Number of distinct keys.
+         */
+        @Param({"100000"})
+        public int keyCount;
+
+        // ----- setup -------------------------------------------------
+
+        @Setup(Level.Trial)
+        public void setup()
+                throws IOException
+            {
+            m_dir     = FileHelper.createTempDir();
+            m_manager = "log".equals(storeType)
+                    ? new LogStructuredManager(m_dir, null, null)
+                    : new BerkeleyDBManager(m_dir, null, null);
+            m_store   = m_manager.open("benchmark", null);
+            m_store.ensureExtent(EXTENT_ID);
+
+            byte[] abValue = new byte[valueSize];
+            m_random.nextBytes(abValue);
+            m_binValue = new Binary(abValue);
+
+            Binary[] aBinKey = new Binary[keyCount];
+            for (int i = 0; i < keyCount; i++)
+                {
+                byte[] abKey = {(byte) (i >>> 24), (byte) (i >>> 16), (byte) (i >>> 8), (byte) i};
+                aBinKey[i] = new Binary(abKey);
+                }
+            m_aBinKey = aBinKey;
+
+            // populate the store so that loads hit and updates replace
+            Object oToken = m_store.begin();
+            for (int i = 0; i < keyCount; i++)
+                {
+                m_store.store(EXTENT_ID, aBinKey[i], m_binValue, oToken);
+                if (i % 1000 == 999)
+                    {
+                    m_store.commit(oToken);
+                    oToken = m_store.begin();
+                    }
+                }
+            m_store.commit(oToken);
+            }
+
+        @TearDown(Level.Trial)
+        public void tearDown()
+                throws IOException
+            {
+            m_manager.release();
+            FileHelper.deleteDir(m_dir);
+            }
+
+        // ----- helpers -----------------------------------------------
+
+        /**
+         * Return a random key.
+         *
+         * @return a random key
+         */
+        public Binary nextKey()
+            {
+            return m_aBinKey[m_random.nextInt(m_aBinKey.length)];
+            }
+
+        // ----- data members ------------------------------------------
+
+        /**
+         * The data directory of the manager.
+         */
+        private File m_dir;
+
+        /**
+         * The manager under test.
+         */
+        private AbstractPersistenceManager<?> m_manager;
+
+        /**
+         * The store under test.
+         */
+        private PersistentStore<ReadBuffer> m_store;
+
+        /**
+         * The keys.
+         */
+        private Binary[] m_aBinKey;
+
+        /**
+         * The value stored for every key.
+         */
+        private Binary m_binValue;
+
+        /**
+         * The random number generator used to pick keys.
+         */
+        private final Random m_random = new Random(42);
+        }
+
+    // ----- constants -----------------------------------------------------
+
+    /**
+     * The extent the benchmark operates on.
+     */
+    private static final long EXTENT_ID = 1L;
+    }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.util;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import java.util.List;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+
+/**
+ * Unit tests for {@link VirtualThreadPinningMonitor}.
+ *
+ * @author coh  2026.10.16
+ */
+public class VirtualThreadPinningMonitorTest
+    {
+    @Test
+    public void shouldDispatchToListenerMatchingPrefix()
+        {
+        List<VirtualThreadPinningMonitor.PinnedEvent> listA = new CopyOnWriteArrayList<>();
+        List<VirtualThreadPinningMonitor.PinnedEvent> listB = new CopyOnWriteArrayList<>();
+
+        VirtualThreadPinningMonitor.Listener listenerA = listA::add;
+        VirtualThreadPinningMonitor.Listener listenerB = listB::add;
+
+        VirtualThreadPinningMonitor.register("ServiceA:", listenerA);
+        VirtualThreadPinningMonitor.register("ServiceB:", listenerB);
+        try
+            {
+            VirtualThreadPinningMonitor.dispatch(event("ServiceA:D:Task:1"));
+            VirtualThreadPinningMonitor.dispatch(event("ServiceB:M:2"));
+            VirtualThreadPinningMonitor.dispatch(event("Other:D:Task:3"));
+            VirtualThreadPinningMonitor.dispatch(event(null));
+
+            assertThat(listA.size(), is(1));
+            assertThat(listA.get(0).getThreadName(), is("ServiceA:D:Task:1"));
+            assertThat(listB.size(), is(1));
+            assertThat(listB.get(0).getThreadName(), is("ServiceB:M:2"));
+            }
+        finally
+            {
+            VirtualThreadPinningMonitor.unregister("ServiceA:", listenerA);
+            VirtualThreadPinningMonitor.unregister("ServiceB:", listenerB);
+            }
+
+        VirtualThreadPinningMonitor.dispatch(event("ServiceA:D:Task:4"));
+        assertThat(listA.size(), is(1));
+        }
+
+    @Test
+    public void shouldFormatEvent()
+        {
+        String sEvent = event("ServiceA:D:Task:1").toString();
+
+        assertThat(sEvent, containsString(VirtualThreadPinningMonitor.PINNED_EVENT));
+        assertThat(sEvent, containsString("eventThread=ServiceA:D:Task:1"));
+        assertThat(sEvent, containsString("pinnedReason=Native or VM frame on stack"));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    protected static VirtualThreadPinningMonitor.PinnedEvent event(String sThread)
+        {
+        return new VirtualThreadPinningMonitor.PinnedEvent(sThread, Instant.now(), Duration.ofMillis(25),
+                "Native or VM frame on stack", "Object.wait", "");
+        }
+    }
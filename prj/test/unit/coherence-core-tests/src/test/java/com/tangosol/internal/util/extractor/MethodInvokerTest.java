@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.internal.util.extractor;
+
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit tests for {@link MethodInvoker}.
+ *
+ * @author coh  2026.10.16
+ */
+public class MethodInvokerTest
+    {
+    @Test
+    public void shouldInvokeBeanAccessor() throws Exception
+        {
+        Method        method  = Person.class.getMethod("getAge");
+        MethodInvoker invoker = MethodInvoker.of(method);
+
+        assertThat(invoker.isCompiled(), is(true));
+        assertThat(invoker.invoke(new Person("Aleks", 42), null), is(42));
+        assertThat(MethodInvoker.of(method), is(sameInstance(invoker)));
+        }
+
+    @Test
+    public void shouldInvokeRecordAccessor() throws Exception
+        {
+        MethodInvoker invoker = MethodInvoker.of(Point.class.getMethod("x"));
+
+        assertThat(invoker.isCompiled(), is(true));
+        assertThat(invoker.invoke(new Point(1.5d, 2.5d), new Object[0]), is(1.5d));
+        }
+
+    @Test
+    public void shouldInvokeMethodWithArguments() throws Exception
+        {
+        MethodInvoker invoker = MethodInvoker.of(Person.class.getMethod("greet", String.class, int.class));
+
+        assertThat(invoker.invoke(new Person("Aleks", 42), new Object[] {"Hi", 2}), is("Hi Aleks Hi Aleks"));
+        }
+
+    @Test
+    public void shouldInvokeInterfaceMethod() throws Exception
+        {
+        MethodInvoker invoker = MethodInvoker.of(List.class.getMethod("size"));
+
+        assertThat(invoker.invoke(List.of(1, 2, 3), null), is(3));
+        }
+
+    @Test
+    public void shouldWrapException() throws Exception
+        {
+        MethodInvoker invoker = MethodInvoker.of(Person.class.getMethod("getName"));
+
+        try
+            {
+            invoker.invoke(new Person(null, 0), null);
+            fail("expected InvocationTargetException");
+            }
+        catch (InvocationTargetException e)
+            {
+            assertThat(e.getCause(), is(instanceOf(IllegalStateException.class)));
+            }
+        }
+
+    @Test
+    public void shouldRejectNullTarget() throws Exception
+        {
+        MethodInvoker invokerAccessor = MethodInvoker.of(Person.class.getMethod("getAge"));
+        MethodInvoker invokerMethod   = MethodInvoker.of(Person.class.getMethod("greet", String.class, int.class));
+
+        assertThrows(NullPointerException.class, () -> invokerAccessor.invoke(null, null));
+        assertThrows(NullPointerException.class, () -> invokerMethod.invoke(null, new Object[] {"Hi", 1}));
+        }
+
+    @Test
+    public void shouldRejectTargetOfWrongType() throws Exception
+        {
+        MethodInvoker invokerAccessor = MethodInvoker.of(Person.class.getMethod("getAge"));
+        MethodInvoker invokerMethod   = MethodInvoker.of(Person.class.getMethod("greet", String.class, int.class));
+
+        assertThrows(IllegalArgumentException.class, () -> invokerAccessor.invoke("Aleks", null));
+        assertThrows(IllegalArgumentException.class, () -> invokerMethod.invoke("Aleks", new Object[] {"Hi", 1}));
+        }
+
+    @Test
+    public void shouldRejectMismatchedArguments() throws Exception
+        {
+        Person        person  = new Person("Aleks", 42);
+        MethodInvoker invoker = MethodInvoker.of(Person.class.getMethod("greet", String.class, int.class));
+
+        assertThrows(IllegalArgumentException.class, () -> invoker.invoke(person, new Object[] {"Hi"}));
+        assertThrows(IllegalArgumentException.class, () -> invoker.invoke(person, new Object[] {"Hi", "2"}));
+        assertThrows(IllegalArgumentException.class, () -> invoker.invoke(person, new Object[] {"Hi", null}));
+        assertThrows(IllegalArgumentException.class, () -> invoker.invoke(person, new Object[] {1, 2}));
+
+        // the conversions allowed by reflection are still applied
+        assertThat(invoker.invoke(person, new Object[] {"Hi", (short) 1}), is("Hi Aleks"));
+        assertThat(invoker.invoke(person, new Object[] {null, 1}), is("null Aleks"));
+        }
+
+    @Test
+    public void shouldPreserveAccessChecks() throws Exception
+        {
+        // a public method of a non-public class is not accessible to reflection
+        Collection<Integer> col     = Collections.unmodifiableCollection(List.of(1, 2, 3));
+        Method              method  = col.getClass().getMethod("size");
+        MethodInvoker       invoker = MethodInvoker.of(method);
+
+        assertThat(invoker.isCompiled(), is(false));
+        assertThrows(IllegalAccessException.class, () -> method.invoke(col));
+        assertThrows(IllegalAccessException.class, () -> invoker.invoke(col, null));
+        }
+
+    // ----- inner class: Person --------------------------------------------
+
+    public static class Person
+        {
+        public Person(String sName, int nAge)
+            {
+            m_sName = sName;
+            m_nAge  = nAge;
+            }
+
+        public String getName()
+            {
+            if (m_sName == null)
+                {
+                throw new IllegalStateException("name is not set");
+                }
+            return m_sName;
+            }
+
+        public int getAge()
+            {
+            return m_nAge;
+            }
+
+        public String greet(String sGreeting, int cTimes)
+            {
+            return String.join(" ", Collections.nCopies(cTimes, sGreeting + ' ' + m_sName));
+            }
+
+        private final String m_sName;
+
+        private final int m_nAge;
+        }
+
+    // ----- inner class: Point ---------------------------------------------
+
+    public record Point(double x, double y)
+        {
+        }
+    }
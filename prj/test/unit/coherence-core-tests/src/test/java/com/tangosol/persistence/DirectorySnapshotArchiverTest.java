@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.persistence;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.StreamCorruptedException;
+
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Unit tests for the incremental archiving of {@link DirectorySnapshotArchiver}.
+ *
+ * @author coh  2026.10.16
+ */
+public class DirectorySnapshotArchiverTest
+    {
+    @Test
+    public void shouldReassembleArchivedStore()
+            throws IOException
+        {
+        DirectorySnapshotArchiver archiver  = createArchiver();
+        byte[]                    abStore   = randomBytes(8 << 20, 1);
+        File                      fileStore = writeStore(archiver, abStore, "store-1");
+
+        assertThat(readStore(archiver, fileStore), is(abStore));
+        }
+
+    @Test
+    public void shouldDeduplicateUnchangedChunks()
+            throws IOException
+        {
+        DirectorySnapshotArchiver archiver = createArchiver();
+        byte[]                    abStore  = randomBytes(32 << 20, 2);
+
+        DirectorySnapshotArchiver.ChunkWriter writer = archiver.new ChunkWriter();
+        writer.write(abStore);
+        writer.close();
+        assertThat(writer.getBytesDeduplicated(), is(0L));
+
+        // insert a few bytes in the middle of the store; only the chunk
+        // around the insertion should be written again
+        int    ofInsert  = 16 << 20;
+        byte[] abChanged = new byte[abStore.length + 3];
+        System.arraycopy(abStore, 0, abChanged, 0, ofInsert);
+        System.arraycopy(abStore, ofInsert, abChanged, ofInsert + 3, abStore.length - ofInsert);
+
+        writer = archiver.new ChunkWriter();
+        writer.write(abChanged);
+        writer.close();
+
+        assertThat(writer.getBytesArchived(), is((long) abChanged.length));
+        assertThat(writer.getBytesDeduplicated(), greaterThan(abChanged.length / 2L));
+        assertThat(writer.getBytesWritten(), lessThan(abChanged.length / 2L));
+
+        File fileStore = new File(archiver.getSharedDirectoryPath(), "store-2");
+        try (OutputStream os = new FileOutputStream(fileStore))
+            {
+            writer.writeManifest(os);
+            }
+        assertThat(readStore(archiver, fileStore), is(abChanged));
+        }
+
+    @Test
+    public void shouldCompressChunks()
+            throws IOException
+        {
+        DirectorySnapshotArchiver archiver = createArchiver();
+        byte[]                    abStore  = new byte[4 << 20];
+        for (int i = 0; i < abStore.length; i++)
+            {
+            abStore[i] = (byte) (i % 61);
+            }
+
+        DirectorySnapshotArchiver.ChunkWriter writer = archiver.new ChunkWriter();
+        writer.write(abStore);
+        writer.close();
+
+        assertThat(writer.getBytesWritten(), lessThan(abStore.length / 10L));
+        }
+
+    @Test(expected = StreamCorruptedException.class)
+    public void shouldDetectCorruptChunks()
+            throws IOException
+        {
+        DirectorySnapshotArchiver archiver  = createArchiver();
+        File                      fileStore = writeStore(archiver, randomBytes(1 << 20, 3), "store-3");
+
+        DirectorySnapshotArchiver.Manifest manifest = DirectorySnapshotArchiver.readManifest(fileStore);
+        File fileChunk = archiver.getChunkFile(manifest.getChunkName(0));
+        try (RandomAccessFile file = new RandomAccessFile(fileChunk, "rw"))
+            {
+            file.seek(10);
+            file.write(file.read() ^ 0xFF);
+            }
+
+        readStore(archiver, fileStore);
+        }
+
+    @Test
+    public void shouldRetainRecentUnreferencedChunks()
+            throws IOException
+        {
+        DirectorySnapshotArchiver archiver  = createArchiver();
+        File                      fileStore = writeStore(archiver, randomBytes(1 << 20, 4), "store-4");
+
+        DirectorySnapshotArchiver.Manifest manifest = DirectorySnapshotArchiver.readManifest(fileStore);
+        File fileChunk = archiver.getChunkFile(manifest.getChunkName(0));
+        File fileTemp  = new File(fileChunk.getParentFile(), fileChunk.getName() + "123.tmp");
+        assertThat(fileTemp.createNewFile(), is(true));
+
+        // the manifest is not part of a snapshot, so the chunks are unreferenced
+        archiver.removeUnreferencedChunks();
+
+        assertThat(fileChunk.exists(), is(true));
+        assertThat(fileTemp.exists(), is(true));
+
+        long ldtOld = System.currentTimeMillis() - 2 * archiver.getChunkGracePeriodMillis();
+        assertThat(fileChunk.setLastModified(ldtOld), is(true));
+        assertThat(fileTemp.setLastModified(ldtOld), is(true));
+
+        archiver.removeUnreferencedChunks();
+
+        assertThat(fileChunk.exists(), is(false));
+        assertThat(fileTemp.exists(), is(false));
+        }
+
+    @Test
+    public void shouldTouchDeduplicatedChunks()
+            throws IOException
+        {
+        DirectorySnapshotArchiver archiver  = createArchiver();
+        byte[]                    abStore   = randomBytes(1 << 20, 5);
+        File                      fileStore = writeStore(archiver, abStore, "store-5");
+
+        DirectorySnapshotArchiver.Manifest manifest = DirectorySnapshotArchiver.readManifest(fileStore);
+        File fileChunk = archiver.getChunkFile(manifest.getChunkName(0));
+        assertThat(fileChunk.setLastModified(System.currentTimeMillis() - 2 * archiver.getChunkGracePeriodMillis()),
+                   is(true));
+
+        // archiving the same store concurrently deduplicates against the chunk
+        DirectorySnapshotArchiver.ChunkWriter writer = archiver.new ChunkWriter();
+        writer.write(abStore);
+        writer.close();
+        assertThat(writer.getBytesDeduplicated(), is((long) abStore.length));
+
+        archiver.removeUnreferencedChunks();
+
+        assertThat(fileChunk.exists(), is(true));
+        writer.release();
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    protected DirectorySnapshotArchiver createArchiver()
+            throws IOException
+        {
+        return new DirectorySnapshotArchiver("cluster", "service", m_folder.newFolder());
+        }
+
+    protected static File writeStore(DirectorySnapshotArchiver archiver, byte[] abStore, String sStore)
+            throws IOException
+        {
+        DirectorySnapshotArchiver.ChunkWriter writer = archiver.new ChunkWriter();
+        writer.write(abStore);
+        writer.close();
+
+        File fileStore = new File(archiver.getSharedDirectoryPath(), sStore);
+        try (OutputStream os = new FileOutputStream(fileStore))
+            {
+            writer.writeManifest(os);
+            }
+        writer.release();
+        return fileStore;
+        }
+
+    protected static byte[] readStore(DirectorySnapshotArchiver archiver, File fileStore)
+            throws IOException
+        {
+        DirectorySnapshotArchiver.Manifest manifest = DirectorySnapshotArchiver.readManifest(fileStore);
+        ByteArrayOutputStream              out      = new ByteArrayOutputStream();
+
+        try (InputStream in = archiver.new ChunkReader(manifest))
+            {
+            in.transferTo(out);
+            }
+        return out.toByteArray();
+        }
+
+    protected static byte[] randomBytes(int cb, long lSeed)
+        {
+        byte[] ab = new byte[cb];
+        new Random(lSeed).nextBytes(ab);
+        return ab;
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    @Rule
+    public TemporaryFolder m_folder = new TemporaryFolder();
+    }
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.persistence.log;
+
+import com.tangosol.persistence.AbstractPersistenceEnvironmentTest;
+import com.tangosol.persistence.AbstractPersistenceEnvironment;
+
+import java.io.IOException;
+
+/**
+ * Unit test of the LogStructuredEnvironment.
+ *
+ * @author coh  2026.10.16
+ */
+public class LogStructuredEnvironmentTest
+        extends AbstractPersistenceEnvironmentTest
+    {
+    // ----- test lifecycle -------------------------------------------------
+
+    @Override
+    protected AbstractPersistenceEnvironment createPersistenceEnvironment()
+            throws IOException
+        {
+        LogStructuredEnvironment env = new LogStructuredEnvironment(m_fileActive, m_fileSnapshot, m_fileTrash);
+        env.setDaemonPool(m_pool);
+        return env;
+        }
+    }
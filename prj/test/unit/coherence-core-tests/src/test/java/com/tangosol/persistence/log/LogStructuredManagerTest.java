@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.persistence.log;
+
+import com.tangosol.persistence.AbstractPersistenceManagerTest;
+import com.tangosol.persistence.AbstractPersistenceManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test of the LogStructuredManager.
+ *
+ * @author coh  2026.10.16
+ */
+public class LogStructuredManagerTest
+        extends AbstractPersistenceManagerTest
+    {
+    // ----- test lifecycle -------------------------------------------------
+
+    @Override
+    protected AbstractPersistenceManager createPersistenceManager()
+            throws IOException
+        {
+        LogStructuredManager manager = new LogStructuredManager(m_fileData, m_fileTrash, null);
+        manager.setDaemonPool(m_pool);
+        return manager;
+        }
+
+    @Override
+    protected void corruptPersistentStore(String sId)
+            throws IOException
+        {
+        m_manager.release();
+
+        // overwrite the header of the first segment
+        File file = new File(m_fileStore, "0000000000000001.log");
+        if (file.exists())
+            {
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+                {
+                raf.writeLong(0L);
+                }
+            }
+
+        m_manager = createPersistenceManager();
+        }
+
+    // ----- test methods ---------------------------------------------------
+
+    @Test
+    public void testGetPersistentStoreMap()
+        {
+        LogStructuredManager managerImpl = (LogStructuredManager) m_manager;
+        synchronized (managerImpl)
+            {
+            Map<String, LogStructuredManager.LogStructuredStore> map = managerImpl.getPersistentStoreMap();
+            assertTrue(map.isEmpty());
+
+            managerImpl.open(TEST_STORE_ID, null);
+            assertEquals(1, map.size());
+
+            managerImpl.close(TEST_STORE_ID);
+            assertEquals(0, map.size());
+
+            managerImpl.open(TEST_STORE_ID, null);
+            assertEquals(1, map.size());
+
+            managerImpl.delete(TEST_STORE_ID, false);
+            assertEquals(0, map.size());
+            }
+        }
+    }
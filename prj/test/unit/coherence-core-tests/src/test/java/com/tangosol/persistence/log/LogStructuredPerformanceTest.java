@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.persistence.log;
+
+import com.tangosol.persistence.AbstractPersistencePerformanceTest;
+import com.tangosol.persistence.AbstractPersistenceManager;
+
+import java.io.IOException;
+
+/**
+ * Performance test of the LogStructuredManager.
+ *
+ * @author coh  2026.10.16
+ */
+public class LogStructuredPerformanceTest
+        extends AbstractPersistencePerformanceTest
+    {
+    // ----- test lifecycle -------------------------------------------------
+
+    @Override
+    protected AbstractPersistenceManager createPersistenceManager()
+            throws IOException
+        {
+        LogStructuredManager manager = new LogStructuredManager(m_file, null, null);
+        manager.setDaemonPool(m_pool);
+        return manager;
+        }
+    }
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.persistence.log;
+
+import com.oracle.coherence.persistence.FatalAccessException;
+
+import com.tangosol.persistence.AbstractPersistentStoreTest;
+import com.tangosol.persistence.AbstractPersistenceManager;
+import com.tangosol.persistence.AbstractPersistenceManager.AbstractPersistentStore;
+
+import com.tangosol.util.Binary;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import java.nio.channels.ClosedChannelException;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test of the LogStructuredStore.
+ *
+ * @author coh  2026.10.16
+ */
+public class LogStructuredStoreTest
+        extends AbstractPersistentStoreTest
+    {
+    // ----- test lifecycle -------------------------------------------------
+
+    @Override
+    protected AbstractPersistenceManager createPersistenceManager()
+            throws IOException
+        {
+        LogStructuredManager manager = new LogStructuredManager(m_file, null, null);
+        manager.setDaemonPool(m_pool);
+        return manager;
+        }
+
+    // ----- test methods ---------------------------------------------------
+
+    @Test
+    public void testRecoverIncompleteTransaction()
+            throws IOException
+        {
+        AbstractPersistenceManager manager = m_manager;
+        AbstractPersistentStore    store   = m_store;
+
+        store.ensureExtent(1);
+        store.store(1, BINARY_KEY_1, BINARY_VALUE_1, null);
+        store.store(1, BINARY_KEY_2, BINARY_VALUE_2, null);
+        manager.release();
+
+        // simulate a transaction that was partially written
+        File file = new File(new File(m_file, TEST_STORE_ID), "0000000000000001.log");
+        long cb   = file.length();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+            {
+            raf.seek(cb);
+            raf.writeInt(1024);
+            raf.writeInt(0);
+            raf.write(new byte[16]);
+            }
+
+        m_manager = manager = createPersistenceManager();
+        m_store   = store   = (AbstractPersistentStore) manager.open(TEST_STORE_ID, null);
+
+        assertEquals(cb, file.length());
+        assertEquals(BINARY_VALUE_1, store.load(1, BINARY_KEY_1).toBinary());
+        assertEquals(BINARY_VALUE_2, store.load(1, BINARY_KEY_2).toBinary());
+
+        // assert that the log can be appended to after the recovery
+        store.store(1, BINARY_KEY_N, BINARY_VALUE_N, null);
+        manager.release();
+
+        m_manager = manager = createPersistenceManager();
+        m_store   = store   = (AbstractPersistentStore) manager.open(TEST_STORE_ID, null);
+
+        assertEquals(BINARY_VALUE_N, store.load(1, BINARY_KEY_N).toBinary());
+        }
+
+    @Test
+    public void testCompaction()
+            throws IOException
+        {
+        // compact inline by not using a daemon pool
+        File                 fileData = new File(m_file, "compaction");
+        LogStructuredManager manager  = new LogStructuredManager(fileData, null, null);
+        manager.setSegmentSize(4096);
+        try
+            {
+            LogStructuredManager.LogStructuredStore store =
+                    (LogStructuredManager.LogStructuredStore) manager.open(TEST_STORE_ID, null);
+
+            store.ensureExtent(1);
+            store.ensureExtent(2);
+            store.store(2, BINARY_KEY_1, BINARY_VALUE_1, null);
+            for (int i = 0; i < 1000; i++)
+                {
+                store.store(1, createKey(i % 4), createValue(i), null);
+                }
+
+            // the log is bounded by the live values rather than by the
+            // number of writes
+            assertTrue(store.getSegmentCount() <= 2);
+            assertTrue(store.getLogSize() <= 3 * 4096);
+            assertEquals(store.getSegmentCount(), LogStructuredManager.listSegments(store.getDataDirectory()).length);
+            assertValues(store);
+
+            manager.release();
+            manager = new LogStructuredManager(fileData, null, null);
+            store   = (LogStructuredManager.LogStructuredStore) manager.open(TEST_STORE_ID, null);
+
+            assertValues(store);
+            assertEquals(BINARY_VALUE_1, store.load(2, BINARY_KEY_1).toBinary());
+            }
+        finally
+            {
+            manager.release();
+            }
+        }
+
+    @Test
+    public void testInterruptedReadIsFatal()
+        {
+        AbstractPersistentStore store = m_store;
+
+        store.ensureExtent(1);
+        store.store(1, BINARY_KEY_1, BINARY_VALUE_1, null);
+
+        // an interrupted read closes the channel of a segment that has not
+        // been compacted, which must not be mistaken for a compaction
+        Thread.currentThread().interrupt();
+        try
+            {
+            store.load(1, BINARY_KEY_1);
+            fail("expected FatalAccessException");
+            }
+        catch (FatalAccessException e)
+            {
+            assertTrue(e.getCause() instanceof ClosedChannelException);
+            }
+        finally
+            {
+            Thread.interrupted();
+            }
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Assert that the store contains the most recent values written by
+     * {@link #testCompaction()}.
+     *
+     * @param store  the store
+     */
+    protected void assertValues(AbstractPersistentStore store)
+        {
+        for (int i = 996; i < 1000; i++)
+            {
+            assertEquals(createValue(i), store.load(1, createKey(i % 4)).toBinary());
+            }
+        }
+
+    /**
+     * Create a test key.
+     *
+     * @param n  the key number
+     *
+     * @return the key
+     */
+    protected static Binary createKey(int n)
+        {
+        return new Binary(new byte[] {(byte) n});
+        }
+
+    /**
+     * Create a test value.
+     *
+     * @param n  the value number
+     *
+     * @return the value
+     */
+    protected static Binary createValue(int n)
+        {
+        byte[] ab = new byte[256];
+        ab[0] = (byte) n;
+        ab[1] = (byte) (n >>> 8);
+        return new Binary(ab);
+        }
+    }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -12,15 +12,20 @@ import com.tangosol.net.cache.KeyAssociation;
 import com.tangosol.util.Base;
 
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Random;
 
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.*;
 
@@ -134,6 +139,195 @@ public class DaemonPoolComponentTest
         assertFalse(threadResize + " didn't stop", threadResize.isAlive());
         }
 
+    @Test
+    public void testWorkStealing()
+            throws InterruptedException
+        {
+        DaemonPool pool = startStealingPool(4);
+        try
+            {
+            for (DaemonPool.Daemon daemon : pool.getDaemons())
+                {
+                assertNotNull(daemon.getDeque());
+                }
+
+            // block one of the daemons; the tasks placed on its deque must
+            // be stolen by the others
+            CountDownLatch latchBlock = new CountDownLatch(1);
+            CountDownLatch latchStart = new CountDownLatch(1);
+            pool.add(() ->
+                {
+                latchStart.countDown();
+                try
+                    {
+                    latchBlock.await();
+                    }
+                catch (InterruptedException e)
+                    {
+                    Thread.currentThread().interrupt();
+                    }
+                });
+            latchStart.await();
+
+            AtomicInteger counter = new AtomicInteger();
+            for (int i = 0; i < BACKLOG_SIZE; ++i)
+                {
+                pool.add(counter::incrementAndGet);
+                }
+
+            Eventually.assertDeferred(counter::get, is(BACKLOG_SIZE));
+            assertThat(pool.getBacklog(), is(0));
+
+            latchBlock.countDown();
+            }
+        finally
+            {
+            pool.stop();
+            }
+        }
+
+    @Test
+    public void testWorkStealingPreservesAssociationOrder()
+        {
+        DaemonPool pool = startStealingPool(4);
+        try
+            {
+            int             cAssoc   = 4;
+            AtomicInteger[] aCounter = new AtomicInteger[cAssoc];
+            for (int i = 0; i < cAssoc; i++)
+                {
+                aCounter[i] = new AtomicInteger();
+                }
+
+            // interleave the associated tasks with non-associated tasks,
+            // which are placed on the deques and stolen by idle daemons
+            AtomicInteger      counter  = new AtomicInteger();
+            List<TestRunnable> listWork = new ArrayList<>(BACKLOG_SIZE);
+            for (int i = 0; i < BACKLOG_SIZE; ++i)
+                {
+                int          nIdAssoc = i % cAssoc;
+                TestRunnable task     = new TestRunnable(nIdAssoc, i / cAssoc, aCounter[nIdAssoc]);
+                pool.add(task);
+                listWork.add(task);
+
+                pool.add(counter::incrementAndGet);
+                }
+
+            for (TestRunnable task : listWork)
+                {
+                Eventually.assertDeferred(task::wasExecuted, is(true));
+
+                assertTrue(task + " was executed out of order", task.wasExecutedInOrder());
+                }
+
+            Eventually.assertDeferred(counter::get, is(BACKLOG_SIZE));
+            }
+        finally
+            {
+            pool.stop();
+            }
+        }
+
+    @Test
+    public void testDrainDetachedDeque()
+        {
+        DaemonPool pool = startStealingPool(4);
+        try
+            {
+            // a detached deque, as left behind by a stopped or abandoned daemon
+            Deque         deque   = new ConcurrentLinkedDeque();
+            AtomicInteger counter = new AtomicInteger();
+            for (int i = 0; i < BACKLOG_SIZE; ++i)
+                {
+                deque.offerLast(pool.instantiateWrapperTask(counter::incrementAndGet, false));
+                }
+
+            pool.drainDeque(deque);
+
+            assertTrue(deque.isEmpty());
+            Eventually.assertDeferred(counter::get, is(BACKLOG_SIZE));
+            Eventually.assertDeferred(pool::getBacklog, is(0));
+            }
+        finally
+            {
+            pool.stop();
+            }
+        }
+
+    @Test
+    public void testDrainDequeOfStoppedDaemons()
+            throws InterruptedException
+        {
+        DaemonPool pool = startStealingPool(4);
+        try
+            {
+            // block all the daemons, so that the tasks stay on their deques
+            CountDownLatch latchBlock = new CountDownLatch(1);
+            CountDownLatch latchStart = new CountDownLatch(4);
+            for (int i = 0; i < 4; i++)
+                {
+                pool.add(() ->
+                    {
+                    latchStart.countDown();
+                    try
+                        {
+                        latchBlock.await();
+                        }
+                    catch (InterruptedException e)
+                        {
+                        Thread.currentThread().interrupt();
+                        }
+                    });
+                }
+            latchStart.await();
+
+            AtomicInteger counter = new AtomicInteger();
+            for (int i = 0; i < BACKLOG_SIZE; ++i)
+                {
+                pool.add(counter::incrementAndGet);
+                }
+
+            // stop half of the daemons; their deques must be re-routed to
+            // the remaining ones
+            pool.setDaemonCountMin(2);
+            pool.setDaemonCount(2);
+            latchBlock.countDown();
+
+            Eventually.assertDeferred(counter::get, is(BACKLOG_SIZE));
+            Eventually.assertDeferred(() -> pool.getDaemons().length, is(2));
+            Eventually.assertDeferred(pool::getBacklog, is(0));
+            for (DaemonPool.Daemon daemon : pool.getDaemons())
+                {
+                assertNotNull(daemon.getDeque());
+                }
+            }
+        finally
+            {
+            pool.stop();
+            }
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Create and start a pool with work stealing enabled.
+     *
+     * @param cDaemons  the number of daemons
+     *
+     * @return the started pool
+     */
+    protected static DaemonPool startStealingPool(int cDaemons)
+        {
+        DaemonPool pool = new DaemonPool();
+        pool.setWorkStealingEnabled(true);
+        pool.setWorkerGroupSize(2);
+        pool.setDaemonCountMin(cDaemons);
+        pool.setDaemonCountMax(cDaemons);
+        pool.setDaemonCount(cDaemons);
+        pool.start();
+        return pool;
+        }
+
     // ----- accessors ------------------------------------------------------
 
     @Override
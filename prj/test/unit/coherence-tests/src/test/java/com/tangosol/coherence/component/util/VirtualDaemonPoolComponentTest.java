@@ -15,6 +15,7 @@ import com.tangosol.coherence.component.util.daemon.queueProcessor.Service;
 import com.tangosol.coherence.component.util.daemon.queueProcessor.service.grid.partitionedService.PartitionedCache;
 
 import com.tangosol.internal.net.service.DefaultServiceDependencies;
+import com.tangosol.internal.util.VirtualThreadPinningMonitor;
 import com.tangosol.internal.util.VirtualThreads;
 
 import com.tangosol.net.DaemonPoolType;
@@ -25,6 +26,9 @@ import com.tangosol.net.cache.KeyAssociation;
 
 import com.tangosol.util.ExternalizableHelper;
 
+import java.time.Duration;
+import java.time.Instant;
+
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
@@ -1158,6 +1162,100 @@ public class VirtualDaemonPoolComponentTest
         assertThreadNameMatches(refMailbox.get(), "^.*:M:[0-9A-F]{8}:Get:[0-9A-F]{8}$");
         }
 
+    @Test
+    public void shouldParseTaskTypeFromRoleLabels()
+            throws Exception
+        {
+        m_pool.stop();
+        TestVirtualDaemonPool pool = createControlledPool(0);
+        m_pool = pool;
+        m_pool.start();
+
+        AtomicReference<String> refDirect  = new AtomicReference<>();
+        AtomicReference<String> refAll     = new AtomicReference<>();
+        AtomicReference<String> refMailbox = new AtomicReference<>();
+
+        GetRequest taskDirect  = new GetRequest(null, refDirect);
+        GetRequest taskAll     = new GetRequest(AssociationPile.ASSOCIATION_ALL, refAll);
+        GetRequest taskMailbox = new GetRequest("key", refMailbox);
+
+        m_pool.add(taskDirect);
+        m_pool.add(taskAll);
+        m_pool.add(taskMailbox);
+
+        assertTrue(taskDirect.awaitDone());
+        assertTrue(taskAll.awaitDone());
+        assertTrue(taskMailbox.awaitDone());
+
+        String sType = TestVirtualDaemonPool.taskTypeOfForTest(GetRequest.class);
+        assertThat(pool.parseTaskTypeForTest(refDirect.get()), is(sType));
+        assertThat(pool.parseTaskTypeForTest(refAll.get()), is(sType));
+        assertThat(pool.parseTaskTypeForTest(refMailbox.get()), is(sType));
+        assertThat(pool.parseTaskTypeForTest("OtherPool:D:Get:00000000"), is("Unknown"));
+        }
+
+    @Test
+    public void shouldLimitPinnedTaskTypeToCarrierLimit()
+            throws Exception
+        {
+        m_pool.stop();
+        TestVirtualDaemonPool pool = createControlledPool(2);
+        m_pool = pool;
+        m_pool.start();
+
+        pool.limitCarriersForTest(1);
+        pool.pinForTest("D:" + TestVirtualDaemonPool.taskTypeOfForTest(BlockingTask.class) + ":00000000");
+
+        AtomicInteger active    = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+
+        BlockingTask taskFirst  = new BlockingTask(null, active, maxActive);
+        BlockingTask taskSecond = new BlockingTask(null, active, maxActive);
+
+        m_pool.add(taskFirst);
+        assertTrue(taskFirst.awaitStarted());
+
+        m_pool.add(taskSecond);
+        assertFalse(taskSecond.awaitStarted(200));
+
+        // the throttled task must not hold the remaining task permit
+        GetRequest taskOther = new GetRequest(null, new AtomicReference<>());
+        m_pool.add(taskOther);
+        assertTrue(taskOther.awaitDone());
+
+        taskFirst.release();
+        assertTrue(taskFirst.awaitDone());
+        assertTrue(taskSecond.awaitStarted());
+
+        taskSecond.release();
+        assertTrue(taskSecond.awaitDone());
+        assertThat(maxActive.get(), is(1));
+        }
+
+    @Test
+    public void shouldExpirePinnedTaskTypes()
+            throws Exception
+        {
+        m_pool.stop();
+        TestVirtualDaemonPool pool = createControlledPool(0);
+        m_pool = pool;
+        m_pool.start();
+
+        String sType = TestVirtualDaemonPool.taskTypeOfForTest(BlockingTask.class);
+
+        pool.setPinnedTaskExpiry(0L);
+        pool.pinForTest("D:" + sType + ":00000000");
+        assertThat(pool.isPinnedTaskTypeForTest(sType), is(true));
+
+        pool.resetPinnedTaskTypes();
+        assertThat(pool.isPinnedTaskTypeForTest(sType), is(false));
+
+        pool.setPinnedTaskExpiry(1L);
+        pool.pinForTest("D:" + sType + ":00000000");
+        Thread.sleep(20L);
+        assertThat(pool.isPinnedTaskTypeForTest(sType), is(false));
+        }
+
     @Test
     public void shouldRestoreIdleMailboxNameAfterDrain()
             throws Exception
@@ -1754,6 +1852,28 @@ public class VirtualDaemonPoolComponentTest
             return taskTypeOf(clz);
             }
 
+        public String parseTaskTypeForTest(String sThread)
+            {
+            return parseTaskType(sThread);
+            }
+
+        public boolean isPinnedTaskTypeForTest(String sType)
+            {
+            return isPinnedTaskType(sType);
+            }
+
+        public void limitCarriersForTest(int cLimit)
+            {
+            setCarrierLimit(cLimit);
+            setCarrierPermits(new java.util.concurrent.Semaphore(cLimit));
+            }
+
+        public void pinForTest(String sRole)
+            {
+            onTaskPinned(new VirtualThreadPinningMonitor.PinnedEvent(formatVirtualThreadName(sRole),
+                    Instant.now(), Duration.ofMillis(50L), "test", "test", ""));
+            }
+
         public String getDrainReconciliationThreadName()
             {
             return m_sDrainReconciliationThreadName;
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.coherence.component.util.daemon.queueProcessor.service.grid;
+
+import com.tangosol.net.partition.PartitionSet;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the recovery job striping and statistics of the
+ * PartitionedService TDE implementation.
+ *
+ * @author coh  2026.10.17
+ */
+public class PartitionedServiceRecoveryTest
+    {
+    // ----- striping tests -------------------------------------------------
+
+    @Test
+    public void shouldStripeStoresAcrossJobs()
+        {
+        String[] asGUIDs   = createGUIDs(10);
+        Map      mapUpdate = createUpdate(10);
+
+        List<List<String>> listStripes = PartitionedService.PartitionRecoverRequest.stripeStores(asGUIDs, mapUpdate, 4);
+
+        assertEquals(4, listStripes.size());
+
+        // every job gets a balanced share, differing by at most one store
+        Set<String> setStores = new HashSet<>();
+        for (List<String> listStores : listStripes)
+            {
+            assertTrue(listStores.size() == 2 || listStores.size() == 3);
+            setStores.addAll(listStores);
+            }
+        assertEquals(10, setStores.size());
+
+        // the stores are striped rather than split into contiguous ranges
+        assertEquals(List.of(asGUIDs[0], asGUIDs[4], asGUIDs[8]), listStripes.get(0));
+        assertEquals(List.of(asGUIDs[3], asGUIDs[7]), listStripes.get(3));
+        }
+
+    @Test
+    public void shouldCapJobsAtStoreCount()
+        {
+        List<List<String>> listStripes = PartitionedService.PartitionRecoverRequest
+                .stripeStores(createGUIDs(3), createUpdate(3), 8);
+
+        assertEquals(3, listStripes.size());
+        for (List<String> listStores : listStripes)
+            {
+            assertEquals(1, listStores.size());
+            }
+        }
+
+    @Test
+    public void shouldStripeOnlyStoresToRecover()
+        {
+        String[] asGUIDs   = createGUIDs(6);
+        Map      mapUpdate = createUpdate(6);
+        mapUpdate.remove(1);
+        mapUpdate.remove(4);
+
+        List<List<String>> listStripes = PartitionedService.PartitionRecoverRequest.stripeStores(asGUIDs, mapUpdate, 8);
+
+        assertEquals(4, listStripes.size());
+        List<String> listStores = new ArrayList<>();
+        listStripes.forEach(listStores::addAll);
+        assertEquals(List.of(asGUIDs[0], asGUIDs[2], asGUIDs[3], asGUIDs[5]), listStores);
+
+        assertTrue(PartitionedService.PartitionRecoverRequest.stripeStores(asGUIDs, new HashMap(), 8).isEmpty());
+        }
+
+    // ----- statistics tests -----------------------------------------------
+
+    @Test
+    public void shouldAggregateMemberResponses()
+        {
+        PartitionedService.PersistenceControl.SnapshotController controller =
+                new PartitionedService.PersistenceControl.SnapshotController();
+
+        controller.startRecoveryStatistics(10);
+        controller.onRecoveryResponse(new Object[] {new PartitionSet(10), new PartitionSet(10), new long[] {4L, 400L}});
+        controller.onRecoveryResponse(new Object[] {new PartitionSet(10), new PartitionSet(10), new long[] {6L, 650L}});
+
+        assertEquals(10,    controller.getRecoveryPartitionCount());
+        assertEquals(10,    controller.getRecoveredPartitionCount());
+        assertEquals(1050L, controller.getRecoveredEntryCount());
+
+        // a new recovery starts counting from scratch
+        controller.startRecoveryStatistics(5);
+        assertEquals(5,  controller.getRecoveryPartitionCount());
+        assertEquals(0,  controller.getRecoveredPartitionCount());
+        assertEquals(0L, controller.getRecoveredEntryCount());
+        }
+
+    @Test
+    public void shouldAcceptLegacyResponse()
+        {
+        PartitionedService.PersistenceControl.SnapshotController controller =
+                new PartitionedService.PersistenceControl.SnapshotController();
+
+        controller.startRecoveryStatistics(10);
+        controller.onRecoveryResponse(new Object[] {new PartitionSet(10), new PartitionSet(10), new long[] {4L, 400L}});
+
+        // members prior to 26.04 respond with {partsRecovered, partsFailedEvents}
+        controller.onRecoveryResponse(new Object[] {new PartitionSet(10), new PartitionSet(10)});
+
+        assertEquals(4,    controller.getRecoveredPartitionCount());
+        assertEquals(400L, controller.getRecoveredEntryCount());
+        }
+
+    @Test
+    public void shouldReportDurationAndThroughput()
+            throws Exception
+        {
+        PartitionedService.PersistenceControl.SnapshotController controller =
+                new PartitionedService.PersistenceControl.SnapshotController();
+
+        assertEquals(0L, controller.getRecoveryDuration());
+        assertEquals(0L, controller.getRecoveryThroughput());
+
+        controller.startRecoveryStatistics(2);
+        controller.onRecoveryProgress(1, 1000L);
+        Thread.sleep(50L);
+
+        // while the recovery runs the duration keeps growing
+        long cMillisRunning = controller.getRecoveryDuration();
+        assertTrue(cMillisRunning >= 40L);
+        assertTrue(controller.getRecoveryThroughput() > 0L);
+        assertTrue(controller.getRecoveryThroughput() <= 1000L * 1000L / cMillisRunning);
+
+        controller.onRecoveryProgress(1, 1000L);
+        Thread.sleep(50L);
+        controller.stopRecoveryStatistics();
+
+        // once the recovery has completed the duration and throughput are fixed
+        long cMillis     = controller.getRecoveryDuration();
+        long cThroughput = controller.getRecoveryThroughput();
+        assertTrue(cMillis >= cMillisRunning + 40L);
+        assertEquals(2000L * 1000L / cMillis, cThroughput);
+
+        Thread.sleep(50L);
+        assertEquals(cMillis,     controller.getRecoveryDuration());
+        assertEquals(cThroughput, controller.getRecoveryThroughput());
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Create a GUID for each of the specified number of partitions.
+     */
+    protected static String[] createGUIDs(int cPartitions)
+        {
+        String[] asGUIDs = new String[cPartitions];
+        for (int i = 0; i < cPartitions; i++)
+            {
+            asGUIDs[i] = i + "-1-18f3a2b4c5d-1";
+            }
+        return asGUIDs;
+        }
+
+    /**
+     * Create a partition update Map for the specified number of partitions.
+     */
+    protected static Map createUpdate(int cPartitions)
+        {
+        Map mapUpdate = new HashMap();
+        for (int i = 0; i < cPartitions; i++)
+            {
+            mapUpdate.put(i, Boolean.TRUE);
+            }
+        return mapUpdate;
+        }
+    }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -81,6 +81,8 @@ public class ReadWriteBackingMapSchemeTest
         assertEquals(0, scheme.getWriteDelaySeconds(new NullParameterResolver()));
         assertEquals(128, scheme.getWriteMaxBatchSize(new NullParameterResolver()));
         assertEquals(0, scheme.getWriteRequeueThreshold(new NullParameterResolver()));
+        assertEquals(1, scheme.getWriteThreadCount(new NullParameterResolver()));
+        assertEquals(0, scheme.getWriteBatchTargetLatency(new NullParameterResolver()).getNanos());
         assertFalse(scheme.isReadOnly(new NullParameterResolver()));
         assertTrue(scheme.isRollbackCacheStoreFailures(new NullParameterResolver()));
         }
@@ -142,6 +144,14 @@ public class ReadWriteBackingMapSchemeTest
         scheme.setWriteRequeueThreshold(new LiteralExpression<Integer>(50));
         assertEquals(50, scheme.getWriteRequeueThreshold(new NullParameterResolver()));
 
+        scheme.setWriteThreadCount(new LiteralExpression<Integer>(4));
+        assertEquals(4, scheme.getWriteThreadCount(new NullParameterResolver()));
+
+        Millis millisTarget = new Millis("500");
+
+        scheme.setWriteBatchTargetLatency(new LiteralExpression<Millis>(millisTarget));
+        assertEquals(millisTarget, scheme.getWriteBatchTargetLatency(new NullParameterResolver()));
+
         scheme.setReadOnly(new LiteralExpression<Boolean>(true));
         assertTrue(scheme.isReadOnly(new NullParameterResolver()));
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -35,6 +35,8 @@ import com.tangosol.net.topic.FixedElementCalculator;
 import com.tangosol.net.topic.NamedTopic;
 import com.tangosol.run.xml.XmlDocumentReference;
 
+import com.tangosol.util.Extractors;
+import com.tangosol.util.Filters;
 import com.tangosol.util.SimpleResourceRegistry;
 
 import com.oracle.coherence.testing.SystemPropertyResource;
@@ -44,6 +46,7 @@ import org.junit.Test;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertThrows;
 
@@ -277,6 +280,78 @@ public class PagedTopicSchemeProcessorTest
         assertThat(dependencies.getElementCalculator(), is(instanceOf(BinaryElementCalculator.class)));
         }
 
+    @Test
+    public void testCompaction()
+        {
+        String sXml = "<paged-topic-scheme>"
+                        + "<scheme-name>common-pof-topic-scheme</scheme-name>"
+                        + "<service-name>pof-topic-service</service-name>"
+                        + "<retain-consumed>true</retain-consumed>"
+                        + "<compaction-key>account.id</compaction-key>"
+                        + "<compaction-tombstone>deleted</compaction-tombstone>"
+                        + "<tombstone-retention>1h</tombstone-retention>"
+                        + "</paged-topic-scheme>";
+
+        PagedTopicScheme       scheme       = testPagedTopicSchemeProcessing(sXml);
+        ParameterResolver      nullResolver = new NullParameterResolver();
+        PagedTopicDependencies dependencies = scheme.createConfiguration(nullResolver, null);
+
+        assertThat(dependencies.isCompacted(), is(true));
+        assertThat(dependencies.getCompactionKeyExtractor(), is(Extractors.chained("account", "id")));
+        assertThat(dependencies.getTombstoneFilter(), is(Filters.isTrue(Extractors.extract("deleted"))));
+        assertThat(dependencies.getTombstoneRetentionMillis(), is(3600000L));
+        }
+
+    @Test
+    public void testDefaultCompaction()
+        {
+        String sXml = "<paged-topic-scheme>"
+                        + "<scheme-name>common-pof-topic-scheme</scheme-name>"
+                        + "<service-name>pof-topic-service</service-name>"
+                        + "</paged-topic-scheme>";
+
+        PagedTopicScheme       scheme       = testPagedTopicSchemeProcessing(sXml);
+        ParameterResolver      nullResolver = new NullParameterResolver();
+        PagedTopicDependencies dependencies = scheme.createConfiguration(nullResolver, null);
+
+        assertThat(dependencies.isCompacted(), is(false));
+        assertThat(dependencies.getCompactionKeyExtractor(), is(nullValue()));
+        assertThat(dependencies.getTombstoneFilter(), is(nullValue()));
+        }
+
+    @Test
+    public void testTieredStorage()
+        {
+        String sXml = "<paged-topic-scheme>"
+                        + "<scheme-name>common-pof-topic-scheme</scheme-name>"
+                        + "<service-name>pof-topic-service</service-name>"
+                        + "<retain-consumed>true</retain-consumed>"
+                        + "<tiered-storage>true</tiered-storage>"
+                        + "</paged-topic-scheme>";
+
+        PagedTopicScheme       scheme       = testPagedTopicSchemeProcessing(sXml);
+        ParameterResolver      nullResolver = new NullParameterResolver();
+        PagedTopicDependencies dependencies = scheme.createConfiguration(nullResolver, null);
+
+        assertThat(dependencies.isTieredStorage(), is(true));
+        }
+
+    @Test
+    public void testTieredStorageRequiresRetainConsumed()
+        {
+        String sXml = "<paged-topic-scheme>"
+                        + "<scheme-name>common-pof-topic-scheme</scheme-name>"
+                        + "<service-name>pof-topic-service</service-name>"
+                        + "<tiered-storage>true</tiered-storage>"
+                        + "</paged-topic-scheme>";
+
+        PagedTopicScheme       scheme       = testPagedTopicSchemeProcessing(sXml);
+        ParameterResolver      nullResolver = new NullParameterResolver();
+        PagedTopicDependencies dependencies = scheme.createConfiguration(nullResolver, null);
+
+        assertThat(dependencies.isTieredStorage(), is(false));
+        }
+
 
     @Test
     public void shouldNotAllowFixedCalculatorWithMemoryPageSize()
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.net.topic.impl.paged;
+
+import com.tangosol.internal.net.topic.impl.paged.model.Page;
+import com.tangosol.internal.net.topic.impl.paged.model.PagedPosition;
+
+import com.tangosol.net.PagedTopicService;
+
+import com.tangosol.util.Binary;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link PagedTopicCompactor}.
+ *
+ * @author coh  2026.10.17
+ */
+public class PagedTopicCompactorTest
+    {
+    @Test
+    public void shouldReturnSupersededPosition()
+        {
+        PagedTopicCompactor.ChannelState state = new PagedTopicCompactor.ChannelState(1, 2);
+        PagedPosition                    pos1  = new PagedPosition(1L, 0);
+        PagedPosition                    pos2  = new PagedPosition(1L, 1);
+        PagedPosition                    pos3  = new PagedPosition(2L, 0);
+
+        assertThat(state.getWatermark(), is(Page.NULL_PAGE));
+        assertThat(state.onElement(key("a"), pos1, false, 0L), is(nullValue()));
+        assertThat(state.onElement(key("b"), pos2, false, 0L), is(nullValue()));
+        assertThat(state.onElement(key("a"), pos3, false, 0L), is(pos1));
+        assertThat(state.getKeyCount(), is(2));
+        }
+
+    @Test
+    public void shouldExpireLatestTombstonesOnly()
+        {
+        PagedTopicCompactor.ChannelState state = new PagedTopicCompactor.ChannelState(1, 2);
+        PagedPosition                    pos1  = new PagedPosition(1L, 0);
+        PagedPosition                    pos2  = new PagedPosition(1L, 1);
+        PagedPosition                    pos3  = new PagedPosition(2L, 0);
+
+        state.onElement(key("a"), pos1, true, 100L);
+        state.onElement(key("b"), pos2, true, 100L);
+        state.onElement(key("a"), pos3, false, 200L);
+
+        assertThat(state.getTombstoneCount(), is(2));
+        assertThat(state.expireTombstones(50L), is(empty()));
+
+        // the tombstone of "a" has been superseded, so only "b" is removed
+        assertThat(state.expireTombstones(150L), contains(pos2));
+        assertThat(state.getTombstoneCount(), is(0));
+        assertThat(state.getKeyCount(), is(1));
+        }
+
+    @Test
+    public void shouldNotScheduleChannelTwice()
+        {
+        TestCompactor compactor = new TestCompactor();
+
+        compactor.schedule(1, 2);
+        compactor.schedule(1, 2);
+        compactor.schedule(1, 3);
+
+        assertThat(compactor.m_queueTasks.size(), is(2));
+
+        compactor.runTasks();
+
+        assertThat(compactor.m_listInvoked, contains("1/2", "1/3"));
+
+        compactor.schedule(1, 2);
+        assertThat(compactor.m_queueTasks.size(), is(1));
+        }
+
+    @Test
+    public void shouldRescheduleWhileMorePagesRemain()
+        {
+        TestCompactor compactor = new TestCompactor();
+
+        compactor.m_cMore = 2;
+        compactor.schedule(1, 2);
+        compactor.runTasks();
+
+        assertThat(compactor.m_listInvoked, contains("1/2", "1/2", "1/2"));
+        }
+
+    @Test
+    public void shouldRescheduleIfPageSealedDuringCompaction()
+        {
+        TestCompactor compactor = new TestCompactor();
+
+        compactor.m_fScheduleOnInvoke = true;
+        compactor.schedule(1, 2);
+        compactor.runTasks();
+
+        assertThat(compactor.m_listInvoked, contains("1/2", "1/2"));
+        }
+
+    @Test
+    public void shouldNotScheduleOnceReleased()
+        {
+        TestCompactor compactor = new TestCompactor();
+
+        compactor.schedule(1, 2);
+        compactor.release();
+        compactor.schedule(1, 3);
+        compactor.runTasks();
+
+        assertThat(compactor.m_listInvoked, contains("1/2"));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    protected static Binary key(String s)
+        {
+        return new Binary(s.getBytes());
+        }
+
+    // ----- inner class: TestCompactor -------------------------------------
+
+    /**
+     * A {@link PagedTopicCompactor} that runs the compaction tasks on demand
+     * instead of invoking the compaction processor.
+     */
+    protected static class TestCompactor
+            extends PagedTopicCompactor
+        {
+        public TestCompactor()
+            {
+            super(mock(PagedTopicService.class), "test");
+            }
+
+        public void runTasks()
+            {
+            for (Runnable task = m_queueTasks.poll(); task != null; task = m_queueTasks.poll())
+                {
+                task.run();
+                }
+            }
+
+        @Override
+        protected CompletableFuture<Boolean> invoke(int nPartition, int nChannel)
+            {
+            m_listInvoked.add(nPartition + "/" + nChannel);
+            if (m_fScheduleOnInvoke)
+                {
+                m_fScheduleOnInvoke = false;
+                schedule(nPartition, nChannel);
+                }
+            return CompletableFuture.completedFuture(m_cMore-- > 0);
+            }
+
+        @Override
+        protected void execute(Runnable task)
+            {
+            m_queueTasks.add(task);
+            }
+
+        @Override
+        protected void pruneChannelStates()
+            {
+            }
+
+        protected final Queue<Runnable> m_queueTasks = new LinkedList<>();
+
+        protected final List<String> m_listInvoked = new ArrayList<>();
+
+        protected int m_cMore;
+
+        protected boolean m_fScheduleOnInvoke;
+        }
+    }
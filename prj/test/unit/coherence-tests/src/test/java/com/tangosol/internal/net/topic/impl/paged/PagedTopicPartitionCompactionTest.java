@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.net.topic.impl.paged;
+
+import com.tangosol.internal.net.topic.impl.paged.model.Page;
+import com.tangosol.internal.net.topic.impl.paged.model.PageElement;
+import com.tangosol.internal.net.topic.impl.paged.model.PagedPosition;
+import com.tangosol.internal.net.topic.impl.paged.model.Usage;
+
+import com.tangosol.net.BackingMapManagerContext;
+import com.tangosol.net.PagedTopicService;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.Extractors;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the compaction of a {@link PagedTopicPartition}.
+ *
+ * @author coh  2026.10.17
+ */
+public class PagedTopicPartitionCompactionTest
+    {
+    @Test
+    public void shouldRetainLatestElementOfEachKey()
+        {
+        TestPartition partition = new TestPartition();
+
+        partition.addPage(true, "a", "b");
+        partition.addPage(true, "a", "c");
+        partition.addPage(false, "b");
+
+        assertThat(partition.compact(CHANNEL), is(false));
+
+        assertThat(partition.element(1, 0), is(nullValue()));
+        assertThat(partition.element(1, 1), is(notNullValue()));
+        assertThat(partition.element(2, 0), is(notNullValue()));
+        assertThat(partition.element(2, 1), is(notNullValue()));
+        // the tail page is not sealed, so it is not compacted yet
+        assertThat(partition.element(3, 0), is(notNullValue()));
+        assertThat(partition.m_state.getWatermark(), is(2L));
+        }
+
+    @Test
+    public void shouldOnlyScanPagesAboveWatermark()
+        {
+        TestPartition partition = new TestPartition();
+
+        partition.addPage(true, "a", "b");
+        partition.addPage(true, "c");
+        partition.compact(CHANNEL);
+
+        // keep page 1 so that no emptied page is read before it is removed
+        partition.m_setSubscribed.add(1L);
+        partition.m_cRead = 0;
+        partition.addPage(true, "a", "b");
+        partition.compact(CHANNEL);
+
+        assertThat(partition.m_cRead, is(2));
+        assertThat(partition.element(1, 0), is(nullValue()));
+        assertThat(partition.element(1, 1), is(nullValue()));
+        assertThat(partition.element(3, 0), is(notNullValue()));
+        assertThat(partition.element(3, 1), is(notNullValue()));
+        }
+
+    @Test
+    public void shouldRemoveEmptiedHeadPages()
+        {
+        TestPartition partition = new TestPartition();
+
+        partition.addPage(true, "a");
+        partition.addPage(true, "a", "b");
+        partition.addPage(true, "a");
+        partition.addPage(false, "c");
+
+        partition.compact(CHANNEL);
+
+        // page 1 was left empty, page 2 still holds "b"
+        assertThat(partition.m_mapPages.containsKey(1L), is(false));
+        assertThat(partition.m_mapPages.containsKey(2L), is(true));
+        assertThat(partition.m_usage.getPartitionHead(), is(2L));
+        }
+
+    @Test
+    public void shouldNotRemoveSubscribedPages()
+        {
+        TestPartition partition = new TestPartition();
+
+        partition.addPage(true, "a");
+        partition.addPage(true, "a");
+        partition.addPage(false, "b");
+        partition.m_setSubscribed.add(1L);
+
+        partition.compact(CHANNEL);
+
+        assertThat(partition.element(1, 0), is(nullValue()));
+        assertThat(partition.m_mapPages.containsKey(1L), is(true));
+        assertThat(partition.m_usage.getPartitionHead(), is(1L));
+
+        partition.m_setSubscribed.clear();
+        partition.compact(CHANNEL);
+
+        assertThat(partition.m_mapPages.containsKey(1L), is(false));
+        assertThat(partition.m_usage.getPartitionHead(), is(2L));
+        }
+
+    @Test
+    public void shouldRemoveExpiredTombstones()
+        {
+        TestPartition partition = new TestPartition();
+
+        partition.addPage(true, "a");
+        partition.addTombstonePage("a");
+        partition.addPage(false, "b");
+
+        partition.m_ldtNow = 5L;
+        partition.compact(CHANNEL);
+
+        assertThat(partition.element(1, 0), is(nullValue()));
+        assertThat(partition.element(2, 0), is(notNullValue()));
+
+        partition.m_ldtNow = RETENTION + 5L;
+        partition.compact(CHANNEL);
+
+        assertThat(partition.element(2, 0), is(nullValue()));
+        assertThat(partition.m_state.getKeyCount(), is(0));
+        assertThat(partition.m_usage.getPartitionHead(), is(3L));
+        }
+
+    @Test
+    public void shouldLimitPagesPerInvocation()
+        {
+        TestPartition partition = new TestPartition();
+
+        for (int i = 0; i < PagedTopicPartition.MAX_COMPACTION_PAGES + 4; i++)
+            {
+            partition.addPage(true, "a");
+            }
+        partition.addPage(false, "b");
+
+        assertThat(partition.compact(CHANNEL), is(true));
+        assertThat(partition.m_state.getWatermark(), is((long) PagedTopicPartition.MAX_COMPACTION_PAGES));
+
+        assertThat(partition.compact(CHANNEL), is(false));
+        assertThat(partition.m_state.getWatermark(), is((long) PagedTopicPartition.MAX_COMPACTION_PAGES + 4));
+        assertThat(partition.m_mapElements.size(), is(2));
+        }
+
+    @Test
+    public void shouldNotCompactTopicWithoutCompactionKey()
+        {
+        TestPartition partition = new TestPartition();
+
+        partition.m_dependencies.setCompactionKeyExtractor(null);
+        partition.addPage(true, "a");
+        partition.addPage(true, "a");
+
+        assertThat(partition.compact(CHANNEL), is(false));
+        assertThat(partition.m_mapElements.size(), is(2));
+        }
+
+    // ----- inner class: TestPartition -------------------------------------
+
+    /**
+     * A {@link PagedTopicPartition} that keeps its pages and elements in memory.
+     */
+    protected static class TestPartition
+            extends PagedTopicPartition
+        {
+        public TestPartition()
+            {
+            super(context(), "test", PARTITION);
+
+            m_dependencies.setCompactionKeyExtractor(Extractors.identity());
+            m_dependencies.setTombstoneRetentionMillis(RETENTION);
+            }
+
+        public void addPage(boolean fSealed, String... asKey)
+            {
+            addPage(fSealed, false, asKey);
+            }
+
+        public void addTombstonePage(String... asKey)
+            {
+            addPage(true, true, asKey);
+            }
+
+        public Binary element(long lPage, int nPos)
+            {
+            return m_mapElements.get(new PagedPosition(lPage, nPos));
+            }
+
+        protected void addPage(boolean fSealed, boolean fTombstone, String... asKey)
+            {
+            long  lPage = ++m_lPageMax;
+            Usage usage = m_usage;
+            Page  page  = new Page();
+
+            for (int i = 0; i < asKey.length; i++)
+                {
+                Binary binElement = PageElement.withCompactionKey(new Binary(new byte[] {(byte) i}),
+                        new Binary(asKey[i].getBytes()), fTombstone);
+                m_mapElements.put(new PagedPosition(lPage, i), binElement);
+                }
+
+            page.setTail(asKey.length - 1);
+            page.setSealed(fSealed);
+            page.setTimestampTail(0L);
+
+            long lTail = usage.getPartitionTail();
+            if (lTail == Page.NULL_PAGE)
+                {
+                usage.setPartitionHead(lPage);
+                }
+            else
+                {
+                m_mapPages.get(lTail).setNextPartitionPage(lPage);
+                page.setPreviousPartitionPage(lTail);
+                }
+            usage.setPartitionTail(lPage);
+            m_mapPages.put(lPage, page);
+            }
+
+        @Override
+        public PagedTopicDependencies getDependencies()
+            {
+            return m_dependencies;
+            }
+
+        @Override
+        public long getClusterTime()
+            {
+            return m_ldtNow;
+            }
+
+        @Override
+        public boolean removePage(int nChannel, long lPage)
+            {
+            Page page = m_mapPages.remove(lPage);
+            if (page == null)
+                {
+                return false;
+                }
+            m_usage.setPartitionHead(page.getNextPartitionPage());
+            return true;
+            }
+
+        @Override
+        protected PagedTopicCompactor getCompactor()
+            {
+            return m_compactor;
+            }
+
+        @Override
+        protected Usage peekUsage(int nChannel)
+            {
+            return m_usage;
+            }
+
+        @Override
+        protected Page peekPage(int nChannel, long lPageId)
+            {
+            return m_mapPages.get(lPageId);
+            }
+
+        @Override
+        protected Binary readElement(int nChannel, long lPage, int nPos)
+            {
+            m_cRead++;
+            return m_mapElements.get(new PagedPosition(lPage, nPos));
+            }
+
+        @Override
+        protected boolean removeElement(int nChannel, long lPage, int nPos)
+            {
+            return m_mapElements.remove(new PagedPosition(lPage, nPos)) != null;
+            }
+
+        @Override
+        protected boolean isPageSubscribed(int nChannel, long lPage)
+            {
+            return m_setSubscribed.stream().anyMatch(l -> l <= lPage);
+            }
+
+        protected static BackingMapManagerContext context()
+            {
+            BackingMapManagerContext ctx = mock(BackingMapManagerContext.class);
+            when(ctx.getCacheService()).thenReturn(mock(PagedTopicService.class));
+            return ctx;
+            }
+
+        protected final DefaultPagedTopicDependencies m_dependencies = new DefaultPagedTopicDependencies(257);
+
+        protected final PagedTopicCompactor m_compactor = new PagedTopicCompactor(mock(PagedTopicService.class), "test");
+
+        protected final PagedTopicCompactor.ChannelState m_state = m_compactor.ensureChannelState(PARTITION, CHANNEL);
+
+        protected final Usage m_usage = new Usage();
+
+        protected final Map<Long, Page> m_mapPages = new HashMap<>();
+
+        protected final Map<PagedPosition, Binary> m_mapElements = new HashMap<>();
+
+        protected final Set<Long> m_setSubscribed = new HashSet<>();
+
+        protected long m_lPageMax;
+
+        protected long m_ldtNow;
+
+        protected int m_cRead;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    protected static final int PARTITION = 1;
+
+    protected static final int CHANNEL = 0;
+
+    protected static final long RETENTION = 1000L;
+    }
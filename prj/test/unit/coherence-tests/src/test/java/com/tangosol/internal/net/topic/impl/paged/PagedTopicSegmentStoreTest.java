@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.net.topic.impl.paged;
+
+import com.tangosol.util.Binary;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for {@link PagedTopicSegmentStore}.
+ *
+ * @author coh  2026.10.16
+ */
+public class PagedTopicSegmentStoreTest
+    {
+    @Test
+    public void shouldWriteAndReadElements()
+            throws IOException
+        {
+        PagedTopicSegmentStore store = new PagedTopicSegmentStore(m_folder.newFolder(), 1024);
+        Binary                 binA  = binary(100, (byte) 'a');
+        Binary                 binB  = binary(200, (byte) 'b');
+
+        Binary binPtrA = store.write(0, binA);
+        Binary binPtrB = store.write(1, binB);
+
+        assertThat(PagedTopicSegmentStore.isPointer(binPtrA), is(true));
+        assertThat(PagedTopicSegmentStore.isPointer(binA), is(false));
+        assertThat(store.read(binPtrA), is(binA));
+        assertThat(store.read(binPtrB), is(binB));
+        assertThat(store.getSegmentCount(), is(2));
+        assertThat(store.getElementCount(), is(2L));
+        assertThat(store.getElementBytes(), is(300L));
+
+        store.close();
+        }
+
+    @Test
+    public void shouldSealAndDeleteSegments()
+            throws IOException
+        {
+        File                   dir     = m_folder.newFolder();
+        PagedTopicSegmentStore store   = new PagedTopicSegmentStore(dir, 1024);
+        List<Binary>           listPtr = new ArrayList<>();
+        List<Binary>           listBin = new ArrayList<>();
+
+        // ten elements of 300 bytes roll over to a new segment every three elements
+        for (int i = 0; i < 10; i++)
+            {
+            Binary bin = binary(300, (byte) i);
+            listBin.add(bin);
+            listPtr.add(store.write(0, bin));
+            }
+
+        assertThat(store.getSegmentCount(), is(4));
+        for (int i = 0; i < 10; i++)
+            {
+            assertThat(store.read(listPtr.get(i)), is(listBin.get(i)));
+            }
+
+        // releasing the elements of the first (sealed) segment deletes it
+        for (int i = 0; i < 3; i++)
+            {
+            store.release(listPtr.get(i));
+            store.release(listPtr.get(i));
+            }
+
+        assertThat(store.getSegmentCount(), is(3));
+        assertThat(store.getElementCount(), is(7L));
+        assertThat(store.read(listPtr.get(0)), is(nullValue()));
+        assertThat(store.read(listPtr.get(3)), is(listBin.get(3)));
+        assertThat(dir.list().length, is(3));
+
+        store.close();
+        assertThat(dir.exists(), is(false));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    protected static Binary binary(int cb, byte b)
+        {
+        byte[] ab = new byte[cb];
+        for (int i = 0; i < cb; i++)
+            {
+            ab[i] = (byte) (b + i);
+            }
+        return new Binary(ab);
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    @Rule
+    public TemporaryFolder m_folder = new TemporaryFolder();
+    }
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.net.topic.impl.paged.agent;
+
+import com.tangosol.internal.net.topic.impl.paged.PagedTopicPartition;
+import com.tangosol.internal.net.topic.impl.paged.model.Usage;
+
+import com.tangosol.io.pof.ConfigurablePofContext;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.ExternalizableHelper;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author coh  2026.10.17
+ */
+@SuppressWarnings("unchecked")
+public class CompactionProcessorTest
+    {
+    @Test
+    public void shouldSerializeUsingPof()
+        {
+        ConfigurablePofContext serializer = new ConfigurablePofContext("coherence-pof-config.xml");
+        CompactionProcessor    processor  = new CompactionProcessor();
+
+        Binary              binary = ExternalizableHelper.toBinary(processor, serializer);
+        CompactionProcessor result = ExternalizableHelper.fromBinary(binary, serializer);
+
+        assertThat(result.getDataVersion(), is(processor.getImplVersion()));
+        }
+
+    @Test
+    public void shouldCompactChannel()
+        {
+        PagedTopicPartition           partition = mock(PagedTopicPartition.class);
+        BinaryEntry<Usage.Key, Usage> entry     = mock(BinaryEntry.class);
+
+        when(entry.getKey()).thenReturn(new Usage.Key(1, 2));
+        when(partition.compact(2)).thenReturn(true);
+
+        CompactionProcessor processor = new CompactionProcessor((e) -> partition);
+
+        assertThat(processor.process(entry), is(true));
+        verify(partition).compact(2);
+        }
+    }
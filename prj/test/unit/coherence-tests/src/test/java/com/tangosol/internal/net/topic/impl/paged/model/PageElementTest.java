@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -14,6 +14,8 @@ import org.junit.Test;
 
 import java.time.Instant;
 
+import java.util.zip.Deflater;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -63,4 +65,62 @@ public class PageElementTest
         assertThat(element.getValue(), is(nullValue()));
         }
 
+    @Test
+    public void shouldDecorateWithCompactionKey()
+        {
+        long       lMillis    = Instant.now().toEpochMilli();
+        Serializer serializer = new DefaultSerializer();
+        Binary     binValue   = ExternalizableHelper.toBinary("value-one", serializer);
+        Binary     binKey     = ExternalizableHelper.toBinary("key-one", serializer);
+        Binary     binary     = PageElement.toBinary(19, 6676L, 10, lMillis, binValue);
+
+        assertThat(PageElement.getCompactionKey(binary), is(nullValue()));
+        assertThat(PageElement.isTombstone(binary), is(false));
+
+        Binary binElement   = PageElement.withCompactionKey(binary, binKey, false);
+        Binary binTombstone = PageElement.withCompactionKey(binary, binKey, true);
+
+        assertThat(PageElement.getCompactionKey(binElement), is(binKey));
+        assertThat(PageElement.isTombstone(binElement), is(false));
+        assertThat(PageElement.getCompactionKey(binTombstone), is(binKey));
+        assertThat(PageElement.isTombstone(binTombstone), is(true));
+
+        Binary              binStripped = PageElement.removeCompactionKey(binTombstone);
+        PageElement<String> element     = PageElement.fromBinary(binStripped, serializer);
+
+        assertThat(PageElement.getCompactionKey(binStripped), is(nullValue()));
+        assertThat(element.getPosition(), is(new PagedPosition(6676L, 10)));
+        assertThat(element.getBinaryValue(), is(binValue));
+        assertThat(element.getValue(), is("value-one"));
+        }
+
+    @Test
+    public void shouldCompressValue()
+        {
+        long       lMillis    = Instant.now().toEpochMilli();
+        Serializer serializer = new DefaultSerializer();
+        Binary     binValue   = ExternalizableHelper.toBinary("value-one ".repeat(100), serializer);
+        Binary     binSmall   = ExternalizableHelper.toBinary("value-one", serializer);
+        Deflater   deflater   = new Deflater(Deflater.BEST_SPEED);
+
+        Binary binCompressed = PageElement.compress(binValue, deflater);
+
+        assertThat(PageElement.isCompressed(binCompressed), is(true));
+        assertThat(binCompressed.length() < binValue.length(), is(true));
+        assertThat(PageElement.decompress(binCompressed), is(binValue));
+
+        // values that are too small are not compressed
+        assertThat(PageElement.compress(binSmall, deflater), is(binSmall));
+        assertThat(PageElement.isCompressed(binSmall), is(false));
+
+        Binary              binary  = PageElement.toBinary(19, 6676L, 10, lMillis, binCompressed);
+        PageElement<String> element = PageElement.fromBinary(binary, serializer);
+
+        assertThat(PageElement.isCompressed(binary), is(true));
+        assertThat(element.getPosition(), is(new PagedPosition(6676L, 10)));
+        assertThat(element.getBinaryValue(), is(binValue));
+        assertThat(element.getValue(), is("value-one ".repeat(100)));
+
+        deflater.end();
+        }
     }
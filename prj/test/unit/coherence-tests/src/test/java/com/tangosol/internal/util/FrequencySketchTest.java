@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.util;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for {@link FrequencySketch}.
+ *
+ * @author coh  2026.10.17
+ */
+public class FrequencySketchTest
+    {
+    @Test
+    public void shouldEstimateFrequency()
+        {
+        FrequencySketch sketch = new FrequencySketch(512);
+
+        for (int i = 0; i < 5; i++)
+            {
+            sketch.increment(42);
+            }
+
+        assertThat(sketch.frequency(42), is(5));
+        }
+
+    @Test
+    public void shouldRetainFrequenciesOnGrowth()
+        {
+        FrequencySketch sketch = new FrequencySketch(16);
+        int[]           anFreq = new int[64];
+
+        for (int nHash = 0; nHash < anFreq.length; nHash++)
+            {
+            for (int i = 0; i < nHash % 4; i++)
+                {
+                sketch.increment(nHash);
+                }
+            anFreq[nHash] = sketch.frequency(nHash);
+            }
+
+        sketch.ensureCapacity(4096);
+
+        for (int nHash = 0; nHash < anFreq.length; nHash++)
+            {
+            assertThat(sketch.frequency(nHash), is(anFreq[nHash]));
+            }
+        }
+
+    @Test
+    public void shouldNotShrink()
+        {
+        FrequencySketch sketch = new FrequencySketch(1024);
+
+        sketch.increment(7);
+        sketch.increment(7);
+        sketch.ensureCapacity(16);
+
+        assertThat(sketch.frequency(7), is(2));
+        }
+    }
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.util.extractor;
+
+import com.tangosol.io.pof.PofAnnotationSerializer;
+import com.tangosol.io.pof.SimplePofContext;
+
+import com.tangosol.io.pof.annotation.Portable;
+import com.tangosol.io.pof.annotation.PortableProperty;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.MapIndex;
+
+import com.tangosol.util.extractor.UniversalExtractor;
+
+import org.junit.Test;
+
+import static com.tangosol.util.ExternalizableHelper.toBinary;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.junit.Assume.assumeFalse;
+
+/**
+ * Unit tests for {@link PofPropertyResolver}.
+ *
+ * @author coh  2026.10.16
+ */
+public class PofPropertyResolverTest
+    {
+    @Test
+    public void shouldExtractPropertiesWithoutDeserialization()
+        {
+        SimplePofContext    ctx      = createContext();
+        PofPropertyResolver resolver = new PofPropertyResolver(true);
+        Binary              binValue = toBinary(new Trade("ORCL", 100, 172.5, 0L), ctx);
+        long                cAvoided = PofPropertyResolver.getDeserializationsAvoided();
+
+        assertThat(resolver.extract(ctx, new UniversalExtractor<>("symbol"), binValue), is("ORCL"));
+        assertThat(resolver.extract(ctx, new UniversalExtractor<>("quantity"), binValue), is(100));
+        assertThat(resolver.extract(ctx, new UniversalExtractor<>("price"), binValue), is(172.5));
+
+        // a compact POF value must be converted to the property type
+        Object oId = resolver.extract(ctx, new UniversalExtractor<>("id"), binValue);
+        assertThat(oId, instanceOf(Long.class));
+        assertThat(oId, is(0L));
+
+        assertThat(PofPropertyResolver.getDeserializationsAvoided() - cAvoided, is(4L));
+        }
+
+    @Test
+    public void shouldBeDisabledByDefault()
+        {
+        SimplePofContext    ctx      = createContext();
+        PofPropertyResolver resolver = PofPropertyResolver.getInstance(ctx);
+        Binary              binValue = toBinary(new Trade("ORCL", 100, 172.5, 0L), ctx);
+
+        assertThat(PofPropertyResolver.getInstance(ctx), sameInstance(resolver));
+        assumeFalse(PofPropertyResolver.ENABLED);
+
+        // an accessor may transform the field value, so the property is
+        // only read from the POF stream if explicitly enabled
+        assertThat(resolver.extract(ctx, new UniversalExtractor<>("symbol"), binValue), sameInstance(MapIndex.NO_VALUE));
+        assertThat(new PofPropertyResolver(false).extract(ctx, new UniversalExtractor<>("symbol"), binValue),
+                   sameInstance(MapIndex.NO_VALUE));
+        }
+
+    @Test
+    public void shouldNotResolveUnsupportedExtractors()
+        {
+        SimplePofContext    ctx      = createContext();
+        PofPropertyResolver resolver = new PofPropertyResolver(true);
+        Binary              binValue = toBinary(new Trade("ORCL", 100, 172.5, 1L), ctx);
+        long                cAvoided = PofPropertyResolver.getDeserializationsAvoided();
+
+        // method invocations, unknown properties, properties that are not
+        // portable and values that are not user types
+        assertThat(resolver.extract(ctx, new UniversalExtractor<>("getSymbol()"), binValue), sameInstance(MapIndex.NO_VALUE));
+        assertThat(resolver.extract(ctx, new UniversalExtractor<>("venue"), binValue), sameInstance(MapIndex.NO_VALUE));
+        assertThat(resolver.extract(ctx, new UniversalExtractor<>("notional"), binValue), sameInstance(MapIndex.NO_VALUE));
+        assertThat(resolver.extract(ctx, new UniversalExtractor<>("length"), toBinary("ORCL", ctx)), sameInstance(MapIndex.NO_VALUE));
+
+        assertThat(PofPropertyResolver.getDeserializationsAvoided() - cAvoided, is(0L));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    protected SimplePofContext createContext()
+        {
+        SimplePofContext ctx = new SimplePofContext();
+        ctx.registerUserType(1001, Trade.class, new PofAnnotationSerializer<>(1001, Trade.class, false));
+        return ctx;
+        }
+
+    // ----- inner class: Trade ---------------------------------------------
+
+    @Portable
+    public static class Trade
+        {
+        public Trade()
+            {
+            }
+
+        public Trade(String sSymbol, int nQuantity, double dflPrice, long lId)
+            {
+            m_sSymbol   = sSymbol;
+            m_nQuantity = nQuantity;
+            m_dPrice    = dflPrice;
+            m_lId       = lId;
+            }
+
+        public String getSymbol()
+            {
+            return m_sSymbol;
+            }
+
+        public int getQuantity()
+            {
+            return m_nQuantity;
+            }
+
+        public double getPrice()
+            {
+            return m_dPrice;
+            }
+
+        public long getId()
+            {
+            return m_lId;
+            }
+
+        public double getNotional()
+            {
+            return m_nQuantity * m_dPrice;
+            }
+
+        @PortableProperty(0)
+        protected String m_sSymbol;
+
+        @PortableProperty(1)
+        protected int m_nQuantity;
+
+        @PortableProperty(2)
+        protected double m_dPrice;
+
+        @PortableProperty(3)
+        protected long m_lId;
+        }
+    }
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.io.journal;
+
+import com.tangosol.util.Binary;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+
+import static org.junit.Assume.assumeFalse;
+
+/**
+ * Unit tests for {@link JournalBinaryStore}.
+ *
+ * @author coh  2026.10.16
+ */
+public class JournalBinaryStoreTest
+    {
+    @Test
+    public void shouldStoreLoadAndErase()
+        {
+        JournalBinaryStore store = createStore(1L << 20, 0L);
+
+        Binary binKey = bin("key");
+        store.store(binKey, bin("value-1"));
+        assertThat(store.load(binKey), is(bin("value-1")));
+        assertThat(store.containsKey(binKey), is(true));
+        assertThat(store.size(), is(1));
+
+        store.store(binKey, bin("value-2"));
+        assertThat(store.load(binKey), is(bin("value-2")));
+        assertThat(store.size(), is(1));
+
+        store.erase(binKey);
+        assertThat(store.load(binKey), is(nullValue()));
+        assertThat(store.containsKey(binKey), is(false));
+        assertThat(store.size(), is(0));
+        assertThat(store.getLiveBytes(), is(0L));
+        }
+
+    @Test
+    public void shouldMatchHashMapUnderRandomOperations()
+        {
+        JournalBinaryStore  store = createStore(4L << 20, 0L);
+        Map<Binary, Binary> map   = new HashMap<>();
+        Random              rnd   = new Random(42);
+
+        for (int i = 0; i < 50_000; i++)
+            {
+            Binary binKey = bin("k" + rnd.nextInt(2_000));
+            if (rnd.nextInt(4) == 0)
+                {
+                store.erase(binKey);
+                map.remove(binKey);
+                }
+            else
+                {
+                Binary binValue = new Binary(new byte[rnd.nextInt(200)]);
+                store.store(binKey, binValue);
+                map.put(binKey, binValue);
+                }
+            }
+
+        assertThat(store.size(), is(map.size()));
+        for (Map.Entry<Binary, Binary> entry : map.entrySet())
+            {
+            assertThat(store.load(entry.getKey()), is(entry.getValue()));
+            }
+
+        Set<Binary> setKeys = new HashSet<>();
+        for (Iterator<Binary> iter = store.keys(); iter.hasNext(); )
+            {
+            setKeys.add(iter.next());
+            }
+        assertThat(setKeys, is(map.keySet()));
+        }
+
+    @Test
+    public void shouldCompactSparseSlabs()
+        {
+        JournalBinaryStore store = createStore(8L << 20, 0L);
+        Binary             binValue = new Binary(new byte[1000]);
+
+        for (int i = 0; i < 2_000; i++)
+            {
+            store.store(bin("k" + i), binValue);
+            }
+
+        // leave only every tenth entry alive
+        for (int i = 0; i < 2_000; i++)
+            {
+            if (i % 10 != 0)
+                {
+                store.erase(bin("k" + i));
+                }
+            }
+
+        // compaction may have already been triggered in the background;
+        // either way the 200 live records must fit into a handful of slabs
+        store.compact();
+
+        assertThat(store.getSlabCount(), lessThan(6));
+        assertThat(store.size(), is(200));
+        for (int i = 0; i < 2_000; i += 10)
+            {
+            assertThat(store.load(bin("k" + i)), is(binValue));
+            }
+        }
+
+    @Test
+    public void shouldOverflowToFileTier()
+        {
+        JournalBinaryStoreManager manager = new JournalBinaryStoreManager("test",
+                JournalBinaryStoreManager.MIN_SLAB_SIZE, JournalBinaryStoreManager.MIN_SLAB_SIZE, true,
+                4L << 20, null, JournalBinaryStoreManager.DEFAULT_MIN_LOAD_FACTOR);
+
+        JournalBinaryStore store    = (JournalBinaryStore) manager.createBinaryStore();
+        Binary             binValue = new Binary(new byte[1000]);
+
+        for (int i = 0; i < 500; i++)
+            {
+            store.store(bin("k" + i), binValue);
+            }
+
+        assertThat(manager.getFileBytes() > 0L, is(true));
+        for (int i = 0; i < 500; i++)
+            {
+            assertThat(store.load(bin("k" + i)), is(binValue));
+            }
+
+        manager.destroyBinaryStore(store);
+        assertThat(manager.getFileBytes(), is(0L));
+        }
+
+    @Test
+    public void shouldRemoveSlabFilesOnceMapped()
+            throws IOException
+        {
+        // Windows does not allow removing a mapped file
+        assumeFalse(File.separatorChar == '\\');
+
+        File                      fileDir = m_folder.newFolder();
+        JournalBinaryStoreManager manager = new JournalBinaryStoreManager("test",
+                JournalBinaryStoreManager.MIN_SLAB_SIZE, 0L, false,
+                4L << 20, fileDir, JournalBinaryStoreManager.DEFAULT_MIN_LOAD_FACTOR);
+
+        JournalBinaryStore store    = (JournalBinaryStore) manager.createBinaryStore();
+        Binary             binValue = new Binary(new byte[1000]);
+
+        for (int i = 0; i < 500; i++)
+            {
+            store.store(bin("k" + i), binValue);
+            }
+
+        assertThat(manager.getFileBytes() > 0L, is(true));
+        assertThat(fileDir.list().length, is(0));
+        assertThat(store.load(bin("k0")), is(binValue));
+
+        manager.destroyBinaryStore(store);
+        }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailWhenJournalIsFull()
+        {
+        JournalBinaryStore store = createStore(JournalBinaryStoreManager.MIN_SLAB_SIZE, 0L);
+        Binary             binValue = new Binary(new byte[1000]);
+
+        for (int i = 0; i < 1_000; i++)
+            {
+            store.store(bin("k" + i), binValue);
+            }
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    protected static JournalBinaryStore createStore(long cbMemory, long cbFile)
+        {
+        JournalBinaryStoreManager manager = new JournalBinaryStoreManager("test",
+                JournalBinaryStoreManager.MIN_SLAB_SIZE, cbMemory, true, cbFile, null,
+                JournalBinaryStoreManager.DEFAULT_MIN_LOAD_FACTOR);
+
+        return (JournalBinaryStore) manager.createBinaryStore();
+        }
+
+    protected static Binary bin(String s)
+        {
+        return new Binary(s.getBytes());
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    @Rule
+    public TemporaryFolder m_folder = new TemporaryFolder();
+    }
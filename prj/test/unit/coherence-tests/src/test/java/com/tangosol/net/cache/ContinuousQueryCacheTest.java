@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -920,6 +920,79 @@ public class ContinuousQueryCacheTest
         BaseMapTest.assertIdenticalMaps(expectedView, cacheCQC);
         }
 
+    /**
+    * Mirror a cache's contents using the binary storage mode.
+    */
+    @Test
+    public void mirrorCache_binaryStorage()
+        {
+        storageMode_helper(ContinuousQueryCache.StorageMode.BINARY);
+        }
+
+    /**
+    * Mirror a cache's contents using the off-heap storage mode.
+    */
+    @Test
+    public void mirrorCache_offHeapStorage()
+        {
+        storageMode_helper(ContinuousQueryCache.StorageMode.OFF_HEAP);
+        }
+
+    /**
+    * Mirror a cache's contents over time, storing the values in the
+    * specified mode, and ensure that queries against an indexed view
+    * return deserialized values.
+    */
+    public void storageMode_helper(ContinuousQueryCache.StorageMode mode)
+        {
+        NamedCache cacheBase = getNewCache("cqc-test");
+        cacheBase.put("1", 1);
+        cacheBase.put("2", 2);
+        cacheBase.put("3", 3);
+
+        ContinuousQueryCache cacheCQC = new ContinuousQueryCache(() -> cacheBase,
+                AlwaysFilter.INSTANCE, true, null, null, null, mode);
+
+        assertEquals(mode, cacheCQC.getStorageMode());
+        BaseMapTest.assertIdenticalMaps(cacheBase, cacheCQC);
+
+        cacheBase.put("4", 4);
+        BaseMapTest.assertIdenticalMaps(cacheBase, cacheCQC);
+
+        cacheBase.put("1", 11);
+        assertEquals(11, cacheCQC.get("1"));
+
+        cacheBase.remove("2");
+        BaseMapTest.assertIdenticalMaps(cacheBase, cacheCQC);
+
+        cacheCQC.put("5", 5);
+        BaseMapTest.assertIdenticalMaps(cacheBase, cacheCQC);
+
+        // the internal cache must not hold the deserialized values
+        for (Object oValue : cacheCQC.getInternalCache().values())
+            {
+            assertFalse(oValue instanceof Integer);
+            }
+
+        ValueExtractor extractor = new IdentityExtractor();
+        cacheCQC.addIndex(extractor, true, null);
+
+        Set setEntries = cacheCQC.entrySet(new GreaterEqualsFilter(extractor, 5));
+        assertEquals(2, setEntries.size());
+        for (Object oEntry : setEntries)
+            {
+            assertTrue(((Map.Entry) oEntry).getValue() instanceof Integer);
+            }
+
+        cacheBase.remove("5");
+        assertEquals(new HashSet(Arrays.asList("1")),
+                cacheCQC.keySet(new GreaterEqualsFilter(extractor, 5)));
+
+        cacheCQC.clear();
+        BaseMapTest.assertIdenticalMaps(cacheBase, cacheCQC);
+        assertTrue(cacheBase.isEmpty());
+        }
+
     /**
     * Testable CQC extension that gives access to the index map.
     */
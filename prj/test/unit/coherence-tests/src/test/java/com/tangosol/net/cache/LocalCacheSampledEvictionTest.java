@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.net.cache;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Unit tests for the {@link LocalCache#EVICTION_POLICY_SAMPLED sampled}
+ * eviction policy of {@link LocalCache}.
+ *
+ * @author coh  2026.10.16
+ */
+public class LocalCacheSampledEvictionTest
+    {
+    @Test
+    public void shouldConfigureSampledPolicy()
+        {
+        LocalCache cache = createCache(1000);
+
+        assertThat(cache.getEvictionType(), is(LocalCache.EVICTION_POLICY_SAMPLED));
+        assertThat(cache.getEvictionPolicy(), is(LocalCache.INSTANCE_SAMPLED));
+        assertThat(cache.getEvictionPolicy().getName(), is("Internal-Sampled"));
+        }
+
+    @Test
+    public void shouldRespectHighUnits()
+        {
+        LocalCache cache = createCache(1000);
+
+        for (int i = 0; i < 10_000; i++)
+            {
+            cache.put(i, i);
+            assertThat(cache.size(), lessThanOrEqualTo(1000));
+            }
+
+        assertThat(cache.size(), greaterThan(0));
+        }
+
+    @Test
+    public void shouldRetainFrequentlyUsedEntries()
+        {
+        LocalCache cache = createCache(1000);
+
+        // establish a small hot set
+        for (int iPass = 0; iPass < 10; iPass++)
+            {
+            for (int i = 0; i < 100; i++)
+                {
+                cache.put(i, i);
+                cache.get(i);
+                }
+            }
+
+        // scan a large number of keys that are used only once
+        for (int i = 100; i < 20_000; i++)
+            {
+            cache.put(i, i);
+            }
+
+        int cHot = 0;
+        for (int i = 0; i < 100; i++)
+            {
+            if (cache.peek(i) != null)
+                {
+                cHot++;
+                }
+            }
+        assertThat(cHot, greaterThan(90));
+        }
+
+    @Test
+    public void shouldOutperformHybridOnSkewedWorkload()
+        {
+        long cHitsSampled = runSkewedWorkload(LocalCache.EVICTION_POLICY_SAMPLED);
+        long cHitsHybrid  = runSkewedWorkload(LocalCache.EVICTION_POLICY_HYBRID);
+
+        // the sampled policy must be at least competitive with hybrid
+        assertThat(cHitsSampled * 10, greaterThan(cHitsHybrid * 9));
+        }
+
+    @Test
+    public void shouldEstimateCapacityFromEntryCount()
+        {
+        LocalCache cache = createCache(10_000);
+
+        cache.setUnitCalculator(new ConfigurableCacheMap.UnitCalculator()
+            {
+            @Override
+            public int calculateUnits(Object oKey, Object oValue)
+                {
+                return 10;
+                }
+
+            @Override
+            public String getName()
+                {
+                return "Fixed10";
+                }
+            });
+        assertThat(cache.estimateCapacity(), is(0L));
+
+        for (int i = 0; i < 100; i++)
+            {
+            cache.put(i, i);
+            }
+
+        // 100 entries of 10 units each, so 1000 entries fit in the cache
+        assertThat(cache.estimateCapacity(), is(1000L));
+        }
+
+    @Test
+    public void shouldEstimateFixedCapacity()
+        {
+        assertThat(createCache(1000).estimateCapacity(), is(1000L));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    protected static LocalCache createCache(int cUnits)
+        {
+        LocalCache cache = new LocalCache(cUnits);
+        cache.setEvictionType(LocalCache.EVICTION_POLICY_SAMPLED);
+        return cache;
+        }
+
+    protected static long runSkewedWorkload(int nType)
+        {
+        LocalCache cache = new LocalCache(1000);
+        cache.setEvictionType(nType);
+
+        Random rnd   = new Random(7);
+        long   cHits = 0;
+        for (int i = 0; i < 200_000; i++)
+            {
+            // roughly Zipfian: most requests go to a few thousand keys
+            int nKey = (int) Math.pow(100_000, rnd.nextDouble());
+            if (cache.get(nKey) == null)
+                {
+                cache.put(nKey, nKey);
+                }
+            else
+                {
+                cHits++;
+                }
+            }
+        return cHits;
+        }
+    }
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.util;
+
+import com.tangosol.util.aggregator.DoubleAverage;
+import com.tangosol.util.aggregator.DoubleMax;
+import com.tangosol.util.aggregator.DoubleSum;
+import com.tangosol.util.aggregator.LongMax;
+import com.tangosol.util.aggregator.LongMin;
+import com.tangosol.util.aggregator.LongSum;
+
+import com.tangosol.util.extractor.ColumnarExtractor;
+import com.tangosol.util.extractor.IdentityExtractor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+* ColumnarIndex unit tests
+*
+* @author coh 2026.10.16
+*/
+public class ColumnarIndexTest
+    {
+    /**
+    * Test insert, update and delete of integral values.
+    */
+    @Test
+    public void testInsertUpdateDelete()
+        {
+        ColumnarIndex index = new ColumnarIndex(IdentityExtractor.INSTANCE, null);
+
+        index.insert(new SimpleMapEntry("a", 1));
+        index.insert(new SimpleMapEntry("b", 2L));
+        index.insert(new SimpleMapEntry("c", (short) 3));
+        index.insert(new SimpleMapEntry("d", null));
+
+        assertTrue(index.isValid());
+        assertFalse(index.isFloatingPoint());
+        assertEquals(3, index.size());
+        assertEquals(2L, index.get("b"));
+        assertSame(MapIndex.NO_VALUE, index.get("d"));
+
+        index.update(new SimpleMapEntry("a", 10));
+        assertEquals(10L, index.get("a"));
+
+        // the last value is moved into the slot of the deleted one
+        index.delete(new SimpleMapEntry("a", 10));
+        assertEquals(2, index.size());
+        assertSame(MapIndex.NO_VALUE, index.get("a"));
+        assertEquals(3L, index.get("c"));
+
+        // an update to null removes the value
+        index.update(new SimpleMapEntry("c", null));
+        assertEquals(1, index.size());
+        assertEquals(2L, index.get("b"));
+        }
+
+    /**
+    * Test the promotion of an integral column to floating point.
+    */
+    @Test
+    public void testPromotion()
+        {
+        ColumnarIndex index = new ColumnarIndex(IdentityExtractor.INSTANCE, null);
+
+        for (int i = 0; i < 100; i++)
+            {
+            index.insert(new SimpleMapEntry(i, i));
+            }
+        index.insert(new SimpleMapEntry(100, 0.5));
+
+        assertTrue(index.isValid());
+        assertTrue(index.isFloatingPoint());
+        assertEquals(101, index.size());
+        assertEquals(42.0, index.get(42));
+        assertEquals(0.5, index.get(100));
+        }
+
+    /**
+    * Test that a non-numeric value invalidates the index.
+    */
+    @Test
+    public void testInvalidation()
+        {
+        ColumnarIndex index = new ColumnarIndex(IdentityExtractor.INSTANCE, null);
+
+        index.insert(new SimpleMapEntry("a", 1));
+        index.insert(new SimpleMapEntry("b", "x"));
+
+        assertFalse(index.isValid());
+        assertSame(MapIndex.NO_VALUE, index.get("a"));
+        assertFalse(index.aggregate(new LongSum<>(IdentityExtractor.INSTANCE)));
+
+        Map mapIndex = new HashMap();
+        mapIndex.put(new ColumnarExtractor<>(IdentityExtractor.INSTANCE), index);
+        assertNull(ColumnarIndex.find(mapIndex, IdentityExtractor.INSTANCE));
+        }
+
+    /**
+    * Test that the aggregators produce the same results from the columns as
+    * they do from the entries.
+    */
+    @Test
+    public void testAggregate()
+        {
+        ColumnarIndex index   = new ColumnarIndex(IdentityExtractor.INSTANCE, null);
+        Map           mapData = new HashMap();
+        for (int i = 1; i <= 1000; i++)
+            {
+            Object oValue = i % 10 == 0 ? null : Integer.valueOf(i);
+            mapData.put(i, oValue);
+            index.insert(new SimpleMapEntry(i, oValue));
+            }
+
+        Map mapIndex = new HashMap();
+        mapIndex.put(new ColumnarExtractor<>(IdentityExtractor.INSTANCE), index);
+        assertSame(index, ColumnarIndex.find(mapIndex, IdentityExtractor.INSTANCE));
+
+        assertAggregate(new LongSum<>(IdentityExtractor.INSTANCE), index, mapData);
+        assertAggregate(new LongMin<>(IdentityExtractor.INSTANCE), index, mapData);
+        assertAggregate(new DoubleMax<>(IdentityExtractor.INSTANCE), index, mapData);
+        assertAggregate(new DoubleAverage<>(IdentityExtractor.INSTANCE), index, mapData);
+
+        index.insert(new SimpleMapEntry(0, 0.25));
+        mapData.put(0, 0.25);
+
+        assertAggregate(new DoubleSum<>(IdentityExtractor.INSTANCE), index, mapData);
+
+        // integral aggregators process the entries of a floating point column
+        assertFalse(index.aggregate(new LongSum<>(IdentityExtractor.INSTANCE)));
+        assertFalse(index.aggregate(new LongMax<>(IdentityExtractor.INSTANCE)));
+        }
+
+    /**
+    * Test that the integral aggregators do not process a promoted column,
+    * which has rounded the integral values above 2^53.
+    */
+    @Test
+    public void testPromotionPrecision()
+        {
+        ColumnarIndex index = new ColumnarIndex(IdentityExtractor.INSTANCE, null);
+        long          lMax  = (1L << 53) + 1;
+
+        index.insert(new SimpleMapEntry("a", lMax));
+        index.insert(new SimpleMapEntry("b", 1L));
+
+        LongMax<Object> agentMax = new LongMax<>(IdentityExtractor.INSTANCE);
+        assertTrue(index.aggregate(agentMax));
+        assertEquals(lMax, (long) agentMax.finalizeResult());
+
+        index.insert(new SimpleMapEntry("c", 0.5));
+        assertTrue(index.isFloatingPoint());
+        assertFalse(index.aggregate(new LongMax<>(IdentityExtractor.INSTANCE)));
+        assertFalse(index.aggregate(new LongMin<>(IdentityExtractor.INSTANCE)));
+        assertFalse(index.aggregate(new LongSum<>(IdentityExtractor.INSTANCE)));
+        assertTrue(index.aggregate(new DoubleMax<>(IdentityExtractor.INSTANCE)));
+        }
+
+    /**
+    * Test that the ColumnarExtractor associates the index with itself.
+    */
+    @Test
+    public void testCreateIndex()
+        {
+        ColumnarExtractor extractor = new ColumnarExtractor<>(IdentityExtractor.INSTANCE);
+        Map               mapIndex  = new HashMap();
+
+        MapIndex index = extractor.createIndex(false, null, mapIndex, null);
+        assertTrue(index instanceof ColumnarIndex);
+        assertSame(index, mapIndex.get(extractor));
+        assertNull(mapIndex.get(IdentityExtractor.INSTANCE));
+        assertNull(extractor.createIndex(false, null, mapIndex, null));
+
+        assertSame(index, extractor.destroyIndex(mapIndex));
+        assertTrue(mapIndex.isEmpty());
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+    * Assert that the specified aggregator produces the same partial result
+    * from the index as it does from the entries.
+    */
+    protected void assertAggregate(InvocableMap.StreamingAggregator agent, ColumnarIndex index, Map mapData)
+        {
+        InvocableMap.StreamingAggregator agentColumn = agent.supply();
+        assertTrue(index.aggregate((ColumnarIndex.Aggregator) agentColumn));
+
+        InvocableMap.StreamingAggregator agentEntry = agent.supply();
+        for (Object o : mapData.entrySet())
+            {
+            Map.Entry entry = (Map.Entry) o;
+            agentEntry.accumulate(new InvocableMapHelper.SimpleEntry(entry.getKey(), entry.getValue()));
+            }
+
+        Object oColumn = agentColumn.getPartialResult();
+        Object oEntry  = agentEntry.getPartialResult();
+        if (oEntry instanceof byte[])
+            {
+            assertArrayEquals((byte[]) oEntry, (byte[]) oColumn);
+            }
+        else
+            {
+            assertEquals(oEntry, oColumn);
+            }
+        }
+    }
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.util;
+
+import com.tangosol.util.extractor.IdentityExtractor;
+
+import com.tangosol.util.filter.BetweenFilter;
+import com.tangosol.util.filter.EqualsFilter;
+import com.tangosol.util.filter.InFilter;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * CompactMapIndex unit tests.
+ *
+ * @author coh  2026.10.16
+ */
+public class CompactMapIndexTest
+    {
+    @Test
+    public void shouldUseCompactRepresentationForScalars()
+        {
+        CompactMapIndex index = new CompactMapIndex(IdentityExtractor.INSTANCE, true, null, null);
+
+        index.insert(new SimpleMapEntry("key1", 1L));
+        index.insert(new SimpleMapEntry("key2", 1L));
+
+        assertTrue(index.isCompact());
+        assertTrue(index.getIndexContents().get(1L) instanceof CompactMapIndex.PostingSet);
+        assertEquals(1L, index.get("key1"));
+        assertEquals(MapIndex.NO_VALUE, index.get("key3"));
+        }
+
+    @Test
+    public void shouldRevertToStandardRepresentation()
+        {
+        CompactMapIndex index = new CompactMapIndex(IdentityExtractor.INSTANCE, false, null, null);
+
+        index.insert(new SimpleMapEntry("key1", Arrays.asList(1, 2)));
+
+        assertFalse(index.isCompact());
+        assertEquals(new HashSet<>(Arrays.asList("key1")), index.getIndexContents().get(1));
+        assertEquals(Arrays.asList(1, 2), index.get("key1"));
+        }
+
+    @Test
+    public void shouldMatchReferenceUnderRandomOperations()
+        {
+        CompactMapIndex      index = new CompactMapIndex(IdentityExtractor.INSTANCE, true, null, null);
+        Map<String, Integer> map   = new HashMap<>();
+        Random               rnd   = new Random(7);
+
+        for (int i = 0; i < 100_000; i++)
+            {
+            String  sKey   = "key" + rnd.nextInt(10_000);
+            Integer nValue = rnd.nextInt(5);
+            Integer nOld   = map.put(sKey, nValue);
+            if (nOld == null)
+                {
+                index.insert(new SimpleMapEntry(sKey, nValue));
+                }
+            else if (rnd.nextBoolean())
+                {
+                index.update(new SimpleMapEntry(sKey, nValue, nOld));
+                }
+            else
+                {
+                map.remove(sKey);
+                index.delete(new SimpleMapEntry(sKey, nOld));
+                }
+            }
+
+        Map<Integer, Set<String>> mapInverse = new TreeMap<>();
+        for (Map.Entry<String, Integer> entry : map.entrySet())
+            {
+            assertEquals(entry.getValue(), index.get(entry.getKey()));
+            mapInverse.computeIfAbsent(entry.getValue(), n -> new HashSet<>()).add(entry.getKey());
+            }
+
+        Map<Integer, Set> mapContents = index.getIndexContents();
+        assertEquals(mapInverse.keySet(), mapContents.keySet());
+        for (Map.Entry<Integer, Set<String>> entry : mapInverse.entrySet())
+            {
+            Set setKeys = mapContents.get(entry.getKey());
+            assertEquals(entry.getValue().size(), setKeys.size());
+            assertEquals(entry.getValue(), new HashSet<>(setKeys));
+            assertTrue(((CompactMapIndex.PostingSet) setKeys).isBitmap());
+            }
+        }
+
+    @Test
+    public void shouldShrinkUnitsAfterRemoval()
+        {
+        CompactMapIndex index  = new CompactMapIndex(IdentityExtractor.INSTANCE, false, null, null);
+        long            cEmpty = index.getUnits();
+
+        for (int i = 0; i < 1000; i++)
+            {
+            index.insert(new SimpleMapEntry("key" + i, i % 10));
+            }
+        assertTrue(index.getUnits() > cEmpty);
+
+        for (int i = 0; i < 1000; i++)
+            {
+            index.delete(new SimpleMapEntry("key" + i, i % 10));
+            }
+        assertTrue(index.getIndexContents().isEmpty());
+        assertTrue(index.getUnits() < cEmpty + 1000);
+        }
+
+    @Test
+    public void shouldBeSmallerThanSimpleMapIndex()
+        {
+        SimpleMapIndex indexSimple  = new SimpleMapIndex(IdentityExtractor.INSTANCE, true, null, null);
+        CompactMapIndex indexCompact = new CompactMapIndex(IdentityExtractor.INSTANCE, true, null, null);
+
+        for (int i = 0; i < 10_000; i++)
+            {
+            SimpleMapEntry entry = new SimpleMapEntry("key" + i, i % 16);
+            indexSimple.insert(entry);
+            indexCompact.insert(entry);
+            }
+
+        assertTrue(indexCompact.getUnits() * 2 < indexSimple.getUnits());
+        }
+
+    @Test
+    public void shouldApplyFilters()
+        {
+        CompactMapIndex index = new CompactMapIndex(IdentityExtractor.INSTANCE, true, null, null);
+        for (int i = 0; i < 1000; i++)
+            {
+            index.insert(new SimpleMapEntry(i, i % 100));
+            }
+
+        Map mapIndexes = new HashMap();
+        mapIndexes.put(IdentityExtractor.INSTANCE, index);
+
+        Set setKeys = allKeys();
+        assertNull(new EqualsFilter<>(IdentityExtractor.INSTANCE, 42).applyIndex(mapIndexes, setKeys));
+        assertEquals(10, setKeys.size());
+        assertTrue(setKeys.contains(142));
+
+        setKeys = allKeys();
+        assertNull(new InFilter<>(IdentityExtractor.INSTANCE, new HashSet<>(Arrays.asList(1, 2, 3)))
+                           .applyIndex(mapIndexes, setKeys));
+        assertEquals(30, setKeys.size());
+
+        setKeys = allKeys();
+        assertNull(new BetweenFilter<>(IdentityExtractor.INSTANCE, 10, 19).applyIndex(mapIndexes, setKeys));
+        assertEquals(100, setKeys.size());
+        assertTrue(setKeys.contains(519));
+        assertFalse(setKeys.contains(520));
+        }
+
+    @Test
+    public void shouldUnionPostingSets()
+        {
+        CompactMapIndex index = new CompactMapIndex(IdentityExtractor.INSTANCE, false, null, null);
+        for (int i = 0; i < 100; i++)
+            {
+            index.insert(new SimpleMapEntry(i, i % 4));
+            }
+
+        Map<Integer, Set> mapContents = index.getIndexContents();
+        List<Set>         listSets    = Arrays.asList(mapContents.get(0), mapContents.get(1));
+        Set               setUnion    = CompactMapIndex.union(listSets);
+
+        assertEquals(50, setUnion.size());
+        assertTrue(setUnion.contains(4));
+        assertTrue(setUnion.contains(5));
+        assertFalse(setUnion.contains(6));
+        assertNull(CompactMapIndex.union(Arrays.asList(mapContents.get(0), new HashSet<>())));
+        }
+
+    @Test
+    public void shouldSnapshotUnionKeys()
+        {
+        CompactMapIndex index = new CompactMapIndex(IdentityExtractor.INSTANCE, false, null, null);
+        for (int i = 0; i < 100; i++)
+            {
+            index.insert(new SimpleMapEntry(i, i % 4));
+            }
+
+        Map<Integer, Set> mapContents = index.getIndexContents();
+        Set               setUnion    = CompactMapIndex.union(Arrays.asList(mapContents.get(0), mapContents.get(1)));
+
+        // removing a key releases its id, which is then recycled for a new key
+        index.delete(new SimpleMapEntry(4, 0));
+        index.insert(new SimpleMapEntry(1000, 2));
+
+        assertEquals(50, setUnion.size());
+        assertTrue(setUnion.contains(4));
+        assertFalse(setUnion.contains(1000));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    protected static Set allKeys()
+        {
+        Set<Integer> setKeys = new HashSet<>();
+        for (int i = 0; i < 1000; i++)
+            {
+            setKeys.add(i);
+            }
+        return setKeys;
+        }
+    }
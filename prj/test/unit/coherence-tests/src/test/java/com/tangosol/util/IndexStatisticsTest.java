@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.util;
+
+import com.tangosol.util.extractor.IdentityExtractor;
+
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * IndexStatistics unit tests.
+ *
+ * @author coh  2026.10.16
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class IndexStatisticsTest
+    {
+    @Test
+    public void shouldCountValuesAndNulls()
+        {
+        SimpleMapIndex index = new SimpleMapIndex(IdentityExtractor.INSTANCE, false, null, null);
+        for (int i = 0; i < 100; i++)
+            {
+            index.insert(new SimpleMapEntry("key" + i, i % 10));
+            }
+        index.insert(new SimpleMapEntry("keyNull1", null));
+        index.insert(new SimpleMapEntry("keyNull2", null));
+
+        IndexStatistics stats = index.getStatistics();
+
+        assertEquals(11, stats.getDistinctValues());
+        assertEquals(102, stats.getKeyCount());
+        assertEquals(2, stats.getNullCount());
+        assertFalse(stats.isHistogramAvailable());
+        assertEquals(-1L, stats.estimateRange(1, true, 5, true));
+        }
+
+    @Test
+    public void shouldNotBuildHistogramForFewValues()
+        {
+        SimpleMapIndex index = new SimpleMapIndex(IdentityExtractor.INSTANCE, true, null, null);
+        for (int i = 0; i < IndexStatistics.HISTOGRAM_MIN_VALUES - 1; i++)
+            {
+            index.insert(new SimpleMapEntry(i, i));
+            }
+
+        assertFalse(index.getStatistics().isHistogramAvailable());
+        }
+
+    @Test
+    public void shouldEstimateRanges()
+        {
+        SimpleMapIndex index = new SimpleMapIndex(IdentityExtractor.INSTANCE, true, null, null);
+        int            cKeys = 100_000;
+        for (int i = 0; i < cKeys; i++)
+            {
+            // skewed distribution: half the keys have a value below 1000
+            int nValue = i % 2 == 0 ? i % 1000 : i;
+            index.insert(new SimpleMapEntry(i, nValue));
+            }
+
+        IndexStatistics stats = index.getStatistics();
+        assertTrue(stats.isHistogramAvailable());
+
+        Map<Integer, Set> mapContents = index.getIndexContents();
+        int[][]           aaiRange    = {{0, 1000}, {1000, 50_000}, {25_000, 75_000}, {90_000, 100_000}};
+        for (int[] aiRange : aaiRange)
+            {
+            long cExact = 0;
+            for (Set set : ((NavigableMap<Integer, Set>) mapContents)
+                    .subMap(aiRange[0], true, aiRange[1], false).values())
+                {
+                cExact += set.size();
+                }
+
+            long cEstimate = stats.estimateRange(aiRange[0], true, aiRange[1], false);
+            long cError    = Math.abs(cEstimate - cExact);
+
+            // the error is bounded by the depth of two buckets
+            assertTrue("range " + aiRange[0] + ".." + aiRange[1] + " estimate=" + cEstimate + " exact=" + cExact,
+                       cError <= 2L * cKeys / IndexStatistics.HISTOGRAM_BUCKETS);
+            }
+
+        assertEquals(cKeys, stats.estimateRange(null, false, null, false));
+        assertEquals(0L, stats.estimateRange(-10, true, -1, true));
+        }
+
+    @Test
+    public void shouldRecomputeOnlyWhenExpired()
+        {
+        SimpleMapIndex index = new SimpleMapIndex(IdentityExtractor.INSTANCE, true, null, null);
+        index.insert(new SimpleMapEntry("key1", 1));
+
+        IndexStatistics stats = index.getStatistics();
+        if (!stats.isExpired())
+            {
+            assertSame(stats, index.getStatistics());
+            }
+        }
+    }
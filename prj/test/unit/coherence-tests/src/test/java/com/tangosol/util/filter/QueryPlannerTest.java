@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.util.filter;
+
+import com.tangosol.internal.util.PartitionedIndexMap;
+import com.tangosol.internal.util.SimpleQueryContext;
+
+import com.tangosol.net.BackingMapContext;
+
+import com.tangosol.net.partition.PartitionSet;
+
+import com.tangosol.util.Filter;
+import com.tangosol.util.MapIndex;
+import com.tangosol.util.QueryContext;
+import com.tangosol.util.QueryRecord;
+import com.tangosol.util.SimpleMapEntry;
+import com.tangosol.util.SimpleMapIndex;
+import com.tangosol.util.SimpleQueryRecord;
+import com.tangosol.util.ValueExtractor;
+
+import com.tangosol.util.extractor.IdentityExtractor;
+import com.tangosol.util.extractor.ReflectionExtractor;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * QueryPlanner unit tests.
+ *
+ * @author coh  2026.10.16
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class QueryPlannerTest
+    {
+    @Test
+    public void shouldRewriteRangeToBetween()
+        {
+        Filter    filterEq = new EqualsFilter(new ReflectionExtractor("toString"), "1");
+        AllFilter filter   = new AllFilter(new Filter[]
+                {
+                new GreaterEqualsFilter(IdentityExtractor.INSTANCE, 10),
+                filterEq,
+                new LessFilter(IdentityExtractor.INSTANCE, 20)
+                });
+
+        Filter<?>[] aFilter = filter.rewriteFilters(filter.getFilters());
+
+        assertEquals(2, aFilter.length);
+        assertEquals(new BetweenFilter(IdentityExtractor.INSTANCE, 10, 20, true, false), aFilter[0]);
+        assertSame(filterEq, aFilter[1]);
+        assertEquals(3, filter.getFilters().length);
+        }
+
+    @Test
+    public void shouldNotRewriteIncompatibleRanges()
+        {
+        Filter<?>[] aFilterDisjoint = new Filter[]
+                {
+                new GreaterFilter(IdentityExtractor.INSTANCE, 20),
+                new LessFilter(IdentityExtractor.INSTANCE, 10)
+                };
+        Filter<?>[] aFilterMixed = new Filter[]
+                {
+                new GreaterFilter(IdentityExtractor.INSTANCE, 1),
+                new LessFilter(new ReflectionExtractor("intValue"), 10)
+                };
+
+        assertSame(aFilterDisjoint, new AllFilter(aFilterDisjoint).rewriteFilters(aFilterDisjoint));
+        assertSame(aFilterMixed, new AllFilter(aFilterMixed).rewriteFilters(aFilterMixed));
+        }
+
+    @Test
+    public void shouldApplyRewrittenFilter()
+        {
+        Map      mapIndexes = createIndexes(1000);
+        Set      setKeys    = allKeys(1000);
+        Filter   filter     = new AllFilter(new Filter[]
+                {
+                new GreaterFilter(IdentityExtractor.INSTANCE, 100),
+                new LessEqualsFilter(IdentityExtractor.INSTANCE, 200)
+                });
+
+        assertEquals(100, ((IndexAwareFilter) filter).calculateEffectiveness(mapIndexes, setKeys));
+        assertNull(((IndexAwareFilter) filter).applyIndex(mapIndexes, setKeys));
+        assertEquals(100, setKeys.size());
+        assertFalse(setKeys.contains(100));
+        assertTrue(setKeys.contains(200));
+        }
+
+    @Test
+    public void shouldReusePlanForEqualFilters()
+        {
+        assumeTrue(QueryPlanner.PLAN_CACHE_ENABLED);
+
+        Map           mapIndexes = createIndexes(100);
+        AtomicInteger cCalculate = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++)
+            {
+            AllFilter filter = new AllFilter(new Filter[]
+                    {
+                    new CountingFilter(cCalculate),
+                    new EqualsFilter(IdentityExtractor.INSTANCE, 42)
+                    });
+
+            filter.applyIndex(mapIndexes, allKeys(100));
+            }
+
+        assertEquals("the plan should be reused by equal filters", 1, cCalculate.get());
+        }
+
+    @Test
+    public void shouldNotSharePlansBetweenCaches()
+        {
+        assumeTrue(QueryPlanner.PLAN_CACHE_ENABLED);
+
+        AtomicInteger cCalculate = new AtomicInteger();
+        AllFilter     filter     = new AllFilter(new Filter[]
+                {
+                new CountingFilter(cCalculate),
+                new EqualsFilter(IdentityExtractor.INSTANCE, 42)
+                });
+
+        filter.applyIndex(createIndexes(100), allKeys(100));
+        new AllFilter(filter.getFilters()).applyIndex(createIndexes(100), allKeys(100));
+
+        assertEquals("each cache should plan the filter", 2, cCalculate.get());
+        }
+
+    @Test
+    public void shouldScopePlannerByCache()
+        {
+        BackingMapContext ctx1   = mock(BackingMapContext.class);
+        BackingMapContext ctx2   = mock(BackingMapContext.class);
+        MapIndex          index1 = createIndex(ctx1);
+        MapIndex          index2 = createIndex(ctx1);
+
+        Map<ValueExtractor, MapIndex> mapIndexes1 = new HashMap<>();
+        Map<ValueExtractor, MapIndex> mapIndexes2 = new HashMap<>();
+        mapIndexes1.put(IdentityExtractor.INSTANCE, index1);
+        mapIndexes2.put(IdentityExtractor.INSTANCE, index2);
+
+        QueryPlanner planner = QueryPlanner.of(index1);
+
+        // the indexes of all the partitions of a cache share a planner
+        assertSame(planner, QueryPlanner.of(index2));
+        assertSame(planner, QueryPlanner.of(mapIndexes1));
+        assertSame(planner, QueryPlanner.of(mapIndexes2));
+        assertSame(planner, QueryPlanner.of(new PartitionedIndexMap(ctx1, new HashMap<>(), null)));
+
+        assertNotSame(planner, QueryPlanner.of(new PartitionedIndexMap(ctx2, new HashMap<>(), null)));
+        assertNotSame(planner, QueryPlanner.of(createIndexes(10)));
+        }
+
+    @Test
+    public void shouldNotShareCostsBetweenCaches()
+        {
+        QueryPlanner planner1 = QueryPlanner.of(createIndexes(10));
+        QueryPlanner planner2 = QueryPlanner.of(createIndexes(10));
+
+        for (int i = 0; i < QueryPlanner.MIN_SAMPLES; i++)
+            {
+            planner1.recordInverseCost(1000, 10_000);
+            planner1.recordForwardCost(1000, 50_000);
+            }
+
+        assertEquals(ExtractorFilter.FORWARD_INDEX_EVAL_CARDINALITY_FACTOR, planner2.getForwardIndexFactor(1000));
+        }
+
+    @Test
+    public void shouldRecordPlanInExplain()
+        {
+        BackingMapContext ctxBM = mock(BackingMapContext.class);
+        when(ctxBM.getIndexMap()).thenReturn(createIndexes(1000));
+
+        AllFilter filter = new AllFilter(new Filter[]
+                {
+                new EqualsFilter(IdentityExtractor.INSTANCE, 42),
+                new LessFilter(new ReflectionExtractor("intValue"), 10)
+                });
+
+        QueryContext                          ctx    = new SimpleQueryContext(ctxBM);
+        SimpleQueryRecord.PartialResult       result = new SimpleQueryRecord.PartialResult(ctx, new PartitionSet(1));
+        QueryRecord.PartialResult.ExplainStep step   = result.instantiateExplainStep(filter);
+
+        filter.explain(ctx, step, allKeys(1000));
+
+        assertEquals("AllFilter [plan: INDEX -> SCAN]", step.getFilterDescription());
+        }
+
+    @Test
+    public void shouldDescribeDisjunction()
+        {
+        Map    mapIndexes = createIndexes(1000);
+        String sPlan      = QueryPlanner.describe(new Filter[]
+                {
+                new EqualsFilter(IdentityExtractor.INSTANCE, 42),
+                new AllFilter(new Filter[] {AlwaysFilter.INSTANCE})
+                }, mapIndexes, allKeys(1000), false);
+
+        assertEquals("plan: INDEX | NESTED", sPlan);
+        }
+
+    @Test
+    public void shouldUseStaticFactorUntilCostsAreKnown()
+        {
+        QueryPlanner planner = new QueryPlanner();
+
+        assertEquals(ExtractorFilter.FORWARD_INDEX_EVAL_CARDINALITY_FACTOR, planner.getForwardIndexFactor(1000));
+
+        for (int i = 0; i < QueryPlanner.MIN_SAMPLES; i++)
+            {
+            planner.recordInverseCost(1000, 10_000);
+            planner.recordForwardCost(1000, 50_000);
+            }
+
+        // small key sets always use the static factor
+        assertEquals(ExtractorFilter.FORWARD_INDEX_EVAL_CARDINALITY_FACTOR,
+                     planner.getForwardIndexFactor(QueryPlanner.MIN_ADAPTIVE_KEYS - 1));
+
+        if (QueryPlanner.ADAPTIVE_ENABLED)
+            {
+            // a forward probe is 5x the cost of an inverse unit
+            assertEquals(4, planner.getForwardIndexFactor(1000));
+
+            planner.resetCosts();
+            assertEquals(ExtractorFilter.FORWARD_INDEX_EVAL_CARDINALITY_FACTOR, planner.getForwardIndexFactor(1000));
+            }
+        }
+
+    @Test
+    public void shouldBoundAdaptiveFactor()
+        {
+        QueryPlanner planner = new QueryPlanner();
+
+        for (int i = 0; i < QueryPlanner.MIN_SAMPLES; i++)
+            {
+            planner.recordInverseCost(1000, 1_000);
+            planner.recordForwardCost(1000, 1_000_000);
+            }
+
+        int nFactor = planner.getForwardIndexFactor(1000);
+        assertTrue(nFactor >= 1 && nFactor <= QueryPlanner.MAX_FACTOR);
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    private static Map createIndexes(int cKeys)
+        {
+        MapIndex index = new SimpleMapIndex(IdentityExtractor.INSTANCE, true, null, null);
+        for (int i = 0; i < cKeys; i++)
+            {
+            index.insert(new SimpleMapEntry(i, i));
+            }
+
+        Map<ValueExtractor, MapIndex> mapIndexes = new HashMap<>();
+        mapIndexes.put(IdentityExtractor.INSTANCE, index);
+        return mapIndexes;
+        }
+
+    private static MapIndex createIndex(BackingMapContext ctx)
+        {
+        return new SimpleMapIndex(IdentityExtractor.INSTANCE, true, null, null)
+            {
+            @Override
+            public BackingMapContext getBackingMapContext()
+                {
+                return ctx;
+                }
+            };
+        }
+
+    private static Set allKeys(int cKeys)
+        {
+        Set<Integer> setKeys = new HashSet<>();
+        for (int i = 0; i < cKeys; i++)
+            {
+            setKeys.add(i);
+            }
+        return setKeys;
+        }
+
+    // ----- inner class: CountingFilter ------------------------------------
+
+    /**
+     * An index-aware filter that counts effectiveness calculations; all
+     * instances are equal.
+     */
+    private static class CountingFilter
+            implements IndexAwareFilter
+        {
+        CountingFilter(AtomicInteger cCalculate)
+            {
+            m_cCalculate = cCalculate;
+            }
+
+        @Override
+        public int calculateEffectiveness(Map mapIndexes, Set setKeys)
+            {
+            m_cCalculate.incrementAndGet();
+            return Integer.MAX_VALUE;
+            }
+
+        @Override
+        public Filter applyIndex(Map mapIndexes, Set setKeys)
+            {
+            return this;
+            }
+
+        @Override
+        public boolean evaluateEntry(Map.Entry entry)
+            {
+            return true;
+            }
+
+        @Override
+        public boolean evaluate(Object o)
+            {
+            return true;
+            }
+
+        @Override
+        public boolean equals(Object o)
+            {
+            return o instanceof CountingFilter;
+            }
+
+        @Override
+        public int hashCode()
+            {
+            return 17;
+            }
+
+        private final AtomicInteger m_cCalculate;
+        }
+    }